@@ -0,0 +1,173 @@
+/*
+ * Copyright OpenSearch Contributors
+ * SPDX-License-Identifier: Apache-2.0
+ */
+
+package org.opensearch.geospatial.benchmark;
+
+import java.io.IOException;
+import java.nio.charset.StandardCharsets;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Locale;
+import java.util.Map;
+import java.util.Random;
+import java.util.concurrent.TimeUnit;
+
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Level;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+import org.openjdk.jmh.infra.Blackhole;
+import org.opensearch.core.common.bytes.BytesArray;
+import org.opensearch.core.common.bytes.BytesReference;
+import org.opensearch.geospatial.action.upload.geojson.FeatureDocumentConverter;
+import org.opensearch.geospatial.action.upload.geojson.FeatureReader;
+import org.opensearch.geospatial.action.upload.geojson.GeoJSONSeqFeatureReader;
+
+/**
+ * Measures the time to turn GeoJSON Features of an upload into documents, both including parsing of
+ * GeoJSON text sequence and for already parsed Features. Datasets are generated with a fixed seed to resemble:
+ * countries, a few MultiPolygons with long rings and holes, and, parcels, many small Polygons with several properties.
+ */
+@Fork(1)
+@Warmup(iterations = 3, time = 5)
+@Measurement(iterations = 5, time = 5)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MILLISECONDS)
+@State(Scope.Benchmark)
+public class FeatureDocumentConverterBenchmark {
+    private static final String FIELD_NAME = "location";
+    private static final long SEED = 42L;
+
+    @Param({ "countries", "parcels" })
+    public String dataset;
+
+    private BytesReference content;
+    private List<Map<String, Object>> features;
+    private FeatureDocumentConverter converter;
+
+    @Setup(Level.Trial)
+    public void setup() throws IOException {
+        final Random random = new Random(SEED);
+        final StringBuilder builder = new StringBuilder();
+        switch (dataset) {
+            case "countries":
+                for (int i = 0; i < 200; i++) {
+                    appendCountry(builder, i, random);
+                }
+                break;
+            case "parcels":
+                for (int i = 0; i < 50_000; i++) {
+                    appendParcel(builder, i, random);
+                }
+                break;
+            default:
+                throw new IllegalArgumentException("unknown dataset [ " + dataset + " ]");
+        }
+        content = new BytesArray(builder.toString().getBytes(StandardCharsets.UTF_8));
+        converter = new FeatureDocumentConverter(100_000, 1_000, 1_000, 5);
+        features = new ArrayList<>();
+        try (FeatureReader reader = newReader()) {
+            Map<String, Object> feature;
+            while ((feature = reader.nextFeature()) != null) {
+                features.add(feature);
+            }
+        }
+    }
+
+    private FeatureReader newReader() {
+        return new GeoJSONSeqFeatureReader(content, Runnable::run, 1);
+    }
+
+    @Benchmark
+    public void parseAndConvert(final Blackhole blackhole) throws IOException {
+        try (FeatureReader reader = newReader()) {
+            Map<String, Object> feature;
+            while ((feature = reader.nextFeature()) != null) {
+                blackhole.consume(converter.convert(feature, FIELD_NAME));
+            }
+        }
+    }
+
+    @Benchmark
+    public void convert(final Blackhole blackhole) {
+        for (Map<String, Object> feature : features) {
+            blackhole.consume(converter.convert(feature, FIELD_NAME));
+        }
+    }
+
+    // a country is a MultiPolygon of a mainland with thousands of vertices and islands, some of them with lakes
+    private static void appendCountry(final StringBuilder builder, final int id, final Random random) {
+        final double x = random.nextDouble() * 300 - 150;
+        final double y = random.nextDouble() * 140 - 70;
+        builder.append("{\"type\":\"Feature\",\"id\":\"country-").append(id).append("\",\"properties\":{\"name\":\"Country ");
+        builder.append(id).append("\",\"population\":").append(random.nextInt(100_000_000)).append("},");
+        builder.append("\"geometry\":{\"type\":\"MultiPolygon\",\"coordinates\":[");
+        final int islands = 1 + random.nextInt(20);
+        for (int i = 0; i < islands; i++) {
+            if (i > 0) {
+                builder.append(',');
+            }
+            final int vertices = i == 0 ? 5_000 + random.nextInt(20_000) : 50 + random.nextInt(500);
+            final double radius = i == 0 ? 5 : 0.5;
+            builder.append('[');
+            appendRing(builder, x + i, y, radius, vertices, random);
+            if (random.nextInt(4) == 0) {
+                builder.append(',');
+                appendRing(builder, x + i, y, radius / 10, 20 + random.nextInt(100), random);
+            }
+            builder.append(']');
+        }
+        builder.append("]}}\n");
+    }
+
+    // a parcel is a small Polygon with a handful of vertices and cadastral attributes
+    private static void appendParcel(final StringBuilder builder, final int id, final Random random) {
+        final double x = random.nextDouble() * 0.5 - 122.5;
+        final double y = random.nextDouble() * 0.5 + 37.5;
+        builder.append("{\"type\":\"Feature\",\"id\":\"parcel-").append(id).append("\",\"properties\":{");
+        builder.append("\"apn\":\"").append(String.format(Locale.ROOT, "%03d-%04d-%03d", id % 1000, id % 10_000, id % 997));
+        builder.append("\",\"zoning\":\"").append(random.nextBoolean() ? "RH-1" : "NC-2");
+        builder.append("\",\"area\":").append(100 + random.nextInt(10_000));
+        builder.append(",\"assessed_value\":").append(random.nextInt(5_000_000));
+        builder.append(",\"year_built\":").append(1850 + random.nextInt(175));
+        builder.append("},\"geometry\":{\"type\":\"Polygon\",\"coordinates\":[");
+        appendRing(builder, x, y, 0.0002, 4 + random.nextInt(12), random);
+        builder.append("]}}\n");
+    }
+
+    private static void appendRing(
+        final StringBuilder builder,
+        final double x,
+        final double y,
+        final double radius,
+        final int vertices,
+        final Random random
+    ) {
+        builder.append('[');
+        // first position is at angle 0, so that the ring is closed by repeating it
+        appendPosition(builder, x + radius, y);
+        for (int i = 1; i < vertices; i++) {
+            final double angle = 2 * Math.PI * i / vertices;
+            final double distance = radius * (0.8 + 0.4 * random.nextDouble());
+            builder.append(',');
+            appendPosition(builder, x + distance * Math.cos(angle), y + distance * Math.sin(angle));
+        }
+        builder.append(',');
+        appendPosition(builder, x + radius, y);
+        builder.append(']');
+    }
+
+    private static void appendPosition(final StringBuilder builder, final double x, final double y) {
+        builder.append('[').append(x).append(',').append(y).append(']');
+    }
+}
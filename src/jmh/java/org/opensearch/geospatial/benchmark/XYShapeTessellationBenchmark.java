@@ -0,0 +1,103 @@
+/*
+ * Copyright OpenSearch Contributors
+ * SPDX-License-Identifier: Apache-2.0
+ */
+
+package org.opensearch.geospatial.benchmark;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Random;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.TimeUnit;
+
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Level;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.TearDown;
+import org.openjdk.jmh.annotations.Warmup;
+import org.openjdk.jmh.infra.Blackhole;
+import org.opensearch.geometry.LinearRing;
+import org.opensearch.geometry.MultiPolygon;
+import org.opensearch.geometry.Polygon;
+import org.opensearch.geospatial.index.mapper.xyshape.XYShapeIndexableFieldsVisitor;
+
+/**
+ * Measures the time to tessellate a MultiPolygon of an xy_shape document into indexable fields, by the indexing
+ * thread only, and, with large islands tessellated in parallel. The MultiPolygon resembles an archipelago, where
+ * every island has a star shaped ring of the given number of vertices, generated with a fixed seed.
+ */
+@Fork(1)
+@Warmup(iterations = 3, time = 5)
+@Measurement(iterations = 5, time = 5)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MILLISECONDS)
+@State(Scope.Benchmark)
+public class XYShapeTessellationBenchmark {
+    private static final String FIELD_NAME = "location";
+    private static final long SEED = 42L;
+
+    @Param({ "10", "1000" })
+    public int islands;
+
+    @Param({ "100", "5000" })
+    public int verticesPerIsland;
+
+    private MultiPolygon archipelago;
+    private ExecutorService executor;
+    private XYShapeIndexableFieldsVisitor sequentialVisitor;
+    private XYShapeIndexableFieldsVisitor parallelVisitor;
+
+    @Setup(Level.Trial)
+    public void setup() {
+        final Random random = new Random(SEED);
+        final List<Polygon> polygons = new ArrayList<>(islands);
+        for (int i = 0; i < islands; i++) {
+            polygons.add(island((i % 100) * 30, (i / 100) * 30, verticesPerIsland, random));
+        }
+        archipelago = new MultiPolygon(polygons);
+        // same size as the tessellation thread pool of a node
+        executor = Executors.newFixedThreadPool(Math.max(1, Runtime.getRuntime().availableProcessors() / 2));
+        sequentialVisitor = new XYShapeIndexableFieldsVisitor(FIELD_NAME);
+        parallelVisitor = new XYShapeIndexableFieldsVisitor(FIELD_NAME, executor);
+    }
+
+    @TearDown(Level.Trial)
+    public void tearDown() {
+        executor.shutdown();
+    }
+
+    @Benchmark
+    public void sequential(final Blackhole blackhole) {
+        blackhole.consume(sequentialVisitor.visit(archipelago));
+    }
+
+    @Benchmark
+    public void parallel(final Blackhole blackhole) {
+        blackhole.consume(parallelVisitor.visit(archipelago));
+    }
+
+    // star shaped ring around (x, y), whose vertices are at random distance from the center, so that it never intersects itself
+    private static Polygon island(final double x, final double y, final int vertices, final Random random) {
+        final double[] xs = new double[vertices + 1];
+        final double[] ys = new double[vertices + 1];
+        for (int i = 0; i < vertices; i++) {
+            final double angle = 2 * Math.PI * i / vertices;
+            final double distance = 10 * (0.8 + 0.4 * random.nextDouble());
+            xs[i] = x + distance * Math.cos(angle);
+            ys[i] = y + distance * Math.sin(angle);
+        }
+        xs[vertices] = xs[0];
+        ys[vertices] = ys[0];
+        return new Polygon(new LinearRing(xs, ys));
+    }
+}
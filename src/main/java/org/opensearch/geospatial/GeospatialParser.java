@@ -7,15 +7,20 @@ package org.opensearch.geospatial;
 
 import static org.opensearch.geospatial.geojson.Feature.TYPE_KEY;
 
+import java.io.IOException;
+import java.io.InputStream;
 import java.util.Collections;
 import java.util.HashMap;
 import java.util.List;
 import java.util.Map;
 import java.util.Objects;
 
+import org.opensearch.common.xcontent.LoggingDeprecationHandler;
 import org.opensearch.common.xcontent.XContentHelper;
 import org.opensearch.common.xcontent.XContentType;
 import org.opensearch.core.common.bytes.BytesReference;
+import org.opensearch.core.xcontent.NamedXContentRegistry;
+import org.opensearch.core.xcontent.XContentParser;
 import org.opensearch.geospatial.geojson.Feature;
 import org.opensearch.geospatial.geojson.FeatureCollection;
 
@@ -72,6 +77,49 @@ public final class GeospatialParser {
         return Collections.unmodifiableMap(XContentHelper.convertToMap(content, false, XContentType.JSON).v2());
     }
 
+    /**
+     * Creates a JSON parser over given content, so that large content can be read one token at a time instead of
+     * being converted to Map at once
+     * @param content JSON Content abstracted as BytesReference mostly by REST Interface
+     * @return XContentParser which caller should close
+     * @throws IOException if parser cannot be created
+     */
+    public static XContentParser createParser(BytesReference content) throws IOException {
+        Objects.requireNonNull(content);
+        return XContentHelper.createParser(NamedXContentRegistry.EMPTY, LoggingDeprecationHandler.INSTANCE, content, XContentType.JSON);
+    }
+
+    /**
+     * Creates a JSON parser over given stream, so that content can be read without being held in memory as a whole
+     * @param content JSON Content as a stream, which is closed when parser is closed
+     * @return XContentParser which caller should close
+     * @throws IOException if parser cannot be created
+     */
+    public static XContentParser createParser(InputStream content) throws IOException {
+        Objects.requireNonNull(content);
+        return XContentType.JSON.xContent().createParser(NamedXContentRegistry.EMPTY, LoggingDeprecationHandler.INSTANCE, content);
+    }
+
+    /**
+     * Reads the value at the current token of given parser. Object is returned as Map, array as List and null
+     * value as null, so that the value is same as the one converted by {@link #convertToMap(BytesReference)}
+     * @param parser parser positioned at the beginning of a value
+     * @return value at the current token
+     * @throws IOException if value cannot be read
+     */
+    public static Object parseValue(XContentParser parser) throws IOException {
+        switch (parser.currentToken()) {
+            case START_OBJECT:
+                return parser.map();
+            case START_ARRAY:
+                return parser.list();
+            case VALUE_NULL:
+                return null;
+            default:
+                return parser.objectText();
+        }
+    }
+
     /**
      * getFeatures will return features from given map input. This function abstracts the logic to parse given input and returns
      * list of Features if exists in Map format.
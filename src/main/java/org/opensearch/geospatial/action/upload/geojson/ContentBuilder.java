@@ -5,64 +5,292 @@
 
 package org.opensearch.geospatial.action.upload.geojson;
 
-import java.util.List;
+import java.io.IOException;
+import java.util.HashMap;
 import java.util.Map;
 import java.util.Objects;
 import java.util.Optional;
+import java.util.concurrent.atomic.LongAdder;
 
+import org.opensearch.action.DocWriteRequest;
 import org.opensearch.action.bulk.BulkRequestBuilder;
+import org.opensearch.action.get.GetResponse;
+import org.opensearch.action.get.MultiGetItemResponse;
+import org.opensearch.action.get.MultiGetRequest;
+import org.opensearch.action.get.MultiGetRequestBuilder;
+import org.opensearch.action.get.MultiGetResponse;
+import org.opensearch.action.index.IndexRequest;
 import org.opensearch.action.index.IndexRequestBuilder;
 import org.opensearch.action.support.WriteRequest;
+import org.opensearch.core.action.ActionListener;
 import org.opensearch.core.common.Strings;
+import org.opensearch.core.common.unit.ByteSizeUnit;
+import org.opensearch.core.common.unit.ByteSizeValue;
 import org.opensearch.geospatial.GeospatialParser;
+import org.opensearch.geospatial.annotation.VisibleForTesting;
+import org.opensearch.geospatial.encoding.CompactGeometryEncoding;
+import org.opensearch.geospatial.routing.SpatialRouting;
+import org.opensearch.geospatial.simplify.GeometrySimplifier;
+import org.opensearch.geospatial.simplify.SimplifiedGeometry;
+import org.opensearch.search.fetch.subphase.FetchSourceContext;
 import org.opensearch.transport.client.Client;
 
+import lombok.AllArgsConstructor;
+import lombok.Getter;
+
 /**
  * ContentBuilder is responsible for preparing Request that can be executed
- * to upload GeoJSON Features as Documents.
+ * to upload GeoJSON Features as Documents. Features are transformed into Documents
+ * while Request is prepared, hence, no ingest pipeline is required.
  */
 public class ContentBuilder {
     public static final String GEOJSON_FEATURE_ID_FIELD = "id";
+    // Field of a document to store hash of its source, to skip the Feature if it is uploaded again without any change
+    public static final String CONTENT_HASH_FIELD = "geojson_content_hash";
+    // Max number of Features in a single BulkRequest
+    static final int MAX_ACTIONS_PER_BULK = 1_000;
+    // Max size of Features in a single BulkRequest
+    static final ByteSizeValue MAX_BYTES_PER_BULK = new ByteSizeValue(5, ByteSizeUnit.MB);
+    private static final FetchSourceContext CONTENT_HASH_ONLY = new FetchSourceContext(
+        true,
+        new String[] { CONTENT_HASH_FIELD },
+        Strings.EMPTY_ARRAY
+    );
     private final Client client;
+    private final WriteRequest.RefreshPolicy refreshPolicy;
+    private final SpatialRouting spatialRouting;
+    private final GeometrySimplifier simplifier;
+    private final boolean compactGeometry;
+    // number of vertices of simplified geometries, before and after simplification
+    private final LongAdder vertexCount = new LongAdder();
+    private final LongAdder simplifiedVertexCount = new LongAdder();
+
+    /**
+     * @param client client to prepare requests
+     * @param refreshPolicy refresh policy of every BulkRequest
+     */
+    public ContentBuilder(Client client, WriteRequest.RefreshPolicy refreshPolicy) {
+        this(client, refreshPolicy, null, null, false);
+    }
 
-    public ContentBuilder(Client client) {
+    /**
+     * @param client client to prepare requests
+     * @param refreshPolicy refresh policy of every BulkRequest
+     * @param spatialRouting routing of documents by their geometry, null to route documents by their id
+     * @param simplifier simplifier of geometries of documents, null to upload geometries as they are
+     * @param compactGeometry whether geometries are stored by {@link CompactGeometryEncoding}, instead of GeoJSON
+     */
+    public ContentBuilder(
+        Client client,
+        WriteRequest.RefreshPolicy refreshPolicy,
+        SpatialRouting spatialRouting,
+        GeometrySimplifier simplifier,
+        boolean compactGeometry
+    ) {
         this.client = Objects.requireNonNull(client, "Client cannot be null");
+        this.refreshPolicy = Objects.requireNonNull(refreshPolicy, "RefreshPolicy cannot be null");
+        this.spatialRouting = spatialRouting;
+        this.simplifier = simplifier;
+        this.compactGeometry = compactGeometry;
     }
 
-    public Optional<BulkRequestBuilder> prepare(UploadGeoJSONRequestContent content, String pipeline) {
-        return prepareContentRequest(content, pipeline);
+    /**
+     * Prepares BulkRequest with next Features from given reader. BulkRequest is bounded by
+     * {@link #MAX_ACTIONS_PER_BULK} and {@link #MAX_BYTES_PER_BULK}, hence, caller should call this
+     * method until there are no more Features to upload.
+     * @param features reader to read GeoJSON Features from
+     * @param indexName index to upload Features to
+     * @param fieldName geospatial field to store geometry of Features
+     * @return BulkRequestBuilder with next Features, empty if there are no more Features
+     * @throws IOException if Features cannot be parsed
+     */
+    public Optional<BulkRequestBuilder> prepare(FeatureReader features, String indexName, String fieldName) throws IOException {
+        return prepareContentRequest(features, indexName, fieldName, null);
     }
 
-    // build BulkRequestBuilder, by, iterating, UploadGeoJSONRequestContent's data. This depends on
-    // GeospatialParser.getFeatures to extract features from user input, create IndexRequestBuilder
-    // with index name and pipeline.
-    private Optional<BulkRequestBuilder> prepareContentRequest(UploadGeoJSONRequestContent content, String pipeline) {
-        if (content.getData().isEmpty()) {
-            return Optional.empty();
-        }
-        final BulkRequestBuilder builder = prepareBulkRequestBuilder();
-        content.getData()
-            .stream()
-            .map(GeospatialParser::toStringObjectMap)
-            .map(GeospatialParser::getFeatures)
-            .flatMap(List::stream)
-            .map(this::createIndexRequestBuilder)
-            .map(indexRequestBuilder -> indexRequestBuilder.setIndex(content.getIndexName()))
-            .map(indexRequestBuilder -> indexRequestBuilder.setPipeline(pipeline))
-            .forEach(builder::add);
-        if (builder.numberOfActions() < 1) { // check any features to upload
-            return Optional.empty();
+    /**
+     * Prepares BulkRequest same as {@link #prepare(FeatureReader, String, String)}, where hash of every document is
+     * stored in {@link #CONTENT_HASH_FIELD}, and, also added to given map by id for Features with id, so that
+     * BulkRequest can be filtered by {@link #skipUnchanged(String, BulkRequestBuilder, Map, ActionListener)}.
+     * @param features reader to read GeoJSON Features from
+     * @param indexName index to upload Features to
+     * @param fieldName geospatial field to store geometry of Features
+     * @param contentHashes map to add hash of documents by id
+     * @return BulkRequestBuilder with next Features, empty if there are no more Features
+     * @throws IOException if Features cannot be parsed
+     */
+    public Optional<BulkRequestBuilder> prepare(
+        FeatureReader features,
+        String indexName,
+        String fieldName,
+        Map<String, String> contentHashes
+    ) throws IOException {
+        Objects.requireNonNull(contentHashes, "content hashes cannot be null");
+        return prepareContentRequest(features, indexName, fieldName, contentHashes);
+    }
+
+    // build BulkRequestBuilder, by, reading Features one at a time from FeatureReader, till the bulk
+    // reaches its limit. Create IndexRequestBuilder with index name and the document transformed from every Feature.
+    private Optional<BulkRequestBuilder> prepareContentRequest(
+        FeatureReader features,
+        String indexName,
+        String fieldName,
+        Map<String, String> contentHashes
+    ) throws IOException {
+        BulkRequestBuilder builder = null;
+        int numberOfActions = 0;
+        long sizeInBytes = 0;
+        Map<String, Object> feature;
+        while (numberOfActions < MAX_ACTIONS_PER_BULK
+            && sizeInBytes < MAX_BYTES_PER_BULK.getBytes()
+            && (feature = features.nextFeature()) != null) {
+            if (builder == null) {
+                builder = prepareBulkRequestBuilder();
+            }
+            final IndexRequestBuilder indexRequestBuilder = createIndexRequestBuilder(feature, fieldName, contentHashes);
+            indexRequestBuilder.setIndex(indexName);
+            builder.add(indexRequestBuilder);
+            numberOfActions++;
+            sizeInBytes += indexRequestBuilder.request().source().length();
         }
-        return Optional.of(builder);
+        return Optional.ofNullable(builder);
     }
 
     private BulkRequestBuilder prepareBulkRequestBuilder() {
-        return client.prepareBulk().setRefreshPolicy(WriteRequest.RefreshPolicy.WAIT_UNTIL);
+        return client.prepareBulk().setRefreshPolicy(refreshPolicy);
     }
 
-    private IndexRequestBuilder createIndexRequestBuilder(Map<String, Object> source) {
-        final IndexRequestBuilder requestBuilder = client.prepareIndex().setSource(source);
-        String id = GeospatialParser.extractValueAsString(source, GEOJSON_FEATURE_ID_FIELD);
+    // transform Feature into a document same as FeatureProcessor. Limits are not enforced again, since every Feature
+    // was validated against them when the content of the request was created.
+    private IndexRequestBuilder createIndexRequestBuilder(
+        Map<String, Object> feature,
+        String fieldName,
+        Map<String, String> contentHashes
+    ) {
+        final Map<String, Object> document = FeatureDocumentConverter.unbounded().convert(feature, fieldName);
+        if (simplifier != null && document.get(fieldName) instanceof Map) {
+            final SimplifiedGeometry<Map<String, Object>> simplified = simplifier.simplify((Map<String, Object>) document.get(fieldName));
+            document.put(fieldName, simplified.getGeometry());
+            vertexCount.add(simplified.getVertexCount());
+            simplifiedVertexCount.add(simplified.getSimplifiedVertexCount());
+        }
+        // routing is computed from GeoJSON geometry, before it may be encoded
+        final String routing = spatialRouting != null && document.get(fieldName) instanceof Map
+            ? spatialRouting.routingOf((Map<String, Object>) document.get(fieldName))
+            : null;
+        if (compactGeometry && document.get(fieldName) instanceof Map) {
+            final String encoded = CompactGeometryEncoding.encode((Map<String, Object>) document.get(fieldName));
+            if (encoded != null) {
+                document.put(fieldName, encoded);
+            }
+        }
+        final String id = GeospatialParser.extractValueAsString(feature, GEOJSON_FEATURE_ID_FIELD);
+        if (contentHashes != null) {
+            final String contentHash = FeatureContentHash.of(document);
+            document.put(CONTENT_HASH_FIELD, contentHash);
+            if (Strings.hasText(id)) {
+                // Features with same id in a BulkRequest are indexed as they are, one after another
+                contentHashes.put(id, contentHashes.containsKey(id) ? null : contentHash);
+            }
+        }
+        final IndexRequestBuilder requestBuilder = client.prepareIndex().setSource(document);
+        if (routing != null) {
+            requestBuilder.setRouting(routing);
+        }
         return Strings.hasText(id) ? requestBuilder.setId(id) : requestBuilder;
     }
+
+    /**
+     * @return number of vertices of geometries of prepared documents before simplification, 0 if geometries are not simplified
+     */
+    public long getVertexCount() {
+        return vertexCount.sum();
+    }
+
+    /**
+     * @return number of vertices of geometries of prepared documents after simplification, 0 if geometries are not simplified
+     */
+    public long getSimplifiedVertexCount() {
+        return simplifiedVertexCount.sum();
+    }
+
+    /**
+     * Removes documents of given BulkRequest whose stored hash is same as their hash, that is, documents which
+     * are not changed since they were uploaded. Changed documents are indexed only if they are not modified since
+     * their hash is read, and, new documents are indexed only if they are not created meanwhile.
+     * Documents without hash, like Features without id, or, with same id as another Feature of the BulkRequest,
+     * are indexed as they are.
+     * @param indexName index where documents are uploaded
+     * @param bulkRequestBuilder BulkRequest prepared by {@link #prepare(FeatureReader, String, String, Map)}
+     * @param contentHashes hash of documents by id
+     * @param listener listener to be notified with documents to be indexed
+     */
+    public void skipUnchanged(
+        String indexName,
+        BulkRequestBuilder bulkRequestBuilder,
+        Map<String, String> contentHashes,
+        ActionListener<ChangedContent> listener
+    ) {
+        final MultiGetRequestBuilder multiGetRequestBuilder = client.prepareMultiGet();
+        for (DocWriteRequest<?> request : bulkRequestBuilder.request().requests()) {
+            if (request.id() == null || contentHashes.get(request.id()) == null) {
+                continue;
+            }
+            multiGetRequestBuilder.add(new MultiGetRequest.Item(indexName, request.id()).fetchSourceContext(CONTENT_HASH_ONLY));
+        }
+        if (multiGetRequestBuilder.request().getItems().isEmpty()) {
+            listener.onResponse(new ChangedContent(Optional.of(bulkRequestBuilder), 0));
+            return;
+        }
+        multiGetRequestBuilder.execute(ActionListener.wrap(multiGetResponse -> {
+            listener.onResponse(removeUnchanged(bulkRequestBuilder, contentHashes, multiGetResponse));
+        }, listener::onFailure));
+    }
+
+    @VisibleForTesting
+    ChangedContent removeUnchanged(
+        BulkRequestBuilder bulkRequestBuilder,
+        Map<String, String> contentHashes,
+        MultiGetResponse multiGetResponse
+    ) {
+        final Map<String, GetResponse> storedDocuments = new HashMap<>();
+        for (MultiGetItemResponse item : multiGetResponse.getResponses()) {
+            if (!item.isFailed()) {
+                storedDocuments.put(item.getId(), item.getResponse());
+            }
+        }
+        BulkRequestBuilder changed = null;
+        long unchangedCount = 0;
+        for (DocWriteRequest<?> request : bulkRequestBuilder.request().requests()) {
+            final IndexRequest indexRequest = (IndexRequest) request;
+            final String contentHash = indexRequest.id() == null ? null : contentHashes.get(indexRequest.id());
+            final GetResponse storedDocument = contentHash == null ? null : storedDocuments.get(indexRequest.id());
+            if (storedDocument != null && storedDocument.isExists()) {
+                final Map<String, Object> storedSource = storedDocument.getSourceAsMap();
+                if (storedSource != null && contentHash.equals(storedSource.get(CONTENT_HASH_FIELD))) {
+                    unchangedCount++;
+                    continue;
+                }
+                indexRequest.setIfSeqNo(storedDocument.getSeqNo()).setIfPrimaryTerm(storedDocument.getPrimaryTerm());
+            } else if (storedDocument != null) {
+                indexRequest.opType(DocWriteRequest.OpType.CREATE);
+            }
+            if (changed == null) {
+                changed = prepareBulkRequestBuilder();
+            }
+            changed.add(indexRequest);
+        }
+        return new ChangedContent(Optional.ofNullable(changed), unchangedCount);
+    }
+
+    /**
+     * Documents of a BulkRequest to be indexed after unchanged documents are removed
+     */
+    @Getter
+    @AllArgsConstructor
+    public static final class ChangedContent {
+        // BulkRequest with changed documents, empty if every document is unchanged
+        private final Optional<BulkRequestBuilder> bulkRequestBuilder;
+        private final long unchangedCount;
+    }
 }
@@ -0,0 +1,85 @@
+/*
+ * Copyright OpenSearch Contributors
+ * SPDX-License-Identifier: Apache-2.0
+ */
+
+package org.opensearch.geospatial.action.upload.geojson;
+
+import java.nio.ByteBuffer;
+import java.nio.charset.StandardCharsets;
+import java.security.MessageDigest;
+import java.util.List;
+import java.util.Map;
+import java.util.TreeMap;
+
+import org.opensearch.common.hash.MessageDigests;
+
+/**
+ * FeatureContentHash computes SHA-256 hash of the source of a document. Members of objects are hashed in the
+ * order of their names and every value is prefixed by its kind and length, hence, same content has same hash
+ * regardless of the order of members in the uploaded Feature.
+ */
+final class FeatureContentHash {
+    private static final byte NULL = 'n';
+    private static final byte OBJECT = 'o';
+    private static final byte ARRAY = 'a';
+    private static final byte STRING = 's';
+    private static final byte VALUE = 'v';
+
+    private FeatureContentHash() {}
+
+    /**
+     * @param document source of a document
+     * @return hash of the document as hex string
+     */
+    static String of(final Map<String, Object> document) {
+        final MessageDigest digest = MessageDigests.sha256();
+        update(digest, document);
+        return MessageDigests.toHexString(digest.digest());
+    }
+
+    private static void update(final MessageDigest digest, final Object value) {
+        if (value == null) {
+            digest.update(NULL);
+            return;
+        }
+        if (value instanceof Map) {
+            final Map<?, ?> object = (Map<?, ?>) value;
+            final Map<String, Object> sorted = new TreeMap<>();
+            object.forEach((name, member) -> sorted.put(name.toString(), member));
+            digest.update(OBJECT);
+            updateLength(digest, sorted.size());
+            for (Map.Entry<String, Object> member : sorted.entrySet()) {
+                updateString(digest, STRING, member.getKey());
+                update(digest, member.getValue());
+            }
+            return;
+        }
+        if (value instanceof List) {
+            final List<?> array = (List<?>) value;
+            digest.update(ARRAY);
+            updateLength(digest, array.size());
+            for (Object element : array) {
+                update(digest, element);
+            }
+            return;
+        }
+        if (value instanceof String) {
+            updateString(digest, STRING, (String) value);
+            return;
+        }
+        // numbers and booleans
+        updateString(digest, VALUE, value.toString());
+    }
+
+    private static void updateString(final MessageDigest digest, final byte kind, final String value) {
+        final byte[] bytes = value.getBytes(StandardCharsets.UTF_8);
+        digest.update(kind);
+        updateLength(digest, bytes.length);
+        digest.update(bytes);
+    }
+
+    private static void updateLength(final MessageDigest digest, final int length) {
+        digest.update(ByteBuffer.allocate(Integer.BYTES).putInt(length).array());
+    }
+}
@@ -0,0 +1,350 @@
+/*
+ * Copyright OpenSearch Contributors
+ * SPDX-License-Identifier: Apache-2.0
+ */
+
+package org.opensearch.geospatial.action.upload.geojson;
+
+import java.util.ArrayDeque;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Locale;
+import java.util.Map;
+import java.util.Objects;
+import java.util.Queue;
+
+import org.opensearch.geospatial.GeospatialParser;
+import org.opensearch.geospatial.geojson.Feature;
+import org.opensearch.geospatial.settings.GeospatialSettingsAccessor;
+
+/**
+ * FeatureDocumentConverter converts a GeoJSON Feature into the source of a document, same as FeatureProcessor.
+ * Field "type" is removed, properties.* are moved as document's fields and geometry object is moved to geospatial field.
+ * Feature is validated, geometric complexity limits are enforced and document is built in one traversal of the Feature.
+ * Features can also be validated only, without building the document.
+ * Document refers to values of the Feature instead of copying them, hence, Feature should not be modified afterward.
+ */
+public final class FeatureDocumentConverter {
+    private static final FeatureDocumentConverter UNBOUNDED = new FeatureDocumentConverter(
+        Integer.MAX_VALUE,
+        Integer.MAX_VALUE,
+        Integer.MAX_VALUE,
+        Integer.MAX_VALUE
+    );
+    private static final String COORDINATES_KEY = "coordinates";
+    private static final String GEOMETRIES_KEY = "geometries";
+    // GeoJSON geometry type constants
+    private static final String GEOMETRY_TYPE_LINESTRING = "LineString";
+    private static final String GEOMETRY_TYPE_POLYGON = "Polygon";
+    private static final String GEOMETRY_TYPE_MULTILINESTRING = "MultiLineString";
+    private static final String GEOMETRY_TYPE_MULTIPOLYGON = "MultiPolygon";
+    private static final String GEOMETRY_TYPE_GEOMETRYCOLLECTION = "GeometryCollection";
+
+    private final int maxCoordinatesPerGeometry;
+    private final int maxHolesPerPolygon;
+    private final int maxMultiGeometries;
+    private final int maxGeometryCollectionNestedDepth;
+    private final boolean bounded;
+
+    /**
+     * @param maxCoordinatesPerGeometry max number of coordinates of a LineString, or, a ring of Polygon
+     * @param maxHolesPerPolygon max number of holes of a Polygon
+     * @param maxMultiGeometries max number of geometries of a Multi* geometry, or, GeometryCollection
+     * @param maxGeometryCollectionNestedDepth max depth of nested GeometryCollections
+     */
+    public FeatureDocumentConverter(
+        final int maxCoordinatesPerGeometry,
+        final int maxHolesPerPolygon,
+        final int maxMultiGeometries,
+        final int maxGeometryCollectionNestedDepth
+    ) {
+        this.maxCoordinatesPerGeometry = maxCoordinatesPerGeometry;
+        this.maxHolesPerPolygon = maxHolesPerPolygon;
+        this.maxMultiGeometries = maxMultiGeometries;
+        this.maxGeometryCollectionNestedDepth = maxGeometryCollectionNestedDepth;
+        this.bounded = maxCoordinatesPerGeometry < Integer.MAX_VALUE
+            || maxHolesPerPolygon < Integer.MAX_VALUE
+            || maxMultiGeometries < Integer.MAX_VALUE
+            || maxGeometryCollectionNestedDepth < Integer.MAX_VALUE;
+    }
+
+    /**
+     * Creates a converter with current geometric complexity limits
+     * @param settingsAccessor accessor of the limits
+     * @return converter which enforces current limits
+     */
+    public static FeatureDocumentConverter fromSettings(final GeospatialSettingsAccessor settingsAccessor) {
+        Objects.requireNonNull(settingsAccessor, "settings accessor cannot be null");
+        return new FeatureDocumentConverter(
+            settingsAccessor.getMaxCoordinatesPerGeometry(),
+            settingsAccessor.getMaxHolesPerPolygon(),
+            settingsAccessor.getMaxMultiGeometries(),
+            settingsAccessor.getMaxGeometryCollectionNestedDepth()
+        );
+    }
+
+    /**
+     * @return converter which doesn't enforce any limit, for Features whose limits are already enforced
+     */
+    public static FeatureDocumentConverter unbounded() {
+        return UNBOUNDED;
+    }
+
+    /**
+     * Validates GeoJSON Feature, same as {@link #convert(Map, String)}, without building the document
+     * @param feature GeoJSON Feature
+     * @throws IllegalArgumentException if Feature is not valid, or, it exceeds geometric complexity limits
+     */
+    public void validate(final Map<String, Object> feature) {
+        validateFeature(feature);
+    }
+
+    /**
+     * Converts GeoJSON Feature into the source of a document
+     * @param feature GeoJSON Feature
+     * @param fieldName geospatial field to store geometry of the Feature
+     * @return source of the document
+     * @throws IllegalArgumentException if Feature is not valid, or, it exceeds geometric complexity limits
+     */
+    public Map<String, Object> convert(final Map<String, Object> feature, final String fieldName) {
+        final Map<String, Object> geometry = validateFeature(feature);
+        final Object properties = feature.get(Feature.PROPERTIES_KEY);
+        final Map<?, ?> propertiesMap = properties == null ? Map.of() : (Map<?, ?>) properties;
+        final Map<String, Object> document = new HashMap<>(feature.size() + propertiesMap.size());
+        for (Map.Entry<String, Object> member : feature.entrySet()) {
+            final String key = member.getKey();
+            if (!Feature.TYPE_KEY.equals(key) && !Feature.PROPERTIES_KEY.equals(key) && !Feature.GEOMETRY_KEY.equals(key)) {
+                document.put(key, member.getValue());
+            }
+        }
+        for (Map.Entry<?, ?> property : propertiesMap.entrySet()) {
+            document.put(property.getKey().toString(), property.getValue());
+        }
+        document.put(fieldName, geometry);
+        return document;
+    }
+
+    // validate structure of Feature and enforce limits on its geometry, return the geometry
+    private Map<String, Object> validateFeature(final Map<String, Object> feature) {
+        final Object type = feature.get(Feature.TYPE_KEY);
+        if (type == null) {
+            throw new IllegalArgumentException(Feature.TYPE_KEY + " cannot be null");
+        }
+        if (!Feature.TYPE.equalsIgnoreCase(type.toString())) {
+            throw new IllegalArgumentException("Unknown type [ " + type + " ], expected type [ " + Feature.TYPE + " ]");
+        }
+        final Object geometry = feature.get(Feature.GEOMETRY_KEY);
+        if (geometry == null) {
+            throw new IllegalArgumentException("key: " + Feature.GEOMETRY_KEY + " cannot be null");
+        }
+        if (!(geometry instanceof Map)) {
+            throw new IllegalArgumentException(
+                "key: " + Feature.GEOMETRY_KEY + " is not an instance of type Map but of type [ " + geometry.getClass().getName() + " ]"
+            );
+        }
+        final Object properties = feature.get(Feature.PROPERTIES_KEY);
+        if (properties != null && !(properties instanceof Map)) {
+            throw new IllegalArgumentException(
+                "key: " + Feature.PROPERTIES_KEY + " is not an instance of type Map but of type [ " + properties.getClass().getName() + " ]"
+            );
+        }
+        if (bounded) {
+            validateGeometry((Map<String, Object>) geometry);
+        }
+        return (Map<String, Object>) geometry;
+    }
+
+    /**
+     * Helper class to track geometries in validation queue
+     */
+    private static class GeometryDepthPair {
+        final Map<String, Object> geometry;
+        final int depth;
+
+        GeometryDepthPair(Map<String, Object> geometry, int depth) {
+            this.geometry = geometry;
+            this.depth = depth;
+        }
+    }
+
+    /**
+     * Iteratively validates a geometry object using a queue to avoid stack overflow
+     * @param rootGeometry the root geometry to validate
+     */
+    private void validateGeometry(final Map<String, Object> rootGeometry) {
+        final Queue<GeometryDepthPair> queue = new ArrayDeque<>();
+        queue.add(new GeometryDepthPair(rootGeometry, 0));
+
+        while (!queue.isEmpty()) {
+            final GeometryDepthPair current = queue.poll();
+
+            // Check depth limit
+            if (current.depth > maxGeometryCollectionNestedDepth) {
+                throw new IllegalArgumentException(
+                    String.format(
+                        Locale.ROOT,
+                        "GeometryCollection nesting depth %d exceeds limit of %d",
+                        current.depth,
+                        maxGeometryCollectionNestedDepth
+                    )
+                );
+            }
+
+            final String type = GeospatialParser.extractValueAsString(current.geometry, Feature.TYPE_KEY);
+            if (type == null) continue;
+
+            // Handle GeometryCollection separately (uses "geometries" not "coordinates")
+            if (GEOMETRY_TYPE_GEOMETRYCOLLECTION.equals(type)) {
+                final Object geometries = current.geometry.get(GEOMETRIES_KEY);
+                if (!(geometries instanceof List)) continue;
+
+                final List<?> geometryList = (List<?>) geometries;
+
+                // Validate collection size
+                if (geometryList.size() > maxMultiGeometries) {
+                    throw new IllegalArgumentException(
+                        String.format(
+                            Locale.ROOT,
+                            "GeometryCollection has %d geometries, exceeds limit of %d",
+                            geometryList.size(),
+                            maxMultiGeometries
+                        )
+                    );
+                }
+
+                // Add child geometries to queue with incremented depth
+                for (Object child : geometryList) {
+                    if (child instanceof Map) {
+                        queue.add(new GeometryDepthPair((Map<String, Object>) child, current.depth + 1));
+                    }
+                }
+                continue;
+            }
+
+            // All other geometry types use "coordinates" - validate early
+            final Object coordinates = current.geometry.get(COORDINATES_KEY);
+            if (!(coordinates instanceof List)) continue;
+
+            final List<?> coordList = (List<?>) coordinates;
+
+            // Validate based on geometry type
+            switch (type) {
+                case GEOMETRY_TYPE_LINESTRING:
+                    validateLineString(coordList);
+                    break;
+                case GEOMETRY_TYPE_POLYGON:
+                    validatePolygon(coordList);
+                    break;
+                case GEOMETRY_TYPE_MULTILINESTRING:
+                    validateMultiLineString(coordList);
+                    break;
+                case GEOMETRY_TYPE_MULTIPOLYGON:
+                    validateMultiPolygon(coordList);
+                    break;
+                default:
+                    // Unknown geometry type, skip validation
+                    break;
+            }
+        }
+    }
+
+    /**
+     * Validates LineString coordinate count
+     */
+    private void validateLineString(final List<?> coordinates) {
+        if (coordinates.size() > maxCoordinatesPerGeometry) {
+            throw new IllegalArgumentException(
+                String.format(
+                    Locale.ROOT,
+                    "LineString has %d coordinates, exceeds limit of %d",
+                    coordinates.size(),
+                    maxCoordinatesPerGeometry
+                )
+            );
+        }
+    }
+
+    /**
+     * Validates Polygon rings (outer ring and holes)
+     */
+    private void validatePolygon(final List<?> rings) {
+        final int holes = rings.size() - 1;
+        if (holes > maxHolesPerPolygon) {
+            throw new IllegalArgumentException(
+                String.format(Locale.ROOT, "Polygon has %d holes, exceeds limit of %d", holes, maxHolesPerPolygon)
+            );
+        }
+
+        // Validate outer ring
+        if (!rings.isEmpty() && rings.get(0) instanceof List) {
+            final List<?> outerRing = (List<?>) rings.get(0);
+            if (outerRing.size() > maxCoordinatesPerGeometry) {
+                throw new IllegalArgumentException(
+                    String.format(
+                        Locale.ROOT,
+                        "Polygon outer ring has %d coordinates, exceeds limit of %d",
+                        outerRing.size(),
+                        maxCoordinatesPerGeometry
+                    )
+                );
+            }
+        }
+
+        // Validate each hole (inner ring)
+        for (int i = 1; i < rings.size(); i++) {
+            if (rings.get(i) instanceof List) {
+                final List<?> hole = (List<?>) rings.get(i);
+                if (hole.size() > maxCoordinatesPerGeometry) {
+                    throw new IllegalArgumentException(
+                        String.format(
+                            Locale.ROOT,
+                            "Polygon hole %d has %d coordinates, exceeds limit of %d",
+                            i,
+                            hole.size(),
+                            maxCoordinatesPerGeometry
+                        )
+                    );
+                }
+            }
+        }
+    }
+
+    /**
+     * Validates MultiLineString collection
+     */
+    private void validateMultiLineString(final List<?> lineStrings) {
+        if (lineStrings.size() > maxMultiGeometries) {
+            throw new IllegalArgumentException(
+                String.format(
+                    Locale.ROOT,
+                    "MultiLineString has %d LineStrings, exceeds limit of %d",
+                    lineStrings.size(),
+                    maxMultiGeometries
+                )
+            );
+        }
+
+        for (Object line : lineStrings) {
+            if (line instanceof List) {
+                validateLineString((List<?>) line);
+            }
+        }
+    }
+
+    /**
+     * Validates MultiPolygon collection
+     */
+    private void validateMultiPolygon(final List<?> polygons) {
+        if (polygons.size() > maxMultiGeometries) {
+            throw new IllegalArgumentException(
+                String.format(Locale.ROOT, "MultiPolygon has %d Polygons, exceeds limit of %d", polygons.size(), maxMultiGeometries)
+            );
+        }
+
+        for (Object polygon : polygons) {
+            if (polygon instanceof List) {
+                validatePolygon((List<?>) polygon);
+            }
+        }
+    }
+}
@@ -0,0 +1,24 @@
+/*
+ * Copyright OpenSearch Contributors
+ * SPDX-License-Identifier: Apache-2.0
+ */
+
+package org.opensearch.geospatial.action.upload.geojson;
+
+import java.io.Closeable;
+import java.io.IOException;
+import java.util.Map;
+
+/**
+ * FeatureReader reads GeoJSON Features of an upload one at a time, regardless of the format of the upload.
+ */
+public interface FeatureReader extends Closeable {
+
+    /**
+     * Reads next Feature
+     * @return next Feature as Map, null if there are no more Features
+     * @throws IOException if content cannot be parsed
+     * @throws IllegalArgumentException if content is not a valid GeoJSON
+     */
+    Map<String, Object> nextFeature() throws IOException;
+}
@@ -0,0 +1,169 @@
+/*
+ * Copyright OpenSearch Contributors
+ * SPDX-License-Identifier: Apache-2.0
+ */
+
+package org.opensearch.geospatial.action.upload.geojson;
+
+import java.nio.ByteBuffer;
+import java.nio.ByteOrder;
+import java.nio.charset.StandardCharsets;
+import java.util.ArrayList;
+import java.util.List;
+
+/**
+ * FlatBufferTable reads fields of a FlatBuffers table directly from the buffer without copying it.
+ * Only the parts of FlatBuffers binary format which are used by FlatGeobuf are supported.
+ * Fields are identified by their index in the schema.
+ */
+final class FlatBufferTable {
+    private static final int SIZE_OF_OFFSET = Integer.BYTES;
+    private static final int VTABLE_METADATA_SIZE = 2 * Short.BYTES;
+    private final ByteBuffer buffer;
+    private final int position;
+    private final int vtable;
+    private final int vtableSize;
+
+    private FlatBufferTable(final ByteBuffer buffer, final int position) {
+        this.buffer = buffer;
+        this.position = position;
+        this.vtable = position - buffer.getInt(position);
+        this.vtableSize = Short.toUnsignedInt(buffer.getShort(vtable));
+    }
+
+    /**
+     * Returns root table of a FlatBuffer
+     * @param buffer FlatBuffer, which starts with the offset to root table
+     * @return root table
+     */
+    static FlatBufferTable root(final ByteBuffer buffer) {
+        final ByteBuffer littleEndian = buffer.slice().order(ByteOrder.LITTLE_ENDIAN);
+        return new FlatBufferTable(littleEndian, littleEndian.getInt(0));
+    }
+
+    // position of field in the buffer, -1 if field is not present
+    private int field(final int index) {
+        final int vtableOffset = VTABLE_METADATA_SIZE + index * Short.BYTES;
+        if (vtableOffset >= vtableSize) {
+            return -1;
+        }
+        final int fieldOffset = Short.toUnsignedInt(buffer.getShort(vtable + vtableOffset));
+        return fieldOffset == 0 ? -1 : position + fieldOffset;
+    }
+
+    // position of the object which field refers to, -1 if field is not present
+    private int indirect(final int index) {
+        final int field = field(index);
+        return field < 0 ? -1 : field + buffer.getInt(field);
+    }
+
+    boolean has(final int index) {
+        return field(index) >= 0;
+    }
+
+    int getUnsignedByte(final int index, final int defaultValue) {
+        final int field = field(index);
+        return field < 0 ? defaultValue : Byte.toUnsignedInt(buffer.get(field));
+    }
+
+    boolean getBoolean(final int index, final boolean defaultValue) {
+        final int field = field(index);
+        return field < 0 ? defaultValue : buffer.get(field) != 0;
+    }
+
+    int getUnsignedShort(final int index, final int defaultValue) {
+        final int field = field(index);
+        return field < 0 ? defaultValue : Short.toUnsignedInt(buffer.getShort(field));
+    }
+
+    long getLong(final int index, final long defaultValue) {
+        final int field = field(index);
+        return field < 0 ? defaultValue : buffer.getLong(field);
+    }
+
+    String getString(final int index) {
+        final int string = indirect(index);
+        if (string < 0) {
+            return null;
+        }
+        final byte[] bytes = new byte[buffer.getInt(string)];
+        buffer.get(string + SIZE_OF_OFFSET, bytes);
+        return new String(bytes, StandardCharsets.UTF_8);
+    }
+
+    /**
+     * @param index index of a vector field
+     * @return number of elements of the vector, 0 if field is not present
+     */
+    int getVectorLength(final int index) {
+        final int vector = indirect(index);
+        return vector < 0 ? 0 : buffer.getInt(vector);
+    }
+
+    /**
+     * @param index index of a vector field of doubles
+     * @param element index of the element in the vector
+     * @return the element
+     */
+    double getDouble(final int index, final int element) {
+        return buffer.getDouble(indirect(index) + SIZE_OF_OFFSET + element * Double.BYTES);
+    }
+
+    /**
+     * Copies every other element of a vector field of doubles, starting from given element.
+     * This is used to split interleaved coordinates into separate arrays.
+     * @param index index of a vector field of doubles
+     * @param from index of the first element to copy
+     * @param count number of elements to copy
+     * @param stride distance between elements to copy
+     * @return copied elements
+     */
+    double[] getDoubles(final int index, final int from, final int count, final int stride) {
+        final int elements = indirect(index) + SIZE_OF_OFFSET;
+        final double[] values = new double[count];
+        for (int i = 0; i < count; i++) {
+            values[i] = buffer.getDouble(elements + (from + i * stride) * Double.BYTES);
+        }
+        return values;
+    }
+
+    /**
+     * @param index index of a vector field of uint
+     * @param element index of the element in the vector
+     * @return the element
+     */
+    long getUnsignedInt(final int index, final int element) {
+        return Integer.toUnsignedLong(buffer.getInt(indirect(index) + SIZE_OF_OFFSET + element * Integer.BYTES));
+    }
+
+    /**
+     * @param index index of a vector field of ubyte
+     * @return view of the vector in little endian order, empty if field is not present
+     */
+    ByteBuffer getBytes(final int index) {
+        final int vector = indirect(index);
+        if (vector < 0) {
+            return ByteBuffer.allocate(0);
+        }
+        return buffer.slice(vector + SIZE_OF_OFFSET, buffer.getInt(vector)).order(ByteOrder.LITTLE_ENDIAN);
+    }
+
+    FlatBufferTable getTable(final int index) {
+        final int table = indirect(index);
+        return table < 0 ? null : new FlatBufferTable(buffer, table);
+    }
+
+    List<FlatBufferTable> getTables(final int index) {
+        final int vector = indirect(index);
+        if (vector < 0) {
+            return List.of();
+        }
+        final int length = buffer.getInt(vector);
+        final List<FlatBufferTable> tables = new ArrayList<>(length);
+        for (int i = 0; i < length; i++) {
+            final int element = vector + SIZE_OF_OFFSET + i * SIZE_OF_OFFSET;
+            tables.add(new FlatBufferTable(buffer, element + buffer.getInt(element)));
+        }
+        return tables;
+    }
+}
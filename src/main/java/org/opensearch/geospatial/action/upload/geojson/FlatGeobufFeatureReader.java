@@ -0,0 +1,517 @@
+/*
+ * Copyright OpenSearch Contributors
+ * SPDX-License-Identifier: Apache-2.0
+ */
+
+package org.opensearch.geospatial.action.upload.geojson;
+
+import java.io.EOFException;
+import java.io.IOException;
+import java.io.InputStream;
+import java.math.BigInteger;
+import java.nio.ByteBuffer;
+import java.nio.ByteOrder;
+import java.nio.charset.StandardCharsets;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.Base64;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Locale;
+import java.util.Map;
+import java.util.Objects;
+
+import org.apache.lucene.util.BytesRef;
+import org.opensearch.core.common.bytes.BytesArray;
+import org.opensearch.core.common.bytes.BytesReference;
+import org.opensearch.core.common.io.stream.InputStreamStreamInput;
+import org.opensearch.core.common.io.stream.StreamInput;
+import org.opensearch.geometry.Circle;
+import org.opensearch.geometry.Geometry;
+import org.opensearch.geometry.GeometryCollection;
+import org.opensearch.geometry.GeometryVisitor;
+import org.opensearch.geometry.Line;
+import org.opensearch.geometry.LinearRing;
+import org.opensearch.geometry.MultiLine;
+import org.opensearch.geometry.MultiPoint;
+import org.opensearch.geometry.MultiPolygon;
+import org.opensearch.geometry.Point;
+import org.opensearch.geometry.Polygon;
+import org.opensearch.geometry.Rectangle;
+import org.opensearch.geospatial.geojson.Feature;
+
+/**
+ * FlatGeobufFeatureReader reads Features from FlatGeobuf, a binary format of FlatBuffers encoded Features.
+ * Coordinates are read as doubles from the buffer of every Feature, without any text parsing, and decoded into
+ * {@link Geometry}, which is then converted into GeoJSON geometry, so that Features are validated and transformed
+ * into documents the same way as GeoJSON Features. Features are read in the order they are stored in the file,
+ * which is the order of packed Hilbert R-Tree if the file is indexed, hence, spatially close Features are indexed together.
+ */
+public final class FlatGeobufFeatureReader implements FeatureReader {
+    private static final byte[] MAGIC_BYTES = new byte[] { 'f', 'g', 'b', 3, 'f', 'g', 'b' };
+    // magic bytes followed by patch version
+    private static final int MAGIC_BYTES_SIZE = 8;
+    private static final int SIZE_PREFIX_LENGTH = Integer.BYTES;
+    // four doubles of bounding box and offset of the node
+    private static final int INDEX_NODE_ITEM_SIZE = 4 * Double.BYTES + Long.BYTES;
+    private static final int DEFAULT_INDEX_NODE_SIZE = 16;
+
+    // Header fields
+    private static final int HEADER_GEOMETRY_TYPE = 2;
+    private static final int HEADER_HAS_Z = 3;
+    private static final int HEADER_COLUMNS = 7;
+    private static final int HEADER_FEATURES_COUNT = 8;
+    private static final int HEADER_INDEX_NODE_SIZE = 9;
+    // Column fields
+    private static final int COLUMN_NAME = 0;
+    private static final int COLUMN_TYPE = 1;
+    // Feature fields
+    private static final int FEATURE_GEOMETRY = 0;
+    private static final int FEATURE_PROPERTIES = 1;
+    private static final int FEATURE_COLUMNS = 2;
+    // Geometry fields
+    private static final int GEOMETRY_ENDS = 0;
+    private static final int GEOMETRY_XY = 1;
+    private static final int GEOMETRY_Z = 2;
+    private static final int GEOMETRY_TYPE = 6;
+    private static final int GEOMETRY_PARTS = 7;
+
+    // GeometryType
+    private static final int UNKNOWN = 0;
+    private static final int POINT = 1;
+    private static final int LINESTRING = 2;
+    private static final int POLYGON = 3;
+    private static final int MULTIPOINT = 4;
+    private static final int MULTILINESTRING = 5;
+    private static final int MULTIPOLYGON = 6;
+    private static final int GEOMETRYCOLLECTION = 7;
+
+    // ColumnType
+    private static final int BYTE = 0;
+    private static final int UBYTE = 1;
+    private static final int BOOL = 2;
+    private static final int SHORT = 3;
+    private static final int USHORT = 4;
+    private static final int INT = 5;
+    private static final int UINT = 6;
+    private static final int LONG = 7;
+    private static final int ULONG = 8;
+    private static final int FLOAT = 9;
+    private static final int DOUBLE = 10;
+    private static final int STRING = 11;
+    private static final int JSON = 12;
+    private static final int DATETIME = 13;
+    private static final int BINARY = 14;
+
+    private final StreamInput input;
+    private final int geometryType;
+    private final boolean hasZ;
+    private final List<Column> columns;
+    private long featureNumber;
+
+    /**
+     * Creates a reader over FlatGeobuf. Header is read immediately, and, index is skipped, if exists.
+     * @param content FlatGeobuf
+     * @throws IOException if content cannot be read
+     * @throws IllegalArgumentException if content is not a valid FlatGeobuf
+     */
+    public FlatGeobufFeatureReader(final BytesReference content) throws IOException {
+        this(Objects.requireNonNull(content, "content cannot be null").streamInput());
+    }
+
+    /**
+     * Creates a reader over FlatGeobuf as a stream. Header is read immediately, and, index is skipped, if exists.
+     * Features are sliced from the stream without copying if the stream is over the whole content.
+     * @param input FlatGeobuf, which is closed when this reader is closed
+     * @throws IOException if input cannot be read
+     * @throws IllegalArgumentException if content is not a valid FlatGeobuf
+     */
+    public FlatGeobufFeatureReader(final InputStream input) throws IOException {
+        Objects.requireNonNull(input, "input cannot be null");
+        this.input = input instanceof StreamInput ? (StreamInput) input : new InputStreamStreamInput(input);
+        try {
+            final byte[] magicBytes = new byte[MAGIC_BYTES_SIZE];
+            if (this.input.readNBytes(magicBytes, 0, MAGIC_BYTES_SIZE) < MAGIC_BYTES_SIZE
+                || !Arrays.equals(magicBytes, 0, MAGIC_BYTES.length, MAGIC_BYTES, 0, MAGIC_BYTES.length)) {
+                throw new IllegalArgumentException("content is not a FlatGeobuf or FlatGeobuf version is not supported");
+            }
+            final ByteBuffer headerBuffer = readSizePrefixed();
+            if (headerBuffer == null) {
+                throw new IllegalArgumentException("content is not a FlatGeobuf, header is missing");
+            }
+            final FlatBufferTable header = FlatBufferTable.root(headerBuffer);
+            this.geometryType = header.getUnsignedByte(HEADER_GEOMETRY_TYPE, UNKNOWN);
+            this.hasZ = header.getBoolean(HEADER_HAS_Z, false);
+            this.columns = readColumns(header, HEADER_COLUMNS);
+            final long featuresCount = header.getLong(HEADER_FEATURES_COUNT, 0);
+            final int indexNodeSize = header.getUnsignedShort(HEADER_INDEX_NODE_SIZE, DEFAULT_INDEX_NODE_SIZE);
+            if (featuresCount > 0 && indexNodeSize > 0) {
+                // Features are already sorted by Hilbert curve in an indexed file, hence, index is not required to read them in order
+                this.input.skipNBytes(indexSize(featuresCount, indexNodeSize));
+            }
+        } catch (IndexOutOfBoundsException e) {
+            this.input.close();
+            throw new IllegalArgumentException("failed to read FlatGeobuf header due to " + e.getMessage(), e);
+        } catch (IOException | RuntimeException e) {
+            this.input.close();
+            throw e;
+        }
+    }
+
+    /**
+     * Size of packed Hilbert R-Tree, which is stored between header and Features
+     * @param featuresCount number of Features in the tree
+     * @param nodeSize max number of children of a node
+     * @return size of the tree in bytes
+     */
+    static long indexSize(final long featuresCount, final int nodeSize) {
+        if (nodeSize < 2) {
+            throw new IllegalArgumentException("index node size should be at least 2");
+        }
+        long levelNodes = featuresCount;
+        long totalNodes = levelNodes;
+        do {
+            levelNodes = (levelNodes + nodeSize - 1) / nodeSize;
+            totalNodes += levelNodes;
+        } while (levelNodes != 1);
+        return totalNodes * INDEX_NODE_ITEM_SIZE;
+    }
+
+    @Override
+    public Map<String, Object> nextFeature() throws IOException {
+        final ByteBuffer feature = readSizePrefixed();
+        if (feature == null) {
+            return null;
+        }
+        featureNumber++;
+        try {
+            return toFeature(FlatBufferTable.root(feature));
+        } catch (RuntimeException e) {
+            throw new IllegalArgumentException("failed to read feature [ " + featureNumber + " ] due to " + e.getMessage(), e);
+        }
+    }
+
+    @Override
+    public void close() throws IOException {
+        input.close();
+    }
+
+    // reads uint32 little endian size, followed by as many bytes. Returns null at the end of input.
+    private ByteBuffer readSizePrefixed() throws IOException {
+        int size = input.read();
+        if (size < 0) {
+            return null;
+        }
+        for (int i = 1; i < SIZE_PREFIX_LENGTH; i++) {
+            final int next = input.read();
+            if (next < 0) {
+                throw new EOFException("unexpected end of content while reading size");
+            }
+            size |= next << (Byte.SIZE * i);
+        }
+        if (size < 0) {
+            throw new IllegalArgumentException("invalid size [ " + Integer.toUnsignedString(size) + " ]");
+        }
+        final BytesRef bytes = readBytes(size).toBytesRef();
+        return ByteBuffer.wrap(bytes.bytes, bytes.offset, bytes.length).order(ByteOrder.LITTLE_ENDIAN);
+    }
+
+    // bytes are sliced without copying if they are already available, otherwise, they are read as input is decompressed.
+    // Claimed size is not allocated at once, so that an invalid size fails at the end of input instead of allocating it.
+    private BytesReference readBytes(final int size) throws IOException {
+        if (input.available() >= size) {
+            return input.readBytesReference(size);
+        }
+        final byte[] bytes = input.readNBytes(size);
+        if (bytes.length < size) {
+            throw new EOFException("unexpected end of content, expected [ " + size + " ] bytes, but found [ " + bytes.length + " ]");
+        }
+        return new BytesArray(bytes);
+    }
+
+    private static List<Column> readColumns(final FlatBufferTable table, final int index) {
+        final List<Column> tableColumns = new ArrayList<>();
+        for (FlatBufferTable column : table.getTables(index)) {
+            tableColumns.add(new Column(column.getString(COLUMN_NAME), column.getUnsignedByte(COLUMN_TYPE, BYTE)));
+        }
+        return tableColumns;
+    }
+
+    private Map<String, Object> toFeature(final FlatBufferTable feature) {
+        final Map<String, Object> geoJSON = new HashMap<>();
+        geoJSON.put(Feature.TYPE_KEY, Feature.TYPE);
+        final FlatBufferTable geometry = feature.getTable(FEATURE_GEOMETRY);
+        if (geometry == null) {
+            throw new IllegalArgumentException("feature has no geometry");
+        }
+        geoJSON.put(Feature.GEOMETRY_KEY, toGeometry(geometry, geometryType).visit(GeoJSONGeometryVisitor.INSTANCE));
+        // a Feature can have its own schema, otherwise, schema of the header is used
+        final List<Column> featureColumns = feature.has(FEATURE_COLUMNS) ? readColumns(feature, FEATURE_COLUMNS) : columns;
+        geoJSON.put(Feature.PROPERTIES_KEY, toProperties(feature.getBytes(FEATURE_PROPERTIES), featureColumns));
+        return geoJSON;
+    }
+
+    private Geometry toGeometry(final FlatBufferTable geometry, final int headerGeometryType) {
+        final int type = headerGeometryType == UNKNOWN ? geometry.getUnsignedByte(GEOMETRY_TYPE, UNKNOWN) : headerGeometryType;
+        switch (type) {
+            case POINT:
+                if (geometry.getVectorLength(GEOMETRY_XY) != 2) {
+                    throw new IllegalArgumentException("point should have exactly one coordinate");
+                }
+                return toPoint(geometry, 0);
+            case LINESTRING:
+                return toLine(geometry, 0, geometry.getVectorLength(GEOMETRY_XY) / 2);
+            case POLYGON:
+                return toPolygon(geometry);
+            case MULTIPOINT:
+                final int pointCount = geometry.getVectorLength(GEOMETRY_XY) / 2;
+                final List<Point> points = new ArrayList<>(pointCount);
+                for (int i = 0; i < pointCount; i++) {
+                    points.add(toPoint(geometry, i));
+                }
+                return new MultiPoint(points);
+            case MULTILINESTRING:
+                final List<Line> lines = new ArrayList<>();
+                for (int[] part : toParts(geometry)) {
+                    lines.add(toLine(geometry, part[0], part[1]));
+                }
+                return new MultiLine(lines);
+            case MULTIPOLYGON:
+                final List<Polygon> polygons = new ArrayList<>();
+                for (FlatBufferTable part : geometry.getTables(GEOMETRY_PARTS)) {
+                    polygons.add(toPolygon(part));
+                }
+                return new MultiPolygon(polygons);
+            case GEOMETRYCOLLECTION:
+                final List<Geometry> geometries = new ArrayList<>();
+                for (FlatBufferTable part : geometry.getTables(GEOMETRY_PARTS)) {
+                    geometries.add(toGeometry(part, UNKNOWN));
+                }
+                return new GeometryCollection<>(geometries);
+            default:
+                throw new IllegalArgumentException(String.format(Locale.ROOT, "geometry type [ %d ] is not supported", type));
+        }
+    }
+
+    private Polygon toPolygon(final FlatBufferTable geometry) {
+        final List<int[]> parts = toParts(geometry);
+        final LinearRing shell = toLinearRing(geometry, parts.get(0));
+        final List<LinearRing> holes = new ArrayList<>(parts.size() - 1);
+        for (int i = 1; i < parts.size(); i++) {
+            holes.add(toLinearRing(geometry, parts.get(i)));
+        }
+        return new Polygon(shell, holes);
+    }
+
+    private LinearRing toLinearRing(final FlatBufferTable geometry, final int[] part) {
+        final Line ring = toLine(geometry, part[0], part[1]);
+        return ring.hasZ() ? new LinearRing(ring.getX(), ring.getY(), ring.getZ()) : new LinearRing(ring.getX(), ring.getY());
+    }
+
+    // splits coordinates into parts of (first coordinate, number of coordinates) by ends. Without ends, there is one part.
+    private static List<int[]> toParts(final FlatBufferTable geometry) {
+        final int coordinates = geometry.getVectorLength(GEOMETRY_XY) / 2;
+        final int ends = geometry.getVectorLength(GEOMETRY_ENDS);
+        if (ends == 0) {
+            return List.of(new int[] { 0, coordinates });
+        }
+        final List<int[]> parts = new ArrayList<>(ends);
+        int start = 0;
+        for (int i = 0; i < ends; i++) {
+            final long end = geometry.getUnsignedInt(GEOMETRY_ENDS, i);
+            if (end <= start || end > coordinates) {
+                throw new IllegalArgumentException("invalid end [ " + end + " ] of geometry part");
+            }
+            parts.add(new int[] { start, (int) end - start });
+            start = (int) end;
+        }
+        return parts;
+    }
+
+    private Point toPoint(final FlatBufferTable geometry, final int index) {
+        final double x = geometry.getDouble(GEOMETRY_XY, 2 * index);
+        final double y = geometry.getDouble(GEOMETRY_XY, 2 * index + 1);
+        if (hasZ && geometry.has(GEOMETRY_Z)) {
+            return new Point(x, y, geometry.getDouble(GEOMETRY_Z, index));
+        }
+        return new Point(x, y);
+    }
+
+    private Line toLine(final FlatBufferTable geometry, final int from, final int count) {
+        final double[] x = geometry.getDoubles(GEOMETRY_XY, 2 * from, count, 2);
+        final double[] y = geometry.getDoubles(GEOMETRY_XY, 2 * from + 1, count, 2);
+        if (hasZ && geometry.has(GEOMETRY_Z)) {
+            return new Line(x, y, geometry.getDoubles(GEOMETRY_Z, from, count, 1));
+        }
+        return new Line(x, y);
+    }
+
+    private static Map<String, Object> toProperties(final ByteBuffer properties, final List<Column> columns) {
+        final Map<String, Object> values = new HashMap<>();
+        while (properties.hasRemaining()) {
+            final int index = Short.toUnsignedInt(properties.getShort());
+            if (index >= columns.size()) {
+                throw new IllegalArgumentException("column index [ " + index + " ] is out of bounds");
+            }
+            final Column column = columns.get(index);
+            values.put(column.name, readValue(properties, column.type));
+        }
+        return values;
+    }
+
+    private static Object readValue(final ByteBuffer properties, final int type) {
+        switch (type) {
+            case BYTE:
+                return properties.get();
+            case UBYTE:
+                return Byte.toUnsignedInt(properties.get());
+            case BOOL:
+                return properties.get() != 0;
+            case SHORT:
+                return properties.getShort();
+            case USHORT:
+                return Short.toUnsignedInt(properties.getShort());
+            case INT:
+                return properties.getInt();
+            case UINT:
+                return Integer.toUnsignedLong(properties.getInt());
+            case LONG:
+                return properties.getLong();
+            case ULONG:
+                final long value = properties.getLong();
+                return value >= 0 ? (Object) value : new BigInteger(Long.toUnsignedString(value));
+            case FLOAT:
+                return properties.getFloat();
+            case DOUBLE:
+                return properties.getDouble();
+            case STRING:
+            case JSON:
+            case DATETIME:
+                return new String(readBytes(properties), StandardCharsets.UTF_8);
+            case BINARY:
+                // binary field accepts base64 encoded value
+                return Base64.getEncoder().encodeToString(readBytes(properties));
+            default:
+                throw new IllegalArgumentException(String.format(Locale.ROOT, "column type [ %d ] is not supported", type));
+        }
+    }
+
+    private static byte[] readBytes(final ByteBuffer properties) {
+        final byte[] bytes = new byte[properties.getInt()];
+        properties.get(bytes);
+        return bytes;
+    }
+
+    private static final class Column {
+        private final String name;
+        private final int type;
+
+        private Column(final String name, final int type) {
+            this.name = Objects.requireNonNull(name, "column name cannot be null");
+            this.type = type;
+        }
+    }
+
+    /**
+     * Converts Geometry into GeoJSON geometry object
+     */
+    private static final class GeoJSONGeometryVisitor implements GeometryVisitor<Map<String, Object>, RuntimeException> {
+        private static final GeoJSONGeometryVisitor INSTANCE = new GeoJSONGeometryVisitor();
+        private static final String COORDINATES_KEY = "coordinates";
+        private static final String GEOMETRIES_KEY = "geometries";
+
+        private static Map<String, Object> toGeoJSON(final String type, final String key, final Object value) {
+            final Map<String, Object> geometry = new HashMap<>();
+            geometry.put(Feature.TYPE_KEY, type);
+            geometry.put(key, value);
+            return geometry;
+        }
+
+        private static List<Double> toPosition(final double x, final double y, final double z) {
+            return Double.isNaN(z) ? List.of(x, y) : List.of(x, y, z);
+        }
+
+        private static List<List<Double>> toPositions(final Line line) {
+            final List<List<Double>> positions = new ArrayList<>(line.length());
+            for (int i = 0; i < line.length(); i++) {
+                positions.add(toPosition(line.getX(i), line.getY(i), line.getZ(i)));
+            }
+            return positions;
+        }
+
+        private static List<List<List<Double>>> toRings(final Polygon polygon) {
+            final List<List<List<Double>>> rings = new ArrayList<>(polygon.getNumberOfHoles() + 1);
+            rings.add(toPositions(polygon.getPolygon()));
+            for (int i = 0; i < polygon.getNumberOfHoles(); i++) {
+                rings.add(toPositions(polygon.getHole(i)));
+            }
+            return rings;
+        }
+
+        @Override
+        public Map<String, Object> visit(final Circle circle) {
+            throw new IllegalArgumentException("Circle is not a GeoJSON geometry");
+        }
+
+        @Override
+        public Map<String, Object> visit(final GeometryCollection<?> collection) {
+            final List<Map<String, Object>> geometries = new ArrayList<>(collection.size());
+            for (Geometry geometry : collection) {
+                geometries.add(geometry.visit(this));
+            }
+            return toGeoJSON("GeometryCollection", GEOMETRIES_KEY, geometries);
+        }
+
+        @Override
+        public Map<String, Object> visit(final Line line) {
+            return toGeoJSON("LineString", COORDINATES_KEY, toPositions(line));
+        }
+
+        @Override
+        public Map<String, Object> visit(final LinearRing ring) {
+            throw new IllegalArgumentException("LinearRing is not a GeoJSON geometry");
+        }
+
+        @Override
+        public Map<String, Object> visit(final MultiLine multiLine) {
+            final List<List<List<Double>>> lines = new ArrayList<>(multiLine.size());
+            for (Line line : multiLine) {
+                lines.add(toPositions(line));
+            }
+            return toGeoJSON("MultiLineString", COORDINATES_KEY, lines);
+        }
+
+        @Override
+        public Map<String, Object> visit(final MultiPoint multiPoint) {
+            final List<List<Double>> points = new ArrayList<>(multiPoint.size());
+            for (Point point : multiPoint) {
+                points.add(toPosition(point.getX(), point.getY(), point.getZ()));
+            }
+            return toGeoJSON("MultiPoint", COORDINATES_KEY, points);
+        }
+
+        @Override
+        public Map<String, Object> visit(final MultiPolygon multiPolygon) {
+            final List<List<List<List<Double>>>> polygons = new ArrayList<>(multiPolygon.size());
+            for (Polygon polygon : multiPolygon) {
+                polygons.add(toRings(polygon));
+            }
+            return toGeoJSON("MultiPolygon", COORDINATES_KEY, polygons);
+        }
+
+        @Override
+        public Map<String, Object> visit(final Point point) {
+            return toGeoJSON("Point", COORDINATES_KEY, toPosition(point.getX(), point.getY(), point.getZ()));
+        }
+
+        @Override
+        public Map<String, Object> visit(final Polygon polygon) {
+            return toGeoJSON("Polygon", COORDINATES_KEY, toRings(polygon));
+        }
+
+        @Override
+        public Map<String, Object> visit(final Rectangle rectangle) {
+            throw new IllegalArgumentException("Rectangle is not a GeoJSON geometry");
+        }
+    }
+}
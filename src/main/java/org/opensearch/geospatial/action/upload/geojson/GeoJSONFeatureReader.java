@@ -0,0 +1,149 @@
+/*
+ * Copyright OpenSearch Contributors
+ * SPDX-License-Identifier: Apache-2.0
+ */
+
+package org.opensearch.geospatial.action.upload.geojson;
+
+import static org.opensearch.geospatial.action.upload.geojson.UploadGeoJSONRequestContent.FIELD_DATA;
+
+import java.io.IOException;
+import java.io.InputStream;
+import java.util.ArrayDeque;
+import java.util.HashMap;
+import java.util.Map;
+import java.util.Queue;
+
+import org.opensearch.core.common.bytes.BytesReference;
+import org.opensearch.core.xcontent.XContentParser;
+import org.opensearch.core.xcontent.XContentParserUtils;
+import org.opensearch.geospatial.GeospatialParser;
+import org.opensearch.geospatial.geojson.FeatureCollection;
+
+/**
+ * GeoJSONFeatureReader reads GeoJSON Features from the data field of UploadGeoJSONRequest's body one at a time.
+ * Only the Feature being read is converted to Map, hence, memory usage doesn't depend on the size of the body.
+ * Features of a FeatureCollection are read one by one as well, instead of converting the whole collection.
+ */
+public final class GeoJSONFeatureReader implements FeatureReader {
+
+    private final XContentParser parser;
+    // Features which are read, but, not returned yet
+    private final Queue<Map<String, Object>> pending = new ArrayDeque<>();
+    // Members of the GeoJSON object from data field which is being read
+    private Map<String, Object> current;
+    // whether parser is inside features array of current GeoJSON object
+    private boolean readingFeatures;
+    // whether features of current GeoJSON object are already returned
+    private boolean featuresRead;
+    private boolean done;
+
+    /**
+     * Creates a reader over UploadGeoJSONRequest's body
+     * @param content UploadGeoJSONRequest's body
+     * @throws IOException if content cannot be parsed
+     */
+    public GeoJSONFeatureReader(final BytesReference content) throws IOException {
+        this(GeospatialParser.createParser(content));
+    }
+
+    /**
+     * Creates a reader over UploadGeoJSONRequest's body as a stream
+     * @param content UploadGeoJSONRequest's body, which is closed when this reader is closed
+     * @throws IOException if content cannot be parsed
+     */
+    public GeoJSONFeatureReader(final InputStream content) throws IOException {
+        this(GeospatialParser.createParser(content));
+    }
+
+    private GeoJSONFeatureReader(final XContentParser parser) throws IOException {
+        this.parser = parser;
+        try {
+            moveToData();
+        } catch (IOException | RuntimeException e) {
+            parser.close();
+            throw e;
+        }
+    }
+
+    // move parser to the beginning of data field, skipping other fields without parsing their value
+    private void moveToData() throws IOException {
+        XContentParserUtils.ensureExpectedToken(XContentParser.Token.START_OBJECT, parser.nextToken(), parser);
+        while (parser.nextToken() == XContentParser.Token.FIELD_NAME) {
+            final String fieldName = parser.currentName();
+            final XContentParser.Token token = parser.nextToken();
+            if (FIELD_DATA.getPreferredName().equals(fieldName) && token == XContentParser.Token.START_ARRAY) {
+                return;
+            }
+            parser.skipChildren();
+        }
+        done = true;
+    }
+
+    @Override
+    public Map<String, Object> nextFeature() throws IOException {
+        while (pending.isEmpty()) {
+            if (done) {
+                return null;
+            }
+            if (readingFeatures) {
+                final XContentParser.Token token = parser.nextToken();
+                if (token == XContentParser.Token.END_ARRAY) {
+                    readingFeatures = false;
+                    continue;
+                }
+                final Object feature = GeospatialParser.parseValue(parser);
+                // Feature parsed as Map is returned as it is, without a copy
+                return feature instanceof Map ? (Map<String, Object>) feature : GeospatialParser.toStringObjectMap(feature);
+            }
+            if (current != null) {
+                readCurrent();
+                continue;
+            }
+            final XContentParser.Token token = parser.nextToken();
+            if (token == XContentParser.Token.END_ARRAY) {
+                done = true;
+                continue;
+            }
+            if (token != XContentParser.Token.START_OBJECT) {
+                throw new IllegalArgumentException(
+                    "field [ " + FIELD_DATA.getPreferredName() + " ] should only contain GeoJSON objects, but found [ " + token + " ]"
+                );
+            }
+            current = new HashMap<>();
+        }
+        return pending.poll();
+    }
+
+    // read members of current GeoJSON object till the end of the object, or, till the beginning of features array.
+    private void readCurrent() throws IOException {
+        while (parser.nextToken() == XContentParser.Token.FIELD_NAME) {
+            final String name = parser.currentName();
+            final XContentParser.Token token = parser.nextToken();
+            if (FeatureCollection.FEATURES_KEY.equals(name) && token == XContentParser.Token.START_ARRAY && canBeFeatureCollection()) {
+                readingFeatures = true;
+                featuresRead = true;
+                return;
+            }
+            current.put(name, GeospatialParser.parseValue(parser));
+        }
+        if (featuresRead) {
+            // features were read before type is known, confirm it was a FeatureCollection
+            FeatureCollection.create(current);
+        } else {
+            pending.addAll(GeospatialParser.getFeatures(current));
+        }
+        current = null;
+        featuresRead = false;
+    }
+
+    private boolean canBeFeatureCollection() {
+        final Object type = current.get(FeatureCollection.TYPE_KEY);
+        return type == null || FeatureCollection.TYPE.equalsIgnoreCase(type.toString());
+    }
+
+    @Override
+    public void close() throws IOException {
+        parser.close();
+    }
+}
@@ -0,0 +1,237 @@
+/*
+ * Copyright OpenSearch Contributors
+ * SPDX-License-Identifier: Apache-2.0
+ */
+
+package org.opensearch.geospatial.action.upload.geojson;
+
+import java.io.IOException;
+import java.io.InputStream;
+import java.util.ArrayDeque;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Map;
+import java.util.Objects;
+import java.util.Queue;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.CompletionException;
+import java.util.concurrent.Executor;
+import java.util.concurrent.RejectedExecutionException;
+import java.util.concurrent.atomic.AtomicBoolean;
+
+import org.apache.lucene.util.BytesRef;
+import org.opensearch.core.common.bytes.BytesArray;
+import org.opensearch.core.common.bytes.BytesReference;
+import org.opensearch.core.xcontent.XContentParser;
+import org.opensearch.geospatial.GeospatialParser;
+
+/**
+ * GeoJSONSeqFeatureReader reads GeoJSON Features from newline delimited GeoJSON (RFC 8142), where every line is
+ * a GeoJSON object. There is no object around the lines, hence, lines are independent of each other. Lines are read
+ * in batches, and every batch is split into slices which are parsed in parallel on given executor, along with the
+ * calling thread. Features are returned in the order of lines. If content is given as a stream, it is read in chunks
+ * as lines are needed.
+ */
+public final class GeoJSONSeqFeatureReader implements FeatureReader {
+    // Max number of lines parsed together
+    static final int LINES_PER_BATCH = 1_000;
+    private static final byte LINE_FEED = '\n';
+    // RFC 8142 prefixes every GeoJSON text with record separator
+    private static final byte RECORD_SEPARATOR = 0x1E;
+    // Min number of bytes read from stream at a time
+    static final int CHUNK_SIZE = 1024 * 1024;
+
+    // stream to read content from, null if whole content is given
+    private final InputStream input;
+    private final Executor executor;
+    private final int parallelism;
+    // Features which are parsed, but, not returned yet
+    private final Queue<Map<String, Object>> pending = new ArrayDeque<>();
+    // content which is read, but, not split into lines yet
+    private BytesReference content;
+    // position of the next line to read in content
+    private int offset;
+    private long lineNumber;
+    private boolean endOfInput;
+
+    /**
+     * Creates a reader over newline delimited GeoJSON
+     * @param content newline delimited GeoJSON
+     * @param executor executor to parse lines on
+     * @param parallelism max number of slices of a batch to be parsed in parallel
+     */
+    public GeoJSONSeqFeatureReader(final BytesReference content, final Executor executor, final int parallelism) {
+        this(null, Objects.requireNonNull(content, "content cannot be null"), executor, parallelism);
+    }
+
+    /**
+     * Creates a reader over newline delimited GeoJSON as a stream
+     * @param input newline delimited GeoJSON, which is closed when this reader is closed
+     * @param executor executor to parse lines on
+     * @param parallelism max number of slices of a batch to be parsed in parallel
+     */
+    public GeoJSONSeqFeatureReader(final InputStream input, final Executor executor, final int parallelism) {
+        this(Objects.requireNonNull(input, "input cannot be null"), BytesArray.EMPTY, executor, parallelism);
+    }
+
+    private GeoJSONSeqFeatureReader(
+        final InputStream input,
+        final BytesReference content,
+        final Executor executor,
+        final int parallelism
+    ) {
+        this.input = input;
+        this.content = content;
+        this.executor = Objects.requireNonNull(executor, "executor cannot be null");
+        if (parallelism < 1) {
+            throw new IllegalArgumentException("parallelism should be at least 1");
+        }
+        this.parallelism = parallelism;
+    }
+
+    @Override
+    public Map<String, Object> nextFeature() throws IOException {
+        while (pending.isEmpty() && hasMoreLines()) {
+            readBatch();
+        }
+        return pending.poll();
+    }
+
+    private boolean hasMoreLines() throws IOException {
+        return offset < content.length() || readChunk();
+    }
+
+    // parse slices of next lines in parallel. The last slice is parsed by the calling thread, instead of waiting idle,
+    // and so is every slice which is rejected by, or, not started yet on the executor. Hence, an upload doesn't fail
+    // if the executor is busy, and, a calling thread of the executor never waits for slices queued behind itself.
+    private void readBatch() throws IOException {
+        final List<Line> lines = nextLines();
+        final int sliceSize = Math.max(1, (lines.size() + parallelism - 1) / parallelism);
+        final List<Slice> slices = new ArrayList<>();
+        int from = 0;
+        for (; from + sliceSize < lines.size(); from += sliceSize) {
+            final Slice slice = new Slice(lines.subList(from, from + sliceSize));
+            slices.add(slice);
+            try {
+                executor.execute(slice);
+            } catch (RejectedExecutionException e) {
+                // parsed by the calling thread below
+            }
+        }
+        final List<Map<String, Object>> lastSlice = parseLines(lines.subList(from, lines.size()));
+        for (Slice slice : slices) {
+            slice.run();
+            pending.addAll(join(slice.features));
+        }
+        pending.addAll(lastSlice);
+    }
+
+    private List<Line> nextLines() throws IOException {
+        final List<Line> lines = new ArrayList<>();
+        while (lines.size() < LINES_PER_BATCH && hasMoreLines()) {
+            int end;
+            while ((end = content.indexOf(LINE_FEED, offset)) < 0 && readChunk()) {
+                // read till the end of line, or, the end of content
+            }
+            if (end < 0) {
+                end = content.length();
+            }
+            lineNumber++;
+            int start = offset;
+            offset = Math.min(end + 1, content.length());
+            // skip record separator and white spaces around GeoJSON text
+            while (start < end && (content.get(start) == RECORD_SEPARATOR || Character.isWhitespace(content.get(start)))) {
+                start++;
+            }
+            while (end > start && Character.isWhitespace(content.get(end - 1))) {
+                end--;
+            }
+            if (start < end) {
+                lines.add(new Line(lineNumber, content.slice(start, end - start)));
+            }
+        }
+        return lines;
+    }
+
+    // append next chunk of the stream to the part of content which is not read yet. Returns false at the end of stream.
+    private boolean readChunk() throws IOException {
+        if (input == null || endOfInput) {
+            return false;
+        }
+        final int remaining = content.length() - offset;
+        // grow chunk with the line being read, so that a long line is not copied once per chunk
+        final int chunkSize = Math.max(CHUNK_SIZE, remaining);
+        final byte[] bytes = new byte[remaining + chunkSize];
+        final BytesRef unread = content.slice(offset, remaining).toBytesRef();
+        System.arraycopy(unread.bytes, unread.offset, bytes, 0, remaining);
+        final int read = input.readNBytes(bytes, remaining, chunkSize);
+        endOfInput = read < chunkSize;
+        content = new BytesArray(bytes, 0, remaining + read);
+        offset = 0;
+        return read > 0;
+    }
+
+    private static List<Map<String, Object>> parseLines(final List<Line> lines) {
+        final List<Map<String, Object>> features = new ArrayList<>();
+        for (Line line : lines) {
+            try (XContentParser parser = GeospatialParser.createParser(line.bytes)) {
+                features.addAll(GeospatialParser.getFeatures(parser.map()));
+            } catch (IOException | RuntimeException e) {
+                throw new IllegalArgumentException("failed to parse line [ " + line.number + " ] due to " + e.getMessage(), e);
+            }
+        }
+        return features;
+    }
+
+    private static List<Map<String, Object>> join(final CompletableFuture<List<Map<String, Object>>> slice) {
+        try {
+            return slice.join();
+        } catch (CompletionException e) {
+            if (e.getCause() instanceof RuntimeException) {
+                throw (RuntimeException) e.getCause();
+            }
+            throw e;
+        }
+    }
+
+    @Override
+    public void close() throws IOException {
+        pending.clear();
+        if (input != null) {
+            input.close();
+        }
+    }
+
+    // slice of lines which is parsed once, by either a thread of the executor, or, the calling thread, whichever comes first
+    private static final class Slice implements Runnable {
+        private final List<Line> lines;
+        private final AtomicBoolean claimed = new AtomicBoolean();
+        private final CompletableFuture<List<Map<String, Object>>> features = new CompletableFuture<>();
+
+        private Slice(final List<Line> lines) {
+            this.lines = lines;
+        }
+
+        @Override
+        public void run() {
+            if (claimed.compareAndSet(false, true) == false) {
+                return;
+            }
+            try {
+                features.complete(parseLines(lines));
+            } catch (RuntimeException e) {
+                features.completeExceptionally(e);
+            }
+        }
+    }
+
+    private static final class Line {
+        private final long number;
+        private final BytesReference bytes;
+
+        private Line(final long number, final BytesReference bytes) {
+            this.number = number;
+            this.bytes = bytes;
+        }
+    }
+}
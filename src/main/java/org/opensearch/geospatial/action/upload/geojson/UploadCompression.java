@@ -0,0 +1,86 @@
+/*
+ * Copyright OpenSearch Contributors
+ * SPDX-License-Identifier: Apache-2.0
+ */
+
+package org.opensearch.geospatial.action.upload.geojson;
+
+import java.io.IOException;
+import java.io.InputStream;
+import java.util.Arrays;
+import java.util.Locale;
+import java.util.zip.GZIPInputStream;
+import java.util.zip.InflaterInputStream;
+
+/**
+ * Compression of the body of UploadGeoJSONRequest. Body is decompressed as a stream while Features are read,
+ * hence, decompressed body is never held in memory as a whole.
+ */
+public enum UploadCompression {
+    /**
+     * Body is not compressed
+     */
+    NONE {
+        @Override
+        public InputStream decompress(final InputStream input) {
+            return input;
+        }
+    },
+    /**
+     * Body is compressed by gzip (RFC 1952)
+     */
+    GZIP {
+        @Override
+        public InputStream decompress(final InputStream input) throws IOException {
+            return new GZIPInputStream(input, BUFFER_SIZE);
+        }
+    },
+    /**
+     * Body is compressed by deflate in zlib format (RFC 1950)
+     */
+    DEFLATE {
+        @Override
+        public InputStream decompress(final InputStream input) {
+            return new InflaterInputStream(input);
+        }
+    };
+
+    private static final int BUFFER_SIZE = 8 * 1024;
+
+    /**
+     * Wraps given stream to read decompressed content
+     * @param input compressed content
+     * @return stream of decompressed content
+     * @throws IOException if content is not compressed by this compression
+     */
+    public abstract InputStream decompress(InputStream input) throws IOException;
+
+    /**
+     * @return name of the compression used in request parameter
+     */
+    public String getName() {
+        return name().toLowerCase(Locale.ROOT);
+    }
+
+    /**
+     * Returns UploadCompression of given name
+     * @param name name of the compression
+     * @return UploadCompression of given name
+     * @throws IllegalArgumentException if there is no compression of given name
+     */
+    public static UploadCompression fromName(final String name) {
+        return Arrays.stream(values())
+            .filter(compression -> compression.getName().equals(name))
+            .findFirst()
+            .orElseThrow(
+                () -> new IllegalArgumentException(
+                    String.format(
+                        Locale.ROOT,
+                        "unsupported compression [ %s ], supported compressions are %s",
+                        name,
+                        Arrays.stream(values()).map(UploadCompression::getName).toList()
+                    )
+                )
+            );
+    }
+}
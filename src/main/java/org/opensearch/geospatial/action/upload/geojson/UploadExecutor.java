@@ -0,0 +1,62 @@
+/*
+ * Copyright OpenSearch Contributors
+ * SPDX-License-Identifier: Apache-2.0
+ */
+
+package org.opensearch.geospatial.action.upload.geojson;
+
+import java.util.concurrent.ExecutorService;
+
+import org.opensearch.common.settings.Settings;
+import org.opensearch.common.util.concurrent.OpenSearchExecutors;
+import org.opensearch.threadpool.ExecutorBuilder;
+import org.opensearch.threadpool.FixedExecutorBuilder;
+import org.opensearch.threadpool.ThreadPool;
+
+/**
+ * Provide executors for GeoJSON upload
+ */
+public class UploadExecutor {
+    private static final String THREAD_POOL_NAME = "_plugin_geospatial_geojson_upload";
+    private static final int QUEUE_SIZE = 1000;
+    private final ThreadPool threadPool;
+
+    public UploadExecutor(final ThreadPool threadPool) {
+        this.threadPool = threadPool;
+    }
+
+    /**
+     * Thread count is bounded by the number of processors, as parsing uploaded GeoJSON is CPU bound.
+     *
+     * @param settings the settings
+     * @return the executor builder
+     */
+    public static ExecutorBuilder executorBuilder(final Settings settings) {
+        return new FixedExecutorBuilder(
+            settings,
+            THREAD_POOL_NAME,
+            OpenSearchExecutors.allocatedProcessors(settings),
+            QUEUE_SIZE,
+            THREAD_POOL_NAME,
+            false
+        );
+    }
+
+    /**
+     * Return an executor service to parse uploaded GeoJSON in parallel
+     *
+     * @return the executor service
+     */
+    public ExecutorService forParsing() {
+        return threadPool.executor(THREAD_POOL_NAME);
+    }
+
+    /**
+     * Return max number of parsing tasks of an upload to run in parallel, which is the thread count of the executor
+     *
+     * @return the parallelism
+     */
+    public int getParsingParallelism() {
+        return threadPool.info(THREAD_POOL_NAME).getMax();
+    }
+}
@@ -0,0 +1,56 @@
+/*
+ * Copyright OpenSearch Contributors
+ * SPDX-License-Identifier: Apache-2.0
+ */
+
+package org.opensearch.geospatial.action.upload.geojson;
+
+import java.util.Arrays;
+import java.util.Locale;
+
+/**
+ * Format of the body of UploadGeoJSONRequest
+ */
+public enum UploadFormat {
+    /**
+     * A JSON object with index, field, type and data fields, where data is an array of GeoJSON objects
+     */
+    GEOJSON,
+    /**
+     * Newline delimited GeoJSON objects (RFC 8142), where index, field and type are provided as request parameters
+     */
+    GEOJSON_SEQ,
+    /**
+     * FlatGeobuf binary encoded Features, where index, field and type are provided as request parameters
+     */
+    FLATGEOBUF;
+
+    /**
+     * @return name of the format used in request parameter
+     */
+    public String getName() {
+        return name().replace("_", "").toLowerCase(Locale.ROOT);
+    }
+
+    /**
+     * Returns UploadFormat of given name
+     * @param name name of the format
+     * @return UploadFormat of given name
+     * @throws IllegalArgumentException if there is no format of given name
+     */
+    public static UploadFormat fromName(final String name) {
+        return Arrays.stream(values())
+            .filter(format -> format.getName().equals(name))
+            .findFirst()
+            .orElseThrow(
+                () -> new IllegalArgumentException(
+                    String.format(
+                        Locale.ROOT,
+                        "unsupported format [ %s ], supported formats are %s",
+                        name,
+                        Arrays.stream(values()).map(UploadFormat::getName).toList()
+                    )
+                )
+            );
+    }
+}
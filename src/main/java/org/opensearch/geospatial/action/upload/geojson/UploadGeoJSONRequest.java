@@ -12,6 +12,7 @@
 package org.opensearch.geospatial.action.upload.geojson;
 
 import java.io.IOException;
+import java.util.Map;
 import java.util.Objects;
 
 import org.opensearch.action.ActionRequest;
@@ -19,13 +20,18 @@ import org.opensearch.action.ActionRequestValidationException;
 import org.opensearch.core.common.bytes.BytesReference;
 import org.opensearch.core.common.io.stream.StreamInput;
 import org.opensearch.core.common.io.stream.StreamOutput;
+import org.opensearch.core.tasks.TaskId;
+import org.opensearch.geospatial.routing.SpatialRouting;
 import org.opensearch.rest.RestRequest;
+import org.opensearch.tasks.Task;
 
-import lombok.AllArgsConstructor;
+import lombok.AccessLevel;
 import lombok.Getter;
 import lombok.NonNull;
+import lombok.RequiredArgsConstructor;
+import lombok.Setter;
 
-@AllArgsConstructor
+@RequiredArgsConstructor
 @Getter
 public class UploadGeoJSONRequest extends ActionRequest {
 
@@ -37,22 +43,103 @@ public class UploadGeoJSONRequest extends ActionRequest {
     private final RestRequest.Method method;
     @NonNull
     private final BytesReference content;
+    /**
+     * Whether the result of the upload should be stored in tasks index once the upload is completed.
+     * This is set when the upload is run in background, so that its result can be retrieved through tasks API.
+     * It is not serialized, since, the upload is always executed on the node which received the request.
+     */
+    @Getter(AccessLevel.NONE)
+    @Setter
+    private boolean shouldStoreResult;
+    /**
+     * Format of the content
+     */
+    @NonNull
+    @Setter
+    private UploadFormat format = UploadFormat.GEOJSON;
+    /**
+     * Index, field and type of the upload for formats whose content doesn't have them, like GeoJSONSeq
+     */
+    @NonNull
+    @Setter
+    private Map<String, String> metadata = Map.of();
+    /**
+     * Compression of the content
+     */
+    @NonNull
+    @Setter
+    private UploadCompression compression = UploadCompression.NONE;
+    /**
+     * Whether Features with id, which are not changed since they were uploaded to the index, should be skipped
+     */
+    @Setter
+    private boolean skipUnchanged;
+    /**
+     * Routing of documents by their geometry, null if documents are routed by their id
+     */
+    @Setter
+    private SpatialRouting spatialRouting;
+    /**
+     * Tolerance of simplification of geometries before they are uploaded, 0 if geometries are uploaded as they are
+     */
+    @Setter
+    private double simplify;
+    /**
+     * Whether geometries are stored in the source of documents as compact binary, only for xy_shape field
+     */
+    @Setter
+    private boolean compactGeometry;
 
     public UploadGeoJSONRequest(StreamInput in) throws IOException {
         super(in);
         this.content = Objects.requireNonNull(in.readBytesReference(), "data is missing");
         this.method = Objects.requireNonNull(in.readEnum(RestRequest.Method.class), "RestRequest Method is missing");
+        this.format = in.readEnum(UploadFormat.class);
+        this.metadata = in.readMap(StreamInput::readString, StreamInput::readString);
+        this.compression = in.readEnum(UploadCompression.class);
+        this.skipUnchanged = in.readBoolean();
+        this.spatialRouting = in.readOptionalWriteable(SpatialRouting::new);
+        this.simplify = in.readDouble();
+        this.compactGeometry = in.readBoolean();
     }
 
     @Override
     public ActionRequestValidationException validate() {
+        // stored documents are found by id only on the shard of their current geometry, which may have moved since
+        if (skipUnchanged && spatialRouting != null) {
+            ActionRequestValidationException errors = new ActionRequestValidationException();
+            errors.addValidationError("skip_unchanged is not supported with spatial_routing");
+            return errors;
+        }
         return null;
     }
 
+    @Override
+    public boolean getShouldStoreResult() {
+        return shouldStoreResult;
+    }
+
+    @Override
+    public String getDescription() {
+        return "upload " + format.getName() + " of [" + content.length() + "] bytes";
+    }
+
+    @Override
+    public Task createTask(long id, String type, String action, TaskId parentTaskId, Map<String, String> headers) {
+        return new UploadGeoJSONTask(id, type, action, getDescription(), parentTaskId, headers);
+    }
+
     @Override
     public void writeTo(StreamOutput out) throws IOException {
         super.writeTo(out);
         out.writeBytesReference(content);
         out.writeEnum(method);
+        out.writeEnum(format);
+        out.writeMap(metadata, StreamOutput::writeString, StreamOutput::writeString);
+        out.writeEnum(compression);
+        out.writeBoolean(skipUnchanged);
+        out.writeOptionalWriteable(spatialRouting);
+        out.writeDouble(simplify);
+        out.writeBoolean(compactGeometry);
     }
 }
@@ -7,17 +7,21 @@ package org.opensearch.geospatial.action.upload.geojson;
 
 import static org.opensearch.geospatial.GeospatialParser.extractValueAsString;
 
-import java.util.ArrayDeque;
-import java.util.List;
+import java.io.IOException;
+import java.io.InputStream;
+import java.util.HashMap;
 import java.util.Locale;
 import java.util.Map;
 import java.util.Objects;
-import java.util.Queue;
+import java.util.concurrent.Executor;
 
+import org.opensearch.common.CheckedSupplier;
 import org.opensearch.core.ParseField;
 import org.opensearch.core.common.Strings;
+import org.opensearch.core.common.bytes.BytesReference;
+import org.opensearch.core.xcontent.XContentParser;
+import org.opensearch.core.xcontent.XContentParserUtils;
 import org.opensearch.geospatial.GeospatialParser;
-import org.opensearch.geospatial.geojson.Feature;
 import org.opensearch.geospatial.settings.GeospatialSettingsAccessor;
 
 import lombok.AccessLevel;
@@ -35,10 +39,6 @@ public final class UploadGeoJSONRequestContent {
     public static final ParseField FIELD_GEOSPATIAL_TYPE = new ParseField("type");
     public static final ParseField FIELD_DATA = new ParseField("data");
 
-    // Custom Vector Map can support fetching up to 10K Features. Hence, we chose same value as limit
-    // for upload as well.
-    public static final int MAX_SUPPORTED_GEOJSON_FEATURE_COUNT = 10_000;
-
     // Static reference to settings accessor for dynamic geometric complexity limits
     private static volatile GeospatialSettingsAccessor settingsAccessor;
 
@@ -51,290 +51,208 @@ public final class UploadGeoJSONRequestContent {
         settingsAccessor = accessor;
     }
 
-    // GeoJSON geometry type constants
-    private static final String GEOMETRY_TYPE_LINESTRING = "LineString";
-    private static final String GEOMETRY_TYPE_POLYGON = "Polygon";
-    private static final String GEOMETRY_TYPE_MULTILINESTRING = "MultiLineString";
-    private static final String GEOMETRY_TYPE_MULTIPOLYGON = "MultiPolygon";
-    private static final String GEOMETRY_TYPE_GEOMETRYCOLLECTION = "GeometryCollection";
     private final String indexName;
     private final String fieldName;
     private final String fieldType;
-    private final List<Object> data;
+    // creates a new reader over the content of the upload
+    private final CheckedSupplier<FeatureReader, IOException> readers;
+    private final long featureCount;
 
     /**
      * Creates UploadGeoJSONRequestContent from the user input
-     * @param input user input of type Map
+     *
+     * The input is parsed as a stream. Data is not converted to Map at once, instead, every Feature is
+     * validated one at a time, so that the number of Features is limited only by the size of the input.
+     * @param content user input of type BytesReference
      * @return UploadGeoJSONRequestContent based on value from input
      * @throws NullPointerException if input is null
      * @throws IllegalArgumentException if input doesn't have valid arguments
      */
-    public static UploadGeoJSONRequestContent create(Map<String, Object> input) {
-        Objects.requireNonNull(input, "input cannot be null");
-        final String index = validateIndexName(input);
-        String fieldName = extractValueAsString(input, FIELD_GEOSPATIAL.getPreferredName());
-        if (!Strings.hasText(fieldName)) {
-            fieldName = GEOSPATIAL_DEFAULT_FIELD_NAME; // use default filed name, if field name is empty
-        }
-        final String fieldType = extractValueAsString(input, FIELD_GEOSPATIAL_TYPE.getPreferredName());
-        if (!Strings.hasText(fieldType)) {
-            throw new IllegalArgumentException("field [ " + FIELD_GEOSPATIAL_TYPE.getPreferredName() + " ] cannot be empty");
-        }
-        final Object geoJSONData = Objects.requireNonNull(
-            input.get(FIELD_DATA.getPreferredName()),
-            "field [ " + FIELD_DATA.getPreferredName() + " ] cannot be empty"
-        );
-        if (!(geoJSONData instanceof List)) {
-            throw new IllegalArgumentException(
-                geoJSONData + " is not an instance of List, but of type [ " + geoJSONData.getClass().getName() + " ]"
-            );
-        }
-        validateFeatureCount(geoJSONData);
-        validateGeometricComplexity(geoJSONData);
-        return new UploadGeoJSONRequestContent(index, fieldName, fieldType, (List<Object>) geoJSONData);
-    }
-
-    private static void validateFeatureCount(Object geoJSONData) {
-        final long featureCount = getFeatureCount(geoJSONData);
-        if (featureCount > MAX_SUPPORTED_GEOJSON_FEATURE_COUNT) {
-            throw new IllegalArgumentException(
-                String.format(
-                    Locale.ROOT,
-                    "Received %d features, but, cannot upload more than %d features",
-                    featureCount,
-                    MAX_SUPPORTED_GEOJSON_FEATURE_COUNT
-                )
-            );
-        }
-    }
-
-    private static long getFeatureCount(Object geoJSONData) {
-        return ((List<Object>) geoJSONData).stream()
-            .map(GeospatialParser::toStringObjectMap)
-            .map(GeospatialParser::getFeatures)
-            .flatMap(List::stream)
-            .count();
+    public static UploadGeoJSONRequestContent create(BytesReference content) {
+        return create(content, UploadCompression.NONE);
     }
 
     /**
-     * Validates geometric complexity limits using iterative approach
-     * @param geoJSONData input data containing features
+     * Creates UploadGeoJSONRequestContent from the compressed user input
+     *
+     * The input is decompressed as a stream whenever it is read, hence, decompressed input is never held in memory.
+     * @param content user input of type BytesReference
+     * @param compression compression of the input
+     * @return UploadGeoJSONRequestContent based on value from input
+     * @throws NullPointerException if input is null
+     * @throws IllegalArgumentException if input doesn't have valid arguments
      */
-    private static void validateGeometricComplexity(Object geoJSONData) {
-        List<Object> dataList = (List<Object>) geoJSONData;
-
-        for (Object item : dataList) {
-            Map<String, Object> geoJSON = GeospatialParser.toStringObjectMap(item);
-            List<Map<String, Object>> features = GeospatialParser.getFeatures(geoJSON);
-
-            for (Map<String, Object> feature : features) {
-                Object geometryObj = feature.get(Feature.GEOMETRY_KEY);
-                if (geometryObj == null) continue;
-
-                Map<String, Object> geometry = GeospatialParser.toStringObjectMap(geometryObj);
-                validateGeometryIterative(geometry);
-            }
-        }
+    public static UploadGeoJSONRequestContent create(BytesReference content, UploadCompression compression) {
+        return create(content, compression, false);
     }
 
     /**
-     * Helper class to track geometries in validation queue
+     * Creates UploadGeoJSONRequestContent from the compressed user input, same as {@link #create(BytesReference, UploadCompression)}
+     *
+     * @param content user input of type BytesReference
+     * @param compression compression of the input
+     * @param spatialRouting whether documents are routed by their geometry, if so, Features with id are rejected
+     * @return UploadGeoJSONRequestContent based on value from input
+     * @throws NullPointerException if input is null
+     * @throws IllegalArgumentException if input doesn't have valid arguments
      */
-    private static class GeometryDepthPair {
-        final Map<String, Object> geometry;
-        final int depth;
-
-        GeometryDepthPair(Map<String, Object> geometry, int depth) {
-            this.geometry = geometry;
-            this.depth = depth;
+    public static UploadGeoJSONRequestContent create(BytesReference content, UploadCompression compression, boolean spatialRouting) {
+        Objects.requireNonNull(content, "input cannot be null");
+        Objects.requireNonNull(compression, "compression cannot be null");
+        try {
+            final Map<String, Object> input = parseFieldsExceptData(decompress(content, compression));
+            Objects.requireNonNull(
+                input.get(FIELD_DATA.getPreferredName()),
+                "field [ " + FIELD_DATA.getPreferredName() + " ] cannot be empty"
+            );
+            return create(input, () -> new GeoJSONFeatureReader(decompress(content, compression)), spatialRouting);
+        } catch (IOException e) {
+            throw new IllegalArgumentException("failed to parse GeoJSON content due to " + e.getMessage(), e);
         }
     }
 
     /**
-     * Iteratively validates a geometry object using a queue to avoid stack overflow
-     * @param rootGeometry the root geometry to validate
+     * Creates UploadGeoJSONRequestContent from newline delimited GeoJSON (RFC 8142)
+     *
+     * Since there is no object around GeoJSON texts, index, field and type are provided separately.
+     * Lines are parsed in parallel on given executor.
+     * @param content newline delimited GeoJSON
+     * @param compression compression of the content
+     * @param metadata index, field and type of the upload
+     * @param executor executor to parse lines on
+     * @param parallelism max number of parsing tasks to run in parallel
+     * @param spatialRouting whether documents are routed by their geometry, if so, Features with id are rejected
+     * @return UploadGeoJSONRequestContent based on value from input
+     * @throws NullPointerException if input is null
+     * @throws IllegalArgumentException if input doesn't have valid arguments
      */
-    private static void validateGeometryIterative(Map<String, Object> rootGeometry) {
-        Queue<GeometryDepthPair> queue = new ArrayDeque<>();
-        queue.add(new GeometryDepthPair(rootGeometry, 0));
-
-        while (!queue.isEmpty()) {
-            GeometryDepthPair current = queue.poll();
-
-            // Check depth limit
-            if (current.depth > settingsAccessor.getMaxGeometryCollectionNestedDepth()) {
-                throw new IllegalArgumentException(
-                    String.format(
-                        Locale.ROOT,
-                        "GeometryCollection nesting depth %d exceeds limit of %d",
-                        current.depth,
-                        settingsAccessor.getMaxGeometryCollectionNestedDepth()
-                    )
-                );
-            }
-
-            String type = GeospatialParser.extractValueAsString(current.geometry, "type");
-            if (type == null) continue;
-
-            // Handle GeometryCollection separately (uses "geometries" not "coordinates")
-            if (GEOMETRY_TYPE_GEOMETRYCOLLECTION.equals(type)) {
-                Object geometries = current.geometry.get("geometries");
-                if (!(geometries instanceof List)) continue;
-
-                List<?> geometryList = (List<?>) geometries;
-
-                // Validate collection size
-                if (geometryList.size() > settingsAccessor.getMaxMultiGeometries()) {
-                    throw new IllegalArgumentException(
-                        String.format(
-                            Locale.ROOT,
-                            "GeometryCollection has %d geometries, exceeds limit of %d",
-                            geometryList.size(),
-                            settingsAccessor.getMaxMultiGeometries()
-                        )
-                    );
-                }
-
-                // Add child geometries to queue with incremented depth
-                for (Object geomObj : geometryList) {
-                    if (geomObj instanceof Map) {
-                        Map<String, Object> childGeometry = (Map<String, Object>) geomObj;
-                        queue.add(new GeometryDepthPair(childGeometry, current.depth + 1));
-                    }
-                }
-                continue;
-            }
-
-            // All other geometry types use "coordinates" - validate early
-            Object coordinates = current.geometry.get("coordinates");
-            if (!(coordinates instanceof List)) continue;
-
-            List<?> coordList = (List<?>) coordinates;
-
-            // Validate based on geometry type
-            switch (type) {
-                case GEOMETRY_TYPE_LINESTRING:
-                    validateLineString(coordList);
-                    break;
-                case GEOMETRY_TYPE_POLYGON:
-                    validatePolygon(coordList);
-                    break;
-                case GEOMETRY_TYPE_MULTILINESTRING:
-                    validateMultiLineString(coordList);
-                    break;
-                case GEOMETRY_TYPE_MULTIPOLYGON:
-                    validateMultiPolygon(coordList);
-                    break;
-                default:
-                    // Unknown geometry type, skip validation
-                    break;
+    public static UploadGeoJSONRequestContent createFromGeoJSONSeq(
+        BytesReference content,
+        UploadCompression compression,
+        Map<String, Object> metadata,
+        Executor executor,
+        int parallelism,
+        boolean spatialRouting
+    ) {
+        Objects.requireNonNull(content, "input cannot be null");
+        Objects.requireNonNull(compression, "compression cannot be null");
+        Objects.requireNonNull(metadata, "metadata cannot be null");
+        try {
+            if (compression == UploadCompression.NONE) {
+                // lines are sliced from the content without copying
+                return create(metadata, () -> new GeoJSONSeqFeatureReader(content, executor, parallelism), spatialRouting);
             }
+            return create(
+                metadata,
+                () -> new GeoJSONSeqFeatureReader(decompress(content, compression), executor, parallelism),
+                spatialRouting
+            );
+        } catch (IOException e) {
+            throw new IllegalArgumentException("failed to parse GeoJSON content due to " + e.getMessage(), e);
         }
     }
 
     /**
-     * Validates LineString coordinate count
+     * Creates UploadGeoJSONRequestContent from FlatGeobuf
+     *
+     * FlatGeobuf doesn't have index, field and type, hence, they are provided separately.
+     * @param content FlatGeobuf
+     * @param compression compression of the content
+     * @param metadata index, field and type of the upload
+     * @param spatialRouting whether documents are routed by their geometry, if so, Features with id are rejected
+     * @return UploadGeoJSONRequestContent based on value from input
+     * @throws NullPointerException if input is null
+     * @throws IllegalArgumentException if input doesn't have valid arguments
      */
-    private static void validateLineString(List<?> coordinates) {
-        if (coordinates.size() > settingsAccessor.getMaxCoordinatesPerGeometry()) {
-            throw new IllegalArgumentException(
-                String.format(
-                    Locale.ROOT,
-                    "LineString has %d coordinates, exceeds limit of %d",
-                    coordinates.size(),
-                    settingsAccessor.getMaxCoordinatesPerGeometry()
-                )
-            );
+    public static UploadGeoJSONRequestContent createFromFlatGeobuf(
+        BytesReference content,
+        UploadCompression compression,
+        Map<String, Object> metadata,
+        boolean spatialRouting
+    ) {
+        Objects.requireNonNull(content, "input cannot be null");
+        Objects.requireNonNull(compression, "compression cannot be null");
+        Objects.requireNonNull(metadata, "metadata cannot be null");
+        try {
+            return create(metadata, () -> new FlatGeobufFeatureReader(decompress(content, compression)), spatialRouting);
+        } catch (IOException e) {
+            throw new IllegalArgumentException("failed to parse FlatGeobuf content due to " + e.getMessage(), e);
         }
     }
 
-    /**
-     * Validates Polygon rings (outer ring and holes)
-     */
-    private static void validatePolygon(List<?> rings) {
-        int holes = rings.size() - 1;
-        if (holes > settingsAccessor.getMaxHolesPerPolygon()) {
-            throw new IllegalArgumentException(
-                String.format(Locale.ROOT, "Polygon has %d holes, exceeds limit of %d", holes, settingsAccessor.getMaxHolesPerPolygon())
-            );
-        }
+    private static InputStream decompress(BytesReference content, UploadCompression compression) throws IOException {
+        return compression.decompress(content.streamInput());
+    }
 
-        // Validate outer ring
-        if (!rings.isEmpty() && rings.get(0) instanceof List) {
-            List<?> outerRing = (List<?>) rings.get(0);
-            if (outerRing.size() > settingsAccessor.getMaxCoordinatesPerGeometry()) {
-                throw new IllegalArgumentException(
-                    String.format(
-                        Locale.ROOT,
-                        "Polygon outer ring has %d coordinates, exceeds limit of %d",
-                        outerRing.size(),
-                        settingsAccessor.getMaxCoordinatesPerGeometry()
-                    )
-                );
-            }
+    private static UploadGeoJSONRequestContent create(
+        Map<String, Object> input,
+        CheckedSupplier<FeatureReader, IOException> readers,
+        boolean spatialRouting
+    ) throws IOException {
+        final String index = validateIndexName(input);
+        String fieldName = extractValueAsString(input, FIELD_GEOSPATIAL.getPreferredName());
+        if (!Strings.hasText(fieldName)) {
+            fieldName = GEOSPATIAL_DEFAULT_FIELD_NAME; // use default filed name, if field name is empty
+        }
+        final String fieldType = extractValueAsString(input, FIELD_GEOSPATIAL_TYPE.getPreferredName());
+        if (!Strings.hasText(fieldType)) {
+            throw new IllegalArgumentException("field [ " + FIELD_GEOSPATIAL_TYPE.getPreferredName() + " ] cannot be empty");
         }
+        final long featureCount = validateFeatures(readers, spatialRouting);
+        return new UploadGeoJSONRequestContent(index, fieldName, fieldType, readers, featureCount);
+    }
 
-        // Validate each hole (inner ring)
-        for (int i = 1; i < rings.size(); i++) {
-            if (rings.get(i) instanceof List) {
-                List<?> hole = (List<?>) rings.get(i);
-                if (hole.size() > settingsAccessor.getMaxCoordinatesPerGeometry()) {
-                    throw new IllegalArgumentException(
-                        String.format(
-                            Locale.ROOT,
-                            "Polygon hole %d has %d coordinates, exceeds limit of %d",
-                            i,
-                            hole.size(),
-                            settingsAccessor.getMaxCoordinatesPerGeometry()
-                        )
-                    );
+    // parse every field except data, which is only checked to be an array and skipped. The value of data field
+    // in returned Map is Boolean.TRUE if data is not null.
+    private static Map<String, Object> parseFieldsExceptData(InputStream content) throws IOException {
+        final Map<String, Object> input = new HashMap<>();
+        try (XContentParser parser = GeospatialParser.createParser(content)) {
+            XContentParserUtils.ensureExpectedToken(XContentParser.Token.START_OBJECT, parser.nextToken(), parser);
+            while (parser.nextToken() == XContentParser.Token.FIELD_NAME) {
+                final String fieldName = parser.currentName();
+                final XContentParser.Token token = parser.nextToken();
+                if (!FIELD_DATA.getPreferredName().equals(fieldName)) {
+                    input.put(fieldName, GeospatialParser.parseValue(parser));
+                    continue;
                 }
+                if (token == XContentParser.Token.VALUE_NULL) {
+                    continue;
+                }
+                if (token != XContentParser.Token.START_ARRAY) {
+                    throw new IllegalArgumentException("field [ " + FIELD_DATA.getPreferredName() + " ] is not an instance of List");
+                }
+                input.put(fieldName, Boolean.TRUE);
+                parser.skipChildren();
             }
         }
+        return input;
     }
 
-    /**
-     * Validates MultiLineString collection
-     */
-    private static void validateMultiLineString(List<?> lineStrings) {
-        if (lineStrings.size() > settingsAccessor.getMaxMultiGeometries()) {
-            throw new IllegalArgumentException(
-                String.format(
-                    Locale.ROOT,
-                    "MultiLineString has %d LineStrings, exceeds limit of %d",
-                    lineStrings.size(),
-                    settingsAccessor.getMaxMultiGeometries()
-                )
-            );
-        }
-
-        for (Object lineObj : lineStrings) {
-            if (lineObj instanceof List) {
-                validateLineString((List<?>) lineObj);
+    private static long validateFeatures(CheckedSupplier<FeatureReader, IOException> readers, boolean spatialRouting) throws IOException {
+        final FeatureDocumentConverter converter = FeatureDocumentConverter.fromSettings(settingsAccessor);
+        long featureCount = 0;
+        try (FeatureReader reader = readers.get()) {
+            Map<String, Object> feature;
+            while ((feature = reader.nextFeature()) != null) {
+                // fail before any Feature is indexed if a Feature cannot be transformed into a document
+                converter.validate(feature);
+                if (spatialRouting) {
+                    validateFeatureWithoutId(feature);
+                }
+                featureCount++;
             }
         }
+        return featureCount;
     }
 
-    /**
-     * Validates MultiPolygon collection
-     */
-    private static void validateMultiPolygon(List<?> polygons) {
-        if (polygons.size() > settingsAccessor.getMaxMultiGeometries()) {
+    // a Feature uploaded again with a moved geometry would be routed to another shard, and, would duplicate its id
+    private static void validateFeatureWithoutId(Map<String, Object> feature) {
+        final String id = extractValueAsString(feature, ContentBuilder.GEOJSON_FEATURE_ID_FIELD);
+        if (Strings.hasText(id)) {
             throw new IllegalArgumentException(
-                String.format(
-                    Locale.ROOT,
-                    "MultiPolygon has %d Polygons, exceeds limit of %d",
-                    polygons.size(),
-                    settingsAccessor.getMaxMultiGeometries()
-                )
+                String.format(Locale.ROOT, "Feature with id [%s] cannot be uploaded with spatial routing, since id must be unique", id)
             );
         }
-
-        for (Object polyObj : polygons) {
-            if (polyObj instanceof List) {
-                validatePolygon((List<?>) polyObj);
-            }
-        }
     }
 
     private static String validateIndexName(Map<String, Object> input) {
@@ -355,8 +273,20 @@ public final class UploadGeoJSONRequestContent {
         return fieldName;
     }
 
-    public List<Object> getData() {
-        return data;
+    /**
+     * Creates a reader to read Features of this content one at a time. Caller should close the reader.
+     * @return FeatureReader over this content
+     * @throws IOException if content cannot be parsed
+     */
+    public FeatureReader newFeatureReader() throws IOException {
+        return readers.get();
+    }
+
+    /**
+     * @return the number of Features in this content
+     */
+    public long getFeatureCount() {
+        return featureCount;
     }
 
     public String getFieldType() {
@@ -6,113 +6,211 @@
 package org.opensearch.geospatial.action.upload.geojson;
 
 import java.io.IOException;
-import java.util.Arrays;
+import java.util.ArrayList;
 import java.util.List;
-import java.util.stream.Collectors;
 
 import org.opensearch.action.bulk.BulkItemResponse;
 import org.opensearch.action.bulk.BulkResponse;
 import org.opensearch.core.action.ActionResponse;
 import org.opensearch.core.common.io.stream.StreamInput;
 import org.opensearch.core.common.io.stream.StreamOutput;
+import org.opensearch.core.common.io.stream.Writeable;
 import org.opensearch.core.xcontent.ToXContentObject;
 import org.opensearch.core.xcontent.XContentBuilder;
 
-//UploadGeoJSONResponse represents UploadGeoJSONRequest's Response
+import lombok.AllArgsConstructor;
+import lombok.Getter;
+
+/**
+ * UploadGeoJSONResponse represents UploadGeoJSONRequest's Response
+ *
+ * Response is a summary of all BulkResponses of an upload. Only the counts and the first
+ * {@link #MAX_FAILURES} failures are kept, hence, its size doesn't depend on the number of Features.
+ */
+@Getter
 public class UploadGeoJSONResponse extends ActionResponse implements ToXContentObject {
+    // Max number of failures to be reported in the response
+    public static final int MAX_FAILURES = 10;
     private static final String ERRORS = "errors";
     private static final String FAILURE = "failure";
     private static final String FAILURES = "failures";
     private static final String ID = "id";
     private static final String MESSAGE = "message";
-    private static final int NO_FAILURE = 0;
     private static final String STATUS = "status";
     private static final String SUCCESS = "success";
     private static final String TOTAL = "total";
     private static final String TOOK = "took";
+    private static final String UNCHANGED = "unchanged";
 
-    private final BulkResponse bulkResponse;
+    private final long tookInMillis;
+    private final long totalCount;
+    private final long failedCount;
+    private final long unchangedCount;
+    private final List<Failure> failures;
 
-    public UploadGeoJSONResponse(BulkResponse bulkResponse) {
+    private UploadGeoJSONResponse(Builder builder) {
         super();
-        this.bulkResponse = bulkResponse;
+        this.tookInMillis = builder.tookInMillis;
+        this.totalCount = builder.totalCount;
+        this.failedCount = builder.failedCount;
+        this.unchangedCount = builder.unchangedCount;
+        this.failures = List.copyOf(builder.failures);
     }
 
     public UploadGeoJSONResponse(StreamInput in) throws IOException {
         super(in);
-        this.bulkResponse = new BulkResponse(in);
+        this.tookInMillis = in.readVLong();
+        this.totalCount = in.readVLong();
+        this.failedCount = in.readVLong();
+        this.unchangedCount = in.readVLong();
+        this.failures = in.readList(Failure::new);
     }
 
     @Override
     public void writeTo(StreamOutput streamOutput) throws IOException {
-        this.bulkResponse.writeTo(streamOutput);
+        streamOutput.writeVLong(tookInMillis);
+        streamOutput.writeVLong(totalCount);
+        streamOutput.writeVLong(failedCount);
+        streamOutput.writeVLong(unchangedCount);
+        streamOutput.writeList(failures);
+    }
+
+    public long getSuccessCount() {
+        return totalCount - failedCount - unchangedCount;
+    }
+
+    public boolean hasFailures() {
+        return failedCount > 0;
     }
 
     @Override
     public XContentBuilder toXContent(XContentBuilder builder, Params params) throws IOException {
         /*
-        If BulkResponse has no failures:
+        If upload has no failures:
             {
               "took": 100,
               "errors": false,
               "total": 5,
               "success": 5,
-              "failure": 0
+              "failure": 0,
+              "unchanged": 0
             }
-        If BulkResponse has failures:
+        If upload has failures, only first MAX_FAILURES failures are listed:
             {
               "took": 100,
               "errors": true,
               "total": 4,
               "success": 2,
               "failure": 2,
+              "unchanged": 0,
               "failures": [
                   {
                     "id" : "DocId2",
+                    "status" : 400,
                     "message" : "failed to index due to ..."
                   },
                   {
                     "id" : "DocId3",
+                    "status" : 400,
                     "message" : "failed to index due to ..."
                   }
              ]
           }
          */
         builder.startObject();
-        builder.field(TOOK, bulkResponse.getTook().getMillis());
-        builder.field(ERRORS, bulkResponse.hasFailures());
-        builder.field(TOTAL, bulkResponse.getItems().length);
-        if (!bulkResponse.hasFailures()) {
-            buildSuccessXContent(builder);
+        builder.field(TOOK, tookInMillis);
+        builder.field(ERRORS, hasFailures());
+        builder.field(TOTAL, totalCount);
+        builder.field(SUCCESS, getSuccessCount());
+        builder.field(FAILURE, failedCount);
+        builder.field(UNCHANGED, unchangedCount);
+        if (!hasFailures()) {
             return builder.endObject();
         }
-        buildFailureXContent(builder);
+        builder.startArray(FAILURES);
+        for (Failure failure : failures) {
+            builder.startObject();
+            builder.field(ID, failure.getId());
+            builder.field(STATUS, failure.getStatus());
+            builder.field(MESSAGE, failure.getMessage());
+            builder.endObject();
+        }
+        builder.endArray();
         return builder.endObject();
     }
 
-    private void buildSuccessXContent(XContentBuilder builder) throws IOException {
-        buildResultXContent(builder, bulkResponse.getItems().length, NO_FAILURE);
-    }
+    /**
+     * Failure of a Feature which couldn't be indexed
+     */
+    @Getter
+    @AllArgsConstructor
+    public static final class Failure implements Writeable {
+        private final String id;
+        private final int status;
+        private final String message;
 
-    private void buildResultXContent(XContentBuilder builder, int successCount, int failureCount) throws IOException {
-        builder.field(SUCCESS, successCount);
-        builder.field(FAILURE, failureCount);
+        public Failure(StreamInput in) throws IOException {
+            this.id = in.readOptionalString();
+            this.status = in.readVInt();
+            this.message = in.readOptionalString();
+        }
+
+        @Override
+        public void writeTo(StreamOutput out) throws IOException {
+            out.writeOptionalString(id);
+            out.writeVInt(status);
+            out.writeOptionalString(message);
+        }
     }
 
-    private void buildFailureXContent(XContentBuilder builder) throws IOException {
-        final List<BulkItemResponse> failedResponses = Arrays.stream(bulkResponse.getItems())
-            .filter(BulkItemResponse::isFailed)
-            .collect(Collectors.toUnmodifiableList());
-        int successCount = bulkResponse.getItems().length - failedResponses.size();
-        buildResultXContent(builder, successCount, failedResponses.size());
-        builder.startArray(FAILURES);
-        for (BulkItemResponse response : failedResponses) {
-            builder.startObject();
-            builder.field(ID, response.getId());
-            builder.field(STATUS, response.getFailure().getStatus().getStatus());
-            builder.field(MESSAGE, response.getFailureMessage());
-            builder.endObject();
+    /**
+     * Builder to summarize BulkResponses of an upload into UploadGeoJSONResponse
+     * Builder is not thread safe, caller should synchronize when BulkResponses are added concurrently.
+     */
+    public static final class Builder {
+        private long tookInMillis;
+        private long totalCount;
+        private long failedCount;
+        private long unchangedCount;
+        private final List<Failure> failures = new ArrayList<>();
+
+        /**
+         * Adds counts and failures of given BulkResponse to the summary
+         * @param bulkResponse BulkResponse of a chunk of Features
+         * @return this builder
+         */
+        public Builder add(BulkResponse bulkResponse) {
+            tookInMillis += bulkResponse.getTook().millis();
+            for (BulkItemResponse item : bulkResponse.getItems()) {
+                totalCount++;
+                if (!item.isFailed()) {
+                    continue;
+                }
+                failedCount++;
+                if (failures.size() < MAX_FAILURES) {
+                    failures.add(new Failure(item.getId(), item.getFailure().getStatus().getStatus(), item.getFailureMessage()));
+                }
+            }
+            return this;
+        }
+
+        /**
+         * Adds Features which are skipped, since, they are not changed since they were uploaded
+         * @param count number of unchanged Features
+         * @return this builder
+         */
+        public Builder addUnchanged(long count) {
+            totalCount += count;
+            unchangedCount += count;
+            return this;
+        }
+
+        public long getTotalCount() {
+            return totalCount;
+        }
+
+        public UploadGeoJSONResponse build() {
+            return new UploadGeoJSONResponse(this);
         }
-        builder.endArray();
     }
 }
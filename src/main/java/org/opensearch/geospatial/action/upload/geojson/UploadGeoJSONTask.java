@@ -0,0 +1,125 @@
+/*
+ * Copyright OpenSearch Contributors
+ * SPDX-License-Identifier: Apache-2.0
+ */
+
+package org.opensearch.geospatial.action.upload.geojson;
+
+import java.io.IOException;
+import java.util.Map;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicLong;
+
+import org.opensearch.core.common.io.stream.StreamInput;
+import org.opensearch.core.common.io.stream.StreamOutput;
+import org.opensearch.core.tasks.TaskId;
+import org.opensearch.core.xcontent.XContentBuilder;
+import org.opensearch.tasks.CancellableTask;
+import org.opensearch.tasks.Task;
+
+import lombok.AllArgsConstructor;
+import lombok.EqualsAndHashCode;
+import lombok.Getter;
+
+/**
+ * UploadGeoJSONTask is a cancellable task of an upload which reports progress of the upload through tasks API.
+ * Uploader checks for cancellation before every bulk request, hence, cancelling the task stops the upload
+ * once bulk requests in flight are completed.
+ */
+public class UploadGeoJSONTask extends CancellableTask {
+    private final AtomicLong parsedCount = new AtomicLong();
+    private final AtomicLong indexedCount = new AtomicLong();
+    private final AtomicLong failedCount = new AtomicLong();
+
+    public UploadGeoJSONTask(
+        final long id,
+        final String type,
+        final String action,
+        final String description,
+        final TaskId parentTaskId,
+        final Map<String, String> headers
+    ) {
+        super(id, type, action, description, parentTaskId, headers);
+    }
+
+    @Override
+    public boolean shouldCancelChildrenOnCancellation() {
+        return true;
+    }
+
+    /**
+     * Records Features which are parsed and sent to be indexed
+     * @param count number of Features
+     */
+    public void onFeaturesParsed(final long count) {
+        parsedCount.addAndGet(count);
+    }
+
+    /**
+     * Records Features which are completed to be indexed
+     * @param indexed number of Features which are indexed
+     * @param failed number of Features which are failed to be indexed
+     */
+    public void onFeaturesIndexed(final long indexed, final long failed) {
+        indexedCount.addAndGet(indexed);
+        failedCount.addAndGet(failed);
+    }
+
+    @Override
+    public Status getStatus() {
+        final long indexed = indexedCount.get();
+        final long failed = failedCount.get();
+        final long runningTimeInMillis = TimeUnit.NANOSECONDS.toMillis(System.nanoTime() - getStartTimeNanos());
+        final double featuresPerSecond = runningTimeInMillis > 0 ? (indexed + failed) * 1000.0 / runningTimeInMillis : 0;
+        return new Status(parsedCount.get(), indexed, failed, featuresPerSecond);
+    }
+
+    /**
+     * Progress of an upload
+     */
+    @Getter
+    @AllArgsConstructor
+    @EqualsAndHashCode
+    public static class Status implements Task.Status {
+        public static final String NAME = "geojson_upload";
+        private static final String FEATURES_PARSED = "features_parsed";
+        private static final String FEATURES_INDEXED = "features_indexed";
+        private static final String FEATURES_FAILED = "features_failed";
+        private static final String FEATURES_PER_SECOND = "features_per_second";
+
+        private final long parsed;
+        private final long indexed;
+        private final long failed;
+        private final double featuresPerSecond;
+
+        public Status(final StreamInput in) throws IOException {
+            this.parsed = in.readVLong();
+            this.indexed = in.readVLong();
+            this.failed = in.readVLong();
+            this.featuresPerSecond = in.readDouble();
+        }
+
+        @Override
+        public void writeTo(final StreamOutput out) throws IOException {
+            out.writeVLong(parsed);
+            out.writeVLong(indexed);
+            out.writeVLong(failed);
+            out.writeDouble(featuresPerSecond);
+        }
+
+        @Override
+        public String getWriteableName() {
+            return NAME;
+        }
+
+        @Override
+        public XContentBuilder toXContent(final XContentBuilder builder, final Params params) throws IOException {
+            builder.startObject();
+            builder.field(FEATURES_PARSED, parsed);
+            builder.field(FEATURES_INDEXED, indexed);
+            builder.field(FEATURES_FAILED, failed);
+            builder.field(FEATURES_PER_SECOND, featuresPerSecond);
+            return builder.endObject();
+        }
+    }
+}
@@ -11,15 +11,19 @@
 
 package org.opensearch.geospatial.action.upload.geojson;
 
-import java.util.Map;
+import java.util.Collections;
+import java.util.Locale;
 
 import org.opensearch.ResourceAlreadyExistsException;
+import org.opensearch.action.ActionRunnable;
 import org.opensearch.action.support.ActionFilters;
 import org.opensearch.action.support.HandledTransportAction;
 import org.opensearch.cluster.service.ClusterService;
 import org.opensearch.common.inject.Inject;
 import org.opensearch.core.action.ActionListener;
-import org.opensearch.geospatial.GeospatialParser;
+import org.opensearch.geospatial.index.mapper.xyshape.XYShapeFieldMapper;
+import org.opensearch.geospatial.settings.GeospatialSettingsAccessor;
+import org.opensearch.geospatial.simplify.GeometrySimplifier;
 import org.opensearch.geospatial.stats.upload.UploadStats;
 import org.opensearch.rest.RestRequest;
 import org.opensearch.tasks.Task;
@@ -33,37 +37,101 @@ public class UploadGeoJSONTransportAction extends HandledTransportAction<UploadG
 
     private final ClusterService clusterService;
     private final Client client;
+    private final GeospatialSettingsAccessor settingsAccessor;
+    private final UploadExecutor uploadExecutor;
 
     @Inject
     public UploadGeoJSONTransportAction(
         ClusterService clusterService,
         TransportService transportService,
         ActionFilters actionFilters,
-        Client client
+        Client client,
+        GeospatialSettingsAccessor settingsAccessor,
+        UploadExecutor uploadExecutor
     ) {
         super(UploadGeoJSONAction.NAME, transportService, actionFilters, UploadGeoJSONRequest::new);
         this.clusterService = clusterService;
         this.client = client;
+        this.settingsAccessor = settingsAccessor;
+        this.uploadExecutor = uploadExecutor;
     }
 
     @Override
     protected void doExecute(Task task, UploadGeoJSONRequest request, ActionListener<UploadGeoJSONResponse> actionListener) {
         UploadStats.getInstance().incrementAPICount();
+        // request content is parsed and validated on upload executor, instead of the thread which received the request
+        uploadExecutor.forParsing().execute(ActionRunnable.wrap(actionListener, listener -> upload(task, request, listener)));
+    }
 
-        final Map<String, Object> contentAsMap = GeospatialParser.convertToMap(request.getContent());
+    private void upload(Task task, UploadGeoJSONRequest request, ActionListener<UploadGeoJSONResponse> actionListener) {
         // 1. parse request's data and extract into UploadGeoJSONRequestContent
-        final UploadGeoJSONRequestContent content = UploadGeoJSONRequestContent.create(contentAsMap);
+        final UploadGeoJSONRequestContent content = createContent(request);
         // 2. Check should we continue upload if index exist.
         boolean failIfIndexExist = shouldFailIfIndexExist(request.getMethod());
         final boolean indexExists = clusterService.state().getRoutingTable().hasIndex(content.getIndexName());
         if (indexExists && failIfIndexExist) {
             throw new ResourceAlreadyExistsException(content.getIndexName());
         }
+        if (request.isCompactGeometry() && !XYShapeFieldMapper.CONTENT_TYPE.equals(content.getFieldType())) {
+            throw new IllegalArgumentException(
+                String.format(
+                    Locale.ROOT,
+                    "compact geometry is supported only for field type [ %s ], but found [ %s ]",
+                    XYShapeFieldMapper.CONTENT_TYPE,
+                    content.getFieldType()
+                )
+            );
+        }
+        if (request.getSpatialRouting() != null && XYShapeFieldMapper.CONTENT_TYPE.equals(content.getFieldType())) {
+            // cells of spatial routing are geographic, whereas, coordinates of xy_shape are cartesian
+            throw new IllegalArgumentException(
+                String.format(Locale.ROOT, "spatial routing is not supported for field type [ %s ]", XYShapeFieldMapper.CONTENT_TYPE)
+            );
+        }
         final IndexManager indexManager = new IndexManager(client.admin().indices());
-        final PipelineManager pipelineManager = new PipelineManager(client.admin().cluster());
-        final ContentBuilder contentBuilder = new ContentBuilder(client);
+        final ContentBuilder contentBuilder = new ContentBuilder(
+            client,
+            settingsAccessor.getUploadRefreshPolicy(),
+            request.getSpatialRouting(),
+            request.getSimplify() > 0 ? new GeometrySimplifier(request.getSimplify()) : null,
+            request.isCompactGeometry()
+        );
         // 3. upload GeoJSON as index document.
-        new Uploader(indexManager, pipelineManager, contentBuilder).upload(content, indexExists, actionListener);
+        new Uploader(indexManager, contentBuilder, settingsAccessor.getMaxConcurrentBulkRequests(), uploadExecutor.forParsing()).upload(
+            content,
+            indexExists,
+            (UploadGeoJSONTask) task,
+            request.isSkipUnchanged(),
+            actionListener
+        );
+    }
+
+    private UploadGeoJSONRequestContent createContent(UploadGeoJSONRequest request) {
+        switch (request.getFormat()) {
+            case GEOJSON_SEQ:
+                return UploadGeoJSONRequestContent.createFromGeoJSONSeq(
+                    request.getContent(),
+                    request.getCompression(),
+                    Collections.unmodifiableMap(request.getMetadata()),
+                    uploadExecutor.forParsing(),
+                    uploadExecutor.getParsingParallelism(),
+                    request.getSpatialRouting() != null
+                );
+            case FLATGEOBUF:
+                return UploadGeoJSONRequestContent.createFromFlatGeobuf(
+                    request.getContent(),
+                    request.getCompression(),
+                    Collections.unmodifiableMap(request.getMetadata()),
+                    request.getSpatialRouting() != null
+                );
+            case GEOJSON:
+            default:
+                return UploadGeoJSONRequestContent.create(
+                    request.getContent(),
+                    request.getCompression(),
+                    request.getSpatialRouting() != null
+                );
+        }
     }
 
     /*
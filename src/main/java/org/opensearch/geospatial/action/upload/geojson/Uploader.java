@@ -5,9 +5,14 @@
 
 package org.opensearch.geospatial.action.upload.geojson;
 
+import java.io.IOException;
 import java.util.Arrays;
+import java.util.HashMap;
+import java.util.Map;
 import java.util.Objects;
 import java.util.Optional;
+import java.util.concurrent.Executor;
+import java.util.concurrent.RejectedExecutionException;
 
 import org.apache.logging.log4j.LogManager;
 import org.apache.logging.log4j.Logger;
@@ -15,19 +20,20 @@ import org.opensearch.action.StepListener;
 import org.opensearch.action.bulk.BulkItemResponse;
 import org.opensearch.action.bulk.BulkRequestBuilder;
 import org.opensearch.action.bulk.BulkResponse;
+import org.opensearch.common.UUIDs;
 import org.opensearch.common.collect.MapBuilder;
+import org.opensearch.common.util.concurrent.OpenSearchExecutors;
 import org.opensearch.core.action.ActionListener;
+import org.opensearch.core.tasks.TaskCancelledException;
 import org.opensearch.geospatial.stats.upload.UploadMetric;
 import org.opensearch.geospatial.stats.upload.UploadStats;
 
 /**
  * Uploader will upload GeoJSON objects from UploadGeoJSONRequestContent as
- * Documents to given index in three stage.
- * At first stage (preUpload), resources like index, mapping, pipeline with
- * GeoJSON Feature processors, will be created.
- * At second stage (upload), Feature will be extracted from GeoJSON and indexed using
- * BulkAction. This supports both Feature and FeatureCollection.
- * At third stage (postUpload), previously created pipeline will be deleted
+ * Documents to given index in two stage.
+ * At first stage (preUpload), resources like index and mapping will be created.
+ * At second stage (upload), Feature will be extracted from GeoJSON, transformed into a document
+ * and indexed using BulkAction. This supports both Feature and FeatureCollection.
  * At final stage response or failure will be added to the listener.
  */
 public class Uploader {
@@ -36,47 +42,88 @@ public class Uploader {
     private static final String GEOJSON = "geojson";
 
     private final IndexManager indexManager;
-    private final PipelineManager pipelineManager;
     private final ContentBuilder contentBuilder;
+    private final int maxConcurrentBulkRequests;
+    private final Executor executor;
 
     /**
-     * Uploads {@link UploadGeoJSONRequestContent#getData()}
+     * Uploads Features of {@link UploadGeoJSONRequestContent}, where chunks are prepared by the thread which
+     * completes the previous step
      * @param indexManager {@link IndexManager} instance to perform index based operations
-     * @param pipelineManager {@link PipelineManager} instance to perform Pipeline operations
      * @param contentBuilder {@link ContentBuilder} instance to prepare BulkRequest
+     * @param maxConcurrentBulkRequests max number of BulkRequests in flight at a time
      */
-    public Uploader(final IndexManager indexManager, final PipelineManager pipelineManager, final ContentBuilder contentBuilder) {
+    public Uploader(final IndexManager indexManager, final ContentBuilder contentBuilder, final int maxConcurrentBulkRequests) {
+        this(indexManager, contentBuilder, maxConcurrentBulkRequests, OpenSearchExecutors.newDirectExecutorService());
+    }
 
+    /**
+     * Uploads Features of {@link UploadGeoJSONRequestContent}
+     * @param indexManager {@link IndexManager} instance to perform index based operations
+     * @param contentBuilder {@link ContentBuilder} instance to prepare BulkRequest
+     * @param maxConcurrentBulkRequests max number of BulkRequests in flight at a time
+     * @param executor executor to read Features and prepare chunks on, since responses of BulkRequests may be
+     *                 handled on transport threads
+     */
+    public Uploader(
+        final IndexManager indexManager,
+        final ContentBuilder contentBuilder,
+        final int maxConcurrentBulkRequests,
+        final Executor executor
+    ) {
+        this.executor = Objects.requireNonNull(executor, "executor cannot be null");
         this.indexManager = Objects.requireNonNull(indexManager, "IndexManager instance cannot be null");
-        this.pipelineManager = Objects.requireNonNull(pipelineManager, "PipelineManager instance cannot be null");
         this.contentBuilder = Objects.requireNonNull(contentBuilder, "ContentBuilder instance cannot be null");
+        if (maxConcurrentBulkRequests < 1) {
+            throw new IllegalArgumentException("max concurrent bulk requests should be at least 1");
+        }
+        this.maxConcurrentBulkRequests = maxConcurrentBulkRequests;
     }
 
     /**
      * upload abstracts following operations from request
      * 1. Create index if it doesn't exist.
-     * 2. Create pipeline with {@link org.opensearch.geospatial.processor.FeatureProcessor}
-     * 3. Prepare Content from {@link UploadGeoJSONRequestContent#getData()}
-     * 4. Upload content
-     * 5. Delete pipeline
+     * 2. Prepare Content from {@link UploadGeoJSONRequestContent#newFeatureReader()} in bounded chunks
+     * 3. Upload content chunk by chunk, with bounded number of chunks in flight
      * @param content {@link UploadGeoJSONRequestContent} derived from {@link UploadGeoJSONRequest}
      * @param isIndexAlreadyExists confirms whether the uploader should create the new index or not
+     * @param task {@link UploadGeoJSONTask} to report progress to, and, to check for cancellation
      * @param flowListener action listener that contains the response of upload action.
      */
     public void upload(
         final UploadGeoJSONRequestContent content,
         final boolean isIndexAlreadyExists,
+        final UploadGeoJSONTask task,
+        final ActionListener<UploadGeoJSONResponse> flowListener
+    ) {
+        upload(content, isIndexAlreadyExists, task, false, flowListener);
+    }
+
+    /**
+     * upload same as {@link #upload(UploadGeoJSONRequestContent, boolean, UploadGeoJSONTask, ActionListener)}, where,
+     * if skipUnchanged is true, hash of every document is stored with it, and, Features with id whose stored hash is
+     * same as their hash in the existing index are not indexed again.
+     * @param content {@link UploadGeoJSONRequestContent} derived from {@link UploadGeoJSONRequest}
+     * @param isIndexAlreadyExists confirms whether the uploader should create the new index or not
+     * @param task {@link UploadGeoJSONTask} to report progress to, and, to check for cancellation
+     * @param skipUnchanged whether unchanged Features should be skipped
+     * @param flowListener action listener that contains the response of upload action.
+     */
+    public void upload(
+        final UploadGeoJSONRequestContent content,
+        final boolean isIndexAlreadyExists,
+        final UploadGeoJSONTask task,
+        final boolean skipUnchanged,
         final ActionListener<UploadGeoJSONResponse> flowListener
     ) {
         // validate input
         Objects.requireNonNull(flowListener, "listener cannot be null");
         Objects.requireNonNull(content, "content cannot be null");
+        Objects.requireNonNull(task, "task cannot be null");
 
         // initialize step listeners to chain steps
         final StepListener<Void> createIndexStep = new StepListener<>();
-        final StepListener<String> createPipelineStep = new StepListener<>();
-        final StepListener<BulkResponse> indexFeatureStep = new StepListener<>();
-        final StepListener<Exception> deletePipelineStep = new StepListener<>();
+        final StepListener<UploadGeoJSONResponse> indexFeatureStep = new StepListener<>();
 
         if (isIndexAlreadyExists) {
             LOGGER.info("Index [ " + content.getIndexName() + " ] is already exists");
@@ -85,98 +132,214 @@ public class Uploader {
             // create index
             MapBuilder<String, String> fieldMap = new MapBuilder<>();
             fieldMap.put(content.getFieldName(), content.getFieldType());
+            if (skipUnchanged) {
+                fieldMap.put(ContentBuilder.CONTENT_HASH_FIELD, "keyword");
+            }
             indexManager.create(content.getIndexName(), fieldMap.immutableMap(), createIndexStep);
         }
-        // create a pipeline after creating index
+
+        // index features as document after creating index
+        // stored content is compared only with an existing index, since, a new index has no documents yet
+        final boolean compareStoredContent = skipUnchanged && isIndexAlreadyExists;
         createIndexStep.whenComplete(
-            notUsed -> pipelineManager.create(content.getFieldName(), createPipelineStep),
+            notUsed -> indexContentAsDocument(content, task, skipUnchanged, compareStoredContent, indexFeatureStep),
             flowListener::onFailure
         );
 
-        // index features as document after creating pipeline
-        createPipelineStep.whenComplete(pipeline -> indexContentAsDocument(pipeline, content, indexFeatureStep), flowListener::onFailure);
-
-        // delete pipeline
-        indexFeatureStep.whenComplete(notUsed -> {
-            String pipeline = createPipelineStep.result();
-            pipelineManager.delete(pipeline, deletePipelineStep, () -> null);
-        }, uploadFailed -> {
-            String pipeline = createPipelineStep.result();
-            pipelineManager.delete(pipeline, deletePipelineStep, () -> uploadFailed);
-        });
-
         // set response or failure depending on previous steps status
-        deletePipelineStep.whenComplete(uploadFailedException -> {
-            if (uploadFailedException != null) {
-                throw uploadFailedException;
-            }
-            BulkResponse response = indexFeatureStep.result();
-            createAndAddMetricToStats(createPipelineStep.result(), response);
-            flowListener.onResponse(new UploadGeoJSONResponse(response));
-        }, deletePipelineFailed -> {
-            try {
-                BulkResponse response = indexFeatureStep.result();
-                createAndAddMetricToStats(createPipelineStep.result(), response);
-                // TODO Propagate deletePipelineFailed exception to response as low severity error
-                flowListener.onResponse(new UploadGeoJSONResponse(response));
-            } catch (IllegalStateException stepFailed) {
-                flowListener.onFailure(deletePipelineFailed);
-            }
-        });
-
+        indexFeatureStep.whenComplete(response -> {
+            createAndAddMetricToStats(UUIDs.randomBase64UUID(), content, response);
+            flowListener.onResponse(response);
+        }, flowListener::onFailure);
     }
 
     private void indexContentAsDocument(
-        String pipeline,
         UploadGeoJSONRequestContent content,
-        StepListener<BulkResponse> uploadStepListener
+        UploadGeoJSONTask task,
+        boolean hashContent,
+        boolean compareStoredContent,
+        StepListener<UploadGeoJSONResponse> uploadStepListener
     ) {
-        Optional<BulkRequestBuilder> contentRequestBuilder = contentBuilder.prepare(content, pipeline);
-        if (contentRequestBuilder.isEmpty()) {
-            uploadStepListener.onFailure(new IllegalStateException("No valid features are available to index"));
+        final FeatureReader features;
+        try {
+            features = content.newFeatureReader();
+        } catch (IOException readerFailedException) {
+            uploadStepListener.onFailure(readerFailedException);
             return;
         }
-        contentRequestBuilder.get()
-            .execute(
-                ActionListener.wrap(
-                    uploadStepListener::onResponse,
-                    bulkRequestFailedException -> uploadStepListener.onFailure(
-                        new IllegalStateException("Failed to index document due to " + bulkRequestFailedException.getMessage())
-                    )
-                )
-            );
+        new ChunkedUpload(
+            content.getIndexName(),
+            content.getFieldName(),
+            features,
+            task,
+            hashContent,
+            compareStoredContent,
+            ActionListener.runBefore(uploadStepListener, features::close)
+        ).start();
     }
 
-    private void createAndAddMetricToStats(String metricID, BulkResponse response) {
-        UploadMetric metric = createUploadMetric(metricID, response);
-        UploadStats.getInstance().addMetric(metric);
-    }
+    /**
+     * ChunkedUpload indexes Features by bounded BulkRequests, keeping at most maxConcurrentBulkRequests
+     * of them in flight, so that only Features of BulkRequests in flight are kept in memory.
+     * Next chunk is prepared on the executor whenever a BulkRequest completes. Responses of all BulkRequests are
+     * summarized into one UploadGeoJSONResponse. If any BulkRequest fails, or, the task is cancelled, no more
+     * chunks are sent, and the upload fails once the BulkRequests in flight are completed.
+     * If stored content is compared, unchanged documents are removed from every chunk before it is sent.
+     */
+    private class ChunkedUpload {
+        private final String indexName;
+        private final String fieldName;
+        private final FeatureReader features;
+        private final UploadGeoJSONTask task;
+        private final boolean hashContent;
+        private final boolean compareStoredContent;
+        private final ActionListener<UploadGeoJSONResponse> listener;
+        private final UploadGeoJSONResponse.Builder summary = new UploadGeoJSONResponse.Builder();
+        private int inFlight;
+        private boolean exhausted;
+        private boolean sending;
+        private boolean completed;
+        private Exception failure;
 
-    private UploadMetric createUploadMetric(String id, BulkResponse response) {
-        UploadMetric.UploadMetricBuilder metricBuilder = new UploadMetric.UploadMetricBuilder(id, GEOJSON);
-        BulkItemResponse[] items = response.getItems();
-        metricBuilder.uploadCount(items.length);
-        metricBuilder.duration(response.getTook().duration());
-        if (response.hasFailures()) {
-            return createFailedUploadMetric(metricBuilder, items);
+        ChunkedUpload(
+            String indexName,
+            String fieldName,
+            FeatureReader features,
+            UploadGeoJSONTask task,
+            boolean hashContent,
+            boolean compareStoredContent,
+            ActionListener<UploadGeoJSONResponse> listener
+        ) {
+            this.indexName = indexName;
+            this.fieldName = fieldName;
+            this.features = features;
+            this.task = task;
+            this.hashContent = hashContent;
+            this.compareStoredContent = compareStoredContent;
+            this.listener = listener;
+        }
+
+        void start() {
+            sendChunksOnExecutor();
+        }
+
+        // next chunks are prepared on the executor, since, the previous step may be completed on a transport thread
+        private void sendChunksOnExecutor() {
+            try {
+                executor.execute(this::sendChunks);
+            } catch (RejectedExecutionException rejectedException) {
+                onRejected(rejectedException);
+            }
+        }
+
+        private synchronized void onRejected(Exception rejectedException) {
+            if (failure == null) {
+                failure = rejectedException;
+            }
+            completeIfDone();
+        }
+
+        private synchronized void sendChunks() {
+            if (sending) {
+                // BulkRequest is completed within the loop below, which will send next chunk
+                return;
+            }
+            sending = true;
+            try {
+                while (failure == null && !exhausted && inFlight < maxConcurrentBulkRequests) {
+                    if (task.isCancelled()) {
+                        failure = new TaskCancelledException("upload is cancelled due to " + task.getReasonCancelled());
+                        break;
+                    }
+                    final Map<String, String> contentHashes = hashContent ? new HashMap<>() : null;
+                    final Optional<BulkRequestBuilder> contentRequestBuilder = hashContent
+                        ? contentBuilder.prepare(features, indexName, fieldName, contentHashes)
+                        : contentBuilder.prepare(features, indexName, fieldName);
+                    if (contentRequestBuilder.isEmpty()) {
+                        exhausted = true;
+                        break;
+                    }
+                    inFlight++;
+                    task.onFeaturesParsed(contentRequestBuilder.get().numberOfActions());
+                    if (compareStoredContent) {
+                        contentBuilder.skipUnchanged(
+                            indexName,
+                            contentRequestBuilder.get(),
+                            contentHashes,
+                            ActionListener.wrap(this::onChangedContent, this::onChunkFailure)
+                        );
+                    } else {
+                        contentRequestBuilder.get().execute(ActionListener.wrap(this::onChunkResponse, this::onChunkFailure));
+                    }
+                }
+            } catch (IOException | RuntimeException prepareFailedException) {
+                failure = prepareFailedException;
+            } finally {
+                sending = false;
+            }
+            completeIfDone();
+        }
+
+        private synchronized void onChangedContent(ContentBuilder.ChangedContent changedContent) {
+            summary.addUnchanged(changedContent.getUnchangedCount());
+            task.onFeaturesIndexed(changedContent.getUnchangedCount(), 0);
+            if (changedContent.getBulkRequestBuilder().isPresent()) {
+                changedContent.getBulkRequestBuilder().get().execute(ActionListener.wrap(this::onChunkResponse, this::onChunkFailure));
+                return;
+            }
+            // every document of the chunk is unchanged
+            inFlight--;
+            sendChunksOnExecutor();
+        }
+
+        private synchronized void onChunkResponse(BulkResponse bulkResponse) {
+            inFlight--;
+            summary.add(bulkResponse);
+            final long failed = Arrays.stream(bulkResponse.getItems()).filter(BulkItemResponse::isFailed).count();
+            task.onFeaturesIndexed(bulkResponse.getItems().length - failed, failed);
+            sendChunksOnExecutor();
+        }
+
+        private synchronized void onChunkFailure(Exception bulkRequestFailedException) {
+            inFlight--;
+            if (failure == null) {
+                failure = new IllegalStateException("Failed to index document due to " + bulkRequestFailedException.getMessage());
+            }
+            sendChunksOnExecutor();
+        }
+
+        private void completeIfDone() {
+            if (completed || inFlight > 0 || (failure == null && !exhausted)) {
+                return;
+            }
+            completed = true;
+            if (failure != null) {
+                listener.onFailure(failure);
+                return;
+            }
+            if (summary.getTotalCount() == 0) {
+                listener.onFailure(new IllegalStateException("No valid features are available to index"));
+                return;
+            }
+            listener.onResponse(summary.build());
         }
-        return createSuccessUploadMetric(metricBuilder, items);
     }
 
-    private UploadMetric createSuccessUploadMetric(UploadMetric.UploadMetricBuilder metricBuilder, BulkItemResponse[] items) {
-        Objects.requireNonNull(metricBuilder, "metric builder cannot be null");
-        Objects.requireNonNull(items, "BulkItemResponse array cannot be null");
-        metricBuilder.successCount(items.length);
-        return metricBuilder.build();
+    private void createAndAddMetricToStats(String metricID, UploadGeoJSONRequestContent content, UploadGeoJSONResponse response) {
+        UploadMetric metric = createUploadMetric(metricID, content, response);
+        UploadStats.getInstance().addMetric(metric);
     }
 
-    private UploadMetric createFailedUploadMetric(UploadMetric.UploadMetricBuilder metricBuilder, BulkItemResponse[] items) {
-        Objects.requireNonNull(metricBuilder, "metric builder cannot be null");
-        Objects.requireNonNull(items, "BulkItemResponse cannot be null");
-        long failed = Arrays.stream(items).filter(BulkItemResponse::isFailed).count();
-        metricBuilder.failedCount(failed);
-        long success = items.length - failed;
-        metricBuilder.successCount(success);
+    private UploadMetric createUploadMetric(String id, UploadGeoJSONRequestContent content, UploadGeoJSONResponse response) {
+        UploadMetric.UploadMetricBuilder metricBuilder = new UploadMetric.UploadMetricBuilder(id, GEOJSON);
+        metricBuilder.index(content.getIndexName());
+        metricBuilder.fieldType(content.getFieldType());
+        metricBuilder.uploadCount(response.getTotalCount());
+        metricBuilder.duration(response.getTookInMillis());
+        metricBuilder.failedCount(response.getFailedCount());
+        metricBuilder.successCount(response.getSuccessCount());
+        metricBuilder.vertexCount(contentBuilder.getVertexCount());
+        metricBuilder.simplifiedVertexCount(contentBuilder.getSimplifiedVertexCount());
         return metricBuilder.build();
     }
 }
@@ -15,4 +15,7 @@ public class IndexSetting {
     public static final String AUTO_EXPAND_REPLICAS = "index.auto_expand_replicas";
     public static final String HIDDEN = "index.hidden";
     public static final String BLOCKS_WRITE = "index.blocks.write";
+    public static final String SORT_FIELD = "index.sort.field";
+    public static final String SORT_ORDER = "index.sort.order";
+    public static final String TRANSLOG_FLUSH_THRESHOLD_SIZE = "index.translog.flush_threshold_size";
 }
@@ -0,0 +1,96 @@
+/*
+ * Copyright OpenSearch Contributors
+ * SPDX-License-Identifier: Apache-2.0
+ */
+
+package org.opensearch.geospatial.encoding;
+
+import java.util.Base64;
+import java.util.Map;
+import java.util.Objects;
+
+import org.locationtech.jts.geom.Coordinate;
+import org.locationtech.jts.geom.Geometry;
+import org.locationtech.jts.io.ByteOrderValues;
+import org.locationtech.jts.io.ParseException;
+import org.locationtech.jts.io.WKBReader;
+import org.locationtech.jts.io.WKBWriter;
+import org.opensearch.geospatial.jts.JTSGeoJSONConverter;
+import org.opensearch.geospatial.jts.JTSGeometryConverter;
+
+/**
+ * CompactGeometryEncoding encodes GeoJSON geometry object as Well-Known Binary in a base64 string prefixed by
+ * {@link #PREFIX}, so that geometry of xy_shape field is stored in the source of a document in less bytes than its
+ * coordinate arrays. Coordinates are written as they are, hence, encoding is lossless. xy_shape field indexes
+ * encoded geometry as if it was GeoJSON, and, encoded geometry is expanded back to GeoJSON when source is fetched.
+ */
+public final class CompactGeometryEncoding {
+    public static final String PREFIX = "wkb:";
+    private static final int XY = 2;
+    private static final int XYZ = 3;
+
+    private CompactGeometryEncoding() {}
+
+    /**
+     * @param value value of a field in the source of a document
+     * @return true if value is a geometry encoded by {@link #encode(Map)}
+     */
+    public static boolean isEncoded(final Object value) {
+        return value instanceof String && ((String) value).startsWith(PREFIX);
+    }
+
+    /**
+     * @param geometry GeoJSON geometry object
+     * @return encoded geometry, null if geometry, or, any geometry of the collection is not part of GeoJSON,
+     * like envelope and circle, which are stored as they are
+     * @throws IllegalArgumentException if geometry is not a valid GeoJSON geometry object
+     */
+    public static String encode(final Map<String, Object> geometry) {
+        Objects.requireNonNull(geometry, "geometry cannot be null");
+        final Geometry jtsGeometry = JTSGeoJSONConverter.toJTS(geometry);
+        if (jtsGeometry == null) {
+            return null;
+        }
+        final WKBWriter writer = new WKBWriter(hasZ(jtsGeometry) ? XYZ : XY, ByteOrderValues.LITTLE_ENDIAN);
+        return PREFIX + Base64.getEncoder().encodeToString(writer.write(jtsGeometry));
+    }
+
+    /**
+     * @param value geometry encoded by {@link #encode(Map)}
+     * @return GeoJSON geometry object
+     * @throws IllegalArgumentException if value is not an encoded geometry
+     */
+    public static Map<String, Object> toGeoJSON(final String value) {
+        return JTSGeoJSONConverter.fromJTS(decode(value));
+    }
+
+    /**
+     * @param value geometry encoded by {@link #encode(Map)}
+     * @return geometry of xy_shape field
+     * @throws IllegalArgumentException if value is not an encoded geometry
+     */
+    public static org.opensearch.geometry.Geometry toGeometry(final String value) {
+        return JTSGeometryConverter.fromJTS(decode(value));
+    }
+
+    private static Geometry decode(final String value) {
+        if (!isEncoded(value)) {
+            throw new IllegalArgumentException("compact geometry should start with [ " + PREFIX + " ]");
+        }
+        try {
+            // WKBReader is not thread safe, hence, it is created for every geometry
+            return new WKBReader().read(Base64.getDecoder().decode(value.substring(PREFIX.length())));
+        } catch (ParseException e) {
+            throw new IllegalArgumentException("invalid compact geometry: " + e.getMessage(), e);
+        }
+    }
+
+    private static boolean hasZ(final Geometry geometry) {
+        for (Coordinate coordinate : geometry.getCoordinates()) {
+            if (!Double.isNaN(coordinate.getZ())) {
+                return true;
+            }
+        }
+        return false;
+    }
+}
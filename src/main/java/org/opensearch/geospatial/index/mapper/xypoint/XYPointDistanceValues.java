@@ -0,0 +1,74 @@
+/*
+ * Copyright OpenSearch Contributors
+ * SPDX-License-Identifier: Apache-2.0
+ */
+
+package org.opensearch.geospatial.index.mapper.xypoint;
+
+import java.io.IOException;
+
+import org.apache.lucene.geo.XYEncodingUtils;
+import org.apache.lucene.index.DocValues;
+import org.apache.lucene.index.LeafReader;
+import org.apache.lucene.index.SortedNumericDocValues;
+import org.opensearch.index.fielddata.SortedNumericDoubleValues;
+import org.opensearch.index.fielddata.SortingNumericDoubleValues;
+
+/**
+ * Euclidean distances of points of an xy_point field from an origin, read from {@link org.apache.lucene.document.XYDocValuesField}s.
+ * Distances of a document are sorted in ascending order, hence, they can be selected by
+ * {@link org.opensearch.search.MultiValueMode} for sorting and scoring.
+ */
+public final class XYPointDistanceValues extends SortingNumericDoubleValues {
+
+    private final SortedNumericDocValues points;
+    private final float originX;
+    private final float originY;
+
+    private XYPointDistanceValues(SortedNumericDocValues points, float originX, float originY) {
+        this.points = points;
+        this.originX = originX;
+        this.originY = originY;
+    }
+
+    /**
+     * @param reader reader of a segment
+     * @param field name of xy_point field
+     * @param originX x of the origin
+     * @param originY y of the origin
+     * @return distances of points of the field from the origin, no value if the field is missing in the segment
+     * @throws IOException if doc values cannot be read
+     */
+    public static SortedNumericDoubleValues of(LeafReader reader, String field, float originX, float originY) throws IOException {
+        return new XYPointDistanceValues(DocValues.getSortedNumeric(reader, field), originX, originY);
+    }
+
+    /**
+     * @param x1 x of the first point
+     * @param y1 y of the first point
+     * @param x2 x of the second point
+     * @param y2 y of the second point
+     * @return euclidean distance between the points, same as distance sort of {@link org.apache.lucene.document.XYDocValuesField}
+     */
+    public static double distance(double x1, double y1, double x2, double y2) {
+        final double diffX = x1 - x2;
+        final double diffY = y1 - y2;
+        return Math.sqrt(diffX * diffX + diffY * diffY);
+    }
+
+    @Override
+    public boolean advanceExact(int doc) throws IOException {
+        if (points.advanceExact(doc) == false) {
+            return false;
+        }
+        final int count = points.docValueCount();
+        resize(count);
+        for (int i = 0; i < count; i++) {
+            // same encoding as XYDocValuesField, x in the upper 32 bits, and, y in the lower 32 bits
+            final long encoded = points.nextValue();
+            values[i] = distance(XYEncodingUtils.decode((int) (encoded >>> 32)), XYEncodingUtils.decode((int) encoded), originX, originY);
+        }
+        sort();
+        return true;
+    }
+}
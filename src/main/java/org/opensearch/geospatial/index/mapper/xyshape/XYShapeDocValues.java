@@ -0,0 +1,151 @@
+/*
+ * Copyright OpenSearch Contributors
+ * SPDX-License-Identifier: Apache-2.0
+ */
+
+package org.opensearch.geospatial.index.mapper.xyshape;
+
+import org.apache.lucene.document.ShapeField;
+import org.apache.lucene.geo.XYEncodingUtils;
+import org.apache.lucene.store.ByteArrayDataInput;
+import org.apache.lucene.util.BytesRef;
+
+/**
+ * Reader of doc values of an xy_shape field as encoded by {@link XYShapeDocValuesField}. An instance is reused
+ * for every document by {@link #reset(BytesRef)}, and, triangles are read one by one without allocation.
+ */
+public final class XYShapeDocValues {
+
+    private final ByteArrayDataInput input = new ByteArrayDataInput();
+    private int minX;
+    private int minY;
+    private int maxX;
+    private int maxY;
+    private int dimension;
+    private int centroidX;
+    private int centroidY;
+    private double centroidWeight;
+
+    /**
+     * Read the header of doc values of a document, triangles are read by {@link #nextTriangle(ShapeField.DecodedTriangle)}
+     * @param bytes doc values of a document
+     */
+    public void reset(BytesRef bytes) {
+        input.reset(bytes.bytes, bytes.offset, bytes.length);
+        if (input.eof()) {
+            minX = minY = maxX = maxY = dimension = centroidX = centroidY = 0;
+            centroidWeight = 0;
+            return;
+        }
+        minX = input.readInt();
+        minY = input.readInt();
+        maxX = (int) (minX + input.readVLong());
+        maxY = (int) (minY + input.readVLong());
+        dimension = input.readByte();
+        centroidX = readX();
+        centroidY = readY();
+        centroidWeight = Double.longBitsToDouble(input.readLong());
+    }
+
+    /**
+     * Read next triangle of the document
+     * @param triangle triangle to be filled with vertices, edge flags and type of the next triangle
+     * @return false if there is no more triangle
+     */
+    public boolean nextTriangle(ShapeField.DecodedTriangle triangle) {
+        if (input.eof()) {
+            return false;
+        }
+        final int header = input.readByte();
+        triangle.ab = (header & XYShapeDocValuesField.AB_FROM_SHAPE) != 0;
+        triangle.bc = (header & XYShapeDocValuesField.BC_FROM_SHAPE) != 0;
+        triangle.ca = (header & XYShapeDocValuesField.CA_FROM_SHAPE) != 0;
+        triangle.aX = readX();
+        triangle.aY = readY();
+        switch (header & XYShapeDocValuesField.TYPE_MASK) {
+            case XYShapeDocValuesField.TYPE_POINT:
+                triangle.type = ShapeField.DecodedTriangle.TYPE.POINT;
+                triangle.bX = triangle.cX = triangle.aX;
+                triangle.bY = triangle.cY = triangle.aY;
+                break;
+            case XYShapeDocValuesField.TYPE_LINE:
+                triangle.type = ShapeField.DecodedTriangle.TYPE.LINE;
+                triangle.bX = readX();
+                triangle.bY = readY();
+                triangle.cX = triangle.aX;
+                triangle.cY = triangle.aY;
+                break;
+            default:
+                triangle.type = ShapeField.DecodedTriangle.TYPE.TRIANGLE;
+                triangle.bX = readX();
+                triangle.bY = readY();
+                triangle.cX = readX();
+                triangle.cY = readY();
+        }
+        return true;
+    }
+
+    private int readX() {
+        return (int) (minX + input.readVLong());
+    }
+
+    private int readY() {
+        return (int) (minY + input.readVLong());
+    }
+
+    /**
+     * @return minimum x of the bounding box of the document
+     */
+    public double getMinX() {
+        return XYEncodingUtils.decode(minX);
+    }
+
+    /**
+     * @return minimum y of the bounding box of the document
+     */
+    public double getMinY() {
+        return XYEncodingUtils.decode(minY);
+    }
+
+    /**
+     * @return maximum x of the bounding box of the document
+     */
+    public double getMaxX() {
+        return XYEncodingUtils.decode(maxX);
+    }
+
+    /**
+     * @return maximum y of the bounding box of the document
+     */
+    public double getMaxY() {
+        return XYEncodingUtils.decode(maxY);
+    }
+
+    /**
+     * @return highest dimension of triangles of the document, as ordinal of {@link ShapeField.DecodedTriangle.TYPE}
+     */
+    public int getDimension() {
+        return dimension;
+    }
+
+    /**
+     * @return x of the centroid of triangles of the highest dimension
+     */
+    public double getCentroidX() {
+        return XYEncodingUtils.decode(centroidX);
+    }
+
+    /**
+     * @return y of the centroid of triangles of the highest dimension
+     */
+    public double getCentroidY() {
+        return XYEncodingUtils.decode(centroidY);
+    }
+
+    /**
+     * @return weight of the centroid, which is area of triangles, length of lines, or, number of points
+     */
+    public double getCentroidWeight() {
+        return centroidWeight;
+    }
+}
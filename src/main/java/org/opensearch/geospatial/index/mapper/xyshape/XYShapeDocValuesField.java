@@ -0,0 +1,173 @@
+/*
+ * Copyright OpenSearch Contributors
+ * SPDX-License-Identifier: Apache-2.0
+ */
+
+package org.opensearch.geospatial.index.mapper.xyshape;
+
+import java.util.ArrayList;
+import java.util.List;
+
+import org.apache.lucene.document.ShapeField;
+import org.apache.lucene.geo.XYEncodingUtils;
+import org.apache.lucene.index.IndexableField;
+import org.apache.lucene.store.ByteArrayDataOutput;
+import org.apache.lucene.util.BytesRef;
+import org.opensearch.index.mapper.CustomDocValuesField;
+
+/**
+ * Binary doc values of an xy_shape field. Every triangle of every value of the field in a document is encoded
+ * relative to the bounding box of the document, hence, coordinates of a small shape take only few bytes.
+ * Bounding box and centroid of the document are in the header, so that they are read without decoding triangles.
+ * Encoded form is read by {@link XYShapeDocValues}.
+ * <p>
+ * Format: minX and minY as int, (maxX - minX) and (maxY - minY) as vlong, a byte of the highest dimension of triangles,
+ * centroid x and y as vlong relative to the minimum, weight of the centroid as double, then, for every triangle,
+ * a byte of its type and edge flags followed by its distinct vertices, where every coordinate is a vlong relative
+ * to the minimum. Centroid is weighted by area of triangles, length of lines, or, number of points, for the highest
+ * dimension only, such that lines and points of a geometry collection don't move the centroid of its polygons.
+ */
+public final class XYShapeDocValuesField extends CustomDocValuesField {
+
+    static final int TYPE_POINT = 0;
+    static final int TYPE_LINE = 1;
+    static final int TYPE_TRIANGLE = 2;
+    static final int TYPE_MASK = 0x03;
+    static final int AB_FROM_SHAPE = 1 << 2;
+    static final int BC_FROM_SHAPE = 1 << 3;
+    static final int CA_FROM_SHAPE = 1 << 4;
+    // header of 2 ints, 4 vlongs, a byte and a double, every triangle is a byte and up to 6 vlongs,
+    // where every vlong of an unsigned int takes up to 5 bytes
+    private static final int MAX_VLONG_BYTES = 5;
+    private static final int MAX_HEADER_BYTES = 2 * Integer.BYTES + 4 * MAX_VLONG_BYTES + 1 + Long.BYTES;
+    private static final int MAX_TRIANGLE_BYTES = 1 + 6 * MAX_VLONG_BYTES;
+
+    private final List<ShapeField.DecodedTriangle> triangles = new ArrayList<>();
+    private int minX = Integer.MAX_VALUE;
+    private int minY = Integer.MAX_VALUE;
+    private int maxX = Integer.MIN_VALUE;
+    private int maxY = Integer.MIN_VALUE;
+    // sums of centroids of triangles of the highest dimension, weighted, and, not weighted in case every weight is 0
+    private int dimension = TYPE_POINT;
+    private double weightedSumX;
+    private double weightedSumY;
+    private double weight;
+    private double sumX;
+    private double sumY;
+    private long count;
+
+    public XYShapeDocValuesField(String name) {
+        super(name);
+    }
+
+    /**
+     * Add triangles of a value of the field
+     * @param fields triangles as built by {@link XYShapeIndexableFieldsVisitor}
+     */
+    public void add(List<IndexableField> fields) {
+        for (IndexableField field : fields) {
+            final BytesRef encoded = field.binaryValue();
+            final byte[] bytes = new byte[encoded.length];
+            System.arraycopy(encoded.bytes, encoded.offset, bytes, 0, encoded.length);
+            final ShapeField.DecodedTriangle triangle = new ShapeField.DecodedTriangle();
+            ShapeField.decodeTriangle(bytes, triangle);
+            triangles.add(triangle);
+            minX = Math.min(minX, Math.min(triangle.aX, Math.min(triangle.bX, triangle.cX)));
+            minY = Math.min(minY, Math.min(triangle.aY, Math.min(triangle.bY, triangle.cY)));
+            maxX = Math.max(maxX, Math.max(triangle.aX, Math.max(triangle.bX, triangle.cX)));
+            maxY = Math.max(maxY, Math.max(triangle.aY, Math.max(triangle.bY, triangle.cY)));
+            addToCentroid(triangle);
+        }
+    }
+
+    private void addToCentroid(ShapeField.DecodedTriangle triangle) {
+        final int type = triangle.type.ordinal();
+        if (type < dimension) {
+            return;
+        }
+        if (type > dimension) {
+            dimension = type;
+            weightedSumX = weightedSumY = weight = sumX = sumY = count = 0;
+        }
+        final double aX = XYEncodingUtils.decode(triangle.aX);
+        final double aY = XYEncodingUtils.decode(triangle.aY);
+        final double bX = XYEncodingUtils.decode(triangle.bX);
+        final double bY = XYEncodingUtils.decode(triangle.bY);
+        final double cX = XYEncodingUtils.decode(triangle.cX);
+        final double cY = XYEncodingUtils.decode(triangle.cY);
+        final double x;
+        final double y;
+        final double triangleWeight;
+        switch (triangle.type) {
+            case POINT:
+                x = aX;
+                y = aY;
+                triangleWeight = 1;
+                break;
+            case LINE:
+                x = (aX + bX) / 2;
+                y = (aY + bY) / 2;
+                triangleWeight = Math.hypot(bX - aX, bY - aY);
+                break;
+            default:
+                x = (aX + bX + cX) / 3;
+                y = (aY + bY + cY) / 3;
+                triangleWeight = Math.abs((bX - aX) * (cY - aY) - (cX - aX) * (bY - aY)) / 2;
+        }
+        weightedSumX += x * triangleWeight;
+        weightedSumY += y * triangleWeight;
+        weight += triangleWeight;
+        sumX += x;
+        sumY += y;
+        count++;
+    }
+
+    @Override
+    public BytesRef binaryValue() {
+        if (triangles.isEmpty()) {
+            return new BytesRef();
+        }
+        final byte[] bytes = new byte[MAX_HEADER_BYTES + triangles.size() * MAX_TRIANGLE_BYTES];
+        final ByteArrayDataOutput output = new ByteArrayDataOutput(bytes);
+        output.writeInt(minX);
+        output.writeInt(minY);
+        output.writeVLong((long) maxX - minX);
+        output.writeVLong((long) maxY - minY);
+        output.writeByte((byte) dimension);
+        final boolean weighted = weight > 0;
+        final double centroidX = weighted ? weightedSumX / weight : sumX / count;
+        final double centroidY = weighted ? weightedSumY / weight : sumY / count;
+        // centroid is within bounding box, and, its encoded value can't be less than the minimum
+        writeVertex(output, XYEncodingUtils.encode((float) centroidX), XYEncodingUtils.encode((float) centroidY));
+        output.writeLong(Double.doubleToLongBits(weighted ? weight : count));
+        for (ShapeField.DecodedTriangle triangle : triangles) {
+            writeTriangle(output, triangle);
+        }
+        return new BytesRef(bytes, 0, output.getPosition());
+    }
+
+    private void writeTriangle(ByteArrayDataOutput output, ShapeField.DecodedTriangle triangle) {
+        int header = (triangle.ab ? AB_FROM_SHAPE : 0) | (triangle.bc ? BC_FROM_SHAPE : 0) | (triangle.ca ? CA_FROM_SHAPE : 0);
+        switch (triangle.type) {
+            case POINT:
+                output.writeByte((byte) (header | TYPE_POINT));
+                writeVertex(output, triangle.aX, triangle.aY);
+                return;
+            case LINE:
+                output.writeByte((byte) (header | TYPE_LINE));
+                writeVertex(output, triangle.aX, triangle.aY);
+                writeVertex(output, triangle.bX, triangle.bY);
+                return;
+            default:
+                output.writeByte((byte) (header | TYPE_TRIANGLE));
+                writeVertex(output, triangle.aX, triangle.aY);
+                writeVertex(output, triangle.bX, triangle.bY);
+                writeVertex(output, triangle.cX, triangle.cY);
+        }
+    }
+
+    private void writeVertex(ByteArrayDataOutput output, int x, int y) {
+        output.writeVLong((long) x - minX);
+        output.writeVLong((long) y - minY);
+    }
+}
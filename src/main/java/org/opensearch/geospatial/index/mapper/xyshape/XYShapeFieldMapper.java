@@ -5,9 +5,12 @@
 
 package org.opensearch.geospatial.index.mapper.xyshape;
 
+import java.io.IOException;
 import java.util.List;
 import java.util.Map;
 import java.util.Objects;
+import java.util.concurrent.Executor;
+import java.util.function.Supplier;
 
 import org.apache.lucene.document.FieldType;
 import org.apache.lucene.geo.XYGeometry;
@@ -18,12 +21,13 @@ import org.opensearch.common.Explicit;
 import org.opensearch.common.geo.GeometryParser;
 import org.opensearch.common.geo.ShapeRelation;
 import org.opensearch.common.geo.builders.ShapeBuilder;
+import org.opensearch.core.xcontent.XContentBuilder;
 import org.opensearch.geometry.Geometry;
 import org.opensearch.geometry.GeometryVisitor;
 import org.opensearch.geospatial.index.query.xyshape.XYShapeQueryProcessor;
 import org.opensearch.geospatial.index.query.xyshape.XYShapeQueryVisitor;
+import org.opensearch.geospatial.simplify.GeometrySimplifier;
 import org.opensearch.index.mapper.AbstractShapeGeometryFieldMapper;
-import org.opensearch.index.mapper.GeoShapeParser;
 import org.opensearch.index.mapper.MappedFieldType;
 import org.opensearch.index.mapper.ParseContext;
 import org.opensearch.index.query.QueryShardContext;
@@ -34,6 +38,9 @@ import org.opensearch.index.query.QueryShardContext;
 public class XYShapeFieldMapper extends AbstractShapeGeometryFieldMapper<Geometry, Geometry> {
 
     public static final String CONTENT_TYPE = "xy_shape";
+    // Mapping parameter for tolerance of simplification of geometries before they are indexed
+    public static final String SIMPLIFY = "simplify";
+    public static final double SIMPLIFY_DISABLED = 0;
     private static final FieldType FIELD_TYPE = new FieldType();
     // Similar to geo_shape, this field is indexed by encoding it as triangular mesh
     // and index each triangle as 7 dimension point in BKD Tree
@@ -44,6 +51,8 @@ public class XYShapeFieldMapper extends AbstractShapeGeometryFieldMapper<Geometr
         FIELD_TYPE.freeze();
     }
 
+    private final double simplify;
+
     private XYShapeFieldMapper(
         String simpleName,
         FieldType fieldType,
@@ -53,9 +62,11 @@ public class XYShapeFieldMapper extends AbstractShapeGeometryFieldMapper<Geometr
         Explicit<Boolean> ignoreZValue,
         Explicit<ShapeBuilder.Orientation> orientation,
         MultiFields multiFields,
-        CopyTo copyTo
+        CopyTo copyTo,
+        double simplify
     ) {
         super(simpleName, fieldType, mappedFieldType, ignoreMalformed, coerce, ignoreZValue, orientation, multiFields, copyTo);
+        this.simplify = simplify;
     }
 
     @Override
@@ -63,6 +74,13 @@ public class XYShapeFieldMapper extends AbstractShapeGeometryFieldMapper<Geometr
         return (XYShapeFieldType) super.fieldType();
     }
 
+    /**
+     * @return tolerance of simplification of geometries before they are indexed, 0 if they are indexed as they are
+     */
+    public double simplify() {
+        return simplify;
+    }
+
     @Override
     protected boolean docValuesByDefault() {
         return false;
@@ -70,7 +88,19 @@ public class XYShapeFieldMapper extends AbstractShapeGeometryFieldMapper<Geometr
 
     @Override
     protected void mergeGeoOptions(AbstractShapeGeometryFieldMapper mergeWith, List conflicts) {
-        // Cartesian plane don't have to support this feature
+        // Cartesian plane don't have to support geo options. Simplification is part of the indexer of the field type,
+        // which is not updated by merge, hence, it cannot be changed.
+        if (Double.compare(simplify, ((XYShapeFieldMapper) mergeWith).simplify) != 0) {
+            conflicts.add("mapper [" + name() + "] has different [" + SIMPLIFY + "]");
+        }
+    }
+
+    @Override
+    public void doXContentBody(XContentBuilder builder, boolean includeDefaults, Params params) throws IOException {
+        super.doXContentBody(builder, includeDefaults, params);
+        if (includeDefaults || simplify != SIMPLIFY_DISABLED) {
+            builder.field(SIMPLIFY, simplify);
+        }
     }
 
     @Override
@@ -85,7 +115,17 @@ public class XYShapeFieldMapper extends AbstractShapeGeometryFieldMapper<Geometr
 
     @Override
     protected void addDocValuesFields(String name, Geometry geometry, List<IndexableField> fields, ParseContext context) {
-        // doc values are not supported
+        if (fields.isEmpty()) {
+            return;
+        }
+        // Lucene accepts a single binary doc value per field of a document, hence, triangles of every value
+        // of the field in the document are added to the same doc values field
+        XYShapeDocValuesField docValuesField = (XYShapeDocValuesField) context.doc().getByKey(name);
+        if (docValuesField == null) {
+            docValuesField = new XYShapeDocValuesField(name);
+            context.doc().addWithKey(name, docValuesField);
+        }
+        docValuesField.add(fields);
     }
 
     @Override
@@ -100,9 +140,36 @@ public class XYShapeFieldMapper extends AbstractShapeGeometryFieldMapper<Geometr
         XYShapeFieldMapperBuilder,
         XYShapeFieldType> {
 
+        private double simplify = SIMPLIFY_DISABLED;
+        private final Supplier<Executor> tessellationExecutor;
+
         public XYShapeFieldMapperBuilder(String fieldName) {
+            this(fieldName, () -> null);
+        }
+
+        /**
+         * @param fieldName name of the field
+         * @param tessellationExecutor supplier of executor to tessellate large parts of geometries in parallel,
+         *                             which supplies null to tessellate every part by the indexing thread
+         */
+        public XYShapeFieldMapperBuilder(String fieldName, Supplier<Executor> tessellationExecutor) {
             super(fieldName, FIELD_TYPE);
+            // doc values are opt-in, since they take additional space to speed up only some of the queries
             this.hasDocValues = false;
+            this.tessellationExecutor = Objects.requireNonNull(tessellationExecutor, "tessellation executor supplier cannot be null");
+        }
+
+        /**
+         * @param simplify tolerance of simplification of geometries before they are indexed, 0 to index them as they are
+         * @return this builder
+         * @throws IllegalArgumentException if tolerance is negative
+         */
+        public XYShapeFieldMapperBuilder simplify(double simplify) {
+            if (simplify != SIMPLIFY_DISABLED) {
+                GeometrySimplifier.validateTolerance(simplify);
+            }
+            this.simplify = simplify;
+            return this;
         }
 
         @Override
@@ -116,7 +183,8 @@ public class XYShapeFieldMapper extends AbstractShapeGeometryFieldMapper<Geometr
                 ignoreZValue(),
                 orientation(),
                 multiFieldsBuilder.build(this, context),
-                copyTo
+                copyTo,
+                simplify
             );
         }
 
@@ -124,12 +192,14 @@ public class XYShapeFieldMapper extends AbstractShapeGeometryFieldMapper<Geometr
             var processor = new XYShapeQueryProcessor();
             var fieldType = new XYShapeFieldType(buildFullName(context), indexed, this.fieldType.stored(), hasDocValues, meta, processor);
             var geometryParser = new GeometryParser(orientation().value().getAsBoolean(), coerce().value(), ignoreZValue().value());
-            fieldType.setGeometryParser(new GeoShapeParser(geometryParser));
+            fieldType.setGeometryParser(new XYShapeParser(geometryParser, ignoreZValue().value()));
             GeometryVisitor<IndexableField[], RuntimeException> xyShapeIndexableVisitor = new XYShapeIndexableFieldsVisitor(
-                fieldType.name()
+                fieldType.name(),
+                tessellationExecutor.get()
             );
             GeometryVisitor<Geometry, RuntimeException> xyShapeSupportVisitor = new XYShapeSupportVisitor();
-            fieldType.setGeometryIndexer(new XYShapeIndexer(xyShapeSupportVisitor, xyShapeIndexableVisitor));
+            GeometrySimplifier simplifier = simplify == SIMPLIFY_DISABLED ? null : new GeometrySimplifier(simplify);
+            fieldType.setGeometryIndexer(new XYShapeIndexer(xyShapeSupportVisitor, xyShapeIndexableVisitor, simplifier));
             fieldType.setOrientation(orientation().value());
             return fieldType;
         }
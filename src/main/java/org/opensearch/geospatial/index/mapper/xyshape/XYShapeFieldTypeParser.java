@@ -6,15 +6,51 @@
 package org.opensearch.geospatial.index.mapper.xyshape;
 
 import java.util.Map;
+import java.util.Objects;
+import java.util.concurrent.Executor;
+import java.util.function.Supplier;
 
+import org.opensearch.common.xcontent.support.XContentMapValues;
 import org.opensearch.index.mapper.AbstractShapeGeometryFieldMapper;
+import org.opensearch.index.mapper.MapperParsingException;
 
 /**
  * XYShapeFieldTypeParser to parse and validate mapping parameters
  */
 public final class XYShapeFieldTypeParser extends AbstractShapeGeometryFieldMapper.TypeParser {
+    private final Supplier<Executor> tessellationExecutor;
+
+    public XYShapeFieldTypeParser() {
+        this(() -> null);
+    }
+
+    /**
+     * @param tessellationExecutor supplier of executor to tessellate large parts of geometries in parallel
+     */
+    public XYShapeFieldTypeParser(Supplier<Executor> tessellationExecutor) {
+        this.tessellationExecutor = Objects.requireNonNull(tessellationExecutor, "tessellation executor supplier cannot be null");
+    }
+
     @Override
     protected AbstractShapeGeometryFieldMapper.Builder newBuilder(String name, Map<String, Object> params) {
-        return new XYShapeFieldMapper.XYShapeFieldMapperBuilder(name);
+        return new XYShapeFieldMapper.XYShapeFieldMapperBuilder(name, tessellationExecutor);
+    }
+
+    @Override
+    public AbstractShapeGeometryFieldMapper.Builder parse(String name, Map<String, Object> node, ParserContext parserContext)
+        throws MapperParsingException {
+        // simplify is specific to xy_shape, hence, it is removed before common parameters are parsed
+        final Object simplify = node.remove(XYShapeFieldMapper.SIMPLIFY);
+        final AbstractShapeGeometryFieldMapper.Builder builder = super.parse(name, node, parserContext);
+        if (simplify != null) {
+            try {
+                ((XYShapeFieldMapper.XYShapeFieldMapperBuilder) builder).simplify(
+                    XContentMapValues.nodeDoubleValue(simplify, XYShapeFieldMapper.SIMPLIFY_DISABLED)
+                );
+            } catch (IllegalArgumentException e) {
+                throw new MapperParsingException("failed to parse [" + XYShapeFieldMapper.SIMPLIFY + "] of field [" + name + "]", e);
+            }
+        }
+        return builder;
     }
 }
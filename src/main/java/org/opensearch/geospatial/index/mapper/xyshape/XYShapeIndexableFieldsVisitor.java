@@ -9,11 +9,12 @@ import static org.opensearch.geometry.ShapeType.CIRCLE;
 import static org.opensearch.geometry.ShapeType.LINEARRING;
 import static org.opensearch.geospatial.index.common.xyshape.XYShapeConverter.toXYPoint;
 
-import java.util.ArrayList;
-import java.util.Arrays;
-import java.util.List;
 import java.util.Locale;
 import java.util.Objects;
+import java.util.concurrent.ExecutionException;
+import java.util.concurrent.Executor;
+import java.util.concurrent.FutureTask;
+import java.util.concurrent.RejectedExecutionException;
 
 import org.apache.lucene.document.XYShape;
 import org.apache.lucene.geo.XYLine;
@@ -21,6 +22,7 @@ import org.apache.lucene.geo.XYPoint;
 import org.apache.lucene.geo.XYPolygon;
 import org.apache.lucene.index.IndexableField;
 import org.opensearch.geometry.Circle;
+import org.opensearch.geometry.Geometry;
 import org.opensearch.geometry.GeometryCollection;
 import org.opensearch.geometry.GeometryVisitor;
 import org.opensearch.geometry.Line;
@@ -35,13 +37,33 @@ import org.opensearch.geometry.ShapeType;
 import org.opensearch.geospatial.index.common.xyshape.XYShapeConverter;
 
 /**
- * Visitor to build only supported Shapes into Lucene indexable fields
+ * Visitor to build only supported Shapes into Lucene indexable fields. Parts of multi-part shapes, and, of geometry
+ * collections, with at least {@link #PARALLEL_VERTICES_THRESHOLD} vertices are tessellated in parallel on the executor
+ * of {@link XYShapeTessellationExecutor}, if there are at least two of them, while the indexing thread tessellates the
+ * first large part and the small parts. Large parts which are rejected by, or, not started yet on the executor are
+ * tessellated by the indexing thread too, instead of waiting for them.
  */
 public final class XYShapeIndexableFieldsVisitor implements GeometryVisitor<IndexableField[], RuntimeException> {
+    // Parts smaller than this are tessellated by the indexing thread, since they are not worth to be handed off
+    static final int PARALLEL_VERTICES_THRESHOLD = 1_000;
     private final String fieldName;
+    private final Executor executor;
 
+    /**
+     * Tessellates every part by the calling thread
+     * @param fieldName name of the field
+     */
     public XYShapeIndexableFieldsVisitor(String fieldName) {
+        this(fieldName, null);
+    }
+
+    /**
+     * @param fieldName name of the field
+     * @param executor executor to tessellate large parts in parallel, null to tessellate every part by the calling thread
+     */
+    public XYShapeIndexableFieldsVisitor(String fieldName, Executor executor) {
         this.fieldName = fieldName;
+        this.executor = executor;
     }
 
     @Override
@@ -108,8 +130,99 @@ public final class XYShapeIndexableFieldsVisitor implements GeometryVisitor<Inde
     }
 
     private IndexableField[] visitCollection(GeometryCollection<?> collection) {
-        List<IndexableField> fields = new ArrayList<>();
-        collection.forEach(geometry -> fields.addAll(Arrays.asList(geometry.visit(this))));
-        return fields.toArray(IndexableField[]::new);
+        final IndexableField[][] parts = new IndexableField[collection.size()][];
+        final FutureTask<IndexableField[]>[] tasks = forkLargeParts(collection);
+        for (int i = 0; i < parts.length; i++) {
+            if (tasks == null || tasks[i] == null) {
+                parts[i] = collection.get(i).visit(this);
+            }
+        }
+        int size = 0;
+        for (int i = 0; i < parts.length; i++) {
+            if (tasks != null && tasks[i] != null) {
+                // part is tessellated by this thread, if the executor hasn't started it yet
+                tasks[i].run();
+                parts[i] = join(tasks[i]);
+            }
+            size += parts[i].length;
+        }
+        final IndexableField[] fields = new IndexableField[size];
+        int offset = 0;
+        for (IndexableField[] part : parts) {
+            System.arraycopy(part, 0, fields, offset, part.length);
+            offset += part.length;
+        }
+        return fields;
+    }
+
+    // submits every large part but the first one to be tessellated by the executor. Returns tasks by index of the part,
+    // or, null if there are less than two large parts. A task which is rejected by the executor is run by the caller.
+    @SuppressWarnings("unchecked")
+    private FutureTask<IndexableField[]>[] forkLargeParts(GeometryCollection<?> collection) {
+        if (executor == null) {
+            return null;
+        }
+        int largeParts = 0;
+        for (Geometry geometry : collection) {
+            if (vertexCount(geometry) >= PARALLEL_VERTICES_THRESHOLD) {
+                largeParts++;
+            }
+        }
+        if (largeParts < 2) {
+            return null;
+        }
+        final FutureTask<IndexableField[]>[] tasks = new FutureTask[collection.size()];
+        boolean first = true;
+        for (int i = 0; i < tasks.length; i++) {
+            final Geometry geometry = collection.get(i);
+            if (vertexCount(geometry) < PARALLEL_VERTICES_THRESHOLD) {
+                continue;
+            }
+            if (first) {
+                first = false;
+                continue;
+            }
+            tasks[i] = new FutureTask<>(() -> geometry.visit(this));
+            try {
+                executor.execute(tasks[i]);
+            } catch (RejectedExecutionException e) {
+                // tessellated by the caller, when it joins the task
+            }
+        }
+        return tasks;
+    }
+
+    // rethrows failure of the part, same as if it was tessellated by this thread
+    private static IndexableField[] join(FutureTask<IndexableField[]> task) {
+        try {
+            return task.get();
+        } catch (ExecutionException e) {
+            if (e.getCause() instanceof RuntimeException) {
+                throw (RuntimeException) e.getCause();
+            }
+            if (e.getCause() instanceof Error) {
+                throw (Error) e.getCause();
+            }
+            throw new IllegalStateException("failed to tessellate part of shape", e.getCause());
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+            throw new IllegalStateException("interrupted while tessellating part of shape", e);
+        }
+    }
+
+    // number of vertices of parts which can be tessellated on their own, 0 for others
+    private static int vertexCount(Geometry geometry) {
+        if (geometry instanceof Polygon) {
+            final Polygon polygon = (Polygon) geometry;
+            int count = polygon.getPolygon().length();
+            for (int i = 0; i < polygon.getNumberOfHoles(); i++) {
+                count += polygon.getHole(i).length();
+            }
+            return count;
+        }
+        if (geometry instanceof Line) {
+            return ((Line) geometry).length();
+        }
+        return 0;
     }
 }
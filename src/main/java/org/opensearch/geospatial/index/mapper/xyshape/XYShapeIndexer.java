@@ -12,6 +12,7 @@ import java.util.Objects;
 import org.apache.lucene.index.IndexableField;
 import org.opensearch.geometry.Geometry;
 import org.opensearch.geometry.GeometryVisitor;
+import org.opensearch.geospatial.simplify.GeometrySimplifier;
 import org.opensearch.index.mapper.AbstractGeometryFieldMapper;
 import org.opensearch.index.mapper.ParseContext;
 
@@ -22,19 +23,38 @@ public class XYShapeIndexer implements AbstractGeometryFieldMapper.Indexer<Geome
 
     private final GeometryVisitor<IndexableField[], RuntimeException> indexableFieldsVisitor;
     private final GeometryVisitor<Geometry, RuntimeException> supportVisitor;
+    private final GeometrySimplifier simplifier;
 
     public XYShapeIndexer(
         GeometryVisitor<Geometry, RuntimeException> supportVisitor,
         GeometryVisitor<IndexableField[], RuntimeException> indexableFieldsVisitor
+    ) {
+        this(supportVisitor, indexableFieldsVisitor, null);
+    }
+
+    /**
+     * @param supportVisitor visitor to convert geometry into supported geometry
+     * @param indexableFieldsVisitor visitor to build indexable fields from geometry
+     * @param simplifier simplifier to reduce vertices of geometry before it is tessellated, null to index geometry as it is
+     */
+    public XYShapeIndexer(
+        GeometryVisitor<Geometry, RuntimeException> supportVisitor,
+        GeometryVisitor<IndexableField[], RuntimeException> indexableFieldsVisitor,
+        GeometrySimplifier simplifier
     ) {
         this.supportVisitor = Objects.requireNonNull(supportVisitor, "support visitor param cannot be null");
         this.indexableFieldsVisitor = Objects.requireNonNull(indexableFieldsVisitor, "indexable field visitor param cannot be null");
+        this.simplifier = simplifier;
     }
 
     @Override
     public Geometry prepareForIndexing(Geometry geometry) {
         Objects.requireNonNull(geometry, "Geometry cannot be null");
-        return geometry.visit(supportVisitor);
+        final Geometry supportedGeometry = geometry.visit(supportVisitor);
+        if (simplifier == null) {
+            return supportedGeometry;
+        }
+        return simplifier.simplify(supportedGeometry).getGeometry();
     }
 
     @Override
@@ -0,0 +1,40 @@
+/*
+ * Copyright OpenSearch Contributors
+ * SPDX-License-Identifier: Apache-2.0
+ */
+
+package org.opensearch.geospatial.index.mapper.xyshape;
+
+import java.io.IOException;
+import java.text.ParseException;
+
+import org.opensearch.common.geo.GeometryParser;
+import org.opensearch.core.xcontent.XContentParser;
+import org.opensearch.geometry.Geometry;
+import org.opensearch.geometry.utils.GeometryValidator;
+import org.opensearch.geometry.utils.StandardValidator;
+import org.opensearch.geospatial.encoding.CompactGeometryEncoding;
+import org.opensearch.index.mapper.GeoShapeParser;
+
+/**
+ * Parser of xy_shape field, which parses geometry encoded by {@link CompactGeometryEncoding}, in addition to
+ * GeoJSON and WKT.
+ */
+public class XYShapeParser extends GeoShapeParser {
+    private final GeometryValidator validator;
+
+    public XYShapeParser(GeometryParser geometryParser, boolean ignoreZValue) {
+        super(geometryParser);
+        this.validator = new StandardValidator(ignoreZValue);
+    }
+
+    @Override
+    public Geometry parse(XContentParser parser) throws IOException, ParseException {
+        if (parser.currentToken() == XContentParser.Token.VALUE_STRING && CompactGeometryEncoding.isEncoded(parser.text())) {
+            final Geometry geometry = CompactGeometryEncoding.toGeometry(parser.text());
+            validator.validate(geometry);
+            return geometry;
+        }
+        return super.parse(parser);
+    }
+}
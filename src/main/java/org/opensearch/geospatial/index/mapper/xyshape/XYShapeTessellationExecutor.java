@@ -0,0 +1,55 @@
+/*
+ * Copyright OpenSearch Contributors
+ * SPDX-License-Identifier: Apache-2.0
+ */
+
+package org.opensearch.geospatial.index.mapper.xyshape;
+
+import java.util.concurrent.ExecutorService;
+
+import org.opensearch.common.settings.Settings;
+import org.opensearch.common.util.concurrent.OpenSearchExecutors;
+import org.opensearch.threadpool.ExecutorBuilder;
+import org.opensearch.threadpool.FixedExecutorBuilder;
+import org.opensearch.threadpool.ThreadPool;
+
+/**
+ * Provide executor to tessellate large parts of xy_shape geometries in parallel
+ */
+public class XYShapeTessellationExecutor {
+    private static final String THREAD_POOL_NAME = "_plugin_geospatial_xy_shape_tessellation";
+    private static final int QUEUE_SIZE = 1000;
+    private final ThreadPool threadPool;
+
+    public XYShapeTessellationExecutor(final ThreadPool threadPool) {
+        this.threadPool = threadPool;
+    }
+
+    /**
+     * Thread count is bounded to half of the processors, so that a few documents with many large parts
+     * don't starve the rest of the node. Indexing threads tessellate parts which are not started yet by themselves,
+     * hence, parts which are queued, or, rejected don't fail indexing.
+     *
+     * @param settings the settings
+     * @return the executor builder
+     */
+    public static ExecutorBuilder executorBuilder(final Settings settings) {
+        return new FixedExecutorBuilder(
+            settings,
+            THREAD_POOL_NAME,
+            Math.max(1, OpenSearchExecutors.allocatedProcessors(settings) / 2),
+            QUEUE_SIZE,
+            THREAD_POOL_NAME,
+            false
+        );
+    }
+
+    /**
+     * Return an executor service to tessellate large parts of geometries in parallel
+     *
+     * @return the executor service
+     */
+    public ExecutorService forTessellation() {
+        return threadPool.executor(THREAD_POOL_NAME);
+    }
+}
@@ -0,0 +1,108 @@
+/*
+ * Copyright OpenSearch Contributors
+ * SPDX-License-Identifier: Apache-2.0
+ */
+
+package org.opensearch.geospatial.index.query.functionscore;
+
+import java.util.Locale;
+
+import org.apache.lucene.search.Explanation;
+
+/**
+ * Decay functions of distance from an origin, same as gauss, exp and linear decay functions of geo_point fields,
+ * where a document at distance of offset + scale from the origin is scored as decay.
+ */
+public enum XYDecayFunction {
+    GAUSS("xy_gauss") {
+        @Override
+        double processScale(double scale, double decay) {
+            return 0.5 * Math.pow(scale, 2.0) / Math.log(decay);
+        }
+
+        @Override
+        double evaluate(double value, double processedScale) {
+            return Math.exp(0.5 * Math.pow(value, 2.0) / processedScale);
+        }
+
+        @Override
+        Explanation explain(double value, double processedScale) {
+            return Explanation.match(
+                (float) evaluate(value, processedScale),
+                String.format(Locale.ROOT, "exp(-0.5*pow(%f,2.0)/%f)", value, -1 * processedScale)
+            );
+        }
+    },
+    EXP("xy_exp") {
+        @Override
+        double processScale(double scale, double decay) {
+            return Math.log(decay) / scale;
+        }
+
+        @Override
+        double evaluate(double value, double processedScale) {
+            return Math.exp(processedScale * value);
+        }
+
+        @Override
+        Explanation explain(double value, double processedScale) {
+            return Explanation.match(
+                (float) evaluate(value, processedScale),
+                String.format(Locale.ROOT, "exp(- %f * %f)", value, -1 * processedScale)
+            );
+        }
+    },
+    LINEAR("xy_linear") {
+        @Override
+        double processScale(double scale, double decay) {
+            return scale / (1.0 - decay);
+        }
+
+        @Override
+        double evaluate(double value, double processedScale) {
+            return Math.max(0.0, (processedScale - value) / processedScale);
+        }
+
+        @Override
+        Explanation explain(double value, double processedScale) {
+            return Explanation.match(
+                (float) evaluate(value, processedScale),
+                String.format(Locale.ROOT, "max(0.0, ((%f - %f)/%f)", processedScale, value, processedScale)
+            );
+        }
+    };
+
+    private final String functionName;
+
+    XYDecayFunction(String functionName) {
+        this.functionName = functionName;
+    }
+
+    /**
+     * @return name of the function in function_score query
+     */
+    public String getFunctionName() {
+        return functionName;
+    }
+
+    /**
+     * @param scale distance from offset where score is decay
+     * @param decay score at scale
+     * @return scale as used by {@link #evaluate(double, double)}, which is computed once per query
+     */
+    abstract double processScale(double scale, double decay);
+
+    /**
+     * @param value distance beyond offset
+     * @param processedScale scale as computed by {@link #processScale(double, double)}
+     * @return score
+     */
+    abstract double evaluate(double value, double processedScale);
+
+    /**
+     * @param value distance beyond offset
+     * @param processedScale scale as computed by {@link #processScale(double, double)}
+     * @return explanation of the score
+     */
+    abstract Explanation explain(double value, double processedScale);
+}
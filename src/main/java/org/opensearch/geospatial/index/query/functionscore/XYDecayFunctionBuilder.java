@@ -0,0 +1,274 @@
+/*
+ * Copyright OpenSearch Contributors
+ * SPDX-License-Identifier: Apache-2.0
+ */
+
+package org.opensearch.geospatial.index.query.functionscore;
+
+import java.io.IOException;
+import java.util.Locale;
+import java.util.Objects;
+
+import org.opensearch.common.lucene.search.function.ScoreFunction;
+import org.opensearch.core.ParseField;
+import org.opensearch.core.common.ParsingException;
+import org.opensearch.core.common.io.stream.StreamInput;
+import org.opensearch.core.common.io.stream.StreamOutput;
+import org.opensearch.core.xcontent.XContentBuilder;
+import org.opensearch.core.xcontent.XContentParser;
+import org.opensearch.geospatial.index.mapper.xypoint.XYPoint;
+import org.opensearch.geospatial.index.mapper.xypoint.XYPointFieldMapper;
+import org.opensearch.geospatial.index.mapper.xypoint.XYPointParser;
+import org.opensearch.index.mapper.MappedFieldType;
+import org.opensearch.index.query.QueryShardContext;
+import org.opensearch.index.query.functionscore.ScoreFunctionBuilder;
+import org.opensearch.search.MultiValueMode;
+
+/**
+ * Builder of decay functions of distance from an origin of xy_point fields, as "xy_gauss", "xy_exp" and "xy_linear"
+ * functions of function_score query, e.g.
+ * <pre>
+ * "xy_gauss": {
+ *     "location": {
+ *         "origin": { "x": 10, "y": 20 },
+ *         "scale": 100,
+ *         "offset": 0,
+ *         "decay": 0.5
+ *     },
+ *     "multi_value_mode": "min"
+ * }
+ * </pre>
+ */
+public class XYDecayFunctionBuilder extends ScoreFunctionBuilder<XYDecayFunctionBuilder> {
+
+    public static final ParseField ORIGIN = new ParseField("origin");
+    public static final ParseField SCALE = new ParseField("scale");
+    public static final ParseField OFFSET = new ParseField("offset");
+    public static final ParseField DECAY = new ParseField("decay");
+    public static final ParseField MULTI_VALUE_MODE = new ParseField("multi_value_mode");
+    public static final double DEFAULT_DECAY = 0.5;
+    private static final String X_PARAMETER = "x";
+    private static final String Y_PARAMETER = "y";
+
+    private final XYDecayFunction function;
+    private final String fieldName;
+    private final double x;
+    private final double y;
+    private final double scale;
+    private final double offset;
+    private final double decay;
+    private MultiValueMode multiValueMode = MultiValueMode.MIN;
+
+    /**
+     * @param function decay function of distance
+     * @param fieldName name of xy_point field
+     * @param x x of the origin
+     * @param y y of the origin
+     * @param scale distance from offset where score is decay
+     * @param offset distance from the origin within which score is 1
+     * @param decay score at scale
+     * @throws IllegalArgumentException if scale is not positive, offset is negative, or, decay is not in (0, 1)
+     */
+    public XYDecayFunctionBuilder(
+        XYDecayFunction function,
+        String fieldName,
+        double x,
+        double y,
+        double scale,
+        double offset,
+        double decay
+    ) {
+        this.function = Objects.requireNonNull(function, "function cannot be null");
+        this.fieldName = Objects.requireNonNull(fieldName, "field name cannot be null");
+        if (scale <= 0) {
+            throw new IllegalArgumentException(String.format(Locale.ROOT, "[%s] must be greater than 0, found [%f]", SCALE, scale));
+        }
+        if (offset < 0) {
+            throw new IllegalArgumentException(String.format(Locale.ROOT, "[%s] must not be negative, found [%f]", OFFSET, offset));
+        }
+        if (decay <= 0 || decay >= 1.0) {
+            throw new IllegalArgumentException(String.format(Locale.ROOT, "[%s] must be in the range (0..1), found [%f]", DECAY, decay));
+        }
+        this.x = x;
+        this.y = y;
+        this.scale = scale;
+        this.offset = offset;
+        this.decay = decay;
+    }
+
+    public XYDecayFunctionBuilder(StreamInput in) throws IOException {
+        super(in);
+        this.function = in.readEnum(XYDecayFunction.class);
+        this.fieldName = in.readString();
+        this.x = in.readDouble();
+        this.y = in.readDouble();
+        this.scale = in.readDouble();
+        this.offset = in.readDouble();
+        this.decay = in.readDouble();
+        this.multiValueMode = MultiValueMode.readMultiValueModeFrom(in);
+    }
+
+    @Override
+    protected void doWriteTo(StreamOutput out) throws IOException {
+        out.writeEnum(function);
+        out.writeString(fieldName);
+        out.writeDouble(x);
+        out.writeDouble(y);
+        out.writeDouble(scale);
+        out.writeDouble(offset);
+        out.writeDouble(decay);
+        multiValueMode.writeTo(out);
+    }
+
+    @Override
+    public String getName() {
+        return function.getFunctionName();
+    }
+
+    public XYDecayFunction getFunction() {
+        return function;
+    }
+
+    public String getFieldName() {
+        return fieldName;
+    }
+
+    /**
+     * @param multiValueMode which distance of a document with multiple points is scored, min by default
+     * @return this builder
+     */
+    public XYDecayFunctionBuilder setMultiValueMode(MultiValueMode multiValueMode) {
+        this.multiValueMode = Objects.requireNonNull(multiValueMode, "[" + MULTI_VALUE_MODE + "] cannot be null");
+        return this;
+    }
+
+    public MultiValueMode getMultiValueMode() {
+        return multiValueMode;
+    }
+
+    @Override
+    protected ScoreFunction doToFunction(QueryShardContext context) {
+        final MappedFieldType fieldType = context.fieldMapper(fieldName);
+        if (fieldType == null) {
+            throw new IllegalArgumentException(String.format(Locale.ROOT, "unknown field [%s] of function [%s]", fieldName, getName()));
+        }
+        if (fieldType instanceof XYPointFieldMapper.XYPointFieldType == false) {
+            throw new IllegalArgumentException(
+                String.format(
+                    Locale.ROOT,
+                    "field [%s] is of type [%s], but only [%s] is supported by function [%s]",
+                    fieldName,
+                    fieldType.typeName(),
+                    XYPointFieldMapper.CONTENT_TYPE,
+                    getName()
+                )
+            );
+        }
+        if (fieldType.hasDocValues() == false) {
+            throw new IllegalArgumentException(
+                String.format(Locale.ROOT, "field [%s] should have doc values for function [%s]", fieldName, getName())
+            );
+        }
+        return new XYDecayScoreFunction(fieldName, (float) x, (float) y, scale, offset, decay, function, multiValueMode);
+    }
+
+    @Override
+    protected void doXContent(XContentBuilder builder, Params params) throws IOException {
+        builder.startObject(getName());
+        builder.startObject(fieldName);
+        builder.startObject(ORIGIN.getPreferredName()).field(X_PARAMETER, x).field(Y_PARAMETER, y).endObject();
+        builder.field(SCALE.getPreferredName(), scale);
+        builder.field(OFFSET.getPreferredName(), offset);
+        builder.field(DECAY.getPreferredName(), decay);
+        builder.endObject();
+        builder.field(MULTI_VALUE_MODE.getPreferredName(), multiValueMode.name());
+        builder.endObject();
+    }
+
+    /**
+     * Parse a decay function, positioned at the start of the function object
+     * @param parser parser of the function
+     * @param function decay function of the name of the function
+     * @return builder of the function
+     * @throws IOException if the function cannot be parsed
+     */
+    public static XYDecayFunctionBuilder fromXContent(XContentParser parser, XYDecayFunction function) throws IOException {
+        String fieldName = null;
+        XYPoint origin = null;
+        Double scale = null;
+        double offset = 0;
+        double decay = DEFAULT_DECAY;
+        MultiValueMode multiValueMode = MultiValueMode.MIN;
+        String currentName = null;
+        XContentParser.Token token;
+        while ((token = parser.nextToken()) != XContentParser.Token.END_OBJECT) {
+            if (token == XContentParser.Token.FIELD_NAME) {
+                currentName = parser.currentName();
+            } else if (MULTI_VALUE_MODE.match(currentName, parser.getDeprecationHandler())) {
+                multiValueMode = MultiValueMode.fromString(parser.text());
+            } else if (token == XContentParser.Token.START_OBJECT && fieldName == null) {
+                fieldName = currentName;
+                while ((token = parser.nextToken()) != XContentParser.Token.END_OBJECT) {
+                    if (token == XContentParser.Token.FIELD_NAME) {
+                        currentName = parser.currentName();
+                    } else if (ORIGIN.match(currentName, parser.getDeprecationHandler())) {
+                        origin = XYPointParser.parseXYPoint(parser, true);
+                    } else if (SCALE.match(currentName, parser.getDeprecationHandler())) {
+                        scale = parser.doubleValue();
+                    } else if (OFFSET.match(currentName, parser.getDeprecationHandler())) {
+                        offset = parser.doubleValue();
+                    } else if (DECAY.match(currentName, parser.getDeprecationHandler())) {
+                        decay = parser.doubleValue();
+                    } else {
+                        throw new ParsingException(
+                            parser.getTokenLocation(),
+                            String.format(
+                                Locale.ROOT,
+                                "parameter [%s] not supported by function [%s]",
+                                currentName,
+                                function.getFunctionName()
+                            )
+                        );
+                    }
+                }
+            } else {
+                throw new ParsingException(
+                    parser.getTokenLocation(),
+                    String.format(Locale.ROOT, "malformed score function [%s], found [%s]", function.getFunctionName(), currentName)
+                );
+            }
+        }
+        if (fieldName == null || origin == null || scale == null) {
+            throw new ParsingException(
+                parser.getTokenLocation(),
+                String.format(
+                    Locale.ROOT,
+                    "[%s] and [%s] of a field must be set for function [%s]",
+                    ORIGIN,
+                    SCALE,
+                    function.getFunctionName()
+                )
+            );
+        }
+        return new XYDecayFunctionBuilder(function, fieldName, origin.getX(), origin.getY(), scale, offset, decay).setMultiValueMode(
+            multiValueMode
+        );
+    }
+
+    @Override
+    protected boolean doEquals(XYDecayFunctionBuilder other) {
+        return function == other.function
+            && Objects.equals(fieldName, other.fieldName)
+            && Double.compare(x, other.x) == 0
+            && Double.compare(y, other.y) == 0
+            && Double.compare(scale, other.scale) == 0
+            && Double.compare(offset, other.offset) == 0
+            && Double.compare(decay, other.decay) == 0
+            && multiValueMode == other.multiValueMode;
+    }
+
+    @Override
+    protected int doHashCode() {
+        return Objects.hash(function, fieldName, x, y, scale, offset, decay, multiValueMode);
+    }
+}
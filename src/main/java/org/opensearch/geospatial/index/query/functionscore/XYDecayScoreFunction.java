@@ -0,0 +1,102 @@
+/*
+ * Copyright OpenSearch Contributors
+ * SPDX-License-Identifier: Apache-2.0
+ */
+
+package org.opensearch.geospatial.index.query.functionscore;
+
+import java.io.IOException;
+import java.util.Objects;
+
+import org.apache.lucene.index.LeafReaderContext;
+import org.apache.lucene.search.Explanation;
+import org.opensearch.common.lucene.search.function.CombineFunction;
+import org.opensearch.common.lucene.search.function.LeafScoreFunction;
+import org.opensearch.common.lucene.search.function.ScoreFunction;
+import org.opensearch.geospatial.index.mapper.xypoint.XYPointDistanceValues;
+import org.opensearch.index.fielddata.NumericDoubleValues;
+import org.opensearch.search.MultiValueMode;
+
+/**
+ * Scores documents by decay of euclidean distance of points of an xy_point field from an origin.
+ * Documents without a point are scored as 1, same as decay functions of geo_point fields.
+ */
+public class XYDecayScoreFunction extends ScoreFunction {
+
+    private final String fieldName;
+    private final float originX;
+    private final float originY;
+    private final double offset;
+    private final double processedScale;
+    private final XYDecayFunction function;
+    private final MultiValueMode multiValueMode;
+
+    public XYDecayScoreFunction(
+        String fieldName,
+        float originX,
+        float originY,
+        double scale,
+        double offset,
+        double decay,
+        XYDecayFunction function,
+        MultiValueMode multiValueMode
+    ) {
+        super(CombineFunction.MULTIPLY);
+        this.fieldName = fieldName;
+        this.originX = originX;
+        this.originY = originY;
+        this.offset = offset;
+        this.processedScale = function.processScale(scale, decay);
+        this.function = function;
+        this.multiValueMode = multiValueMode;
+    }
+
+    @Override
+    public LeafScoreFunction getLeafScoreFunction(LeafReaderContext ctx) throws IOException {
+        final NumericDoubleValues distances = multiValueMode.select(XYPointDistanceValues.of(ctx.reader(), fieldName, originX, originY));
+        return new LeafScoreFunction() {
+            @Override
+            public double score(int docId, float subQueryScore) throws IOException {
+                if (distances.advanceExact(docId) == false) {
+                    return 1.0;
+                }
+                return function.evaluate(Math.max(0.0, distances.doubleValue() - offset), processedScale);
+            }
+
+            @Override
+            public Explanation explainScore(int docId, Explanation subQueryScore) throws IOException {
+                if (distances.advanceExact(docId) == false) {
+                    return Explanation.match(1.0f, "Function for field " + fieldName + ": no value, score is 1");
+                }
+                final double value = Math.max(0.0, distances.doubleValue() - offset);
+                return Explanation.match(
+                    (float) function.evaluate(value, processedScale),
+                    "Function for field " + fieldName + ":",
+                    function.explain(value, processedScale)
+                );
+            }
+        };
+    }
+
+    @Override
+    public boolean needsScores() {
+        return false;
+    }
+
+    @Override
+    protected boolean doEquals(ScoreFunction other) {
+        final XYDecayScoreFunction that = (XYDecayScoreFunction) other;
+        return Objects.equals(fieldName, that.fieldName)
+            && originX == that.originX
+            && originY == that.originY
+            && offset == that.offset
+            && processedScale == that.processedScale
+            && function == that.function
+            && multiValueMode == that.multiValueMode;
+    }
+
+    @Override
+    protected int doHashCode() {
+        return Objects.hash(fieldName, originX, originY, offset, processedScale, function, multiValueMode);
+    }
+}
@@ -0,0 +1,172 @@
+/*
+ * Copyright OpenSearch Contributors
+ * SPDX-License-Identifier: Apache-2.0
+ */
+
+package org.opensearch.geospatial.index.query.xypoint;
+
+import java.util.Arrays;
+import java.util.Objects;
+
+import org.apache.lucene.index.LeafReaderContext;
+import org.apache.lucene.search.DocIdSetIterator;
+import org.apache.lucene.search.Explanation;
+import org.apache.lucene.search.IndexSearcher;
+import org.apache.lucene.search.Query;
+import org.apache.lucene.search.QueryVisitor;
+import org.apache.lucene.search.ScoreMode;
+import org.apache.lucene.search.Scorer;
+import org.apache.lucene.search.ScorerSupplier;
+import org.apache.lucene.search.Weight;
+
+/**
+ * Query that matches given documents of a reader with given scores, which are nearest documents found by
+ * {@link XYNearestQuery}. It is only valid for the reader that it was created for.
+ */
+final class XYNearestDocsQuery extends Query {
+
+    // doc ids in the top level reader in ascending order
+    private final int[] docs;
+    private final float[] scores;
+    // id of the context of the top level reader
+    private final Object contextId;
+
+    XYNearestDocsQuery(int[] docs, float[] scores, Object contextId) {
+        this.docs = docs;
+        this.scores = scores;
+        this.contextId = contextId;
+    }
+
+    @Override
+    public Weight createWeight(IndexSearcher searcher, ScoreMode scoreMode, float boost) {
+        if (searcher.getIndexReader().getContext().id() != contextId) {
+            throw new IllegalStateException("nearest documents were found by a different reader");
+        }
+        return new Weight(this) {
+            @Override
+            public Explanation explain(LeafReaderContext context, int doc) {
+                final int index = Arrays.binarySearch(docs, context.docBase + doc);
+                if (index < 0) {
+                    return Explanation.noMatch("not one of nearest documents");
+                }
+                return Explanation.match(scores[index] * boost, "one of nearest documents, score of 1 / (1 + distance)");
+            }
+
+            @Override
+            public ScorerSupplier scorerSupplier(LeafReaderContext context) {
+                final int lower = lowerBound(context.docBase);
+                final int upper = lowerBound(context.docBase + context.reader().maxDoc());
+                if (lower == upper) {
+                    return null;
+                }
+                return new DefaultScorerSupplier(new NearestDocsScorer(context.docBase, lower, upper, boost));
+            }
+
+            @Override
+            public boolean isCacheable(LeafReaderContext context) {
+                return true;
+            }
+        };
+    }
+
+    // index of the first doc that is not less than the given doc
+    private int lowerBound(int doc) {
+        final int index = Arrays.binarySearch(docs, doc);
+        return index < 0 ? -1 - index : index;
+    }
+
+    /**
+     * Scorer of nearest documents of a segment, which are docs in [lower, upper)
+     */
+    private final class NearestDocsScorer extends Scorer {
+        private final int docBase;
+        private final int lower;
+        private final int upper;
+        private final float boost;
+        private final float maxScore;
+        private int index;
+
+        NearestDocsScorer(int docBase, int lower, int upper, float boost) {
+            this.docBase = docBase;
+            this.lower = lower;
+            this.upper = upper;
+            this.boost = boost;
+            this.index = lower - 1;
+            float max = 0;
+            for (int i = lower; i < upper; i++) {
+                max = Math.max(max, scores[i]);
+            }
+            this.maxScore = max * boost;
+        }
+
+        @Override
+        public int docID() {
+            if (index < lower) {
+                return -1;
+            }
+            return index >= upper ? DocIdSetIterator.NO_MORE_DOCS : docs[index] - docBase;
+        }
+
+        @Override
+        public DocIdSetIterator iterator() {
+            return new DocIdSetIterator() {
+                @Override
+                public int docID() {
+                    return NearestDocsScorer.this.docID();
+                }
+
+                @Override
+                public int nextDoc() {
+                    index = Math.min(index + 1, upper);
+                    return docID();
+                }
+
+                @Override
+                public int advance(int target) {
+                    index = Math.max(index + 1, lowerBound(docBase + target));
+                    index = Math.min(index, upper);
+                    return docID();
+                }
+
+                @Override
+                public long cost() {
+                    return upper - lower;
+                }
+            };
+        }
+
+        @Override
+        public float getMaxScore(int upTo) {
+            return maxScore;
+        }
+
+        @Override
+        public float score() {
+            return scores[index] * boost;
+        }
+    }
+
+    @Override
+    public void visit(QueryVisitor visitor) {
+        visitor.visitLeaf(this);
+    }
+
+    @Override
+    public String toString(String field) {
+        return "XYNearestDocsQuery" + Arrays.toString(docs);
+    }
+
+    @Override
+    public boolean equals(Object other) {
+        if (sameClassAs(other) == false) {
+            return false;
+        }
+        final XYNearestDocsQuery that = (XYNearestDocsQuery) other;
+        return contextId == that.contextId && Arrays.equals(docs, that.docs) && Arrays.equals(scores, that.scores);
+    }
+
+    @Override
+    public int hashCode() {
+        return Objects.hash(classHash(), contextId.hashCode(), Arrays.hashCode(docs), Arrays.hashCode(scores));
+    }
+}
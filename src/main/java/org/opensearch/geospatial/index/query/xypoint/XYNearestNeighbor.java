@@ -0,0 +1,234 @@
+/*
+ * Copyright OpenSearch Contributors
+ * SPDX-License-Identifier: Apache-2.0
+ */
+
+package org.opensearch.geospatial.index.query.xypoint;
+
+import java.io.IOException;
+import java.util.Comparator;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.PriorityQueue;
+
+import org.apache.lucene.geo.XYEncodingUtils;
+import org.apache.lucene.index.LeafReaderContext;
+import org.apache.lucene.index.PointValues;
+import org.apache.lucene.search.DocIdSetIterator;
+import org.apache.lucene.search.IndexSearcher;
+import org.apache.lucene.search.Query;
+import org.apache.lucene.search.ScoreMode;
+import org.apache.lucene.search.Scorer;
+import org.apache.lucene.search.Weight;
+import org.apache.lucene.util.Bits;
+import org.apache.lucene.util.FixedBitSet;
+import org.apache.lucene.util.NumericUtils;
+
+/**
+ * Finds k nearest points of an {@link org.apache.lucene.document.XYPointField} to an origin, by best-first traversal of
+ * BKD trees of every segment, same as nearest neighbor search of LatLonPoint. Cells of every segment are visited in
+ * ascending order of their distance from the origin, and, the traversal stops once the nearest cell is farther than
+ * the k-th nearest point found so far, hence, only cells around the origin are visited.
+ */
+final class XYNearestNeighbor {
+
+    // farthest hit is the head of the queue, ties are broken by doc id, same as sort by distance
+    private static final Comparator<NearestHit> FARTHEST_FIRST = Comparator.comparingDouble((NearestHit hit) -> hit.distanceSquared)
+        .thenComparingInt(hit -> hit.doc)
+        .reversed();
+
+    private XYNearestNeighbor() {}
+
+    /**
+     * Nearest point of a document
+     */
+    static final class NearestHit {
+        // doc id in the top level reader
+        final int doc;
+        final double distanceSquared;
+
+        NearestHit(int doc, double distanceSquared) {
+            this.doc = doc;
+            this.distanceSquared = distanceSquared;
+        }
+
+        double distance() {
+            return Math.sqrt(distanceSquared);
+        }
+    }
+
+    private static final class Cell {
+        final PointValues.PointTree tree;
+        final int leafIndex;
+        final double distanceSquared;
+
+        Cell(PointValues.PointTree tree, int leafIndex, double distanceSquared) {
+            this.tree = tree;
+            this.leafIndex = leafIndex;
+            this.distanceSquared = distanceSquared;
+        }
+    }
+
+    /**
+     * @param searcher searcher of the shard
+     * @param field name of xy_point field
+     * @param x x of the origin
+     * @param y y of the origin
+     * @param k number of nearest documents
+     * @param filter only documents that match filter are collected, null to collect every document
+     * @return up to k nearest documents in ascending order of distance, where every document is at its nearest point
+     * @throws IOException if points cannot be read
+     */
+    static NearestHit[] nearest(IndexSearcher searcher, String field, float x, float y, int k, Query filter) throws IOException {
+        final List<LeafReaderContext> leaves = searcher.getIndexReader().leaves();
+        final Weight filterWeight = filter == null
+            ? null
+            : searcher.createWeight(searcher.rewrite(filter), ScoreMode.COMPLETE_NO_SCORES, 1f);
+        final Bits[] acceptDocs = new Bits[leaves.size()];
+        final PriorityQueue<Cell> cells = new PriorityQueue<>(Comparator.comparingDouble((Cell cell) -> cell.distanceSquared));
+        for (LeafReaderContext leaf : leaves) {
+            final PointValues points = leaf.reader().getPointValues(field);
+            if (points == null) {
+                continue;
+            }
+            final Bits liveDocs = leaf.reader().getLiveDocs();
+            if (filterWeight == null) {
+                acceptDocs[leaf.ord] = liveDocs;
+            } else {
+                final Scorer scorer = filterWeight.scorer(leaf);
+                if (scorer == null) {
+                    continue;
+                }
+                acceptDocs[leaf.ord] = acceptedDocs(scorer.iterator(), liveDocs, leaf.reader().maxDoc());
+            }
+            final PointValues.PointTree tree = points.getPointTree();
+            cells.offer(new Cell(tree, leaf.ord, distanceSquared(tree.getMinPackedValue(), tree.getMaxPackedValue(), x, y)));
+        }
+
+        final PriorityQueue<NearestHit> hits = new PriorityQueue<>(k, FARTHEST_FIRST);
+        final NearestVisitor visitor = new NearestVisitor(x, y, k, hits);
+        while (cells.isEmpty() == false) {
+            final Cell cell = cells.poll();
+            if (visitor.isFarther(cell.distanceSquared)) {
+                // every remaining cell is at least as far as this cell
+                break;
+            }
+            if (cell.tree.moveToChild() == false) {
+                visitor.reset(leaves.get(cell.leafIndex).docBase, acceptDocs[cell.leafIndex]);
+                cell.tree.visitDocValues(visitor);
+                continue;
+            }
+            do {
+                // distance is computed before moving to the sibling, since packed values of a tree change as it moves
+                final PointValues.PointTree child = cell.tree.clone();
+                final double distanceSquared = distanceSquared(child.getMinPackedValue(), child.getMaxPackedValue(), x, y);
+                if (visitor.isFarther(distanceSquared) == false) {
+                    cells.offer(new Cell(child, cell.leafIndex, distanceSquared));
+                }
+            } while (cell.tree.moveToSibling());
+        }
+
+        final NearestHit[] nearest = new NearestHit[hits.size()];
+        for (int i = nearest.length - 1; i >= 0; i--) {
+            nearest[i] = hits.poll();
+        }
+        return nearest;
+    }
+
+    private static Bits acceptedDocs(DocIdSetIterator iterator, Bits liveDocs, int maxDoc) throws IOException {
+        final FixedBitSet accepted = new FixedBitSet(maxDoc);
+        for (int doc = iterator.nextDoc(); doc != DocIdSetIterator.NO_MORE_DOCS; doc = iterator.nextDoc()) {
+            if (liveDocs == null || liveDocs.get(doc)) {
+                accepted.set(doc);
+            }
+        }
+        return accepted;
+    }
+
+    // squared distance from the origin to the nearest point of the box of packed values
+    private static double distanceSquared(byte[] minPackedValue, byte[] maxPackedValue, float x, float y) {
+        final double minX = XYEncodingUtils.decode(NumericUtils.sortableBytesToInt(minPackedValue, 0));
+        final double minY = XYEncodingUtils.decode(NumericUtils.sortableBytesToInt(minPackedValue, Integer.BYTES));
+        final double maxX = XYEncodingUtils.decode(NumericUtils.sortableBytesToInt(maxPackedValue, 0));
+        final double maxY = XYEncodingUtils.decode(NumericUtils.sortableBytesToInt(maxPackedValue, Integer.BYTES));
+        final double diffX = x < minX ? minX - x : (x > maxX ? x - maxX : 0);
+        final double diffY = y < minY ? minY - y : (y > maxY ? y - maxY : 0);
+        return diffX * diffX + diffY * diffY;
+    }
+
+    /**
+     * Collects points of leaf cells into the queue of k nearest hits
+     */
+    private static final class NearestVisitor implements PointValues.IntersectVisitor {
+        private final float x;
+        private final float y;
+        private final int k;
+        private final PriorityQueue<NearestHit> hits;
+        // hits by doc id, so that a document with multiple points is collected once at its nearest point
+        private final Map<Integer, NearestHit> hitsByDoc = new HashMap<>();
+        private int docBase;
+        // null if every document is accepted
+        private Bits acceptDocs;
+
+        NearestVisitor(float x, float y, int k, PriorityQueue<NearestHit> hits) {
+            this.x = x;
+            this.y = y;
+            this.k = k;
+            this.hits = hits;
+        }
+
+        void reset(int docBase, Bits acceptDocs) {
+            this.docBase = docBase;
+            this.acceptDocs = acceptDocs;
+        }
+
+        // true if a point at the distance can't be one of k nearest points
+        boolean isFarther(double distanceSquared) {
+            return hits.size() == k && distanceSquared > hits.peek().distanceSquared;
+        }
+
+        @Override
+        public void visit(int docID) {
+            // compare never returns CELL_INSIDE_QUERY, hence, every point is visited with its value
+            throw new UnsupportedOperationException();
+        }
+
+        @Override
+        public void visit(int docID, byte[] packedValue) {
+            if (acceptDocs != null && acceptDocs.get(docID) == false) {
+                return;
+            }
+            final double diffX = XYEncodingUtils.decode(NumericUtils.sortableBytesToInt(packedValue, 0)) - x;
+            final double diffY = XYEncodingUtils.decode(NumericUtils.sortableBytesToInt(packedValue, Integer.BYTES)) - y;
+            final NearestHit hit = new NearestHit(docBase + docID, diffX * diffX + diffY * diffY);
+            final NearestHit previous = hitsByDoc.get(hit.doc);
+            if (previous != null) {
+                if (hit.distanceSquared < previous.distanceSquared) {
+                    hits.remove(previous);
+                    add(hit);
+                }
+                return;
+            }
+            if (hits.size() < k) {
+                add(hit);
+            } else if (FARTHEST_FIRST.compare(hit, hits.peek()) > 0) {
+                hitsByDoc.remove(hits.poll().doc);
+                add(hit);
+            }
+        }
+
+        private void add(NearestHit hit) {
+            hits.offer(hit);
+            hitsByDoc.put(hit.doc, hit);
+        }
+
+        @Override
+        public PointValues.Relation compare(byte[] minPackedValue, byte[] maxPackedValue) {
+            if (isFarther(distanceSquared(minPackedValue, maxPackedValue, x, y))) {
+                return PointValues.Relation.CELL_OUTSIDE_QUERY;
+            }
+            return PointValues.Relation.CELL_CROSSES_QUERY;
+        }
+    }
+}
@@ -0,0 +1,110 @@
+/*
+ * Copyright OpenSearch Contributors
+ * SPDX-License-Identifier: Apache-2.0
+ */
+
+package org.opensearch.geospatial.index.query.xypoint;
+
+import java.io.IOException;
+import java.util.Arrays;
+import java.util.Comparator;
+import java.util.Objects;
+
+import org.apache.lucene.search.BooleanClause;
+import org.apache.lucene.search.IndexSearcher;
+import org.apache.lucene.search.MatchNoDocsQuery;
+import org.apache.lucene.search.Query;
+import org.apache.lucene.search.QueryVisitor;
+
+/**
+ * Query that matches k nearest documents of an xy_point field to an origin in a shard. Nearest documents are found by
+ * {@link XYNearestNeighbor} when the query is rewritten, and, the query is rewritten to {@link XYNearestDocsQuery},
+ * which scores a document as 1 / (1 + distance), such that nearest documents of every shard are merged by score.
+ * Scores are floats, hence, documents whose distances differ by less than float precision of the score tie, and,
+ * scores are in distance order only if this query is the sole scoring clause. Sort by "_xy_distance" from the same
+ * origin to rank the documents by their exact distance.
+ */
+public final class XYNearestQuery extends Query {
+
+    private final String field;
+    private final float x;
+    private final float y;
+    private final int k;
+    // null if every document is a candidate
+    private final Query filter;
+
+    /**
+     * @param field name of xy_point field
+     * @param x x of the origin
+     * @param y y of the origin
+     * @param k number of nearest documents
+     * @param filter only documents that match filter are candidates, null if every document is a candidate
+     */
+    public XYNearestQuery(String field, float x, float y, int k, Query filter) {
+        this.field = Objects.requireNonNull(field, "field cannot be null");
+        if (k <= 0) {
+            throw new IllegalArgumentException("k must be greater than 0, found [" + k + "]");
+        }
+        this.x = x;
+        this.y = y;
+        this.k = k;
+        this.filter = filter;
+    }
+
+    @Override
+    public Query rewrite(IndexSearcher searcher) throws IOException {
+        final XYNearestNeighbor.NearestHit[] hits = XYNearestNeighbor.nearest(searcher, field, x, y, k, filter);
+        if (hits.length == 0) {
+            return new MatchNoDocsQuery("no point of field [" + field + "]");
+        }
+        Arrays.sort(hits, Comparator.comparingInt(hit -> hit.doc));
+        final int[] docs = new int[hits.length];
+        final float[] scores = new float[hits.length];
+        for (int i = 0; i < hits.length; i++) {
+            docs[i] = hits[i].doc;
+            scores[i] = (float) (1 / (1 + hits[i].distance()));
+        }
+        return new XYNearestDocsQuery(docs, scores, searcher.getIndexReader().getContext().id());
+    }
+
+    @Override
+    public void visit(QueryVisitor visitor) {
+        if (visitor.acceptField(field)) {
+            visitor.visitLeaf(this);
+        }
+        if (filter != null) {
+            filter.visit(visitor.getSubVisitor(BooleanClause.Occur.FILTER, this));
+        }
+    }
+
+    @Override
+    public String toString(String defaultField) {
+        final StringBuilder builder = new StringBuilder();
+        if (field.equals(defaultField) == false) {
+            builder.append(field).append(':');
+        }
+        builder.append("nearest[").append(k).append("] of [").append(x).append(", ").append(y).append(']');
+        if (filter != null) {
+            builder.append(" filter: ").append(filter.toString(defaultField));
+        }
+        return builder.toString();
+    }
+
+    @Override
+    public boolean equals(Object other) {
+        if (sameClassAs(other) == false) {
+            return false;
+        }
+        final XYNearestQuery that = (XYNearestQuery) other;
+        return field.equals(that.field)
+            && Float.compare(x, that.x) == 0
+            && Float.compare(y, that.y) == 0
+            && k == that.k
+            && Objects.equals(filter, that.filter);
+    }
+
+    @Override
+    public int hashCode() {
+        return Objects.hash(classHash(), field, x, y, k, filter);
+    }
+}
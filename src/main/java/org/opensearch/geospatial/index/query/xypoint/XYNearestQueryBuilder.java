@@ -0,0 +1,302 @@
+/*
+ * Copyright OpenSearch Contributors
+ * SPDX-License-Identifier: Apache-2.0
+ */
+
+package org.opensearch.geospatial.index.query.xypoint;
+
+import java.io.IOException;
+import java.util.Locale;
+import java.util.Objects;
+
+import org.apache.lucene.search.MatchNoDocsQuery;
+import org.apache.lucene.search.Query;
+import org.opensearch.core.ParseField;
+import org.opensearch.core.common.ParsingException;
+import org.opensearch.core.common.io.stream.StreamInput;
+import org.opensearch.core.common.io.stream.StreamOutput;
+import org.opensearch.core.xcontent.XContentBuilder;
+import org.opensearch.core.xcontent.XContentParser;
+import org.opensearch.geospatial.index.mapper.xypoint.XYPoint;
+import org.opensearch.geospatial.index.mapper.xypoint.XYPointFieldMapper;
+import org.opensearch.geospatial.index.mapper.xypoint.XYPointParser;
+import org.opensearch.index.mapper.MappedFieldType;
+import org.opensearch.index.query.AbstractQueryBuilder;
+import org.opensearch.index.query.QueryBuilder;
+import org.opensearch.index.query.QueryRewriteContext;
+import org.opensearch.index.query.QueryShardContext;
+import org.opensearch.index.query.QueryShardException;
+
+/**
+ * Creates a new instance of {@link XYNearestQueryBuilder} to search k nearest documents of an xy_point field to an
+ * origin, optionally among documents that match a filter, e.g.
+ * <pre>
+ * "xy_nearest": {
+ *     "location": {
+ *         "origin": { "x": 10, "y": 20 },
+ *         "k": 5,
+ *         "filter": { "term": { "type": "hydrant" } }
+ *     }
+ * }
+ * </pre>
+ * Every shard returns its k nearest documents, scored as 1 / (1 + distance), which are merged by score. Score is in
+ * distance order only if this query is the only clause that contributes to score, e.g. it is not combined with other
+ * scoring clauses by a bool query, and, documents with almost same distance may tie. To rank the documents by their
+ * exact distance, sort them by "_xy_distance" from the same origin, e.g.
+ * <pre>
+ * "sort": [ { "_xy_distance": { "location": { "x": 10, "y": 20 }, "order": "asc" } } ]
+ * </pre>
+ */
+public class XYNearestQueryBuilder extends AbstractQueryBuilder<XYNearestQueryBuilder> {
+
+    public static final String NAME = "xy_nearest";
+    public static final ParseField ORIGIN_FIELD = new ParseField("origin");
+    public static final ParseField K_FIELD = new ParseField("k");
+    public static final ParseField FILTER_FIELD = new ParseField("filter");
+    public static final ParseField IGNORE_UNMAPPED_FIELD = new ParseField("ignore_unmapped");
+    // same as max result window of an index by default
+    public static final int MAX_K = 10000;
+
+    private final String fieldName;
+    private final double x;
+    private final double y;
+    private final int k;
+    private QueryBuilder filter;
+    private boolean ignoreUnmapped;
+
+    /**
+     * Creates a new instance of {@link XYNearestQueryBuilder}
+     * @param fieldName xy_point field to perform query
+     * @param x x of the origin
+     * @param y y of the origin
+     * @param k number of nearest documents of every shard
+     */
+    public XYNearestQueryBuilder(String fieldName, double x, double y, int k) {
+        this.fieldName = Objects.requireNonNull(fieldName, "field name cannot be null");
+        if (k <= 0 || k > MAX_K) {
+            throw new IllegalArgumentException(
+                String.format(Locale.ROOT, "[%s] must be in the range [1, %d] for [%s] query, found [%d]", K_FIELD, MAX_K, NAME, k)
+            );
+        }
+        this.x = x;
+        this.y = y;
+        this.k = k;
+    }
+
+    public XYNearestQueryBuilder(StreamInput in) throws IOException {
+        super(in);
+        this.fieldName = in.readString();
+        this.x = in.readDouble();
+        this.y = in.readDouble();
+        this.k = in.readVInt();
+        this.filter = in.readOptionalNamedWriteable(QueryBuilder.class);
+        this.ignoreUnmapped = in.readBoolean();
+    }
+
+    @Override
+    protected void doWriteTo(StreamOutput out) throws IOException {
+        out.writeString(fieldName);
+        out.writeDouble(x);
+        out.writeDouble(y);
+        out.writeVInt(k);
+        out.writeOptionalNamedWriteable(filter);
+        out.writeBoolean(ignoreUnmapped);
+    }
+
+    public String fieldName() {
+        return fieldName;
+    }
+
+    public double x() {
+        return x;
+    }
+
+    public double y() {
+        return y;
+    }
+
+    public int k() {
+        return k;
+    }
+
+    /**
+     * @param filter only documents that match filter are candidates of nearest documents, null for every document
+     * @return this builder
+     */
+    public XYNearestQueryBuilder filter(QueryBuilder filter) {
+        this.filter = filter;
+        return this;
+    }
+
+    public QueryBuilder filter() {
+        return filter;
+    }
+
+    /**
+     * @param ignoreUnmapped if true, the query matches no document in indices without the field
+     * @return this builder
+     */
+    public XYNearestQueryBuilder ignoreUnmapped(boolean ignoreUnmapped) {
+        this.ignoreUnmapped = ignoreUnmapped;
+        return this;
+    }
+
+    public boolean ignoreUnmapped() {
+        return ignoreUnmapped;
+    }
+
+    @Override
+    public String getWriteableName() {
+        return NAME;
+    }
+
+    @Override
+    protected QueryBuilder doRewrite(QueryRewriteContext queryRewriteContext) throws IOException {
+        if (filter == null) {
+            return this;
+        }
+        final QueryBuilder rewrittenFilter = filter.rewrite(queryRewriteContext);
+        if (rewrittenFilter == filter) {
+            return this;
+        }
+        return new XYNearestQueryBuilder(fieldName, x, y, k).filter(rewrittenFilter)
+            .ignoreUnmapped(ignoreUnmapped)
+            .boost(boost)
+            .queryName(queryName);
+    }
+
+    @Override
+    protected Query doToQuery(QueryShardContext context) throws IOException {
+        final MappedFieldType fieldType = context.fieldMapper(fieldName);
+        if (fieldType == null) {
+            if (ignoreUnmapped) {
+                return new MatchNoDocsQuery(String.format(Locale.ROOT, "unmapped field [%s]", fieldName));
+            }
+            throw new QueryShardException(context, String.format(Locale.ROOT, "failed to find field [%s] for [%s] query", fieldName, NAME));
+        }
+        if (fieldType instanceof XYPointFieldMapper.XYPointFieldType == false) {
+            throw new QueryShardException(
+                context,
+                String.format(
+                    Locale.ROOT,
+                    "Expected [%s] field type for Field [%s] but found [%s]",
+                    XYPointFieldMapper.CONTENT_TYPE,
+                    fieldName,
+                    fieldType.typeName()
+                )
+            );
+        }
+        if (fieldType.isSearchable() == false) {
+            throw new QueryShardException(
+                context,
+                String.format(Locale.ROOT, "Field [%s] should be indexed for [%s] query", fieldName, NAME)
+            );
+        }
+        final Query filterQuery = filter == null ? null : filter.toQuery(context);
+        return new XYNearestQuery(fieldName, (float) x, (float) y, k, filterQuery);
+    }
+
+    @Override
+    protected void doXContent(XContentBuilder builder, Params params) throws IOException {
+        builder.startObject(NAME);
+        builder.startObject(fieldName);
+        builder.array(ORIGIN_FIELD.getPreferredName(), x, y);
+        builder.field(K_FIELD.getPreferredName(), k);
+        if (filter != null) {
+            builder.field(FILTER_FIELD.getPreferredName(), filter);
+        }
+        builder.endObject();
+        builder.field(IGNORE_UNMAPPED_FIELD.getPreferredName(), ignoreUnmapped);
+        printBoostAndQueryName(builder);
+        builder.endObject();
+    }
+
+    /**
+     * parse xy_nearest query and extract query into {@link XYNearestQueryBuilder}
+     * @param parser {@link XContentParser} Parser to parse xy_nearest query input
+     * @return XYNearestQueryBuilder instance contains xy_nearest query value
+     * @throws IOException if any of query param is invalid while parsing
+     */
+    public static XYNearestQueryBuilder fromXContent(XContentParser parser) throws IOException {
+        String fieldName = null;
+        XYPoint origin = null;
+        Integer k = null;
+        QueryBuilder filter = null;
+        boolean ignoreUnmapped = false;
+        float boost = AbstractQueryBuilder.DEFAULT_BOOST;
+        String queryName = null;
+        String currentName = null;
+        XContentParser.Token token;
+        while ((token = parser.nextToken()) != XContentParser.Token.END_OBJECT) {
+            if (token == XContentParser.Token.FIELD_NAME) {
+                currentName = parser.currentName();
+            } else if (token == XContentParser.Token.START_OBJECT) {
+                if (fieldName != null) {
+                    throw new ParsingException(
+                        parser.getTokenLocation(),
+                        String.format(
+                            Locale.ROOT,
+                            "[%s] query doesn't support multiple fields, found [%s] and [%s]",
+                            NAME,
+                            fieldName,
+                            currentName
+                        )
+                    );
+                }
+                fieldName = currentName;
+                while ((token = parser.nextToken()) != XContentParser.Token.END_OBJECT) {
+                    if (token == XContentParser.Token.FIELD_NAME) {
+                        currentName = parser.currentName();
+                    } else if (ORIGIN_FIELD.match(currentName, parser.getDeprecationHandler())) {
+                        origin = XYPointParser.parseXYPoint(parser, true);
+                    } else if (K_FIELD.match(currentName, parser.getDeprecationHandler())) {
+                        k = parser.intValue();
+                    } else if (FILTER_FIELD.match(currentName, parser.getDeprecationHandler())) {
+                        filter = parseInnerQueryBuilder(parser);
+                    } else {
+                        throw new ParsingException(
+                            parser.getTokenLocation(),
+                            String.format(Locale.ROOT, "[%s] query doesn't support [%s]", NAME, currentName)
+                        );
+                    }
+                }
+            } else if (IGNORE_UNMAPPED_FIELD.match(currentName, parser.getDeprecationHandler())) {
+                ignoreUnmapped = parser.booleanValue();
+            } else if (AbstractQueryBuilder.BOOST_FIELD.match(currentName, parser.getDeprecationHandler())) {
+                boost = parser.floatValue();
+            } else if (AbstractQueryBuilder.NAME_FIELD.match(currentName, parser.getDeprecationHandler())) {
+                queryName = parser.text();
+            } else {
+                throw new ParsingException(
+                    parser.getTokenLocation(),
+                    String.format(Locale.ROOT, "[%s] query doesn't support [%s]", NAME, currentName)
+                );
+            }
+        }
+        if (fieldName == null || origin == null || k == null) {
+            throw new ParsingException(
+                parser.getTokenLocation(),
+                String.format(Locale.ROOT, "[%s] query requires a field with [%s] and [%s]", NAME, ORIGIN_FIELD, K_FIELD)
+            );
+        }
+        return new XYNearestQueryBuilder(fieldName, origin.getX(), origin.getY(), k).filter(filter)
+            .ignoreUnmapped(ignoreUnmapped)
+            .boost(boost)
+            .queryName(queryName);
+    }
+
+    @Override
+    protected boolean doEquals(XYNearestQueryBuilder other) {
+        return Objects.equals(fieldName, other.fieldName)
+            && Double.compare(x, other.x) == 0
+            && Double.compare(y, other.y) == 0
+            && k == other.k
+            && Objects.equals(filter, other.filter)
+            && ignoreUnmapped == other.ignoreUnmapped;
+    }
+
+    @Override
+    protected int doHashCode() {
+        return Objects.hash(fieldName, x, y, k, filter, ignoreUnmapped);
+    }
+}
@@ -9,17 +9,18 @@ import static org.opensearch.geospatial.index.common.xyshape.XYShapeConverter.to
 import static org.opensearch.geospatial.index.common.xyshape.XYShapeConverter.toXYPolygon;
 import static org.opensearch.geospatial.index.common.xyshape.XYShapeConverter.toXYRectangle;
 
+import java.util.ArrayList;
 import java.util.Collections;
+import java.util.List;
 import java.util.Locale;
 import java.util.Objects;
 
 import org.apache.lucene.document.XYDocValuesField;
 import org.apache.lucene.document.XYPointField;
 import org.apache.lucene.geo.XYCircle;
+import org.apache.lucene.geo.XYGeometry;
 import org.apache.lucene.geo.XYPolygon;
 import org.apache.lucene.geo.XYRectangle;
-import org.apache.lucene.search.BooleanClause;
-import org.apache.lucene.search.BooleanQuery;
 import org.apache.lucene.search.IndexOrDocValuesQuery;
 import org.apache.lucene.search.MatchNoDocsQuery;
 import org.apache.lucene.search.Query;
@@ -158,42 +159,65 @@ public class XYPointQueryVisitor implements GeometryVisitor<Query, RuntimeExcept
     }
 
     /**
+     * Polygons, rectangles and circles of the collection, including nested collections, are compiled into
+     * a single predicate, hence, points are matched by any of them in one traversal of the index.
      * @param collection  input geometry {@link GeometryCollection}
      * @return {@link Query} instance from XYPointField.XYPointInGeometryQuery
+     * throws QueryShardException if collection has an unsupported geometry
      */
     @Override
     public Query visit(GeometryCollection<?> collection) {
-        if (collection.isEmpty()) {
-            return new MatchNoDocsQuery();
-        }
-        var booleanQueryBuilder = new BooleanQuery.Builder();
-        visit(booleanQueryBuilder, collection);
-        return booleanQueryBuilder.build();
+        Objects.requireNonNull(collection, "Geometry Collection cannot be null");
+        List<XYGeometry> xyGeometries = new ArrayList<>();
+        collect(xyGeometries, collection);
+        return toQuery(xyGeometries.toArray(new XYGeometry[0]));
     }
 
-    private void visit(BooleanQuery.Builder booleanQueryBuilder, GeometryCollection<?> collection) {
-        var occur = BooleanClause.Occur.FILTER;
-        for (Geometry shape : collection) {
-            booleanQueryBuilder.add(shape.visit(this), occur);
+    private void collect(List<XYGeometry> xyGeometries, Geometry geometry) {
+        switch (geometry.type()) {
+            case POLYGON:
+                xyGeometries.add(toXYPolygon((Polygon) geometry));
+                return;
+            case MULTIPOLYGON:
+                for (Polygon polygon : (MultiPolygon) geometry) {
+                    xyGeometries.add(toXYPolygon(polygon));
+                }
+                return;
+            case ENVELOPE:
+                xyGeometries.add(toXYRectangle((Rectangle) geometry));
+                return;
+            case CIRCLE:
+                xyGeometries.add(toXYCircle((Circle) geometry));
+                return;
+            case GEOMETRYCOLLECTION:
+                for (Geometry member : (GeometryCollection<?>) geometry) {
+                    collect(xyGeometries, member);
+                }
+                return;
+            default:
+                geometryNotSupported(geometry.type());
         }
     }
 
     private Query visitCollection(GeometryCollection<Polygon> collection) {
-        if (collection.isEmpty()) {
-            return new MatchNoDocsQuery();
-        }
-
         XYPolygon[] xyPolygons = new XYPolygon[collection.size()];
         for (int i = 0; i < collection.size(); i++) {
             xyPolygons[i] = toXYPolygon(collection.get(i));
         }
+        return toQuery(xyPolygons);
+    }
+
+    private Query toQuery(XYGeometry[] xyGeometries) {
+        if (xyGeometries.length == 0) {
+            return new MatchNoDocsQuery();
+        }
 
-        var query = XYPointField.newPolygonQuery(fieldName, xyPolygons);
+        var query = XYPointField.newGeometryQuery(fieldName, xyGeometries);
         if (!fieldType.hasDocValues()) {
             return query;
         }
 
-        var dvQuery = XYDocValuesField.newSlowPolygonQuery(fieldName, xyPolygons);
+        var dvQuery = XYDocValuesField.newSlowGeometryQuery(fieldName, xyGeometries);
         return new IndexOrDocValuesQuery(query, dvQuery);
     }
 
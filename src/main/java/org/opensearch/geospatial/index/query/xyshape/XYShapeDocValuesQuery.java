@@ -0,0 +1,247 @@
+/*
+ * Copyright OpenSearch Contributors
+ * SPDX-License-Identifier: Apache-2.0
+ */
+
+package org.opensearch.geospatial.index.query.xyshape;
+
+import java.io.IOException;
+import java.util.Arrays;
+import java.util.Objects;
+
+import org.apache.lucene.document.ShapeField;
+import org.apache.lucene.geo.Component2D;
+import org.apache.lucene.geo.XYEncodingUtils;
+import org.apache.lucene.geo.XYGeometry;
+import org.apache.lucene.index.BinaryDocValues;
+import org.apache.lucene.index.DocValues;
+import org.apache.lucene.index.LeafReaderContext;
+import org.apache.lucene.index.PointValues;
+import org.apache.lucene.search.ConstantScoreScorer;
+import org.apache.lucene.search.ConstantScoreWeight;
+import org.apache.lucene.search.IndexSearcher;
+import org.apache.lucene.search.Query;
+import org.apache.lucene.search.QueryVisitor;
+import org.apache.lucene.search.ScoreMode;
+import org.apache.lucene.search.ScorerSupplier;
+import org.apache.lucene.search.TwoPhaseIterator;
+import org.apache.lucene.search.Weight;
+import org.apache.lucene.util.BytesRef;
+import org.opensearch.geospatial.index.mapper.xyshape.XYShapeDocValues;
+import org.opensearch.geospatial.index.mapper.xyshape.XYShapeDocValuesField;
+
+/**
+ * Query that matches documents by relating triangles from doc values of an xy_shape field, as encoded by
+ * {@link XYShapeDocValuesField}, to query geometries. It verifies documents one by one, hence, it is meant to be
+ * the doc values side of {@link org.apache.lucene.search.IndexOrDocValuesQuery}, which uses it when the other
+ * clauses of a conjunction match only few documents.
+ */
+public final class XYShapeDocValuesQuery extends Query {
+    // cost of decoding and relating triangles of a document, which is much more than comparing a single value
+    private static final float MATCH_COST = 100;
+
+    private final String field;
+    private final ShapeField.QueryRelation queryRelation;
+    private final XYGeometry[] geometries;
+    // document should satisfy relation with every component
+    private final Component2D[] components;
+
+    public XYShapeDocValuesQuery(String field, ShapeField.QueryRelation queryRelation, XYGeometry... geometries) {
+        this.field = Objects.requireNonNull(field, "field cannot be null");
+        this.queryRelation = Objects.requireNonNull(queryRelation, "query relation cannot be null");
+        this.geometries = geometries.clone();
+        if (queryRelation == ShapeField.QueryRelation.CONTAINS) {
+            // Same as XYShape.newGeometryQuery, document should contain every geometry, rather than their union
+            this.components = Arrays.stream(geometries).map(XYGeometry::create).toArray(Component2D[]::new);
+        } else {
+            this.components = new Component2D[] { XYGeometry.create(geometries) };
+        }
+    }
+
+    @Override
+    public Weight createWeight(IndexSearcher searcher, ScoreMode scoreMode, float boost) {
+        return new ConstantScoreWeight(this, boost) {
+            @Override
+            public ScorerSupplier scorerSupplier(LeafReaderContext context) throws IOException {
+                final BinaryDocValues values = context.reader().getBinaryDocValues(field);
+                if (values == null) {
+                    return null;
+                }
+                final XYShapeDocValues shape = new XYShapeDocValues();
+                final ShapeField.DecodedTriangle triangle = new ShapeField.DecodedTriangle();
+                final TwoPhaseIterator iterator = new TwoPhaseIterator(values) {
+                    @Override
+                    public boolean matches() throws IOException {
+                        final BytesRef bytes = values.binaryValue();
+                        for (Component2D component : components) {
+                            shape.reset(bytes);
+                            if (XYShapeDocValuesQuery.this.matches(component, shape, triangle) == false) {
+                                return false;
+                            }
+                        }
+                        return true;
+                    }
+
+                    @Override
+                    public float matchCost() {
+                        return MATCH_COST;
+                    }
+                };
+                return new DefaultScorerSupplier(new ConstantScoreScorer(score(), scoreMode, iterator));
+            }
+
+            @Override
+            public boolean isCacheable(LeafReaderContext context) {
+                return DocValues.isCacheable(context, field);
+            }
+        };
+    }
+
+    /**
+     * @param component query geometry
+     * @param shape doc values of a document
+     * @param triangle reusable triangle to read triangles of the document into
+     * @return true if the document has at least one triangle, and, it satisfies query relation with given geometry
+     */
+    private boolean matches(Component2D component, XYShapeDocValues shape, ShapeField.DecodedTriangle triangle) {
+        final PointValues.Relation boxRelation = component.relate(shape.getMinX(), shape.getMaxX(), shape.getMinY(), shape.getMaxY());
+        if (boxRelation == PointValues.Relation.CELL_OUTSIDE_QUERY) {
+            return queryRelation == ShapeField.QueryRelation.DISJOINT && shape.nextTriangle(triangle);
+        }
+        if (boxRelation == PointValues.Relation.CELL_INSIDE_QUERY
+            && (queryRelation == ShapeField.QueryRelation.INTERSECTS || queryRelation == ShapeField.QueryRelation.WITHIN)) {
+            return shape.nextTriangle(triangle);
+        }
+        switch (queryRelation) {
+            case INTERSECTS:
+                while (shape.nextTriangle(triangle)) {
+                    if (intersects(component, triangle)) {
+                        return true;
+                    }
+                }
+                return false;
+            case DISJOINT:
+                return allTriangles(component, shape, triangle, false);
+            case WITHIN:
+                return allTriangles(component, shape, triangle, true);
+            default:
+                return contains(component, shape, triangle);
+        }
+    }
+
+    // true if document has triangles and every one of them is within query geometries (withinQuery), or disjoint from them
+    private boolean allTriangles(Component2D component, XYShapeDocValues shape, ShapeField.DecodedTriangle triangle, boolean withinQuery) {
+        boolean hasTriangle = false;
+        while (shape.nextTriangle(triangle)) {
+            hasTriangle = true;
+            if (withinQuery ? within(component, triangle) == false : intersects(component, triangle)) {
+                return false;
+            }
+        }
+        return hasTriangle;
+    }
+
+    // Same as Lucene shape query, document contains query geometries if no triangle rejects it and at least one is a candidate
+    private boolean contains(Component2D component, XYShapeDocValues shape, ShapeField.DecodedTriangle triangle) {
+        Component2D.WithinRelation answer = Component2D.WithinRelation.DISJOINT;
+        while (shape.nextTriangle(triangle)) {
+            final Component2D.WithinRelation relation = withinTriangle(component, triangle);
+            if (relation == Component2D.WithinRelation.NOTWITHIN) {
+                return false;
+            }
+            if (relation == Component2D.WithinRelation.CANDIDATE) {
+                answer = Component2D.WithinRelation.CANDIDATE;
+            }
+        }
+        return answer == Component2D.WithinRelation.CANDIDATE;
+    }
+
+    private boolean intersects(Component2D component, ShapeField.DecodedTriangle triangle) {
+        final double aX = XYEncodingUtils.decode(triangle.aX);
+        final double aY = XYEncodingUtils.decode(triangle.aY);
+        final double bX = XYEncodingUtils.decode(triangle.bX);
+        final double bY = XYEncodingUtils.decode(triangle.bY);
+        switch (triangle.type) {
+            case POINT:
+                return component.contains(aX, aY);
+            case LINE:
+                return component.intersectsLine(aX, aY, bX, bY);
+            default:
+                final double cX = XYEncodingUtils.decode(triangle.cX);
+                final double cY = XYEncodingUtils.decode(triangle.cY);
+                return component.intersectsTriangle(aX, aY, bX, bY, cX, cY);
+        }
+    }
+
+    private boolean within(Component2D component, ShapeField.DecodedTriangle triangle) {
+        final double aX = XYEncodingUtils.decode(triangle.aX);
+        final double aY = XYEncodingUtils.decode(triangle.aY);
+        final double bX = XYEncodingUtils.decode(triangle.bX);
+        final double bY = XYEncodingUtils.decode(triangle.bY);
+        switch (triangle.type) {
+            case POINT:
+                return component.contains(aX, aY);
+            case LINE:
+                return component.containsLine(aX, aY, bX, bY);
+            default:
+                final double cX = XYEncodingUtils.decode(triangle.cX);
+                final double cY = XYEncodingUtils.decode(triangle.cY);
+                return component.containsTriangle(aX, aY, bX, bY, cX, cY);
+        }
+    }
+
+    private Component2D.WithinRelation withinTriangle(Component2D component, ShapeField.DecodedTriangle triangle) {
+        final double aX = XYEncodingUtils.decode(triangle.aX);
+        final double aY = XYEncodingUtils.decode(triangle.aY);
+        final double bX = XYEncodingUtils.decode(triangle.bX);
+        final double bY = XYEncodingUtils.decode(triangle.bY);
+        switch (triangle.type) {
+            case POINT:
+                return component.withinPoint(aX, aY);
+            case LINE:
+                return component.withinLine(aX, aY, triangle.ab, bX, bY);
+            default:
+                return component.withinTriangle(
+                    aX,
+                    aY,
+                    triangle.ab,
+                    bX,
+                    bY,
+                    triangle.bc,
+                    XYEncodingUtils.decode(triangle.cX),
+                    XYEncodingUtils.decode(triangle.cY),
+                    triangle.ca
+                );
+        }
+    }
+
+    @Override
+    public void visit(QueryVisitor visitor) {
+        if (visitor.acceptField(field)) {
+            visitor.visitLeaf(this);
+        }
+    }
+
+    @Override
+    public String toString(String defaultField) {
+        final StringBuilder builder = new StringBuilder(getClass().getSimpleName()).append(':');
+        if (field.equals(defaultField) == false) {
+            builder.append(" field=").append(field).append(':');
+        }
+        return builder.append('[').append(queryRelation).append("] ").append(Arrays.toString(geometries)).toString();
+    }
+
+    @Override
+    public boolean equals(Object other) {
+        if (sameClassAs(other) == false) {
+            return false;
+        }
+        final XYShapeDocValuesQuery that = (XYShapeDocValuesQuery) other;
+        return field.equals(that.field) && queryRelation == that.queryRelation && Arrays.equals(geometries, that.geometries);
+    }
+
+    @Override
+    public int hashCode() {
+        return Objects.hash(classHash(), field, queryRelation, Arrays.hashCode(geometries));
+    }
+}
@@ -11,6 +11,7 @@ import java.util.Locale;
 import org.apache.lucene.document.ShapeField;
 import org.apache.lucene.document.XYShape;
 import org.apache.lucene.geo.XYGeometry;
+import org.apache.lucene.search.IndexOrDocValuesQuery;
 import org.apache.lucene.search.MatchNoDocsQuery;
 import org.apache.lucene.search.Query;
 import org.opensearch.common.geo.ShapeRelation;
@@ -35,7 +36,8 @@ public class XYShapeQueryProcessor {
      * @param relation Relation to be used to get all shapes from given Geometry
      * @param visitor {@link GeometryVisitor} to convert geometry to List of XYGeometry
      * @param context QueryShardContext instance
-     * @return {@link Query} instance from XYShape.newGeometryQuery
+     * @return {@link Query} instance from XYShape.newGeometryQuery, which is combined with {@link XYShapeDocValuesQuery}
+     * in an {@link IndexOrDocValuesQuery} if field has doc values
      */
     public Query shapeQuery(
         Geometry geometry,
@@ -49,12 +51,13 @@ public class XYShapeQueryProcessor {
         if (geometry == null || geometry.isEmpty()) {
             return new MatchNoDocsQuery();
         }
-        validateIsXYShapeFieldType(fieldName, context);
-        return getQueryFromGeometry(geometry, fieldName, relation.getLuceneRelation(), visitor);
+        final MappedFieldType fieldType = validateIsXYShapeFieldType(fieldName, context);
+        return getQueryFromGeometry(geometry, fieldType, fieldName, relation.getLuceneRelation(), visitor);
     }
 
     private Query getQueryFromGeometry(
         Geometry geometry,
+        MappedFieldType fieldType,
         String fieldName,
         ShapeField.QueryRelation queryRelation,
         GeometryVisitor<List<XYGeometry>, RuntimeException> visitor
@@ -64,13 +67,22 @@ public class XYShapeQueryProcessor {
         if (collections == null || collections.isEmpty()) {
             return new MatchNoDocsQuery();
         }
-        return XYShape.newGeometryQuery(fieldName, queryRelation, collections.toArray(new XYGeometry[0]));
+        final XYGeometry[] geometries = collections.toArray(new XYGeometry[0]);
+        if (fieldType.hasDocValues() == false) {
+            return XYShape.newGeometryQuery(fieldName, queryRelation, geometries);
+        }
+        final Query docValuesQuery = new XYShapeDocValuesQuery(fieldName, queryRelation, geometries);
+        if (fieldType.isSearchable() == false) {
+            return docValuesQuery;
+        }
+        // BKD tree is walked when the query leads the search, while, doc values verify candidates of a selective conjunction
+        return new IndexOrDocValuesQuery(XYShape.newGeometryQuery(fieldName, queryRelation, geometries), docValuesQuery);
     }
 
-    private void validateIsXYShapeFieldType(String fieldName, QueryShardContext context) {
+    private MappedFieldType validateIsXYShapeFieldType(String fieldName, QueryShardContext context) {
         MappedFieldType fieldType = context.fieldMapper(fieldName);
         if (fieldType instanceof XYShapeFieldMapper.XYShapeFieldType) {
-            return;
+            return fieldType;
         }
         throw new QueryShardException(
             context,
@@ -0,0 +1,30 @@
+/*
+ * Copyright OpenSearch Contributors
+ * SPDX-License-Identifier: Apache-2.0
+ */
+
+package org.opensearch.geospatial.ip2geo.action;
+
+import org.opensearch.action.ActionType;
+import org.opensearch.action.support.clustermanager.AcknowledgedResponse;
+
+/**
+ * Ip2Geo datasource metadata update action
+ *
+ * Publishes lookup relevant fields of datasources in cluster state. This action is used internally whenever a
+ * datasource is written in the job index.
+ */
+public class UpdateDatasourceMetadataAction extends ActionType<AcknowledgedResponse> {
+    /**
+     * Update datasource metadata action instance
+     */
+    public static final UpdateDatasourceMetadataAction INSTANCE = new UpdateDatasourceMetadataAction();
+    /**
+     * Update datasource metadata action name
+     */
+    public static final String NAME = "cluster:admin/geospatial/datasource/metadata/update";
+
+    private UpdateDatasourceMetadataAction() {
+        super(NAME, AcknowledgedResponse::new);
+    }
+}
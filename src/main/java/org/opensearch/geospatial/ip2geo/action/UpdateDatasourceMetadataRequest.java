@@ -0,0 +1,71 @@
+/*
+ * Copyright OpenSearch Contributors
+ * SPDX-License-Identifier: Apache-2.0
+ */
+
+package org.opensearch.geospatial.ip2geo.action;
+
+import java.io.IOException;
+import java.util.List;
+
+import org.opensearch.action.ActionRequestValidationException;
+import org.opensearch.action.support.clustermanager.ClusterManagerNodeRequest;
+import org.opensearch.core.common.io.stream.StreamInput;
+import org.opensearch.core.common.io.stream.StreamOutput;
+import org.opensearch.geospatial.ip2geo.common.Ip2GeoMetadata.DatasourceMetadata;
+
+import lombok.Getter;
+
+/**
+ * Ip2Geo datasource metadata update request
+ */
+@Getter
+public class UpdateDatasourceMetadataRequest extends ClusterManagerNodeRequest<UpdateDatasourceMetadataRequest> {
+    /**
+     * @return metadata of datasources to add or replace
+     */
+    private final List<DatasourceMetadata> datasources;
+    /**
+     * @return names of datasources to remove
+     */
+    private final List<String> removedNames;
+
+    /**
+     * Constructor
+     *
+     * @param datasources metadata of datasources to add or replace
+     * @param removedNames names of datasources to remove
+     */
+    public UpdateDatasourceMetadataRequest(final List<DatasourceMetadata> datasources, final List<String> removedNames) {
+        this.datasources = datasources;
+        this.removedNames = removedNames;
+    }
+
+    /**
+     * Constructor with stream input
+     * @param in the stream input
+     * @throws IOException IOException
+     */
+    public UpdateDatasourceMetadataRequest(final StreamInput in) throws IOException {
+        super(in);
+        this.datasources = in.readList(DatasourceMetadata::new);
+        this.removedNames = in.readStringList();
+    }
+
+    @Override
+    public ActionRequestValidationException validate() {
+        ActionRequestValidationException errors = null;
+        if (datasources == null || removedNames == null) {
+            errors = new ActionRequestValidationException();
+            errors.addValidationError("datasources and removed names should not be null");
+        }
+        return errors;
+    }
+
+    @Override
+    public void writeTo(final StreamOutput out) throws IOException {
+        super.writeTo(out);
+        out.writeList(datasources);
+        out.writeStringCollection(removedNames);
+    }
+}
@@ -0,0 +1,122 @@
+/*
+ * Copyright OpenSearch Contributors
+ * SPDX-License-Identifier: Apache-2.0
+ */
+
+package org.opensearch.geospatial.ip2geo.action;
+
+import java.io.IOException;
+
+import org.opensearch.action.support.ActionFilters;
+import org.opensearch.action.support.clustermanager.AcknowledgedResponse;
+import org.opensearch.action.support.clustermanager.TransportClusterManagerNodeAction;
+import org.opensearch.cluster.ClusterState;
+import org.opensearch.cluster.ClusterStateUpdateTask;
+import org.opensearch.cluster.block.ClusterBlockException;
+import org.opensearch.cluster.block.ClusterBlockLevel;
+import org.opensearch.cluster.metadata.IndexNameExpressionResolver;
+import org.opensearch.cluster.metadata.Metadata;
+import org.opensearch.cluster.service.ClusterService;
+import org.opensearch.common.inject.Inject;
+import org.opensearch.core.action.ActionListener;
+import org.opensearch.core.common.io.stream.StreamInput;
+import org.opensearch.geospatial.annotation.VisibleForTesting;
+import org.opensearch.geospatial.ip2geo.common.Ip2GeoMetadata;
+import org.opensearch.threadpool.ThreadPool;
+import org.opensearch.transport.TransportService;
+
+import lombok.extern.log4j.Log4j2;
+
+/**
+ * Transport action to publish datasource metadata in cluster state
+ *
+ * It runs on the cluster manager node so that every datasource write ends up in a single ordered cluster state update.
+ */
+@Log4j2
+public class UpdateDatasourceMetadataTransportAction extends TransportClusterManagerNodeAction<
+    UpdateDatasourceMetadataRequest,
+    AcknowledgedResponse> {
+    private static final String SOURCE = "update-ip2geo-datasource-metadata";
+
+    /**
+     * Constructor
+     * @param transportService the transport service
+     * @param clusterService the cluster service
+     * @param threadPool the thread pool
+     * @param actionFilters the action filters
+     * @param indexNameExpressionResolver the index name expression resolver
+     */
+    @Inject
+    public UpdateDatasourceMetadataTransportAction(
+        final TransportService transportService,
+        final ClusterService clusterService,
+        final ThreadPool threadPool,
+        final ActionFilters actionFilters,
+        final IndexNameExpressionResolver indexNameExpressionResolver
+    ) {
+        super(
+            UpdateDatasourceMetadataAction.NAME,
+            transportService,
+            clusterService,
+            threadPool,
+            actionFilters,
+            UpdateDatasourceMetadataRequest::new,
+            indexNameExpressionResolver
+        );
+    }
+
+    @Override
+    protected String executor() {
+        return ThreadPool.Names.SAME;
+    }
+
+    @Override
+    protected AcknowledgedResponse read(final StreamInput in) throws IOException {
+        return new AcknowledgedResponse(in);
+    }
+
+    @Override
+    protected void clusterManagerOperation(
+        final UpdateDatasourceMetadataRequest request,
+        final ClusterState state,
+        final ActionListener<AcknowledgedResponse> listener
+    ) {
+        clusterService.submitStateUpdateTask(SOURCE, new ClusterStateUpdateTask() {
+            @Override
+            public ClusterState execute(final ClusterState currentState) {
+                return updateMetadata(currentState, request);
+            }
+
+            @Override
+            public void onFailure(final String source, final Exception e) {
+                log.error("Failed to update ip2geo datasource metadata", e);
+                listener.onFailure(e);
+            }
+
+            @Override
+            public void clusterStateProcessed(final String source, final ClusterState oldState, final ClusterState newState) {
+                listener.onResponse(new AcknowledgedResponse(true));
+            }
+        });
+    }
+
+    @VisibleForTesting
+    protected static ClusterState updateMetadata(final ClusterState currentState, final UpdateDatasourceMetadataRequest request) {
+        Ip2GeoMetadata current = currentState.metadata().custom(Ip2GeoMetadata.TYPE);
+        if (current == null) {
+            current = Ip2GeoMetadata.EMPTY;
+        }
+        Ip2GeoMetadata updated = current.apply(request.getDatasources(), request.getRemovedNames());
+        if (updated == current && currentState.metadata().custom(Ip2GeoMetadata.TYPE) != null) {
+            return currentState;
+        }
+        return ClusterState.builder(currentState)
+            .metadata(Metadata.builder(currentState.metadata()).putCustom(Ip2GeoMetadata.TYPE, updated))
+            .build();
+    }
+
+    @Override
+    protected ClusterBlockException checkBlock(final UpdateDatasourceMetadataRequest request, final ClusterState state) {
+        return state.blocks().globalBlockedException(ClusterBlockLevel.METADATA_WRITE);
+    }
+}
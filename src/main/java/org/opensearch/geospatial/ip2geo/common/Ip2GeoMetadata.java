@@ -0,0 +1,258 @@
+/*
+ * Copyright OpenSearch Contributors
+ * SPDX-License-Identifier: Apache-2.0
+ */
+
+package org.opensearch.geospatial.ip2geo.common;
+
+import static org.opensearch.core.xcontent.XContentParserUtils.ensureExpectedToken;
+
+import java.io.IOException;
+import java.time.Instant;
+import java.util.Collection;
+import java.util.Collections;
+import java.util.EnumSet;
+import java.util.HashMap;
+import java.util.Map;
+import java.util.Objects;
+
+import org.opensearch.Version;
+import org.opensearch.cluster.AbstractNamedDiffable;
+import org.opensearch.cluster.NamedDiff;
+import org.opensearch.cluster.metadata.Metadata;
+import org.opensearch.core.ParseField;
+import org.opensearch.core.common.io.stream.StreamInput;
+import org.opensearch.core.common.io.stream.StreamOutput;
+import org.opensearch.core.common.io.stream.Writeable;
+import org.opensearch.core.xcontent.ConstructingObjectParser;
+import org.opensearch.core.xcontent.ToXContentObject;
+import org.opensearch.core.xcontent.XContentBuilder;
+import org.opensearch.core.xcontent.XContentParser;
+import org.opensearch.geospatial.ip2geo.jobscheduler.Datasource;
+
+import lombok.EqualsAndHashCode;
+import lombok.Getter;
+import lombok.ToString;
+
+/**
+ * Custom cluster state metadata holding the lookup relevant fields of every Ip2Geo datasource
+ *
+ * The datasource document in the job index stays the source of truth. Whenever it is written, the fields needed by
+ * Ip2Geo processors (current index, state, and expiration date) are published here so that every node can resolve
+ * a datasource from its local cluster state without reading the job index.
+ */
+@EqualsAndHashCode(callSuper = false)
+@ToString
+public class Ip2GeoMetadata extends AbstractNamedDiffable<Metadata.Custom> implements Metadata.Custom {
+    /**
+     * Name of the custom metadata section in cluster state
+     */
+    public static final String TYPE = "geospatial_ip2geo";
+    /**
+     * Metadata without any datasource
+     */
+    public static final Ip2GeoMetadata EMPTY = new Ip2GeoMetadata(Collections.emptyMap());
+
+    private final Map<String, DatasourceMetadata> datasources;
+
+    public Ip2GeoMetadata(final Map<String, DatasourceMetadata> datasources) {
+        this.datasources = Collections.unmodifiableMap(datasources);
+    }
+
+    public Ip2GeoMetadata(final StreamInput in) throws IOException {
+        this.datasources = Collections.unmodifiableMap(in.readMap(StreamInput::readString, DatasourceMetadata::new));
+    }
+
+    @Override
+    public void writeTo(final StreamOutput out) throws IOException {
+        out.writeMap(datasources, StreamOutput::writeString, (o, v) -> v.writeTo(o));
+    }
+
+    public static NamedDiff<Metadata.Custom> readDiffFrom(final StreamInput in) throws IOException {
+        return readDiffFrom(Metadata.Custom.class, TYPE, in);
+    }
+
+    /**
+     * Return metadata of a datasource
+     *
+     * @param name the datasource name
+     * @return metadata of the datasource or null if the datasource does not exist
+     */
+    public DatasourceMetadata get(final String name) {
+        return datasources.get(name);
+    }
+
+    /**
+     * @return metadata of all datasources keyed by datasource name
+     */
+    public Map<String, DatasourceMetadata> getDatasources() {
+        return datasources;
+    }
+
+    /**
+     * Return a new metadata with given datasources added or replaced and given datasource names removed
+     *
+     * @param datasourcesToPut datasources to add or replace
+     * @param namesToRemove names of datasources to remove
+     * @return new metadata, or this instance if nothing changed
+     */
+    public Ip2GeoMetadata apply(final Collection<DatasourceMetadata> datasourcesToPut, final Collection<String> namesToRemove) {
+        Map<String, DatasourceMetadata> updated = new HashMap<>(datasources);
+        for (DatasourceMetadata datasource : datasourcesToPut) {
+            updated.put(datasource.getName(), datasource);
+        }
+        for (String name : namesToRemove) {
+            updated.remove(name);
+        }
+        return updated.equals(datasources) ? this : new Ip2GeoMetadata(updated);
+    }
+
+    @Override
+    public String getWriteableName() {
+        return TYPE;
+    }
+
+    /**
+     * The section is new in this version, and, nodes of a previous version can't read it.
+     * Plugin is released along with every OpenSearch version, hence, the section is sent to nodes of the current version only.
+     */
+    @Override
+    public Version getMinimalSupportedVersion() {
+        return Version.CURRENT;
+    }
+
+    /**
+     * The section is not included in snapshots. Restoring the job index republishes the datasources instead.
+     */
+    @Override
+    public EnumSet<Metadata.XContentContext> context() {
+        return Metadata.API_AND_GATEWAY;
+    }
+
+    @Override
+    public XContentBuilder toXContent(final XContentBuilder builder, final Params params) throws IOException {
+        for (DatasourceMetadata datasource : datasources.values()) {
+            builder.field(datasource.getName(), datasource);
+        }
+        return builder;
+    }
+
+    public static Ip2GeoMetadata fromXContent(final XContentParser parser) throws IOException {
+        Map<String, DatasourceMetadata> datasources = new HashMap<>();
+        XContentParser.Token token = parser.currentToken() == null ? parser.nextToken() : parser.currentToken();
+        ensureExpectedToken(XContentParser.Token.START_OBJECT, token, parser);
+        while ((token = parser.nextToken()) != XContentParser.Token.END_OBJECT) {
+            ensureExpectedToken(XContentParser.Token.FIELD_NAME, token, parser);
+            String name = parser.currentName();
+            parser.nextToken();
+            datasources.put(name, DatasourceMetadata.PARSER.parse(parser, name));
+        }
+        return new Ip2GeoMetadata(datasources);
+    }
+
+    /**
+     * Lookup relevant fields of a datasource
+     */
+    @Getter
+    @ToString
+    @EqualsAndHashCode
+    public static class DatasourceMetadata implements Writeable, ToXContentObject {
+        private static final ParseField INDEX_NAME_FIELD = new ParseField("index_name");
+        private static final ParseField STATE_FIELD = new ParseField("state");
+        private static final ParseField EXPIRATION_DATE_FIELD = new ParseField("expiration_date_in_epoch_millis");
+
+        /**
+         * @return name of a datasource
+         */
+        private final String name;
+        /**
+         * @return the index name having GeoIP data, or null if there is no usable index
+         */
+        private final String indexName;
+        /**
+         * @return state of a datasource
+         */
+        private final DatasourceState state;
+        /**
+         * @return date when GeoIP data of a datasource expires
+         */
+        private final Instant expirationDate;
+
+        private static final ConstructingObjectParser<DatasourceMetadata, String> PARSER = new ConstructingObjectParser<>(
+            "ip2geo_datasource_metadata",
+            true,
+            (args, name) -> {
+                String indexName = (String) args[0];
+                DatasourceState state = DatasourceState.valueOf((String) args[1]);
+                Instant expirationDate = Instant.ofEpochMilli((long) args[2]);
+                return new DatasourceMetadata(name, indexName, state, expirationDate);
+            }
+        );
+        static {
+            PARSER.declareString(ConstructingObjectParser.optionalConstructorArg(), INDEX_NAME_FIELD);
+            PARSER.declareString(ConstructingObjectParser.constructorArg(), STATE_FIELD);
+            PARSER.declareLong(ConstructingObjectParser.constructorArg(), EXPIRATION_DATE_FIELD);
+        }
+
+        public DatasourceMetadata(final String name, final String indexName, final DatasourceState state, final Instant expirationDate) {
+            this.name = Objects.requireNonNull(name);
+            this.indexName = indexName;
+            this.state = Objects.requireNonNull(state);
+            this.expirationDate = Objects.requireNonNull(expirationDate);
+        }
+
+        public DatasourceMetadata(final Datasource datasource) {
+            this(datasource.getName(), datasource.currentIndexName(), datasource.getState(), datasource.expirationDay());
+        }
+
+        public DatasourceMetadata(final StreamInput in) throws IOException {
+            name = in.readString();
+            indexName = in.readOptionalString();
+            state = DatasourceState.valueOf(in.readString());
+            expirationDate = in.readInstant();
+        }
+
+        @Override
+        public void writeTo(final StreamOutput out) throws IOException {
+            out.writeString(name);
+            out.writeOptionalString(indexName);
+            out.writeString(state.name());
+            out.writeInstant(expirationDate);
+        }
+
+        /**
+         * Checks if GeoIP data of a datasource is expired at given time
+         *
+         * @param instant the time to check
+         * @return true if expired, and false otherwise
+         */
+        public boolean isExpired(final Instant instant) {
+            return expirationDate.isBefore(instant);
+        }
+
+        @Override
+        public XContentBuilder toXContent(final XContentBuilder builder, final Params params) throws IOException {
+            builder.startObject();
+            if (indexName != null) {
+                builder.field(INDEX_NAME_FIELD.getPreferredName(), indexName);
+            }
+            builder.field(STATE_FIELD.getPreferredName(), state.name());
+            builder.field(EXPIRATION_DATE_FIELD.getPreferredName(), toEpochMilli(expirationDate));
+            builder.endObject();
+            return builder;
+        }
+
+        /**
+         * Datasources without expiration use {@link Instant#MAX} which does not fit in epoch millis
+         */
+        private static long toEpochMilli(final Instant instant) {
+            if (instant.isAfter(Instant.ofEpochMilli(Long.MAX_VALUE))) {
+                return Long.MAX_VALUE;
+            }
+            if (instant.isBefore(Instant.ofEpochMilli(Long.MIN_VALUE))) {
+                return Long.MIN_VALUE;
+            }
+            return instant.toEpochMilli();
+        }
+    }
+}
@@ -14,6 +14,7 @@ import java.util.function.Function;
 
 import org.opensearch.common.settings.Setting;
 import org.opensearch.common.unit.TimeValue;
+import org.opensearch.core.common.unit.ByteSizeValue;
 
 /**
  * Settings for Ip2Geo datasource operations
@@ -75,6 +76,41 @@ public class Ip2GeoSettings {
         Setting.Property.Dynamic
     );
 
+    /**
+     * Whether to sort GeoIP data index by the start of ip range
+     *
+     * A sorted index is written in large segments which are merged cheaply, or not at all, once the import is done
+     */
+    public static final Setting<Boolean> INDEX_SORT_ENABLED = Setting.boolSetting(
+        "plugins.geospatial.ip2geo.datasource.index_sort.enabled",
+        true,
+        Setting.Property.NodeScope,
+        Setting.Property.Dynamic
+    );
+
+    /**
+     * Number of replicas to add per wave when a new GeoIP data index is replicated to all data nodes
+     * Zero means all replicas are added at once
+     */
+    public static final Setting<Integer> REPLICA_ROLLOUT_WAVE_SIZE = Setting.intSetting(
+        "plugins.geospatial.ip2geo.datasource.replica_rollout.wave_size",
+        0,
+        0,
+        Setting.Property.NodeScope,
+        Setting.Property.Dynamic
+    );
+
+    /**
+     * Max bytes to copy in a single wave of replica rollout, which caps the wave size by the size of GeoIP data index
+     * Zero means no limit. It takes effect only when {@link #REPLICA_ROLLOUT_WAVE_SIZE} is set.
+     */
+    public static final Setting<ByteSizeValue> REPLICA_ROLLOUT_MAX_BYTES_PER_WAVE = Setting.byteSizeSetting(
+        "plugins.geospatial.ip2geo.datasource.replica_rollout.max_bytes_per_wave",
+        new ByteSizeValue(0),
+        Setting.Property.NodeScope,
+        Setting.Property.Dynamic
+    );
+
     /**
      * A list of CIDR which will be blocked to be used as datasource endpoint
      * Private network addresses will be blocked as default
@@ -115,7 +151,17 @@ public class Ip2GeoSettings {
      * @return a list of all settings for Ip2Geo feature
      */
     public static final List<Setting<?>> settings() {
-        return List.of(DATASOURCE_ENDPOINT, DATASOURCE_UPDATE_INTERVAL, BATCH_SIZE, TIMEOUT, CACHE_SIZE, DATASOURCE_ENDPOINT_DENYLIST);
+        return List.of(
+            DATASOURCE_ENDPOINT,
+            DATASOURCE_UPDATE_INTERVAL,
+            BATCH_SIZE,
+            TIMEOUT,
+            CACHE_SIZE,
+            DATASOURCE_ENDPOINT_DENYLIST,
+            INDEX_SORT_ENABLED,
+            REPLICA_ROLLOUT_WAVE_SIZE,
+            REPLICA_ROLLOUT_MAX_BYTES_PER_WAVE
+        );
     }
 
     /**
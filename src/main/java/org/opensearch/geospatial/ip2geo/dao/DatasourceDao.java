@@ -11,9 +11,12 @@ import java.io.InputStream;
 import java.io.InputStreamReader;
 import java.nio.charset.StandardCharsets;
 import java.time.Instant;
+import java.util.ArrayList;
 import java.util.Arrays;
+import java.util.Collections;
 import java.util.List;
 import java.util.Objects;
+import java.util.Set;
 import java.util.stream.Collectors;
 
 import org.opensearch.OpenSearchException;
@@ -34,9 +37,11 @@ import org.opensearch.action.index.IndexRequest;
 import org.opensearch.action.index.IndexResponse;
 import org.opensearch.action.search.SearchResponse;
 import org.opensearch.action.support.WriteRequest;
+import org.opensearch.action.support.clustermanager.AcknowledgedResponse;
 import org.opensearch.cluster.routing.Preference;
 import org.opensearch.cluster.service.ClusterService;
 import org.opensearch.common.settings.ClusterSettings;
+import org.opensearch.common.unit.TimeValue;
 import org.opensearch.common.xcontent.LoggingDeprecationHandler;
 import org.opensearch.common.xcontent.XContentFactory;
 import org.opensearch.common.xcontent.XContentHelper;
@@ -46,22 +51,31 @@ import org.opensearch.core.rest.RestStatus;
 import org.opensearch.core.xcontent.NamedXContentRegistry;
 import org.opensearch.core.xcontent.ToXContent;
 import org.opensearch.core.xcontent.XContentParser;
+import org.opensearch.geospatial.ip2geo.action.UpdateDatasourceMetadataAction;
+import org.opensearch.geospatial.ip2geo.action.UpdateDatasourceMetadataRequest;
+import org.opensearch.geospatial.ip2geo.common.Ip2GeoMetadata;
 import org.opensearch.geospatial.ip2geo.common.Ip2GeoSettings;
 import org.opensearch.geospatial.ip2geo.jobscheduler.Datasource;
 import org.opensearch.geospatial.ip2geo.jobscheduler.DatasourceExtension;
 import org.opensearch.index.IndexNotFoundException;
 import org.opensearch.index.query.QueryBuilders;
 import org.opensearch.search.SearchHit;
+import org.opensearch.search.sort.FieldSortBuilder;
+import org.opensearch.search.sort.SortOrder;
 import org.opensearch.transport.client.Client;
 
 import lombok.extern.log4j.Log4j2;
 
 /**
  * Data access object for datasource
+ *
+ * Every write to the job index is followed by publishing lookup relevant fields of the datasource in cluster state.
+ * See {@link Ip2GeoMetadata}
  */
 @Log4j2
 public class DatasourceDao {
     private static final Integer MAX_SIZE = 1000;
+    private static final TimeValue SCROLL_KEEP_ALIVE = TimeValue.timeValueMinutes(1);
     private final Client pluginClient;
     private final ClusterService clusterService;
     private final ClusterSettings clusterSettings;
@@ -122,13 +136,15 @@ public class DatasourceDao {
     public IndexResponse updateDatasource(final Datasource datasource) {
         datasource.setLastUpdateTime(Instant.now());
         try {
-            return pluginClient.prepareIndex(DatasourceExtension.JOB_INDEX_NAME)
+            IndexResponse response = pluginClient.prepareIndex(DatasourceExtension.JOB_INDEX_NAME)
                 .setId(datasource.getName())
                 .setOpType(DocWriteRequest.OpType.INDEX)
                 .setRefreshPolicy(WriteRequest.RefreshPolicy.IMMEDIATE)
                 .setSource(datasource.toXContent(XContentFactory.jsonBuilder(), ToXContent.EMPTY_PARAMS))
                 .execute()
                 .actionGet(clusterSettings.get(Ip2GeoSettings.TIMEOUT));
+            publishMetadata(Arrays.asList(datasource), Collections.emptyList());
+            return response;
         } catch (IOException e) {
             throw new RuntimeException(e);
         }
@@ -145,7 +161,19 @@ public class DatasourceDao {
             datasource.setLastUpdateTime(Instant.now());
             return datasource;
         }).map(this::toIndexRequest).forEach(indexRequest -> bulkRequest.add(indexRequest));
-        pluginClient.bulk(bulkRequest, listener);
+        pluginClient.bulk(bulkRequest, ActionListener.wrap(bulkResponse -> {
+            List<Datasource> updatedDatasources = new ArrayList<>(datasources.size());
+            for (int i = 0; i < bulkResponse.getItems().length; i++) {
+                if (bulkResponse.getItems()[i].isFailed() == false) {
+                    updatedDatasources.add(datasources.get(i));
+                }
+            }
+            publishMetadata(
+                updatedDatasources,
+                Collections.emptyList(),
+                ActionListener.wrap(response -> listener.onResponse(bulkResponse), listener::onFailure)
+            );
+        }, listener::onFailure));
     }
 
     private IndexRequest toIndexRequest(Datasource datasource) {
@@ -176,7 +204,13 @@ public class DatasourceDao {
                 .setOpType(DocWriteRequest.OpType.CREATE)
                 .setRefreshPolicy(WriteRequest.RefreshPolicy.IMMEDIATE)
                 .setSource(datasource.toXContent(XContentFactory.jsonBuilder(), ToXContent.EMPTY_PARAMS))
-                .execute(listener);
+                .execute(ActionListener.wrap(indexResponse -> {
+                    publishMetadata(
+                        Arrays.asList(datasource),
+                        Collections.emptyList(),
+                        ActionListener.wrap(response -> listener.onResponse(indexResponse), listener::onFailure)
+                    );
+                }, listener::onFailure));
         } catch (IOException e) {
             new RuntimeException(e);
         }
@@ -203,6 +237,107 @@ public class DatasourceDao {
         } else {
             throw new OpenSearchException("failed to delete datasource[{}] with status[{}]", datasource.getName(), response.status());
         }
+        publishMetadata(Collections.emptyList(), Arrays.asList(datasource.getName()));
+    }
+
+    /**
+     * Publish lookup relevant fields of given datasources in cluster state
+     *
+     * @param datasources the datasources
+     * @param listener the listener
+     */
+    public void publishMetadata(final List<Datasource> datasources, final ActionListener<AcknowledgedResponse> listener) {
+        publishMetadata(datasources, Collections.emptyList(), listener);
+    }
+
+    private void publishMetadata(final List<Datasource> datasources, final List<String> removedNames) {
+        AcknowledgedResponse response = pluginClient.execute(
+            UpdateDatasourceMetadataAction.INSTANCE,
+            toMetadataRequest(datasources, removedNames)
+        ).actionGet(clusterSettings.get(Ip2GeoSettings.TIMEOUT));
+        if (response.isAcknowledged() == false) {
+            throw new OpenSearchException("failed to publish metadata of datasources in cluster state");
+        }
+    }
+
+    private void publishMetadata(
+        final List<Datasource> datasources,
+        final List<String> removedNames,
+        final ActionListener<AcknowledgedResponse> listener
+    ) {
+        pluginClient.execute(UpdateDatasourceMetadataAction.INSTANCE, toMetadataRequest(datasources, removedNames), listener);
+    }
+
+    /**
+     * Bring lookup relevant fields of every datasource in cluster state in line with the job index
+     *
+     * Writes to the job index and publishing to cluster state are separate steps. If publishing fails after a write,
+     * cluster state is stale until the next write. This pages through the whole job index, which is the source of truth,
+     * publishes every datasource in it, and removes datasources from cluster state which no longer exist in the job index.
+     *
+     * @param listener the listener
+     */
+    public void reconcileMetadata(final ActionListener<AcknowledgedResponse> listener) {
+        pluginClient.prepareSearch(DatasourceExtension.JOB_INDEX_NAME)
+            .setQuery(QueryBuilders.matchAllQuery())
+            .setPreference(Preference.PRIMARY.type())
+            .addSort(FieldSortBuilder.DOC_FIELD_NAME, SortOrder.ASC)
+            .setSize(MAX_SIZE)
+            .setScroll(SCROLL_KEEP_ALIVE)
+            .execute(ActionListener.wrap(response -> reconcileMetadata(response, new ArrayList<>(), listener), listener::onFailure));
+    }
+
+    /**
+     * Collect datasources of a scroll page and fetch the next page. Publish them once an empty page is returned.
+     * On failure, the scroll context is left to expire after {@code SCROLL_KEEP_ALIVE}.
+     */
+    private void reconcileMetadata(
+        final SearchResponse response,
+        final List<Datasource> datasources,
+        final ActionListener<AcknowledgedResponse> listener
+    ) {
+        List<BytesReference> bytesReferences = toBytesReferences(response);
+        if (bytesReferences.isEmpty() == false) {
+            bytesReferences.stream().map(bytesRef -> toDatasource(bytesRef)).forEach(datasources::add);
+            pluginClient.prepareSearchScroll(response.getScrollId())
+                .setScroll(SCROLL_KEEP_ALIVE)
+                .execute(ActionListener.wrap(next -> reconcileMetadata(next, datasources, listener), listener::onFailure));
+            return;
+        }
+
+        clearScroll(response.getScrollId());
+        Set<String> names = datasources.stream().map(Datasource::getName).collect(Collectors.toSet());
+        Ip2GeoMetadata metadata = clusterService.state().metadata().custom(Ip2GeoMetadata.TYPE);
+        List<String> removedNames = metadata == null
+            ? Collections.emptyList()
+            : metadata.getDatasources().keySet().stream().filter(name -> names.contains(name) == false).collect(Collectors.toList());
+        publishMetadata(datasources, removedNames, listener);
+    }
+
+    private void clearScroll(final String scrollId) {
+        pluginClient.prepareClearScroll()
+            .addScrollId(scrollId)
+            .execute(ActionListener.wrap(response -> {}, e -> log.warn("Failed to clear scroll context of the job index", e)));
+    }
+
+    /**
+     * Publish lookup relevant fields of a datasource in cluster state if they differ from the ones in the job index
+     *
+     * @param datasource the datasource read from the job index
+     */
+    public void reconcileMetadata(final Datasource datasource) {
+        Ip2GeoMetadata metadata = clusterService.state().metadata().custom(Ip2GeoMetadata.TYPE);
+        if (metadata != null && new Ip2GeoMetadata.DatasourceMetadata(datasource).equals(metadata.get(datasource.getName()))) {
+            return;
+        }
+        publishMetadata(Arrays.asList(datasource), Collections.emptyList());
+    }
+
+    private UpdateDatasourceMetadataRequest toMetadataRequest(final List<Datasource> datasources, final List<String> removedNames) {
+        List<Ip2GeoMetadata.DatasourceMetadata> metadata = datasources.stream()
+            .map(Ip2GeoMetadata.DatasourceMetadata::new)
+            .collect(Collectors.toList());
+        return new UpdateDatasourceMetadataRequest(metadata, removedNames);
     }
 
     /**
@@ -17,6 +17,7 @@ import java.net.URLConnection;
 import java.nio.charset.StandardCharsets;
 import java.util.Arrays;
 import java.util.Collections;
+import java.util.HashMap;
 import java.util.Iterator;
 import java.util.LinkedList;
 import java.util.List;
@@ -35,9 +36,16 @@ import org.opensearch.OpenSearchException;
 import org.opensearch.SpecialPermission;
 import org.opensearch.action.DocWriteRequest;
 import org.opensearch.action.admin.indices.create.CreateIndexRequest;
+import org.opensearch.action.admin.indices.stats.CommonStats;
+import org.opensearch.action.admin.indices.stats.CommonStatsFlags;
+import org.opensearch.action.admin.indices.stats.IndicesStatsRequest;
+import org.opensearch.action.admin.indices.stats.IndicesStatsResponse;
 import org.opensearch.action.bulk.BulkRequest;
 import org.opensearch.action.bulk.BulkResponse;
 import org.opensearch.action.index.IndexRequest;
+import org.opensearch.action.search.MultiSearchRequest;
+import org.opensearch.action.search.MultiSearchResponse;
+import org.opensearch.action.search.SearchRequest;
 import org.opensearch.action.search.SearchResponse;
 import org.opensearch.action.support.IndicesOptions;
 import org.opensearch.action.support.clustermanager.AcknowledgedResponse;
@@ -49,6 +57,7 @@ import org.opensearch.common.unit.TimeValue;
 import org.opensearch.common.xcontent.XContentFactory;
 import org.opensearch.common.xcontent.XContentHelper;
 import org.opensearch.common.xcontent.XContentType;
+import org.opensearch.core.action.ActionListener;
 import org.opensearch.core.common.Strings;
 import org.opensearch.core.xcontent.XContentBuilder;
 import org.opensearch.geospatial.annotation.VisibleForTesting;
@@ -59,10 +68,13 @@ import org.opensearch.geospatial.ip2geo.common.Ip2GeoSettings;
 import org.opensearch.geospatial.ip2geo.common.URLDenyListChecker;
 import org.opensearch.geospatial.shared.Constants;
 import org.opensearch.index.query.QueryBuilders;
+import org.opensearch.search.builder.SearchSourceBuilder;
 import org.opensearch.secure_sm.AccessController;
 import org.opensearch.transport.client.Client;
 import org.opensearch.transport.client.Requests;
 
+import inet.ipaddr.IPAddress;
+import inet.ipaddr.IPAddressString;
 import lombok.NonNull;
 import lombok.extern.log4j.Log4j2;
 
@@ -72,6 +84,7 @@ import lombok.extern.log4j.Log4j2;
 @Log4j2
 public class GeoIpDataDao {
     private static final String IP_RANGE_FIELD_NAME = "_cidr";
+    private static final String IP_RANGE_START_FIELD_NAME = "_cidr_start";
     private static final String DATA_FIELD_NAME = "_data";
     private static final Map<String, Object> INDEX_SETTING_TO_CREATE = Map.of(
         IndexSetting.NUMBER_OF_SHARDS,
@@ -83,12 +96,16 @@ public class GeoIpDataDao {
         IndexSetting.HIDDEN,
         true
     );
-    private static final Map<String, Object> INDEX_SETTING_TO_FREEZE = Map.of(
-        IndexSetting.AUTO_EXPAND_REPLICAS,
-        "0-all",
-        IndexSetting.BLOCKS_WRITE,
-        true
+    private static final Map<String, Object> INDEX_SETTING_TO_SORT = Map.of(
+        IndexSetting.SORT_FIELD,
+        IP_RANGE_START_FIELD_NAME,
+        IndexSetting.SORT_ORDER,
+        "asc",
+        IndexSetting.TRANSLOG_FLUSH_THRESHOLD_SIZE,
+        "2gb"
     );
+    private static final Map<String, Object> INDEX_SETTING_TO_FREEZE = Map.of(IndexSetting.BLOCKS_WRITE, true);
+    private static final Map<String, Object> INDEX_SETTING_TO_EXPAND_REPLICAS = Map.of(IndexSetting.AUTO_EXPAND_REPLICAS, "0-all");
     private final ClusterService clusterService;
     private final ClusterSettings clusterSettings;
     private final Client pluginClient;
@@ -105,9 +122,11 @@ public class GeoIpDataDao {
      * Create an index for GeoIP data
      *
      * Index setting start with single shard, zero replica, no refresh interval, and hidden.
-     * Once the GeoIP data is indexed, do refresh and force merge.
-     * Then, change the index setting to expand replica to all nodes, and read only allow delete.
-     * See {@link #freezeIndex}
+     * Unless disabled by {@link Ip2GeoSettings#INDEX_SORT_ENABLED}, the index is sorted by the start of ip range with
+     * a large translog flush threshold so that the import is written in a few large sorted segments.
+     * Once the GeoIP data is indexed, do refresh and force merge if there is more than one segment.
+     * Then, change the index setting to block write. See {@link #freezeIndex}
+     * Replicas are added afterward by the caller. See {@link #expandReplicasToAllNodes} and {@link #updateNumberOfReplicas}
      *
      * @param indexName index name
      */
@@ -115,15 +134,24 @@ public class GeoIpDataDao {
         if (clusterService.state().metadata().hasIndex(indexName) == true) {
             return;
         }
-        final CreateIndexRequest createIndexRequest = new CreateIndexRequest(indexName).settings(INDEX_SETTING_TO_CREATE)
-            .mapping(getIndexMapping());
+        Map<String, Object> settings = new HashMap<>(INDEX_SETTING_TO_CREATE);
+        if (clusterSettings.get(Ip2GeoSettings.INDEX_SORT_ENABLED)) {
+            settings.putAll(INDEX_SETTING_TO_SORT);
+        }
+        final CreateIndexRequest createIndexRequest = new CreateIndexRequest(indexName).settings(settings).mapping(getIndexMapping());
         pluginClient.admin().indices().create(createIndexRequest).actionGet(clusterSettings.get(Ip2GeoSettings.TIMEOUT));
     }
 
     private void freezeIndex(final String indexName) {
         TimeValue timeout = clusterSettings.get(Ip2GeoSettings.TIMEOUT);
-        pluginClient.admin().indices().prepareForceMerge(indexName).setMaxNumSegments(1).execute().actionGet(timeout);
         pluginClient.admin().indices().prepareRefresh(indexName).execute().actionGet(timeout);
+        long segmentCount = getPrimaryStats(indexName, new CommonStatsFlags(CommonStatsFlags.Flag.Segments)).getSegments().getCount();
+        if (segmentCount > 1) {
+            pluginClient.admin().indices().prepareForceMerge(indexName).setMaxNumSegments(1).execute().actionGet(timeout);
+            pluginClient.admin().indices().prepareRefresh(indexName).execute().actionGet(timeout);
+        } else {
+            log.info("Skipping force merge of index[{}] with {} segment", indexName, segmentCount);
+        }
         pluginClient.admin()
             .indices()
             .prepareUpdateSettings(indexName)
@@ -132,6 +160,56 @@ public class GeoIpDataDao {
             .actionGet(clusterSettings.get(Ip2GeoSettings.TIMEOUT));
     }
 
+    /**
+     * Change the index setting to expand replicas to all nodes
+     *
+     * @param indexName index name
+     */
+    public void expandReplicasToAllNodes(final String indexName) {
+        updateIndexSettings(indexName, INDEX_SETTING_TO_EXPAND_REPLICAS);
+    }
+
+    /**
+     * Change the number of replicas of an index
+     *
+     * @param indexName index name
+     * @param numberOfReplicas the number of replicas
+     */
+    public void updateNumberOfReplicas(final String indexName, final int numberOfReplicas) {
+        updateIndexSettings(indexName, Map.of(IndexSetting.NUMBER_OF_REPLICAS, numberOfReplicas));
+    }
+
+    /**
+     * Return the size of primary shards of an index in bytes
+     *
+     * @param indexName index name
+     * @return the size of primary shards in bytes
+     */
+    public long getPrimaryStoreSizeInBytes(final String indexName) {
+        return getPrimaryStats(indexName, new CommonStatsFlags(CommonStatsFlags.Flag.Store)).getStore().getSizeInBytes();
+    }
+
+    private CommonStats getPrimaryStats(final String indexName, final CommonStatsFlags flags) {
+        IndicesStatsRequest request = new IndicesStatsRequest().indices(indexName).flags(flags);
+        IndicesStatsResponse response = pluginClient.admin()
+            .indices()
+            .stats(request)
+            .actionGet(clusterSettings.get(Ip2GeoSettings.TIMEOUT));
+        return response.getPrimaries();
+    }
+
+    private void updateIndexSettings(final String indexName, final Map<String, Object> settings) {
+        AcknowledgedResponse response = pluginClient.admin()
+            .indices()
+            .prepareUpdateSettings(indexName)
+            .setSettings(settings)
+            .execute()
+            .actionGet(clusterSettings.get(Ip2GeoSettings.TIMEOUT));
+        if (response.isAcknowledged() == false) {
+            throw new OpenSearchException("failed to update settings {} of index[{}]", settings, indexName);
+        }
+    }
+
     /**
      * Generate XContentBuilder representing datasource database index mapping
      *
@@ -204,10 +282,12 @@ public class GeoIpDataDao {
      * Create a document to ingest in datasource database index
      *
      * It assumes the first field as ip_range. The rest is added under data field.
+     * The start of ip range is added as a separate field to sort the index on.
      *
      * Document example
      * {
      *   "_cidr":"1.0.0.1/25",
+     *   "_cidr_start":"1.0.0.0",
      *   "_data":{
      *       "country": "USA",
      *       "city": "Seattle",
@@ -227,6 +307,10 @@ public class GeoIpDataDao {
         XContentBuilder builder = XContentFactory.jsonBuilder();
         builder.startObject();
         builder.field(IP_RANGE_FIELD_NAME, values[0]);
+        String rangeStart = getRangeStart(values[0]);
+        if (rangeStart != null) {
+            builder.field(IP_RANGE_START_FIELD_NAME, rangeStart);
+        }
         builder.startObject(DATA_FIELD_NAME);
         for (int i = 1; i < fields.length; i++) {
             if (!Strings.hasText(values[i])) {
@@ -240,6 +324,17 @@ public class GeoIpDataDao {
         return builder;
     }
 
+    /**
+     * Return the lowest address of an ip range in CIDR notation, or null if it is not a valid ip range
+     */
+    private String getRangeStart(final String cidr) {
+        IPAddress address = new IPAddressString(cidr).getAddress();
+        if (address == null) {
+            return null;
+        }
+        return address.toPrefixBlock().getLower().withoutPrefixLength().toCanonicalString();
+    }
+
     /**
      * Query a given index using a given ip address to get geoip data
      *
@@ -254,14 +349,47 @@ public class GeoIpDataDao {
             .setPreference(Preference.LOCAL.type())
             .setRequestCache(true)
             .get(clusterSettings.get(Ip2GeoSettings.TIMEOUT));
+        return toGeoData(response);
+    }
 
+    /**
+     * Query a given index using given ip addresses in a single multi search request to get geoip data
+     *
+     * @param indexName index
+     * @param ips ip addresses
+     * @param listener listener to receive geoIP data keyed by ip address. An empty map is given for an ip address without data.
+     */
+    public void getGeoIpData(
+        final String indexName,
+        final List<String> ips,
+        final ActionListener<Map<String, Map<String, Object>>> listener
+    ) {
+        MultiSearchRequest multiSearchRequest = new MultiSearchRequest();
+        for (String ip : ips) {
+            SearchSourceBuilder source = new SearchSourceBuilder().size(1).query(QueryBuilders.termQuery(IP_RANGE_FIELD_NAME, ip));
+            multiSearchRequest.add(new SearchRequest(indexName).source(source).preference(Preference.LOCAL.type()).requestCache(true));
+        }
+        pluginClient.multiSearch(multiSearchRequest, ActionListener.wrap(response -> {
+            Map<String, Map<String, Object>> geoData = new HashMap<>(ips.size());
+            MultiSearchResponse.Item[] items = response.getResponses();
+            for (int i = 0; i < items.length; i++) {
+                if (items[i].isFailure()) {
+                    listener.onFailure(items[i].getFailure());
+                    return;
+                }
+                geoData.put(ips.get(i), toGeoData(items[i].getResponse()));
+            }
+            listener.onResponse(geoData);
+        }, listener::onFailure));
+    }
+
+    private Map<String, Object> toGeoData(final SearchResponse response) {
         if (response.getHits().getHits().length == 0) {
             return Collections.emptyMap();
-        } else {
-            return (Map<String, Object>) XContentHelper.convertToMap(response.getHits().getAt(0).getSourceRef(), false, XContentType.JSON)
-                .v2()
-                .get(DATA_FIELD_NAME);
         }
+        return (Map<String, Object>) XContentHelper.convertToMap(response.getHits().getAt(0).getSourceRef(), false, XContentType.JSON)
+            .v2()
+            .get(DATA_FIELD_NAME);
     }
 
     /**
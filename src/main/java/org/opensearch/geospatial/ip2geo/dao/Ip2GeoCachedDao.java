@@ -5,74 +5,63 @@
 
 package org.opensearch.geospatial.ip2geo.dao;
 
-import java.io.IOException;
 import java.time.Instant;
+import java.util.ArrayList;
+import java.util.Collection;
+import java.util.HashMap;
 import java.util.Iterator;
+import java.util.List;
 import java.util.Map;
-import java.util.concurrent.ConcurrentHashMap;
 import java.util.concurrent.ExecutionException;
 import java.util.function.Function;
 
 import org.opensearch.cluster.service.ClusterService;
 import org.opensearch.common.cache.Cache;
 import org.opensearch.common.cache.CacheBuilder;
-import org.opensearch.common.xcontent.LoggingDeprecationHandler;
-import org.opensearch.common.xcontent.XContentType;
-import org.opensearch.core.index.shard.ShardId;
-import org.opensearch.core.xcontent.NamedXContentRegistry;
-import org.opensearch.core.xcontent.XContentParser;
+import org.opensearch.core.action.ActionListener;
 import org.opensearch.geospatial.annotation.VisibleForTesting;
 import org.opensearch.geospatial.ip2geo.common.DatasourceState;
+import org.opensearch.geospatial.ip2geo.common.Ip2GeoMetadata;
+import org.opensearch.geospatial.ip2geo.common.Ip2GeoMetadata.DatasourceMetadata;
 import org.opensearch.geospatial.ip2geo.common.Ip2GeoSettings;
-import org.opensearch.geospatial.ip2geo.jobscheduler.Datasource;
-import org.opensearch.index.IndexNotFoundException;
-import org.opensearch.index.engine.Engine;
-import org.opensearch.index.shard.IndexingOperationListener;
 
 import lombok.AllArgsConstructor;
 import lombok.EqualsAndHashCode;
-import lombok.Getter;
 import lombok.extern.log4j.Log4j2;
 
 /**
  * Data access object for Datasource and GeoIP data with added caching layer
  *
- * Ip2GeoCachedDao has a memory cache to store Datasource and GeoIP data. To fully utilize the cache,
+ * Ip2GeoCachedDao has a memory cache to store GeoIP data. To fully utilize the cache,
  * do not create multiple Ip2GeoCachedDao. Ip2GeoCachedDao instance is bound to guice so that you can use
  * it through injection.
  *
- * All IP2Geo processors share single Ip2GeoCachedDao instance.
+ * Datasource metadata is read from {@link Ip2GeoMetadata} in the local cluster state. It is published by
+ * {@link DatasourceDao} whenever a datasource is written, so that no request to the job index is needed here.
+ *
+ * All IP2Geo processors, including the ip2geo search response processor, share single Ip2GeoCachedDao instance.
  */
 @Log4j2
-public class Ip2GeoCachedDao implements IndexingOperationListener {
-    private final DatasourceDao datasourceDao;
+public class Ip2GeoCachedDao {
+    private static final DatasourceMetadata EMPTY_METADATA = new DatasourceMetadata("", null, DatasourceState.CREATING, Instant.MIN);
+    private final ClusterService clusterService;
     private final GeoIpDataDao geoIpDataDao;
     private final GeoDataCache geoDataCache;
-    private Map<String, DatasourceMetadata> metadata;
 
-    public Ip2GeoCachedDao(final ClusterService clusterService, final DatasourceDao datasourceDao, final GeoIpDataDao geoIpDataDao) {
-        this.datasourceDao = datasourceDao;
+    public Ip2GeoCachedDao(final ClusterService clusterService, final GeoIpDataDao geoIpDataDao) {
+        this.clusterService = clusterService;
         this.geoIpDataDao = geoIpDataDao;
         this.geoDataCache = new GeoDataCache(clusterService.getClusterSettings().get(Ip2GeoSettings.CACHE_SIZE));
         clusterService.getClusterSettings()
             .addSettingsUpdateConsumer(Ip2GeoSettings.CACHE_SIZE, setting -> this.geoDataCache.updateMaxSize(setting.longValue()));
     }
 
-    private String doGetIndexName(final String datasourceName) {
-        return getMetadata().getOrDefault(datasourceName, DatasourceMetadata.EMPTY_METADATA).getIndexName();
-    }
-
     public String getIndexName(final String datasourceName) {
-        String indexName = doGetIndexName(datasourceName);
-        if (indexName == null) {
-            refreshDatasource(datasourceName);
-            indexName = doGetIndexName(datasourceName);
-        }
-        return indexName;
+        return getDatasourceMetadata(datasourceName).getIndexName();
     }
 
-    private boolean doIsExpired(final String datasourceName) {
-        final Instant expirationDate = getMetadata().getOrDefault(datasourceName, DatasourceMetadata.EMPTY_METADATA).getExpirationDate();
+    public boolean isExpired(final String datasourceName) {
+        final Instant expirationDate = getDatasourceMetadata(datasourceName).getExpirationDate();
         final Instant now = Instant.now();
         final boolean isExpired = expirationDate.isBefore(now);
         if (isExpired) {
@@ -81,39 +70,13 @@ public class Ip2GeoCachedDao implements IndexingOperationListener {
         return isExpired;
     }
 
-    public boolean isExpired(final String datasourceName) {
-        boolean isExpired = doIsExpired(datasourceName);
-        if (isExpired) {
-            refreshDatasource(datasourceName);
-            isExpired = doIsExpired(datasourceName);
-        }
-        return isExpired;
-    }
-
-    private boolean doHas(final String datasourceName) {
-        return getMetadata().containsKey(datasourceName);
-    }
-
     public boolean has(final String datasourceName) {
-        boolean isExist = doHas(datasourceName);
-        if (isExist == false) {
-            refreshDatasource(datasourceName);
-            isExist = doHas(datasourceName);
-        }
-        return isExist;
-    }
-
-    private DatasourceState doGetState(final String datasourceName) {
-        return getMetadata().getOrDefault(datasourceName, DatasourceMetadata.EMPTY_METADATA).getState();
+        return getMetadata().get(datasourceName) != null;
     }
 
     public DatasourceState getState(final String datasourceName) {
-        DatasourceState state = doGetState(datasourceName);
-        if (DatasourceState.AVAILABLE.equals(state) == false) {
-            refreshDatasource(datasourceName);
-            state = doGetState(datasourceName);
-        }
-        return state;
+        DatasourceMetadata datasourceMetadata = getMetadata().get(datasourceName);
+        return datasourceMetadata == null ? null : datasourceMetadata.getState();
     }
 
     private Map<String, Object> doGetGeoData(final String indexName, final String ip) throws ExecutionException {
@@ -125,9 +88,14 @@ public class Ip2GeoCachedDao implements IndexingOperationListener {
         try {
             geoData = doGetGeoData(indexName, ip);
         } catch (Exception e) {
-            refreshDatasource(datasourceName);
+            // The index could have been replaced by a newer one after the caller resolved the index name
+            String currentIndexName = getIndexName(datasourceName);
+            if (currentIndexName == null || currentIndexName.equals(indexName)) {
+                log.error("Fail to get geo data.", e);
+                throw new RuntimeException(e);
+            }
             try {
-                geoData = doGetGeoData(indexName, ip);
+                geoData = doGetGeoData(currentIndexName, ip);
             } catch (Exception ex) {
                 log.error("Fail to get geo data.", e);
                 throw new RuntimeException(ex);
@@ -137,127 +105,64 @@ public class Ip2GeoCachedDao implements IndexingOperationListener {
         return geoData;
     }
 
-    private Map<String, DatasourceMetadata> getMetadata() {
-        // Use a local variable to hold the reference of the metadata in case another thread set the metadata as null,
-        // and we unexpectedly return the null. Using this local variable we ensure we return a non-null value.
-        Map<String, DatasourceMetadata> currentMetadata = metadata;
-        if (currentMetadata != null) {
-            return currentMetadata;
-        }
-        synchronized (this) {
-            currentMetadata = metadata;
-            if (currentMetadata != null) {
-                return currentMetadata;
-            }
-            currentMetadata = new ConcurrentHashMap<>();
-            try {
-                for (Datasource datasource : datasourceDao.getAllDatasources()) {
-                    currentMetadata.put(datasource.getName(), new DatasourceMetadata(datasource));
-                }
-            } catch (IndexNotFoundException e) {
-                log.debug("Datasource has never been created");
-            }
-            metadata = currentMetadata;
-            return currentMetadata;
-        }
-    }
-
-    private void put(final Datasource datasource) {
-        DatasourceMetadata metadata = new DatasourceMetadata(datasource);
-        getMetadata().put(datasource.getName(), metadata);
-    }
-
-    private void remove(final String datasourceName) {
-        getMetadata().remove(datasourceName);
-    }
-
-    private void refreshDatasource(final String datasourceName) {
-        try {
-            log.info("Refresh datasource.");
-            Datasource datasource = datasourceDao.getDatasource(datasourceName);
-            if (datasource != null) {
-                getMetadata().put(datasourceName, new DatasourceMetadata(datasource));
+    /**
+     * Get geo data of multiple ip addresses
+     *
+     * Ip addresses found in the cache are served from it and the rest are resolved in a single batched lookup
+     * whose result is cached as well.
+     *
+     * @param indexName the index name resolved by the caller
+     * @param ips distinct ip addresses
+     * @param datasourceName the datasource name
+     * @param listener listener to receive geo data keyed by ip address
+     */
+    public void getGeoData(
+        final String indexName,
+        final Collection<String> ips,
+        final String datasourceName,
+        final ActionListener<Map<String, Map<String, Object>>> listener
+    ) {
+        Map<String, Map<String, Object>> geoData = new HashMap<>(ips.size());
+        List<String> missedIps = new ArrayList<>();
+        for (String ip : ips) {
+            Map<String, Object> cached = geoDataCache.get(indexName, ip);
+            if (cached == null) {
+                missedIps.add(ip);
             } else {
-                getMetadata().remove(datasourceName);
+                geoData.put(ip, cached);
             }
-        } catch (Exception e) {
-            log.error("Fail to refresh the datasource.", e);
-            clearMetadata();
         }
-    }
-
-    private void clearMetadata() {
-        log.info("Resetting all datasource metadata to force a refresh from the primary index shard.");
-        metadata = null;
-    }
-
-    @Override
-    public void postIndex(ShardId shardId, Engine.Index index, Exception ex) {
-        log.error("Skipped updating datasource metadata for datasource {} due to an indexing exception: {}", index.id(), ex);
-        clearMetadata();
-    }
-
-    @Override
-    public void postIndex(ShardId shardId, Engine.Index index, Engine.IndexResult result) {
-        if (Engine.Result.Type.FAILURE.equals(result.getResultType())) {
-            log.error(
-                "Skipped updating datasource metadata for datasource {} because the indexing result was a failure: {}",
-                index.id(),
-                result.getFailure()
-            );
-            clearMetadata();
+        if (missedIps.isEmpty()) {
+            listener.onResponse(geoData);
             return;
         }
 
-        try {
-            XContentParser parser = XContentType.JSON.xContent()
-                .createParser(NamedXContentRegistry.EMPTY, LoggingDeprecationHandler.INSTANCE, index.source().utf8ToString());
-            parser.nextToken();
-            Datasource datasource = Datasource.PARSER.parse(parser, null);
-            put(datasource);
-            log.info("Updated datasource metadata for datasource {} successfully.", index.id());
-        } catch (IOException e) {
-            log.error("IOException occurred updating datasource metadata for datasource {}: {}", index.id(), e);
-            clearMetadata();
-        }
-    }
-
-    @Override
-    public void postDelete(ShardId shardId, Engine.Delete delete, Exception ex) {
-        log.error("Skipped updating datasource metadata for datasource {} due to an exception: {}", delete.id(), ex);
-        clearMetadata();
+        geoIpDataDao.getGeoIpData(indexName, missedIps, ActionListener.wrap(found -> {
+            for (Map.Entry<String, Map<String, Object>> entry : found.entrySet()) {
+                geoDataCache.put(indexName, entry.getKey(), entry.getValue());
+            }
+            geoData.putAll(found);
+            listener.onResponse(geoData);
+        }, e -> {
+            // The index could have been replaced by a newer one after the caller resolved the index name
+            String currentIndexName = getIndexName(datasourceName);
+            if (currentIndexName == null || currentIndexName.equals(indexName)) {
+                log.error("Fail to get geo data.", e);
+                listener.onFailure(e);
+                return;
+            }
+            getGeoData(currentIndexName, ips, datasourceName, listener);
+        }));
     }
 
-    @Override
-    public void postDelete(ShardId shardId, Engine.Delete delete, Engine.DeleteResult result) {
-        if (result.getResultType().equals(Engine.Result.Type.FAILURE)) {
-            log.error(
-                "Skipped updating datasource metadata for datasource {} because the delete result was a failure: {}",
-                delete.id(),
-                result.getFailure()
-            );
-            clearMetadata();
-            return;
-        }
-        remove(delete.id());
+    private Ip2GeoMetadata getMetadata() {
+        Ip2GeoMetadata metadata = clusterService.state().metadata().custom(Ip2GeoMetadata.TYPE);
+        return metadata == null ? Ip2GeoMetadata.EMPTY : metadata;
     }
 
-    @Getter
-    private static class DatasourceMetadata {
-        private static DatasourceMetadata EMPTY_METADATA = new DatasourceMetadata();
-        private String indexName;
-        private Instant expirationDate;
-        private DatasourceState state;
-
-        private DatasourceMetadata() {
-            expirationDate = Instant.MIN;
-        }
-
-        public DatasourceMetadata(final Datasource datasource) {
-            this.indexName = datasource.currentIndexName();
-            this.expirationDate = datasource.expirationDay();
-            this.state = datasource.getState();
-        }
+    private DatasourceMetadata getDatasourceMetadata(final String datasourceName) {
+        DatasourceMetadata datasourceMetadata = getMetadata().get(datasourceName);
+        return datasourceMetadata == null ? EMPTY_METADATA : datasourceMetadata;
     }
 
     /**
@@ -289,6 +194,10 @@ public class Ip2GeoCachedDao implements IndexingOperationListener {
             return cache.get(new CacheKey(indexName, ip));
         }
 
+        public void put(final String indexName, final String ip, final Map<String, Object> geoData) {
+            cache.put(new CacheKey(indexName, ip), geoData);
+        }
+
         /**
          * Create a new cache with give size and replace existing cache
          *
@@ -143,6 +143,9 @@ public class DatasourceRunner implements ScheduledJobRunner {
             return;
         }
 
+        // Publishing to cluster state could have failed after the last write to the job index
+        datasourceDao.reconcileMetadata(datasource);
+
         if (DatasourceState.AVAILABLE.equals(datasource.getState()) == false) {
             log.error("Invalid datasource state. Expecting {} but received {}", DatasourceState.AVAILABLE, datasource.getState());
             datasource.disable();
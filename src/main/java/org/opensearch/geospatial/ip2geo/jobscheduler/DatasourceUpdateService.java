@@ -19,11 +19,13 @@ import java.util.stream.Collectors;
 import org.apache.commons.csv.CSVParser;
 import org.apache.commons.csv.CSVRecord;
 import org.opensearch.OpenSearchException;
+import org.opensearch.cluster.routing.ShardRouting;
 import org.opensearch.cluster.service.ClusterService;
 import org.opensearch.common.settings.ClusterSettings;
 import org.opensearch.geospatial.annotation.VisibleForTesting;
 import org.opensearch.geospatial.ip2geo.common.DatasourceManifest;
 import org.opensearch.geospatial.ip2geo.common.DatasourceState;
+import org.opensearch.geospatial.ip2geo.common.Ip2GeoSettings;
 import org.opensearch.geospatial.ip2geo.common.URLDenyListChecker;
 import org.opensearch.geospatial.ip2geo.dao.DatasourceDao;
 import org.opensearch.geospatial.ip2geo.dao.GeoIpDataDao;
@@ -94,31 +96,108 @@ public class DatasourceUpdateService {
             geoIpDataDao.putGeoIpData(indexName, header, reader.iterator(), renewLock);
         }
 
-        waitUntilAllShardsStarted(indexName, MAX_WAIT_TIME_FOR_REPLICATION_TO_COMPLETE_IN_MILLIS);
+        rolloutReplicas(indexName, MAX_WAIT_TIME_FOR_REPLICATION_TO_COMPLETE_IN_MILLIS);
         Instant endTime = Instant.now();
         updateDatasourceAsSucceeded(indexName, datasource, manifest, fieldsToStore, startTime, endTime);
     }
 
+    /**
+     * Replicate a new GeoIP data index to all data nodes
+     *
+     * Without a wave size, replicas are expanded to all nodes at once. Otherwise, replicas are added in waves and
+     * the next wave starts only after every shard of the previous wave is started so that the recoveries do not
+     * compete with the rest of the cluster all at once. Once every data node has a copy, the index is switched to
+     * auto expand replicas so that nodes joining later get a copy as well.
+     *
+     * @param indexName the indexName
+     * @param timeout max time to wait for all waves to complete in millis
+     */
+    @VisibleForTesting
+    protected void rolloutReplicas(final String indexName, final int timeout) {
+        Instant deadline = Instant.now().plusMillis(timeout);
+        int waveSize = clusterSettings.get(Ip2GeoSettings.REPLICA_ROLLOUT_WAVE_SIZE);
+        if (waveSize == 0) {
+            geoIpDataDao.expandReplicasToAllNodes(indexName);
+            waitUntilAllShardsStarted(indexName, remainingMillis(deadline));
+            return;
+        }
+
+        int replicasPerWave = getReplicasPerWave(indexName, waveSize);
+        int numberOfReplicas = 0;
+        int wave = 0;
+        while (numberOfReplicas < targetNumberOfReplicas()) {
+            numberOfReplicas = Math.min(targetNumberOfReplicas(), numberOfReplicas + replicasPerWave);
+            wave++;
+            geoIpDataDao.updateNumberOfReplicas(indexName, numberOfReplicas);
+            waitUntilAllShardsStarted(indexName, remainingMillis(deadline));
+            log.info(
+                "Replica rollout wave {} of index[{}] completed with {} of {} replicas",
+                wave,
+                indexName,
+                numberOfReplicas,
+                targetNumberOfReplicas()
+            );
+        }
+        geoIpDataDao.expandReplicasToAllNodes(indexName);
+        waitUntilAllShardsStarted(indexName, remainingMillis(deadline));
+    }
+
+    /**
+     * Return the number of replicas to add in a single wave
+     *
+     * When max bytes per wave is set, the wave size is capped so that a wave does not copy more than the limit.
+     * A wave has at least one replica regardless of the limit so that the rollout always makes progress.
+     *
+     * @param indexName the indexName
+     * @param waveSize the configured wave size
+     * @return the number of replicas to add in a single wave
+     */
+    @VisibleForTesting
+    protected int getReplicasPerWave(final String indexName, final int waveSize) {
+        long maxBytesPerWave = clusterSettings.get(Ip2GeoSettings.REPLICA_ROLLOUT_MAX_BYTES_PER_WAVE).getBytes();
+        if (maxBytesPerWave <= 0) {
+            return waveSize;
+        }
+        long indexSize = geoIpDataDao.getPrimaryStoreSizeInBytes(indexName);
+        if (indexSize <= 0) {
+            return waveSize;
+        }
+        return (int) Math.max(1, Math.min(waveSize, maxBytesPerWave / indexSize));
+    }
+
+    private int targetNumberOfReplicas() {
+        return Math.max(0, clusterService.state().nodes().getDataNodes().size() - 1);
+    }
+
+    private int remainingMillis(final Instant deadline) {
+        return (int) Math.max(0, deadline.toEpochMilli() - Instant.now().toEpochMilli());
+    }
+
     /**
      * We wait until all shards are ready to serve search requests before updating datasource metadata to
      * point to a new index so that there won't be latency degradation during GeoIP data update
      *
      * @param indexName the indexName
+     * @param timeout max time to wait in millis
      */
     @VisibleForTesting
     protected void waitUntilAllShardsStarted(final String indexName, final int timeout) {
         Instant start = Instant.now();
+        long lastStartedShards = -1;
         try {
             while (Instant.now().toEpochMilli() - start.toEpochMilli() < timeout) {
-                if (clusterService.state().routingTable().allShards(indexName).stream().allMatch(shard -> shard.started())) {
+                List<ShardRouting> shards = clusterService.state().routingTable().allShards(indexName);
+                long startedShards = shards.stream().filter(ShardRouting::started).count();
+                if (startedShards == shards.size()) {
                     return;
                 }
+                if (startedShards != lastStartedShards) {
+                    log.debug("{} of {} shards of index[{}] are started", startedShards, shards.size(), indexName);
+                    lastStartedShards = startedShards;
+                }
                 Thread.sleep(SLEEP_TIME_IN_MILLIS);
             }
-            throw new OpenSearchException(
-                "index[{}] replication did not complete after {} millis",
-                MAX_WAIT_TIME_FOR_REPLICATION_TO_COMPLETE_IN_MILLIS
-            );
+            throw new OpenSearchException("index[{}] replication did not complete after {} millis", indexName, timeout);
         } catch (InterruptedException e) {
             throw new RuntimeException(e);
         }
@@ -11,10 +11,12 @@ import java.io.IOException;
 import java.time.Instant;
 import java.time.temporal.ChronoUnit;
 import java.util.List;
+import java.util.concurrent.atomic.AtomicBoolean;
 import java.util.stream.Collectors;
 
 import org.opensearch.action.bulk.BulkResponse;
 import org.opensearch.cluster.ClusterChangedEvent;
+import org.opensearch.cluster.ClusterState;
 import org.opensearch.cluster.ClusterStateListener;
 import org.opensearch.cluster.RestoreInProgress;
 import org.opensearch.cluster.node.DiscoveryNode;
@@ -22,6 +24,7 @@ import org.opensearch.cluster.service.ClusterService;
 import org.opensearch.common.inject.Inject;
 import org.opensearch.common.lifecycle.AbstractLifecycleComponent;
 import org.opensearch.core.action.ActionListener;
+import org.opensearch.geospatial.ip2geo.common.Ip2GeoMetadata;
 import org.opensearch.geospatial.ip2geo.dao.DatasourceDao;
 import org.opensearch.geospatial.ip2geo.dao.GeoIpDataDao;
 import org.opensearch.geospatial.ip2geo.jobscheduler.Datasource;
@@ -42,13 +45,19 @@ public class Ip2GeoListener extends AbstractLifecycleComponent implements Cluste
     private final ThreadPool threadPool;
     private final DatasourceDao datasourceDao;
     private final GeoIpDataDao geoIpDataDao;
+    private final AtomicBoolean isMetadataReconciled = new AtomicBoolean(false);
+    private final AtomicBoolean isReconcilingMetadata = new AtomicBoolean(false);
 
     @Override
     public void clusterChanged(final ClusterChangedEvent event) {
         if (event.localNodeClusterManager() == false) {
+            // Reconcile again when this node is elected as cluster manager
+            isMetadataReconciled.set(false);
             return;
         }
 
+        reconcileMetadataIfNeeded(event.state());
+
         for (RestoreInProgress.Entry entry : event.state().custom(RestoreInProgress.TYPE, RestoreInProgress.EMPTY)) {
             if (RestoreInProgress.State.SUCCESS.equals(entry.state()) == false) {
                 continue;
@@ -68,6 +77,36 @@ public class Ip2GeoListener extends AbstractLifecycleComponent implements Cluste
         }
     }
 
+    /**
+     * Reconcile {@link Ip2GeoMetadata} with the job index once after this node is elected as cluster manager,
+     * and whenever the metadata is missing from cluster state.
+     *
+     * Datasources created before {@link Ip2GeoMetadata} was introduced only exist in the job index. Besides, publishing
+     * metadata after writing to the job index could have failed under a previous cluster manager.
+     */
+    private void reconcileMetadataIfNeeded(final ClusterState state) {
+        if (state.metadata().hasIndex(DatasourceExtension.JOB_INDEX_NAME) == false) {
+            return;
+        }
+
+        if (isMetadataReconciled.get() && state.metadata().custom(Ip2GeoMetadata.TYPE) != null) {
+            return;
+        }
+
+        if (isReconcilingMetadata.compareAndSet(false, true) == false) {
+            return;
+        }
+
+        threadPool.generic().submit(() -> datasourceDao.reconcileMetadata(ActionListener.wrap(response -> {
+            log.info("Reconciled datasource metadata in cluster state with the job index");
+            isMetadataReconciled.set(true);
+            isReconcilingMetadata.set(false);
+        }, e -> {
+            log.error("Failed to reconcile datasource metadata in cluster state with the job index", e);
+            isReconcilingMetadata.set(false);
+        })));
+    }
+
     private void forceUpdateGeoIpData() {
         datasourceDao.getAllDatasources(new ActionListener<>() {
             @Override
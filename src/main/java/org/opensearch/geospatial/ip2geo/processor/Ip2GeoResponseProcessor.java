@@ -0,0 +1,311 @@
+/*
+ * Copyright OpenSearch Contributors
+ * SPDX-License-Identifier: Apache-2.0
+ */
+
+package org.opensearch.geospatial.ip2geo.processor;
+
+import static org.opensearch.ingest.ConfigurationUtils.newConfigurationException;
+import static org.opensearch.ingest.ConfigurationUtils.readBooleanProperty;
+import static org.opensearch.ingest.ConfigurationUtils.readOptionalList;
+import static org.opensearch.ingest.ConfigurationUtils.readStringProperty;
+
+import java.io.IOException;
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.HashSet;
+import java.util.LinkedHashSet;
+import java.util.List;
+import java.util.Locale;
+import java.util.Map;
+import java.util.Set;
+import java.util.stream.Collectors;
+
+import org.opensearch.action.search.SearchRequest;
+import org.opensearch.action.search.SearchResponse;
+import org.opensearch.common.network.InetAddresses;
+import org.opensearch.common.xcontent.XContentFactory;
+import org.opensearch.common.xcontent.support.XContentMapValues;
+import org.opensearch.core.action.ActionListener;
+import org.opensearch.core.common.bytes.BytesReference;
+import org.opensearch.geospatial.ip2geo.common.DatasourceState;
+import org.opensearch.geospatial.ip2geo.common.ParameterValidator;
+import org.opensearch.geospatial.ip2geo.dao.Ip2GeoCachedDao;
+import org.opensearch.search.SearchHit;
+import org.opensearch.search.pipeline.AbstractProcessor;
+import org.opensearch.search.pipeline.PipelineProcessingContext;
+import org.opensearch.search.pipeline.Processor;
+import org.opensearch.search.pipeline.SearchResponseProcessor;
+
+import lombok.Getter;
+import lombok.extern.log4j.Log4j2;
+
+/**
+ * Ip2Geo search response processor
+ *
+ * It adds geo data of ip addresses to the source of returned hits so that only the hits being displayed are
+ * enriched instead of every document at ingest. Distinct ip addresses across all hits are resolved in a single
+ * batched lookup through {@link Ip2GeoCachedDao}, which is shared with the ip2geo ingest processor.
+ * Values which are not an ip address are skipped.
+ */
+@Log4j2
+public final class Ip2GeoResponseProcessor extends AbstractProcessor implements SearchResponseProcessor {
+    private static final Map<String, Object> DATA_EXPIRED = Map.of("error", "ip2geo_data_expired");
+    public static final String CONFIG_FIELD = "field";
+    public static final String CONFIG_TARGET_FIELD = "target_field";
+    public static final String CONFIG_DATASOURCE = "datasource";
+    public static final String CONFIG_PROPERTIES = "properties";
+    public static final String CONFIG_IGNORE_MISSING = "ignore_missing";
+
+    private final String field;
+    private final String targetField;
+    /**
+     * @return The datasource name
+     */
+    @Getter
+    private final String datasourceName;
+    private final Set<String> properties;
+    private final boolean ignoreMissing;
+    private final Ip2GeoCachedDao ip2GeoCachedDao;
+
+    /**
+     * Ip2Geo search response processor type
+     */
+    public static final String TYPE = "ip2geo";
+
+    /**
+     * Construct an Ip2Geo search response processor.
+     * @param tag            the processor tag
+     * @param description    the processor description
+     * @param ignoreFailure  true if the search response should be returned as is on failure
+     * @param field          the source field to geo-IP map
+     * @param targetField    the target field
+     * @param datasourceName the datasourceName
+     * @param properties     the properties
+     * @param ignoreMissing  true if hits with a missing value for the field should be ignored
+     * @param ip2GeoCachedDao the cache
+     */
+    public Ip2GeoResponseProcessor(
+        final String tag,
+        final String description,
+        final boolean ignoreFailure,
+        final String field,
+        final String targetField,
+        final String datasourceName,
+        final Set<String> properties,
+        final boolean ignoreMissing,
+        final Ip2GeoCachedDao ip2GeoCachedDao
+    ) {
+        super(tag, description, ignoreFailure);
+        this.field = field;
+        this.targetField = targetField;
+        this.datasourceName = datasourceName;
+        this.properties = properties;
+        this.ignoreMissing = ignoreMissing;
+        this.ip2GeoCachedDao = ip2GeoCachedDao;
+    }
+
+    /**
+     * Use {@code processResponseAsync} instead as geo data is retrieved in asynchronous way
+     *
+     * @param request the search request
+     * @param response the search response
+     * @return none
+     */
+    @Override
+    public SearchResponse processResponse(final SearchRequest request, final SearchResponse response) {
+        throw new IllegalStateException("Not implemented");
+    }
+
+    /**
+     * Add geo data of ip addresses to hits of a search response in asynchronous way
+     *
+     * @param request the search request
+     * @param response the search response
+     * @param requestContext the pipeline processing context
+     * @param responseListener the listener
+     */
+    @Override
+    public void processResponseAsync(
+        final SearchRequest request,
+        final SearchResponse response,
+        final PipelineProcessingContext requestContext,
+        final ActionListener<SearchResponse> responseListener
+    ) {
+        try {
+            SearchHit[] hits = response.getHits().getHits();
+            Object[] ipsPerHit = new Object[hits.length];
+            Set<String> distinctIps = new LinkedHashSet<>();
+            for (int i = 0; i < hits.length; i++) {
+                ipsPerHit[i] = extractIps(hits[i]);
+                if (ipsPerHit[i] instanceof String) {
+                    distinctIps.add((String) ipsPerHit[i]);
+                } else if (ipsPerHit[i] instanceof List) {
+                    distinctIps.addAll((List<String>) ipsPerHit[i]);
+                }
+            }
+            if (distinctIps.isEmpty()) {
+                responseListener.onResponse(response);
+                return;
+            }
+
+            validateDatasourceIsInAvailableState(datasourceName);
+            String indexName = ip2GeoCachedDao.getIndexName(datasourceName);
+            if (ip2GeoCachedDao.isExpired(datasourceName) || indexName == null) {
+                for (int i = 0; i < hits.length; i++) {
+                    if (ipsPerHit[i] != null) {
+                        setTargetField(hits[i], DATA_EXPIRED);
+                    }
+                }
+                responseListener.onResponse(response);
+                return;
+            }
+
+            ip2GeoCachedDao.getGeoData(indexName, distinctIps, datasourceName, ActionListener.wrap(geoData -> {
+                for (int i = 0; i < hits.length; i++) {
+                    addGeoData(hits[i], ipsPerHit[i], geoData);
+                }
+                responseListener.onResponse(response);
+            }, responseListener::onFailure));
+        } catch (Exception e) {
+            responseListener.onFailure(e);
+        }
+    }
+
+    /**
+     * Extract ip addresses from a hit
+     *
+     * @param hit the hit
+     * @return a string for a single ip address, a list of strings for an array of ip addresses, or null if there is no ip address
+     */
+    private Object extractIps(final SearchHit hit) {
+        Object value = hit.hasSource() ? XContentMapValues.extractValue(field, hit.getSourceAsMap()) : null;
+        if (value == null) {
+            if (ignoreMissing) {
+                return null;
+            }
+            throw new IllegalArgumentException(String.format(Locale.ROOT, "field [%s] not present in hit [%s]", field, hit.getId()));
+        }
+
+        if (value instanceof String) {
+            return InetAddresses.isInetAddress((String) value) ? value : null;
+        }
+
+        if (value instanceof List == false) {
+            throw new IllegalArgumentException(
+                String.format(Locale.ROOT, "field [%s] should contain only string or array of strings", field)
+            );
+        }
+
+        List<String> ips = new ArrayList<>(((List<?>) value).size());
+        for (Object ip : (List<?>) value) {
+            if (ip instanceof String == false) {
+                throw new IllegalArgumentException("array in field [" + field + "] should only contain strings");
+            }
+            if (InetAddresses.isInetAddress((String) ip)) {
+                ips.add((String) ip);
+            }
+        }
+        return ips.isEmpty() ? null : ips;
+    }
+
+    private void addGeoData(final SearchHit hit, final Object ips, final Map<String, Map<String, Object>> geoData) throws IOException {
+        if (ips instanceof String) {
+            Map<String, Object> data = geoData.getOrDefault(ips, Collections.emptyMap());
+            if (data.isEmpty() == false) {
+                setTargetField(hit, filteredGeoData(data));
+            }
+        } else if (ips instanceof List) {
+            List<Map<String, Object>> geoDataList = ((List<String>) ips).stream()
+                .map(ip -> geoData.getOrDefault(ip, Collections.emptyMap()))
+                .filter(data -> data.isEmpty() == false)
+                .map(this::filteredGeoData)
+                .collect(Collectors.toList());
+            if (geoDataList.isEmpty() == false) {
+                setTargetField(hit, geoDataList);
+            }
+        }
+    }
+
+    private void setTargetField(final SearchHit hit, final Object value) throws IOException {
+        Map<String, Object> source = hit.getSourceAsMap();
+        source.put(targetField, value);
+        hit.sourceRef(BytesReference.bytes(XContentFactory.jsonBuilder().map(source)));
+    }
+
+    private Map<String, Object> filteredGeoData(final Map<String, Object> geoData) {
+        if (properties == null) {
+            return geoData;
+        }
+
+        return properties.stream().filter(p -> geoData.containsKey(p)).collect(Collectors.toMap(p -> p, p -> geoData.get(p)));
+    }
+
+    private void validateDatasourceIsInAvailableState(final String datasourceName) {
+        if (ip2GeoCachedDao.has(datasourceName) == false) {
+            throw new IllegalStateException("datasource does not exist");
+        }
+
+        final DatasourceState currentState = ip2GeoCachedDao.getState(datasourceName);
+        if (DatasourceState.AVAILABLE.equals(currentState) == false) {
+            throw new IllegalStateException(
+                String.format(
+                    Locale.ROOT,
+                    "datasource %s is not in an available state, current state is %s.",
+                    datasourceName,
+                    currentState.name()
+                )
+            );
+        }
+    }
+
+    @Override
+    public String getType() {
+        return TYPE;
+    }
+
+    /**
+     * Ip2Geo search response processor factory
+     */
+    public static final class Factory implements Processor.Factory<SearchResponseProcessor> {
+        private static final ParameterValidator VALIDATOR = new ParameterValidator();
+        private Ip2GeoCachedDao ip2GeoCachedDao;
+
+        public void initialize(final Ip2GeoCachedDao ip2GeoCachedDao) {
+            this.ip2GeoCachedDao = ip2GeoCachedDao;
+        }
+
+        @Override
+        public Ip2GeoResponseProcessor create(
+            final Map<String, Processor.Factory<SearchResponseProcessor>> processorFactories,
+            final String processorTag,
+            final String description,
+            final boolean ignoreFailure,
+            final Map<String, Object> config,
+            final Processor.PipelineContext pipelineContext
+        ) {
+            String ipField = readStringProperty(TYPE, processorTag, config, CONFIG_FIELD);
+            String targetField = readStringProperty(TYPE, processorTag, config, CONFIG_TARGET_FIELD, "ip2geo");
+            String datasourceName = readStringProperty(TYPE, processorTag, config, CONFIG_DATASOURCE);
+            List<String> propertyNames = readOptionalList(TYPE, processorTag, config, CONFIG_PROPERTIES);
+            boolean ignoreMissing = readBooleanProperty(TYPE, processorTag, config, CONFIG_IGNORE_MISSING, false);
+
+            List<String> error = VALIDATOR.validateDatasourceName(datasourceName);
+            if (error.isEmpty() == false) {
+                throw newConfigurationException(TYPE, processorTag, "datasource", error.get(0));
+            }
+
+            return new Ip2GeoResponseProcessor(
+                processorTag,
+                description,
+                ignoreFailure,
+                ipField,
+                targetField,
+                datasourceName,
+                propertyNames == null ? null : new HashSet<>(propertyNames),
+                ignoreMissing,
+                ip2GeoCachedDao
+            );
+        }
+    }
+}
@@ -0,0 +1,221 @@
+/*
+ * Copyright OpenSearch Contributors
+ * SPDX-License-Identifier: Apache-2.0
+ */
+
+package org.opensearch.geospatial.jts;
+
+import java.util.ArrayList;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Locale;
+import java.util.Map;
+
+import org.locationtech.jts.geom.Coordinate;
+import org.locationtech.jts.geom.Geometry;
+import org.locationtech.jts.geom.GeometryCollection;
+import org.locationtech.jts.geom.GeometryFactory;
+import org.locationtech.jts.geom.LineString;
+import org.locationtech.jts.geom.LinearRing;
+import org.locationtech.jts.geom.MultiLineString;
+import org.locationtech.jts.geom.MultiPoint;
+import org.locationtech.jts.geom.MultiPolygon;
+import org.locationtech.jts.geom.Point;
+import org.locationtech.jts.geom.Polygon;
+
+/**
+ * Converts GeoJSON geometry objects to JTS geometries and back. Types which are not part of GeoJSON, like envelope and
+ * circle of geo_shape, are not converted, since they have no JTS counterpart.
+ */
+public final class JTSGeoJSONConverter {
+    private static final String TYPE_KEY = "type";
+    private static final String COORDINATES_KEY = "coordinates";
+    private static final String GEOMETRIES_KEY = "geometries";
+    private static final GeometryFactory GEOMETRY_FACTORY = new GeometryFactory();
+
+    private JTSGeoJSONConverter() {}
+
+    /**
+     * @param geometry GeoJSON geometry object
+     * @return JTS geometry, null if geometry, or, any geometry of the collection cannot be converted
+     * @throws IllegalArgumentException if geometry is not a valid GeoJSON geometry object
+     */
+    public static Geometry toJTS(final Map<?, ?> geometry) {
+        final Object type = geometry.get(TYPE_KEY);
+        if (type == null) {
+            throw new IllegalArgumentException(TYPE_KEY + " cannot be null");
+        }
+        switch (type.toString().toLowerCase(Locale.ROOT)) {
+            case "point":
+                return GEOMETRY_FACTORY.createPoint(toCoordinate(coordinatesOf(geometry)));
+            case "multipoint": {
+                final List<?> positions = toList(coordinatesOf(geometry));
+                final Point[] points = new Point[positions.size()];
+                for (int i = 0; i < points.length; i++) {
+                    points[i] = GEOMETRY_FACTORY.createPoint(toCoordinate(positions.get(i)));
+                }
+                return GEOMETRY_FACTORY.createMultiPoint(points);
+            }
+            case "linestring":
+                return GEOMETRY_FACTORY.createLineString(toCoordinates(coordinatesOf(geometry)));
+            case "multilinestring": {
+                final List<?> lines = toList(coordinatesOf(geometry));
+                final LineString[] lineStrings = new LineString[lines.size()];
+                for (int i = 0; i < lineStrings.length; i++) {
+                    lineStrings[i] = GEOMETRY_FACTORY.createLineString(toCoordinates(lines.get(i)));
+                }
+                return GEOMETRY_FACTORY.createMultiLineString(lineStrings);
+            }
+            case "polygon":
+                return toPolygon(coordinatesOf(geometry));
+            case "multipolygon": {
+                final List<?> polygons = toList(coordinatesOf(geometry));
+                final Polygon[] jtsPolygons = new Polygon[polygons.size()];
+                for (int i = 0; i < jtsPolygons.length; i++) {
+                    jtsPolygons[i] = toPolygon(polygons.get(i));
+                }
+                return GEOMETRY_FACTORY.createMultiPolygon(jtsPolygons);
+            }
+            case "geometrycollection": {
+                final List<?> members = toList(geometry.get(GEOMETRIES_KEY));
+                final Geometry[] geometries = new Geometry[members.size()];
+                for (int i = 0; i < geometries.length; i++) {
+                    if (!(members.get(i) instanceof Map)) {
+                        throw new IllegalArgumentException(GEOMETRIES_KEY + " should contain geometry objects");
+                    }
+                    geometries[i] = toJTS((Map<?, ?>) members.get(i));
+                    if (geometries[i] == null) {
+                        return null;
+                    }
+                }
+                return GEOMETRY_FACTORY.createGeometryCollection(geometries);
+            }
+            default:
+                return null;
+        }
+    }
+
+    private static Object coordinatesOf(final Map<?, ?> geometry) {
+        final Object coordinates = geometry.get(COORDINATES_KEY);
+        if (coordinates == null) {
+            throw new IllegalArgumentException(COORDINATES_KEY + " cannot be null");
+        }
+        return coordinates;
+    }
+
+    private static List<?> toList(final Object value) {
+        if (!(value instanceof List)) {
+            throw new IllegalArgumentException("expected an array, but found [ " + value + " ]");
+        }
+        return (List<?>) value;
+    }
+
+    private static Polygon toPolygon(final Object value) {
+        final List<?> rings = toList(value);
+        if (rings.isEmpty()) {
+            return GEOMETRY_FACTORY.createPolygon();
+        }
+        final LinearRing[] holes = new LinearRing[rings.size() - 1];
+        for (int i = 0; i < holes.length; i++) {
+            holes[i] = GEOMETRY_FACTORY.createLinearRing(toCoordinates(rings.get(i + 1)));
+        }
+        return GEOMETRY_FACTORY.createPolygon(GEOMETRY_FACTORY.createLinearRing(toCoordinates(rings.get(0))), holes);
+    }
+
+    private static Coordinate[] toCoordinates(final Object value) {
+        final List<?> positions = toList(value);
+        final Coordinate[] coordinates = new Coordinate[positions.size()];
+        for (int i = 0; i < coordinates.length; i++) {
+            coordinates[i] = toCoordinate(positions.get(i));
+        }
+        return coordinates;
+    }
+
+    private static Coordinate toCoordinate(final Object value) {
+        final List<?> position = toList(value);
+        if (position.size() < 2) {
+            throw new IllegalArgumentException("position should have at least two values, but found " + position);
+        }
+        final double z = position.size() > 2 ? toDouble(position.get(2)) : Double.NaN;
+        return new Coordinate(toDouble(position.get(0)), toDouble(position.get(1)), z);
+    }
+
+    private static double toDouble(final Object value) {
+        if (!(value instanceof Number)) {
+            throw new IllegalArgumentException("coordinate should be a number, but found [ " + value + " ]");
+        }
+        return ((Number) value).doubleValue();
+    }
+
+    /**
+     * Converts JTS geometry back to GeoJSON geometry object
+     * @param geometry JTS geometry converted by {@link #toJTS(Map)}
+     * @return GeoJSON geometry object
+     */
+    public static Map<String, Object> fromJTS(final Geometry geometry) {
+        final Map<String, Object> geoJSON = new HashMap<>();
+        if (geometry instanceof Point) {
+            geoJSON.put(TYPE_KEY, "Point");
+            geoJSON.put(COORDINATES_KEY, geometry.isEmpty() ? List.of() : toPosition(geometry.getCoordinate()));
+        } else if (geometry instanceof LineString) {
+            geoJSON.put(TYPE_KEY, "LineString");
+            geoJSON.put(COORDINATES_KEY, toPositions(geometry.getCoordinates()));
+        } else if (geometry instanceof Polygon) {
+            geoJSON.put(TYPE_KEY, "Polygon");
+            geoJSON.put(COORDINATES_KEY, toRings((Polygon) geometry));
+        } else if (geometry instanceof MultiPoint) {
+            geoJSON.put(TYPE_KEY, "MultiPoint");
+            geoJSON.put(COORDINATES_KEY, toPositions(geometry.getCoordinates()));
+        } else if (geometry instanceof MultiLineString) {
+            final List<Object> lines = new ArrayList<>();
+            for (int i = 0; i < geometry.getNumGeometries(); i++) {
+                lines.add(toPositions(geometry.getGeometryN(i).getCoordinates()));
+            }
+            geoJSON.put(TYPE_KEY, "MultiLineString");
+            geoJSON.put(COORDINATES_KEY, lines);
+        } else if (geometry instanceof MultiPolygon) {
+            final List<Object> polygons = new ArrayList<>();
+            for (int i = 0; i < geometry.getNumGeometries(); i++) {
+                polygons.add(toRings((Polygon) geometry.getGeometryN(i)));
+            }
+            geoJSON.put(TYPE_KEY, "MultiPolygon");
+            geoJSON.put(COORDINATES_KEY, polygons);
+        } else if (geometry instanceof GeometryCollection) {
+            final List<Object> geometries = new ArrayList<>();
+            for (int i = 0; i < geometry.getNumGeometries(); i++) {
+                geometries.add(fromJTS(geometry.getGeometryN(i)));
+            }
+            geoJSON.put(TYPE_KEY, "GeometryCollection");
+            geoJSON.put(GEOMETRIES_KEY, geometries);
+        } else {
+            throw new IllegalArgumentException("unsupported geometry type [ " + geometry.getGeometryType() + " ]");
+        }
+        return geoJSON;
+    }
+
+    private static List<Object> toRings(final Polygon polygon) {
+        final List<Object> rings = new ArrayList<>();
+        if (polygon.isEmpty()) {
+            return rings;
+        }
+        rings.add(toPositions(polygon.getExteriorRing().getCoordinates()));
+        for (int i = 0; i < polygon.getNumInteriorRing(); i++) {
+            rings.add(toPositions(polygon.getInteriorRingN(i).getCoordinates()));
+        }
+        return rings;
+    }
+
+    private static List<Object> toPositions(final Coordinate[] coordinates) {
+        final List<Object> positions = new ArrayList<>(coordinates.length);
+        for (Coordinate coordinate : coordinates) {
+            positions.add(toPosition(coordinate));
+        }
+        return positions;
+    }
+
+    private static List<Double> toPosition(final Coordinate coordinate) {
+        return Double.isNaN(coordinate.getZ())
+            ? List.of(coordinate.getX(), coordinate.getY())
+            : List.of(coordinate.getX(), coordinate.getY(), coordinate.getZ());
+    }
+}
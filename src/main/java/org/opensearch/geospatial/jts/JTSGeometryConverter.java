@@ -0,0 +1,219 @@
+/*
+ * Copyright OpenSearch Contributors
+ * SPDX-License-Identifier: Apache-2.0
+ */
+
+package org.opensearch.geospatial.jts;
+
+import java.util.ArrayList;
+import java.util.List;
+
+import org.locationtech.jts.geom.Coordinate;
+import org.locationtech.jts.geom.Geometry;
+import org.locationtech.jts.geom.GeometryCollection;
+import org.locationtech.jts.geom.GeometryFactory;
+import org.locationtech.jts.geom.LineString;
+import org.locationtech.jts.geom.LinearRing;
+import org.locationtech.jts.geom.MultiLineString;
+import org.locationtech.jts.geom.MultiPoint;
+import org.locationtech.jts.geom.MultiPolygon;
+import org.locationtech.jts.geom.Point;
+import org.locationtech.jts.geom.Polygon;
+import org.opensearch.geometry.GeometryVisitor;
+
+/**
+ * Converts geometries of xy_shape field to JTS geometries and back. Circle and Rectangle are not converted,
+ * since they have no JTS counterpart, hence, visitor returns null for them, or, for collections which contain them.
+ */
+public final class JTSGeometryConverter implements GeometryVisitor<Geometry, RuntimeException> {
+    public static final JTSGeometryConverter TO_JTS = new JTSGeometryConverter();
+    private static final GeometryFactory GEOMETRY_FACTORY = new GeometryFactory();
+
+    private JTSGeometryConverter() {}
+
+    @Override
+    public Geometry visit(org.opensearch.geometry.Circle circle) {
+        return null;
+    }
+
+    @Override
+    public Geometry visit(org.opensearch.geometry.GeometryCollection<?> collection) {
+        final Geometry[] geometries = new Geometry[collection.size()];
+        for (int i = 0; i < collection.size(); i++) {
+            geometries[i] = collection.get(i).visit(this);
+            if (geometries[i] == null) {
+                return null;
+            }
+        }
+        return GEOMETRY_FACTORY.createGeometryCollection(geometries);
+    }
+
+    @Override
+    public Geometry visit(org.opensearch.geometry.Line line) {
+        return GEOMETRY_FACTORY.createLineString(toCoordinates(line));
+    }
+
+    @Override
+    public Geometry visit(org.opensearch.geometry.LinearRing ring) {
+        return null;
+    }
+
+    @Override
+    public Geometry visit(org.opensearch.geometry.MultiLine multiLine) {
+        final LineString[] lines = new LineString[multiLine.size()];
+        for (int i = 0; i < multiLine.size(); i++) {
+            lines[i] = GEOMETRY_FACTORY.createLineString(toCoordinates(multiLine.get(i)));
+        }
+        return GEOMETRY_FACTORY.createMultiLineString(lines);
+    }
+
+    @Override
+    public Geometry visit(org.opensearch.geometry.MultiPoint multiPoint) {
+        final Point[] points = new Point[multiPoint.size()];
+        for (int i = 0; i < multiPoint.size(); i++) {
+            points[i] = (Point) visit(multiPoint.get(i));
+        }
+        return GEOMETRY_FACTORY.createMultiPoint(points);
+    }
+
+    @Override
+    public Geometry visit(org.opensearch.geometry.MultiPolygon multiPolygon) {
+        final Polygon[] polygons = new Polygon[multiPolygon.size()];
+        for (int i = 0; i < multiPolygon.size(); i++) {
+            polygons[i] = (Polygon) visit(multiPolygon.get(i));
+        }
+        return GEOMETRY_FACTORY.createMultiPolygon(polygons);
+    }
+
+    @Override
+    public Geometry visit(org.opensearch.geometry.Point point) {
+        if (point.isEmpty()) {
+            return GEOMETRY_FACTORY.createPoint();
+        }
+        return GEOMETRY_FACTORY.createPoint(new Coordinate(point.getX(), point.getY(), point.getZ()));
+    }
+
+    @Override
+    public Geometry visit(org.opensearch.geometry.Polygon polygon) {
+        final LinearRing[] holes = new LinearRing[polygon.getNumberOfHoles()];
+        for (int i = 0; i < holes.length; i++) {
+            holes[i] = GEOMETRY_FACTORY.createLinearRing(toCoordinates(polygon.getHole(i)));
+        }
+        return GEOMETRY_FACTORY.createPolygon(GEOMETRY_FACTORY.createLinearRing(toCoordinates(polygon.getPolygon())), holes);
+    }
+
+    @Override
+    public Geometry visit(org.opensearch.geometry.Rectangle rectangle) {
+        return null;
+    }
+
+    private static Coordinate[] toCoordinates(final org.opensearch.geometry.Line line) {
+        final Coordinate[] coordinates = new Coordinate[line.length()];
+        for (int i = 0; i < coordinates.length; i++) {
+            coordinates[i] = new Coordinate(line.getX(i), line.getY(i), line.getZ(i));
+        }
+        return coordinates;
+    }
+
+    /**
+     * Converts JTS geometry back to geometry of xy_shape field
+     * @param geometry JTS geometry converted by {@link #TO_JTS}
+     * @return geometry of xy_shape field
+     */
+    public static org.opensearch.geometry.Geometry fromJTS(final Geometry geometry) {
+        if (geometry instanceof Point) {
+            final Point point = (Point) geometry;
+            if (point.isEmpty()) {
+                return org.opensearch.geometry.Point.EMPTY;
+            }
+            final Coordinate coordinate = point.getCoordinate();
+            return Double.isNaN(coordinate.getZ())
+                ? new org.opensearch.geometry.Point(coordinate.getX(), coordinate.getY())
+                : new org.opensearch.geometry.Point(coordinate.getX(), coordinate.getY(), coordinate.getZ());
+        }
+        if (geometry instanceof LinearRing) {
+            return toLinearRing((LinearRing) geometry);
+        }
+        if (geometry instanceof LineString) {
+            return toLine((LineString) geometry);
+        }
+        if (geometry instanceof Polygon) {
+            return toPolygon((Polygon) geometry);
+        }
+        if (geometry instanceof MultiPoint) {
+            final List<org.opensearch.geometry.Point> points = new ArrayList<>();
+            for (int i = 0; i < geometry.getNumGeometries(); i++) {
+                points.add((org.opensearch.geometry.Point) fromJTS(geometry.getGeometryN(i)));
+            }
+            return new org.opensearch.geometry.MultiPoint(points);
+        }
+        if (geometry instanceof MultiLineString) {
+            final List<org.opensearch.geometry.Line> lines = new ArrayList<>();
+            for (int i = 0; i < geometry.getNumGeometries(); i++) {
+                lines.add(toLine((LineString) geometry.getGeometryN(i)));
+            }
+            return new org.opensearch.geometry.MultiLine(lines);
+        }
+        if (geometry instanceof MultiPolygon) {
+            final List<org.opensearch.geometry.Polygon> polygons = new ArrayList<>();
+            for (int i = 0; i < geometry.getNumGeometries(); i++) {
+                polygons.add(toPolygon((Polygon) geometry.getGeometryN(i)));
+            }
+            return new org.opensearch.geometry.MultiPolygon(polygons);
+        }
+        if (geometry instanceof GeometryCollection) {
+            final List<org.opensearch.geometry.Geometry> geometries = new ArrayList<>();
+            for (int i = 0; i < geometry.getNumGeometries(); i++) {
+                geometries.add(fromJTS(geometry.getGeometryN(i)));
+            }
+            return new org.opensearch.geometry.GeometryCollection<>(geometries);
+        }
+        throw new IllegalArgumentException("unsupported geometry type [ " + geometry.getGeometryType() + " ]");
+    }
+
+    private static org.opensearch.geometry.Polygon toPolygon(final Polygon polygon) {
+        final List<org.opensearch.geometry.LinearRing> holes = new ArrayList<>();
+        for (int i = 0; i < polygon.getNumInteriorRing(); i++) {
+            holes.add(toLinearRing(polygon.getInteriorRingN(i)));
+        }
+        return new org.opensearch.geometry.Polygon(toLinearRing(polygon.getExteriorRing()), holes);
+    }
+
+    private static org.opensearch.geometry.Line toLine(final LineString line) {
+        final Coordinate[] coordinates = line.getCoordinates();
+        return new org.opensearch.geometry.Line(xOf(coordinates), yOf(coordinates), zOf(coordinates));
+    }
+
+    private static org.opensearch.geometry.LinearRing toLinearRing(final LineString ring) {
+        final Coordinate[] coordinates = ring.getCoordinates();
+        return new org.opensearch.geometry.LinearRing(xOf(coordinates), yOf(coordinates), zOf(coordinates));
+    }
+
+    private static double[] xOf(final Coordinate[] coordinates) {
+        final double[] x = new double[coordinates.length];
+        for (int i = 0; i < coordinates.length; i++) {
+            x[i] = coordinates[i].getX();
+        }
+        return x;
+    }
+
+    private static double[] yOf(final Coordinate[] coordinates) {
+        final double[] y = new double[coordinates.length];
+        for (int i = 0; i < coordinates.length; i++) {
+            y[i] = coordinates[i].getY();
+        }
+        return y;
+    }
+
+    // z values are kept only if every coordinate has one, same as geometries parsed with z values
+    private static double[] zOf(final Coordinate[] coordinates) {
+        final double[] z = new double[coordinates.length];
+        for (int i = 0; i < coordinates.length; i++) {
+            z[i] = coordinates[i].getZ();
+            if (Double.isNaN(z[i])) {
+                return null;
+            }
+        }
+        return z;
+    }
+}
@@ -14,7 +14,9 @@ import java.util.Map;
 import java.util.function.Supplier;
 
 import org.opensearch.action.ActionRequest;
+import org.opensearch.cluster.NamedDiff;
 import org.opensearch.cluster.metadata.IndexNameExpressionResolver;
+import org.opensearch.cluster.metadata.Metadata;
 import org.opensearch.cluster.node.DiscoveryNode;
 import org.opensearch.cluster.node.DiscoveryNodes;
 import org.opensearch.cluster.service.ClusterService;
@@ -28,19 +30,26 @@ import org.opensearch.common.settings.IndexScopedSettings;
 import org.opensearch.common.settings.Setting;
 import org.opensearch.common.settings.Settings;
 import org.opensearch.common.settings.SettingsFilter;
+import org.opensearch.core.ParseField;
 import org.opensearch.core.action.ActionResponse;
 import org.opensearch.core.common.io.stream.NamedWriteableRegistry;
 import org.opensearch.core.xcontent.NamedXContentRegistry;
 import org.opensearch.env.Environment;
 import org.opensearch.env.NodeEnvironment;
 import org.opensearch.geospatial.action.IpEnrichmentAction;
+import org.opensearch.geospatial.action.upload.geojson.UploadExecutor;
 import org.opensearch.geospatial.action.upload.geojson.UploadGeoJSONAction;
 import org.opensearch.geospatial.action.upload.geojson.UploadGeoJSONRequestContent;
+import org.opensearch.geospatial.action.upload.geojson.UploadGeoJSONTask;
 import org.opensearch.geospatial.action.upload.geojson.UploadGeoJSONTransportAction;
 import org.opensearch.geospatial.index.mapper.xypoint.XYPointFieldMapper;
 import org.opensearch.geospatial.index.mapper.xypoint.XYPointFieldTypeParser;
 import org.opensearch.geospatial.index.mapper.xyshape.XYShapeFieldMapper;
 import org.opensearch.geospatial.index.mapper.xyshape.XYShapeFieldTypeParser;
+import org.opensearch.geospatial.index.mapper.xyshape.XYShapeTessellationExecutor;
+import org.opensearch.geospatial.index.query.functionscore.XYDecayFunction;
+import org.opensearch.geospatial.index.query.functionscore.XYDecayFunctionBuilder;
+import org.opensearch.geospatial.index.query.xypoint.XYNearestQueryBuilder;
 import org.opensearch.geospatial.index.query.xyshape.XYShapeQueryBuilder;
 import org.opensearch.geospatial.ip2geo.action.DeleteDatasourceAction;
 import org.opensearch.geospatial.ip2geo.action.DeleteDatasourceTransportAction;
@@ -54,9 +63,12 @@ import org.opensearch.geospatial.ip2geo.action.RestGetDatasourceHandler;
 import org.opensearch.geospatial.ip2geo.action.RestPutDatasourceHandler;
 import org.opensearch.geospatial.ip2geo.action.RestUpdateDatasourceHandler;
 import org.opensearch.geospatial.ip2geo.action.UpdateDatasourceAction;
+import org.opensearch.geospatial.ip2geo.action.UpdateDatasourceMetadataAction;
+import org.opensearch.geospatial.ip2geo.action.UpdateDatasourceMetadataTransportAction;
 import org.opensearch.geospatial.ip2geo.action.UpdateDatasourceTransportAction;
 import org.opensearch.geospatial.ip2geo.common.Ip2GeoExecutor;
 import org.opensearch.geospatial.ip2geo.common.Ip2GeoLockService;
+import org.opensearch.geospatial.ip2geo.common.Ip2GeoMetadata;
 import org.opensearch.geospatial.ip2geo.common.Ip2GeoSettings;
 import org.opensearch.geospatial.ip2geo.common.URLDenyListChecker;
 import org.opensearch.geospatial.ip2geo.dao.DatasourceDao;
@@ -67,10 +79,21 @@ import org.opensearch.geospatial.ip2geo.jobscheduler.DatasourceRunner;
 import org.opensearch.geospatial.ip2geo.jobscheduler.DatasourceUpdateService;
 import org.opensearch.geospatial.ip2geo.listener.Ip2GeoListener;
 import org.opensearch.geospatial.ip2geo.processor.Ip2GeoProcessor;
+import org.opensearch.geospatial.ip2geo.processor.Ip2GeoResponseProcessor;
 import org.opensearch.geospatial.processor.FeatureProcessor;
+import org.opensearch.geospatial.processor.GeometrySimplifyProcessor;
+import org.opensearch.geospatial.processor.SpatialRoutingProcessor;
 import org.opensearch.geospatial.rest.action.upload.geojson.RestUploadGeoJSONAction;
 import org.opensearch.geospatial.search.aggregations.bucket.geogrid.GeoHexGrid;
 import org.opensearch.geospatial.search.aggregations.bucket.geogrid.GeoHexGridAggregationBuilder;
+import org.opensearch.geospatial.search.aggregations.bucket.xygrid.XYGrid;
+import org.opensearch.geospatial.search.aggregations.bucket.xygrid.XYGridAggregationBuilder;
+import org.opensearch.geospatial.search.aggregations.metrics.InternalXYBounds;
+import org.opensearch.geospatial.search.aggregations.metrics.InternalXYCentroid;
+import org.opensearch.geospatial.search.aggregations.metrics.XYBoundsAggregationBuilder;
+import org.opensearch.geospatial.search.aggregations.metrics.XYCentroidAggregationBuilder;
+import org.opensearch.geospatial.search.fetch.CompactGeometryFetchSubPhase;
+import org.opensearch.geospatial.search.sort.XYDistanceSortBuilder;
 import org.opensearch.geospatial.settings.GeospatialSettings;
 import org.opensearch.geospatial.settings.GeospatialSettingsAccessor;
 import org.opensearch.geospatial.shared.PluginClient;
@@ -79,7 +102,6 @@ import org.opensearch.geospatial.stats.upload.UploadStats;
 import org.opensearch.geospatial.stats.upload.UploadStatsAction;
 import org.opensearch.geospatial.stats.upload.UploadStatsTransportAction;
 import org.opensearch.identity.PluginSubject;
-import org.opensearch.index.IndexModule;
 import org.opensearch.index.mapper.Mapper;
 import org.opensearch.indices.SystemIndexDescriptor;
 import org.opensearch.ingest.Processor;
@@ -90,12 +112,16 @@ import org.opensearch.plugins.IdentityAwarePlugin;
 import org.opensearch.plugins.IngestPlugin;
 import org.opensearch.plugins.MapperPlugin;
 import org.opensearch.plugins.Plugin;
+import org.opensearch.plugins.SearchPipelinePlugin;
 import org.opensearch.plugins.SearchPlugin;
 import org.opensearch.plugins.SystemIndexPlugin;
 import org.opensearch.repositories.RepositoriesService;
 import org.opensearch.rest.RestController;
 import org.opensearch.rest.RestHandler;
 import org.opensearch.script.ScriptService;
+import org.opensearch.search.fetch.FetchSubPhase;
+import org.opensearch.search.pipeline.SearchResponseProcessor;
+import org.opensearch.tasks.Task;
 import org.opensearch.threadpool.ExecutorBuilder;
 import org.opensearch.threadpool.ThreadPool;
 import org.opensearch.transport.client.Client;
@@ -114,6 +140,7 @@ public class GeospatialPlugin extends Plugin
         ActionPlugin,
         MapperPlugin,
         SearchPlugin,
+        SearchPipelinePlugin,
         SystemIndexPlugin,
         ClusterPlugin,
         IdentityAwarePlugin {
@@ -121,6 +148,7 @@ public class GeospatialPlugin extends Plugin
     private DatasourceDao datasourceDao;
     private GeoIpDataDao geoIpDataDao;
     private Ip2GeoProcessor.Factory ip2geoProcessor;
+    private Ip2GeoResponseProcessor.Factory ip2geoResponseProcessor;
     private URLDenyListChecker urlDenyListChecker;
     private ClusterService clusterService;
     private Ip2GeoLockService ip2GeoLockService;
@@ -128,6 +156,7 @@ public class GeospatialPlugin extends Plugin
     private DatasourceUpdateService datasourceUpdateService;
     private PluginClient pluginClient;
     private GeospatialSettingsAccessor settingsAccessor;
+    private XYShapeTessellationExecutor xyShapeTessellationExecutor;
 
     @Override
     public Collection<SystemIndexDescriptor> getSystemIndexDescriptors(Settings settings) {
@@ -142,16 +171,21 @@ public class GeospatialPlugin extends Plugin
         this.ip2geoProcessor = new Ip2GeoProcessor.Factory(parameters.ingestService);
         return MapBuilder.<String, Processor.Factory>newMapBuilder()
             .put(FeatureProcessor.TYPE, new FeatureProcessor.Factory())
+            .put(SpatialRoutingProcessor.TYPE, new SpatialRoutingProcessor.Factory())
+            .put(GeometrySimplifyProcessor.TYPE, new GeometrySimplifyProcessor.Factory())
             .put(Ip2GeoProcessor.TYPE, ip2geoProcessor)
             .immutableMap();
     }
 
     @Override
-    public void onIndexModule(IndexModule indexModule) {
-        if (DatasourceExtension.JOB_INDEX_NAME.equals(indexModule.getIndex().getName())) {
-            indexModule.addIndexOperationListener(ip2GeoCachedDao);
-            log.info("Ip2GeoListener started listening to operations on index {}", DatasourceExtension.JOB_INDEX_NAME);
+    public Map<String, org.opensearch.search.pipeline.Processor.Factory<SearchResponseProcessor>> getResponseProcessors(
+        SearchPipelinePlugin.Parameters parameters
+    ) {
+        this.ip2geoResponseProcessor = new Ip2GeoResponseProcessor.Factory();
+        if (this.ip2GeoCachedDao != null) {
+            this.ip2geoResponseProcessor.initialize(ip2GeoCachedDao);
         }
+        return Map.of(Ip2GeoResponseProcessor.TYPE, ip2geoResponseProcessor);
     }
 
     @Override
@@ -166,23 +200,34 @@ public class GeospatialPlugin extends Plugin
     public List<ExecutorBuilder<?>> getExecutorBuilders(Settings settings) {
         List<ExecutorBuilder<?>> executorBuilders = new ArrayList<>();
         executorBuilders.add(Ip2GeoExecutor.executorBuilder(settings));
+        executorBuilders.add(UploadExecutor.executorBuilder(settings));
+        executorBuilders.add(XYShapeTessellationExecutor.executorBuilder(settings));
         return executorBuilders;
     }
 
     @Override
     public List<Setting<?>> getSettings() {
-        List<Setting<?>> settings = new ArrayList<>(
-            List.of(
-                GeospatialSettings.MAX_COORDINATES_PER_GEOMETRY,
-                GeospatialSettings.MAX_HOLES_PER_POLYGON,
-                GeospatialSettings.MAX_MULTI_GEOMETRIES,
-                GeospatialSettings.MAX_GEOMETRY_COLLECTION_NESTED_DEPTH
-            )
-        );
+        List<Setting<?>> settings = new ArrayList<>(GeospatialSettings.settings());
         settings.addAll(Ip2GeoSettings.settings());
         return settings;
     }
 
+    @Override
+    public List<NamedWriteableRegistry.Entry> getNamedWriteables() {
+        return List.of(
+            new NamedWriteableRegistry.Entry(Metadata.Custom.class, Ip2GeoMetadata.TYPE, Ip2GeoMetadata::new),
+            new NamedWriteableRegistry.Entry(NamedDiff.class, Ip2GeoMetadata.TYPE, Ip2GeoMetadata::readDiffFrom),
+            new NamedWriteableRegistry.Entry(Task.Status.class, UploadGeoJSONTask.Status.NAME, UploadGeoJSONTask.Status::new)
+        );
+    }
+
+    @Override
+    public List<NamedXContentRegistry.Entry> getNamedXContent() {
+        return List.of(
+            new NamedXContentRegistry.Entry(Metadata.Custom.class, new ParseField(Ip2GeoMetadata.TYPE), Ip2GeoMetadata::fromXContent)
+        );
+    }
+
     @Override
     public Collection<Object> createComponents(
         Client client,
@@ -202,14 +247,18 @@ public class GeospatialPlugin extends Plugin
         this.urlDenyListChecker = new URLDenyListChecker(clusterService.getClusterSettings());
         this.datasourceDao = new DatasourceDao(pluginClient, clusterService);
         this.geoIpDataDao = new GeoIpDataDao(clusterService, pluginClient, urlDenyListChecker);
-        this.ip2GeoCachedDao = new Ip2GeoCachedDao(clusterService, datasourceDao, geoIpDataDao);
+        this.ip2GeoCachedDao = new Ip2GeoCachedDao(clusterService, geoIpDataDao);
         if (this.ip2geoProcessor != null) {
             this.ip2geoProcessor.initialize(datasourceDao, geoIpDataDao, ip2GeoCachedDao);
         }
+        if (this.ip2geoResponseProcessor != null) {
+            this.ip2geoResponseProcessor.initialize(ip2GeoCachedDao);
+        }
         this.datasourceUpdateService = new DatasourceUpdateService(clusterService, datasourceDao, geoIpDataDao, urlDenyListChecker);
         this.ip2GeoExecutor = new Ip2GeoExecutor(threadPool);
         this.ip2GeoLockService = new Ip2GeoLockService(clusterService);
         this.settingsAccessor = new GeospatialSettingsAccessor(clusterService, environment.settings());
+        this.xyShapeTessellationExecutor = new XYShapeTessellationExecutor(threadPool);
         UploadGeoJSONRequestContent.initialize(settingsAccessor);
 
         return List.of(
@@ -219,7 +268,10 @@ public class GeospatialPlugin extends Plugin
             ip2GeoExecutor,
             geoIpDataDao,
             ip2GeoLockService,
-            ip2GeoCachedDao
+            ip2GeoCachedDao,
+            settingsAccessor,
+            new UploadExecutor(threadPool),
+            xyShapeTessellationExecutor
         );
     }
 
@@ -259,7 +311,8 @@ public class GeospatialPlugin extends Plugin
             new ActionHandler<>(PutDatasourceAction.INSTANCE, PutDatasourceTransportAction.class),
             new ActionHandler<>(GetDatasourceAction.INSTANCE, GetDatasourceTransportAction.class),
             new ActionHandler<>(UpdateDatasourceAction.INSTANCE, UpdateDatasourceTransportAction.class),
-            new ActionHandler<>(DeleteDatasourceAction.INSTANCE, DeleteDatasourceTransportAction.class)
+            new ActionHandler<>(DeleteDatasourceAction.INSTANCE, DeleteDatasourceTransportAction.class),
+            new ActionHandler<>(UpdateDatasourceMetadataAction.INSTANCE, UpdateDatasourceMetadataTransportAction.class)
         );
 
         // Inter-cluster IP enrichment request
@@ -276,9 +329,10 @@ public class GeospatialPlugin extends Plugin
 
     @Override
     public Map<String, Mapper.TypeParser> getMappers() {
+        // mappers are registered before components are created, hence, the tessellation executor is looked up lazily
         return Map.of(
             XYShapeFieldMapper.CONTENT_TYPE,
-            new XYShapeFieldTypeParser(),
+            new XYShapeFieldTypeParser(() -> xyShapeTessellationExecutor == null ? null : xyShapeTessellationExecutor.forTessellation()),
             XYPointFieldMapper.CONTENT_TYPE,
             new XYPointFieldTypeParser()
         );
@@ -286,12 +340,44 @@ public class GeospatialPlugin extends Plugin
 
     @Override
     public List<QuerySpec<?>> getQueries() {
-        // Register XYShapeQuery Builder to be delegated for query type: xy_shape
-        return List.of(new QuerySpec<>(XYShapeQueryBuilder.NAME, XYShapeQueryBuilder::new, XYShapeQueryBuilder::fromXContent));
+        // Register XYShapeQuery Builder to be delegated for query type: xy_shape, and, XYNearestQuery Builder for xy_nearest
+        return List.of(
+            new QuerySpec<>(XYShapeQueryBuilder.NAME, XYShapeQueryBuilder::new, XYShapeQueryBuilder::fromXContent),
+            new QuerySpec<>(XYNearestQueryBuilder.NAME, XYNearestQueryBuilder::new, XYNearestQueryBuilder::fromXContent)
+        );
+    }
+
+    @Override
+    public List<SortSpec<?>> getSorts() {
+        // Register sort by distance from an origin of xy_point fields: _xy_distance
+        return List.of(new SortSpec<>(XYDistanceSortBuilder.NAME, XYDistanceSortBuilder::new, XYDistanceSortBuilder::fromXContent));
+    }
+
+    @Override
+    public List<ScoreFunctionSpec<?>> getScoreFunctions() {
+        // Register decay functions of distance from an origin of xy_point fields: xy_gauss, xy_exp and xy_linear
+        final List<ScoreFunctionSpec<?>> scoreFunctions = new ArrayList<>();
+        for (XYDecayFunction function : XYDecayFunction.values()) {
+            scoreFunctions.add(
+                new ScoreFunctionSpec<>(
+                    function.getFunctionName(),
+                    XYDecayFunctionBuilder::new,
+                    parser -> XYDecayFunctionBuilder.fromXContent(parser, function)
+                )
+            );
+        }
+        return scoreFunctions;
+    }
+
+    @Override
+    public List<FetchSubPhase> getFetchSubPhases(FetchPhaseConstructionContext context) {
+        // Expand compact geometries of xy_shape fields back to GeoJSON in fetched source
+        return List.of(new CompactGeometryFetchSubPhase());
     }
 
     /**
-     * Registering {@link GeoHexGrid} aggregation on GeoPoint field.
+     * Registering {@link GeoHexGrid} aggregation on GeoPoint field, {@link XYGrid} aggregation on xy_point field,
+     * and, bounds and centroid aggregations on xy_point and xy_shape fields.
      */
     @Override
     public List<AggregationSpec> getAggregations() {
@@ -302,7 +388,25 @@ public class GeospatialPlugin extends Plugin
             GeoHexGridAggregationBuilder.PARSER
         ).addResultReader(GeoHexGrid::new).setAggregatorRegistrar(GeoHexGridAggregationBuilder::registerAggregators);
 
-        return List.of(geoHexGridSpec);
+        final var xyBoundsSpec = new AggregationSpec(
+            XYBoundsAggregationBuilder.NAME,
+            XYBoundsAggregationBuilder::new,
+            XYBoundsAggregationBuilder.PARSER
+        ).addResultReader(InternalXYBounds::new);
+
+        final var xyCentroidSpec = new AggregationSpec(
+            XYCentroidAggregationBuilder.NAME,
+            XYCentroidAggregationBuilder::new,
+            XYCentroidAggregationBuilder.PARSER
+        ).addResultReader(InternalXYCentroid::new);
+
+        final var xyGridSpec = new AggregationSpec(
+            XYGridAggregationBuilder.NAME,
+            XYGridAggregationBuilder::new,
+            XYGridAggregationBuilder.PARSER
+        ).addResultReader(XYGrid::new);
+
+        return List.of(geoHexGridSpec, xyBoundsSpec, xyCentroidSpec, xyGridSpec);
     }
 
     @Override
@@ -0,0 +1,103 @@
+/*
+ * Copyright OpenSearch Contributors
+ * SPDX-License-Identifier: Apache-2.0
+ */
+
+package org.opensearch.geospatial.processor;
+
+import static org.opensearch.ingest.ConfigurationUtils.newConfigurationException;
+import static org.opensearch.ingest.ConfigurationUtils.readBooleanProperty;
+import static org.opensearch.ingest.ConfigurationUtils.readObject;
+import static org.opensearch.ingest.ConfigurationUtils.readOptionalStringProperty;
+import static org.opensearch.ingest.ConfigurationUtils.readStringProperty;
+
+import java.util.Map;
+
+import org.opensearch.geospatial.simplify.GeometrySimplifier;
+import org.opensearch.ingest.AbstractProcessor;
+import org.opensearch.ingest.IngestDocument;
+import org.opensearch.ingest.Processor;
+
+/**
+ * {@link GeometrySimplifyProcessor} simplifies GeoJSON geometry of a document before it is indexed, same as upload API
+ * with simplify, so that geometries with many vertices, like coastlines, are tessellated into less triangles.
+ */
+public class GeometrySimplifyProcessor extends AbstractProcessor {
+
+    public static final String TYPE = "geometry-simplify";
+    public static final String FIELD_KEY = "field";
+    public static final String TARGET_FIELD_KEY = "target_field";
+    public static final String TOLERANCE_KEY = "tolerance";
+    public static final String IGNORE_MISSING_KEY = "ignore_missing";
+    private final String field;
+    private final String targetField;
+    private final GeometrySimplifier simplifier;
+    private final boolean ignoreMissing;
+
+    public GeometrySimplifyProcessor(
+        String tag,
+        String description,
+        String field,
+        String targetField,
+        GeometrySimplifier simplifier,
+        boolean ignoreMissing
+    ) {
+        super(tag, description);
+        this.field = field;
+        this.targetField = targetField;
+        this.simplifier = simplifier;
+        this.ignoreMissing = ignoreMissing;
+    }
+
+    @Override
+    public IngestDocument execute(IngestDocument ingestDocument) {
+        final Object geometry = ingestDocument.getFieldValue(field, Object.class, ignoreMissing);
+        if (geometry == null) {
+            if (ignoreMissing) {
+                return ingestDocument;
+            }
+            throw new IllegalArgumentException("field [" + field + "] is null, cannot simplify geometry");
+        }
+        if (!(geometry instanceof Map)) {
+            throw new IllegalArgumentException("field [" + field + "] should be a GeoJSON geometry object");
+        }
+        ingestDocument.setFieldValue(targetField, simplifier.simplify((Map<String, Object>) geometry).getGeometry());
+        return ingestDocument;
+    }
+
+    @Override
+    public String getType() {
+        return TYPE;
+    }
+
+    public static final class Factory implements Processor.Factory {
+        @Override
+        public GeometrySimplifyProcessor create(
+            Map<String, Processor.Factory> registry,
+            String processorTag,
+            String description,
+            Map<String, Object> config
+        ) {
+            final String field = readStringProperty(TYPE, processorTag, config, FIELD_KEY);
+            final String targetField = readOptionalStringProperty(TYPE, processorTag, config, TARGET_FIELD_KEY);
+            final Object tolerance = readObject(TYPE, processorTag, config, TOLERANCE_KEY);
+            final GeometrySimplifier simplifier;
+            try {
+                simplifier = new GeometrySimplifier(
+                    tolerance instanceof Number ? ((Number) tolerance).doubleValue() : Double.parseDouble(tolerance.toString())
+                );
+            } catch (IllegalArgumentException e) {
+                throw newConfigurationException(TYPE, processorTag, TOLERANCE_KEY, e.getMessage());
+            }
+            final boolean ignoreMissing = readBooleanProperty(TYPE, processorTag, config, IGNORE_MISSING_KEY, false);
+            return new GeometrySimplifyProcessor(
+                processorTag,
+                description,
+                field,
+                targetField == null ? field : targetField,
+                simplifier,
+                ignoreMissing
+            );
+        }
+    }
+}
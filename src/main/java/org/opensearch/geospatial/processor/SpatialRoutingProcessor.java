@@ -0,0 +1,96 @@
+/*
+ * Copyright OpenSearch Contributors
+ * SPDX-License-Identifier: Apache-2.0
+ */
+
+package org.opensearch.geospatial.processor;
+
+import static org.opensearch.ingest.ConfigurationUtils.newConfigurationException;
+import static org.opensearch.ingest.ConfigurationUtils.readBooleanProperty;
+import static org.opensearch.ingest.ConfigurationUtils.readIntProperty;
+import static org.opensearch.ingest.ConfigurationUtils.readStringProperty;
+
+import java.util.Map;
+
+import org.opensearch.geospatial.routing.SpatialRouting;
+import org.opensearch.geospatial.routing.SpatialRoutingScheme;
+import org.opensearch.ingest.AbstractProcessor;
+import org.opensearch.ingest.IngestDocument;
+import org.opensearch.ingest.Processor;
+
+/**
+ * {@link SpatialRoutingProcessor} sets routing of a document to the cell of the centroid of its GeoJSON geometry,
+ * same as upload API with spatial_routing, so that documents close to each other are stored in the same shard.
+ * Coordinates of the geometry are read as longitude and latitude, hence, this processor should not be used for
+ * cartesian geometries of xy_shape or xy_point fields.
+ */
+public class SpatialRoutingProcessor extends AbstractProcessor {
+
+    public static final String TYPE = "spatial-routing";
+    public static final String FIELD_KEY = "field";
+    public static final String SCHEME_KEY = "scheme";
+    public static final String RESOLUTION_KEY = "resolution";
+    public static final String IGNORE_MISSING_KEY = "ignore_missing";
+    private final String field;
+    private final SpatialRouting spatialRouting;
+    private final boolean ignoreMissing;
+
+    public SpatialRoutingProcessor(String tag, String description, String field, SpatialRouting spatialRouting, boolean ignoreMissing) {
+        super(tag, description);
+        this.field = field;
+        this.spatialRouting = spatialRouting;
+        this.ignoreMissing = ignoreMissing;
+    }
+
+    @Override
+    public IngestDocument execute(IngestDocument ingestDocument) {
+        final Object geometry = ingestDocument.getFieldValue(field, Object.class, ignoreMissing);
+        if (geometry == null) {
+            if (ignoreMissing) {
+                return ingestDocument;
+            }
+            throw new IllegalArgumentException("field [" + field + "] is null, cannot derive routing");
+        }
+        if (!(geometry instanceof Map)) {
+            throw new IllegalArgumentException("field [" + field + "] should be a GeoJSON geometry object");
+        }
+        final String routing = spatialRouting.routingOf((Map<String, Object>) geometry);
+        if (routing != null) {
+            ingestDocument.setFieldValue(IngestDocument.Metadata.ROUTING.getFieldName(), routing);
+        }
+        return ingestDocument;
+    }
+
+    @Override
+    public String getType() {
+        return TYPE;
+    }
+
+    public static final class Factory implements Processor.Factory {
+        @Override
+        public SpatialRoutingProcessor create(
+            Map<String, Processor.Factory> registry,
+            String processorTag,
+            String description,
+            Map<String, Object> config
+        ) {
+            final String field = readStringProperty(TYPE, processorTag, config, FIELD_KEY);
+            final String schemeName = readStringProperty(TYPE, processorTag, config, SCHEME_KEY, SpatialRoutingScheme.H3.getName());
+            final SpatialRoutingScheme scheme;
+            try {
+                scheme = SpatialRoutingScheme.fromName(schemeName);
+            } catch (IllegalArgumentException e) {
+                throw newConfigurationException(TYPE, processorTag, SCHEME_KEY, e.getMessage());
+            }
+            final int resolution = readIntProperty(TYPE, processorTag, config, RESOLUTION_KEY, scheme.getDefaultResolution());
+            final SpatialRouting spatialRouting;
+            try {
+                spatialRouting = new SpatialRouting(scheme, resolution);
+            } catch (IllegalArgumentException e) {
+                throw newConfigurationException(TYPE, processorTag, RESOLUTION_KEY, e.getMessage());
+            }
+            final boolean ignoreMissing = readBooleanProperty(TYPE, processorTag, config, IGNORE_MISSING_KEY, false);
+            return new SpatialRoutingProcessor(processorTag, description, field, spatialRouting, ignoreMissing);
+        }
+    }
+}
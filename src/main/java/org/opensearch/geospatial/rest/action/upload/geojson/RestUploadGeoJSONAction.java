@@ -5,21 +5,39 @@
 
 package org.opensearch.geospatial.rest.action.upload.geojson;
 
+import static org.opensearch.geospatial.action.upload.geojson.UploadGeoJSONRequestContent.FIELD_GEOSPATIAL;
+import static org.opensearch.geospatial.action.upload.geojson.UploadGeoJSONRequestContent.FIELD_GEOSPATIAL_TYPE;
+import static org.opensearch.geospatial.action.upload.geojson.UploadGeoJSONRequestContent.FIELD_INDEX;
 import static org.opensearch.geospatial.shared.URLBuilder.URL_DELIMITER;
 import static org.opensearch.geospatial.shared.URLBuilder.getPluginURLPrefix;
 import static org.opensearch.rest.RestRequest.Method.POST;
 import static org.opensearch.rest.RestRequest.Method.PUT;
 
+import java.util.HashMap;
 import java.util.List;
+import java.util.Map;
 
+import org.opensearch.action.ActionRequestValidationException;
 import org.opensearch.common.collect.Tuple;
+import org.opensearch.core.ParseField;
 import org.opensearch.core.common.bytes.BytesReference;
+import org.opensearch.core.rest.RestStatus;
+import org.opensearch.core.tasks.TaskId;
 import org.opensearch.core.xcontent.MediaType;
+import org.opensearch.core.xcontent.XContentBuilder;
+import org.opensearch.geospatial.action.upload.geojson.UploadCompression;
+import org.opensearch.geospatial.action.upload.geojson.UploadFormat;
 import org.opensearch.geospatial.action.upload.geojson.UploadGeoJSONAction;
 import org.opensearch.geospatial.action.upload.geojson.UploadGeoJSONRequest;
+import org.opensearch.geospatial.routing.SpatialRouting;
+import org.opensearch.geospatial.routing.SpatialRoutingScheme;
+import org.opensearch.geospatial.simplify.GeometrySimplifier;
 import org.opensearch.rest.BaseRestHandler;
+import org.opensearch.rest.BytesRestResponse;
 import org.opensearch.rest.RestRequest;
 import org.opensearch.rest.action.RestToXContentListener;
+import org.opensearch.tasks.LoggingTaskListener;
+import org.opensearch.tasks.Task;
 import org.opensearch.transport.client.node.NodeClient;
 
 /**
@@ -30,6 +48,15 @@ public class RestUploadGeoJSONAction extends BaseRestHandler {
     public static final String ACTION_OBJECT = "geojson";
     public static final String ACTION_UPLOAD = "_upload";
     public static final String NAME = "upload_geojson_action";
+    public static final String PARAM_WAIT_FOR_COMPLETION = "wait_for_completion";
+    public static final String PARAM_FORMAT = "format";
+    public static final String PARAM_COMPRESSION = "compression";
+    public static final String PARAM_SKIP_UNCHANGED = "skip_unchanged";
+    public static final String PARAM_SPATIAL_ROUTING = "spatial_routing";
+    public static final String PARAM_SPATIAL_ROUTING_RESOLUTION = "spatial_routing_resolution";
+    public static final String PARAM_SIMPLIFY = "simplify";
+    public static final String PARAM_COMPACT_GEOMETRY = "compact_geometry";
+    private static final String FIELD_TASK = "task";
 
     @Override
     public String getName() {
@@ -75,6 +102,51 @@ public class RestUploadGeoJSONAction extends BaseRestHandler {
      * The difference between PUT and POST is how index existence is tolerated.
      * For POST, index should not exist, if found exists, operation will fail.
      * For PUT, index existence doesn't matter, it will create if it doesn't exist.
+     *
+     * With parameter format=geojsonseq, the body is newline delimited GeoJSON (RFC 8142), and, index, field
+     * and type are provided as request parameters instead.
+     * PUT /_plugins/geospatial/geojson/_upload?format=geojsonseq&index=index_name&field=location&type=geo_shape
+     * {"type": "Feature", "geometry": {"type": "Point", "coordinates": [100.0, 0.0]}, "properties": {"prop0": "value0"}}
+     * {"type": "Feature", "geometry": {"type": "Point", "coordinates": [101.0, 1.0]}, "properties": {"prop0": "value1"}}
+     *
+     * With parameter format=flatgeobuf, the body is a FlatGeobuf file, and, index, field and type are provided as
+     * request parameters. Since the body is read as bytes, it can be sent with any content type accepted by REST layer.
+     * curl -XPUT -H 'Content-Type: application/json' --data-binary @features.fgb \
+     *   '/_plugins/geospatial/geojson/_upload?format=flatgeobuf&index=index_name&field=location&type=geo_shape'
+     *
+     * With parameter compression=gzip or compression=deflate, the body of any format is compressed, and it is
+     * decompressed as a stream while Features are read, so that decompressed body is never held in memory.
+     * Content-Encoding header is not used for this, since HTTP layer decompresses the whole body before this handler.
+     * curl -XPUT -H 'Content-Type: application/x-ndjson' --data-binary @features.geojsonseq.gz \
+     *   '/_plugins/geospatial/geojson/_upload?format=geojsonseq&compression=gzip&index=index_name&type=geo_shape'
+     *
+     * If parameter skip_unchanged is true, Features with id, which are not changed since they were uploaded to the
+     * existing index with skip_unchanged, are not indexed again, and are reported as unchanged in the response.
+     * Changed Features are indexed only if the document isn't modified meanwhile by another request.
+     * PUT /_plugins/geospatial/geojson/_upload?skip_unchanged=true
+     *
+     * If parameter spatial_routing is h3 or hilbert, every document is routed by the H3 cell, or, the Hilbert curve cell of
+     * the centroid of its geometry at spatial_routing_resolution, so that documents close to each other are stored in the
+     * same shard. Search requests of a small area can pass routing keys of the cells covering the area to query only
+     * their shards. Since a Feature whose geometry moved would be routed to another shard, Features with id, and,
+     * skip_unchanged are not supported with spatial_routing. Cells are geographic, hence, spatial_routing is not supported
+     * for xy_shape field.
+     * PUT /_plugins/geospatial/geojson/_upload?spatial_routing=h3&spatial_routing_resolution=3
+     *
+     * If parameter simplify is given, geometries are simplified before they are uploaded, where no vertex is moved more
+     * than simplify, in the units of the coordinates, and topology of the geometry is preserved. Number of vertices before
+     * and after simplification are reported in upload stats.
+     * PUT /_plugins/geospatial/geojson/_upload?simplify=0.001
+     *
+     * If parameter compact_geometry is true, geometries of xy_shape field are stored in the source of documents as
+     * base64 Well-Known Binary instead of GeoJSON coordinate arrays, and, they are expanded back to GeoJSON in the source
+     * of search hits. Other reads of source, like get, multi get, _source endpoint, and, update scripts, return the
+     * compact geometries as they are stored. It is not supported for geo_shape field, which cannot parse such geometries.
+     * PUT /_plugins/geospatial/geojson/_upload?compact_geometry=true&format=geojsonseq&index=index_name&type=xy_shape
+     *
+     * If parameter wait_for_completion is false, upload is run in background and the response contains the id
+     * of the task, which can be used to monitor, or, to cancel the upload through tasks API. Result of the upload
+     * is stored in tasks index once the upload is completed.
      */
     @Override
     public List<Route> routes() {
@@ -87,6 +159,64 @@ public class RestUploadGeoJSONAction extends BaseRestHandler {
         Tuple<MediaType, BytesReference> sourceTuple = restRequest.contentOrSourceParam();
         RestRequest.Method method = restRequest.getHttpRequest().method();
         UploadGeoJSONRequest request = new UploadGeoJSONRequest(method, sourceTuple.v2());
-        return channel -> client.execute(UploadGeoJSONAction.INSTANCE, request, new RestToXContentListener<>(channel));
+        request.setFormat(UploadFormat.fromName(restRequest.param(PARAM_FORMAT, UploadFormat.GEOJSON.getName())));
+        request.setCompression(UploadCompression.fromName(restRequest.param(PARAM_COMPRESSION, UploadCompression.NONE.getName())));
+        request.setSkipUnchanged(restRequest.paramAsBoolean(PARAM_SKIP_UNCHANGED, false));
+        request.setSpatialRouting(parseSpatialRouting(restRequest));
+        if (restRequest.hasParam(PARAM_SIMPLIFY)) {
+            final double simplify = Double.parseDouble(restRequest.param(PARAM_SIMPLIFY));
+            GeometrySimplifier.validateTolerance(simplify);
+            request.setSimplify(simplify);
+        }
+        request.setCompactGeometry(restRequest.paramAsBoolean(PARAM_COMPACT_GEOMETRY, false));
+        if (request.getFormat() != UploadFormat.GEOJSON) {
+            request.setMetadata(parseMetadata(restRequest));
+        }
+        // validated before the consumer, since failure of a background upload is not sent to the client
+        final ActionRequestValidationException validationException = request.validate();
+        if (validationException != null) {
+            throw validationException;
+        }
+        if (restRequest.paramAsBoolean(PARAM_WAIT_FOR_COMPLETION, true)) {
+            return channel -> client.execute(UploadGeoJSONAction.INSTANCE, request, new RestToXContentListener<>(channel));
+        }
+        request.setShouldStoreResult(true);
+        // upload is started by the consumer, which is run only after parameters of the request are validated
+        return channel -> {
+            final Task task = client.executeLocally(UploadGeoJSONAction.INSTANCE, request, LoggingTaskListener.instance());
+            final TaskId taskId = new TaskId(client.getLocalNodeId(), task.getId());
+            try (XContentBuilder builder = channel.newBuilder()) {
+                builder.startObject();
+                builder.field(FIELD_TASK, taskId.toString());
+                builder.endObject();
+                channel.sendResponse(new BytesRestResponse(RestStatus.OK, builder));
+            }
+        };
+    }
+
+    // index, field and type are given as request parameters for formats whose body doesn't have them
+    private Map<String, String> parseMetadata(RestRequest restRequest) {
+        final Map<String, String> metadata = new HashMap<>();
+        for (ParseField field : List.of(FIELD_INDEX, FIELD_GEOSPATIAL, FIELD_GEOSPATIAL_TYPE)) {
+            final String value = restRequest.param(field.getPreferredName());
+            if (value != null) {
+                metadata.put(field.getPreferredName(), value);
+            }
+        }
+        return metadata;
+    }
+
+    // documents are routed by their geometry only if spatial routing is given, resolution is optional
+    private SpatialRouting parseSpatialRouting(RestRequest restRequest) {
+        final String name = restRequest.param(PARAM_SPATIAL_ROUTING);
+        final String resolution = restRequest.param(PARAM_SPATIAL_ROUTING_RESOLUTION);
+        if (name == null) {
+            if (resolution != null) {
+                throw new IllegalArgumentException(PARAM_SPATIAL_ROUTING_RESOLUTION + " requires " + PARAM_SPATIAL_ROUTING);
+            }
+            return null;
+        }
+        final SpatialRoutingScheme scheme = SpatialRoutingScheme.fromName(name);
+        return new SpatialRouting(scheme, restRequest.paramAsInt(PARAM_SPATIAL_ROUTING_RESOLUTION, scheme.getDefaultResolution()));
     }
 }
@@ -0,0 +1,169 @@
+/*
+ * Copyright OpenSearch Contributors
+ * SPDX-License-Identifier: Apache-2.0
+ */
+
+package org.opensearch.geospatial.routing;
+
+import java.util.ArrayDeque;
+import java.util.Deque;
+import java.util.List;
+import java.util.Locale;
+import java.util.Map;
+
+/**
+ * GeoJSONCentroid computes centroid of a GeoJSON geometry object in one traversal, without parsing it into a geometry.
+ * Like centroid of geo_shape, only parts of the highest dimension contribute to the centroid, where polygons are weighted
+ * by their area, lines by their length and points equally. Coordinates are treated as planar, which is accurate enough
+ * to pick a grid cell.
+ */
+final class GeoJSONCentroid {
+    private static final String TYPE_KEY = "type";
+    private static final String COORDINATES_KEY = "coordinates";
+    private static final String GEOMETRIES_KEY = "geometries";
+
+    private final double[] weight = new double[3];
+    private final double[] sumX = new double[3];
+    private final double[] sumY = new double[3];
+
+    private GeoJSONCentroid() {}
+
+    /**
+     * @param geometry GeoJSON geometry object
+     * @return centroid as [longitude, latitude], null if geometry has no coordinates
+     * @throws IllegalArgumentException if geometry is not a valid GeoJSON geometry object
+     */
+    static double[] of(final Map<String, Object> geometry) {
+        final GeoJSONCentroid centroid = new GeoJSONCentroid();
+        final Deque<Map<?, ?>> geometries = new ArrayDeque<>();
+        geometries.push(geometry);
+        while (!geometries.isEmpty()) {
+            final Map<?, ?> current = geometries.pop();
+            final Object type = current.get(TYPE_KEY);
+            if (type == null) {
+                throw new IllegalArgumentException(TYPE_KEY + " cannot be null");
+            }
+            switch (type.toString().toLowerCase(Locale.ROOT)) {
+                case "point":
+                    centroid.addPoint(toPosition(coordinatesOf(current)));
+                    break;
+                case "multipoint":
+                    for (Object position : toList(coordinatesOf(current))) {
+                        centroid.addPoint(toPosition(position));
+                    }
+                    break;
+                case "linestring":
+                    centroid.addLine(toList(coordinatesOf(current)));
+                    break;
+                case "multilinestring":
+                    for (Object line : toList(coordinatesOf(current))) {
+                        centroid.addLine(toList(line));
+                    }
+                    break;
+                case "polygon":
+                    centroid.addPolygon(toList(coordinatesOf(current)));
+                    break;
+                case "multipolygon":
+                    for (Object polygon : toList(coordinatesOf(current))) {
+                        centroid.addPolygon(toList(polygon));
+                    }
+                    break;
+                case "geometrycollection":
+                    for (Object member : toList(current.get(GEOMETRIES_KEY))) {
+                        if (!(member instanceof Map)) {
+                            throw new IllegalArgumentException(GEOMETRIES_KEY + " should contain geometry objects");
+                        }
+                        geometries.push((Map<?, ?>) member);
+                    }
+                    break;
+                default:
+                    throw new IllegalArgumentException("unsupported geometry type [ " + type + " ]");
+            }
+        }
+        return centroid.get();
+    }
+
+    private static Object coordinatesOf(final Map<?, ?> geometry) {
+        final Object coordinates = geometry.get(COORDINATES_KEY);
+        if (coordinates == null) {
+            throw new IllegalArgumentException(COORDINATES_KEY + " cannot be null");
+        }
+        return coordinates;
+    }
+
+    private static List<?> toList(final Object value) {
+        if (!(value instanceof List)) {
+            throw new IllegalArgumentException("expected an array, but found [ " + value + " ]");
+        }
+        return (List<?>) value;
+    }
+
+    private static double[] toPosition(final Object value) {
+        final List<?> position = toList(value);
+        if (position.size() < 2 || !(position.get(0) instanceof Number) || !(position.get(1) instanceof Number)) {
+            throw new IllegalArgumentException("position should have longitude and latitude, but found " + position);
+        }
+        return new double[] { ((Number) position.get(0)).doubleValue(), ((Number) position.get(1)).doubleValue() };
+    }
+
+    private void add(final int dimension, final double weight, final double x, final double y) {
+        this.weight[dimension] += weight;
+        sumX[dimension] += weight * x;
+        sumY[dimension] += weight * y;
+    }
+
+    private void addPoint(final double[] position) {
+        add(0, 1, position[0], position[1]);
+    }
+
+    private void addLine(final List<?> positions) {
+        double[] previous = null;
+        for (Object value : positions) {
+            final double[] position = toPosition(value);
+            if (previous != null) {
+                final double length = Math.hypot(position[0] - previous[0], position[1] - previous[1]);
+                add(1, length, (previous[0] + position[0]) / 2, (previous[1] + position[1]) / 2);
+            } else {
+                // a line of the same positions is a point
+                addPoint(position);
+            }
+            previous = position;
+        }
+    }
+
+    // outer ring adds its area, holes subtract theirs. Rings are also added as lines, in case polygon has no area.
+    private void addPolygon(final List<?> rings) {
+        for (int i = 0; i < rings.size(); i++) {
+            final List<?> ring = toList(rings.get(i));
+            double signedArea = 0;
+            double momentX = 0;
+            double momentY = 0;
+            double[] previous = null;
+            for (Object value : ring) {
+                final double[] position = toPosition(value);
+                if (previous != null) {
+                    final double cross = previous[0] * position[1] - position[0] * previous[1];
+                    signedArea += cross;
+                    momentX += (previous[0] + position[0]) * cross;
+                    momentY += (previous[1] + position[1]) * cross;
+                }
+                previous = position;
+            }
+            if (signedArea != 0) {
+                // ring centroid is moment / (3 * signedArea), and its area is |signedArea| / 2
+                final double area = Math.abs(signedArea) / 2;
+                add(2, i == 0 ? area : -area, momentX / (3 * signedArea), momentY / (3 * signedArea));
+            }
+            addLine(ring);
+        }
+    }
+
+    private double[] get() {
+        for (int dimension = 2; dimension >= 0; dimension--) {
+            if (weight[dimension] > 0) {
+                return new double[] { sumX[dimension] / weight[dimension], sumY[dimension] / weight[dimension] };
+            }
+        }
+        return null;
+    }
+}
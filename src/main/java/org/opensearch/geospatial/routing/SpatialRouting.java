@@ -0,0 +1,77 @@
+/*
+ * Copyright OpenSearch Contributors
+ * SPDX-License-Identifier: Apache-2.0
+ */
+
+package org.opensearch.geospatial.routing;
+
+import java.io.IOException;
+import java.util.Map;
+import java.util.Objects;
+
+import org.opensearch.core.common.io.stream.StreamInput;
+import org.opensearch.core.common.io.stream.StreamOutput;
+import org.opensearch.core.common.io.stream.Writeable;
+
+import lombok.EqualsAndHashCode;
+import lombok.Getter;
+
+/**
+ * SpatialRouting derives routing key of a document from the centroid of its GeoJSON geometry, so that documents close
+ * to each other are stored in the same shard instead of being spread across every shard by their id.
+ * A query of a small area can be routed only to the shards of the cells which cover the area, by passing their
+ * routing keys as routing of the search request.
+ * Both schemes are geographic grids, where x and y of the geometry are longitude and latitude. Cartesian geometries
+ * are not supported.
+ */
+@Getter
+@EqualsAndHashCode
+public final class SpatialRouting implements Writeable {
+    private final SpatialRoutingScheme scheme;
+    private final int resolution;
+
+    /**
+     * @param scheme grid to derive routing key
+     * @param resolution resolution of the grid
+     * @throws IllegalArgumentException if resolution is out of range of the scheme
+     */
+    public SpatialRouting(final SpatialRoutingScheme scheme, final int resolution) {
+        this.scheme = Objects.requireNonNull(scheme, "scheme cannot be null");
+        scheme.validateResolution(resolution);
+        this.resolution = resolution;
+    }
+
+    public SpatialRouting(final StreamInput in) throws IOException {
+        this(in.readEnum(SpatialRoutingScheme.class), in.readVInt());
+    }
+
+    /**
+     * Derives routing key of given geometry
+     * @param geometry GeoJSON geometry object
+     * @return routing key of the cell of the centroid of the geometry, null if geometry is empty
+     * @throws IllegalArgumentException if geometry is not a valid GeoJSON geometry object
+     */
+    public String routingOf(final Map<String, Object> geometry) {
+        Objects.requireNonNull(geometry, "geometry cannot be null");
+        final double[] centroid = GeoJSONCentroid.of(geometry);
+        if (centroid == null) {
+            return null;
+        }
+        final double longitude = normalizeLongitude(centroid[0]);
+        final double latitude = Math.max(-90.0, Math.min(90.0, centroid[1]));
+        return scheme.routingKey(latitude, longitude, resolution);
+    }
+
+    private static double normalizeLongitude(final double longitude) {
+        if (longitude >= -180.0 && longitude <= 180.0) {
+            return longitude;
+        }
+        return ((longitude + 180.0) % 360.0 + 360.0) % 360.0 - 180.0;
+    }
+
+    @Override
+    public void writeTo(final StreamOutput out) throws IOException {
+        out.writeEnum(scheme);
+        out.writeVInt(resolution);
+    }
+}
@@ -0,0 +1,138 @@
+/*
+ * Copyright OpenSearch Contributors
+ * SPDX-License-Identifier: Apache-2.0
+ */
+
+package org.opensearch.geospatial.routing;
+
+import java.util.Arrays;
+import java.util.Locale;
+
+/**
+ * Grid to derive routing key of a document from the centroid of its geometry. Documents whose centroids are in the
+ * same cell have same routing key, hence, they are stored in the same shard.
+ */
+public enum SpatialRoutingScheme {
+    /**
+     * Routing key is the address of H3 cell of the centroid, where resolution is H3 resolution
+     */
+    H3(org.opensearch.geospatial.h3.H3.MIN_H3_RES, org.opensearch.geospatial.h3.H3.MAX_H3_RES, 3) {
+        @Override
+        String routingKey(final double latitude, final double longitude, final int resolution) {
+            return org.opensearch.geospatial.h3.H3.geoToH3Address(latitude, longitude, resolution);
+        }
+    },
+    /**
+     * Routing key is the position of the cell of the centroid on Hilbert curve, where resolution is the order of the curve,
+     * that is, world is divided into 2^resolution columns and 2^resolution rows of equal degrees
+     */
+    HILBERT(1, 31, 8) {
+        @Override
+        String routingKey(final double latitude, final double longitude, final int resolution) {
+            final long side = 1L << resolution;
+            final long x = cellOf((longitude + 180.0) / 360.0, side);
+            final long y = cellOf((latitude + 90.0) / 180.0, side);
+            return Long.toString(hilbertIndex(x, y, side));
+        }
+    };
+
+    private final int minResolution;
+    private final int maxResolution;
+    private final int defaultResolution;
+
+    SpatialRoutingScheme(final int minResolution, final int maxResolution, final int defaultResolution) {
+        this.minResolution = minResolution;
+        this.maxResolution = maxResolution;
+        this.defaultResolution = defaultResolution;
+    }
+
+    /**
+     * Derives routing key of given point
+     * @param latitude latitude of the point in degrees
+     * @param longitude longitude of the point in degrees
+     * @param resolution resolution of the grid
+     * @return routing key of the cell of the point
+     */
+    abstract String routingKey(double latitude, double longitude, int resolution);
+
+    /**
+     * @return name of the scheme used in request parameter, or, processor configuration
+     */
+    public String getName() {
+        return name().toLowerCase(Locale.ROOT);
+    }
+
+    /**
+     * @return resolution used if it is not provided
+     */
+    public int getDefaultResolution() {
+        return defaultResolution;
+    }
+
+    /**
+     * Validates resolution of this scheme
+     * @param resolution resolution of the grid
+     * @throws IllegalArgumentException if resolution is out of range of this scheme
+     */
+    public void validateResolution(final int resolution) {
+        if (resolution < minResolution || resolution > maxResolution) {
+            throw new IllegalArgumentException(
+                String.format(
+                    Locale.ROOT,
+                    "resolution [ %d ] of %s routing should be between %d and %d",
+                    resolution,
+                    getName(),
+                    minResolution,
+                    maxResolution
+                )
+            );
+        }
+    }
+
+    /**
+     * Returns SpatialRoutingScheme of given name
+     * @param name name of the scheme
+     * @return SpatialRoutingScheme of given name
+     * @throws IllegalArgumentException if there is no scheme of given name
+     */
+    public static SpatialRoutingScheme fromName(final String name) {
+        return Arrays.stream(values())
+            .filter(scheme -> scheme.getName().equals(name))
+            .findFirst()
+            .orElseThrow(
+                () -> new IllegalArgumentException(
+                    String.format(
+                        Locale.ROOT,
+                        "unsupported spatial routing [ %s ], supported spatial routings are %s",
+                        name,
+                        Arrays.toString(Arrays.stream(values()).map(SpatialRoutingScheme::getName).toArray())
+                    )
+                )
+            );
+    }
+
+    private static long cellOf(final double fraction, final long side) {
+        return Math.max(0, Math.min(side - 1, (long) Math.floor(fraction * side)));
+    }
+
+    // distance of cell (x, y) along Hilbert curve that fills a grid of side x side cells, where side is power of 2
+    static long hilbertIndex(long x, long y, final long side) {
+        long index = 0;
+        for (long s = side / 2; s > 0; s /= 2) {
+            final long rx = (x & s) > 0 ? 1 : 0;
+            final long ry = (y & s) > 0 ? 1 : 0;
+            index += s * s * ((3 * rx) ^ ry);
+            // rotate the quadrant, so that the curve is continuous
+            if (ry == 0) {
+                if (rx == 1) {
+                    x = s - 1 - x;
+                    y = s - 1 - y;
+                }
+                final long t = x;
+                x = y;
+                y = t;
+            }
+        }
+        return index;
+    }
+}
@@ -0,0 +1,88 @@
+/*
+ * Copyright OpenSearch Contributors
+ * SPDX-License-Identifier: Apache-2.0
+ */
+
+package org.opensearch.geospatial.search.aggregations.bucket.xygrid;
+
+import java.io.IOException;
+
+import org.apache.lucene.geo.XYEncodingUtils;
+import org.apache.lucene.geo.XYRectangle;
+import org.apache.lucene.index.DocValues;
+import org.apache.lucene.index.LeafReaderContext;
+import org.apache.lucene.index.SortedNumericDocValues;
+import org.opensearch.index.fielddata.AbstractSortingNumericDocValues;
+import org.opensearch.index.fielddata.SortedBinaryDocValues;
+import org.opensearch.index.fielddata.SortedNumericDoubleValues;
+import org.opensearch.search.aggregations.support.ValuesSource;
+
+/**
+ * Numeric values source of ids of cells of points of an xy_point field, which are read from {@link
+ * org.apache.lucene.document.XYDocValuesField}s. Similar to cell id source of geo grids, so that cells are bucketed
+ * by {@link org.opensearch.geo.search.aggregations.bucket.geogrid.GeoGridAggregator}.
+ */
+public class XYCellIdSource extends ValuesSource.Numeric {
+
+    private final String field;
+    private final XYGridTiling tiling;
+    private final double cellSize;
+    // null to bucket every point
+    private final XYRectangle bounds;
+
+    /**
+     * @param field name of xy_point field
+     * @param tiling tiling of the plane
+     * @param cellSize size of cells
+     * @param bounds points outside of bounds are not bucketed, null to bucket every point
+     */
+    public XYCellIdSource(String field, XYGridTiling tiling, double cellSize, XYRectangle bounds) {
+        this.field = field;
+        this.tiling = tiling;
+        this.cellSize = cellSize;
+        this.bounds = bounds;
+    }
+
+    @Override
+    public boolean isFloatingPoint() {
+        return false;
+    }
+
+    @Override
+    public SortedNumericDocValues longValues(LeafReaderContext ctx) throws IOException {
+        final SortedNumericDocValues points = DocValues.getSortedNumeric(ctx.reader(), field);
+        return new AbstractSortingNumericDocValues() {
+            @Override
+            public boolean advanceExact(int doc) throws IOException {
+                if (points.advanceExact(doc) == false) {
+                    return false;
+                }
+                final int pointCount = points.docValueCount();
+                resize(pointCount);
+                int cellCount = 0;
+                for (int i = 0; i < pointCount; i++) {
+                    // same encoding as XYDocValuesField, x in the upper 32 bits, and, y in the lower 32 bits
+                    final long encoded = points.nextValue();
+                    final float x = XYEncodingUtils.decode((int) (encoded >>> 32));
+                    final float y = XYEncodingUtils.decode((int) encoded);
+                    if (bounds == null || (x >= bounds.minX && x <= bounds.maxX && y >= bounds.minY && y <= bounds.maxY)) {
+                        values[cellCount++] = tiling.encode(x, y, cellSize);
+                    }
+                }
+                resize(cellCount);
+                sort();
+                return true;
+            }
+        };
+    }
+
+    @Override
+    public SortedNumericDoubleValues doubleValues(LeafReaderContext ctx) {
+        throw new UnsupportedOperationException();
+    }
+
+    @Override
+    public SortedBinaryDocValues bytesValues(LeafReaderContext ctx) {
+        throw new UnsupportedOperationException();
+    }
+}
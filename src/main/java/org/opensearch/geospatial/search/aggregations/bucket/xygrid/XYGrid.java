@@ -0,0 +1,64 @@
+/*
+ * Copyright OpenSearch Contributors
+ * SPDX-License-Identifier: Apache-2.0
+ */
+
+package org.opensearch.geospatial.search.aggregations.bucket.xygrid;
+
+import java.io.IOException;
+import java.util.List;
+import java.util.Map;
+
+import org.opensearch.core.common.io.stream.StreamInput;
+import org.opensearch.geo.search.aggregations.bucket.geogrid.BaseGeoGrid;
+import org.opensearch.geo.search.aggregations.bucket.geogrid.BaseGeoGridBucket;
+import org.opensearch.search.aggregations.InternalAggregations;
+
+/**
+ * Represents a grid of cells of cartesian plane, where every cell is identified by its column and row.
+ * All cells in a grid are of the same tiling and size.
+ */
+public final class XYGrid extends BaseGeoGrid<XYGridBucket> {
+
+    public XYGrid(StreamInput in) throws IOException {
+        super(in);
+    }
+
+    protected XYGrid(String name, int requiredSize, List<BaseGeoGridBucket> buckets, Map<String, Object> metadata) {
+        super(name, requiredSize, buckets, metadata);
+    }
+
+    @Override
+    public BaseGeoGrid create(List<BaseGeoGridBucket> list) {
+        return new XYGrid(name, requiredSize, list, metadata);
+    }
+
+    @Override
+    public BaseGeoGridBucket createBucket(InternalAggregations internalAggregations, BaseGeoGridBucket baseGeoGridBucket) {
+        return new XYGridBucket(baseGeoGridBucket.hashAsLong(), baseGeoGridBucket.getDocCount(), internalAggregations);
+    }
+
+    @Override
+    public String getWriteableName() {
+        return XYGridAggregationBuilder.NAME;
+    }
+
+    @Override
+    protected Reader<XYGridBucket> getBucketReader() {
+        return XYGridBucket::new;
+    }
+
+    @Override
+    protected BaseGeoGrid create(String name, int requiredSize, List<BaseGeoGridBucket> buckets, Map<String, Object> metadata) {
+        return new XYGrid(name, requiredSize, buckets, metadata);
+    }
+
+    @Override
+    protected XYGridBucket createBucket(long address, long docCount, InternalAggregations internalAggregations) {
+        return new XYGridBucket(address, docCount, internalAggregations);
+    }
+
+    int getRequiredSize() {
+        return requiredSize;
+    }
+}
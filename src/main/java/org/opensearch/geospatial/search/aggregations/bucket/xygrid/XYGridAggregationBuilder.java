@@ -0,0 +1,340 @@
+/*
+ * Copyright OpenSearch Contributors
+ * SPDX-License-Identifier: Apache-2.0
+ */
+
+package org.opensearch.geospatial.search.aggregations.bucket.xygrid;
+
+import java.io.IOException;
+import java.util.Locale;
+import java.util.Map;
+import java.util.Objects;
+
+import org.apache.lucene.geo.XYRectangle;
+import org.opensearch.OpenSearchException;
+import org.opensearch.core.ParseField;
+import org.opensearch.core.common.io.stream.StreamInput;
+import org.opensearch.core.common.io.stream.StreamOutput;
+import org.opensearch.core.xcontent.ObjectParser;
+import org.opensearch.core.xcontent.XContentBuilder;
+import org.opensearch.core.xcontent.XContentParser;
+import org.opensearch.geospatial.index.mapper.xypoint.XYPointFieldMapper;
+import org.opensearch.index.mapper.MappedFieldType;
+import org.opensearch.index.query.QueryShardContext;
+import org.opensearch.search.aggregations.AbstractAggregationBuilder;
+import org.opensearch.search.aggregations.AggregationBuilder;
+import org.opensearch.search.aggregations.AggregatorFactories;
+import org.opensearch.search.aggregations.AggregatorFactory;
+import org.opensearch.search.aggregations.bucket.BucketUtils;
+
+/**
+ * Aggregation Builder for xy_grid, which buckets points of an xy_point field by cells of cartesian plane.
+ * xy_point doesn't have values source, hence, ids of cells are read from its doc values by {@link XYCellIdSource}.
+ */
+public class XYGridAggregationBuilder extends AbstractAggregationBuilder<XYGridAggregationBuilder> {
+
+    /**
+     * Aggregation context name
+     */
+    public static final String NAME = "xy_grid";
+    public static final ParseField FIELD = new ParseField("field");
+    public static final ParseField CELL_SIZE = new ParseField("cell_size");
+    public static final ParseField TILING = new ParseField("tiling");
+    public static final ParseField SIZE = new ParseField("size");
+    public static final ParseField SHARD_SIZE = new ParseField("shard_size");
+    public static final ParseField BOUNDS = new ParseField("bounds");
+    public static final String MIN_X = "min_x";
+    public static final String MAX_X = "max_x";
+    public static final String MIN_Y = "min_y";
+    public static final String MAX_Y = "max_y";
+    public static final ObjectParser<XYGridAggregationBuilder, String> PARSER = ObjectParser.fromBuilder(
+        NAME,
+        XYGridAggregationBuilder::new
+    );
+    private static final int DEFAULT_MAX_NUM_CELLS = 10000;
+    private static final int DEFAULT_SHARD_SIZE = -1;
+
+    static {
+        PARSER.declareString(XYGridAggregationBuilder::field, FIELD);
+        PARSER.declareDouble(XYGridAggregationBuilder::cellSize, CELL_SIZE);
+        PARSER.declareString((builder, tiling) -> builder.tiling(XYGridTiling.fromString(tiling)), TILING);
+        PARSER.declareInt(XYGridAggregationBuilder::size, SIZE);
+        PARSER.declareInt(XYGridAggregationBuilder::shardSize, SHARD_SIZE);
+        PARSER.declareObject(XYGridAggregationBuilder::bounds, (parser, context) -> parseBounds(parser), BOUNDS);
+    }
+
+    private String field;
+    private double cellSize;
+    private XYGridTiling tiling = XYGridTiling.SQUARE;
+    private int requiredSize = DEFAULT_MAX_NUM_CELLS;
+    private int shardSize = DEFAULT_SHARD_SIZE;
+    private XYRectangle bounds;
+
+    public XYGridAggregationBuilder(String name) {
+        super(name);
+    }
+
+    public XYGridAggregationBuilder(StreamInput in) throws IOException {
+        super(in);
+        this.field = in.readOptionalString();
+        this.cellSize = in.readDouble();
+        this.tiling = in.readEnum(XYGridTiling.class);
+        this.requiredSize = in.readVInt();
+        this.shardSize = in.readInt();
+        if (in.readBoolean()) {
+            this.bounds = new XYRectangle(in.readFloat(), in.readFloat(), in.readFloat(), in.readFloat());
+        }
+    }
+
+    protected XYGridAggregationBuilder(
+        XYGridAggregationBuilder clone,
+        AggregatorFactories.Builder factoriesBuilder,
+        Map<String, Object> metadata
+    ) {
+        super(clone, factoriesBuilder, metadata);
+        this.field = clone.field;
+        this.cellSize = clone.cellSize;
+        this.tiling = clone.tiling;
+        this.requiredSize = clone.requiredSize;
+        this.shardSize = clone.shardSize;
+        this.bounds = clone.bounds;
+    }
+
+    @Override
+    public String getType() {
+        return NAME;
+    }
+
+    /**
+     * @param field name of xy_point field to aggregate
+     * @return this builder
+     */
+    public XYGridAggregationBuilder field(String field) {
+        this.field = Objects.requireNonNull(field, "[field] must not be null: [" + name + "]");
+        return this;
+    }
+
+    /**
+     * @param cellSize size of cells, length of sides of squares, or, circumradius of hexagons
+     * @return this builder
+     * @throws IllegalArgumentException if cell size is not a positive finite number
+     */
+    public XYGridAggregationBuilder cellSize(double cellSize) {
+        if (Double.isFinite(cellSize) == false || cellSize <= 0) {
+            throw new IllegalArgumentException(
+                String.format(Locale.ROOT, "[%s] must be a positive number in [%s] aggregation [%s]", CELL_SIZE, NAME, name)
+            );
+        }
+        this.cellSize = cellSize;
+        return this;
+    }
+
+    /**
+     * @param tiling tiling of cartesian plane into cells
+     * @return this builder
+     */
+    public XYGridAggregationBuilder tiling(XYGridTiling tiling) {
+        this.tiling = Objects.requireNonNull(tiling, "[tiling] must not be null: [" + name + "]");
+        return this;
+    }
+
+    /**
+     * @param size max number of cells to return
+     * @return this builder
+     */
+    public XYGridAggregationBuilder size(int size) {
+        if (size <= 0) {
+            throw new IllegalArgumentException(
+                String.format(Locale.ROOT, "[%s] must be greater than 0. Found [%d] in [%s]", SIZE, size, name)
+            );
+        }
+        this.requiredSize = size;
+        return this;
+    }
+
+    /**
+     * @param shardSize max number of cells to return from every shard, negative to be derived from size
+     * @return this builder
+     */
+    public XYGridAggregationBuilder shardSize(int shardSize) {
+        this.shardSize = shardSize;
+        return this;
+    }
+
+    /**
+     * @param bounds points outside of bounds are not bucketed, null to bucket every point
+     * @return this builder
+     */
+    public XYGridAggregationBuilder bounds(XYRectangle bounds) {
+        this.bounds = bounds;
+        return this;
+    }
+
+    public String field() {
+        return field;
+    }
+
+    public double cellSize() {
+        return cellSize;
+    }
+
+    public XYGridTiling tiling() {
+        return tiling;
+    }
+
+    public int size() {
+        return requiredSize;
+    }
+
+    public int shardSize() {
+        return shardSize;
+    }
+
+    public XYRectangle bounds() {
+        return bounds;
+    }
+
+    @Override
+    public BucketCardinality bucketCardinality() {
+        return BucketCardinality.MANY;
+    }
+
+    @Override
+    protected AggregationBuilder shallowCopy(AggregatorFactories.Builder factoriesBuilder, Map<String, Object> metadata) {
+        return new XYGridAggregationBuilder(this, factoriesBuilder, metadata);
+    }
+
+    @Override
+    protected void doWriteTo(StreamOutput out) throws IOException {
+        out.writeOptionalString(field);
+        out.writeDouble(cellSize);
+        out.writeEnum(tiling);
+        out.writeVInt(requiredSize);
+        out.writeInt(shardSize);
+        out.writeBoolean(bounds != null);
+        if (bounds != null) {
+            out.writeFloat(bounds.minX);
+            out.writeFloat(bounds.maxX);
+            out.writeFloat(bounds.minY);
+            out.writeFloat(bounds.maxY);
+        }
+    }
+
+    @Override
+    protected AggregatorFactory doBuild(
+        QueryShardContext queryShardContext,
+        AggregatorFactory parent,
+        AggregatorFactories.Builder subFactoriesBuilder
+    ) throws IOException {
+        if (field == null || cellSize == 0) {
+            throw new IllegalArgumentException(
+                String.format(Locale.ROOT, "[%s] and [%s] must be set for [%s] aggregation [%s]", FIELD, CELL_SIZE, NAME, name)
+            );
+        }
+        final MappedFieldType fieldType = queryShardContext.fieldMapper(field);
+        if (fieldType != null && fieldType instanceof XYPointFieldMapper.XYPointFieldType == false) {
+            throw new IllegalArgumentException(
+                String.format(
+                    Locale.ROOT,
+                    "Field [%s] of type [%s] is not supported for aggregation [%s], expected [%s]",
+                    field,
+                    fieldType.typeName(),
+                    NAME,
+                    XYPointFieldMapper.CONTENT_TYPE
+                )
+            );
+        }
+        if (fieldType != null && fieldType.hasDocValues() == false) {
+            throw new IllegalArgumentException(
+                String.format(Locale.ROOT, "Field [%s] of aggregation [%s] should have doc values", field, NAME)
+            );
+        }
+        // same as geo grid aggregations
+        int shardSize = this.shardSize;
+        if (shardSize < 0) {
+            shardSize = BucketUtils.suggestShardSideQueueSize(requiredSize);
+        }
+        if (shardSize == 0) {
+            throw new OpenSearchException("parameter [shard_size] must be > 0 in " + getType() + " aggregation [" + name + "].");
+        }
+        if (shardSize < requiredSize) {
+            shardSize = requiredSize;
+        }
+        return new XYGridAggregatorFactory(
+            name,
+            fieldType == null ? null : field,
+            tiling,
+            cellSize,
+            bounds,
+            requiredSize,
+            shardSize,
+            queryShardContext,
+            parent,
+            subFactoriesBuilder,
+            metadata
+        );
+    }
+
+    @Override
+    protected XContentBuilder internalXContent(XContentBuilder builder, Params params) throws IOException {
+        builder.startObject();
+        if (field != null) {
+            builder.field(FIELD.getPreferredName(), field);
+        }
+        builder.field(CELL_SIZE.getPreferredName(), cellSize);
+        builder.field(TILING.getPreferredName(), tiling.toString());
+        builder.field(SIZE.getPreferredName(), requiredSize);
+        if (shardSize > -1) {
+            builder.field(SHARD_SIZE.getPreferredName(), shardSize);
+        }
+        if (bounds != null) {
+            builder.startObject(BOUNDS.getPreferredName())
+                .field(MIN_X, bounds.minX)
+                .field(MAX_X, bounds.maxX)
+                .field(MIN_Y, bounds.minY)
+                .field(MAX_Y, bounds.maxY)
+                .endObject();
+        }
+        return builder.endObject();
+    }
+
+    private static XYRectangle parseBounds(XContentParser parser) throws IOException {
+        final Map<String, Object> bounds = parser.map();
+        return new XYRectangle(
+            boundOf(bounds, MIN_X),
+            boundOf(bounds, MAX_X),
+            boundOf(bounds, MIN_Y),
+            boundOf(bounds, MAX_Y)
+        );
+    }
+
+    private static float boundOf(Map<String, Object> bounds, String key) {
+        final Object value = bounds.get(key);
+        if (value instanceof Number == false) {
+            throw new IllegalArgumentException(String.format(Locale.ROOT, "[%s] of [%s] must be a number", key, BOUNDS));
+        }
+        return ((Number) value).floatValue();
+    }
+
+    @Override
+    public boolean equals(Object other) {
+        if (this == other) {
+            return true;
+        }
+        if (other == null || getClass() != other.getClass() || super.equals(other) == false) {
+            return false;
+        }
+        final XYGridAggregationBuilder that = (XYGridAggregationBuilder) other;
+        return Objects.equals(field, that.field)
+            && Double.compare(cellSize, that.cellSize) == 0
+            && tiling == that.tiling
+            && requiredSize == that.requiredSize
+            && shardSize == that.shardSize
+            && Objects.equals(bounds, that.bounds);
+    }
+
+    @Override
+    public int hashCode() {
+        return Objects.hash(super.hashCode(), field, cellSize, tiling, requiredSize, shardSize, bounds);
+    }
+}
@@ -0,0 +1,47 @@
+/*
+ * Copyright OpenSearch Contributors
+ * SPDX-License-Identifier: Apache-2.0
+ */
+
+package org.opensearch.geospatial.search.aggregations.bucket.xygrid;
+
+import java.io.IOException;
+import java.util.List;
+import java.util.Map;
+
+import org.opensearch.geo.search.aggregations.bucket.geogrid.BaseGeoGridBucket;
+import org.opensearch.geo.search.aggregations.bucket.geogrid.GeoGridAggregator;
+import org.opensearch.search.aggregations.Aggregator;
+import org.opensearch.search.aggregations.AggregatorFactories;
+import org.opensearch.search.aggregations.CardinalityUpperBound;
+import org.opensearch.search.internal.SearchContext;
+
+/**
+ * Aggregates points of xy_point fields by cells of cartesian plane, identified by {@link XYCellIdSource}
+ */
+public class XYGridAggregator extends GeoGridAggregator<XYGrid> {
+
+    public XYGridAggregator(
+        String name,
+        AggregatorFactories factories,
+        XYCellIdSource valuesSource,
+        int requiredSize,
+        int shardSize,
+        SearchContext aggregationContext,
+        Aggregator parent,
+        CardinalityUpperBound cardinality,
+        Map<String, Object> metadata
+    ) throws IOException {
+        super(name, factories, valuesSource, requiredSize, shardSize, aggregationContext, parent, cardinality, metadata);
+    }
+
+    @Override
+    protected XYGrid buildAggregation(String name, int requiredSize, List<BaseGeoGridBucket> buckets, Map<String, Object> metadata) {
+        return new XYGrid(name, requiredSize, buckets, metadata);
+    }
+
+    @Override
+    protected BaseGeoGridBucket newEmptyBucket() {
+        return new XYGridBucket(0, 0, null);
+    }
+}
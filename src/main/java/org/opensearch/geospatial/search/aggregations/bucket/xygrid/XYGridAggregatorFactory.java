@@ -0,0 +1,84 @@
+/*
+ * Copyright OpenSearch Contributors
+ * SPDX-License-Identifier: Apache-2.0
+ */
+
+package org.opensearch.geospatial.search.aggregations.bucket.xygrid;
+
+import java.io.IOException;
+import java.util.List;
+import java.util.Map;
+
+import org.apache.lucene.geo.XYRectangle;
+import org.opensearch.index.query.QueryShardContext;
+import org.opensearch.search.aggregations.Aggregator;
+import org.opensearch.search.aggregations.AggregatorFactories;
+import org.opensearch.search.aggregations.AggregatorFactory;
+import org.opensearch.search.aggregations.CardinalityUpperBound;
+import org.opensearch.search.aggregations.InternalAggregation;
+import org.opensearch.search.aggregations.NonCollectingAggregator;
+import org.opensearch.search.internal.SearchContext;
+
+/**
+ * Aggregation Factory for xy_grid agg
+ */
+public class XYGridAggregatorFactory extends AggregatorFactory {
+    // null if field is not mapped
+    private final String field;
+    private final XYGridTiling tiling;
+    private final double cellSize;
+    private final XYRectangle bounds;
+    private final int requiredSize;
+    private final int shardSize;
+
+    XYGridAggregatorFactory(
+        String name,
+        String field,
+        XYGridTiling tiling,
+        double cellSize,
+        XYRectangle bounds,
+        int requiredSize,
+        int shardSize,
+        QueryShardContext queryShardContext,
+        AggregatorFactory parent,
+        AggregatorFactories.Builder subFactoriesBuilder,
+        Map<String, Object> metadata
+    ) throws IOException {
+        super(name, queryShardContext, parent, subFactoriesBuilder, metadata);
+        this.field = field;
+        this.tiling = tiling;
+        this.cellSize = cellSize;
+        this.bounds = bounds;
+        this.requiredSize = requiredSize;
+        this.shardSize = shardSize;
+    }
+
+    @Override
+    protected Aggregator createInternal(
+        SearchContext searchContext,
+        Aggregator parent,
+        CardinalityUpperBound cardinality,
+        Map<String, Object> metadata
+    ) throws IOException {
+        if (field == null) {
+            final var aggregation = new XYGrid(name, requiredSize, List.of(), metadata);
+            return new NonCollectingAggregator(name, searchContext, parent, factories, metadata) {
+                @Override
+                public InternalAggregation buildEmptyAggregation() {
+                    return aggregation;
+                }
+            };
+        }
+        return new XYGridAggregator(
+            name,
+            factories,
+            new XYCellIdSource(field, tiling, cellSize, bounds),
+            requiredSize,
+            shardSize,
+            searchContext,
+            parent,
+            cardinality,
+            metadata
+        );
+    }
+}
@@ -0,0 +1,45 @@
+/*
+ * Copyright OpenSearch Contributors
+ * SPDX-License-Identifier: Apache-2.0
+ */
+
+package org.opensearch.geospatial.search.aggregations.bucket.xygrid;
+
+import java.io.IOException;
+
+import org.opensearch.core.common.io.stream.StreamInput;
+import org.opensearch.geo.search.aggregations.bucket.geogrid.BaseGeoGridBucket;
+import org.opensearch.search.aggregations.InternalAggregations;
+
+/**
+ * Implementation of xy grid bucket, whose key is column and row of its cell
+ */
+public class XYGridBucket extends BaseGeoGridBucket<XYGridBucket> {
+
+    public XYGridBucket(long hashAsLong, long docCount, InternalAggregations aggregations) {
+        super(hashAsLong, docCount, aggregations);
+    }
+
+    /**
+     * Read from a Stream
+     * @param in {@link StreamInput} contains GridBucket
+     * @throws IOException if bucket cannot be read from stream
+     */
+    public XYGridBucket(StreamInput in) throws IOException {
+        super(in);
+    }
+
+    /**
+     * @return column and row of the cell as "column/row", since position of the cell depends on cell size and tiling,
+     * which are parameters of the aggregation
+     */
+    @Override
+    public Object getKey() {
+        return getKeyAsString();
+    }
+
+    @Override
+    public String getKeyAsString() {
+        return XYGridTiling.toKeyString(hashAsLong);
+    }
+}
@@ -0,0 +1,100 @@
+/*
+ * Copyright OpenSearch Contributors
+ * SPDX-License-Identifier: Apache-2.0
+ */
+
+package org.opensearch.geospatial.search.aggregations.bucket.xygrid;
+
+import java.util.Locale;
+
+/**
+ * Tilings of cartesian plane into cells of {@link XYGridAggregationBuilder}. Every cell is identified by a column and
+ * a row, which are encoded into a long, column in the upper 32 bits, and, row in the lower 32 bits. Columns and rows
+ * beyond the range of int are clamped, which happens only if cell size is tiny compared to coordinates.
+ */
+public enum XYGridTiling {
+    /**
+     * Squares whose sides are cell size, column i covers [i * size, (i + 1) * size) on x axis, and, row j covers
+     * [j * size, (j + 1) * size) on y axis
+     */
+    SQUARE {
+        @Override
+        public long encode(double x, double y, double cellSize) {
+            return encodeCell(toInt(Math.floor(x / cellSize)), toInt(Math.floor(y / cellSize)));
+        }
+    },
+    /**
+     * Pointy-top hexagons whose circumradius is cell size, column and row are axial coordinates of hexagons,
+     * where the hexagon of column 0 and row 0 is centered at the origin
+     */
+    HEXAGON {
+        @Override
+        public long encode(double x, double y, double cellSize) {
+            final double q = (SQRT_3 / 3 * x - y / 3) / cellSize;
+            final double r = (2.0 / 3 * y) / cellSize;
+            final double s = -q - r;
+            // round cube coordinates, and, fix the one with the largest rounding error, so that q + r + s is still 0
+            double roundedQ = Math.rint(q);
+            double roundedR = Math.rint(r);
+            final double roundedS = Math.rint(s);
+            final double errorOfQ = Math.abs(roundedQ - q);
+            final double errorOfR = Math.abs(roundedR - r);
+            final double errorOfS = Math.abs(roundedS - s);
+            if (errorOfQ > errorOfR && errorOfQ > errorOfS) {
+                roundedQ = -roundedR - roundedS;
+            } else if (errorOfR > errorOfS) {
+                roundedR = -roundedQ - roundedS;
+            }
+            return encodeCell(toInt(roundedQ), toInt(roundedR));
+        }
+    };
+
+    private static final double SQRT_3 = Math.sqrt(3);
+
+    /**
+     * @param x x of a point
+     * @param y y of a point
+     * @param cellSize size of cells
+     * @return id of the cell that contains the point
+     */
+    public abstract long encode(double x, double y, double cellSize);
+
+    /**
+     * @param name name of tiling, case insensitive
+     * @return tiling of the name
+     * @throws IllegalArgumentException if there is no tiling of the name
+     */
+    public static XYGridTiling fromString(String name) {
+        return valueOf(name.toUpperCase(Locale.ROOT));
+    }
+
+    /**
+     * @param cell id of a cell
+     * @return column and row of the cell as "column/row"
+     */
+    public static String toKeyString(long cell) {
+        return column(cell) + "/" + row(cell);
+    }
+
+    static int column(long cell) {
+        return (int) (cell >> 32);
+    }
+
+    static int row(long cell) {
+        return (int) cell;
+    }
+
+    static long encodeCell(int column, int row) {
+        return ((long) column << 32) | (row & 0xFFFFFFFFL);
+    }
+
+    // narrowing conversion of double saturates at bounds of int
+    private static int toInt(double value) {
+        return (int) value;
+    }
+
+    @Override
+    public String toString() {
+        return name().toLowerCase(Locale.ROOT);
+    }
+}
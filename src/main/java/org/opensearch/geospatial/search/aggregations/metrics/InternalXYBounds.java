@@ -0,0 +1,173 @@
+/*
+ * Copyright OpenSearch Contributors
+ * SPDX-License-Identifier: Apache-2.0
+ */
+
+package org.opensearch.geospatial.search.aggregations.metrics;
+
+import java.io.IOException;
+import java.util.List;
+import java.util.Locale;
+import java.util.Map;
+import java.util.Objects;
+
+import org.opensearch.core.common.io.stream.StreamInput;
+import org.opensearch.core.common.io.stream.StreamOutput;
+import org.opensearch.core.xcontent.XContentBuilder;
+import org.opensearch.search.aggregations.InternalAggregation;
+
+/**
+ * Result of {@link XYBoundsAggregationBuilder}, bounding box on cartesian plane, whose top is the maximum y
+ */
+public class InternalXYBounds extends InternalAggregation {
+
+    static final String BOUNDS = "bounds";
+    static final String TOP_LEFT = "top_left";
+    static final String BOTTOM_RIGHT = "bottom_right";
+    static final String X = "x";
+    static final String Y = "y";
+
+    private final double minX;
+    private final double maxX;
+    private final double minY;
+    private final double maxY;
+
+    public InternalXYBounds(String name, double minX, double maxX, double minY, double maxY, Map<String, Object> metadata) {
+        super(name, metadata);
+        this.minX = minX;
+        this.maxX = maxX;
+        this.minY = minY;
+        this.maxY = maxY;
+    }
+
+    public InternalXYBounds(StreamInput in) throws IOException {
+        super(in);
+        this.minX = in.readDouble();
+        this.maxX = in.readDouble();
+        this.minY = in.readDouble();
+        this.maxY = in.readDouble();
+    }
+
+    static InternalXYBounds empty(String name, Map<String, Object> metadata) {
+        return new InternalXYBounds(
+            name,
+            Double.POSITIVE_INFINITY,
+            Double.NEGATIVE_INFINITY,
+            Double.POSITIVE_INFINITY,
+            Double.NEGATIVE_INFINITY,
+            metadata
+        );
+    }
+
+    @Override
+    protected void doWriteTo(StreamOutput out) throws IOException {
+        out.writeDouble(minX);
+        out.writeDouble(maxX);
+        out.writeDouble(minY);
+        out.writeDouble(maxY);
+    }
+
+    @Override
+    public String getWriteableName() {
+        return XYBoundsAggregationBuilder.NAME;
+    }
+
+    @Override
+    public InternalAggregation reduce(List<InternalAggregation> aggregations, ReduceContext reduceContext) {
+        double reducedMinX = Double.POSITIVE_INFINITY;
+        double reducedMaxX = Double.NEGATIVE_INFINITY;
+        double reducedMinY = Double.POSITIVE_INFINITY;
+        double reducedMaxY = Double.NEGATIVE_INFINITY;
+        for (InternalAggregation aggregation : aggregations) {
+            final InternalXYBounds bounds = (InternalXYBounds) aggregation;
+            reducedMinX = Math.min(reducedMinX, bounds.minX);
+            reducedMaxX = Math.max(reducedMaxX, bounds.maxX);
+            reducedMinY = Math.min(reducedMinY, bounds.minY);
+            reducedMaxY = Math.max(reducedMaxY, bounds.maxY);
+        }
+        return new InternalXYBounds(name, reducedMinX, reducedMaxX, reducedMinY, reducedMaxY, getMetadata());
+    }
+
+    @Override
+    protected boolean mustReduceOnSingleInternalAgg() {
+        return false;
+    }
+
+    @Override
+    public Object getProperty(List<String> path) {
+        if (path.isEmpty()) {
+            return this;
+        }
+        if (path.size() > 1) {
+            throw new IllegalArgumentException(String.format(Locale.ROOT, "path not supported for [%s]: %s", getName(), path));
+        }
+        switch (path.get(0)) {
+            case "top":
+                return maxY;
+            case "left":
+                return minX;
+            case "bottom":
+                return minY;
+            case "right":
+                return maxX;
+            default:
+                throw new IllegalArgumentException(
+                    String.format(Locale.ROOT, "Found unknown path element [%s] in [%s]", path.get(0), getName())
+                );
+        }
+    }
+
+    /**
+     * @return true if no value is aggregated
+     */
+    public boolean isEmpty() {
+        return minX > maxX;
+    }
+
+    public double getMinX() {
+        return minX;
+    }
+
+    public double getMaxX() {
+        return maxX;
+    }
+
+    public double getMinY() {
+        return minY;
+    }
+
+    public double getMaxY() {
+        return maxY;
+    }
+
+    @Override
+    public XContentBuilder doXContentBody(XContentBuilder builder, Params params) throws IOException {
+        if (isEmpty()) {
+            return builder;
+        }
+        builder.startObject(BOUNDS);
+        builder.startObject(TOP_LEFT).field(X, minX).field(Y, maxY).endObject();
+        builder.startObject(BOTTOM_RIGHT).field(X, maxX).field(Y, minY).endObject();
+        return builder.endObject();
+    }
+
+    @Override
+    public boolean equals(Object other) {
+        if (this == other) {
+            return true;
+        }
+        if (other == null || getClass() != other.getClass() || super.equals(other) == false) {
+            return false;
+        }
+        final InternalXYBounds that = (InternalXYBounds) other;
+        return Double.compare(minX, that.minX) == 0
+            && Double.compare(maxX, that.maxX) == 0
+            && Double.compare(minY, that.minY) == 0
+            && Double.compare(maxY, that.maxY) == 0;
+    }
+
+    @Override
+    public int hashCode() {
+        return Objects.hash(super.hashCode(), minX, maxX, minY, maxY);
+    }
+}
@@ -0,0 +1,184 @@
+/*
+ * Copyright OpenSearch Contributors
+ * SPDX-License-Identifier: Apache-2.0
+ */
+
+package org.opensearch.geospatial.search.aggregations.metrics;
+
+import java.io.IOException;
+import java.util.List;
+import java.util.Locale;
+import java.util.Map;
+import java.util.Objects;
+
+import org.opensearch.core.common.io.stream.StreamInput;
+import org.opensearch.core.common.io.stream.StreamOutput;
+import org.opensearch.core.xcontent.XContentBuilder;
+import org.opensearch.search.aggregations.InternalAggregation;
+
+/**
+ * Result of {@link XYCentroidAggregationBuilder}. Centroid keeps its weight and dimension, so that centroids of shards
+ * are reduced into the weighted centroid of the highest dimension.
+ */
+public class InternalXYCentroid extends InternalAggregation {
+
+    static final String LOCATION = "location";
+    static final String COUNT = "count";
+    static final String X = "x";
+    static final String Y = "y";
+
+    private final double x;
+    private final double y;
+    private final double weight;
+    private final int dimension;
+    private final long count;
+
+    public InternalXYCentroid(String name, double x, double y, double weight, int dimension, long count, Map<String, Object> metadata) {
+        super(name, metadata);
+        this.x = x;
+        this.y = y;
+        this.weight = weight;
+        this.dimension = dimension;
+        this.count = count;
+    }
+
+    public InternalXYCentroid(StreamInput in) throws IOException {
+        super(in);
+        this.x = in.readDouble();
+        this.y = in.readDouble();
+        this.weight = in.readDouble();
+        this.dimension = in.readVInt();
+        this.count = in.readVLong();
+    }
+
+    static InternalXYCentroid empty(String name, Map<String, Object> metadata) {
+        return new InternalXYCentroid(name, Double.NaN, Double.NaN, 0, 0, 0, metadata);
+    }
+
+    @Override
+    protected void doWriteTo(StreamOutput out) throws IOException {
+        out.writeDouble(x);
+        out.writeDouble(y);
+        out.writeDouble(weight);
+        out.writeVInt(dimension);
+        out.writeVLong(count);
+    }
+
+    @Override
+    public String getWriteableName() {
+        return XYCentroidAggregationBuilder.NAME;
+    }
+
+    @Override
+    public InternalAggregation reduce(List<InternalAggregation> aggregations, ReduceContext reduceContext) {
+        int reducedDimension = 0;
+        long reducedCount = 0;
+        for (InternalAggregation aggregation : aggregations) {
+            final InternalXYCentroid centroid = (InternalXYCentroid) aggregation;
+            if (centroid.count > 0) {
+                reducedDimension = Math.max(reducedDimension, centroid.dimension);
+                reducedCount += centroid.count;
+            }
+        }
+        if (reducedCount == 0) {
+            return empty(name, getMetadata());
+        }
+        double weightedSumOfX = 0;
+        double weightedSumOfY = 0;
+        double reducedWeight = 0;
+        for (InternalAggregation aggregation : aggregations) {
+            final InternalXYCentroid centroid = (InternalXYCentroid) aggregation;
+            if (centroid.count > 0 && centroid.dimension == reducedDimension) {
+                weightedSumOfX += centroid.x * centroid.weight;
+                weightedSumOfY += centroid.y * centroid.weight;
+                reducedWeight += centroid.weight;
+            }
+        }
+        return new InternalXYCentroid(
+            name,
+            weightedSumOfX / reducedWeight,
+            weightedSumOfY / reducedWeight,
+            reducedWeight,
+            reducedDimension,
+            reducedCount,
+            getMetadata()
+        );
+    }
+
+    @Override
+    protected boolean mustReduceOnSingleInternalAgg() {
+        return false;
+    }
+
+    @Override
+    public Object getProperty(List<String> path) {
+        if (path.isEmpty()) {
+            return this;
+        }
+        if (path.size() > 1) {
+            throw new IllegalArgumentException(String.format(Locale.ROOT, "path not supported for [%s]: %s", getName(), path));
+        }
+        switch (path.get(0)) {
+            case X:
+                return x;
+            case Y:
+                return y;
+            case COUNT:
+                return count;
+            default:
+                throw new IllegalArgumentException(
+                    String.format(Locale.ROOT, "Found unknown path element [%s] in [%s]", path.get(0), getName())
+                );
+        }
+    }
+
+    /**
+     * @return x of the centroid, NaN if no value is aggregated
+     */
+    public double getX() {
+        return x;
+    }
+
+    /**
+     * @return y of the centroid, NaN if no value is aggregated
+     */
+    public double getY() {
+        return y;
+    }
+
+    /**
+     * @return number of aggregated points and shapes
+     */
+    public long getCount() {
+        return count;
+    }
+
+    @Override
+    public XContentBuilder doXContentBody(XContentBuilder builder, Params params) throws IOException {
+        if (count > 0) {
+            builder.startObject(LOCATION).field(X, x).field(Y, y).endObject();
+        }
+        return builder.field(COUNT, count);
+    }
+
+    @Override
+    public boolean equals(Object other) {
+        if (this == other) {
+            return true;
+        }
+        if (other == null || getClass() != other.getClass() || super.equals(other) == false) {
+            return false;
+        }
+        final InternalXYCentroid that = (InternalXYCentroid) other;
+        return Double.compare(x, that.x) == 0
+            && Double.compare(y, that.y) == 0
+            && Double.compare(weight, that.weight) == 0
+            && dimension == that.dimension
+            && count == that.count;
+    }
+
+    @Override
+    public int hashCode() {
+        return Objects.hash(super.hashCode(), x, y, weight, dimension, count);
+    }
+}
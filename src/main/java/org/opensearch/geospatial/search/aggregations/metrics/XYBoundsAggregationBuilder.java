@@ -0,0 +1,73 @@
+/*
+ * Copyright OpenSearch Contributors
+ * SPDX-License-Identifier: Apache-2.0
+ */
+
+package org.opensearch.geospatial.search.aggregations.metrics;
+
+import java.io.IOException;
+import java.util.Map;
+
+import org.opensearch.core.common.io.stream.StreamInput;
+import org.opensearch.core.xcontent.ObjectParser;
+import org.opensearch.index.mapper.MappedFieldType;
+import org.opensearch.search.aggregations.AggregationBuilder;
+import org.opensearch.search.aggregations.Aggregator;
+import org.opensearch.search.aggregations.AggregatorFactories;
+import org.opensearch.search.internal.SearchContext;
+
+/**
+ * Aggregation Builder for bounding box of xy_point and xy_shape fields
+ */
+public class XYBoundsAggregationBuilder extends XYMetricsAggregationBuilder<XYBoundsAggregationBuilder> {
+
+    /**
+     * Aggregation context name
+     */
+    public static final String NAME = "xy_bounds";
+    public static final ObjectParser<XYBoundsAggregationBuilder, String> PARSER = ObjectParser.fromBuilder(
+        NAME,
+        XYBoundsAggregationBuilder::new
+    );
+
+    static {
+        declareFields(PARSER);
+    }
+
+    public XYBoundsAggregationBuilder(String name) {
+        super(name);
+    }
+
+    public XYBoundsAggregationBuilder(StreamInput in) throws IOException {
+        super(in);
+    }
+
+    protected XYBoundsAggregationBuilder(
+        XYBoundsAggregationBuilder clone,
+        AggregatorFactories.Builder factoriesBuilder,
+        Map<String, Object> metadata
+    ) {
+        super(clone, factoriesBuilder, metadata);
+    }
+
+    @Override
+    public String getType() {
+        return NAME;
+    }
+
+    @Override
+    protected AggregationBuilder shallowCopy(AggregatorFactories.Builder factoriesBuilder, Map<String, Object> metadata) {
+        return new XYBoundsAggregationBuilder(this, factoriesBuilder, metadata);
+    }
+
+    @Override
+    protected XYMetricsAggregator createAggregator(
+        String name,
+        MappedFieldType fieldType,
+        SearchContext searchContext,
+        Aggregator parent,
+        Map<String, Object> metadata
+    ) throws IOException {
+        return new XYBoundsAggregator(name, fieldType, searchContext, parent, metadata);
+    }
+}
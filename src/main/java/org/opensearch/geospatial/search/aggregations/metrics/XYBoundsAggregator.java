@@ -0,0 +1,92 @@
+/*
+ * Copyright OpenSearch Contributors
+ * SPDX-License-Identifier: Apache-2.0
+ */
+
+package org.opensearch.geospatial.search.aggregations.metrics;
+
+import java.io.IOException;
+import java.util.Map;
+
+import org.opensearch.common.lease.Releasables;
+import org.opensearch.common.util.BigArrays;
+import org.opensearch.common.util.DoubleArray;
+import org.opensearch.geospatial.index.mapper.xyshape.XYShapeDocValues;
+import org.opensearch.index.mapper.MappedFieldType;
+import org.opensearch.search.aggregations.Aggregator;
+import org.opensearch.search.aggregations.InternalAggregation;
+import org.opensearch.search.internal.SearchContext;
+
+/**
+ * Aggregates bounding box of points of xy_point fields, and, of bounding boxes of xy_shape fields
+ */
+public final class XYBoundsAggregator extends XYMetricsAggregator {
+
+    private final BigArrays bigArrays;
+    private DoubleArray minXs;
+    private DoubleArray maxXs;
+    private DoubleArray minYs;
+    private DoubleArray maxYs;
+
+    XYBoundsAggregator(String name, MappedFieldType fieldType, SearchContext context, Aggregator parent, Map<String, Object> metadata)
+        throws IOException {
+        super(name, fieldType, context, parent, metadata);
+        this.bigArrays = context.bigArrays();
+        if (isMapped()) {
+            minXs = bigArrays.newDoubleArray(1, false);
+            minXs.fill(0, minXs.size(), Double.POSITIVE_INFINITY);
+            maxXs = bigArrays.newDoubleArray(1, false);
+            maxXs.fill(0, maxXs.size(), Double.NEGATIVE_INFINITY);
+            minYs = bigArrays.newDoubleArray(1, false);
+            minYs.fill(0, minYs.size(), Double.POSITIVE_INFINITY);
+            maxYs = bigArrays.newDoubleArray(1, false);
+            maxYs.fill(0, maxYs.size(), Double.NEGATIVE_INFINITY);
+        }
+    }
+
+    @Override
+    protected void collectPoint(long bucket, double x, double y) {
+        collect(bucket, x, x, y, y);
+    }
+
+    @Override
+    protected void collectShape(long bucket, XYShapeDocValues shape) {
+        collect(bucket, shape.getMinX(), shape.getMaxX(), shape.getMinY(), shape.getMaxY());
+    }
+
+    private void collect(long bucket, double minX, double maxX, double minY, double maxY) {
+        if (bucket >= minXs.size()) {
+            final long from = minXs.size();
+            minXs = bigArrays.grow(minXs, bucket + 1);
+            minXs.fill(from, minXs.size(), Double.POSITIVE_INFINITY);
+            maxXs = bigArrays.resize(maxXs, minXs.size());
+            maxXs.fill(from, maxXs.size(), Double.NEGATIVE_INFINITY);
+            minYs = bigArrays.resize(minYs, minXs.size());
+            minYs.fill(from, minYs.size(), Double.POSITIVE_INFINITY);
+            maxYs = bigArrays.resize(maxYs, minXs.size());
+            maxYs.fill(from, maxYs.size(), Double.NEGATIVE_INFINITY);
+        }
+        minXs.set(bucket, Math.min(minXs.get(bucket), minX));
+        maxXs.set(bucket, Math.max(maxXs.get(bucket), maxX));
+        minYs.set(bucket, Math.min(minYs.get(bucket), minY));
+        maxYs.set(bucket, Math.max(maxYs.get(bucket), maxY));
+    }
+
+    @Override
+    public InternalAggregation buildAggregation(long bucket) {
+        if (isMapped() == false || bucket >= minXs.size()) {
+            return buildEmptyAggregation();
+        }
+        return new InternalXYBounds(name, minXs.get(bucket), maxXs.get(bucket), minYs.get(bucket), maxYs.get(bucket), metadata());
+    }
+
+    @Override
+    public InternalAggregation buildEmptyAggregation() {
+        return InternalXYBounds.empty(name, metadata());
+    }
+
+    @Override
+    public void doClose() {
+        Releasables.close(minXs, maxXs, minYs, maxYs);
+    }
+}
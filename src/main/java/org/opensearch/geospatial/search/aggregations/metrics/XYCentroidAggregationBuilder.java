@@ -0,0 +1,73 @@
+/*
+ * Copyright OpenSearch Contributors
+ * SPDX-License-Identifier: Apache-2.0
+ */
+
+package org.opensearch.geospatial.search.aggregations.metrics;
+
+import java.io.IOException;
+import java.util.Map;
+
+import org.opensearch.core.common.io.stream.StreamInput;
+import org.opensearch.core.xcontent.ObjectParser;
+import org.opensearch.index.mapper.MappedFieldType;
+import org.opensearch.search.aggregations.AggregationBuilder;
+import org.opensearch.search.aggregations.Aggregator;
+import org.opensearch.search.aggregations.AggregatorFactories;
+import org.opensearch.search.internal.SearchContext;
+
+/**
+ * Aggregation Builder for centroid of xy_point and xy_shape fields
+ */
+public class XYCentroidAggregationBuilder extends XYMetricsAggregationBuilder<XYCentroidAggregationBuilder> {
+
+    /**
+     * Aggregation context name
+     */
+    public static final String NAME = "xy_centroid";
+    public static final ObjectParser<XYCentroidAggregationBuilder, String> PARSER = ObjectParser.fromBuilder(
+        NAME,
+        XYCentroidAggregationBuilder::new
+    );
+
+    static {
+        declareFields(PARSER);
+    }
+
+    public XYCentroidAggregationBuilder(String name) {
+        super(name);
+    }
+
+    public XYCentroidAggregationBuilder(StreamInput in) throws IOException {
+        super(in);
+    }
+
+    protected XYCentroidAggregationBuilder(
+        XYCentroidAggregationBuilder clone,
+        AggregatorFactories.Builder factoriesBuilder,
+        Map<String, Object> metadata
+    ) {
+        super(clone, factoriesBuilder, metadata);
+    }
+
+    @Override
+    public String getType() {
+        return NAME;
+    }
+
+    @Override
+    protected AggregationBuilder shallowCopy(AggregatorFactories.Builder factoriesBuilder, Map<String, Object> metadata) {
+        return new XYCentroidAggregationBuilder(this, factoriesBuilder, metadata);
+    }
+
+    @Override
+    protected XYMetricsAggregator createAggregator(
+        String name,
+        MappedFieldType fieldType,
+        SearchContext searchContext,
+        Aggregator parent,
+        Map<String, Object> metadata
+    ) throws IOException {
+        return new XYCentroidAggregator(name, fieldType, searchContext, parent, metadata);
+    }
+}
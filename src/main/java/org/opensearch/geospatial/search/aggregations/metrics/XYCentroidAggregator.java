@@ -0,0 +1,110 @@
+/*
+ * Copyright OpenSearch Contributors
+ * SPDX-License-Identifier: Apache-2.0
+ */
+
+package org.opensearch.geospatial.search.aggregations.metrics;
+
+import java.io.IOException;
+import java.util.Map;
+
+import org.opensearch.common.lease.Releasables;
+import org.opensearch.common.util.BigArrays;
+import org.opensearch.common.util.ByteArray;
+import org.opensearch.common.util.DoubleArray;
+import org.opensearch.common.util.LongArray;
+import org.opensearch.geospatial.index.mapper.xyshape.XYShapeDocValues;
+import org.opensearch.index.mapper.MappedFieldType;
+import org.opensearch.search.aggregations.Aggregator;
+import org.opensearch.search.aggregations.InternalAggregation;
+import org.opensearch.search.internal.SearchContext;
+
+/**
+ * Aggregates centroid of points of xy_point fields, and, of centroids of xy_shape fields weighted by their area,
+ * length, or, number of points. Similar to centroid of a shape, only shapes of the highest dimension are counted.
+ */
+public final class XYCentroidAggregator extends XYMetricsAggregator {
+
+    private static final int POINT_DIMENSION = 0;
+
+    private final BigArrays bigArrays;
+    private DoubleArray weightedSumsOfX;
+    private DoubleArray weightedSumsOfY;
+    private DoubleArray weights;
+    private ByteArray dimensions;
+    private LongArray counts;
+
+    XYCentroidAggregator(String name, MappedFieldType fieldType, SearchContext context, Aggregator parent, Map<String, Object> metadata)
+        throws IOException {
+        super(name, fieldType, context, parent, metadata);
+        this.bigArrays = context.bigArrays();
+        if (isMapped()) {
+            weightedSumsOfX = bigArrays.newDoubleArray(1, true);
+            weightedSumsOfY = bigArrays.newDoubleArray(1, true);
+            weights = bigArrays.newDoubleArray(1, true);
+            dimensions = bigArrays.newByteArray(1, true);
+            counts = bigArrays.newLongArray(1, true);
+        }
+    }
+
+    @Override
+    protected void collectPoint(long bucket, double x, double y) {
+        collect(bucket, POINT_DIMENSION, x, y, 1);
+    }
+
+    @Override
+    protected void collectShape(long bucket, XYShapeDocValues shape) {
+        collect(bucket, shape.getDimension(), shape.getCentroidX(), shape.getCentroidY(), shape.getCentroidWeight());
+    }
+
+    private void collect(long bucket, int dimension, double x, double y, double weight) {
+        if (bucket >= counts.size()) {
+            counts = bigArrays.grow(counts, bucket + 1);
+            weightedSumsOfX = bigArrays.resize(weightedSumsOfX, counts.size());
+            weightedSumsOfY = bigArrays.resize(weightedSumsOfY, counts.size());
+            weights = bigArrays.resize(weights, counts.size());
+            dimensions = bigArrays.resize(dimensions, counts.size());
+        }
+        final boolean first = counts.increment(bucket, 1) == 1;
+        final int bucketDimension = dimensions.get(bucket);
+        if (first == false && dimension < bucketDimension) {
+            return;
+        }
+        if (first || dimension > bucketDimension) {
+            dimensions.set(bucket, (byte) dimension);
+            weightedSumsOfX.set(bucket, 0);
+            weightedSumsOfY.set(bucket, 0);
+            weights.set(bucket, 0);
+        }
+        weightedSumsOfX.increment(bucket, x * weight);
+        weightedSumsOfY.increment(bucket, y * weight);
+        weights.increment(bucket, weight);
+    }
+
+    @Override
+    public InternalAggregation buildAggregation(long bucket) {
+        if (isMapped() == false || bucket >= counts.size() || counts.get(bucket) == 0) {
+            return buildEmptyAggregation();
+        }
+        final double weight = weights.get(bucket);
+        return new InternalXYCentroid(
+            name,
+            weightedSumsOfX.get(bucket) / weight,
+            weightedSumsOfY.get(bucket) / weight,
+            weight,
+            dimensions.get(bucket),
+            counts.get(bucket),
+            metadata()
+        );
+    }
+
+    @Override
+    public InternalAggregation buildEmptyAggregation() {
+        return InternalXYCentroid.empty(name, metadata());
+    }
+
+    @Override
+    public void doClose() {
+        Releasables.close(weightedSumsOfX, weightedSumsOfY, weights, dimensions, counts);
+    }
+}
@@ -0,0 +1,196 @@
+/*
+ * Copyright OpenSearch Contributors
+ * SPDX-License-Identifier: Apache-2.0
+ */
+
+package org.opensearch.geospatial.search.aggregations.metrics;
+
+import java.io.IOException;
+import java.util.Locale;
+import java.util.Map;
+import java.util.Objects;
+
+import org.opensearch.core.ParseField;
+import org.opensearch.core.common.io.stream.StreamInput;
+import org.opensearch.core.common.io.stream.StreamOutput;
+import org.opensearch.core.xcontent.ObjectParser;
+import org.opensearch.core.xcontent.XContentBuilder;
+import org.opensearch.geospatial.index.mapper.xypoint.XYPointFieldMapper;
+import org.opensearch.geospatial.index.mapper.xyshape.XYShapeFieldMapper;
+import org.opensearch.index.mapper.MappedFieldType;
+import org.opensearch.index.query.QueryShardContext;
+import org.opensearch.search.aggregations.AbstractAggregationBuilder;
+import org.opensearch.search.aggregations.AggregationInitializationException;
+import org.opensearch.search.aggregations.Aggregator;
+import org.opensearch.search.aggregations.AggregatorFactories;
+import org.opensearch.search.aggregations.AggregatorFactory;
+import org.opensearch.search.internal.SearchContext;
+
+/**
+ * Base builder of metrics aggregations over doc values of xy_point and xy_shape fields.
+ * These field types don't have values source, hence, aggregators read their doc values directly.
+ * @param <AB> type of the builder
+ */
+public abstract class XYMetricsAggregationBuilder<AB extends XYMetricsAggregationBuilder<AB>> extends AbstractAggregationBuilder<AB> {
+
+    public static final ParseField FIELD = new ParseField("field");
+
+    private String field;
+
+    protected XYMetricsAggregationBuilder(String name) {
+        super(name);
+    }
+
+    protected XYMetricsAggregationBuilder(
+        XYMetricsAggregationBuilder<AB> clone,
+        AggregatorFactories.Builder factoriesBuilder,
+        Map<String, Object> metadata
+    ) {
+        super(clone, factoriesBuilder, metadata);
+        this.field = clone.field;
+    }
+
+    protected XYMetricsAggregationBuilder(StreamInput in) throws IOException {
+        super(in);
+        this.field = in.readOptionalString();
+    }
+
+    /**
+     * Declare parameters of the aggregation
+     * @param parser parser of the aggregation
+     * @param <AB> type of the builder
+     */
+    protected static <AB extends XYMetricsAggregationBuilder<AB>> void declareFields(ObjectParser<AB, String> parser) {
+        parser.declareString(XYMetricsAggregationBuilder::field, FIELD);
+    }
+
+    /**
+     * @param field name of xy_point or xy_shape field to aggregate
+     * @return this builder
+     */
+    @SuppressWarnings("unchecked")
+    public AB field(String field) {
+        this.field = Objects.requireNonNull(field, "[field] must not be null: [" + name + "]");
+        return (AB) this;
+    }
+
+    /**
+     * @return name of the field to aggregate
+     */
+    public String field() {
+        return field;
+    }
+
+    @Override
+    public AB subAggregations(AggregatorFactories.Builder subFactories) {
+        throw new AggregationInitializationException(
+            String.format(Locale.ROOT, "Aggregator [%s] of type [%s] cannot accept sub-aggregations", name, getType())
+        );
+    }
+
+    @Override
+    public BucketCardinality bucketCardinality() {
+        return BucketCardinality.NONE;
+    }
+
+    @Override
+    protected void doWriteTo(StreamOutput out) throws IOException {
+        out.writeOptionalString(field);
+    }
+
+    @Override
+    protected AggregatorFactory doBuild(
+        QueryShardContext queryShardContext,
+        AggregatorFactory parent,
+        AggregatorFactories.Builder subFactoriesBuilder
+    ) throws IOException {
+        if (field == null) {
+            throw new IllegalArgumentException(String.format(Locale.ROOT, "[field] must be set for aggregation [%s]", name));
+        }
+        final MappedFieldType fieldType = queryShardContext.fieldMapper(field);
+        validate(fieldType);
+        return new XYMetricsAggregatorFactory(
+            name,
+            queryShardContext,
+            parent,
+            subFactoriesBuilder,
+            metadata,
+            (aggregationName, searchContext, parentAggregator, aggregationMetadata) -> createAggregator(
+                aggregationName,
+                fieldType,
+                searchContext,
+                parentAggregator,
+                aggregationMetadata
+            )
+        );
+    }
+
+    // unmapped field is allowed, and, aggregates nothing
+    private void validate(MappedFieldType fieldType) {
+        if (fieldType == null) {
+            return;
+        }
+        if (fieldType instanceof XYPointFieldMapper.XYPointFieldType == false
+            && fieldType instanceof XYShapeFieldMapper.XYShapeFieldType == false) {
+            throw new IllegalArgumentException(
+                String.format(
+                    Locale.ROOT,
+                    "Field [%s] of type [%s] is not supported for aggregation [%s], expected [%s] or [%s]",
+                    field,
+                    fieldType.typeName(),
+                    getType(),
+                    XYPointFieldMapper.CONTENT_TYPE,
+                    XYShapeFieldMapper.CONTENT_TYPE
+                )
+            );
+        }
+        if (fieldType.hasDocValues() == false) {
+            throw new IllegalArgumentException(
+                String.format(Locale.ROOT, "Field [%s] of aggregation [%s] should have doc values", field, getType())
+            );
+        }
+    }
+
+    /**
+     * Create aggregator of the aggregation
+     * @param name name of the aggregation
+     * @param fieldType type of the field, null if field is not mapped
+     * @param searchContext search context
+     * @param parent parent aggregator
+     * @param metadata metadata of the aggregation
+     * @return aggregator
+     * @throws IOException if aggregator cannot be created
+     */
+    protected abstract XYMetricsAggregator createAggregator(
+        String name,
+        MappedFieldType fieldType,
+        SearchContext searchContext,
+        Aggregator parent,
+        Map<String, Object> metadata
+    ) throws IOException;
+
+    @Override
+    protected XContentBuilder internalXContent(XContentBuilder builder, Params params) throws IOException {
+        builder.startObject();
+        if (field != null) {
+            builder.field(FIELD.getPreferredName(), field);
+        }
+        return builder.endObject();
+    }
+
+    @Override
+    public boolean equals(Object other) {
+        if (this == other) {
+            return true;
+        }
+        if (other == null || getClass() != other.getClass() || super.equals(other) == false) {
+            return false;
+        }
+        return Objects.equals(field, ((XYMetricsAggregationBuilder<?>) other).field);
+    }
+
+    @Override
+    public int hashCode() {
+        return Objects.hash(super.hashCode(), field);
+    }
+}
@@ -0,0 +1,103 @@
+/*
+ * Copyright OpenSearch Contributors
+ * SPDX-License-Identifier: Apache-2.0
+ */
+
+package org.opensearch.geospatial.search.aggregations.metrics;
+
+import java.io.IOException;
+import java.util.Map;
+
+import org.apache.lucene.geo.XYEncodingUtils;
+import org.apache.lucene.index.BinaryDocValues;
+import org.apache.lucene.index.DocValues;
+import org.apache.lucene.index.LeafReaderContext;
+import org.apache.lucene.index.SortedNumericDocValues;
+import org.opensearch.geospatial.index.mapper.xyshape.XYShapeDocValues;
+import org.opensearch.geospatial.index.mapper.xyshape.XYShapeFieldMapper;
+import org.opensearch.index.mapper.MappedFieldType;
+import org.opensearch.search.aggregations.Aggregator;
+import org.opensearch.search.aggregations.LeafBucketCollector;
+import org.opensearch.search.aggregations.LeafBucketCollectorBase;
+import org.opensearch.search.aggregations.metrics.MetricsAggregator;
+import org.opensearch.search.internal.SearchContext;
+
+/**
+ * Base aggregator of metrics over doc values of xy_point and xy_shape fields. Every point of an xy_point field is
+ * collected by {@link #collectPoint(long, double, double)}, while, an xy_shape field is collected once per document by
+ * {@link #collectShape(long, XYShapeDocValues)}, whose bounding box and centroid are read without decoding triangles.
+ */
+public abstract class XYMetricsAggregator extends MetricsAggregator {
+
+    // null if field is not mapped
+    private final String field;
+    private final boolean shape;
+
+    protected XYMetricsAggregator(
+        String name,
+        MappedFieldType fieldType,
+        SearchContext context,
+        Aggregator parent,
+        Map<String, Object> metadata
+    ) throws IOException {
+        super(name, context, parent, metadata);
+        this.field = fieldType == null ? null : fieldType.name();
+        this.shape = fieldType instanceof XYShapeFieldMapper.XYShapeFieldType;
+    }
+
+    @Override
+    public LeafBucketCollector getLeafCollector(LeafReaderContext ctx, LeafBucketCollector sub) throws IOException {
+        if (field == null) {
+            return LeafBucketCollector.NO_OP_COLLECTOR;
+        }
+        if (shape) {
+            final BinaryDocValues values = DocValues.getBinary(ctx.reader(), field);
+            final XYShapeDocValues shapeValues = new XYShapeDocValues();
+            return new LeafBucketCollectorBase(sub, values) {
+                @Override
+                public void collect(int doc, long bucket) throws IOException {
+                    if (values.advanceExact(doc)) {
+                        shapeValues.reset(values.binaryValue());
+                        collectShape(bucket, shapeValues);
+                    }
+                }
+            };
+        }
+        final SortedNumericDocValues values = DocValues.getSortedNumeric(ctx.reader(), field);
+        return new LeafBucketCollectorBase(sub, values) {
+            @Override
+            public void collect(int doc, long bucket) throws IOException {
+                if (values.advanceExact(doc) == false) {
+                    return;
+                }
+                for (int i = 0; i < values.docValueCount(); i++) {
+                    // same encoding as XYDocValuesField, x in the upper 32 bits, and, y in the lower 32 bits
+                    final long encoded = values.nextValue();
+                    collectPoint(bucket, XYEncodingUtils.decode((int) (encoded >>> 32)), XYEncodingUtils.decode((int) encoded));
+                }
+            }
+        };
+    }
+
+    /**
+     * @return true if field of the aggregation is mapped
+     */
+    protected boolean isMapped() {
+        return field != null;
+    }
+
+    /**
+     * Collect a point of an xy_point field
+     * @param bucket ordinal of the bucket
+     * @param x x of the point
+     * @param y y of the point
+     */
+    protected abstract void collectPoint(long bucket, double x, double y);
+
+    /**
+     * Collect doc values of an xy_shape field of a document
+     * @param bucket ordinal of the bucket
+     * @param shape doc values of the document
+     */
+    protected abstract void collectShape(long bucket, XYShapeDocValues shape);
+}
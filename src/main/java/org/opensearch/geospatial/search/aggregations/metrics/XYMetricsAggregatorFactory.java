@@ -0,0 +1,61 @@
+/*
+ * Copyright OpenSearch Contributors
+ * SPDX-License-Identifier: Apache-2.0
+ */
+
+package org.opensearch.geospatial.search.aggregations.metrics;
+
+import java.io.IOException;
+import java.util.Map;
+
+import org.opensearch.index.query.QueryShardContext;
+import org.opensearch.search.aggregations.Aggregator;
+import org.opensearch.search.aggregations.AggregatorFactories;
+import org.opensearch.search.aggregations.AggregatorFactory;
+import org.opensearch.search.aggregations.CardinalityUpperBound;
+import org.opensearch.search.internal.SearchContext;
+
+/**
+ * Factory of aggregators of {@link XYMetricsAggregationBuilder}s
+ */
+public class XYMetricsAggregatorFactory extends AggregatorFactory {
+
+    /**
+     * Creates aggregator of an xy metrics aggregation
+     */
+    @FunctionalInterface
+    public interface AggregatorSupplier {
+        XYMetricsAggregator build(String name, SearchContext searchContext, Aggregator parent, Map<String, Object> metadata)
+            throws IOException;
+    }
+
+    private final AggregatorSupplier aggregatorSupplier;
+
+    public XYMetricsAggregatorFactory(
+        String name,
+        QueryShardContext queryShardContext,
+        AggregatorFactory parent,
+        AggregatorFactories.Builder subFactoriesBuilder,
+        Map<String, Object> metadata,
+        AggregatorSupplier aggregatorSupplier
+    ) throws IOException {
+        super(name, queryShardContext, parent, subFactoriesBuilder, metadata);
+        this.aggregatorSupplier = aggregatorSupplier;
+    }
+
+    @Override
+    protected Aggregator createInternal(
+        SearchContext searchContext,
+        Aggregator parent,
+        CardinalityUpperBound cardinality,
+        Map<String, Object> metadata
+    ) throws IOException {
+        return aggregatorSupplier.build(name, searchContext, parent, metadata);
+    }
+
+    @Override
+    protected boolean supportsConcurrentSegmentSearch() {
+        // metrics of slices are reduced same as metrics of shards
+        return true;
+    }
+}
@@ -0,0 +1,167 @@
+/*
+ * Copyright OpenSearch Contributors
+ * SPDX-License-Identifier: Apache-2.0
+ */
+
+package org.opensearch.geospatial.search.fetch;
+
+import java.io.IOException;
+import java.nio.charset.StandardCharsets;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Map;
+
+import org.apache.lucene.index.LeafReaderContext;
+import org.opensearch.common.xcontent.XContentHelper;
+import org.opensearch.core.common.bytes.BytesReference;
+import org.opensearch.core.xcontent.MediaType;
+import org.opensearch.core.xcontent.MediaTypeRegistry;
+import org.opensearch.core.xcontent.XContentBuilder;
+import org.opensearch.geospatial.annotation.VisibleForTesting;
+import org.opensearch.geospatial.encoding.CompactGeometryEncoding;
+import org.opensearch.geospatial.index.mapper.xyshape.XYShapeFieldMapper;
+import org.opensearch.index.mapper.DocumentMapper;
+import org.opensearch.index.mapper.Mapper;
+import org.opensearch.search.SearchHit;
+import org.opensearch.search.fetch.FetchContext;
+import org.opensearch.search.fetch.FetchSubPhase;
+import org.opensearch.search.fetch.FetchSubPhaseProcessor;
+
+/**
+ * Expands geometries of xy_shape fields which are stored by {@link CompactGeometryEncoding} back to GeoJSON
+ * in the source of fetched hits, so that compact geometries are decoded only for the hits which are returned.
+ * It runs after source is fetched, hence, only fields which are included in the fetched source are expanded.
+ * Nothing is done for indices without xy_shape fields, or, if source is not fetched. Source of a hit is parsed only if its
+ * bytes contain the prefix of compact geometries, and, it is written back in its original content type.
+ * Geometries are expanded only in search hits. Get, multi get, _source endpoint and update scripts don't run fetch
+ * phase, hence, they see compact geometries as they are stored.
+ */
+public class CompactGeometryFetchSubPhase implements FetchSubPhase {
+    private static final String PATH_SEPARATOR = "\\.";
+    private static final byte[] PREFIX_BYTES = CompactGeometryEncoding.PREFIX.getBytes(StandardCharsets.UTF_8);
+
+    @Override
+    public FetchSubPhaseProcessor getProcessor(FetchContext fetchContext) {
+        if (fetchContext.fetchSourceContext() == null || !fetchContext.fetchSourceContext().fetchSource()) {
+            return null;
+        }
+        final DocumentMapper documentMapper = fetchContext.mapperService().documentMapper();
+        if (documentMapper == null) {
+            return null;
+        }
+        final List<String[]> paths = new ArrayList<>();
+        for (Mapper mapper : documentMapper.mappers()) {
+            if (mapper instanceof XYShapeFieldMapper) {
+                paths.add(mapper.name().split(PATH_SEPARATOR));
+            }
+        }
+        if (paths.isEmpty()) {
+            return null;
+        }
+        return new FetchSubPhaseProcessor() {
+            @Override
+            public void setNextReader(LeafReaderContext readerContext) {
+                // geometries are read from source of hits, hence, nothing to be done per segment
+            }
+
+            @Override
+            public void process(HitContext hitContext) throws IOException {
+                expand(hitContext.hit(), paths);
+            }
+        };
+    }
+
+    /**
+     * Replaces compact geometries at given paths of source of a hit, keeping the content type of the source
+     * @param hit search hit
+     * @param paths paths of xy_shape fields, split by their objects
+     * @throws IOException if source cannot be written
+     */
+    @VisibleForTesting
+    static void expand(final SearchHit hit, final List<String[]> paths) throws IOException {
+        if (!hit.hasSource() || !containsPrefix(hit.getSourceRef())) {
+            return;
+        }
+        final MediaType mediaType = MediaTypeRegistry.xContentType(hit.getSourceRef());
+        final Map<String, Object> source = XContentHelper.convertToMap(hit.getSourceRef(), true, mediaType).v2();
+        if (expand(source, paths)) {
+            hit.sourceRef(BytesReference.bytes(XContentBuilder.builder(mediaType.xContent()).map(source)));
+        }
+    }
+
+    /**
+     * Scans bytes of source in place for the prefix of compact geometries, so that source of hits without any compact
+     * geometry is neither decoded to a String, nor, parsed
+     * @param source source of a document
+     * @return true if source contains the prefix of compact geometries
+     */
+    @VisibleForTesting
+    static boolean containsPrefix(final BytesReference source) {
+        final int last = source.length() - PREFIX_BYTES.length;
+        int from = 0;
+        while (from <= last) {
+            final int index = source.indexOf(PREFIX_BYTES[0], from);
+            if (index < 0 || index > last) {
+                return false;
+            }
+            int matched = 1;
+            while (matched < PREFIX_BYTES.length && source.get(index + matched) == PREFIX_BYTES[matched]) {
+                matched++;
+            }
+            if (matched == PREFIX_BYTES.length) {
+                return true;
+            }
+            from = index + 1;
+        }
+        return false;
+    }
+
+    /**
+     * Replaces compact geometries at given paths of source by their GeoJSON geometry object
+     * @param source source of a document
+     * @param paths paths of xy_shape fields, split by their objects
+     * @return true if any geometry is replaced
+     */
+    @VisibleForTesting
+    static boolean expand(final Map<String, Object> source, final List<String[]> paths) {
+        boolean expanded = false;
+        for (String[] path : paths) {
+            expanded |= expand(source, path, 0);
+        }
+        return expanded;
+    }
+
+    private static boolean expand(final Object value, final String[] path, final int depth) {
+        if (value instanceof List) {
+            boolean expanded = false;
+            for (Object element : (List<?>) value) {
+                expanded |= expand(element, path, depth);
+            }
+            return expanded;
+        }
+        if (!(value instanceof Map)) {
+            return false;
+        }
+        final Map<String, Object> object = (Map<String, Object>) value;
+        final Object member = object.get(path[depth]);
+        if (depth < path.length - 1) {
+            return expand(member, path, depth + 1);
+        }
+        if (CompactGeometryEncoding.isEncoded(member)) {
+            object.put(path[depth], CompactGeometryEncoding.toGeoJSON((String) member));
+            return true;
+        }
+        if (member instanceof List) {
+            final List<Object> geometries = (List<Object>) member;
+            boolean expanded = false;
+            for (int i = 0; i < geometries.size(); i++) {
+                if (CompactGeometryEncoding.isEncoded(geometries.get(i))) {
+                    geometries.set(i, CompactGeometryEncoding.toGeoJSON((String) geometries.get(i)));
+                    expanded = true;
+                }
+            }
+            return expanded;
+        }
+        return false;
+    }
+}
@@ -0,0 +1,320 @@
+/*
+ * Copyright OpenSearch Contributors
+ * SPDX-License-Identifier: Apache-2.0
+ */
+
+package org.opensearch.geospatial.search.sort;
+
+import java.io.IOException;
+import java.util.Locale;
+import java.util.Objects;
+
+import org.apache.lucene.document.XYDocValuesField;
+import org.apache.lucene.index.LeafReaderContext;
+import org.apache.lucene.search.FieldComparator;
+import org.apache.lucene.search.Pruning;
+import org.apache.lucene.search.SortField;
+import org.opensearch.core.ParseField;
+import org.opensearch.core.common.ParsingException;
+import org.opensearch.core.common.io.stream.StreamInput;
+import org.opensearch.core.common.io.stream.StreamOutput;
+import org.opensearch.core.xcontent.XContentBuilder;
+import org.opensearch.core.xcontent.XContentParser;
+import org.opensearch.geospatial.index.mapper.xypoint.XYPoint;
+import org.opensearch.geospatial.index.mapper.xypoint.XYPointDistanceValues;
+import org.opensearch.geospatial.index.mapper.xypoint.XYPointFieldMapper;
+import org.opensearch.geospatial.index.mapper.xypoint.XYPointParser;
+import org.opensearch.index.fielddata.NumericDoubleValues;
+import org.opensearch.index.fielddata.SortedNumericDoubleValues;
+import org.opensearch.index.fielddata.fieldcomparator.DoubleValuesComparatorSource;
+import org.opensearch.index.mapper.MappedFieldType;
+import org.opensearch.index.query.QueryRewriteContext;
+import org.opensearch.index.query.QueryShardContext;
+import org.opensearch.search.DocValueFormat;
+import org.opensearch.search.MultiValueMode;
+import org.opensearch.search.sort.BucketedSort;
+import org.opensearch.search.sort.SortBuilder;
+import org.opensearch.search.sort.SortFieldAndFormat;
+import org.opensearch.search.sort.SortMode;
+import org.opensearch.search.sort.SortOrder;
+
+/**
+ * Sorts documents by euclidean distance of points of an xy_point field from an origin, as "_xy_distance".
+ * Documents are sorted by distances of every point of a document, selected by the sort mode. The sort field is a plain
+ * {@link SortField} with a {@link DoubleValuesComparatorSource}, since top docs of shards are serialized to the coordinating
+ * node, which supports sort fields of field data only, and, merges them as doubles. Ascending sort with min mode compares
+ * documents by the comparator of {@link XYDocValuesField#newDistanceSort(String, float, float)}, which skips computing the
+ * distance of documents outside the bounding box of the current bottom hit.
+ */
+public class XYDistanceSortBuilder extends SortBuilder<XYDistanceSortBuilder> {
+
+    public static final String NAME = "_xy_distance";
+    public static final ParseField SORT_MODE_FIELD = new ParseField("mode", "sort_mode");
+    public static final ParseField IGNORE_UNMAPPED_FIELD = new ParseField("ignore_unmapped");
+    private static final ParseField ORDER = new ParseField("order");
+    private static final String X_PARAMETER = "x";
+    private static final String Y_PARAMETER = "y";
+    // documents without value are sorted last in either order
+    private static final String MISSING_LAST = "_last";
+
+    private final String fieldName;
+    private final double x;
+    private final double y;
+    private SortMode sortMode = SortMode.MIN;
+    private boolean ignoreUnmapped;
+
+    /**
+     * @param fieldName name of xy_point field
+     * @param x x of the origin
+     * @param y y of the origin
+     */
+    public XYDistanceSortBuilder(String fieldName, double x, double y) {
+        this.fieldName = Objects.requireNonNull(fieldName, "field name cannot be null");
+        this.x = x;
+        this.y = y;
+    }
+
+    public XYDistanceSortBuilder(StreamInput in) throws IOException {
+        this.fieldName = in.readString();
+        this.x = in.readDouble();
+        this.y = in.readDouble();
+        this.order = SortOrder.readFromStream(in);
+        this.sortMode = SortMode.readFromStream(in);
+        this.ignoreUnmapped = in.readBoolean();
+    }
+
+    @Override
+    public void writeTo(StreamOutput out) throws IOException {
+        out.writeString(fieldName);
+        out.writeDouble(x);
+        out.writeDouble(y);
+        order.writeTo(out);
+        sortMode.writeTo(out);
+        out.writeBoolean(ignoreUnmapped);
+    }
+
+    public String fieldName() {
+        return fieldName;
+    }
+
+    public double x() {
+        return x;
+    }
+
+    public double y() {
+        return y;
+    }
+
+    /**
+     * @param sortMode which distance of a document with multiple points is used to sort, min by default
+     * @return this builder
+     * @throws IllegalArgumentException if sort mode is sum, which has no meaning for distances
+     */
+    public XYDistanceSortBuilder sortMode(SortMode sortMode) {
+        Objects.requireNonNull(sortMode, "sort mode cannot be null");
+        if (sortMode == SortMode.SUM) {
+            throw new IllegalArgumentException("sort_mode [sum] isn't supported for sorting by xy distance");
+        }
+        this.sortMode = sortMode;
+        return this;
+    }
+
+    public SortMode sortMode() {
+        return sortMode;
+    }
+
+    /**
+     * @param ignoreUnmapped if true, documents of indices without the field are sorted as if they don't have a value
+     * @return this builder
+     */
+    public XYDistanceSortBuilder ignoreUnmapped(boolean ignoreUnmapped) {
+        this.ignoreUnmapped = ignoreUnmapped;
+        return this;
+    }
+
+    public boolean ignoreUnmapped() {
+        return ignoreUnmapped;
+    }
+
+    @Override
+    protected SortFieldAndFormat build(QueryShardContext context) throws IOException {
+        validateField(context);
+        final MultiValueMode multiValueMode = MultiValueMode.fromString(sortMode.toString());
+        final boolean nearestFirst = order == SortOrder.ASC && sortMode == SortMode.MIN;
+        final DoubleValuesComparatorSource comparatorSource = new DoubleValuesComparatorSource(null, MISSING_LAST, multiValueMode, null) {
+            @Override
+            protected SortedNumericDoubleValues getValues(LeafReaderContext ctx) throws IOException {
+                return XYPointDistanceValues.of(ctx.reader(), fieldName, (float) x, (float) y);
+            }
+
+            @Override
+            public FieldComparator<?> newComparator(String fieldname, int numHits, Pruning pruning, boolean reversed) {
+                if (nearestFirst) {
+                    // same distances and missing value, but, distance is computed only for documents which may be competitive
+                    return XYDocValuesField.newDistanceSort(fieldName, (float) x, (float) y).getComparator(numHits, pruning);
+                }
+                return super.newComparator(fieldname, numHits, pruning, reversed);
+            }
+        };
+        // points of the field have two dimensions, hence, they can't be used to skip non competitive documents
+        comparatorSource.disableSkipping();
+        return new SortFieldAndFormat(new SortField(fieldName, comparatorSource, order == SortOrder.DESC), DocValueFormat.RAW);
+    }
+
+    @Override
+    public BucketedSort buildBucketedSort(QueryShardContext context, int bucketSize, BucketedSort.ExtraData extra) throws IOException {
+        validateField(context);
+        final MultiValueMode multiValueMode = MultiValueMode.fromString(sortMode.toString());
+        return new BucketedSort.ForDoubles(context.bigArrays(), order, DocValueFormat.RAW, bucketSize, extra) {
+            @Override
+            public Leaf forLeaf(LeafReaderContext ctx) throws IOException {
+                return new Leaf(ctx) {
+                    private final NumericDoubleValues distances = multiValueMode.select(
+                        XYPointDistanceValues.of(ctx.reader(), fieldName, (float) x, (float) y)
+                    );
+                    private double distance;
+
+                    @Override
+                    protected boolean advanceExact(int doc) throws IOException {
+                        if (distances.advanceExact(doc) == false) {
+                            return false;
+                        }
+                        distance = distances.doubleValue();
+                        return true;
+                    }
+
+                    @Override
+                    protected double docValue() {
+                        return distance;
+                    }
+                };
+            }
+        };
+    }
+
+    // unmapped field is valid if it is ignored, where every document is sorted as missing
+    private void validateField(QueryShardContext context) {
+        final MappedFieldType fieldType = context.fieldMapper(fieldName);
+        if (fieldType == null) {
+            if (ignoreUnmapped) {
+                return;
+            }
+            throw new IllegalArgumentException(
+                String.format(Locale.ROOT, "failed to find mapper for [%s] for xy distance based sort", fieldName)
+            );
+        }
+        if (fieldType instanceof XYPointFieldMapper.XYPointFieldType == false) {
+            throw new IllegalArgumentException(
+                String.format(
+                    Locale.ROOT,
+                    "field [%s] of type [%s] is not supported for xy distance based sort, expected [%s]",
+                    fieldName,
+                    fieldType.typeName(),
+                    XYPointFieldMapper.CONTENT_TYPE
+                )
+            );
+        }
+        if (fieldType.hasDocValues() == false) {
+            throw new IllegalArgumentException(
+                String.format(Locale.ROOT, "field [%s] should have doc values for xy distance based sort", fieldName)
+            );
+        }
+    }
+
+    @Override
+    public XYDistanceSortBuilder rewrite(QueryRewriteContext ctx) {
+        return this;
+    }
+
+    @Override
+    public String getWriteableName() {
+        return NAME;
+    }
+
+    @Override
+    public XContentBuilder toXContent(XContentBuilder builder, Params params) throws IOException {
+        builder.startObject();
+        builder.startObject(NAME);
+        builder.startObject(fieldName).field(X_PARAMETER, x).field(Y_PARAMETER, y).endObject();
+        builder.field(ORDER.getPreferredName(), order);
+        builder.field(SORT_MODE_FIELD.getPreferredName(), sortMode);
+        builder.field(IGNORE_UNMAPPED_FIELD.getPreferredName(), ignoreUnmapped);
+        builder.endObject();
+        return builder.endObject();
+    }
+
+    /**
+     * Parse "_xy_distance" sort, whose origin is any representation of xy_point, e.g.
+     * <pre>
+     * "_xy_distance": {
+     *     "location": { "x": 10, "y": 20 },
+     *     "order": "asc",
+     *     "mode": "min",
+     *     "ignore_unmapped": false
+     * }
+     * </pre>
+     * @param parser parser positioned at the start of the sort object
+     * @param elementName name of the sort
+     * @return sort builder
+     * @throws IOException if the sort cannot be parsed
+     */
+    public static XYDistanceSortBuilder fromXContent(XContentParser parser, String elementName) throws IOException {
+        String fieldName = null;
+        XYPoint origin = null;
+        SortOrder order = SortOrder.ASC;
+        SortMode sortMode = null;
+        boolean ignoreUnmapped = false;
+        String currentName = null;
+        XContentParser.Token token;
+        while ((token = parser.nextToken()) != XContentParser.Token.END_OBJECT) {
+            if (token == XContentParser.Token.FIELD_NAME) {
+                currentName = parser.currentName();
+            } else if (ORDER.match(currentName, parser.getDeprecationHandler())) {
+                order = SortOrder.fromString(parser.text());
+            } else if (SORT_MODE_FIELD.match(currentName, parser.getDeprecationHandler())) {
+                sortMode = SortMode.fromString(parser.text());
+            } else if (IGNORE_UNMAPPED_FIELD.match(currentName, parser.getDeprecationHandler())) {
+                ignoreUnmapped = parser.booleanValue();
+            } else if (fieldName == null) {
+                fieldName = currentName;
+                origin = XYPointParser.parseXYPoint(parser, true);
+            } else {
+                throw new ParsingException(
+                    parser.getTokenLocation(),
+                    String.format(Locale.ROOT, "[%s] doesn't support multiple fields, found [%s] and [%s]", NAME, fieldName, currentName)
+                );
+            }
+        }
+        if (fieldName == null) {
+            throw new ParsingException(parser.getTokenLocation(), String.format(Locale.ROOT, "[%s] requires a field and an origin", NAME));
+        }
+        final XYDistanceSortBuilder sortBuilder = new XYDistanceSortBuilder(fieldName, origin.getX(), origin.getY());
+        sortBuilder.order(order);
+        if (sortMode != null) {
+            sortBuilder.sortMode(sortMode);
+        }
+        return sortBuilder.ignoreUnmapped(ignoreUnmapped);
+    }
+
+    @Override
+    public boolean equals(Object other) {
+        if (this == other) {
+            return true;
+        }
+        if (other == null || getClass() != other.getClass()) {
+            return false;
+        }
+        final XYDistanceSortBuilder that = (XYDistanceSortBuilder) other;
+        return Objects.equals(fieldName, that.fieldName)
+            && Double.compare(x, that.x) == 0
+            && Double.compare(y, that.y) == 0
+            && order == that.order
+            && sortMode == that.sortMode
+            && ignoreUnmapped == that.ignoreUnmapped;
+    }
+
+    @Override
+    public int hashCode() {
+        return Objects.hash(fieldName, x, y, order, sortMode, ignoreUnmapped);
+    }
+}
@@ -4,6 +4,9 @@
  */
 package org.opensearch.geospatial.settings;
 
+import java.util.List;
+
+import org.opensearch.action.support.WriteRequest;
 import org.opensearch.common.settings.Setting;
 
 public final class GeospatialSettings {
@@ -39,4 +42,37 @@ public final class GeospatialSettings {
         Setting.Property.NodeScope,
         Setting.Property.Dynamic
     );
+
+    // Max number of bulk requests in flight at a time while indexing uploaded GeoJSON
+    public static final Setting<Integer> MAX_CONCURRENT_BULK_REQUESTS = Setting.intSetting(
+        "plugins.geospatial.geojson.max_concurrent_bulk_requests",
+        2,
+        1,
+        Setting.Property.NodeScope,
+        Setting.Property.Dynamic
+    );
+
+    // Refresh policy of bulk requests while indexing uploaded GeoJSON, accepts "true", "false" and "wait_for"
+    public static final Setting<WriteRequest.RefreshPolicy> UPLOAD_REFRESH_POLICY = new Setting<>(
+        "plugins.geospatial.geojson.refresh_policy",
+        WriteRequest.RefreshPolicy.WAIT_UNTIL.getValue(),
+        WriteRequest.RefreshPolicy::parse,
+        Setting.Property.NodeScope,
+        Setting.Property.Dynamic
+    );
+
+    /**
+     * Return all settings of GeoJSON upload
+     * @return a list of all settings for GeoJSON upload
+     */
+    public static List<Setting<?>> settings() {
+        return List.of(
+            MAX_COORDINATES_PER_GEOMETRY,
+            MAX_HOLES_PER_POLYGON,
+            MAX_MULTI_GEOMETRIES,
+            MAX_GEOMETRY_COLLECTION_NESTED_DEPTH,
+            MAX_CONCURRENT_BULK_REQUESTS,
+            UPLOAD_REFRESH_POLICY
+        );
+    }
 }
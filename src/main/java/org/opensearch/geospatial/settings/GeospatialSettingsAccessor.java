@@ -4,6 +4,7 @@
  */
 package org.opensearch.geospatial.settings;
 
+import org.opensearch.action.support.WriteRequest;
 import org.opensearch.cluster.service.ClusterService;
 import org.opensearch.common.settings.Settings;
 
@@ -18,6 +19,10 @@ public class GeospatialSettingsAccessor {
     private volatile int maxMultiGeometries;
     @Getter
     private volatile int maxGeometryCollectionNestedDepth;
+    @Getter
+    private volatile int maxConcurrentBulkRequests;
+    @Getter
+    private volatile WriteRequest.RefreshPolicy uploadRefreshPolicy;
 
     /**
      * Constructor, registers callbacks to update settings
@@ -29,6 +34,8 @@ public class GeospatialSettingsAccessor {
         maxHolesPerPolygon = GeospatialSettings.MAX_HOLES_PER_POLYGON.get(settings);
         maxMultiGeometries = GeospatialSettings.MAX_MULTI_GEOMETRIES.get(settings);
         maxGeometryCollectionNestedDepth = GeospatialSettings.MAX_GEOMETRY_COLLECTION_NESTED_DEPTH.get(settings);
+        maxConcurrentBulkRequests = GeospatialSettings.MAX_CONCURRENT_BULK_REQUESTS.get(settings);
+        uploadRefreshPolicy = GeospatialSettings.UPLOAD_REFRESH_POLICY.get(settings);
         registerSettingsCallbacks(clusterService);
     }
 
@@ -45,5 +52,11 @@ public class GeospatialSettingsAccessor {
         clusterService.getClusterSettings().addSettingsUpdateConsumer(GeospatialSettings.MAX_GEOMETRY_COLLECTION_NESTED_DEPTH, value -> {
             maxGeometryCollectionNestedDepth = value;
         });
+        clusterService.getClusterSettings().addSettingsUpdateConsumer(GeospatialSettings.MAX_CONCURRENT_BULK_REQUESTS, value -> {
+            maxConcurrentBulkRequests = value;
+        });
+        clusterService.getClusterSettings().addSettingsUpdateConsumer(GeospatialSettings.UPLOAD_REFRESH_POLICY, value -> {
+            uploadRefreshPolicy = value;
+        });
     }
 }
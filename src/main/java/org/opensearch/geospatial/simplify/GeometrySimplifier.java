@@ -0,0 +1,89 @@
+/*
+ * Copyright OpenSearch Contributors
+ * SPDX-License-Identifier: Apache-2.0
+ */
+
+package org.opensearch.geospatial.simplify;
+
+import java.util.Locale;
+import java.util.Map;
+import java.util.Objects;
+
+import org.locationtech.jts.geom.Geometry;
+import org.locationtech.jts.simplify.TopologyPreservingSimplifier;
+import org.opensearch.geospatial.jts.JTSGeoJSONConverter;
+import org.opensearch.geospatial.jts.JTSGeometryConverter;
+
+import lombok.Getter;
+
+/**
+ * GeometrySimplifier reduces vertices of a geometry before it is indexed, using topology preserving simplification,
+ * where no vertex is moved more than the tolerance, rings are not collapsed, and, rings and lines don't start to
+ * intersect each other. Tolerance is in the units of the coordinates, that is, degrees for geo_shape, and,
+ * cartesian units for xy_shape. Geometries which cannot be simplified, like points, circles and envelopes, are not changed.
+ */
+public final class GeometrySimplifier {
+    @Getter
+    private final double tolerance;
+
+    /**
+     * @param tolerance max distance a vertex can be moved from its original position
+     * @throws IllegalArgumentException if tolerance is not positive
+     */
+    public GeometrySimplifier(final double tolerance) {
+        validateTolerance(tolerance);
+        this.tolerance = tolerance;
+    }
+
+    /**
+     * Validates tolerance of simplification
+     * @param tolerance max distance a vertex can be moved from its original position
+     * @throws IllegalArgumentException if tolerance is not positive
+     */
+    public static void validateTolerance(final double tolerance) {
+        if (!(tolerance > 0) || Double.isInfinite(tolerance)) {
+            throw new IllegalArgumentException(
+                String.format(Locale.ROOT, "simplification tolerance [ %s ] should be a positive number", tolerance)
+            );
+        }
+    }
+
+    /**
+     * Simplifies a geometry of xy_shape field
+     * @param geometry geometry to be simplified
+     * @return simplified geometry
+     */
+    public SimplifiedGeometry<org.opensearch.geometry.Geometry> simplify(final org.opensearch.geometry.Geometry geometry) {
+        Objects.requireNonNull(geometry, "geometry cannot be null");
+        final Geometry jtsGeometry = geometry.visit(JTSGeometryConverter.TO_JTS);
+        if (jtsGeometry == null) {
+            return new SimplifiedGeometry<>(geometry, 0, 0);
+        }
+        final Geometry simplified = simplify(jtsGeometry);
+        return new SimplifiedGeometry<>(
+            JTSGeometryConverter.fromJTS(simplified),
+            jtsGeometry.getNumPoints(),
+            simplified.getNumPoints()
+        );
+    }
+
+    /**
+     * Simplifies a GeoJSON geometry object
+     * @param geometry GeoJSON geometry object to be simplified
+     * @return simplified GeoJSON geometry object, same object if geometry cannot be simplified
+     * @throws IllegalArgumentException if geometry is not a valid GeoJSON geometry object
+     */
+    public SimplifiedGeometry<Map<String, Object>> simplify(final Map<String, Object> geometry) {
+        Objects.requireNonNull(geometry, "geometry cannot be null");
+        final Geometry jtsGeometry = JTSGeoJSONConverter.toJTS(geometry);
+        if (jtsGeometry == null) {
+            return new SimplifiedGeometry<>(geometry, 0, 0);
+        }
+        final Geometry simplified = simplify(jtsGeometry);
+        return new SimplifiedGeometry<>(JTSGeoJSONConverter.fromJTS(simplified), jtsGeometry.getNumPoints(), simplified.getNumPoints());
+    }
+
+    private Geometry simplify(final Geometry geometry) {
+        return TopologyPreservingSimplifier.simplify(geometry, tolerance);
+    }
+}
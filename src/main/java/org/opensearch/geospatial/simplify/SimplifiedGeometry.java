@@ -0,0 +1,21 @@
+/*
+ * Copyright OpenSearch Contributors
+ * SPDX-License-Identifier: Apache-2.0
+ */
+
+package org.opensearch.geospatial.simplify;
+
+import lombok.AllArgsConstructor;
+import lombok.Getter;
+
+/**
+ * Geometry simplified by {@link GeometrySimplifier}, with number of vertices before and after the simplification
+ * @param <T> representation of the geometry
+ */
+@Getter
+@AllArgsConstructor
+public final class SimplifiedGeometry<T> {
+    private final T geometry;
+    private final long vertexCount;
+    private final long simplifiedVertexCount;
+}
@@ -0,0 +1,183 @@
+/*
+ * Copyright OpenSearch Contributors
+ * SPDX-License-Identifier: Apache-2.0
+ */
+
+package org.opensearch.geospatial.stats.upload;
+
+import java.io.IOException;
+import java.util.Locale;
+import java.util.Objects;
+import java.util.concurrent.atomic.LongAdder;
+
+import org.opensearch.core.common.io.stream.StreamInput;
+import org.opensearch.core.common.io.stream.StreamOutput;
+import org.opensearch.core.common.io.stream.Writeable;
+import org.opensearch.core.xcontent.ToXContentFragment;
+import org.opensearch.core.xcontent.XContentBuilder;
+
+/**
+ * Histogram of upload durations in milliseconds with a fixed number of log-linear buckets, hence, memory
+ * used is constant regardless of the number of recorded durations. Every power of two is divided into
+ * {@link #SUB_BUCKETS} buckets, so that a percentile is within 12.5% of the exact value, while durations
+ * less than {@link #SUB_BUCKETS} are exact. Every bucket is a {@link LongAdder}, hence, recording doesn't block.
+ */
+public final class DurationHistogram implements Writeable, ToXContentFragment {
+
+    public enum FIELDS {
+        P50,
+        P95,
+        P99;
+
+        @Override
+        public String toString() {
+            return name().toLowerCase(Locale.ROOT);
+        }
+    }
+
+    private static final int SUB_BUCKET_BITS = 3;
+    static final int SUB_BUCKETS = 1 << SUB_BUCKET_BITS;
+    // buckets of values less than SUB_BUCKETS, and, SUB_BUCKETS buckets for every power of two from SUB_BUCKETS to 2^62
+    static final int NUMBER_OF_BUCKETS = (Long.SIZE - SUB_BUCKET_BITS) * SUB_BUCKETS;
+
+    private final LongAdder[] buckets;
+
+    public DurationHistogram() {
+        buckets = new LongAdder[NUMBER_OF_BUCKETS];
+        for (int i = 0; i < NUMBER_OF_BUCKETS; i++) {
+            buckets[i] = new LongAdder();
+        }
+    }
+
+    /**
+     * Get DurationHistogram from {@link StreamInput}, where only non-empty buckets are serialized.
+     * @param input contains {@link DurationHistogram} in serialized form
+     * @return DurationHistogram instance
+     * @throws IOException if cannot read {@link DurationHistogram} from given input
+     */
+    public static DurationHistogram fromStreamInput(StreamInput input) throws IOException {
+        Objects.requireNonNull(input, "StreamInput cannot be null");
+        DurationHistogram histogram = new DurationHistogram();
+        int nonEmptyBuckets = input.readVInt();
+        for (int i = 0; i < nonEmptyBuckets; i++) {
+            int index = input.readVInt();
+            if (index >= NUMBER_OF_BUCKETS) {
+                throw new IllegalArgumentException("bucket [ " + index + " ] is out of range");
+            }
+            histogram.buckets[index].add(input.readVLong());
+        }
+        return histogram;
+    }
+
+    /**
+     * Record a duration
+     * @param duration duration in milliseconds, negative value is recorded as zero
+     */
+    public void record(long duration) {
+        buckets[bucketIndex(Math.max(0, duration))].increment();
+    }
+
+    /**
+     * Add every recorded duration of other histogram to this histogram
+     * @param other histogram to merge into this one
+     */
+    public void add(DurationHistogram other) {
+        Objects.requireNonNull(other, "histogram cannot be null");
+        for (int i = 0; i < NUMBER_OF_BUCKETS; i++) {
+            long count = other.buckets[i].sum();
+            if (count > 0) {
+                buckets[i].add(count);
+            }
+        }
+    }
+
+    /**
+     * @return number of recorded durations
+     */
+    public long getCount() {
+        long count = 0;
+        for (LongAdder bucket : buckets) {
+            count += bucket.sum();
+        }
+        return count;
+    }
+
+    /**
+     * Get the duration at given percentile
+     * @param percentile percentile between 0 and 100
+     * @return highest duration of the bucket where percentile falls, 0 if no duration is recorded
+     */
+    public long getPercentile(double percentile) {
+        if (percentile < 0 || percentile > 100) {
+            throw new IllegalArgumentException("percentile [ " + percentile + " ] should be between 0 and 100");
+        }
+        final long[] counts = new long[NUMBER_OF_BUCKETS];
+        long total = 0;
+        for (int i = 0; i < NUMBER_OF_BUCKETS; i++) {
+            counts[i] = buckets[i].sum();
+            total += counts[i];
+        }
+        if (total == 0) {
+            return 0;
+        }
+        final long rank = Math.max(1, (long) Math.ceil(percentile / 100 * total));
+        long seen = 0;
+        for (int i = 0; i < NUMBER_OF_BUCKETS; i++) {
+            seen += counts[i];
+            if (seen >= rank) {
+                return highestValue(i);
+            }
+        }
+        return highestValue(NUMBER_OF_BUCKETS - 1);
+    }
+
+    static int bucketIndex(long value) {
+        if (value < SUB_BUCKETS) {
+            return (int) value;
+        }
+        int exponent = Long.SIZE - 1 - Long.numberOfLeadingZeros(value);
+        int subBucket = (int) (value >>> (exponent - SUB_BUCKET_BITS)) & (SUB_BUCKETS - 1);
+        return (exponent - SUB_BUCKET_BITS + 1) * SUB_BUCKETS + subBucket;
+    }
+
+    static long lowestValue(int index) {
+        if (index < SUB_BUCKETS) {
+            return index;
+        }
+        int exponent = index / SUB_BUCKETS + SUB_BUCKET_BITS - 1;
+        long subBucket = index % SUB_BUCKETS;
+        return (SUB_BUCKETS + subBucket) << (exponent - SUB_BUCKET_BITS);
+    }
+
+    static long highestValue(int index) {
+        return index == NUMBER_OF_BUCKETS - 1 ? Long.MAX_VALUE : lowestValue(index + 1) - 1;
+    }
+
+    @Override
+    public void writeTo(StreamOutput output) throws IOException {
+        final long[] counts = new long[NUMBER_OF_BUCKETS];
+        int nonEmptyBuckets = 0;
+        for (int i = 0; i < NUMBER_OF_BUCKETS; i++) {
+            counts[i] = buckets[i].sum();
+            if (counts[i] > 0) {
+                nonEmptyBuckets++;
+            }
+        }
+        output.writeVInt(nonEmptyBuckets);
+        for (int i = 0; i < NUMBER_OF_BUCKETS && nonEmptyBuckets > 0; i++) {
+            if (counts[i] > 0) {
+                output.writeVInt(i);
+                output.writeVLong(counts[i]);
+                nonEmptyBuckets--;
+            }
+        }
+    }
+
+    @Override
+    public XContentBuilder toXContent(XContentBuilder builder, Params params) throws IOException {
+        builder.field(FIELDS.P50.toString(), getPercentile(50));
+        builder.field(FIELDS.P95.toString(), getPercentile(95));
+        builder.field(FIELDS.P99.toString(), getPercentile(99));
+        return builder;
+    }
+}
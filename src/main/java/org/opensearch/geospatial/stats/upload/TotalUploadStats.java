@@ -6,8 +6,10 @@
 package org.opensearch.geospatial.stats.upload;
 
 import java.io.IOException;
+import java.util.HashMap;
 import java.util.List;
 import java.util.Locale;
+import java.util.Map;
 import java.util.Objects;
 import java.util.function.Function;
 
@@ -47,22 +49,22 @@ public final class TotalUploadStats implements ToXContentObject {
         long totalRequestCount = uploadStatsList.stream().mapToLong(UploadStats::getTotalAPICount).sum();
         builder.field(FIELDS.REQUEST_COUNT.toString(), totalRequestCount);
 
-        long totalUpload = sumMetricField(uploadStatsList, UploadMetric::getUploadCount);
-        builder.field(FIELDS.UPLOAD.toString(), totalUpload);
+        // counters of every node are merged, so that percentiles are of durations across all nodes
+        UploadCounters total = new UploadCounters();
+        uploadStatsList.stream().map(UploadStats::getTotal).forEach(total::add);
+        total.toXContent(builder, params);
 
-        long totalSuccess = sumMetricField(uploadStatsList, UploadMetric::getSuccessCount);
-        builder.field(FIELDS.SUCCESS.toString(), totalSuccess);
-
-        long totalFailed = sumMetricField(uploadStatsList, UploadMetric::getFailedCount);
-        builder.field(FIELDS.FAILED.toString(), totalFailed);
-
-        long totalDuration = sumMetricField(uploadStatsList, UploadMetric::getDuration);
-        builder.field(FIELDS.DURATION.toString(), totalDuration);
+        UploadStats.breakdownToXContent(builder, params, UploadStats.FIELDS.INDICES, mergeBreakdown(UploadStats::getIndices));
+        UploadStats.breakdownToXContent(builder, params, UploadStats.FIELDS.FIELD_TYPES, mergeBreakdown(UploadStats::getFieldTypes));
         return builder.endObject();
     }
 
-    private long sumMetricField(List<UploadStats> stats, Function<UploadMetric, Long> mapper) {
-        return stats.stream().map(UploadStats::getMetrics).flatMap(List::stream).mapToLong(mapper::apply).sum();
+    private Map<String, UploadCounters> mergeBreakdown(Function<UploadStats, Map<String, UploadCounters>> breakdown) {
+        Map<String, UploadCounters> merged = new HashMap<>();
+        for (UploadStats stats : uploadStatsList) {
+            breakdown.apply(stats).forEach((key, counters) -> merged.computeIfAbsent(key, notUsed -> new UploadCounters()).add(counters));
+        }
+        return merged;
     }
 
     /**
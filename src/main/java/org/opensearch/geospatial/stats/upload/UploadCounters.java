@@ -0,0 +1,167 @@
+/*
+ * Copyright OpenSearch Contributors
+ * SPDX-License-Identifier: Apache-2.0
+ */
+
+package org.opensearch.geospatial.stats.upload;
+
+import java.io.IOException;
+import java.util.Objects;
+import java.util.concurrent.atomic.LongAdder;
+
+import org.opensearch.core.common.io.stream.StreamInput;
+import org.opensearch.core.common.io.stream.StreamOutput;
+import org.opensearch.core.common.io.stream.Writeable;
+import org.opensearch.core.xcontent.ToXContentFragment;
+import org.opensearch.core.xcontent.XContentBuilder;
+
+/**
+ * UploadCounters aggregates {@link UploadMetric}s into sums, and, a histogram of durations, so that
+ * memory used doesn't grow with the number of uploads. Counters are {@link LongAdder}s, hence,
+ * concurrent uploads are recorded without contention.
+ */
+public final class UploadCounters implements Writeable, ToXContentFragment {
+
+    private final LongAdder uploads = new LongAdder();
+    private final LongAdder uploadCount = new LongAdder();
+    private final LongAdder successCount = new LongAdder();
+    private final LongAdder failedCount = new LongAdder();
+    private final LongAdder duration = new LongAdder();
+    private final LongAdder vertexCount = new LongAdder();
+    private final LongAdder simplifiedVertexCount = new LongAdder();
+    private final DurationHistogram durations = new DurationHistogram();
+
+    /**
+     * Get UploadCounters from {@link StreamInput}.
+     * @param input contains {@link UploadCounters} in serialized form
+     * @return UploadCounters instance
+     * @throws IOException if cannot read {@link UploadCounters} from given input
+     */
+    public static UploadCounters fromStreamInput(StreamInput input) throws IOException {
+        Objects.requireNonNull(input, "StreamInput cannot be null");
+        UploadCounters counters = new UploadCounters();
+        counters.uploads.add(input.readVLong());
+        counters.uploadCount.add(input.readVLong());
+        counters.successCount.add(input.readVLong());
+        counters.failedCount.add(input.readVLong());
+        counters.duration.add(input.readLong());
+        counters.vertexCount.add(input.readVLong());
+        counters.simplifiedVertexCount.add(input.readVLong());
+        counters.durations.add(DurationHistogram.fromStreamInput(input));
+        return counters;
+    }
+
+    /**
+     * Add metric of an upload to counters
+     * @param metric {@link UploadMetric} of an upload
+     */
+    public void record(UploadMetric metric) {
+        uploads.increment();
+        uploadCount.add(metric.getUploadCount());
+        successCount.add(metric.getSuccessCount());
+        failedCount.add(metric.getFailedCount());
+        duration.add(metric.getDuration());
+        vertexCount.add(metric.getVertexCount());
+        simplifiedVertexCount.add(metric.getSimplifiedVertexCount());
+        durations.record(metric.getDuration());
+    }
+
+    /**
+     * Add every counter of other counters to this counters
+     * @param other counters to merge into this one
+     */
+    public void add(UploadCounters other) {
+        Objects.requireNonNull(other, "counters cannot be null");
+        uploads.add(other.getUploads());
+        uploadCount.add(other.getUploadCount());
+        successCount.add(other.getSuccessCount());
+        failedCount.add(other.getFailedCount());
+        duration.add(other.getDuration());
+        vertexCount.add(other.getVertexCount());
+        simplifiedVertexCount.add(other.getSimplifiedVertexCount());
+        durations.add(other.durations);
+    }
+
+    /**
+     * @return number of recorded uploads
+     */
+    public long getUploads() {
+        return uploads.sum();
+    }
+
+    /**
+     * @return total number of documents to be uploaded
+     */
+    public long getUploadCount() {
+        return uploadCount.sum();
+    }
+
+    /**
+     * @return total number of documents that are successfully uploaded
+     */
+    public long getSuccessCount() {
+        return successCount.sum();
+    }
+
+    /**
+     * @return total number of documents that are failed to upload
+     */
+    public long getFailedCount() {
+        return failedCount.sum();
+    }
+
+    /**
+     * @return total time spent in milliseconds to upload
+     */
+    public long getDuration() {
+        return duration.sum();
+    }
+
+    /**
+     * @return total number of vertices of simplified geometries before simplification
+     */
+    public long getVertexCount() {
+        return vertexCount.sum();
+    }
+
+    /**
+     * @return total number of vertices of simplified geometries after simplification
+     */
+    public long getSimplifiedVertexCount() {
+        return simplifiedVertexCount.sum();
+    }
+
+    /**
+     * @return histogram of duration of every recorded upload
+     */
+    public DurationHistogram getDurations() {
+        return durations;
+    }
+
+    @Override
+    public void writeTo(StreamOutput output) throws IOException {
+        output.writeVLong(getUploads());
+        output.writeVLong(getUploadCount());
+        output.writeVLong(getSuccessCount());
+        output.writeVLong(getFailedCount());
+        // sum of durations may overflow, hence, it is not written as a variable length non-negative long
+        output.writeLong(getDuration());
+        output.writeVLong(getVertexCount());
+        output.writeVLong(getSimplifiedVertexCount());
+        durations.writeTo(output);
+    }
+
+    @Override
+    public XContentBuilder toXContent(XContentBuilder builder, Params params) throws IOException {
+        builder.field(UploadStats.FIELDS.UPLOADS.toString(), getUploads());
+        builder.field(UploadMetric.FIELDS.UPLOAD.toString(), getUploadCount());
+        builder.field(UploadMetric.FIELDS.SUCCESS.toString(), getSuccessCount());
+        builder.field(UploadMetric.FIELDS.FAILED.toString(), getFailedCount());
+        builder.field(UploadMetric.FIELDS.DURATION.toString(), getDuration());
+        builder.field(UploadMetric.FIELDS.VERTICES.toString(), getVertexCount());
+        builder.field(UploadMetric.FIELDS.SIMPLIFIED_VERTICES.toString(), getSimplifiedVertexCount());
+        builder.startObject(UploadStats.FIELDS.DURATION_PERCENTILES.toString());
+        durations.toXContent(builder, params);
+        return builder.endObject();
+    }
+}
@@ -28,9 +28,13 @@ public final class UploadMetric implements ToXContentFragment, Writeable {
         UPLOAD,
         DURATION,
         FAILED,
+        FIELD_TYPE,
         ID,
+        INDEX,
+        SIMPLIFIED_VERTICES,
         SUCCESS,
-        TYPE;
+        TYPE,
+        VERTICES;
 
         @Override
         public String toString() {
@@ -64,6 +68,26 @@ public final class UploadMetric implements ToXContentFragment, Writeable {
      */
     private final String type;
 
+    /**
+     * Index where documents are uploaded, null if unknown
+     */
+    private final String index;
+
+    /**
+     * Type of the geospatial field where geometries are uploaded, null if unknown
+     */
+    private final String fieldType;
+
+    /**
+     * Total number of vertices of geometries before simplification, 0 if geometries are not simplified
+     */
+    private final long vertexCount;
+
+    /**
+     * Total number of vertices of geometries after simplification, 0 if geometries are not simplified
+     */
+    private final long simplifiedVertexCount;
+
     private UploadMetric(UploadMetricBuilder builder) {
         this.metricID = builder.metricID;
         this.uploadCount = builder.uploadCount;
@@ -71,6 +95,10 @@ public final class UploadMetric implements ToXContentFragment, Writeable {
         this.failedCount = builder.failedCount;
         this.duration = builder.duration;
         this.type = builder.type;
+        this.index = builder.index;
+        this.fieldType = builder.fieldType;
+        this.vertexCount = builder.vertexCount;
+        this.simplifiedVertexCount = builder.simplifiedVertexCount;
     }
 
     @Override
@@ -90,10 +118,20 @@ public final class UploadMetric implements ToXContentFragment, Writeable {
     public XContentBuilder toXContent(XContentBuilder builder, Params params) throws IOException {
         builder.field(FIELDS.ID.toString(), metricID);
         builder.field(FIELDS.TYPE.toString(), type);
+        if (index != null) {
+            builder.field(FIELDS.INDEX.toString(), index);
+        }
+        if (fieldType != null) {
+            builder.field(FIELDS.FIELD_TYPE.toString(), fieldType);
+        }
         builder.field(FIELDS.UPLOAD.toString(), uploadCount);
         builder.field(FIELDS.SUCCESS.toString(), successCount);
         builder.field(FIELDS.FAILED.toString(), failedCount);
         builder.field(FIELDS.DURATION.toString(), duration);
+        if (vertexCount > 0) {
+            builder.field(FIELDS.VERTICES.toString(), vertexCount);
+            builder.field(FIELDS.SIMPLIFIED_VERTICES.toString(), simplifiedVertexCount);
+        }
         return builder;
     }
 
@@ -105,6 +143,12 @@ public final class UploadMetric implements ToXContentFragment, Writeable {
         output.writeVLong(successCount);
         output.writeVLong(failedCount);
         output.writeVLong(duration);
+        if (output.getVersion().onOrAfter(UploadStats.COUNTERS_VERSION)) {
+            output.writeOptionalString(index);
+            output.writeOptionalString(fieldType);
+            output.writeVLong(vertexCount);
+            output.writeVLong(simplifiedVertexCount);
+        }
     }
 
     /**
@@ -118,6 +162,10 @@ public final class UploadMetric implements ToXContentFragment, Writeable {
         private final String type;
         private long successCount;
         private long uploadCount;
+        private String index;
+        private String fieldType;
+        private long vertexCount;
+        private long simplifiedVertexCount;
 
         public UploadMetricBuilder(String metricID, String type) {
             if (!Strings.hasText(metricID)) {
@@ -150,6 +198,26 @@ public final class UploadMetric implements ToXContentFragment, Writeable {
             return this;
         }
 
+        public UploadMetricBuilder index(String index) {
+            this.index = index;
+            return this;
+        }
+
+        public UploadMetricBuilder fieldType(String fieldType) {
+            this.fieldType = fieldType;
+            return this;
+        }
+
+        public UploadMetricBuilder vertexCount(long vertexCount) {
+            this.vertexCount = vertexCount;
+            return this;
+        }
+
+        public UploadMetricBuilder simplifiedVertexCount(long simplifiedVertexCount) {
+            this.simplifiedVertexCount = simplifiedVertexCount;
+            return this;
+        }
+
         /**
          * @return UploadMetric instance from the builder
          */
@@ -170,6 +238,12 @@ public final class UploadMetric implements ToXContentFragment, Writeable {
                 .successCount(input.readVLong())
                 .failedCount(input.readVLong())
                 .duration(input.readVLong());
+            if (input.getVersion().onOrAfter(UploadStats.COUNTERS_VERSION)) {
+                builder.index(input.readOptionalString())
+                    .fieldType(input.readOptionalString())
+                    .vertexCount(input.readVLong())
+                    .simplifiedVertexCount(input.readVLong());
+            }
             return builder.build();
         }
 
@@ -6,12 +6,19 @@
 package org.opensearch.geospatial.stats.upload;
 
 import java.io.IOException;
-import java.util.HashSet;
+import java.util.ArrayList;
+import java.util.Collections;
 import java.util.List;
 import java.util.Locale;
+import java.util.Map;
 import java.util.Objects;
-import java.util.Set;
+import java.util.TreeMap;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ConcurrentMap;
+import java.util.concurrent.atomic.AtomicLong;
+import java.util.concurrent.atomic.AtomicReferenceArray;
 
+import org.opensearch.Version;
 import org.opensearch.common.metrics.CounterMetric;
 import org.opensearch.core.common.io.stream.StreamInput;
 import org.opensearch.core.common.io.stream.StreamOutput;
@@ -20,15 +27,31 @@ import org.opensearch.core.xcontent.ToXContentObject;
 import org.opensearch.core.xcontent.XContentBuilder;
 
 /**
- * Contains the total upload stats
+ * Contains the total upload stats. Metrics of uploads are aggregated into {@link UploadCounters} in total,
+ * per index and per geospatial field type, and, only the most recent {@link #MAX_RECENT_METRICS} metrics are kept,
+ * hence, memory used and size of stats are bounded regardless of the number of uploads. Recording a metric
+ * doesn't take any lock.
  */
 public final class UploadStats implements Writeable, ToXContentObject {
 
     private static final UploadStats instance = new UploadStats();
 
+    // Max number of metrics of the most recent uploads
+    static final int MAX_RECENT_METRICS = 100;
+    // Max number of distinct indices, or, field types with their own counters
+    static final int MAX_BREAKDOWN_KEYS = 100;
+    // Key of counters of indices, or, field types beyond MAX_BREAKDOWN_KEYS
+    static final String OTHER_KEY = "_other";
+    // Nodes before this version serialize the request count, and, every metric only
+    static final Version COUNTERS_VERSION = Version.V_3_8_0;
+
     public enum FIELDS {
+        DURATION_PERCENTILES,
+        FIELD_TYPES,
+        INDICES,
         METRICS,
-        REQUEST_COUNT;
+        REQUEST_COUNT,
+        UPLOADS;
 
         @Override
         public String toString() {
@@ -36,8 +59,13 @@ public final class UploadStats implements Writeable, ToXContentObject {
         }
     }
 
-    private final Set<UploadMetric> metrics;
     private final CounterMetric totalAPICount;
+    private final UploadCounters total;
+    private final ConcurrentMap<String, UploadCounters> indices;
+    private final ConcurrentMap<String, UploadCounters> fieldTypes;
+    // ring of the most recent metrics, where the next metric is stored at index recordedMetrics % MAX_RECENT_METRICS
+    private final AtomicReferenceArray<UploadMetric> recentMetrics;
+    private final AtomicLong recordedMetrics;
 
     /**
      * @return Singleton instance of UploadStats
@@ -47,8 +75,12 @@ public final class UploadStats implements Writeable, ToXContentObject {
     }
 
     UploadStats() {
-        metrics = new HashSet<>();
         totalAPICount = new CounterMetric();
+        total = new UploadCounters();
+        indices = new ConcurrentHashMap<>();
+        fieldTypes = new ConcurrentHashMap<>();
+        recentMetrics = new AtomicReferenceArray<>(MAX_RECENT_METRICS);
+        recordedMetrics = new AtomicLong();
     }
 
     /**
@@ -61,7 +93,20 @@ public final class UploadStats implements Writeable, ToXContentObject {
         Objects.requireNonNull(input, "StreamInput cannot be null");
         UploadStats instance = new UploadStats();
         instance.totalAPICount.inc(input.readVLong());
-        instance.metrics.addAll(input.readSet(UploadMetric.UploadMetricBuilder::fromStreamInput));
+        if (input.getVersion().before(COUNTERS_VERSION)) {
+            // counters of a previous version node are the sums of the metrics it sent
+            for (UploadMetric metric : input.readSet(UploadMetric.UploadMetricBuilder::fromStreamInput)) {
+                instance.total.record(metric);
+                instance.addRecentMetric(metric);
+            }
+            return instance;
+        }
+        instance.total.add(UploadCounters.fromStreamInput(input));
+        instance.indices.putAll(input.readMap(StreamInput::readString, UploadCounters::fromStreamInput));
+        instance.fieldTypes.putAll(input.readMap(StreamInput::readString, UploadCounters::fromStreamInput));
+        for (UploadMetric metric : input.readList(UploadMetric.UploadMetricBuilder::fromStreamInput)) {
+            instance.addRecentMetric(metric);
+        }
         return instance;
     }
 
@@ -71,13 +116,31 @@ public final class UploadStats implements Writeable, ToXContentObject {
      */
     public void addMetric(UploadMetric newMetric) {
         Objects.requireNonNull(newMetric, "metric cannot be null");
-        if (metrics.contains(newMetric)) {
-            throw new IllegalArgumentException(newMetric.getMetricID() + " already exists");
-        }
         if (newMetric.getUploadCount() < 1) {
             throw new IllegalArgumentException("metric should have at least 1 upload");
         }
-        metrics.add(newMetric);
+        total.record(newMetric);
+        if (newMetric.getIndex() != null) {
+            countersOf(indices, newMetric.getIndex()).record(newMetric);
+        }
+        if (newMetric.getFieldType() != null) {
+            countersOf(fieldTypes, newMetric.getFieldType()).record(newMetric);
+        }
+        addRecentMetric(newMetric);
+    }
+
+    private void addRecentMetric(UploadMetric metric) {
+        recentMetrics.set((int) (recordedMetrics.getAndIncrement() % MAX_RECENT_METRICS), metric);
+    }
+
+    // counters of given key, or, of OTHER_KEY if there are already MAX_BREAKDOWN_KEYS keys. Concurrent uploads of new keys
+    // may exceed the limit by the number of those uploads, which is still bounded.
+    private static UploadCounters countersOf(ConcurrentMap<String, UploadCounters> breakdown, String key) {
+        UploadCounters counters = breakdown.get(key);
+        if (counters != null) {
+            return counters;
+        }
+        return breakdown.computeIfAbsent(breakdown.size() < MAX_BREAKDOWN_KEYS ? key : OTHER_KEY, notUsed -> new UploadCounters());
     }
 
     /**
@@ -96,24 +159,68 @@ public final class UploadStats implements Writeable, ToXContentObject {
     }
 
     /**
-     * Get list of added metrics so far to stats
+     * Get counters of every upload
+     * @return {@link UploadCounters} of every upload
+     */
+    public UploadCounters getTotal() {
+        return total;
+    }
+
+    /**
+     * Get counters of uploads by index
+     * @return {@link UploadCounters} by index
+     */
+    public Map<String, UploadCounters> getIndices() {
+        return Collections.unmodifiableMap(indices);
+    }
+
+    /**
+     * Get counters of uploads by geospatial field type
+     * @return {@link UploadCounters} by field type
+     */
+    public Map<String, UploadCounters> getFieldTypes() {
+        return Collections.unmodifiableMap(fieldTypes);
+    }
+
+    /**
+     * Get metrics of the most recent uploads, from oldest to newest. A metric which is being added concurrently
+     * may be missing.
      * @return List of {@link UploadMetric}
      */
     public List<UploadMetric> getMetrics() {
+        final long recorded = recordedMetrics.get();
+        final List<UploadMetric> metrics = new ArrayList<>();
+        for (long i = Math.max(0, recorded - MAX_RECENT_METRICS); i < recorded; i++) {
+            final UploadMetric metric = recentMetrics.get((int) (i % MAX_RECENT_METRICS));
+            if (metric != null) {
+                metrics.add(metric);
+            }
+        }
         return List.copyOf(metrics);
     }
 
     @Override
     public void writeTo(StreamOutput output) throws IOException {
         output.writeVLong(getTotalAPICount());
-        output.writeCollection(metrics);
+        if (output.getVersion().before(COUNTERS_VERSION)) {
+            // previous version node expects a set of metrics, hence, only the most recent metrics are sent
+            output.writeCollection(getMetrics());
+            return;
+        }
+        total.writeTo(output);
+        output.writeMap(indices, StreamOutput::writeString, (out, counters) -> counters.writeTo(out));
+        output.writeMap(fieldTypes, StreamOutput::writeString, (out, counters) -> counters.writeTo(out));
+        output.writeCollection(getMetrics());
     }
 
     @Override
     public XContentBuilder toXContent(XContentBuilder builder, Params params) throws IOException {
         builder.field(FIELDS.REQUEST_COUNT.toString(), getTotalAPICount());
+        total.toXContent(builder, params);
+        breakdownToXContent(builder, params, FIELDS.INDICES, indices);
+        breakdownToXContent(builder, params, FIELDS.FIELD_TYPES, fieldTypes);
         builder.startArray(FIELDS.METRICS.toString());
-        for (UploadMetric metric : metrics) {
+        for (UploadMetric metric : getMetrics()) {
             builder.startObject();
             metric.toXContent(builder, params);
             builder.endObject();
@@ -121,4 +228,15 @@ public final class UploadStats implements Writeable, ToXContentObject {
         builder.endArray();
         return builder;
     }
+
+    static void breakdownToXContent(XContentBuilder builder, Params params, FIELDS field, Map<String, UploadCounters> breakdown)
+        throws IOException {
+        builder.startObject(field.toString());
+        for (Map.Entry<String, UploadCounters> entry : new TreeMap<>(breakdown).entrySet()) {
+            builder.startObject(entry.getKey());
+            entry.getValue().toXContent(builder, params);
+            builder.endObject();
+        }
+        builder.endObject();
+    }
 }
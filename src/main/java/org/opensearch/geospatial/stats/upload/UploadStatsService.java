@@ -35,15 +35,21 @@ public class UploadStatsService implements ToXContentFragment {
         {
             "total": {
                 request_count : # of request,
+                "uploads"     : # of completed uploads,
                 "upload"       : sum of documents to upload across API,
                 "success"     : sum of successfully uploaded documents across API,
                 "failed"      : sum of failed to upload documents across API,
-                "duration"    : sum of duration in milliseconds to ingest document across API
+                "duration"    : sum of duration in milliseconds to ingest document across API,
+                "duration_percentiles" : { "p50" : ..., "p95" : ..., "p99" : ... },
+                "indices"     : { <index> : same counters as above, but, of uploads to the index },
+                "field_types" : { <field type> : same counters as above, but, of uploads to the field type }
             },
-            "metrics" : [
+            "metrics" : [ // only the most recent uploads of every node
                 {
                     "id"       : <metric-id>,
-                    "node_id"  : node-id
+                    "node_id"  : node-id,
+                    "index"    : index of documents,
+                    "field_type" : type of geospatial field
                     "upload"   : # of documents to upload,
                     "success"  : # of successfully uploaded documents,
                     "failed"   : # of failed to upload documents,
@@ -20,15 +20,20 @@ import static org.opensearch.geospatial.GeospatialObjectBuilder.buildProperties;
 import static org.opensearch.geospatial.GeospatialObjectBuilder.randomGeoJSONFeature;
 import static org.opensearch.geospatial.action.upload.geojson.UploadGeoJSONRequestContent.FIELD_DATA;
 import static org.opensearch.test.OpenSearchTestCase.randomBoolean;
+import static org.opensearch.test.OpenSearchTestCase.randomFrom;
 import static org.opensearch.test.OpenSearchTestCase.randomIntBetween;
 import static org.opensearch.test.OpenSearchTestCase.randomNonNegativeLong;
 
+import java.io.ByteArrayOutputStream;
+import java.io.IOException;
+import java.io.OutputStream;
 import java.util.ArrayList;
 import java.util.Collections;
 import java.util.List;
 import java.util.Locale;
-import java.util.Map;
 import java.util.stream.IntStream;
+import java.util.zip.DeflaterOutputStream;
+import java.util.zip.GZIPOutputStream;
 
 import org.json.JSONArray;
 import org.json.JSONObject;
@@ -44,8 +49,11 @@ import org.opensearch.common.UUIDs;
 import org.opensearch.common.collect.Tuple;
 import org.opensearch.common.settings.ClusterSettings;
 import org.opensearch.common.settings.Settings;
+import org.opensearch.core.common.bytes.BytesArray;
+import org.opensearch.core.common.bytes.BytesReference;
 import org.opensearch.core.index.shard.ShardId;
 import org.opensearch.geospatial.action.upload.geojson.ContentBuilder;
+import org.opensearch.geospatial.action.upload.geojson.UploadCompression;
 import org.opensearch.geospatial.action.upload.geojson.UploadGeoJSONRequestContent;
 import org.opensearch.geospatial.h3.H3;
 import org.opensearch.geospatial.settings.GeospatialSettings;
@@ -80,15 +88,7 @@ public class GeospatialTestHelper {
             .put(GeospatialSettings.MAX_GEOMETRY_COLLECTION_NESTED_DEPTH.getKey(), 5)
             .build();
 
-        ClusterSettings clusterSettings = new ClusterSettings(
-            settings,
-            java.util.Set.of(
-                GeospatialSettings.MAX_COORDINATES_PER_GEOMETRY,
-                GeospatialSettings.MAX_HOLES_PER_POLYGON,
-                GeospatialSettings.MAX_MULTI_GEOMETRIES,
-                GeospatialSettings.MAX_GEOMETRY_COLLECTION_NESTED_DEPTH
-            )
-        );
+        ClusterSettings clusterSettings = new ClusterSettings(settings, java.util.Set.copyOf(GeospatialSettings.settings()));
 
         ClusterService mockClusterService = mock(ClusterService.class);
         when(mockClusterService.getClusterSettings()).thenReturn(clusterSettings);
@@ -97,7 +97,7 @@ public class GeospatialTestHelper {
         UploadGeoJSONRequestContent.initialize(accessor);
     }
 
-    public static Map<String, Object> buildRequestContent(int featureCount) {
+    public static BytesReference buildRequestContent(int featureCount) {
         JSONObject contents = new JSONObject();
         if (Randomness.get().nextBoolean()) {
             contents.put(ContentBuilder.GEOJSON_FEATURE_ID_FIELD, randomLowerCaseString());
@@ -108,7 +108,7 @@ public class GeospatialTestHelper {
         JSONArray values = new JSONArray();
         IntStream.range(0, featureCount).forEach(notUsed -> values.put(randomGeoJSONFeature(buildProperties(Collections.emptyMap()))));
         contents.put(FIELD_DATA.getPreferredName(), values);
-        return contents.toMap();
+        return new BytesArray(contents.toString());
     }
 
     private static String randomString() {
@@ -174,6 +174,8 @@ public class GeospatialTestHelper {
         builder.successCount(successCount);
         builder.failedCount(failedCount);
         builder.duration(randomNonNegativeLong());
+        builder.index(randomLowerCaseString());
+        builder.fieldType(randomFrom("geo_shape", "geo_point", "xy_shape", "xy_point"));
         return builder.build();
     }
 
@@ -200,4 +202,31 @@ public class GeospatialTestHelper {
         return randomIntBetween(H3.MIN_H3_RES, H3.MAX_H3_RES);
     }
 
+
+    /**
+     * Compresses content by given compression
+     * @param content content to compress
+     * @param compression compression of returned content
+     * @return compressed content
+     * @throws IOException if content cannot be compressed
+     */
+    public static BytesReference compress(BytesReference content, UploadCompression compression) throws IOException {
+        ByteArrayOutputStream output = new ByteArrayOutputStream();
+        try (OutputStream compressed = compressor(output, compression)) {
+            content.writeTo(compressed);
+        }
+        return new BytesArray(output.toByteArray());
+    }
+
+    private static OutputStream compressor(OutputStream output, UploadCompression compression) throws IOException {
+        switch (compression) {
+            case GZIP:
+                return new GZIPOutputStream(output);
+            case DEFLATE:
+                return new DeflaterOutputStream(output);
+            case NONE:
+            default:
+                return output;
+        }
+    }
 }
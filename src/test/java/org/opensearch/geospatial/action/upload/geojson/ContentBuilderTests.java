@@ -13,18 +13,38 @@ import static org.mockito.Mockito.verify;
 import static org.mockito.Mockito.when;
 import static org.opensearch.geospatial.GeospatialTestHelper.randomLowerCaseString;
 
+import java.io.IOException;
+import java.util.HashMap;
+import java.util.Iterator;
+import java.util.List;
+import java.util.Locale;
 import java.util.Map;
 import java.util.Optional;
 
+import org.opensearch.action.DocWriteRequest;
+import org.opensearch.action.bulk.BulkAction;
 import org.opensearch.action.bulk.BulkRequestBuilder;
+import org.opensearch.action.get.GetResponse;
+import org.opensearch.action.get.MultiGetItemResponse;
+import org.opensearch.action.get.MultiGetResponse;
 import org.opensearch.action.index.IndexAction;
+import org.opensearch.action.index.IndexRequest;
 import org.opensearch.action.index.IndexRequestBuilder;
 import org.opensearch.action.support.WriteRequest;
+import org.opensearch.core.common.bytes.BytesArray;
+import org.opensearch.core.common.bytes.BytesReference;
 import org.opensearch.geospatial.GeospatialTestHelper;
+import org.opensearch.geospatial.encoding.CompactGeometryEncoding;
+import org.opensearch.geospatial.routing.SpatialRouting;
+import org.opensearch.geospatial.routing.SpatialRoutingScheme;
+import org.opensearch.index.get.GetResult;
+import org.opensearch.index.seqno.SequenceNumbers;
 import org.opensearch.test.OpenSearchTestCase;
 import org.opensearch.test.client.NoOpClient;
 import org.opensearch.transport.client.Client;
 
+import lombok.SneakyThrows;
+
 public class ContentBuilderTests extends OpenSearchTestCase {
 
     public static final int MAX_NUM_ACTION = 5;
@@ -34,6 +54,7 @@ public class ContentBuilderTests extends OpenSearchTestCase {
     private Client mockClient;
     private NoOpClient noOpClient;
     private ContentBuilder contentBuilder;
+    private WriteRequest.RefreshPolicy refreshPolicy;
 
     @Override
     public void setUp() throws Exception {
@@ -41,7 +62,8 @@ public class ContentBuilderTests extends OpenSearchTestCase {
         GeospatialTestHelper.initializeGeoJSONRequestContentSettings();
         noOpClient = new NoOpClient(getTestName());
         mockClient = mock(Client.class);
-        contentBuilder = new ContentBuilder(mockClient);
+        refreshPolicy = randomFrom(WriteRequest.RefreshPolicy.values());
+        contentBuilder = new ContentBuilder(mockClient, refreshPolicy);
     }
 
     @Override
@@ -54,7 +76,7 @@ public class ContentBuilderTests extends OpenSearchTestCase {
         // mock BulkRequest
         BulkRequestBuilder mockBulkRequestBuilder = mock(BulkRequestBuilder.class);
         when(mockClient.prepareBulk()).thenReturn(mockBulkRequestBuilder);
-        when(mockBulkRequestBuilder.setRefreshPolicy(WriteRequest.RefreshPolicy.WAIT_UNTIL)).thenReturn(mockBulkRequestBuilder);
+        when(mockBulkRequestBuilder.setRefreshPolicy(refreshPolicy)).thenReturn(mockBulkRequestBuilder);
         when(mockBulkRequestBuilder.add(any(IndexRequestBuilder.class))).thenReturn(null);
         when(mockBulkRequestBuilder.numberOfActions()).thenReturn(noOfActions);
 
@@ -63,26 +85,227 @@ public class ContentBuilderTests extends OpenSearchTestCase {
         return mockBulkRequestBuilder;
     }
 
+    @SneakyThrows
     public void testContentBuilderSuccess() {
-        Map<String, Object> contentMap = GeospatialTestHelper.buildRequestContent(MAX_FEATURES_COUNT);
-        UploadGeoJSONRequestContent content = UploadGeoJSONRequestContent.create(contentMap);
+        BytesReference contentBytes = GeospatialTestHelper.buildRequestContent(MAX_FEATURES_COUNT);
+        UploadGeoJSONRequestContent content = UploadGeoJSONRequestContent.create(contentBytes);
         BulkRequestBuilder mockBulkRequestBuilder = mockBulkRequestBuilder(MAX_NUM_ACTION);
-        final Optional<BulkRequestBuilder> prepare = contentBuilder.prepare(content, randomLowerCaseString());
-        verify(mockClient).prepareBulk();
-        verify(mockClient, times(MAX_FEATURES_COUNT)).prepareIndex();
-        verify(mockBulkRequestBuilder, times(MAX_FEATURES_COUNT)).add(any(IndexRequestBuilder.class));
-        assertTrue("failed to build request", prepare.isPresent());
+        try (FeatureReader features = content.newFeatureReader()) {
+            final Optional<BulkRequestBuilder> prepare = contentBuilder.prepare(features, content.getIndexName(), randomLowerCaseString());
+            verify(mockClient).prepareBulk();
+            verify(mockBulkRequestBuilder).setRefreshPolicy(refreshPolicy);
+            verify(mockClient, times(MAX_FEATURES_COUNT)).prepareIndex();
+            verify(mockBulkRequestBuilder, times(MAX_FEATURES_COUNT)).add(any(IndexRequestBuilder.class));
+            assertTrue("failed to build request", prepare.isPresent());
+            // all features are consumed by first request
+            assertFalse(contentBuilder.prepare(features, content.getIndexName(), randomLowerCaseString()).isPresent());
+        }
     }
 
+    @SneakyThrows
     public void testContentBuilderFailed() {
-        Map<String, Object> contentMap = GeospatialTestHelper.buildRequestContent(ZERO_FEATURES);
-        UploadGeoJSONRequestContent content = UploadGeoJSONRequestContent.create(contentMap);
+        UploadGeoJSONRequestContent content = UploadGeoJSONRequestContent.create(GeospatialTestHelper.buildRequestContent(ZERO_FEATURES));
         BulkRequestBuilder mockBulkRequestBuilder = mockBulkRequestBuilder(ZERO_ACTIONS);
-        final Optional<BulkRequestBuilder> prepare = contentBuilder.prepare(content, randomLowerCaseString());
-        verify(mockClient, never()).prepareBulk();
-        verify(mockClient, never()).prepareIndex();
-        verify(mockBulkRequestBuilder, never()).add(any(IndexRequestBuilder.class));
-        assertFalse("Feature count should be empty", prepare.isPresent());
+        try (FeatureReader features = content.newFeatureReader()) {
+            final Optional<BulkRequestBuilder> prepare = contentBuilder.prepare(features, content.getIndexName(), randomLowerCaseString());
+            verify(mockClient, never()).prepareBulk();
+            verify(mockClient, never()).prepareIndex();
+            verify(mockBulkRequestBuilder, never()).add(any(IndexRequestBuilder.class));
+            assertFalse("Feature count should be empty", prepare.isPresent());
+        }
+    }
+
+    @SneakyThrows
+    public void testContentBuilderWhenMoreFeaturesThanBulkLimit() {
+        int featureCount = ContentBuilder.MAX_ACTIONS_PER_BULK + 1;
+        UploadGeoJSONRequestContent content = UploadGeoJSONRequestContent.create(GeospatialTestHelper.buildRequestContent(featureCount));
+        BulkRequestBuilder mockBulkRequestBuilder = mockBulkRequestBuilder(MAX_NUM_ACTION);
+        try (FeatureReader features = content.newFeatureReader()) {
+            assertTrue(contentBuilder.prepare(features, content.getIndexName(), randomLowerCaseString()).isPresent());
+            verify(mockBulkRequestBuilder, times(ContentBuilder.MAX_ACTIONS_PER_BULK)).add(any(IndexRequestBuilder.class));
+
+            assertTrue(contentBuilder.prepare(features, content.getIndexName(), randomLowerCaseString()).isPresent());
+            verify(mockClient, times(2)).prepareBulk();
+            verify(mockBulkRequestBuilder, times(featureCount)).add(any(IndexRequestBuilder.class));
+
+            assertFalse(contentBuilder.prepare(features, content.getIndexName(), randomLowerCaseString()).isPresent());
+        }
+    }
+
+    private void mockRequestBuilders() {
+        when(mockClient.prepareBulk()).thenAnswer(notUsed -> new BulkRequestBuilder(noOpClient, BulkAction.INSTANCE));
+        when(mockClient.prepareIndex()).thenAnswer(notUsed -> new IndexRequestBuilder(noOpClient, IndexAction.INSTANCE));
+    }
+
+    private Map<String, Object> buildFeature(String id, String name) {
+        Map<String, Object> feature = new HashMap<>();
+        feature.put("type", "Feature");
+        feature.put("geometry", Map.of("type", "Point", "coordinates", List.of(randomDouble(), randomDouble())));
+        feature.put("properties", Map.of("name", name));
+        if (id != null) {
+            feature.put(ContentBuilder.GEOJSON_FEATURE_ID_FIELD, id);
+        }
+        return feature;
+    }
+
+    private FeatureReader featureReaderOf(List<Map<String, Object>> features) {
+        final Iterator<Map<String, Object>> iterator = features.iterator();
+        return new FeatureReader() {
+            @Override
+            public Map<String, Object> nextFeature() {
+                return iterator.hasNext() ? iterator.next() : null;
+            }
+
+            @Override
+            public void close() {}
+        };
+    }
+
+    private MultiGetItemResponse storedDocument(String indexName, String id, String contentHash, long seqNo, long primaryTerm) {
+        String source = String.format(Locale.ROOT, "{\"%s\":\"%s\"}", ContentBuilder.CONTENT_HASH_FIELD, contentHash);
+        GetResult result = new GetResult(indexName, id, seqNo, primaryTerm, 1, true, new BytesArray(source), null, null);
+        return new MultiGetItemResponse(new GetResponse(result), null);
+    }
+
+    private MultiGetItemResponse missingDocument(String indexName, String id) {
+        GetResult result = new GetResult(
+            indexName,
+            id,
+            SequenceNumbers.UNASSIGNED_SEQ_NO,
+            SequenceNumbers.UNASSIGNED_PRIMARY_TERM,
+            -1,
+            false,
+            null,
+            null,
+            null
+        );
+        return new MultiGetItemResponse(new GetResponse(result), null);
+    }
+
+    public void testPrepare_whenContentHashes_thenHashIsStoredAndCollectedById() throws IOException {
+        mockRequestBuilders();
+        String indexName = randomLowerCaseString();
+        List<Map<String, Object>> features = List.of(
+            buildFeature("first", randomLowerCaseString()),
+            buildFeature("second", randomLowerCaseString()),
+            buildFeature("first", randomLowerCaseString()),
+            buildFeature(null, randomLowerCaseString())
+        );
+        Map<String, String> contentHashes = new HashMap<>();
+
+        // Run
+        Optional<BulkRequestBuilder> prepare = contentBuilder.prepare(
+            featureReaderOf(features),
+            indexName,
+            randomLowerCaseString(),
+            contentHashes
+        );
+
+        // Verify
+        assertTrue(prepare.isPresent());
+        List<DocWriteRequest<?>> requests = prepare.get().request().requests();
+        assertEquals(features.size(), requests.size());
+        for (DocWriteRequest<?> request : requests) {
+            assertTrue(((IndexRequest) request).sourceAsMap().containsKey(ContentBuilder.CONTENT_HASH_FIELD));
+        }
+        assertEquals(((IndexRequest) requests.get(1)).sourceAsMap().get(ContentBuilder.CONTENT_HASH_FIELD), contentHashes.get("second"));
+        // hash of a Feature uploaded more than once by the same BulkRequest is not collected
+        assertTrue(contentHashes.containsKey("first"));
+        assertNull(contentHashes.get("first"));
+        assertEquals(2, contentHashes.size());
+    }
+
+    public void testPrepare_whenSpatialRouting_thenRoutingIsDerivedFromGeometry() throws IOException {
+        mockRequestBuilders();
+        SpatialRouting spatialRouting = new SpatialRouting(randomFrom(SpatialRoutingScheme.values()), 2);
+        ContentBuilder routingContentBuilder = new ContentBuilder(mockClient, refreshPolicy, spatialRouting, null, false);
+        String fieldName = randomLowerCaseString();
+        List<Map<String, Object>> features = List.of(buildFeature(null, "first"), buildFeature(null, "second"));
+
+        // Run
+        Optional<BulkRequestBuilder> prepare = routingContentBuilder.prepare(featureReaderOf(features), randomLowerCaseString(), fieldName);
+
+        // Verify
+        assertTrue(prepare.isPresent());
+        List<DocWriteRequest<?>> requests = prepare.get().request().requests();
+        for (int i = 0; i < features.size(); i++) {
+            Map<String, Object> geometry = (Map<String, Object>) features.get(i).get("geometry");
+            assertEquals(spatialRouting.routingOf(geometry), requests.get(i).routing());
+        }
+    }
+
+    public void testPrepare_whenCompactGeometry_thenGeometryIsEncodedAndRoutedByGeoJSON() throws IOException {
+        mockRequestBuilders();
+        SpatialRouting spatialRouting = new SpatialRouting(SpatialRoutingScheme.HILBERT, 4);
+        ContentBuilder compactContentBuilder = new ContentBuilder(mockClient, refreshPolicy, spatialRouting, null, true);
+        String fieldName = randomLowerCaseString();
+        Map<String, Object> feature = buildFeature(null, randomLowerCaseString());
+        Map<String, Object> geometry = (Map<String, Object>) feature.get("geometry");
+
+        // Run
+        Optional<BulkRequestBuilder> prepare = compactContentBuilder.prepare(featureReaderOf(List.of(feature)), "index", fieldName);
+
+        // Verify
+        assertTrue(prepare.isPresent());
+        IndexRequest request = (IndexRequest) prepare.get().request().requests().get(0);
+        Object storedGeometry = request.sourceAsMap().get(fieldName);
+        assertTrue(CompactGeometryEncoding.isEncoded(storedGeometry));
+        assertEquals(geometry, CompactGeometryEncoding.toGeoJSON((String) storedGeometry));
+        assertEquals(spatialRouting.routingOf(geometry), request.routing());
     }
 
+    public void testRemoveUnchanged_whenStoredDocuments_thenSkipUnchangedAndIndexChangedConditionally() {
+        mockRequestBuilders();
+        String indexName = randomLowerCaseString();
+        BulkRequestBuilder bulkRequestBuilder = new BulkRequestBuilder(noOpClient, BulkAction.INSTANCE);
+        for (String id : new String[] { "unchanged", "changed", "new", null }) {
+            IndexRequest request = new IndexRequest(indexName).source(Map.of("name", randomLowerCaseString()));
+            bulkRequestBuilder.add(id == null ? request : request.id(id));
+        }
+        Map<String, String> contentHashes = Map.of("unchanged", "hash1", "changed", "hash2", "new", "hash3");
+        MultiGetResponse multiGetResponse = new MultiGetResponse(
+            new MultiGetItemResponse[] {
+                storedDocument(indexName, "unchanged", "hash1", 3, 1),
+                storedDocument(indexName, "changed", "old-hash", 5, 2),
+                missingDocument(indexName, "new") }
+        );
+
+        // Run
+        ContentBuilder.ChangedContent changedContent = contentBuilder.removeUnchanged(bulkRequestBuilder, contentHashes, multiGetResponse);
+
+        // Verify
+        assertEquals(1, changedContent.getUnchangedCount());
+        assertTrue(changedContent.getBulkRequestBuilder().isPresent());
+        List<DocWriteRequest<?>> requests = changedContent.getBulkRequestBuilder().get().request().requests();
+        assertEquals(3, requests.size());
+        assertEquals("changed", requests.get(0).id());
+        assertEquals(5, requests.get(0).ifSeqNo());
+        assertEquals(2, requests.get(0).ifPrimaryTerm());
+        assertEquals("new", requests.get(1).id());
+        assertEquals(DocWriteRequest.OpType.CREATE, requests.get(1).opType());
+        assertNull(requests.get(2).id());
+        assertEquals(DocWriteRequest.OpType.INDEX, requests.get(2).opType());
+        assertEquals(SequenceNumbers.UNASSIGNED_SEQ_NO, requests.get(2).ifSeqNo());
+    }
+
+    public void testRemoveUnchanged_whenEveryDocumentIsUnchanged_thenNoBulkRequest() {
+        mockRequestBuilders();
+        String indexName = randomLowerCaseString();
+        BulkRequestBuilder bulkRequestBuilder = new BulkRequestBuilder(noOpClient, BulkAction.INSTANCE);
+        bulkRequestBuilder.add(new IndexRequest(indexName).id("unchanged").source(Map.of("name", randomLowerCaseString())));
+        MultiGetResponse multiGetResponse = new MultiGetResponse(
+            new MultiGetItemResponse[] { storedDocument(indexName, "unchanged", "hash1", 3, 1) }
+        );
+
+        // Run
+        ContentBuilder.ChangedContent changedContent = contentBuilder.removeUnchanged(
+            bulkRequestBuilder,
+            Map.of("unchanged", "hash1"),
+            multiGetResponse
+        );
+
+        // Verify
+        assertEquals(1, changedContent.getUnchangedCount());
+        assertFalse(changedContent.getBulkRequestBuilder().isPresent());
+    }
 }
@@ -0,0 +1,49 @@
+/*
+ * Copyright OpenSearch Contributors
+ * SPDX-License-Identifier: Apache-2.0
+ */
+
+package org.opensearch.geospatial.action.upload.geojson;
+
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+
+import org.opensearch.test.OpenSearchTestCase;
+
+public class FeatureContentHashTests extends OpenSearchTestCase {
+
+    private Map<String, Object> buildDocument(String name, double longitude) {
+        Map<String, Object> document = new LinkedHashMap<>();
+        document.put("name", name);
+        document.put("population", 10);
+        document.put("location", Map.of("type", "Point", "coordinates", List.of(longitude, 1.0)));
+        return document;
+    }
+
+    public void testOf_whenMembersInDifferentOrder_thenSameHash() {
+        Map<String, Object> document = buildDocument("city", 2.0);
+        Map<String, Object> reordered = new LinkedHashMap<>();
+        reordered.put("location", document.get("location"));
+        reordered.put("population", document.get("population"));
+        reordered.put("name", document.get("name"));
+
+        // Run
+        String hash = FeatureContentHash.of(document);
+
+        // Verify
+        assertEquals(64, hash.length());
+        assertEquals(hash, FeatureContentHash.of(reordered));
+    }
+
+    public void testOf_whenContentChanged_thenDifferentHash() {
+        String hash = FeatureContentHash.of(buildDocument("city", 2.0));
+
+        assertNotEquals(hash, FeatureContentHash.of(buildDocument("town", 2.0)));
+        assertNotEquals(hash, FeatureContentHash.of(buildDocument("city", 2.5)));
+        // same text as a string and as a number are different content
+        assertNotEquals(FeatureContentHash.of(Map.of("value", "10")), FeatureContentHash.of(Map.of("value", 10)));
+        // order of array elements is part of the content
+        assertNotEquals(FeatureContentHash.of(Map.of("value", List.of(1, 2))), FeatureContentHash.of(Map.of("value", List.of(2, 1))));
+    }
+}
@@ -0,0 +1,143 @@
+/*
+ * Copyright OpenSearch Contributors
+ * SPDX-License-Identifier: Apache-2.0
+ */
+
+package org.opensearch.geospatial.action.upload.geojson;
+
+import static org.opensearch.geospatial.GeospatialTestHelper.randomLowerCaseString;
+
+import java.util.ArrayList;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+
+import org.opensearch.geospatial.geojson.Feature;
+import org.opensearch.test.OpenSearchTestCase;
+
+public class FeatureDocumentConverterTests extends OpenSearchTestCase {
+    private static final List<List<Double>> SQUARE = List.of(
+        List.of(0.0, 0.0),
+        List.of(1.0, 0.0),
+        List.of(1.0, 1.0),
+        List.of(0.0, 1.0),
+        List.of(0.0, 0.0)
+    );
+
+    private Map<String, Object> feature(Map<String, Object> geometry, Map<String, Object> properties) {
+        Map<String, Object> feature = new HashMap<>();
+        feature.put(Feature.TYPE_KEY, Feature.TYPE);
+        feature.put(Feature.GEOMETRY_KEY, geometry);
+        if (properties != null) {
+            feature.put(Feature.PROPERTIES_KEY, properties);
+        }
+        return feature;
+    }
+
+    private Map<String, Object> polygon(int holes) {
+        List<List<List<Double>>> rings = new ArrayList<>();
+        for (int i = 0; i <= holes; i++) {
+            rings.add(SQUARE);
+        }
+        return Map.of("type", "Polygon", "coordinates", rings);
+    }
+
+    public void testConvert_whenFeature_thenReturnDocument() {
+        Map<String, Object> geometry = polygon(0);
+        Map<String, Object> feature = feature(geometry, Map.of("name", "square", "area", 1));
+        feature.put("id", "square-id");
+        String fieldName = randomLowerCaseString();
+
+        // Run
+        Map<String, Object> document = FeatureDocumentConverter.unbounded().convert(feature, fieldName);
+
+        // Verify
+        assertEquals(Map.of("id", "square-id", "name", "square", "area", 1, fieldName, geometry), document);
+        assertSame("geometry should not be copied", geometry, document.get(fieldName));
+    }
+
+    public void testConvert_whenPropertiesIsNull_thenReturnDocumentWithGeometryOnly() {
+        Map<String, Object> geometry = Map.of("type", "Point", "coordinates", List.of(1.0, 2.0));
+        String fieldName = randomLowerCaseString();
+
+        // Run
+        Map<String, Object> document = FeatureDocumentConverter.unbounded().convert(feature(geometry, null), fieldName);
+
+        // Verify
+        assertEquals(Map.of(fieldName, geometry), document);
+    }
+
+    public void testConvert_whenNotFeature_thenException() {
+        Map<String, Object> feature = feature(polygon(0), null);
+        feature.put(Feature.TYPE_KEY, "FeatureCollection");
+
+        // Run
+        IllegalArgumentException exception = expectThrows(
+            IllegalArgumentException.class,
+            () -> FeatureDocumentConverter.unbounded().convert(feature, randomLowerCaseString())
+        );
+
+        // Verify
+        assertEquals("Unknown type [ FeatureCollection ], expected type [ Feature ]", exception.getMessage());
+    }
+
+    public void testConvert_whenGeometryIsInvalid_thenException() {
+        Map<String, Object> feature = feature(null, null);
+        FeatureDocumentConverter converter = FeatureDocumentConverter.unbounded();
+        expectThrows(IllegalArgumentException.class, () -> converter.convert(feature, randomLowerCaseString()));
+
+        feature.put(Feature.GEOMETRY_KEY, "POINT (1 2)");
+        expectThrows(IllegalArgumentException.class, () -> converter.convert(feature, randomLowerCaseString()));
+
+        feature.put(Feature.GEOMETRY_KEY, polygon(0));
+        feature.put(Feature.PROPERTIES_KEY, List.of("name"));
+        expectThrows(IllegalArgumentException.class, () -> converter.convert(feature, randomLowerCaseString()));
+    }
+
+    public void testConvert_whenPolygonExceedsLimits_thenException() {
+        FeatureDocumentConverter converter = new FeatureDocumentConverter(4, 1, 10, 1);
+
+        // Run
+        IllegalArgumentException holes = expectThrows(
+            IllegalArgumentException.class,
+            () -> converter.convert(feature(polygon(2), null), randomLowerCaseString())
+        );
+        IllegalArgumentException coordinates = expectThrows(
+            IllegalArgumentException.class,
+            () -> converter.convert(feature(polygon(0), null), randomLowerCaseString())
+        );
+
+        // Verify
+        assertEquals("Polygon has 2 holes, exceeds limit of 1", holes.getMessage());
+        assertEquals("Polygon outer ring has 5 coordinates, exceeds limit of 4", coordinates.getMessage());
+    }
+
+    public void testConvert_whenGeometryCollectionIsNestedTooDeep_thenException() {
+        Map<String, Object> point = Map.of("type", "Point", "coordinates", List.of(1.0, 2.0));
+        Map<String, Object> inner = Map.of("type", "GeometryCollection", "geometries", List.of(point));
+        Map<String, Object> outer = Map.of("type", "GeometryCollection", "geometries", List.of(inner));
+        FeatureDocumentConverter converter = new FeatureDocumentConverter(10, 10, 10, 1);
+
+        // Run
+        IllegalArgumentException exception = expectThrows(
+            IllegalArgumentException.class,
+            () -> converter.convert(feature(outer, null), randomLowerCaseString())
+        );
+
+        // Verify
+        assertEquals("GeometryCollection nesting depth 2 exceeds limit of 1", exception.getMessage());
+        assertNotNull(converter.convert(feature(inner, null), randomLowerCaseString()));
+    }
+
+    public void testValidate_whenFeatureExceedsLimits_thenException() {
+        FeatureDocumentConverter converter = new FeatureDocumentConverter(4, 1, 10, 1);
+        Map<String, Object> feature = feature(polygon(2), null);
+
+        // Run
+        IllegalArgumentException exception = expectThrows(IllegalArgumentException.class, () -> converter.validate(feature));
+
+        // Verify
+        assertEquals("Polygon has 2 holes, exceeds limit of 1", exception.getMessage());
+        converter.validate(feature(Map.of("type", "Point", "coordinates", List.of(1.0, 2.0)), null));
+    }
+}
@@ -0,0 +1,203 @@
+/*
+ * Copyright OpenSearch Contributors
+ * SPDX-License-Identifier: Apache-2.0
+ */
+
+package org.opensearch.geospatial.action.upload.geojson;
+
+import java.io.ByteArrayOutputStream;
+import java.nio.ByteBuffer;
+import java.nio.ByteOrder;
+import java.nio.charset.StandardCharsets;
+import java.util.ArrayList;
+import java.util.List;
+
+import org.opensearch.core.common.bytes.BytesArray;
+import org.opensearch.core.common.bytes.BytesReference;
+
+/**
+ * Builds FlatGeobuf content for tests. Every FlatBuffers object is encoded as relocatable bytes, where objects
+ * referred by a table or a vector are placed after it, so that offsets are always forward as FlatBuffers requires.
+ */
+final class FlatGeobufBuilder {
+    private static final byte[] MAGIC_BYTES = new byte[] { 'f', 'g', 'b', 3, 'f', 'g', 'b', 0 };
+
+    private final ByteArrayOutputStream features = new ByteArrayOutputStream();
+    private Table header = new Table();
+    private long featuresCount;
+
+    FlatGeobufBuilder header(Table header) {
+        this.header = header;
+        return this;
+    }
+
+    /**
+     * Sets features count with index node size of the header, and, writes an index of zeros
+     */
+    FlatGeobufBuilder indexed(long count, int nodeSize) {
+        this.featuresCount = count;
+        header.field(8, littleEndian(Long.BYTES).putLong(count).array());
+        header.field(9, littleEndian(Short.BYTES).putShort((short) nodeSize).array());
+        return this;
+    }
+
+    FlatGeobufBuilder feature(Table feature) {
+        features.writeBytes(sizePrefixed(root(feature)));
+        return this;
+    }
+
+    BytesReference build() {
+        ByteArrayOutputStream output = new ByteArrayOutputStream();
+        output.writeBytes(MAGIC_BYTES);
+        if (featuresCount == 0) {
+            // index is written only if features count is set
+            header.field(9, littleEndian(Short.BYTES).putShort((short) 0).array());
+        }
+        output.writeBytes(sizePrefixed(root(header)));
+        if (featuresCount > 0) {
+            output.writeBytes(new byte[(int) FlatGeobufFeatureReader.indexSize(featuresCount, ushort(header, 9))]);
+        }
+        output.writeBytes(features.toByteArray());
+        return new BytesArray(output.toByteArray());
+    }
+
+    private static int ushort(Table table, int index) {
+        return Short.toUnsignedInt(ByteBuffer.wrap(table.scalars.get(index)).order(ByteOrder.LITTLE_ENDIAN).getShort());
+    }
+
+    static Table column(String name, int type) {
+        return new Table().reference(0, string(name)).field(1, new byte[] { (byte) type });
+    }
+
+    static Table geometry(int type, double... xy) {
+        Table geometry = new Table().reference(1, doubles(xy));
+        if (type > 0) {
+            geometry.field(6, new byte[] { (byte) type });
+        }
+        return geometry;
+    }
+
+    static byte[] string(String value) {
+        byte[] bytes = value.getBytes(StandardCharsets.UTF_8);
+        return littleEndian(Integer.BYTES + bytes.length + 1).putInt(bytes.length).put(bytes).array();
+    }
+
+    static byte[] doubles(double... values) {
+        ByteBuffer buffer = littleEndian(Integer.BYTES + values.length * Double.BYTES).putInt(values.length);
+        for (double value : values) {
+            buffer.putDouble(value);
+        }
+        return buffer.array();
+    }
+
+    static byte[] uints(int... values) {
+        ByteBuffer buffer = littleEndian(Integer.BYTES + values.length * Integer.BYTES).putInt(values.length);
+        for (int value : values) {
+            buffer.putInt(value);
+        }
+        return buffer.array();
+    }
+
+    static byte[] ubytes(byte[] values) {
+        return littleEndian(Integer.BYTES + values.length).putInt(values.length).put(values).array();
+    }
+
+    static byte[] tables(Table... tables) {
+        List<byte[]> encoded = new ArrayList<>();
+        int vectorSize = Integer.BYTES + tables.length * Integer.BYTES;
+        for (Table table : tables) {
+            encoded.add(table.encode());
+        }
+        int size = vectorSize + encoded.stream().mapToInt(bytes -> bytes.length).sum();
+        ByteBuffer buffer = littleEndian(size).putInt(tables.length);
+        int position = vectorSize;
+        for (int i = 0; i < tables.length; i++) {
+            int element = Integer.BYTES + i * Integer.BYTES;
+            buffer.putInt(element, position - element);
+            buffer.put(position, encoded.get(i));
+            position += encoded.get(i).length;
+        }
+        return buffer.array();
+    }
+
+    static ByteBuffer littleEndian(int size) {
+        return ByteBuffer.allocate(size).order(ByteOrder.LITTLE_ENDIAN);
+    }
+
+    private static byte[] root(Table table) {
+        byte[] encoded = table.encode();
+        return littleEndian(Integer.BYTES + encoded.length).putInt(Integer.BYTES).put(encoded).array();
+    }
+
+    private static byte[] sizePrefixed(byte[] bytes) {
+        return littleEndian(Integer.BYTES + bytes.length).putInt(bytes.length).put(bytes).array();
+    }
+
+    /**
+     * FlatBuffers table with scalar fields stored inline and reference fields pointing to objects after the table
+     */
+    static final class Table {
+        private final List<byte[]> scalars = new ArrayList<>();
+        private final List<byte[]> references = new ArrayList<>();
+
+        Table field(int index, byte[] value) {
+            set(index, value, null);
+            return this;
+        }
+
+        Table reference(int index, byte[] object) {
+            set(index, null, object);
+            return this;
+        }
+
+        Table reference(int index, Table table) {
+            return reference(index, table.encode());
+        }
+
+        private void set(int index, byte[] scalar, byte[] reference) {
+            while (scalars.size() <= index) {
+                scalars.add(null);
+                references.add(null);
+            }
+            scalars.set(index, scalar);
+            references.set(index, reference);
+        }
+
+        byte[] encode() {
+            int fields = scalars.size();
+            int[] fieldOffsets = new int[fields];
+            int inlineSize = Integer.BYTES;
+            for (int i = 0; i < fields; i++) {
+                if (scalars.get(i) != null) {
+                    fieldOffsets[i] = inlineSize;
+                    inlineSize += scalars.get(i).length;
+                } else if (references.get(i) != null) {
+                    fieldOffsets[i] = inlineSize;
+                    inlineSize += Integer.BYTES;
+                }
+            }
+            int vtableSize = 2 * Short.BYTES + fields * Short.BYTES;
+            int size = inlineSize + vtableSize;
+            for (byte[] reference : references) {
+                size += reference == null ? 0 : reference.length;
+            }
+            ByteBuffer buffer = littleEndian(size);
+            // vtable is placed right after the table
+            buffer.putInt(0, -inlineSize);
+            buffer.putShort(inlineSize, (short) vtableSize);
+            buffer.putShort(inlineSize + Short.BYTES, (short) inlineSize);
+            int position = inlineSize + vtableSize;
+            for (int i = 0; i < fields; i++) {
+                buffer.putShort(inlineSize + 2 * Short.BYTES + i * Short.BYTES, (short) fieldOffsets[i]);
+                if (scalars.get(i) != null) {
+                    buffer.put(fieldOffsets[i], scalars.get(i));
+                } else if (references.get(i) != null) {
+                    buffer.putInt(fieldOffsets[i], position - fieldOffsets[i]);
+                    buffer.put(position, references.get(i));
+                    position += references.get(i).length;
+                }
+            }
+            return buffer.array();
+        }
+    }
+}
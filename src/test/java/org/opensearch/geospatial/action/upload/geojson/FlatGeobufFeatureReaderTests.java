@@ -0,0 +1,213 @@
+/*
+ * Copyright OpenSearch Contributors
+ * SPDX-License-Identifier: Apache-2.0
+ */
+
+package org.opensearch.geospatial.action.upload.geojson;
+
+import static org.opensearch.geospatial.GeospatialTestHelper.compress;
+import static org.opensearch.geospatial.action.upload.geojson.FlatGeobufBuilder.column;
+import static org.opensearch.geospatial.action.upload.geojson.FlatGeobufBuilder.geometry;
+import static org.opensearch.geospatial.action.upload.geojson.FlatGeobufBuilder.littleEndian;
+import static org.opensearch.geospatial.action.upload.geojson.FlatGeobufBuilder.tables;
+import static org.opensearch.geospatial.action.upload.geojson.FlatGeobufBuilder.ubytes;
+import static org.opensearch.geospatial.action.upload.geojson.FlatGeobufBuilder.uints;
+
+import java.io.IOException;
+import java.nio.charset.StandardCharsets;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Map;
+
+import org.opensearch.core.common.bytes.BytesArray;
+import org.opensearch.core.common.bytes.BytesReference;
+import org.opensearch.geospatial.geojson.Feature;
+import org.opensearch.test.OpenSearchTestCase;
+
+public class FlatGeobufFeatureReaderTests extends OpenSearchTestCase {
+    private static final int POINT = 1;
+    private static final int POLYGON = 3;
+    private static final int MULTIPOLYGON = 6;
+    private static final int GEOMETRYCOLLECTION = 7;
+    private static final int INT = 5;
+    private static final int DOUBLE = 10;
+    private static final int STRING = 11;
+
+    private List<Map<String, Object>> readAll(BytesReference content) throws IOException {
+        List<Map<String, Object>> features = new ArrayList<>();
+        try (FeatureReader reader = new FlatGeobufFeatureReader(content)) {
+            Map<String, Object> feature;
+            while ((feature = reader.nextFeature()) != null) {
+                features.add(feature);
+            }
+        }
+        return features;
+    }
+
+    private FlatGeobufBuilder.Table header(int geometryType) {
+        return new FlatGeobufBuilder.Table().field(2, new byte[] { (byte) geometryType })
+            .reference(7, tables(column("order", INT), column("name", STRING), column("value", DOUBLE)));
+    }
+
+    private byte[] properties(int order, String name, double value) {
+        byte[] nameBytes = name.getBytes(StandardCharsets.UTF_8);
+        return littleEndian(3 * Short.BYTES + Integer.BYTES + Integer.BYTES + nameBytes.length + Double.BYTES).putShort((short) 0)
+            .putInt(order)
+            .putShort((short) 1)
+            .putInt(nameBytes.length)
+            .put(nameBytes)
+            .putShort((short) 2)
+            .putDouble(value)
+            .array();
+    }
+
+    private FlatGeobufBuilder.Table pointFeature(int order) {
+        return new FlatGeobufBuilder.Table().reference(0, geometry(0, order, -order))
+            .reference(1, ubytes(properties(order, "feature-" + order, order / 2.0)));
+    }
+
+    private Map<String, Object> geometryOf(Map<String, Object> feature) {
+        return (Map<String, Object>) feature.get(Feature.GEOMETRY_KEY);
+    }
+
+    public void testNextFeature_whenPoints_thenReturnFeaturesInOrder() throws IOException {
+        int featureCount = randomIntBetween(1, 20);
+        FlatGeobufBuilder builder = new FlatGeobufBuilder().header(header(POINT));
+        for (int i = 0; i < featureCount; i++) {
+            builder.feature(pointFeature(i));
+        }
+
+        // Run
+        List<Map<String, Object>> features = readAll(builder.build());
+
+        // Verify
+        assertEquals(featureCount, features.size());
+        for (int i = 0; i < featureCount; i++) {
+            Map<String, Object> feature = features.get(i);
+            assertEquals(Feature.TYPE, feature.get(Feature.TYPE_KEY));
+            assertEquals(Map.of("type", "Point", "coordinates", List.of((double) i, (double) -i)), geometryOf(feature));
+            assertEquals(Map.of("order", i, "name", "feature-" + i, "value", i / 2.0), feature.get(Feature.PROPERTIES_KEY));
+        }
+    }
+
+    public void testNextFeature_whenIndexed_thenSkipIndex() throws IOException {
+        int featureCount = randomIntBetween(1, 50);
+        FlatGeobufBuilder builder = new FlatGeobufBuilder().header(header(POINT)).indexed(featureCount, randomIntBetween(2, 16));
+        for (int i = 0; i < featureCount; i++) {
+            builder.feature(pointFeature(i));
+        }
+
+        // Run
+        List<Map<String, Object>> features = readAll(builder.build());
+
+        // Verify
+        assertEquals(featureCount, features.size());
+        assertEquals(List.of(0.0, 0.0), geometryOf(features.get(0)).get("coordinates"));
+    }
+
+    public void testNextFeature_whenPolygonWithHole_thenReturnRings() throws IOException {
+        FlatGeobufBuilder.Table polygon = geometry(0, 0, 0, 10, 0, 10, 10, 0, 0, 2, 2, 3, 2, 3, 3, 2, 2).reference(0, uints(4, 8));
+
+        // Run
+        List<Map<String, Object>> features = readAll(
+            new FlatGeobufBuilder().header(header(POLYGON)).feature(new FlatGeobufBuilder.Table().reference(0, polygon)).build()
+        );
+
+        // Verify
+        assertEquals(1, features.size());
+        Map<String, Object> geometry = geometryOf(features.get(0));
+        assertEquals("Polygon", geometry.get("type"));
+        List<?> rings = (List<?>) geometry.get("coordinates");
+        assertEquals(2, rings.size());
+        assertEquals(List.of(2.0, 2.0), ((List<?>) rings.get(1)).get(0));
+        assertEquals(Map.of(), features.get(0).get(Feature.PROPERTIES_KEY));
+    }
+
+    public void testNextFeature_whenGeometryTypeIsInFeature_thenReturnGeometryOfFeature() throws IOException {
+        FlatGeobufBuilder.Table multiPolygon = new FlatGeobufBuilder.Table().field(6, new byte[] { MULTIPOLYGON })
+            .reference(7, tables(geometry(POLYGON, 0, 0, 1, 0, 1, 1, 0, 0), geometry(POLYGON, 5, 5, 6, 5, 6, 6, 5, 5)));
+        FlatGeobufBuilder.Table collection = new FlatGeobufBuilder.Table().field(6, new byte[] { GEOMETRYCOLLECTION })
+            .reference(7, tables(geometry(POINT, 1, 2), multiPolygon));
+
+        // Run
+        List<Map<String, Object>> features = readAll(
+            new FlatGeobufBuilder().header(header(0)).feature(new FlatGeobufBuilder.Table().reference(0, collection)).build()
+        );
+
+        // Verify
+        Map<String, Object> geometry = geometryOf(features.get(0));
+        assertEquals("GeometryCollection", geometry.get("type"));
+        List<Map<String, Object>> geometries = (List<Map<String, Object>>) geometry.get("geometries");
+        assertEquals(2, geometries.size());
+        assertEquals("Point", geometries.get(0).get("type"));
+        assertEquals("MultiPolygon", geometries.get(1).get("type"));
+        assertEquals(2, ((List<?>) geometries.get(1).get("coordinates")).size());
+    }
+
+    public void testNextFeature_whenStreamIsCompressed_thenReturnFeatures() throws IOException {
+        int featureCount = randomIntBetween(1, 20);
+        FlatGeobufBuilder builder = new FlatGeobufBuilder().header(header(POINT)).indexed(featureCount, 16);
+        for (int i = 0; i < featureCount; i++) {
+            builder.feature(pointFeature(i));
+        }
+        BytesReference compressed = compress(builder.build(), UploadCompression.GZIP);
+
+        // Run
+        List<Map<String, Object>> features = new ArrayList<>();
+        try (FeatureReader reader = new FlatGeobufFeatureReader(UploadCompression.GZIP.decompress(compressed.streamInput()))) {
+            Map<String, Object> feature;
+            while ((feature = reader.nextFeature()) != null) {
+                features.add(feature);
+            }
+        }
+
+        // Verify
+        assertEquals(featureCount, features.size());
+        assertEquals(featureCount - 1, ((Map<String, Object>) features.get(featureCount - 1).get(Feature.PROPERTIES_KEY)).get("order"));
+    }
+
+    public void testNextFeature_whenFeatureIsTruncated_thenException() throws IOException {
+        BytesReference content = new FlatGeobufBuilder().header(header(POINT)).feature(pointFeature(0)).build();
+        BytesReference truncated = content.slice(0, content.length() - 1);
+
+        expectThrows(IOException.class, () -> readAll(truncated));
+    }
+
+    public void testNextFeature_whenRingIsNotClosed_thenException() {
+        FlatGeobufBuilder.Table polygon = geometry(0, 0, 0, 10, 0, 10, 10, 0, 10);
+        BytesReference content = new FlatGeobufBuilder().header(header(POLYGON))
+            .feature(pointFeature(0))
+            .feature(new FlatGeobufBuilder.Table().reference(0, polygon))
+            .build();
+
+        // Run
+        IllegalArgumentException exception = expectThrows(IllegalArgumentException.class, () -> readAll(content));
+
+        // Verify
+        assertTrue(exception.getMessage().contains("feature [ 2 ]"));
+    }
+
+    public void testNextFeature_whenColumnIndexIsInvalid_thenException() {
+        byte[] properties = littleEndian(Short.BYTES + Integer.BYTES).putShort((short) 3).putInt(1).array();
+        BytesReference content = new FlatGeobufBuilder().header(header(POINT))
+            .feature(new FlatGeobufBuilder.Table().reference(0, geometry(0, 1, 1)).reference(1, ubytes(properties)))
+            .build();
+
+        // Run
+        IllegalArgumentException exception = expectThrows(IllegalArgumentException.class, () -> readAll(content));
+
+        // Verify
+        assertTrue(exception.getMessage().contains("column index [ 3 ]"));
+    }
+
+    public void testConstructor_whenNotFlatGeobuf_thenException() {
+        expectThrows(IllegalArgumentException.class, () -> new FlatGeobufFeatureReader(new BytesArray("{\"type\": \"Feature\"}")));
+        expectThrows(IllegalArgumentException.class, () -> new FlatGeobufFeatureReader(new BytesArray("fgb")));
+    }
+
+    public void testIndexSize_whenCalled_thenReturnSizeOfAllNodes() {
+        assertEquals(2 * 40, FlatGeobufFeatureReader.indexSize(1, 16));
+        assertEquals((20 + 2 + 1) * 40, FlatGeobufFeatureReader.indexSize(20, 16));
+        expectThrows(IllegalArgumentException.class, () -> FlatGeobufFeatureReader.indexSize(20, 1));
+    }
+}
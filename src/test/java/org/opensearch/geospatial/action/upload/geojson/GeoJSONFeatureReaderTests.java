@@ -0,0 +1,85 @@
+/*
+ * Copyright OpenSearch Contributors
+ * SPDX-License-Identifier: Apache-2.0
+ */
+
+package org.opensearch.geospatial.action.upload.geojson;
+
+import static org.opensearch.geospatial.GeospatialObjectBuilder.buildProperties;
+import static org.opensearch.geospatial.GeospatialObjectBuilder.randomGeoJSONFeature;
+
+import java.io.IOException;
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.List;
+import java.util.Locale;
+import java.util.Map;
+
+import org.json.JSONArray;
+import org.json.JSONObject;
+import org.opensearch.core.common.bytes.BytesArray;
+import org.opensearch.geospatial.geojson.Feature;
+import org.opensearch.test.OpenSearchTestCase;
+
+public class GeoJSONFeatureReaderTests extends OpenSearchTestCase {
+
+    private List<Map<String, Object>> readAll(String body) throws IOException {
+        List<Map<String, Object>> features = new ArrayList<>();
+        try (GeoJSONFeatureReader reader = new GeoJSONFeatureReader(new BytesArray(body))) {
+            Map<String, Object> feature;
+            while ((feature = reader.nextFeature()) != null) {
+                features.add(feature);
+            }
+        }
+        return features;
+    }
+
+    private JSONObject randomFeature() {
+        return randomGeoJSONFeature(buildProperties(Collections.emptyMap()));
+    }
+
+    public void testNextFeature_whenFeatures_thenReturnAllFeatures() throws IOException {
+        JSONArray data = new JSONArray().put(randomFeature()).put(randomFeature());
+        String body = new JSONObject().put("index", "test").put("data", data).toString();
+
+        List<Map<String, Object>> features = readAll(body);
+
+        assertEquals(2, features.size());
+        assertTrue(features.stream().allMatch(feature -> Feature.TYPE.equals(feature.get(Feature.TYPE_KEY))));
+    }
+
+    public void testNextFeature_whenFeatureCollectionWithTypeAfterFeatures_thenReturnAllFeatures() throws IOException {
+        JSONArray collectionFeatures = new JSONArray().put(randomFeature()).put(randomFeature()).put(randomFeature());
+        // JSONObject doesn't preserve the order of keys
+        String body = String.format(
+            Locale.ROOT,
+            "{\"data\":[{\"features\":%s,\"type\":\"FeatureCollection\"},%s],\"index\":\"test\"}",
+            collectionFeatures,
+            randomFeature()
+        );
+
+        List<Map<String, Object>> features = readAll(body);
+
+        assertEquals(4, features.size());
+    }
+
+    public void testNextFeature_whenFeaturesOfNonFeatureCollection_thenException() {
+        String body = String.format(Locale.ROOT, "{\"data\":[{\"features\":[%s],\"type\":\"Feature\"}]}", randomFeature());
+
+        IllegalArgumentException exception = expectThrows(IllegalArgumentException.class, () -> readAll(body));
+
+        assertTrue(exception.getMessage().contains("Unknown type [ Feature ]"));
+    }
+
+    public void testNextFeature_whenDataHasNonObject_thenException() {
+        String body = "{\"data\":[\"not a geojson\"]}";
+
+        expectThrows(IllegalArgumentException.class, () -> readAll(body));
+    }
+
+    public void testNextFeature_whenNoData_thenReturnNull() throws IOException {
+        String body = new JSONObject().put("index", "test").toString();
+
+        assertTrue(readAll(body).isEmpty());
+    }
+}
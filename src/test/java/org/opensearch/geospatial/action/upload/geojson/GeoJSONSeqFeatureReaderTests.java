@@ -0,0 +1,176 @@
+/*
+ * Copyright OpenSearch Contributors
+ * SPDX-License-Identifier: Apache-2.0
+ */
+
+package org.opensearch.geospatial.action.upload.geojson;
+
+import static org.opensearch.geospatial.GeospatialObjectBuilder.buildProperties;
+import static org.opensearch.geospatial.GeospatialObjectBuilder.randomGeoJSONFeature;
+
+import java.io.IOException;
+import java.io.InputStream;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.Executor;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.TimeUnit;
+
+import org.json.JSONArray;
+import org.json.JSONObject;
+import org.opensearch.common.util.concurrent.OpenSearchRejectedExecutionException;
+import org.opensearch.core.common.bytes.BytesArray;
+import org.opensearch.geospatial.geojson.Feature;
+import org.opensearch.geospatial.geojson.FeatureCollection;
+import org.opensearch.test.OpenSearchTestCase;
+
+public class GeoJSONSeqFeatureReaderTests extends OpenSearchTestCase {
+    private static final String ORDER = "order";
+    private static final int PARALLELISM = 3;
+    private ExecutorService executor;
+
+    @Override
+    public void setUp() throws Exception {
+        super.setUp();
+        executor = Executors.newFixedThreadPool(PARALLELISM);
+    }
+
+    @Override
+    public void tearDown() throws Exception {
+        executor.shutdown();
+        assertTrue(executor.awaitTermination(10, TimeUnit.SECONDS));
+        super.tearDown();
+    }
+
+    private List<Map<String, Object>> readAll(String body) throws IOException {
+        return readAll(new GeoJSONSeqFeatureReader(new BytesArray(body), executor, PARALLELISM));
+    }
+
+    private List<Map<String, Object>> readAll(FeatureReader featureReader) throws IOException {
+        List<Map<String, Object>> features = new ArrayList<>();
+        try (FeatureReader reader = featureReader) {
+            Map<String, Object> feature;
+            while ((feature = reader.nextFeature()) != null) {
+                features.add(feature);
+            }
+        }
+        return features;
+    }
+
+    private JSONObject feature(int order) {
+        return randomGeoJSONFeature(buildProperties(Map.of(ORDER, order)));
+    }
+
+    private int orderOf(Map<String, Object> feature) {
+        return ((Number) ((Map<String, Object>) feature.get(Feature.PROPERTIES_KEY)).get(ORDER)).intValue();
+    }
+
+    public void testNextFeature_whenLinesMoreThanBatch_thenReturnFeaturesInOrder() throws IOException {
+        int featureCount = GeoJSONSeqFeatureReader.LINES_PER_BATCH * 2 + randomIntBetween(1, 100);
+        StringBuilder body = new StringBuilder();
+        for (int i = 0; i < featureCount; i++) {
+            body.append(feature(i)).append('\n');
+        }
+
+        // Run
+        List<Map<String, Object>> features = readAll(body.toString());
+
+        // Verify
+        assertEquals(featureCount, features.size());
+        for (int i = 0; i < featureCount; i++) {
+            assertEquals(i, orderOf(features.get(i)));
+        }
+    }
+
+    public void testNextFeature_whenExecutorRejectsOrDoesNotRun_thenParseOnCallingThread() throws IOException {
+        int featureCount = GeoJSONSeqFeatureReader.LINES_PER_BATCH + randomIntBetween(1, 100);
+        StringBuilder body = new StringBuilder();
+        for (int i = 0; i < featureCount; i++) {
+            body.append(feature(i)).append('\n');
+        }
+        Executor rejecting = command -> {
+            throw new OpenSearchRejectedExecutionException("rejected");
+        };
+        Executor idle = command -> {};
+
+        for (Executor busyExecutor : List.of(rejecting, idle)) {
+            // Run
+            List<Map<String, Object>> features = readAll(
+                new GeoJSONSeqFeatureReader(new BytesArray(body.toString()), busyExecutor, PARALLELISM)
+            );
+
+            // Verify
+            assertEquals(featureCount, features.size());
+            for (int i = 0; i < featureCount; i++) {
+                assertEquals(i, orderOf(features.get(i)));
+            }
+        }
+    }
+
+    public void testNextFeature_whenRecordSeparatorAndBlankLines_thenSkip() throws IOException {
+        String body = "\u001E" + feature(0) + "\r\n\n   \n\u001E" + feature(1);
+
+        // Run
+        List<Map<String, Object>> features = readAll(body);
+
+        // Verify
+        assertEquals(2, features.size());
+        assertEquals(0, orderOf(features.get(0)));
+        assertEquals(1, orderOf(features.get(1)));
+    }
+
+    public void testNextFeature_whenFeatureCollection_thenReturnAllFeatures() throws IOException {
+        JSONObject collection = new JSONObject().put(FeatureCollection.TYPE_KEY, FeatureCollection.TYPE)
+            .put(FeatureCollection.FEATURES_KEY, new JSONArray().put(feature(1)).put(feature(2)));
+        String body = feature(0) + "\n" + collection + "\n" + feature(3);
+
+        // Run
+        List<Map<String, Object>> features = readAll(body);
+
+        // Verify
+        assertEquals(4, features.size());
+        for (int i = 0; i < features.size(); i++) {
+            assertEquals(i, orderOf(features.get(i)));
+        }
+    }
+
+    public void testNextFeature_whenInvalidLine_thenException() {
+        String body = feature(0) + "\n" + feature(1) + "\nnot a geojson\n";
+
+        // Run
+        IllegalArgumentException exception = expectThrows(IllegalArgumentException.class, () -> readAll(body));
+
+        // Verify
+        assertTrue(exception.getMessage().contains("line [ 3 ]"));
+    }
+
+    public void testNextFeature_whenStreamHasLinesLongerThanChunk_thenReturnFeaturesInOrder() throws IOException {
+        String longValue = randomAlphaOfLength(GeoJSONSeqFeatureReader.CHUNK_SIZE + randomIntBetween(1, 1000));
+        StringBuilder body = new StringBuilder();
+        int featureCount = randomIntBetween(2, 10);
+        for (int i = 0; i < featureCount; i++) {
+            body.append(randomGeoJSONFeature(buildProperties(Map.of(ORDER, i, "value", i % 2 == 0 ? longValue : "short")))).append('\n');
+        }
+        InputStream input = new BytesArray(body.toString()).streamInput();
+
+        // Run
+        List<Map<String, Object>> features = readAll(new GeoJSONSeqFeatureReader(input, executor, PARALLELISM));
+
+        // Verify
+        assertEquals(featureCount, features.size());
+        for (int i = 0; i < featureCount; i++) {
+            assertEquals(i, orderOf(features.get(i)));
+        }
+    }
+
+    public void testNextFeature_whenEmpty_thenReturnNull() throws IOException {
+        assertTrue(readAll("").isEmpty());
+        assertTrue(readAll("\n \n").isEmpty());
+    }
+
+    public void testConstructor_whenInvalidParallelism_thenException() {
+        expectThrows(IllegalArgumentException.class, () -> new GeoJSONSeqFeatureReader(new BytesArray(""), executor, 0));
+    }
+}
@@ -0,0 +1,50 @@
+/*
+ * Copyright OpenSearch Contributors
+ * SPDX-License-Identifier: Apache-2.0
+ */
+
+package org.opensearch.geospatial.action.upload.geojson;
+
+import static org.opensearch.geospatial.GeospatialTestHelper.compress;
+
+import java.io.IOException;
+import java.io.InputStream;
+import java.nio.charset.StandardCharsets;
+import java.util.zip.ZipException;
+
+import org.opensearch.core.common.bytes.BytesArray;
+import org.opensearch.core.common.bytes.BytesReference;
+import org.opensearch.test.OpenSearchTestCase;
+
+public class UploadCompressionTests extends OpenSearchTestCase {
+
+    public void testFromName_whenValidName_thenReturnCompression() {
+        for (UploadCompression compression : UploadCompression.values()) {
+            assertEquals(compression, UploadCompression.fromName(compression.getName()));
+        }
+        assertEquals(UploadCompression.GZIP, UploadCompression.fromName("gzip"));
+    }
+
+    public void testFromName_whenInvalidName_thenException() {
+        IllegalArgumentException exception = expectThrows(IllegalArgumentException.class, () -> UploadCompression.fromName("brotli"));
+        assertTrue(exception.getMessage().contains("unsupported compression [ brotli ]"));
+    }
+
+    public void testDecompress_whenCompressed_thenReturnOriginalContent() throws IOException {
+        String body = randomRealisticUnicodeOfLength(randomIntBetween(1, 10_000));
+        for (UploadCompression compression : UploadCompression.values()) {
+            BytesReference compressed = compress(new BytesArray(body), compression);
+
+            // Run
+            try (InputStream decompressed = compression.decompress(compressed.streamInput())) {
+                // Verify
+                assertEquals(body, new String(decompressed.readAllBytes(), StandardCharsets.UTF_8));
+            }
+        }
+    }
+
+    public void testDecompress_whenNotCompressed_thenException() {
+        BytesReference content = new BytesArray("{\"type\": \"Feature\"}");
+        expectThrows(ZipException.class, () -> UploadCompression.GZIP.decompress(content.streamInput()));
+    }
+}
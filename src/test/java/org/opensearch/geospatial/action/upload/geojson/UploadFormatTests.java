@@ -0,0 +1,24 @@
+/*
+ * Copyright OpenSearch Contributors
+ * SPDX-License-Identifier: Apache-2.0
+ */
+
+package org.opensearch.geospatial.action.upload.geojson;
+
+import org.opensearch.test.OpenSearchTestCase;
+
+public class UploadFormatTests extends OpenSearchTestCase {
+
+    public void testFromName_whenValidName_thenReturnFormat() {
+        for (UploadFormat format : UploadFormat.values()) {
+            assertEquals(format, UploadFormat.fromName(format.getName()));
+        }
+        assertEquals(UploadFormat.GEOJSON_SEQ, UploadFormat.fromName("geojsonseq"));
+        assertEquals(UploadFormat.FLATGEOBUF, UploadFormat.fromName("flatgeobuf"));
+    }
+
+    public void testFromName_whenInvalidName_thenException() {
+        IllegalArgumentException exception = expectThrows(IllegalArgumentException.class, () -> UploadFormat.fromName("csv"));
+        assertTrue(exception.getMessage().contains("unsupported format [ csv ]"));
+    }
+}
@@ -7,14 +7,20 @@ package org.opensearch.geospatial.action.upload.geojson;
 
 import static org.mockito.Mockito.mock;
 import static org.mockito.Mockito.when;
+import static org.opensearch.geospatial.GeospatialObjectBuilder.buildGeoJSONFeature;
 import static org.opensearch.geospatial.GeospatialObjectBuilder.buildProperties;
 import static org.opensearch.geospatial.GeospatialObjectBuilder.randomGeoJSONFeature;
+import static org.opensearch.geospatial.GeospatialObjectBuilder.randomGeoJSONGeometry;
+import static org.opensearch.geospatial.GeospatialTestHelper.compress;
 import static org.opensearch.geospatial.GeospatialTestHelper.randomLowerCaseString;
 import static org.opensearch.geospatial.action.upload.geojson.UploadGeoJSONRequestContent.FIELD_DATA;
 import static org.opensearch.geospatial.action.upload.geojson.UploadGeoJSONRequestContent.GEOSPATIAL_DEFAULT_FIELD_NAME;
-import static org.opensearch.geospatial.action.upload.geojson.UploadGeoJSONRequestContent.MAX_SUPPORTED_GEOJSON_FEATURE_COUNT;
 
+import java.util.ArrayList;
 import java.util.Collections;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Locale;
 import java.util.Map;
 
 import org.json.JSONArray;
@@ -22,11 +28,16 @@ import org.json.JSONObject;
 import org.opensearch.cluster.service.ClusterService;
 import org.opensearch.common.settings.ClusterSettings;
 import org.opensearch.common.settings.Settings;
+import org.opensearch.core.common.bytes.BytesArray;
+import org.opensearch.core.common.bytes.BytesReference;
 import org.opensearch.geospatial.GeospatialTestHelper;
+import org.opensearch.geospatial.geojson.Feature;
 import org.opensearch.geospatial.settings.GeospatialSettings;
 import org.opensearch.geospatial.settings.GeospatialSettingsAccessor;
 import org.opensearch.test.OpenSearchTestCase;
 
+import lombok.SneakyThrows;
+
 public class UploadGeoJSONRequestContentTests extends OpenSearchTestCase {
     private static int MIN_FEATURE_COUNT = 3;
     private String indexName;
@@ -40,7 +51,7 @@ public class UploadGeoJSONRequestContentTests extends OpenSearchTestCase {
         fieldName = randomLowerCaseString();
     }
 
-    private Map<String, Object> buildRequestContent(String indexName, String fieldName, int count) {
+    private JSONObject buildRequestContent(String indexName, String fieldName, int count) {
         final var contents = new JSONObject();
         contents.put(UploadGeoJSONRequestContent.FIELD_INDEX.getPreferredName(), indexName);
         contents.put(UploadGeoJSONRequestContent.FIELD_GEOSPATIAL.getPreferredName(), fieldName);
@@ -50,55 +61,279 @@ public class UploadGeoJSONRequestContentTests extends OpenSearchTestCase {
             values.put(randomGeoJSONFeature(buildProperties(Collections.emptyMap())));
         }
         contents.put(FIELD_DATA.getPreferredName(), values);
-        return contents.toMap();
+        return contents;
+    }
+
+    private BytesReference toContent(JSONObject contents) {
+        return new BytesArray(contents.toString());
+    }
+
+    @SneakyThrows
+    private List<Map<String, Object>> readFeatures(UploadGeoJSONRequestContent content) {
+        List<Map<String, Object>> features = new ArrayList<>();
+        try (FeatureReader reader = content.newFeatureReader()) {
+            Map<String, Object> feature;
+            while ((feature = reader.nextFeature()) != null) {
+                features.add(feature);
+            }
+        }
+        return features;
     }
 
     public void testCreate() {
-        Map<String, Object> contents = buildRequestContent(indexName, fieldName, MIN_FEATURE_COUNT);
-        final var content = UploadGeoJSONRequestContent.create(contents);
+        JSONObject contents = buildRequestContent(indexName, fieldName, MIN_FEATURE_COUNT);
+        final var content = UploadGeoJSONRequestContent.create(toContent(contents));
         assertNotNull(content);
         assertEquals(fieldName, content.getFieldName());
         assertEquals(indexName, content.getIndexName());
-        assertEquals(contents.get(FIELD_DATA.getPreferredName()), content.getData());
+        assertEquals(MIN_FEATURE_COUNT, content.getFeatureCount());
+        List<Map<String, Object>> features = readFeatures(content);
+        assertEquals(MIN_FEATURE_COUNT, features.size());
+        assertTrue(features.stream().allMatch(feature -> Feature.TYPE.equals(feature.get(Feature.TYPE_KEY))));
     }
 
     public void testCreateEmptyIndexName() {
         IllegalArgumentException invalidIndexName = assertThrows(
             IllegalArgumentException.class,
-            () -> UploadGeoJSONRequestContent.create(buildRequestContent("", "location", MIN_FEATURE_COUNT))
+            () -> UploadGeoJSONRequestContent.create(toContent(buildRequestContent("", "location", MIN_FEATURE_COUNT)))
         );
         assertTrue(invalidIndexName.getMessage().contains("[ index ] cannot be empty"));
     }
 
-    public void testCreateWithOneMoreThanMaxSupportedFeatureCount() {
-        int featureCount = MAX_SUPPORTED_GEOJSON_FEATURE_COUNT + 1;
-        IllegalArgumentException reachedMaxFeatureCount = assertThrows(
-            IllegalArgumentException.class,
-            () -> UploadGeoJSONRequestContent.create(buildRequestContent(indexName, fieldName, featureCount))
+    public void testCreateWithMoreThanTenThousandFeatures() {
+        int featureCount = 10_001;
+        final var content = UploadGeoJSONRequestContent.create(toContent(buildRequestContent(indexName, fieldName, featureCount)));
+        assertEquals(featureCount, content.getFeatureCount());
+    }
+
+    public void testCreateWhenDataIsBeforeIndexName() {
+        JSONArray features = new JSONArray().put(randomGeoJSONFeature(buildProperties(Collections.emptyMap())));
+        // JSONObject doesn't preserve the order of keys
+        String body = String.format(
+            Locale.ROOT,
+            "{\"%s\":%s,\"%s\":\"%s\",\"%s\":\"geo_shape\"}",
+            FIELD_DATA.getPreferredName(),
+            features,
+            UploadGeoJSONRequestContent.FIELD_INDEX.getPreferredName(),
+            indexName,
+            UploadGeoJSONRequestContent.FIELD_GEOSPATIAL_TYPE.getPreferredName()
+        );
+        final var content = UploadGeoJSONRequestContent.create(new BytesArray(body));
+        assertEquals(indexName, content.getIndexName());
+        assertEquals(1, content.getFeatureCount());
+    }
+
+    public void testCreateEmptyData() {
+        JSONObject contents = buildRequestContent(indexName, fieldName, MIN_FEATURE_COUNT);
+        contents.remove(FIELD_DATA.getPreferredName());
+        NullPointerException emptyData = assertThrows(
+            NullPointerException.class,
+            () -> UploadGeoJSONRequestContent.create(toContent(contents))
         );
-        assertEquals(
-            "wrong error returned",
-            reachedMaxFeatureCount.getMessage(),
-            "Received 10001 features, but, cannot upload more than 10000 features"
+        assertTrue(emptyData.getMessage().contains("[ data ] cannot be empty"));
+    }
+
+    public void testCreateMalformedContent() {
+        assertThrows(
+            IllegalArgumentException.class,
+            () -> UploadGeoJSONRequestContent.create(new BytesArray("{\"index\":\"" + indexName + "\",\"data\":["))
         );
     }
 
     public void testCreateEmptyGeospatialFieldName() {
-        final var content = UploadGeoJSONRequestContent.create(buildRequestContent(randomLowerCaseString(), "", MIN_FEATURE_COUNT));
+        final var content = UploadGeoJSONRequestContent.create(
+            toContent(buildRequestContent(randomLowerCaseString(), "", MIN_FEATURE_COUNT))
+        );
         assertNotNull(content);
         assertEquals("wrong field name", GEOSPATIAL_DEFAULT_FIELD_NAME, content.getFieldName());
     }
 
     public void testCreateEmptyGeospatialFieldType() {
-        Map<String, Object> contents = buildRequestContent(indexName, fieldName, MIN_FEATURE_COUNT);
+        JSONObject contents = buildRequestContent(indexName, fieldName, MIN_FEATURE_COUNT);
         contents.remove(UploadGeoJSONRequestContent.FIELD_GEOSPATIAL_TYPE.getPreferredName());
         IllegalArgumentException invalidIndexName = assertThrows(
             IllegalArgumentException.class,
-            () -> UploadGeoJSONRequestContent.create(contents)
+            () -> UploadGeoJSONRequestContent.create(toContent(contents))
         );
         assertTrue(invalidIndexName.getMessage().contains("[ type ] cannot be empty"));
     }
 
+    public void testCreateWithSpatialRoutingWhenFeatureHasId() {
+        JSONObject contents = buildRequestContent(indexName, fieldName, 0);
+        JSONObject featureWithId = buildGeoJSONFeature(randomGeoJSONGeometry(), buildProperties(Collections.emptyMap()));
+        featureWithId.put(ContentBuilder.GEOJSON_FEATURE_ID_FIELD, "first");
+        contents.put(
+            FIELD_DATA.getPreferredName(),
+            new JSONArray().put(buildGeoJSONFeature(randomGeoJSONGeometry(), buildProperties(Collections.emptyMap()))).put(featureWithId)
+        );
+
+        IllegalArgumentException exception = assertThrows(
+            IllegalArgumentException.class,
+            () -> UploadGeoJSONRequestContent.create(toContent(contents), UploadCompression.NONE, true)
+        );
+        assertEquals("Feature with id [first] cannot be uploaded with spatial routing, since id must be unique", exception.getMessage());
+        assertEquals(2, UploadGeoJSONRequestContent.create(toContent(contents), UploadCompression.NONE, false).getFeatureCount());
+    }
+
+    public void testCreateWithSpatialRoutingWhenFeaturesHaveNoId() {
+        JSONObject contents = buildRequestContent(indexName, fieldName, 0);
+        JSONArray features = new JSONArray();
+        for (int i = 0; i < MIN_FEATURE_COUNT; i++) {
+            features.put(buildGeoJSONFeature(randomGeoJSONGeometry(), buildProperties(Collections.emptyMap())));
+        }
+        contents.put(FIELD_DATA.getPreferredName(), features);
+
+        final var content = UploadGeoJSONRequestContent.create(toContent(contents), UploadCompression.NONE, true);
+        assertEquals(MIN_FEATURE_COUNT, content.getFeatureCount());
+    }
+
+    private BytesReference buildGeoJSONSeq(int count) {
+        StringBuilder lines = new StringBuilder();
+        for (int i = 0; i < count; i++) {
+            lines.append(randomGeoJSONFeature(buildProperties(Collections.emptyMap()))).append('\n');
+        }
+        return new BytesArray(lines.toString());
+    }
+
+    private Map<String, Object> buildMetadata(String indexName, String fieldName) {
+        Map<String, Object> metadata = new HashMap<>();
+        metadata.put(UploadGeoJSONRequestContent.FIELD_INDEX.getPreferredName(), indexName);
+        metadata.put(UploadGeoJSONRequestContent.FIELD_GEOSPATIAL.getPreferredName(), fieldName);
+        metadata.put(UploadGeoJSONRequestContent.FIELD_GEOSPATIAL_TYPE.getPreferredName(), "geo_shape");
+        return metadata;
+    }
+
+    public void testCreateFromGeoJSONSeq() {
+        int featureCount = randomIntBetween(MIN_FEATURE_COUNT, 100);
+        final UploadGeoJSONRequestContent content = UploadGeoJSONRequestContent.createFromGeoJSONSeq(
+            buildGeoJSONSeq(featureCount),
+            UploadCompression.NONE,
+            buildMetadata(indexName, fieldName),
+            Runnable::run,
+            randomIntBetween(1, 4),
+            false
+        );
+        assertEquals(indexName, content.getIndexName());
+        assertEquals(fieldName, content.getFieldName());
+        assertEquals("geo_shape", content.getFieldType());
+        assertEquals(featureCount, content.getFeatureCount());
+        assertEquals(featureCount, readFeatures(content).size());
+    }
+
+    public void testCreateFromGeoJSONSeqEmptyIndexName() {
+        IllegalArgumentException invalidIndexName = expectThrows(
+            IllegalArgumentException.class,
+            () -> UploadGeoJSONRequestContent.createFromGeoJSONSeq(
+                buildGeoJSONSeq(MIN_FEATURE_COUNT),
+                UploadCompression.NONE,
+                buildMetadata("", fieldName),
+                Runnable::run,
+                1,
+                false
+            )
+        );
+        assertTrue(invalidIndexName.getMessage().contains("[ index ] cannot be empty"));
+    }
+
+    public void testCreateFromGeoJSONSeqInvalidFeature() {
+        BytesReference lines = new BytesArray(randomGeoJSONFeature(buildProperties(Collections.emptyMap())) + "\n{\"type\":\"Feature\"}\n");
+        expectThrows(
+            IllegalArgumentException.class,
+            () -> UploadGeoJSONRequestContent.createFromGeoJSONSeq(
+                lines,
+                UploadCompression.NONE,
+                buildMetadata(indexName, fieldName),
+                Runnable::run,
+                1,
+                false
+            )
+        );
+    }
+
+    public void testCreateFromFlatGeobuf() {
+        int featureCount = randomIntBetween(MIN_FEATURE_COUNT, 100);
+        FlatGeobufBuilder builder = new FlatGeobufBuilder().header(new FlatGeobufBuilder.Table().field(2, new byte[] { 1 }));
+        for (int i = 0; i < featureCount; i++) {
+            builder.feature(new FlatGeobufBuilder.Table().reference(0, FlatGeobufBuilder.geometry(0, randomDouble(), randomDouble())));
+        }
+        final UploadGeoJSONRequestContent content = UploadGeoJSONRequestContent.createFromFlatGeobuf(
+            builder.build(),
+            UploadCompression.NONE,
+            buildMetadata(indexName, fieldName),
+            false
+        );
+        assertEquals(indexName, content.getIndexName());
+        assertEquals(fieldName, content.getFieldName());
+        assertEquals(featureCount, content.getFeatureCount());
+        assertEquals(featureCount, readFeatures(content).size());
+    }
+
+    public void testCreateFromFlatGeobufInvalidContent() {
+        expectThrows(
+            IllegalArgumentException.class,
+            () -> UploadGeoJSONRequestContent.createFromFlatGeobuf(
+                buildGeoJSONSeq(MIN_FEATURE_COUNT),
+                UploadCompression.NONE,
+                buildMetadata(indexName, fieldName),
+                false
+            )
+        );
+    }
+
+    @SneakyThrows
+    public void testCreateCompressed() {
+        int featureCount = randomIntBetween(MIN_FEATURE_COUNT, 100);
+        UploadCompression compression = randomFrom(UploadCompression.values());
+        BytesReference compressed = compress(toContent(buildRequestContent(indexName, fieldName, featureCount)), compression);
+        final UploadGeoJSONRequestContent content = UploadGeoJSONRequestContent.create(compressed, compression);
+        assertEquals(indexName, content.getIndexName());
+        assertEquals(featureCount, content.getFeatureCount());
+        assertEquals(featureCount, readFeatures(content).size());
+    }
+
+    @SneakyThrows
+    public void testCreateFromGeoJSONSeqCompressed() {
+        int featureCount = randomIntBetween(MIN_FEATURE_COUNT, 100);
+        final UploadGeoJSONRequestContent content = UploadGeoJSONRequestContent.createFromGeoJSONSeq(
+            compress(buildGeoJSONSeq(featureCount), UploadCompression.GZIP),
+            UploadCompression.GZIP,
+            buildMetadata(indexName, fieldName),
+            Runnable::run,
+            randomIntBetween(1, 4),
+            false
+        );
+        assertEquals(featureCount, content.getFeatureCount());
+        assertEquals(featureCount, readFeatures(content).size());
+    }
+
+    @SneakyThrows
+    public void testCreateFromFlatGeobufCompressed() {
+        int featureCount = randomIntBetween(MIN_FEATURE_COUNT, 100);
+        FlatGeobufBuilder builder = new FlatGeobufBuilder().header(new FlatGeobufBuilder.Table().field(2, new byte[] { 1 }));
+        for (int i = 0; i < featureCount; i++) {
+            builder.feature(new FlatGeobufBuilder.Table().reference(0, FlatGeobufBuilder.geometry(0, randomDouble(), randomDouble())));
+        }
+        final UploadGeoJSONRequestContent content = UploadGeoJSONRequestContent.createFromFlatGeobuf(
+            compress(builder.build(), UploadCompression.DEFLATE),
+            UploadCompression.DEFLATE,
+            buildMetadata(indexName, fieldName),
+            false
+        );
+        assertEquals(featureCount, content.getFeatureCount());
+        assertEquals(featureCount, readFeatures(content).size());
+    }
+
+    public void testCreateWhenContentIsNotCompressed() {
+        IllegalArgumentException exception = expectThrows(
+            IllegalArgumentException.class,
+            () -> UploadGeoJSONRequestContent.create(
+                toContent(buildRequestContent(indexName, fieldName, MIN_FEATURE_COUNT)),
+                UploadCompression.GZIP
+            )
+        );
+        assertTrue(exception.getMessage().contains("failed to parse GeoJSON content"));
+    }
+
     public void testValidLineString() {
         // Simple LineString with 100 coordinates - should work fine
         JSONArray coordinates = new JSONArray();
@@ -115,7 +350,7 @@ public class UploadGeoJSONRequestContentTests extends OpenSearchTestCase {
             .put("type", "geo_shape")
             .put("data", new JSONArray().put(feature));
 
-        UploadGeoJSONRequestContent content = UploadGeoJSONRequestContent.create(request.toMap());
+        UploadGeoJSONRequestContent content = UploadGeoJSONRequestContent.create(toContent(request));
         assertNotNull(content);
     }
 
@@ -137,7 +372,7 @@ public class UploadGeoJSONRequestContentTests extends OpenSearchTestCase {
 
         IllegalArgumentException exception = assertThrows(
             IllegalArgumentException.class,
-            () -> UploadGeoJSONRequestContent.create(request.toMap())
+            () -> UploadGeoJSONRequestContent.create(toContent(request))
         );
     }
 
@@ -170,7 +405,7 @@ public class UploadGeoJSONRequestContentTests extends OpenSearchTestCase {
             .put("type", "geo_shape")
             .put("data", new JSONArray().put(feature));
 
-        UploadGeoJSONRequestContent content = UploadGeoJSONRequestContent.create(request.toMap());
+        UploadGeoJSONRequestContent content = UploadGeoJSONRequestContent.create(toContent(request));
         assertNotNull(content);
     }
 
@@ -205,7 +440,7 @@ public class UploadGeoJSONRequestContentTests extends OpenSearchTestCase {
 
         IllegalArgumentException exception = assertThrows(
             IllegalArgumentException.class,
-            () -> UploadGeoJSONRequestContent.create(request.toMap())
+            () -> UploadGeoJSONRequestContent.create(toContent(request))
         );
     }
 
@@ -236,7 +471,7 @@ public class UploadGeoJSONRequestContentTests extends OpenSearchTestCase {
 
         IllegalArgumentException exception = assertThrows(
             IllegalArgumentException.class,
-            () -> UploadGeoJSONRequestContent.create(request.toMap())
+            () -> UploadGeoJSONRequestContent.create(toContent(request))
         );
     }
 
@@ -257,7 +492,7 @@ public class UploadGeoJSONRequestContentTests extends OpenSearchTestCase {
             .put("type", "geo_shape")
             .put("data", new JSONArray().put(feature));
 
-        UploadGeoJSONRequestContent content = UploadGeoJSONRequestContent.create(request.toMap());
+        UploadGeoJSONRequestContent content = UploadGeoJSONRequestContent.create(toContent(request));
         assertNotNull(content);
     }
 
@@ -280,7 +515,7 @@ public class UploadGeoJSONRequestContentTests extends OpenSearchTestCase {
 
         IllegalArgumentException exception = assertThrows(
             IllegalArgumentException.class,
-            () -> UploadGeoJSONRequestContent.create(request.toMap())
+            () -> UploadGeoJSONRequestContent.create(toContent(request))
         );
     }
 
@@ -305,7 +540,7 @@ public class UploadGeoJSONRequestContentTests extends OpenSearchTestCase {
             .put("type", "geo_shape")
             .put("data", new JSONArray().put(feature));
 
-        UploadGeoJSONRequestContent content = UploadGeoJSONRequestContent.create(request.toMap());
+        UploadGeoJSONRequestContent content = UploadGeoJSONRequestContent.create(toContent(request));
         assertNotNull(content);
     }
 
@@ -332,7 +567,7 @@ public class UploadGeoJSONRequestContentTests extends OpenSearchTestCase {
 
         IllegalArgumentException exception = assertThrows(
             IllegalArgumentException.class,
-            () -> UploadGeoJSONRequestContent.create(request.toMap())
+            () -> UploadGeoJSONRequestContent.create(toContent(request))
         );
     }
 
@@ -366,7 +601,7 @@ public class UploadGeoJSONRequestContentTests extends OpenSearchTestCase {
             .put("type", "geo_shape")
             .put("data", new JSONArray().put(feature));
 
-        UploadGeoJSONRequestContent content = UploadGeoJSONRequestContent.create(request.toMap());
+        UploadGeoJSONRequestContent content = UploadGeoJSONRequestContent.create(toContent(request));
         assertNotNull(content);
     }
 
@@ -388,7 +623,7 @@ public class UploadGeoJSONRequestContentTests extends OpenSearchTestCase {
 
         IllegalArgumentException exception = assertThrows(
             IllegalArgumentException.class,
-            () -> UploadGeoJSONRequestContent.create(request.toMap())
+            () -> UploadGeoJSONRequestContent.create(toContent(request))
         );
     }
 
@@ -410,7 +645,7 @@ public class UploadGeoJSONRequestContentTests extends OpenSearchTestCase {
 
         IllegalArgumentException exception = assertThrows(
             IllegalArgumentException.class,
-            () -> UploadGeoJSONRequestContent.create(request.toMap())
+            () -> UploadGeoJSONRequestContent.create(toContent(request))
         );
     }
 
@@ -425,15 +660,7 @@ public class UploadGeoJSONRequestContentTests extends OpenSearchTestCase {
             .put(GeospatialSettings.MAX_GEOMETRY_COLLECTION_NESTED_DEPTH.getKey(), 5)
             .build();
 
-        ClusterSettings clusterSettings = new ClusterSettings(
-            customSettings,
-            java.util.Set.of(
-                GeospatialSettings.MAX_COORDINATES_PER_GEOMETRY,
-                GeospatialSettings.MAX_HOLES_PER_POLYGON,
-                GeospatialSettings.MAX_MULTI_GEOMETRIES,
-                GeospatialSettings.MAX_GEOMETRY_COLLECTION_NESTED_DEPTH
-            )
-        );
+        ClusterSettings clusterSettings = new ClusterSettings(customSettings, java.util.Set.copyOf(GeospatialSettings.settings()));
 
         ClusterService mockClusterService = mock(ClusterService.class);
         when(mockClusterService.getClusterSettings()).thenReturn(clusterSettings);
@@ -459,7 +686,7 @@ public class UploadGeoJSONRequestContentTests extends OpenSearchTestCase {
 
         IllegalArgumentException exception = assertThrows(
             IllegalArgumentException.class,
-            () -> UploadGeoJSONRequestContent.create(request101.toMap())
+            () -> UploadGeoJSONRequestContent.create(toContent(request101))
         );
 
         // Test 2: LineString with 99 coordinates should PASS (within new limit of 100)
@@ -477,7 +704,7 @@ public class UploadGeoJSONRequestContentTests extends OpenSearchTestCase {
             .put("type", "geo_shape")
             .put("data", new JSONArray().put(feature99));
 
-        UploadGeoJSONRequestContent content = UploadGeoJSONRequestContent.create(request99.toMap());
+        UploadGeoJSONRequestContent content = UploadGeoJSONRequestContent.create(toContent(request99));
         assertNotNull("Should successfully create content with 99 coordinates", content);
 
         // Restore default settings for other tests
@@ -11,12 +11,18 @@ import static org.opensearch.rest.RestRequest.Method.PUT;
 
 import java.io.IOException;
 import java.nio.charset.StandardCharsets;
+import java.util.Map;
 
 import org.json.JSONObject;
+import org.opensearch.action.ActionRequestValidationException;
 import org.opensearch.common.io.stream.BytesStreamOutput;
 import org.opensearch.core.common.bytes.BytesArray;
 import org.opensearch.core.common.io.stream.StreamInput;
+import org.opensearch.core.tasks.TaskId;
+import org.opensearch.geospatial.routing.SpatialRouting;
+import org.opensearch.geospatial.routing.SpatialRoutingScheme;
 import org.opensearch.rest.RestRequest;
+import org.opensearch.tasks.Task;
 import org.opensearch.test.OpenSearchTestCase;
 
 public class UploadGeoJSONRequestTests extends OpenSearchTestCase {
@@ -38,6 +44,35 @@ public class UploadGeoJSONRequestTests extends OpenSearchTestCase {
         UploadGeoJSONRequest serialized = new UploadGeoJSONRequest(in);
         assertEquals(requestBody, serialized.getContent().utf8ToString());
         assertEquals(method, serialized.getMethod());
+        assertEquals(UploadFormat.GEOJSON, serialized.getFormat());
+        assertEquals(UploadCompression.NONE, serialized.getCompression());
+        assertFalse(serialized.isSkipUnchanged());
+        assertNull(serialized.getSpatialRouting());
+        assertEquals(0, serialized.getSimplify(), 0);
+        assertFalse(serialized.isCompactGeometry());
+    }
+
+    public void testStreamsWithGeoJSONSeq() throws IOException {
+        String requestBody = getRandomRequestBody();
+        UploadGeoJSONRequest request = new UploadGeoJSONRequest(PUT, new BytesArray(requestBody.getBytes(StandardCharsets.UTF_8)));
+        request.setFormat(UploadFormat.GEOJSON_SEQ);
+        request.setMetadata(Map.of(UploadGeoJSONRequestContent.FIELD_INDEX.getPreferredName(), randomLowerCaseString()));
+        request.setCompression(randomFrom(UploadCompression.values()));
+        request.setSkipUnchanged(true);
+        request.setSpatialRouting(new SpatialRouting(SpatialRoutingScheme.H3, randomIntBetween(0, 15)));
+        request.setSimplify(randomDoubleBetween(0.001, 1, true));
+        request.setCompactGeometry(true);
+        BytesStreamOutput output = new BytesStreamOutput();
+        request.writeTo(output);
+
+        UploadGeoJSONRequest serialized = new UploadGeoJSONRequest(output.bytes().streamInput());
+        assertEquals(UploadFormat.GEOJSON_SEQ, serialized.getFormat());
+        assertEquals(request.getMetadata(), serialized.getMetadata());
+        assertEquals(request.getCompression(), serialized.getCompression());
+        assertTrue(serialized.isSkipUnchanged());
+        assertEquals(request.getSpatialRouting(), serialized.getSpatialRouting());
+        assertEquals(request.getSimplify(), serialized.getSimplify(), 0);
+        assertTrue(serialized.isCompactGeometry());
     }
 
     public void testRequestValidation() {
@@ -47,4 +82,40 @@ public class UploadGeoJSONRequestTests extends OpenSearchTestCase {
         );
         assertNull(request.validate());
     }
+
+    public void testRequestValidation_whenSkipUnchangedWithSpatialRouting_thenValidationError() {
+        UploadGeoJSONRequest request = new UploadGeoJSONRequest(
+            PUT,
+            new BytesArray(getRandomRequestBody().getBytes(StandardCharsets.UTF_8))
+        );
+        request.setSkipUnchanged(true);
+        request.setSpatialRouting(new SpatialRouting(randomFrom(SpatialRoutingScheme.values()), 2));
+
+        // Run
+        ActionRequestValidationException validationException = request.validate();
+
+        // Verify
+        assertNotNull(validationException);
+        assertTrue(validationException.getMessage().contains("skip_unchanged is not supported with spatial_routing"));
+    }
+
+    public void testCreateTask() {
+        UploadGeoJSONRequest request = new UploadGeoJSONRequest(
+            POST,
+            new BytesArray(getRandomRequestBody().getBytes(StandardCharsets.UTF_8))
+        );
+        Task task = request.createTask(randomNonNegativeLong(), "transport", UploadGeoJSONAction.NAME, TaskId.EMPTY_TASK_ID, Map.of());
+        assertTrue(task instanceof UploadGeoJSONTask);
+        assertEquals(request.getDescription(), task.getDescription());
+    }
+
+    public void testShouldStoreResult() {
+        UploadGeoJSONRequest request = new UploadGeoJSONRequest(
+            POST,
+            new BytesArray(getRandomRequestBody().getBytes(StandardCharsets.UTF_8))
+        );
+        assertFalse(request.getShouldStoreResult());
+        request.setShouldStoreResult(true);
+        assertTrue(request.getShouldStoreResult());
+    }
 }
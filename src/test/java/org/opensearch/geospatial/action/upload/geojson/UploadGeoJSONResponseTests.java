@@ -5,9 +5,13 @@
 
 package org.opensearch.geospatial.action.upload.geojson;
 
+import java.io.IOException;
+
 import org.opensearch.action.bulk.BulkResponse;
+import org.opensearch.common.io.stream.BytesStreamOutput;
 import org.opensearch.common.xcontent.XContentType;
 import org.opensearch.core.common.Strings;
+import org.opensearch.core.common.io.stream.StreamInput;
 import org.opensearch.geospatial.GeospatialTestHelper;
 import org.opensearch.test.OpenSearchTestCase;
 
@@ -20,24 +24,69 @@ public class UploadGeoJSONResponseTests extends OpenSearchTestCase {
     public void testToXContentHasNoFailure() {
         int successActionCount = randomIntBetween(MIN_SUCCESS_ITEM_COUNT, MAX_SUCCESS_ITEM_COUNT);
         final BulkResponse bulkItemResponses = GeospatialTestHelper.generateRandomBulkResponse(successActionCount, false);
-        UploadGeoJSONResponse getResponse = new UploadGeoJSONResponse(bulkItemResponses);
+        UploadGeoJSONResponse getResponse = new UploadGeoJSONResponse.Builder().add(bulkItemResponses).build();
         String responseBody = Strings.toString(XContentType.JSON, getResponse);
         assertTrue(responseBody.contains("\"errors\":false"));
         assertTrue(responseBody.contains("\"failure\":0"));
         assertTrue(responseBody.contains("\"total\":" + successActionCount));
         assertTrue(responseBody.contains("\"success\":" + successActionCount));
+        assertTrue(responseBody.contains("\"unchanged\":0"));
+    }
+
+    public void testToXContent_whenUnchangedFeatures_thenUnchangedAreNotSuccess() {
+        int successActionCount = randomIntBetween(MIN_SUCCESS_ITEM_COUNT, MAX_SUCCESS_ITEM_COUNT);
+        int unchangedCount = randomIntBetween(1, 10);
+
+        // Run
+        UploadGeoJSONResponse response = new UploadGeoJSONResponse.Builder().add(
+            GeospatialTestHelper.generateRandomBulkResponse(successActionCount, false)
+        ).addUnchanged(unchangedCount).build();
 
+        // Verify
+        assertEquals(successActionCount + unchangedCount, response.getTotalCount());
+        assertEquals(successActionCount, response.getSuccessCount());
+        assertEquals(unchangedCount, response.getUnchangedCount());
+        String responseBody = Strings.toString(XContentType.JSON, response);
+        assertTrue(responseBody.contains("\"unchanged\":" + unchangedCount));
+        assertTrue(responseBody.contains("\"errors\":false"));
     }
 
     public void testToXContentHasFailure() {
         int successActionCount = randomIntBetween(MIN_SUCCESS_ITEM_COUNT, MAX_SUCCESS_ITEM_COUNT);
         int totalActionCount = successActionCount + FAILURE_ITEM_COUNT;
         final BulkResponse bulkItemResponses = GeospatialTestHelper.generateRandomBulkResponse(successActionCount, true);
-        UploadGeoJSONResponse getResponse = new UploadGeoJSONResponse(bulkItemResponses);
+        UploadGeoJSONResponse getResponse = new UploadGeoJSONResponse.Builder().add(bulkItemResponses).build();
         String responseBody = Strings.toString(XContentType.JSON, getResponse);
         assertTrue(responseBody.contains("\"errors\":true"));
         assertTrue(responseBody.contains("\"total\":" + totalActionCount));
         assertTrue(responseBody.contains("\"success\":" + successActionCount));
         assertTrue(responseBody.contains("\"failure\":" + FAILURE_ITEM_COUNT));
     }
+
+    public void testToXContentHasMoreFailuresThanMax() {
+        UploadGeoJSONResponse.Builder builder = new UploadGeoJSONResponse.Builder();
+        int chunkCount = UploadGeoJSONResponse.MAX_FAILURES + 1;
+        for (int i = 0; i < chunkCount; i++) {
+            builder.add(GeospatialTestHelper.generateRandomBulkResponse(MIN_SUCCESS_ITEM_COUNT, true));
+        }
+        UploadGeoJSONResponse response = builder.build();
+        assertEquals(chunkCount * (MIN_SUCCESS_ITEM_COUNT + FAILURE_ITEM_COUNT), response.getTotalCount());
+        assertEquals(chunkCount * FAILURE_ITEM_COUNT, response.getFailedCount());
+        // only first failures are kept
+        assertEquals(UploadGeoJSONResponse.MAX_FAILURES, response.getFailures().size());
+        String responseBody = Strings.toString(XContentType.JSON, response);
+        assertTrue(responseBody.contains("\"failure\":" + chunkCount * FAILURE_ITEM_COUNT));
+    }
+
+    public void testStreams() throws IOException {
+        int successActionCount = randomIntBetween(MIN_SUCCESS_ITEM_COUNT, MAX_SUCCESS_ITEM_COUNT);
+        UploadGeoJSONResponse response = new UploadGeoJSONResponse.Builder().add(
+            GeospatialTestHelper.generateRandomBulkResponse(successActionCount, true)
+        ).addUnchanged(randomIntBetween(0, 10)).build();
+        BytesStreamOutput output = new BytesStreamOutput();
+        response.writeTo(output);
+        StreamInput input = output.bytes().streamInput();
+        UploadGeoJSONResponse copiedResponse = new UploadGeoJSONResponse(input);
+        assertEquals(Strings.toString(XContentType.JSON, response), Strings.toString(XContentType.JSON, copiedResponse));
+    }
 }
@@ -0,0 +1,73 @@
+/*
+ * Copyright OpenSearch Contributors
+ * SPDX-License-Identifier: Apache-2.0
+ */
+
+package org.opensearch.geospatial.action.upload.geojson;
+
+import java.io.IOException;
+import java.util.Map;
+
+import org.opensearch.common.io.stream.BytesStreamOutput;
+import org.opensearch.common.xcontent.XContentType;
+import org.opensearch.core.common.Strings;
+import org.opensearch.core.tasks.TaskId;
+import org.opensearch.test.OpenSearchTestCase;
+
+public class UploadGeoJSONTaskTests extends OpenSearchTestCase {
+
+    private UploadGeoJSONTask createTask() {
+        return new UploadGeoJSONTask(randomNonNegativeLong(), "transport", UploadGeoJSONAction.NAME, "", TaskId.EMPTY_TASK_ID, Map.of());
+    }
+
+    public void testGetStatus_whenFeaturesAreIndexed_thenReturnProgress() {
+        UploadGeoJSONTask task = createTask();
+
+        // Run
+        task.onFeaturesParsed(10);
+        task.onFeaturesIndexed(6, 1);
+        task.onFeaturesParsed(5);
+        task.onFeaturesIndexed(2, 0);
+        UploadGeoJSONTask.Status status = task.getStatus();
+
+        // Verify
+        assertEquals(15, status.getParsed());
+        assertEquals(8, status.getIndexed());
+        assertEquals(1, status.getFailed());
+        assertTrue(status.getFeaturesPerSecond() >= 0);
+    }
+
+    public void testStatusStreams_whenSerialized_thenSameStatus() throws IOException {
+        UploadGeoJSONTask.Status status = new UploadGeoJSONTask.Status(
+            randomNonNegativeLong(),
+            randomNonNegativeLong(),
+            randomNonNegativeLong(),
+            randomDouble()
+        );
+        BytesStreamOutput output = new BytesStreamOutput();
+
+        // Run
+        status.writeTo(output);
+        UploadGeoJSONTask.Status copiedStatus = new UploadGeoJSONTask.Status(output.bytes().streamInput());
+
+        // Verify
+        assertEquals(status, copiedStatus);
+    }
+
+    public void testStatusToXContent_whenCalled_thenContainsProgress() {
+        UploadGeoJSONTask.Status status = new UploadGeoJSONTask.Status(3, 2, 1, 1.5);
+
+        // Run
+        String statusBody = Strings.toString(XContentType.JSON, status);
+
+        // Verify
+        assertTrue(statusBody.contains("\"features_parsed\":3"));
+        assertTrue(statusBody.contains("\"features_indexed\":2"));
+        assertTrue(statusBody.contains("\"features_failed\":1"));
+        assertTrue(statusBody.contains("\"features_per_second\":1.5"));
+    }
+
+    public void testShouldCancelChildrenOnCancellation_whenCalled_thenTrue() {
+        assertTrue(createTask().shouldCancelChildrenOnCancellation());
+    }
+}
@@ -9,32 +9,44 @@ import static org.mockito.ArgumentMatchers.any;
 import static org.mockito.ArgumentMatchers.anyMap;
 import static org.mockito.ArgumentMatchers.anyString;
 import static org.mockito.Mockito.doAnswer;
+import static org.mockito.Mockito.doReturn;
 import static org.mockito.Mockito.mock;
 import static org.mockito.Mockito.never;
+import static org.mockito.Mockito.times;
 import static org.mockito.Mockito.verify;
+import static org.mockito.Mockito.when;
 import static org.opensearch.geospatial.GeospatialTestHelper.randomLowerCaseString;
 
+import java.io.IOException;
+import java.util.ArrayDeque;
 import java.util.Arrays;
 import java.util.List;
 import java.util.Map;
 import java.util.Optional;
+import java.util.Queue;
 import java.util.function.Predicate;
-import java.util.function.Supplier;
-import java.util.stream.Collectors;
 
+import org.mockito.ArgumentCaptor;
 import org.opensearch.action.StepListener;
 import org.opensearch.action.bulk.BulkItemResponse;
 import org.opensearch.action.bulk.BulkRequestBuilder;
 import org.opensearch.action.bulk.BulkResponse;
+import org.opensearch.common.util.concurrent.OpenSearchRejectedExecutionException;
 import org.opensearch.core.action.ActionListener;
+import org.opensearch.core.tasks.TaskCancelledException;
+import org.opensearch.core.tasks.TaskId;
 import org.opensearch.geospatial.GeospatialTestHelper;
 import org.opensearch.geospatial.stats.upload.UploadMetric;
 import org.opensearch.geospatial.stats.upload.UploadStats;
+import org.opensearch.tasks.TaskCancelHelper;
 import org.opensearch.test.OpenSearchTestCase;
 
+import lombok.SneakyThrows;
+
 public class UploaderTests extends OpenSearchTestCase {
 
     public static final int MAX_NUM_ACTION = 5;
+    public static final int MAX_CONCURRENT_BULK_REQUESTS = 2;
     public static final boolean ACTION_SUCCESS = true;
     public static final boolean BULK_REQUEST_SUCCESS = false;
     public static final boolean BULK_REQUEST_FAILURE = true;
@@ -46,23 +58,22 @@ public class UploaderTests extends OpenSearchTestCase {
     private UploadGeoJSONRequestContent content;
     private ActionListener mockListener;
     private IndexManager mockIndexManager;
-    private PipelineManager mockPipelineManager;
     private ContentBuilder mockContentBuilder;
     private BulkRequestBuilder mockBulkRequestBuilder;
+    private UploadGeoJSONTask task;
 
     @Override
     public void setUp() throws Exception {
         super.setUp();
         mockListener = mock(ActionListener.class);
         mockIndexManager = mock(IndexManager.class);
-        mockPipelineManager = mock(PipelineManager.class);
         mockContentBuilder = mock(ContentBuilder.class);
         mockBulkRequestBuilder = mock(BulkRequestBuilder.class);
 
-        uploader = new Uploader(mockIndexManager, mockPipelineManager, mockContentBuilder);
+        task = new UploadGeoJSONTask(randomNonNegativeLong(), "transport", UploadGeoJSONAction.NAME, "", TaskId.EMPTY_TASK_ID, Map.of());
+        uploader = new Uploader(mockIndexManager, mockContentBuilder, MAX_CONCURRENT_BULK_REQUESTS);
         GeospatialTestHelper.initializeGeoJSONRequestContentSettings();
-        Map<String, Object> contentMap = GeospatialTestHelper.buildRequestContent(3);
-        content = UploadGeoJSONRequestContent.create(contentMap);
+        content = UploadGeoJSONRequestContent.create(GeospatialTestHelper.buildRequestContent(3));
     }
 
     private void mockCreateIndexAction(boolean status) {
@@ -79,127 +90,78 @@ public class UploaderTests extends OpenSearchTestCase {
         }).when(mockIndexManager).create(anyString(), anyMap(), any(StepListener.class));
     }
 
-    private String mockCreatePipelineAction(boolean status) {
-        String pipelineID = randomLowerCaseString();
-        doAnswer(invocation -> {
-            Object[] args = invocation.getArguments();
-            assert args.length == 2;
-            StepListener<String> createPipelineListener = (StepListener<String>) args[1];
-            if (status) {             // call onResponse flow
-                createPipelineListener.onResponse(pipelineID);
-                return null;
-            }
-            createPipelineListener.onFailure(new IllegalStateException(randomLowerCaseString()));
-            return null;
-        }).when(mockPipelineManager).create(anyString(), any(StepListener.class));
-        return pipelineID;
-    }
-
-    private void mockDeletePipelineAction(boolean status, Supplier<Exception> supplier) {
-        doAnswer(invocation -> {
-            Object[] args = invocation.getArguments();
-            assert args.length == 3;
-            StepListener<Exception> createPipelineListener = (StepListener<Exception>) args[1];
-
-            if (status) {             // call onResponse flow
-                createPipelineListener.onResponse(supplier.get());
-                return null;
-            }
-            createPipelineListener.onFailure(new IllegalStateException(randomLowerCaseString()));
-            return null;
-        }).when(mockPipelineManager).delete(anyString(), any(StepListener.class), any(Supplier.class));
-    }
-
+    @SneakyThrows
     private void mockContentPreparation(boolean status) {
+        // features are prepared in chunks till there are no more features
         doAnswer(invocation -> {
             Object[] args = invocation.getArguments();
-            assert args.length == 2;
+            assert args.length == 3;
             if (status) {             // call onResponse flow
                 return Optional.of(mockBulkRequestBuilder);
             }
             return Optional.empty();
-        }).when(mockContentBuilder).prepare(any(UploadGeoJSONRequestContent.class), anyString());
+        }).doReturn(Optional.empty()).when(mockContentBuilder).prepare(any(FeatureReader.class), anyString(), anyString());
     }
 
     public void testCreateIndexIsNotCalled() {
-        uploader.upload(content, INDEX_ALREADY_EXIST, mockListener);
+        uploader.upload(content, INDEX_ALREADY_EXIST, task, mockListener);
         verify(mockIndexManager, never()).create(anyString(), any(Map.class), any(StepListener.class));
     }
 
-    public void testCreateIndexSuccess() {
+    public void testCreateIndexSuccess() throws IOException {
         mockCreateIndexAction(ACTION_SUCCESS);
-        uploader.upload(content, INDEX_DOES_NOT_EXIST, mockListener);
+        uploader.upload(content, INDEX_DOES_NOT_EXIST, task, mockListener);
         verify(mockIndexManager).create(any(String.class), anyMap(), any(StepListener.class));
         // if create index is success, verify next step is called.
-        verify(mockPipelineManager).create(anyString(), any(StepListener.class));
+        verify(mockContentBuilder).prepare(any(FeatureReader.class), anyString(), anyString());
     }
 
-    public void testCreateIndexFailed() {
+    public void testCreateIndexFailed() throws IOException {
         mockCreateIndexAction(ACTION_FAILED);
-        uploader.upload(content, INDEX_DOES_NOT_EXIST, mockListener);
+        uploader.upload(content, INDEX_DOES_NOT_EXIST, task, mockListener);
         verify(mockIndexManager).create(any(String.class), anyMap(), any(StepListener.class));
         // if create index is success, verify, next step is not called.
-        verify(mockPipelineManager, never()).create(anyString(), any(StepListener.class));
+        verify(mockContentBuilder, never()).prepare(any(FeatureReader.class), anyString(), anyString());
+        verify(mockListener).onFailure(any(IllegalStateException.class));
     }
 
-    public void testCreatePipelineSuccess() {
-        mockCreatePipelineAction(ACTION_SUCCESS);
-        uploader.upload(content, INDEX_ALREADY_EXIST, mockListener);
-        verify(mockPipelineManager).create(anyString(), any(StepListener.class));
-        // if create pipeline is success, verify next step is called.
-        verify(mockContentBuilder).prepare(any(UploadGeoJSONRequestContent.class), anyString());
-    }
-
-    public void testCreatePipelineFailed() {
-
-        mockCreatePipelineAction(ACTION_FAILED);
-        uploader.upload(content, INDEX_ALREADY_EXIST, mockListener);
-        // if create index is success, verify, next step is not called.
-        verify(mockContentBuilder, never()).prepare(any(UploadGeoJSONRequestContent.class), anyString());
+    public void testNoFeaturesToIndex() {
+        mockContentPreparation(ACTION_FAILED);
+        uploader.upload(content, INDEX_ALREADY_EXIST, task, mockListener);
+        verify(mockBulkRequestBuilder, never()).execute(any(ActionListener.class));
+        verify(mockListener).onFailure(any(IllegalStateException.class));
     }
 
     public void testBulkActionWithoutFailures() {
-        mockCreatePipelineAction(ACTION_SUCCESS);
         mockContentPreparation(ACTION_SUCCESS);
         mockBulkRequestExecute(MAX_NUM_ACTION, BULK_REQUEST_SUCCESS);
-        mockDeletePipelineAction(ACTION_SUCCESS, () -> null);
-        uploader.upload(content, INDEX_ALREADY_EXIST, mockListener);
+        uploader.upload(content, INDEX_ALREADY_EXIST, task, mockListener);
         verify(mockBulkRequestBuilder).execute(any(ActionListener.class));
-        verify(mockPipelineManager).delete(anyString(), any(StepListener.class), any(Supplier.class));
         verify(mockListener).onResponse(any());
     }
 
     public void testUploadMetricAddedToStats() {
-        String pipelineID = mockCreatePipelineAction(ACTION_SUCCESS);
         mockContentPreparation(ACTION_SUCCESS);
         mockBulkRequestExecute(MAX_NUM_ACTION, BULK_REQUEST_SUCCESS);
-        mockDeletePipelineAction(ACTION_SUCCESS, () -> null);
-        uploader.upload(content, INDEX_ALREADY_EXIST, mockListener);
-        final List<String> uploadMetric = UploadStats.getInstance()
-            .getMetrics()
-            .stream()
-            .filter(metric -> pipelineID.equals(metric.getMetricID()))
-            .map(UploadMetric::getMetricID)
-            .collect(Collectors.toList());
+        final long uploadsBeforeUpload = UploadStats.getInstance().getTotal().getUploads();
+        uploader.upload(content, INDEX_ALREADY_EXIST, task, mockListener);
         // check metric is added
-        assertNotNull(uploadMetric);
-        assertArrayEquals(new String[] { pipelineID }, uploadMetric.toArray());
+        assertEquals(uploadsBeforeUpload + 1, UploadStats.getInstance().getTotal().getUploads());
+        assertTrue(UploadStats.getInstance().getIndices().containsKey(content.getIndexName()));
+        assertTrue(UploadStats.getInstance().getFieldTypes().containsKey(content.getFieldType()));
     }
 
     public void testUploadMetricValues() {
-        String pipelineID = mockCreatePipelineAction(ACTION_SUCCESS);
         mockContentPreparation(ACTION_SUCCESS);
         final BulkResponse mockResponse = mockBulkRequestExecute(MAX_NUM_ACTION, BULK_REQUEST_FAILURE);
-        mockDeletePipelineAction(ACTION_SUCCESS, () -> null);
-        uploader.upload(content, INDEX_ALREADY_EXIST, mockListener);
-        Optional<UploadMetric> actualMetric = UploadStats.getInstance()
-            .getMetrics()
-            .stream()
-            .filter(metric -> pipelineID.equals(metric.getMetricID()))
-            .findAny();
-        // check metric is added
-        assertTrue(actualMetric.isPresent());
-        final UploadMetric metric = actualMetric.get();
+        final List<UploadMetric> metricsBeforeUpload = UploadStats.getInstance().getMetrics();
+        uploader.upload(content, INDEX_ALREADY_EXIST, task, mockListener);
+        final List<UploadMetric> metricsAfterUpload = UploadStats.getInstance().getMetrics();
+        // check metric is added as the most recent metric
+        final UploadMetric metric = metricsAfterUpload.get(metricsAfterUpload.size() - 1);
+        assertFalse(metricsBeforeUpload.contains(metric));
+        assertEquals(content.getIndexName(), metric.getIndex());
+        assertEquals(content.getFieldType(), metric.getFieldType());
         // check metric upload count
         assertEquals(mockResponse.getItems().length, metric.getUploadCount());
         // check metric failed count
@@ -213,17 +175,106 @@ public class UploaderTests extends OpenSearchTestCase {
     }
 
     public void testBulkActionWithFailedIndexRequest() {
-
-        mockCreatePipelineAction(ACTION_SUCCESS);
         mockContentPreparation(ACTION_SUCCESS);
         mockBulkRequestExecute(MAX_NUM_ACTION, BULK_REQUEST_FAILURE);
-        mockDeletePipelineAction(ACTION_SUCCESS, () -> new IllegalStateException(randomLowerCaseString()));
-        uploader.upload(content, INDEX_ALREADY_EXIST, mockListener);
+        uploader.upload(content, INDEX_ALREADY_EXIST, task, mockListener);
         verify(mockBulkRequestBuilder).execute(any(ActionListener.class));
-        verify(mockPipelineManager).delete(anyString(), any(StepListener.class), any(Supplier.class));
         verify(mockListener).onResponse(any());
     }
 
+    public void testBulkActionWithMultipleChunks() throws IOException {
+        doReturn(Optional.of(mockBulkRequestBuilder), Optional.of(mockBulkRequestBuilder), Optional.empty()).when(mockContentBuilder)
+            .prepare(any(FeatureReader.class), anyString(), anyString());
+        final BulkResponse mockResponse = mockBulkRequestExecute(MAX_NUM_ACTION, BULK_REQUEST_SUCCESS);
+        uploader.upload(content, INDEX_ALREADY_EXIST, task, mockListener);
+        verify(mockBulkRequestBuilder, times(2)).execute(any(ActionListener.class));
+        ArgumentCaptor<UploadGeoJSONResponse> captor = ArgumentCaptor.forClass(UploadGeoJSONResponse.class);
+        verify(mockListener).onResponse(captor.capture());
+        // responses of all chunks are merged
+        assertEquals(mockResponse.getItems().length * 2, captor.getValue().getTotalCount());
+    }
+
+    public void testBulkActionWithMoreChunksThanMaxConcurrentBulkRequests() throws IOException {
+        doReturn(Optional.of(mockBulkRequestBuilder)).when(mockContentBuilder)
+            .prepare(any(FeatureReader.class), anyString(), anyString());
+        // bulk requests are never completed
+        uploader.upload(content, INDEX_ALREADY_EXIST, task, mockListener);
+        // next chunk is not sent till one of the requests in flight is completed
+        verify(mockContentBuilder, times(MAX_CONCURRENT_BULK_REQUESTS)).prepare(any(FeatureReader.class), anyString(), anyString());
+        verify(mockBulkRequestBuilder, times(MAX_CONCURRENT_BULK_REQUESTS)).execute(any(ActionListener.class));
+        verify(mockListener, never()).onResponse(any());
+    }
+
+    public void testBulkActionFailed() throws IOException {
+        doReturn(Optional.of(mockBulkRequestBuilder), Optional.of(mockBulkRequestBuilder), Optional.empty()).when(mockContentBuilder)
+            .prepare(any(FeatureReader.class), anyString(), anyString());
+        doAnswer(invocation -> {
+            ActionListener<BulkResponse> bulkRequestAction = invocation.getArgument(0);
+            bulkRequestAction.onFailure(new IllegalStateException(randomLowerCaseString()));
+            return null;
+        }).when(mockBulkRequestBuilder).execute(any(ActionListener.class));
+        uploader.upload(content, INDEX_ALREADY_EXIST, task, mockListener);
+        // no more chunks are sent once a chunk is failed
+        verify(mockBulkRequestBuilder).execute(any(ActionListener.class));
+        verify(mockListener).onFailure(any(IllegalStateException.class));
+        verify(mockListener, never()).onResponse(any());
+    }
+
+    public void testUploadReportsProgressToTask() {
+        mockContentPreparation(ACTION_SUCCESS);
+        when(mockBulkRequestBuilder.numberOfActions()).thenReturn(MAX_NUM_ACTION + 1);
+        final BulkResponse mockResponse = mockBulkRequestExecute(MAX_NUM_ACTION, BULK_REQUEST_FAILURE);
+        uploader.upload(content, INDEX_ALREADY_EXIST, task, mockListener);
+        UploadGeoJSONTask.Status status = task.getStatus();
+        assertEquals(mockResponse.getItems().length, status.getParsed());
+        assertEquals(MAX_NUM_ACTION, status.getIndexed());
+        assertEquals(1, status.getFailed());
+    }
+
+    public void testUploadWhenTaskIsCancelled() throws IOException {
+        mockContentPreparation(ACTION_SUCCESS);
+        TaskCancelHelper.cancel(task, randomLowerCaseString());
+        uploader.upload(content, INDEX_ALREADY_EXIST, task, mockListener);
+        // cancellation is checked before every chunk
+        verify(mockContentBuilder, never()).prepare(any(FeatureReader.class), anyString(), anyString());
+        verify(mockListener).onFailure(any(TaskCancelledException.class));
+    }
+
+    public void testUpload_whenExecutorIsGiven_thenPrepareChunksOnExecutor() throws IOException {
+        doReturn(Optional.of(mockBulkRequestBuilder), Optional.of(mockBulkRequestBuilder), Optional.empty()).when(mockContentBuilder)
+            .prepare(any(FeatureReader.class), anyString(), anyString());
+        mockBulkRequestExecute(MAX_NUM_ACTION, BULK_REQUEST_SUCCESS);
+        Queue<Runnable> queued = new ArrayDeque<>();
+        Uploader uploaderOnExecutor = new Uploader(mockIndexManager, mockContentBuilder, 1, queued::add);
+
+        // Run
+        uploaderOnExecutor.upload(content, INDEX_ALREADY_EXIST, task, mockListener);
+
+        // Verify, every chunk, including the one after a bulk response, is prepared only when the executor runs
+        verify(mockContentBuilder, never()).prepare(any(FeatureReader.class), anyString(), anyString());
+        int runs = 0;
+        while (queued.isEmpty() == false) {
+            queued.poll().run();
+            runs++;
+        }
+        assertEquals(3, runs);
+        verify(mockBulkRequestBuilder, times(2)).execute(any(ActionListener.class));
+        verify(mockListener).onResponse(any());
+    }
+
+    public void testUpload_whenExecutorRejects_thenFailure() throws IOException {
+        Uploader uploaderOnExecutor = new Uploader(mockIndexManager, mockContentBuilder, MAX_CONCURRENT_BULK_REQUESTS, command -> {
+            throw new OpenSearchRejectedExecutionException("rejected");
+        });
+
+        // Run
+        uploaderOnExecutor.upload(content, INDEX_ALREADY_EXIST, task, mockListener);
+
+        // Verify
+        verify(mockContentBuilder, never()).prepare(any(FeatureReader.class), anyString(), anyString());
+        verify(mockListener).onFailure(any(OpenSearchRejectedExecutionException.class));
+    }
+
     private BulkResponse mockBulkRequestExecute(int noOfActions, boolean hasFailures) {
         final BulkResponse response = GeospatialTestHelper.generateRandomBulkResponse(noOfActions, hasFailures);
         doAnswer(invocation -> {
@@ -0,0 +1,96 @@
+/*
+ * Copyright OpenSearch Contributors
+ * SPDX-License-Identifier: Apache-2.0
+ */
+
+package org.opensearch.geospatial.encoding;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Map;
+
+import org.opensearch.common.xcontent.XContentFactory;
+import org.opensearch.geometry.Line;
+import org.opensearch.geometry.LinearRing;
+import org.opensearch.geometry.Polygon;
+import org.opensearch.test.OpenSearchTestCase;
+
+public class CompactGeometryEncodingTests extends OpenSearchTestCase {
+
+    private List<List<Double>> randomRing(int size) {
+        List<List<Double>> ring = new ArrayList<>();
+        for (int i = 0; i < size; i++) {
+            ring.add(List.of(randomDoubleBetween(-1_000_000, 1_000_000, true), randomDoubleBetween(-1_000_000, 1_000_000, true)));
+        }
+        ring.add(ring.get(0));
+        return ring;
+    }
+
+    public void testEncode_whenGeoJSONGeometry_thenDecodedGeometryIsSame() {
+        List<Map<String, Object>> geometries = List.of(
+            Map.of("type", "Point", "coordinates", List.of(randomDouble(), randomDouble())),
+            Map.of("type", "LineString", "coordinates", List.of(List.of(0.0, 1.0, 2.0), List.of(3.0, 4.0, 5.0))),
+            Map.of("type", "Polygon", "coordinates", List.of(randomRing(randomIntBetween(3, 100)))),
+            Map.of("type", "MultiPolygon", "coordinates", List.of(List.of(randomRing(3)), List.of(randomRing(4)))),
+            Map.of(
+                "type",
+                "GeometryCollection",
+                "geometries",
+                List.of(Map.of("type", "MultiPoint", "coordinates", List.of(List.of(1.0, 2.0), List.of(3.0, 4.0))))
+            )
+        );
+        for (Map<String, Object> geometry : geometries) {
+            // Run
+            String encoded = CompactGeometryEncoding.encode(geometry);
+
+            // Verify
+            assertTrue(CompactGeometryEncoding.isEncoded(encoded));
+            assertEquals(geometry, CompactGeometryEncoding.toGeoJSON(encoded));
+        }
+    }
+
+    public void testEncode_whenManyVertices_thenLessBytesThanGeoJSON() throws Exception {
+        Map<String, Object> polygon = Map.of("type", "Polygon", "coordinates", List.of(randomRing(1000)));
+
+        // Run
+        String encoded = CompactGeometryEncoding.encode(polygon);
+
+        // Verify
+        String geoJSON = XContentFactory.jsonBuilder().map(polygon).toString();
+        assertTrue(encoded.length() < geoJSON.length());
+    }
+
+    public void testToGeometry_whenEncodedPolygon_thenXYShapeGeometry() {
+        Map<String, Object> polygon = Map.of(
+            "type",
+            "Polygon",
+            "coordinates",
+            List.of(List.of(List.of(0.0, 0.0), List.of(10.0, 0.0), List.of(10.0, 10.0), List.of(0.0, 0.0)))
+        );
+
+        // Run
+        org.opensearch.geometry.Geometry geometry = CompactGeometryEncoding.toGeometry(CompactGeometryEncoding.encode(polygon));
+
+        // Verify
+        assertEquals(new Polygon(new LinearRing(new double[] { 0, 10, 10, 0 }, new double[] { 0, 0, 10, 0 })), geometry);
+        Map<String, Object> line = Map.of("type", "LineString", "coordinates", List.of(List.of(0.0, 1.0), List.of(2.0, 3.0)));
+        assertEquals(
+            new Line(new double[] { 0, 2 }, new double[] { 1, 3 }),
+            CompactGeometryEncoding.toGeometry(CompactGeometryEncoding.encode(line))
+        );
+    }
+
+    public void testEncode_whenNotGeoJSONType_thenNull() {
+        Map<String, Object> envelope = Map.of("type", "envelope", "coordinates", List.of(List.of(0.0, 1.0), List.of(1.0, 0.0)));
+        assertNull(CompactGeometryEncoding.encode(envelope));
+        expectThrows(IllegalArgumentException.class, () -> CompactGeometryEncoding.encode(Map.of("coordinates", List.of(1.0, 2.0))));
+    }
+
+    public void testDecode_whenInvalidValue_thenException() {
+        assertFalse(CompactGeometryEncoding.isEncoded("POINT (1 2)"));
+        assertFalse(CompactGeometryEncoding.isEncoded(Map.of("type", "Point")));
+        expectThrows(IllegalArgumentException.class, () -> CompactGeometryEncoding.toGeoJSON("POINT (1 2)"));
+        expectThrows(IllegalArgumentException.class, () -> CompactGeometryEncoding.toGeoJSON(CompactGeometryEncoding.PREFIX + "%%%"));
+        expectThrows(IllegalArgumentException.class, () -> CompactGeometryEncoding.toGeometry(CompactGeometryEncoding.PREFIX + "AWMAAAA="));
+    }
+}
@@ -6,21 +6,28 @@
 package org.opensearch.geospatial.index.mapper.xyshape;
 
 import java.io.IOException;
+import java.util.ArrayList;
 import java.util.Collection;
 import java.util.Collections;
+import java.util.List;
+import java.util.Map;
 import java.util.Set;
 
 import org.apache.lucene.document.ShapeField;
 import org.apache.lucene.index.IndexableField;
+import org.apache.lucene.util.BytesRef;
+import org.opensearch.common.CheckedConsumer;
 import org.opensearch.common.geo.GeoShapeType;
 import org.opensearch.common.geo.builders.ShapeBuilder;
 import org.opensearch.core.xcontent.XContentBuilder;
 import org.opensearch.geospatial.GeospatialTestHelper;
+import org.opensearch.geospatial.encoding.CompactGeometryEncoding;
 import org.opensearch.geospatial.plugin.GeospatialPlugin;
 import org.opensearch.index.mapper.AbstractShapeGeometryFieldMapper;
 import org.opensearch.index.mapper.DocumentMapper;
 import org.opensearch.index.mapper.FieldMapperTestCase2;
 import org.opensearch.index.mapper.Mapper;
+import org.opensearch.index.mapper.MapperParsingException;
 import org.opensearch.index.mapper.ParsedDocument;
 import org.opensearch.plugins.Plugin;
 
@@ -32,7 +39,7 @@ public class XYShapeFieldMapperTests extends FieldMapperTestCase2<XYShapeFieldMa
 
     @Override
     protected Set<String> unsupportedProperties() {
-        return Set.of("analyzer", "similarity", "doc_values", "store");
+        return Set.of("analyzer", "similarity", "store");
     }
 
     @Override
@@ -147,6 +154,139 @@ public class XYShapeFieldMapperTests extends FieldMapperTestCase2<XYShapeFieldMa
         assertEquals("invalid field type name", fieldType.typeName(), XYShapeFieldMapper.CONTENT_TYPE);
     }
 
+    public void testIndexCompactGeometry_whenEncodedPolygon_thenSameFieldsAsGeoJSON() throws IOException {
+        DocumentMapper mapper = createDocumentMapper(fieldMapping(this::minimalMapping));
+        Map<String, Object> polygon = Map.of(
+            FIELD_TYPE_NAME,
+            GeoShapeType.POLYGON.shapeName(),
+            COORDINATES_KEY,
+            List.of(List.of(List.of(0.0, 0.0), List.of(10.0, 0.0), List.of(10.0, 10.0), List.of(0.0, 10.0), List.of(0.0, 0.0)))
+        );
+
+        // Run
+        ParsedDocument doc = mapper.parse(source(builder -> builder.field(FIELD_NAME, polygon)));
+        ParsedDocument compactDoc = mapper.parse(source(builder -> builder.field(FIELD_NAME, CompactGeometryEncoding.encode(polygon))));
+
+        // Verify
+        IndexableField[] fields = doc.rootDoc().getFields(FIELD_NAME);
+        IndexableField[] compactFields = compactDoc.rootDoc().getFields(FIELD_NAME);
+        assertEquals(fields.length, compactFields.length);
+        for (int i = 0; i < fields.length; i++) {
+            assertEquals(fields[i].binaryValue(), compactFields[i].binaryValue());
+        }
+        expectThrows(
+            MapperParsingException.class,
+            () -> mapper.parse(source(builder -> builder.field(FIELD_NAME, CompactGeometryEncoding.PREFIX + "invalid")))
+        );
+    }
+
+    public void testSimplify_whenTolerance_thenPolygonIsIndexedWithLessTriangles() throws IOException {
+        DocumentMapper mapper = createDocumentMapper(fieldMapping(this::minimalMapping));
+        DocumentMapper simplifyMapper = createDocumentMapper(
+            fieldMapping(builder -> builder.field(FIELD_TYPE_NAME, XYShapeFieldMapper.CONTENT_TYPE).field(XYShapeFieldMapper.SIMPLIFY, 0.1))
+        );
+        assertEquals(0.1, ((XYShapeFieldMapper) simplifyMapper.mappers().getMapper(FIELD_NAME)).simplify(), 0);
+        List<List<Double>> ring = new ArrayList<>();
+        // square whose bottom edge has a vertex at every unit, moved up by 0.01 alternately
+        for (int x = 0; x < 100; x++) {
+            ring.add(List.of((double) x, x % 2 == 0 ? 0 : 0.01));
+        }
+        ring.add(List.of(100.0, 0.0));
+        ring.add(List.of(100.0, 100.0));
+        ring.add(List.of(0.0, 100.0));
+        ring.add(List.of(0.0, 0.0));
+        CheckedConsumer<XContentBuilder, IOException> polygon = builder -> builder.startObject(FIELD_NAME)
+            .field(FIELD_TYPE_NAME, GeoShapeType.POLYGON.shapeName())
+            .field(COORDINATES_KEY, List.of(ring))
+            .endObject();
+
+        // Run
+        ParsedDocument doc = mapper.parse(source(polygon));
+        ParsedDocument simplifiedDoc = simplifyMapper.parse(source(polygon));
+
+        // Verify
+        assertEquals(2, simplifiedDoc.rootDoc().getFields(FIELD_NAME).length);
+        assertTrue(doc.rootDoc().getFields(FIELD_NAME).length > 50);
+    }
+
+    public void testDocValues_whenEnabled_thenTrianglesOfEveryValueAreInSingleDocValuesField() throws IOException {
+        DocumentMapper mapper = createDocumentMapper(
+            fieldMapping(builder -> builder.field(FIELD_TYPE_NAME, XYShapeFieldMapper.CONTENT_TYPE).field("doc_values", true))
+        );
+        assertTrue(((XYShapeFieldMapper) mapper.mappers().getMapper(FIELD_NAME)).fieldType().hasDocValues());
+
+        // Run
+        ParsedDocument doc = mapper.parse(
+            source(
+                builder -> builder.array(FIELD_NAME, "POLYGON ((0 0, 10 0, 10 10, 0 10, 0 0))", "LINESTRING (-5 -5, 20 30)", "POINT (3 4)")
+            )
+        );
+
+        // Verify
+        List<IndexableField> triangles = new ArrayList<>();
+        XYShapeDocValuesField docValuesField = null;
+        for (IndexableField field : doc.rootDoc().getFields(FIELD_NAME)) {
+            if (field instanceof XYShapeDocValuesField) {
+                assertNull("doc values field should be added once", docValuesField);
+                docValuesField = (XYShapeDocValuesField) field;
+            } else {
+                triangles.add(field);
+            }
+        }
+        assertNotNull(docValuesField);
+        XYShapeDocValues docValues = new XYShapeDocValues();
+        docValues.reset(docValuesField.binaryValue());
+        assertEquals(-5, docValues.getMinX(), 0);
+        assertEquals(-5, docValues.getMinY(), 0);
+        assertEquals(20, docValues.getMaxX(), 0);
+        assertEquals(30, docValues.getMaxY(), 0);
+        // line and point don't move centroid of polygon
+        assertEquals(ShapeField.DecodedTriangle.TYPE.TRIANGLE.ordinal(), docValues.getDimension());
+        assertEquals(5, docValues.getCentroidX(), 0);
+        assertEquals(5, docValues.getCentroidY(), 0);
+        assertEquals(100, docValues.getCentroidWeight(), 0);
+        ShapeField.DecodedTriangle actual = new ShapeField.DecodedTriangle();
+        for (IndexableField triangle : triangles) {
+            ShapeField.DecodedTriangle expected = new ShapeField.DecodedTriangle();
+            ShapeField.decodeTriangle(BytesRef.deepCopyOf(triangle.binaryValue()).bytes, expected);
+            assertTrue(docValues.nextTriangle(actual));
+            assertEquals(expected.type, actual.type);
+            assertArrayEquals(
+                new int[] { expected.aX, expected.aY, expected.bX, expected.bY, expected.cX, expected.cY },
+                new int[] { actual.aX, actual.aY, actual.bX, actual.bY, actual.cX, actual.cY }
+            );
+            assertArrayEquals(
+                new boolean[] { expected.ab, expected.bc, expected.ca },
+                new boolean[] { actual.ab, actual.bc, actual.ca }
+            );
+        }
+        assertFalse(docValues.nextTriangle(actual));
+    }
+
+    public void testDocValues_whenDefault_thenNoDocValuesField() throws IOException {
+        DocumentMapper mapper = createDocumentMapper(fieldMapping(this::minimalMapping));
+
+        // Run
+        ParsedDocument doc = mapper.parse(source(builder -> builder.field(FIELD_NAME, "POINT (3 4)")));
+
+        // Verify
+        for (IndexableField field : doc.rootDoc().getFields(FIELD_NAME)) {
+            assertFalse(field instanceof XYShapeDocValuesField);
+        }
+    }
+
+    public void testSimplify_whenInvalidTolerance_thenException() {
+        MapperParsingException exception = expectThrows(
+            MapperParsingException.class,
+            () -> createDocumentMapper(
+                fieldMapping(
+                    builder -> builder.field(FIELD_TYPE_NAME, XYShapeFieldMapper.CONTENT_TYPE).field(XYShapeFieldMapper.SIMPLIFY, -1)
+                )
+            )
+        );
+        assertTrue(exception.getMessage().contains(XYShapeFieldMapper.SIMPLIFY));
+    }
+
     @Override
     protected XYShapeFieldMapper.XYShapeFieldMapperBuilder newBuilder() {
         return new XYShapeFieldMapper.XYShapeFieldMapperBuilder(GeospatialTestHelper.randomLowerCaseString());
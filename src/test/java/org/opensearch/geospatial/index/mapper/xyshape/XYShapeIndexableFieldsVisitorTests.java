@@ -18,8 +18,15 @@ import static org.opensearch.geospatial.index.common.xyshape.ShapeObjectBuilder.
 
 import java.io.IOException;
 import java.text.ParseException;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.Executor;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.TimeUnit;
 
 import org.apache.lucene.index.IndexableField;
+import org.opensearch.common.util.concurrent.OpenSearchRejectedExecutionException;
 import org.opensearch.geometry.Circle;
 import org.opensearch.geometry.Geometry;
 import org.opensearch.geometry.GeometryCollection;
@@ -123,6 +130,71 @@ public class XYShapeIndexableFieldsVisitorTests extends OpenSearchTestCase {
         assertTrue("indexable field list cannot be empty", indexableFields.length >= geometry.size());
     }
 
+    public void testIndexingMultiPolygon_whenLargeParts_thenSameFieldsAsSequential() throws InterruptedException {
+        MultiPolygon geometry = largePartsMultiPolygon();
+        String fieldName = GeospatialTestHelper.randomLowerCaseString();
+        ExecutorService executor = Executors.newFixedThreadPool(2);
+        try {
+            // Run
+            IndexableField[] parallelFields = new XYShapeIndexableFieldsVisitor(fieldName, executor).visit(geometry);
+
+            // Verify
+            assertSameFields(new XYShapeIndexableFieldsVisitor(fieldName).visit(geometry), parallelFields);
+        } finally {
+            executor.shutdown();
+            assertTrue(executor.awaitTermination(10, TimeUnit.SECONDS));
+        }
+    }
+
+    public void testIndexingMultiPolygon_whenExecutorRejectsOrDoesNotRun_thenTessellateByCallingThread() {
+        MultiPolygon geometry = largePartsMultiPolygon();
+        String fieldName = GeospatialTestHelper.randomLowerCaseString();
+        IndexableField[] sequentialFields = new XYShapeIndexableFieldsVisitor(fieldName).visit(geometry);
+        Executor rejecting = command -> {
+            throw new OpenSearchRejectedExecutionException("rejected");
+        };
+        Executor idle = command -> {};
+
+        for (Executor busyExecutor : List.of(rejecting, idle)) {
+            // Run
+            IndexableField[] fields = new XYShapeIndexableFieldsVisitor(fieldName, busyExecutor).visit(geometry);
+
+            // Verify
+            assertSameFields(sequentialFields, fields);
+        }
+    }
+
+    private MultiPolygon largePartsMultiPolygon() {
+        List<Polygon> polygons = new ArrayList<>();
+        for (int i = 0; i < 4; i++) {
+            polygons.add(starPolygon(i * 100, XYShapeIndexableFieldsVisitor.PARALLEL_VERTICES_THRESHOLD + randomIntBetween(0, 100)));
+            polygons.add(starPolygon(i * 100 + 50, randomIntBetween(3, 10)));
+        }
+        return new MultiPolygon(polygons);
+    }
+
+    private static void assertSameFields(IndexableField[] expected, IndexableField[] actual) {
+        assertEquals(expected.length, actual.length);
+        for (int i = 0; i < expected.length; i++) {
+            assertEquals(expected[i].binaryValue(), actual[i].binaryValue());
+        }
+    }
+
+    // star shaped polygon centered at (x, 0) whose vertices are at radius 10 and 9 alternately
+    private Polygon starPolygon(double x, int vertices) {
+        double[] xs = new double[vertices + 1];
+        double[] ys = new double[vertices + 1];
+        for (int i = 0; i < vertices; i++) {
+            double angle = 2 * Math.PI * i / vertices;
+            double radius = i % 2 == 0 ? 10 : 9;
+            xs[i] = x + radius * Math.cos(angle);
+            ys[i] = radius * Math.sin(angle);
+        }
+        xs[vertices] = xs[0];
+        ys[vertices] = ys[0];
+        return new Polygon(new LinearRing(xs, ys));
+    }
+
     public void testIndexingGeometryCollection() {
         GeometryCollection<Geometry> geometry = randomGeometryCollection(MIN_NUMBER_OF_GEOMETRY_OBJECTS, randomBoolean());
         final IndexableField[] indexableFields = visitor.visit(geometry);
@@ -35,6 +35,7 @@ import org.opensearch.geometry.MultiPolygon;
 import org.opensearch.geometry.Point;
 import org.opensearch.geometry.Polygon;
 import org.opensearch.geometry.Rectangle;
+import org.opensearch.geospatial.simplify.GeometrySimplifier;
 import org.opensearch.index.mapper.ParseContext;
 import org.opensearch.test.OpenSearchTestCase;
 
@@ -162,6 +163,19 @@ public class XYShapeIndexerTests extends OpenSearchTestCase {
         verify(mockSupportVisitor).visit(geometry);
     }
 
+    public void testPrepareIndexing_whenSimplifier_thenSupportedGeometryIsSimplified() {
+        XYShapeIndexer simplifyIndexer = new XYShapeIndexer(mockSupportVisitor, mockIndexableFieldVisitor, new GeometrySimplifier(1));
+        Line geometry = new Line(new double[] { 0, 5, 10 }, new double[] { 0, 0.1, 0 });
+        when(mockSupportVisitor.visit(geometry)).thenReturn(geometry);
+
+        // Run
+        Geometry simplified = simplifyIndexer.prepareForIndexing(geometry);
+
+        // Verify
+        verify(mockSupportVisitor).visit(geometry);
+        assertEquals(new Line(new double[] { 0, 10 }, new double[] { 0, 0 }), simplified);
+    }
+
     public void testPrepareIndexingPoint() {
         Point geometry = randomPoint(randomBoolean());
         indexer.prepareForIndexing(geometry);
@@ -0,0 +1,183 @@
+/*
+ * Copyright OpenSearch Contributors
+ * SPDX-License-Identifier: Apache-2.0
+ */
+
+package org.opensearch.geospatial.index.query.functionscore;
+
+import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.when;
+
+import java.io.IOException;
+import java.util.Collections;
+
+import org.apache.lucene.document.Document;
+import org.apache.lucene.document.XYDocValuesField;
+import org.apache.lucene.index.DirectoryReader;
+import org.apache.lucene.index.IndexReader;
+import org.apache.lucene.index.IndexWriter;
+import org.apache.lucene.index.IndexWriterConfig;
+import org.apache.lucene.index.LeafReaderContext;
+import org.apache.lucene.store.Directory;
+import org.opensearch.common.lucene.search.function.LeafScoreFunction;
+import org.opensearch.common.lucene.search.function.ScoreFunction;
+import org.opensearch.common.xcontent.json.JsonXContent;
+import org.opensearch.core.common.io.stream.NamedWriteableRegistry;
+import org.opensearch.core.xcontent.ToXContent;
+import org.opensearch.core.xcontent.XContentBuilder;
+import org.opensearch.core.xcontent.XContentParser;
+import org.opensearch.geospatial.index.mapper.xypoint.XYPointFieldMapper;
+import org.opensearch.geospatial.index.query.xypoint.XYPointQueryProcessor;
+import org.opensearch.index.mapper.GeoPointFieldMapper;
+import org.opensearch.index.mapper.MappedFieldType;
+import org.opensearch.index.query.QueryShardContext;
+import org.opensearch.search.MultiValueMode;
+import org.opensearch.test.OpenSearchTestCase;
+
+public class XYDecayFunctionBuilderTests extends OpenSearchTestCase {
+
+    private static final String FIELD_NAME = "location";
+
+    public void testScore_whenDistanceOfOffsetAndScale_thenDecay() throws IOException {
+        XYDecayFunction function = randomFrom(XYDecayFunction.values());
+        XYDecayFunctionBuilder functionBuilder = new XYDecayFunctionBuilder(function, FIELD_NAME, 10, 20, 30, 5, 0.25);
+
+        float[] atOrigin = new float[] { 10, 20 };
+        float[] withinOffset = new float[] { 13, 24 };
+        float[] atScale = new float[] { 45, 20 };
+        float[] beyondScale = new float[] { 10, 120 };
+        float[] missing = new float[0];
+
+        // Run
+        double[] scores = scores(functionBuilder, atOrigin, withinOffset, atScale, beyondScale, missing);
+
+        // Verify
+        assertEquals(1.0, scores[0], 1e-6);
+        assertEquals(1.0, scores[1], 1e-6);
+        assertEquals(0.25, scores[2], 1e-6);
+        assertTrue(scores[3] < 0.25);
+        assertEquals(1.0, scores[4], 0);
+    }
+
+    public void testScore_whenMultiValueModeMax_thenFarthestPointScored() throws IOException {
+        XYDecayFunctionBuilder functionBuilder = new XYDecayFunctionBuilder(XYDecayFunction.LINEAR, FIELD_NAME, 0, 0, 10, 0, 0.5)
+            .setMultiValueMode(MultiValueMode.MAX);
+
+        // Run
+        double[] scores = scores(functionBuilder, new float[] { 0, 0, 10, 0 });
+
+        // Verify
+        assertEquals(0.5, scores[0], 1e-6);
+    }
+
+    public void testToFunction_whenInvalidField_thenException() {
+        XYDecayFunctionBuilder functionBuilder = new XYDecayFunctionBuilder(XYDecayFunction.GAUSS, FIELD_NAME, 0, 0, 10, 0, 0.5);
+        expectThrows(IllegalArgumentException.class, () -> functionBuilder.toFunction(mockContext(null)));
+        expectThrows(
+            IllegalArgumentException.class,
+            () -> functionBuilder.toFunction(mockContext(new GeoPointFieldMapper.GeoPointFieldType(FIELD_NAME)))
+        );
+    }
+
+    public void testConstructor_whenInvalidParameters_thenException() {
+        expectThrows(IllegalArgumentException.class, () -> new XYDecayFunctionBuilder(XYDecayFunction.EXP, FIELD_NAME, 0, 0, 0, 0, 0.5));
+        expectThrows(IllegalArgumentException.class, () -> new XYDecayFunctionBuilder(XYDecayFunction.EXP, FIELD_NAME, 0, 0, 1, -1, 0.5));
+        expectThrows(IllegalArgumentException.class, () -> new XYDecayFunctionBuilder(XYDecayFunction.EXP, FIELD_NAME, 0, 0, 1, 0, 1));
+    }
+
+    public void testFromXContent_whenToXContent_thenSameBuilder() throws IOException {
+        XYDecayFunction function = randomFrom(XYDecayFunction.values());
+        XYDecayFunctionBuilder functionBuilder = new XYDecayFunctionBuilder(
+            function,
+            FIELD_NAME,
+            randomDoubleBetween(-1000, 1000, true),
+            randomDoubleBetween(-1000, 1000, true),
+            randomDoubleBetween(1, 100, true),
+            randomDoubleBetween(0, 100, true),
+            randomDoubleBetween(0.1, 0.9, true)
+        ).setMultiValueMode(randomFrom(MultiValueMode.MIN, MultiValueMode.MAX, MultiValueMode.AVG));
+        XContentBuilder builder = JsonXContent.contentBuilder().startObject();
+        functionBuilder.toXContent(builder, ToXContent.EMPTY_PARAMS);
+        builder.endObject();
+
+        // Run
+        XYDecayFunctionBuilder parsed;
+        try (XContentParser parser = createParser(builder)) {
+            assertEquals(XContentParser.Token.START_OBJECT, parser.nextToken());
+            assertEquals(XContentParser.Token.FIELD_NAME, parser.nextToken());
+            assertEquals(function.getFunctionName(), parser.currentName());
+            assertEquals(XContentParser.Token.START_OBJECT, parser.nextToken());
+            parsed = XYDecayFunctionBuilder.fromXContent(parser, function);
+        }
+
+        // Verify
+        assertEquals(functionBuilder, parsed);
+    }
+
+    public void testFromXContent_whenDefaults_thenOffsetZeroAndDecayHalf() throws IOException {
+        String json = "{\"location\": {\"origin\": [1, 2], \"scale\": 10}}";
+
+        // Run
+        XYDecayFunctionBuilder parsed;
+        try (XContentParser parser = createParser(JsonXContent.jsonXContent, json)) {
+            parser.nextToken();
+            parsed = XYDecayFunctionBuilder.fromXContent(parser, XYDecayFunction.GAUSS);
+        }
+
+        // Verify
+        assertEquals(new XYDecayFunctionBuilder(XYDecayFunction.GAUSS, FIELD_NAME, 1, 2, 10, 0, 0.5), parsed);
+    }
+
+    public void testStreams_whenWriteAndRead_thenSameBuilder() throws IOException {
+        XYDecayFunctionBuilder functionBuilder = new XYDecayFunctionBuilder(XYDecayFunction.EXP, FIELD_NAME, 1, 2, 3, 4, 0.3)
+            .setMultiValueMode(MultiValueMode.AVG);
+
+        // Run
+        XYDecayFunctionBuilder copy = copyWriteable(
+            functionBuilder,
+            new NamedWriteableRegistry(Collections.emptyList()),
+            XYDecayFunctionBuilder::new
+        );
+
+        // Verify
+        assertEquals(functionBuilder, copy);
+        assertEquals(functionBuilder.hashCode(), copy.hashCode());
+    }
+
+    // scores of documents, every document has points of the given coordinates
+    private double[] scores(XYDecayFunctionBuilder functionBuilder, float[]... documents) throws IOException {
+        ScoreFunction function = functionBuilder.toFunction(mockContext(xyPointFieldType()));
+        try (Directory directory = newDirectory()) {
+            // single segment of documents in order of the given coordinates
+            try (IndexWriter writer = new IndexWriter(directory, new IndexWriterConfig())) {
+                for (float[] coordinates : documents) {
+                    Document document = new Document();
+                    for (int i = 0; i < coordinates.length; i += 2) {
+                        document.add(new XYDocValuesField(FIELD_NAME, coordinates[i], coordinates[i + 1]));
+                    }
+                    writer.addDocument(document);
+                }
+                writer.forceMerge(1);
+            }
+            try (IndexReader reader = DirectoryReader.open(directory)) {
+                LeafReaderContext context = reader.leaves().get(0);
+                LeafScoreFunction leafFunction = function.getLeafScoreFunction(context);
+                double[] scores = new double[documents.length];
+                for (int doc = 0; doc < documents.length; doc++) {
+                    scores[doc] = leafFunction.score(doc, 0);
+                }
+                return scores;
+            }
+        }
+    }
+
+    private static QueryShardContext mockContext(MappedFieldType fieldType) {
+        QueryShardContext context = mock(QueryShardContext.class);
+        when(context.fieldMapper(FIELD_NAME)).thenReturn(fieldType);
+        return context;
+    }
+
+    private static MappedFieldType xyPointFieldType() {
+        return new XYPointFieldMapper.XYPointFieldType(FIELD_NAME, true, false, true, Collections.emptyMap(), new XYPointQueryProcessor());
+    }
+}
@@ -0,0 +1,146 @@
+/*
+ * Copyright OpenSearch Contributors
+ * SPDX-License-Identifier: Apache-2.0
+ */
+
+package org.opensearch.geospatial.index.query.xypoint;
+
+import static org.hamcrest.Matchers.containsString;
+import static org.hamcrest.Matchers.instanceOf;
+
+import java.io.IOException;
+import java.util.ArrayList;
+import java.util.Collection;
+import java.util.Locale;
+
+import org.apache.lucene.search.MatchNoDocsQuery;
+import org.apache.lucene.search.Query;
+import org.hamcrest.MatcherAssert;
+import org.opensearch.action.admin.indices.mapping.put.PutMappingRequest;
+import org.opensearch.common.compress.CompressedXContent;
+import org.opensearch.geospatial.index.mapper.xypoint.XYPointFieldMapper;
+import org.opensearch.geospatial.plugin.GeospatialPlugin;
+import org.opensearch.index.mapper.MapperService;
+import org.opensearch.index.query.QueryShardContext;
+import org.opensearch.index.query.QueryShardException;
+import org.opensearch.index.query.TermQueryBuilder;
+import org.opensearch.plugins.Plugin;
+import org.opensearch.test.AbstractQueryTestCase;
+
+public class XYNearestQueryBuilderTests extends AbstractQueryTestCase<XYNearestQueryBuilder> {
+
+    private static final String XY_POINT_FIELD_NAME = "mapped_xy_point";
+    private static final String MAPPING_FIELD_TYPE_KEY = "type";
+    private static final String DOC_TYPE = "_doc";
+
+    @Override
+    protected XYNearestQueryBuilder doCreateTestQueryBuilder() {
+        XYNearestQueryBuilder builder = new XYNearestQueryBuilder(
+            XY_POINT_FIELD_NAME,
+            randomDoubleBetween(-1000, 1000, true),
+            randomDoubleBetween(-1000, 1000, true),
+            randomIntBetween(1, XYNearestQueryBuilder.MAX_K)
+        );
+        if (randomBoolean()) {
+            builder.filter(new TermQueryBuilder(TEXT_FIELD_NAME, randomAlphaOfLengthBetween(1, 10)));
+        }
+        return builder;
+    }
+
+    @Override
+    protected Collection<Class<? extends Plugin>> getPlugins() {
+        final Collection<Class<? extends Plugin>> plugins = new ArrayList<>(super.getPlugins());
+        plugins.add(GeospatialPlugin.class);
+        return plugins;
+    }
+
+    @Override
+    protected void doAssertLuceneQuery(XYNearestQueryBuilder queryBuilder, Query query, QueryShardContext context) throws IOException {
+        MatcherAssert.assertThat(query, instanceOf(XYNearestQuery.class));
+        Query filter = queryBuilder.filter() == null ? null : queryBuilder.filter().toQuery(context);
+        assertEquals(
+            new XYNearestQuery(XY_POINT_FIELD_NAME, (float) queryBuilder.x(), (float) queryBuilder.y(), queryBuilder.k(), filter),
+            query
+        );
+    }
+
+    @Override
+    protected void initializeAdditionalMappings(MapperService mapperService) throws IOException {
+        mapperService.merge(
+            DOC_TYPE,
+            new CompressedXContent(
+                PutMappingRequest.simpleMapping(
+                    XY_POINT_FIELD_NAME,
+                    String.format(Locale.ROOT, "%s=%s", MAPPING_FIELD_TYPE_KEY, XYPointFieldMapper.CONTENT_TYPE)
+                ).toString()
+            ),
+            MapperService.MergeReason.MAPPING_UPDATE
+        );
+    }
+
+    public void testFromJson() throws IOException {
+        String json = "{\n"
+            + "  \"xy_nearest\" : {\n"
+            + "    \"location\" : {\n"
+            + "      \"origin\" : [ 13.0, 53.0 ],\n"
+            + "      \"k\" : 5,\n"
+            + "      \"filter\" : {\n"
+            + "        \"term\" : {\n"
+            + "          \"type\" : {\n"
+            + "            \"value\" : \"hydrant\",\n"
+            + "            \"boost\" : 1.0\n"
+            + "          }\n"
+            + "        }\n"
+            + "      }\n"
+            + "    },\n"
+            + "    \"ignore_unmapped\" : false,\n"
+            + "    \"boost\" : 42.0\n"
+            + "  }\n"
+            + "}";
+        XYNearestQueryBuilder parsed = (XYNearestQueryBuilder) parseQuery(json);
+        checkGeneratedJson(json, parsed);
+        assertEquals(json, 42.0, parsed.boost(), 0.0001);
+        assertEquals(5, parsed.k());
+        assertEquals(new TermQueryBuilder("type", "hydrant"), parsed.filter());
+    }
+
+    public void testFromJson_whenOriginAsObject_thenOrigin() throws IOException {
+        String json = "{ \"xy_nearest\" : { \"location\" : { \"origin\" : { \"x\" : 1.5, \"y\" : -2 }, \"k\" : 3 } } }";
+
+        // Run
+        XYNearestQueryBuilder parsed = (XYNearestQueryBuilder) parseQuery(json);
+
+        // Verify
+        assertEquals(new XYNearestQueryBuilder("location", 1.5, -2, 3), parsed);
+    }
+
+    public void testFromJson_whenNoK_thenException() {
+        String json = "{ \"xy_nearest\" : { \"location\" : { \"origin\" : [ 1, 2 ] } } }";
+        Exception e = expectThrows(Exception.class, () -> parseQuery(json));
+        MatcherAssert.assertThat(e.getMessage(), containsString("[k]"));
+    }
+
+    public void testConstructor_whenInvalidK_thenException() {
+        expectThrows(IllegalArgumentException.class, () -> new XYNearestQueryBuilder(XY_POINT_FIELD_NAME, 0, 0, 0));
+        expectThrows(
+            IllegalArgumentException.class,
+            () -> new XYNearestQueryBuilder(XY_POINT_FIELD_NAME, 0, 0, XYNearestQueryBuilder.MAX_K + 1)
+        );
+    }
+
+    public void testIgnoreUnmapped() throws IOException {
+        final XYNearestQueryBuilder queryBuilder = new XYNearestQueryBuilder("unmapped", 0, 0, 1).ignoreUnmapped(true);
+        Query query = queryBuilder.toQuery(createShardContext());
+        MatcherAssert.assertThat(query, instanceOf(MatchNoDocsQuery.class));
+
+        final XYNearestQueryBuilder failingQueryBuilder = new XYNearestQueryBuilder("unmapped", 0, 0, 1).ignoreUnmapped(false);
+        QueryShardException e = expectThrows(QueryShardException.class, () -> failingQueryBuilder.toQuery(createShardContext()));
+        MatcherAssert.assertThat(e.getMessage(), containsString("failed to find field [unmapped]"));
+    }
+
+    public void testWrongFieldType() {
+        final XYNearestQueryBuilder queryBuilder = new XYNearestQueryBuilder(TEXT_FIELD_NAME, 0, 0, 1);
+        QueryShardException e = expectThrows(QueryShardException.class, () -> queryBuilder.toQuery(createShardContext()));
+        MatcherAssert.assertThat(e.getMessage(), containsString(XYPointFieldMapper.CONTENT_TYPE));
+    }
+}
@@ -0,0 +1,218 @@
+/*
+ * Copyright OpenSearch Contributors
+ * SPDX-License-Identifier: Apache-2.0
+ */
+
+package org.opensearch.geospatial.index.query.xypoint;
+
+import java.io.IOException;
+import java.util.ArrayList;
+import java.util.Comparator;
+import java.util.HashSet;
+import java.util.List;
+import java.util.Set;
+
+import org.apache.lucene.document.Document;
+import org.apache.lucene.document.Field;
+import org.apache.lucene.document.StringField;
+import org.apache.lucene.document.XYDocValuesField;
+import org.apache.lucene.document.XYPointField;
+import org.apache.lucene.geo.XYEncodingUtils;
+import org.apache.lucene.index.DirectoryReader;
+import org.apache.lucene.index.IndexReader;
+import org.apache.lucene.index.Term;
+import org.apache.lucene.search.IndexSearcher;
+import org.apache.lucene.search.Query;
+import org.apache.lucene.search.ScoreDoc;
+import org.apache.lucene.search.Sort;
+import org.apache.lucene.search.TermQuery;
+import org.apache.lucene.search.TopDocs;
+import org.apache.lucene.store.Directory;
+import org.apache.lucene.tests.index.RandomIndexWriter;
+import org.opensearch.test.OpenSearchTestCase;
+
+public class XYNearestQueryTests extends OpenSearchTestCase {
+
+    private static final String FIELD_NAME = "location";
+    private static final String ID_FIELD_NAME = "id";
+    private static final String GROUP_FIELD_NAME = "group";
+    private static final String EVEN = "even";
+
+    public void testNearest_whenRandomPoints_thenSameAsBruteForce() throws IOException {
+        List<float[]> points = new ArrayList<>();
+        Set<Integer> deleted = new HashSet<>();
+        try (Directory directory = newDirectory()) {
+            try (RandomIndexWriter writer = new RandomIndexWriter(random(), directory)) {
+                int documentCount = randomIntBetween(100, 1000);
+                for (int id = 0; id < documentCount; id++) {
+                    float[] coordinates = randomCoordinates();
+                    points.add(coordinates);
+                    writer.addDocument(document(id, coordinates));
+                }
+                for (int i = 0; i < documentCount / 10; i++) {
+                    int id = randomIntBetween(0, documentCount - 1);
+                    deleted.add(id);
+                    writer.deleteDocuments(new Term(ID_FIELD_NAME, String.valueOf(id)));
+                }
+            }
+            try (IndexReader reader = DirectoryReader.open(directory)) {
+                IndexSearcher searcher = newSearcher(reader);
+                for (int i = 0; i < 10; i++) {
+                    float x = (float) randomDoubleBetween(-1000, 1000, true);
+                    float y = (float) randomDoubleBetween(-1000, 1000, true);
+                    int k = randomIntBetween(1, 50);
+                    boolean filtered = randomBoolean();
+                    Query filter = filtered ? new TermQuery(new Term(GROUP_FIELD_NAME, EVEN)) : null;
+
+                    // Run
+                    List<Integer> actual = search(searcher, new XYNearestQuery(FIELD_NAME, x, y, k, filter), k);
+
+                    // Verify
+                    List<Integer> expected = bruteForce(points, deleted, filtered, x, y, k);
+                    assertEquals(new HashSet<>(expected), new HashSet<>(actual));
+                }
+            }
+        }
+    }
+
+    public void testNearest_whenMultiplePointsOfDocument_thenDocumentOnce() throws IOException {
+        try (Directory directory = newDirectory()) {
+            try (RandomIndexWriter writer = new RandomIndexWriter(random(), directory)) {
+                writer.addDocument(document(0, 1, 1, 2, 2, 3, 3));
+                writer.addDocument(document(1, 10, 10));
+                writer.addDocument(document(2, 20, 20));
+            }
+            try (IndexReader reader = DirectoryReader.open(directory)) {
+
+                // Run
+                List<Integer> ids = search(newSearcher(reader), new XYNearestQuery(FIELD_NAME, 0, 0, 2, null), 10);
+
+                // Verify
+                assertEquals(List.of(0, 1), ids);
+            }
+        }
+    }
+
+    public void testNearest_whenNoPoint_thenNoDocument() throws IOException {
+        try (Directory directory = newDirectory()) {
+            try (RandomIndexWriter writer = new RandomIndexWriter(random(), directory)) {
+                writer.addDocument(new Document());
+            }
+            try (IndexReader reader = DirectoryReader.open(directory)) {
+
+                // Run
+                List<Integer> ids = search(newSearcher(reader), new XYNearestQuery(FIELD_NAME, 0, 0, 5, null), 10);
+
+                // Verify
+                assertTrue(ids.isEmpty());
+            }
+        }
+    }
+
+    public void testNearest_whenSortedByDistance_thenExactDistanceOrder() throws IOException {
+        List<float[]> points = new ArrayList<>();
+        try (Directory directory = newDirectory()) {
+            try (RandomIndexWriter writer = new RandomIndexWriter(random(), directory)) {
+                for (int id = 0; id < 100; id++) {
+                    float[] coordinates = randomCoordinates();
+                    points.add(coordinates);
+                    Document document = document(id, coordinates);
+                    for (int i = 0; i < coordinates.length; i += 2) {
+                        document.add(new XYDocValuesField(FIELD_NAME, coordinates[i], coordinates[i + 1]));
+                    }
+                    writer.addDocument(document);
+                }
+            }
+            try (IndexReader reader = DirectoryReader.open(directory)) {
+                IndexSearcher searcher = newSearcher(reader);
+                // far origin, where scores of documents are close to each other
+                float x = 1e7f;
+                float y = -1e7f;
+                int k = randomIntBetween(1, 50);
+
+                // Run
+                TopDocs topDocs = searcher.search(
+                    new XYNearestQuery(FIELD_NAME, x, y, k, null),
+                    k,
+                    new Sort(XYDocValuesField.newDistanceSort(FIELD_NAME, x, y))
+                );
+
+                // Verify
+                List<Integer> ids = new ArrayList<>();
+                for (ScoreDoc scoreDoc : topDocs.scoreDocs) {
+                    ids.add(Integer.parseInt(searcher.storedFields().document(scoreDoc.doc).get(ID_FIELD_NAME)));
+                }
+                assertEquals(bruteForce(points, Set.of(), false, x, y, k), ids);
+            }
+        }
+    }
+
+    public void testConstructor_whenKNotPositive_thenException() {
+        expectThrows(IllegalArgumentException.class, () -> new XYNearestQuery(FIELD_NAME, 0, 0, 0, null));
+    }
+
+    public void testEquals_whenSameParameters_thenEqual() {
+        Query filter = new TermQuery(new Term(GROUP_FIELD_NAME, EVEN));
+        assertEquals(new XYNearestQuery(FIELD_NAME, 1, 2, 3, filter), new XYNearestQuery(FIELD_NAME, 1, 2, 3, filter));
+        assertEquals(new XYNearestQuery(FIELD_NAME, 1, 2, 3, null).hashCode(), new XYNearestQuery(FIELD_NAME, 1, 2, 3, null).hashCode());
+        assertNotEquals(new XYNearestQuery(FIELD_NAME, 1, 2, 3, filter), new XYNearestQuery(FIELD_NAME, 1, 2, 3, null));
+        assertNotEquals(new XYNearestQuery(FIELD_NAME, 1, 2, 3, null), new XYNearestQuery(FIELD_NAME, 1, 2, 4, null));
+    }
+
+    // ids of matching documents in descending order of score
+    private List<Integer> search(IndexSearcher searcher, Query query, int size) throws IOException {
+        TopDocs topDocs = searcher.search(query, size);
+        List<Integer> ids = new ArrayList<>();
+        float previousScore = Float.POSITIVE_INFINITY;
+        for (ScoreDoc scoreDoc : topDocs.scoreDocs) {
+            assertTrue(scoreDoc.score <= previousScore);
+            previousScore = scoreDoc.score;
+            ids.add(Integer.parseInt(searcher.storedFields().document(scoreDoc.doc).get(ID_FIELD_NAME)));
+        }
+        return ids;
+    }
+
+    private static List<Integer> bruteForce(List<float[]> points, Set<Integer> deleted, boolean filtered, float x, float y, int k) {
+        List<double[]> distances = new ArrayList<>();
+        for (int id = 0; id < points.size(); id++) {
+            if (deleted.contains(id) || (filtered && id % 2 != 0)) {
+                continue;
+            }
+            float[] coordinates = points.get(id);
+            double nearest = Double.POSITIVE_INFINITY;
+            for (int i = 0; i < coordinates.length; i += 2) {
+                // same precision as indexed points
+                double diffX = XYEncodingUtils.decode(XYEncodingUtils.encode(coordinates[i])) - x;
+                double diffY = XYEncodingUtils.decode(XYEncodingUtils.encode(coordinates[i + 1])) - y;
+                nearest = Math.min(nearest, diffX * diffX + diffY * diffY);
+            }
+            distances.add(new double[] { nearest, id });
+        }
+        distances.sort(Comparator.comparingDouble((double[] distance) -> distance[0]));
+        List<Integer> ids = new ArrayList<>();
+        for (int i = 0; i < Math.min(k, distances.size()); i++) {
+            ids.add((int) distances.get(i)[1]);
+        }
+        return ids;
+    }
+
+    private static float[] randomCoordinates() {
+        float[] coordinates = new float[2 * randomIntBetween(1, 3)];
+        for (int i = 0; i < coordinates.length; i++) {
+            coordinates[i] = (float) randomDoubleBetween(-1000, 1000, true);
+        }
+        return coordinates;
+    }
+
+    private static Document document(int id, float... coordinates) {
+        Document document = new Document();
+        document.add(new StringField(ID_FIELD_NAME, String.valueOf(id), Field.Store.YES));
+        if (id % 2 == 0) {
+            document.add(new StringField(GROUP_FIELD_NAME, EVEN, Field.Store.NO));
+        }
+        for (int i = 0; i < coordinates.length; i += 2) {
+            document.add(new XYPointField(FIELD_NAME, coordinates[i], coordinates[i + 1]));
+        }
+        return document;
+    }
+}
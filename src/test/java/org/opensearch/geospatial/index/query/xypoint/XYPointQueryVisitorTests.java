@@ -17,12 +17,19 @@ import static org.opensearch.geospatial.index.common.xyshape.ShapeObjectBuilder.
 import static org.opensearch.geospatial.index.common.xyshape.ShapeObjectBuilder.randomPoint;
 import static org.opensearch.geospatial.index.common.xyshape.ShapeObjectBuilder.randomPolygon;
 import static org.opensearch.geospatial.index.common.xyshape.ShapeObjectBuilder.randomRectangle;
+import static org.opensearch.geospatial.index.common.xyshape.XYShapeConverter.toXYCircle;
+import static org.opensearch.geospatial.index.common.xyshape.XYShapeConverter.toXYPolygon;
+import static org.opensearch.geospatial.index.common.xyshape.XYShapeConverter.toXYRectangle;
 
 import java.io.IOException;
 import java.text.ParseException;
 import java.util.List;
 import java.util.Locale;
 
+import org.apache.lucene.document.XYDocValuesField;
+import org.apache.lucene.document.XYPointField;
+import org.apache.lucene.geo.XYGeometry;
+import org.apache.lucene.search.IndexOrDocValuesQuery;
 import org.apache.lucene.search.MatchNoDocsQuery;
 import org.apache.lucene.search.Query;
 import org.opensearch.geometry.Circle;
@@ -181,4 +188,24 @@ public class XYPointQueryVisitorTests extends OpenSearchTestCase {
         Query query = collection.visit(queryVisitor);
         assertNotNull("failed to convert to Query", query);
     }
+
+    public void testQueryingGeometryCollection_whenMembersAreSupported_thenSingleGeometryQuery() throws IOException, ParseException {
+        Polygon polygon = randomPolygon();
+        Rectangle rectangle = randomRectangle();
+        Circle circle = randomCircle(randomBoolean());
+        GeometryCollection<?> collection = new GeometryCollection<>(List.of(polygon, new GeometryCollection<>(List.of(rectangle, circle))));
+        boolean hasDocValues = randomBoolean();
+        when(fieldType.hasDocValues()).thenReturn(hasDocValues);
+
+        // Run
+        Query query = collection.visit(queryVisitor);
+
+        // Verify
+        XYGeometry[] xyGeometries = new XYGeometry[] { toXYPolygon(polygon), toXYRectangle(rectangle), toXYCircle(circle) };
+        Query expected = XYPointField.newGeometryQuery(fieldName, xyGeometries);
+        if (hasDocValues) {
+            expected = new IndexOrDocValuesQuery(expected, XYDocValuesField.newSlowGeometryQuery(fieldName, xyGeometries));
+        }
+        assertEquals("collection should be queried by a single geometry query", expected, query);
+    }
 }
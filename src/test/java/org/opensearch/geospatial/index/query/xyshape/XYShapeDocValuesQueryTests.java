@@ -0,0 +1,109 @@
+/*
+ * Copyright OpenSearch Contributors
+ * SPDX-License-Identifier: Apache-2.0
+ */
+
+package org.opensearch.geospatial.index.query.xyshape;
+
+import java.io.IOException;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.HashSet;
+import java.util.List;
+import java.util.Set;
+
+import org.apache.lucene.document.Document;
+import org.apache.lucene.document.Field;
+import org.apache.lucene.document.ShapeField;
+import org.apache.lucene.document.XYShape;
+import org.apache.lucene.geo.XYGeometry;
+import org.apache.lucene.geo.XYPoint;
+import org.apache.lucene.geo.XYRectangle;
+import org.apache.lucene.index.DirectoryReader;
+import org.apache.lucene.index.IndexReader;
+import org.apache.lucene.index.IndexableField;
+import org.apache.lucene.search.IndexSearcher;
+import org.apache.lucene.search.Query;
+import org.apache.lucene.search.ScoreDoc;
+import org.apache.lucene.store.Directory;
+import org.apache.lucene.tests.index.RandomIndexWriter;
+import org.opensearch.geospatial.ShapeTestUtil;
+import org.opensearch.geospatial.index.mapper.xyshape.XYShapeDocValuesField;
+import org.opensearch.test.OpenSearchTestCase;
+
+public class XYShapeDocValuesQueryTests extends OpenSearchTestCase {
+
+    private static final String FIELD_NAME = "shape";
+
+    public void testMatches_whenEveryRelation_thenSameDocumentsAsIndexQuery() throws IOException {
+        int documentCount = randomIntBetween(50, 200);
+        try (Directory directory = newDirectory()) {
+            try (RandomIndexWriter writer = new RandomIndexWriter(random(), directory)) {
+                for (int i = 0; i < documentCount; i++) {
+                    writer.addDocument(randomDocument());
+                }
+            }
+            try (IndexReader reader = DirectoryReader.open(directory)) {
+                IndexSearcher searcher = newSearcher(reader);
+                for (int i = 0; i < 10; i++) {
+                    XYGeometry[] geometries = randomBoolean()
+                        ? new XYGeometry[] { ShapeTestUtil.nextBox(random()) }
+                        : new XYGeometry[] { ShapeTestUtil.nextPolygon() };
+                    for (ShapeField.QueryRelation relation : ShapeField.QueryRelation.values()) {
+
+                        // Run
+                        Set<Integer> actual = search(searcher, new XYShapeDocValuesQuery(FIELD_NAME, relation, geometries), documentCount);
+
+                        // Verify
+                        Set<Integer> expected = search(searcher, XYShape.newGeometryQuery(FIELD_NAME, relation, geometries), documentCount);
+                        assertEquals("documents of relation [" + relation + "] don't match", expected, actual);
+                    }
+                }
+            }
+        }
+    }
+
+    public void testEquals_whenSameParameters_thenEqual() {
+        XYRectangle box = new XYRectangle(0, 10, 0, 10);
+        XYShapeDocValuesQuery query = new XYShapeDocValuesQuery(FIELD_NAME, ShapeField.QueryRelation.INTERSECTS, box);
+
+        assertEquals(query, new XYShapeDocValuesQuery(FIELD_NAME, ShapeField.QueryRelation.INTERSECTS, box));
+        assertEquals(query.hashCode(), new XYShapeDocValuesQuery(FIELD_NAME, ShapeField.QueryRelation.INTERSECTS, box).hashCode());
+        assertNotEquals(query, new XYShapeDocValuesQuery(FIELD_NAME, ShapeField.QueryRelation.WITHIN, box));
+        assertNotEquals(query, new XYShapeDocValuesQuery("other", ShapeField.QueryRelation.INTERSECTS, box));
+    }
+
+    private Document randomDocument() {
+        Document document = new Document();
+        List<IndexableField> triangles = new ArrayList<>();
+        int valueCount = randomIntBetween(1, 3);
+        for (int i = 0; i < valueCount; i++) {
+            Field[] fields;
+            switch (randomIntBetween(0, 2)) {
+                case 0:
+                    XYPoint point = ShapeTestUtil.nextPoint();
+                    fields = XYShape.createIndexableFields(FIELD_NAME, point.getX(), point.getY());
+                    break;
+                case 1:
+                    fields = XYShape.createIndexableFields(FIELD_NAME, ShapeTestUtil.nextLine());
+                    break;
+                default:
+                    fields = XYShape.createIndexableFields(FIELD_NAME, ShapeTestUtil.nextPolygon());
+            }
+            triangles.addAll(Arrays.asList(fields));
+        }
+        triangles.forEach(document::add);
+        XYShapeDocValuesField docValuesField = new XYShapeDocValuesField(FIELD_NAME);
+        docValuesField.add(triangles);
+        document.add(docValuesField);
+        return document;
+    }
+
+    private Set<Integer> search(IndexSearcher searcher, Query query, int documentCount) throws IOException {
+        Set<Integer> documents = new HashSet<>();
+        for (ScoreDoc scoreDoc : searcher.search(query, documentCount).scoreDocs) {
+            documents.add(scoreDoc.doc);
+        }
+        return documents;
+    }
+}
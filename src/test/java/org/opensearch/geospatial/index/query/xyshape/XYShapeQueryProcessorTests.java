@@ -25,7 +25,10 @@ import java.io.IOException;
 import java.text.ParseException;
 import java.util.List;
 
+import org.apache.lucene.document.XYShape;
 import org.apache.lucene.geo.XYGeometry;
+import org.apache.lucene.geo.XYRectangle;
+import org.apache.lucene.search.IndexOrDocValuesQuery;
 import org.apache.lucene.search.MatchNoDocsQuery;
 import org.apache.lucene.search.Query;
 import org.opensearch.common.geo.ShapeRelation;
@@ -245,6 +248,51 @@ public class XYShapeQueryProcessorTests extends OpenSearchTestCase {
         verify(mockQueryVisitor).visit(geometry);
     }
 
+    public void testQueryingRectangle_whenFieldHasDocValues_thenIndexOrDocValuesQuery() {
+        XYGeometry box = new XYRectangle(0, 10, 0, 10);
+        Rectangle geometry = new Rectangle(0, 10, 10, 0);
+        when(mockQueryVisitor.visit(geometry)).thenReturn(List.of(box));
+        mockFieldType(true, true);
+
+        // Run
+        Query query = queryProcessor.shapeQuery(geometry, fieldName, relation, mockQueryVisitor, mockQueryShardContext);
+
+        // Verify
+        assertTrue(query instanceof IndexOrDocValuesQuery);
+        IndexOrDocValuesQuery indexOrDocValuesQuery = (IndexOrDocValuesQuery) query;
+        assertEquals(XYShape.newGeometryQuery(fieldName, relation.getLuceneRelation(), box), indexOrDocValuesQuery.getIndexQuery());
+        assertEquals(
+            new XYShapeDocValuesQuery(fieldName, relation.getLuceneRelation(), box),
+            indexOrDocValuesQuery.getRandomAccessQuery()
+        );
+    }
+
+    public void testQueryingRectangle_whenFieldHasOnlyDocValues_thenDocValuesQuery() {
+        XYGeometry box = new XYRectangle(0, 10, 0, 10);
+        Rectangle geometry = new Rectangle(0, 10, 10, 0);
+        when(mockQueryVisitor.visit(geometry)).thenReturn(List.of(box));
+        mockFieldType(false, true);
+
+        // Run
+        Query query = queryProcessor.shapeQuery(geometry, fieldName, relation, mockQueryVisitor, mockQueryShardContext);
+
+        // Verify
+        assertEquals(new XYShapeDocValuesQuery(fieldName, relation.getLuceneRelation(), box), query);
+    }
+
+    private void mockFieldType(boolean indexed, boolean hasDocValues) {
+        when(mockQueryShardContext.fieldMapper(fieldName)).thenReturn(
+            new XYShapeFieldMapper.XYShapeFieldType(
+                fieldName,
+                indexed,
+                randomBoolean(),
+                hasDocValues,
+                emptyMap(),
+                mock(XYShapeQueryProcessor.class)
+            )
+        );
+    }
+
     private void mockFieldType(boolean success) {
         if (success) {
             when(mockQueryShardContext.fieldMapper(fieldName)).thenReturn(
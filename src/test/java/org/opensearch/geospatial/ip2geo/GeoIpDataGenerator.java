@@ -0,0 +1,116 @@
+/*
+ * Copyright OpenSearch Contributors
+ * SPDX-License-Identifier: Apache-2.0
+ */
+
+package org.opensearch.geospatial.ip2geo;
+
+import java.io.BufferedWriter;
+import java.io.IOException;
+import java.io.OutputStreamWriter;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.time.Instant;
+import java.util.Locale;
+import java.util.UUID;
+import java.util.zip.ZipEntry;
+import java.util.zip.ZipOutputStream;
+
+import org.opensearch.common.xcontent.XContentFactory;
+import org.opensearch.core.xcontent.XContentBuilder;
+
+/**
+ * Generate GeoIP data of arbitrary size along with its manifest to be served by {@link Ip2GeoDataServer}
+ *
+ * Each row is an IPv4 /24 network in ascending order, which is how GeoIP data providers ship their database.
+ *
+ * network,country,city
+ * 1.0.0.0/24,country-0,city-0
+ * 1.0.1.0/24,country-1,city-1
+ */
+public class GeoIpDataGenerator {
+    public static final String DB_NAME = "data.csv";
+    public static final String[] FIELDS = { "network", "country", "city" };
+    private static final int FIRST_NETWORK = 1 << 24;
+    private static final int MAX_ROWS = (Integer.MAX_VALUE - FIRST_NETWORK) >> 8;
+    private static final int NUMBER_OF_COUNTRIES = 250;
+    private static final int NUMBER_OF_CITIES = 50000;
+
+    /**
+     * Write a zip file having GeoIP data with a given number of rows
+     *
+     * @param zipFile the zip file to write
+     * @param rows the number of rows excluding the header
+     */
+    public static void writeZip(final Path zipFile, final int rows) throws IOException {
+        if (rows > MAX_ROWS) {
+            throw new IllegalArgumentException(String.format(Locale.ROOT, "rows should be less than or equal to %d", MAX_ROWS));
+        }
+        try (
+            ZipOutputStream zipOut = new ZipOutputStream(Files.newOutputStream(zipFile));
+            BufferedWriter writer = new BufferedWriter(new OutputStreamWriter(zipOut, StandardCharsets.UTF_8))
+        ) {
+            zipOut.putNextEntry(new ZipEntry(DB_NAME));
+            writer.write(String.join(",", FIELDS));
+            writer.newLine();
+            for (int i = 0; i < rows; i++) {
+                writer.write(network(i));
+                writer.write(",country-");
+                writer.write(Integer.toString(i % NUMBER_OF_COUNTRIES));
+                writer.write(",city-");
+                writer.write(Integer.toString(i % NUMBER_OF_CITIES));
+                writer.newLine();
+            }
+            writer.flush();
+            zipOut.closeEntry();
+        }
+    }
+
+    /**
+     * Write a manifest file pointing to a given url of a zip file
+     *
+     * A random hash value is used so that every manifest is treated as a new database.
+     *
+     * @param manifestFile the manifest file to write
+     * @param zipUrl the url of the zip file
+     */
+    public static void writeManifest(final Path manifestFile, final String zipUrl) throws IOException {
+        XContentBuilder builder = XContentFactory.jsonBuilder()
+            .startObject()
+            .field("url", zipUrl)
+            .field("db_name", DB_NAME)
+            .field("sha256_hash", UUID.randomUUID().toString())
+            .field("valid_for_in_days", 30)
+            .field("updated_at_in_epoch_milli", Instant.now().toEpochMilli())
+            .field("provider", "generated")
+            .endObject();
+        Files.writeString(manifestFile, builder.toString(), StandardCharsets.UTF_8);
+    }
+
+    /**
+     * Return the ip address which belongs to the network of a given row
+     *
+     * @param row the row index
+     * @return an ip address in the network
+     */
+    public static String ipOfRow(final int row) {
+        int address = FIRST_NETWORK + (row << 8) + 1;
+        return toIpv4(address);
+    }
+
+    private static String network(final int row) {
+        return toIpv4(FIRST_NETWORK + (row << 8)) + "/24";
+    }
+
+    private static String toIpv4(final int address) {
+        return String.format(
+            Locale.ROOT,
+            "%d.%d.%d.%d",
+            (address >>> 24) & 0xff,
+            (address >>> 16) & 0xff,
+            (address >>> 8) & 0xff,
+            address & 0xff
+        );
+    }
+}
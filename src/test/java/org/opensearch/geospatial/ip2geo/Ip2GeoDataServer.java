@@ -9,7 +9,10 @@ import java.io.IOException;
 import java.io.OutputStream;
 import java.net.InetSocketAddress;
 import java.nio.file.Files;
+import java.nio.file.Path;
 import java.nio.file.Paths;
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
 
 import org.opensearch.common.SuppressForbidden;
 
@@ -38,6 +41,7 @@ public class Ip2GeoDataServer {
     private static String endpointPrefix = "http://localhost:" + PORT;
     private static String cityFilePath = endpointPrefix + "/city/manifest_local.json";
     private static String countryFilePath = endpointPrefix + "/country/manifest_local.json";
+    private static final Map<String, Path> generatedFiles = new ConcurrentHashMap<>();
 
     /**
      * Return an endpoint to a manifest file for a sample city data
@@ -67,6 +71,27 @@ public class Ip2GeoDataServer {
         return countryFilePath;
     }
 
+    /**
+     * Serve a file generated during a test under a given path of the local server
+     *
+     * @param path the path to serve the file, starting with "/"
+     * @param file the file to serve
+     * @return an endpoint to the file
+     */
+    public static String putGeneratedFile(final String path, final Path file) {
+        generatedFiles.put(path, file);
+        return endpointPrefix + path;
+    }
+
+    /**
+     * Stop serving a file added by {@link #putGeneratedFile}
+     *
+     * @param path the path of the file
+     */
+    public static void removeGeneratedFile(final String path) {
+        generatedFiles.remove(path);
+    }
+
     @SneakyThrows
     synchronized public static void start() {
         log.info("Start server is called");
@@ -111,14 +136,15 @@ public class Ip2GeoDataServer {
         @Override
         public void handle(final HttpExchange exchange) throws IOException {
             try {
-                byte[] data = Files.readAllBytes(
-                    Paths.get(this.getClass().getClassLoader().getResource(ROOT + exchange.getRequestURI().getPath()).toURI())
-                );
-                exchange.sendResponseHeaders(200, data.length);
-                OutputStream outputStream = exchange.getResponseBody();
-                outputStream.write(data);
-                outputStream.flush();
-                outputStream.close();
+                Path file = generatedFiles.get(exchange.getRequestURI().getPath());
+                if (file == null) {
+                    file = Paths.get(this.getClass().getClassLoader().getResource(ROOT + exchange.getRequestURI().getPath()).toURI());
+                }
+                exchange.sendResponseHeaders(200, Files.size(file));
+                try (OutputStream outputStream = exchange.getResponseBody()) {
+                    Files.copy(file, outputStream);
+                    outputStream.flush();
+                }
             } catch (Exception e) {
                 throw new RuntimeException(e);
             }
@@ -0,0 +1,48 @@
+/*
+ * Copyright OpenSearch Contributors
+ * SPDX-License-Identifier: Apache-2.0
+ */
+
+package org.opensearch.geospatial.ip2geo.action;
+
+import java.util.List;
+
+import org.opensearch.action.ActionRequestValidationException;
+import org.opensearch.common.io.stream.BytesStreamOutput;
+import org.opensearch.core.common.io.stream.BytesStreamInput;
+import org.opensearch.geospatial.GeospatialTestHelper;
+import org.opensearch.geospatial.ip2geo.Ip2GeoTestCase;
+import org.opensearch.geospatial.ip2geo.common.Ip2GeoMetadata.DatasourceMetadata;
+
+import lombok.SneakyThrows;
+
+public class UpdateDatasourceMetadataRequestTests extends Ip2GeoTestCase {
+    @SneakyThrows
+    public void testStreamInOut_whenValidInput_thenSucceed() {
+        UpdateDatasourceMetadataRequest request = new UpdateDatasourceMetadataRequest(
+            List.of(new DatasourceMetadata(randomDatasource()), new DatasourceMetadata(randomDatasource())),
+            List.of(GeospatialTestHelper.randomLowerCaseString())
+        );
+
+        // Run
+        BytesStreamOutput output = new BytesStreamOutput();
+        request.writeTo(output);
+        BytesStreamInput input = new BytesStreamInput(output.bytes().toBytesRef().bytes);
+        UpdateDatasourceMetadataRequest copiedRequest = new UpdateDatasourceMetadataRequest(input);
+
+        // Verify
+        assertEquals(request.getDatasources(), copiedRequest.getDatasources());
+        assertEquals(request.getRemovedNames(), copiedRequest.getRemovedNames());
+    }
+
+    public void testValidate_whenNull_thenError() {
+        UpdateDatasourceMetadataRequest request = new UpdateDatasourceMetadataRequest(null, List.of());
+
+        // Run
+        ActionRequestValidationException error = request.validate();
+
+        // Verify
+        assertNotNull(error.validationErrors());
+        assertFalse(error.validationErrors().isEmpty());
+    }
+}
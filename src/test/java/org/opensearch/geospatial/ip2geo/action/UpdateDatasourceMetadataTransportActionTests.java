@@ -0,0 +1,79 @@
+/*
+ * Copyright OpenSearch Contributors
+ * SPDX-License-Identifier: Apache-2.0
+ */
+
+package org.opensearch.geospatial.ip2geo.action;
+
+import java.util.List;
+
+import org.opensearch.cluster.ClusterName;
+import org.opensearch.cluster.ClusterState;
+import org.opensearch.cluster.metadata.Metadata;
+import org.opensearch.geospatial.ip2geo.Ip2GeoTestCase;
+import org.opensearch.geospatial.ip2geo.common.Ip2GeoMetadata;
+import org.opensearch.geospatial.ip2geo.common.Ip2GeoMetadata.DatasourceMetadata;
+import org.opensearch.geospatial.ip2geo.jobscheduler.Datasource;
+
+public class UpdateDatasourceMetadataTransportActionTests extends Ip2GeoTestCase {
+    public void testUpdateMetadata_whenNoMetadata_thenCreate() {
+        Datasource datasource = randomDatasource();
+        ClusterState state = ClusterState.builder(ClusterName.DEFAULT).metadata(Metadata.builder()).build();
+        UpdateDatasourceMetadataRequest request = new UpdateDatasourceMetadataRequest(
+            List.of(new DatasourceMetadata(datasource)),
+            List.of()
+        );
+
+        // Run
+        ClusterState newState = UpdateDatasourceMetadataTransportAction.updateMetadata(state, request);
+
+        // Verify
+        Ip2GeoMetadata ip2GeoMetadata = newState.metadata().custom(Ip2GeoMetadata.TYPE);
+        assertEquals(new DatasourceMetadata(datasource), ip2GeoMetadata.get(datasource.getName()));
+    }
+
+    public void testUpdateMetadata_whenEmptyRequestAndNoMetadata_thenCreateEmpty() {
+        ClusterState state = ClusterState.builder(ClusterName.DEFAULT).metadata(Metadata.builder()).build();
+        UpdateDatasourceMetadataRequest request = new UpdateDatasourceMetadataRequest(List.of(), List.of());
+
+        // Run
+        ClusterState newState = UpdateDatasourceMetadataTransportAction.updateMetadata(state, request);
+
+        // Verify
+        assertEquals(Ip2GeoMetadata.EMPTY, newState.metadata().custom(Ip2GeoMetadata.TYPE));
+    }
+
+    public void testUpdateMetadata_whenRemove_thenRemoved() {
+        Datasource datasource = randomDatasource();
+        Ip2GeoMetadata ip2GeoMetadata = Ip2GeoMetadata.EMPTY.apply(List.of(new DatasourceMetadata(datasource)), List.of());
+        ClusterState state = ClusterState.builder(ClusterName.DEFAULT)
+            .metadata(Metadata.builder().putCustom(Ip2GeoMetadata.TYPE, ip2GeoMetadata))
+            .build();
+        UpdateDatasourceMetadataRequest request = new UpdateDatasourceMetadataRequest(List.of(), List.of(datasource.getName()));
+
+        // Run
+        ClusterState newState = UpdateDatasourceMetadataTransportAction.updateMetadata(state, request);
+
+        // Verify
+        Ip2GeoMetadata updated = newState.metadata().custom(Ip2GeoMetadata.TYPE);
+        assertNull(updated.get(datasource.getName()));
+    }
+
+    public void testUpdateMetadata_whenNoChange_thenSameState() {
+        Datasource datasource = randomDatasource();
+        Ip2GeoMetadata ip2GeoMetadata = Ip2GeoMetadata.EMPTY.apply(List.of(new DatasourceMetadata(datasource)), List.of());
+        ClusterState state = ClusterState.builder(ClusterName.DEFAULT)
+            .metadata(Metadata.builder().putCustom(Ip2GeoMetadata.TYPE, ip2GeoMetadata))
+            .build();
+        UpdateDatasourceMetadataRequest request = new UpdateDatasourceMetadataRequest(
+            List.of(new DatasourceMetadata(datasource)),
+            List.of()
+        );
+
+        // Run
+        ClusterState newState = UpdateDatasourceMetadataTransportAction.updateMetadata(state, request);
+
+        // Verify
+        assertSame(state, newState);
+    }
+}
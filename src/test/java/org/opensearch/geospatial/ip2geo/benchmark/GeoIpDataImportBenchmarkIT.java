@@ -0,0 +1,162 @@
+/*
+ * Copyright OpenSearch Contributors
+ * SPDX-License-Identifier: Apache-2.0
+ */
+
+package org.opensearch.geospatial.ip2geo.benchmark;
+
+import java.nio.file.Path;
+import java.time.Duration;
+import java.util.Collections;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Locale;
+import java.util.Map;
+import java.util.concurrent.atomic.AtomicBoolean;
+import java.util.concurrent.atomic.AtomicLong;
+
+import org.apache.hc.core5.http.io.entity.EntityUtils;
+import org.junit.AfterClass;
+import org.junit.BeforeClass;
+import org.opensearch.client.Request;
+import org.opensearch.client.RequestOptions;
+import org.opensearch.client.Response;
+import org.opensearch.client.WarningsHandler;
+import org.opensearch.common.xcontent.XContentFactory;
+import org.opensearch.common.xcontent.XContentType;
+import org.opensearch.core.xcontent.XContentBuilder;
+import org.opensearch.geospatial.GeospatialRestTestCase;
+import org.opensearch.geospatial.GeospatialTestHelper;
+import org.opensearch.geospatial.ip2geo.GeoIpDataGenerator;
+import org.opensearch.geospatial.ip2geo.Ip2GeoDataServer;
+import org.opensearch.geospatial.ip2geo.action.PutDatasourceRequest;
+import org.opensearch.geospatial.ip2geo.common.Ip2GeoSettings;
+import org.opensearch.geospatial.ip2geo.jobscheduler.Datasource;
+
+import lombok.SneakyThrows;
+
+/**
+ * Compare GeoIP data import with and without index sorting
+ *
+ * The benchmark is skipped unless the number of rows to generate is given with -Dtests.ip2geo.benchmark.rows.
+ * For each mode, it reports the total update time of a datasource and the peak store size of its data index.
+ */
+public class GeoIpDataImportBenchmarkIT extends GeospatialRestTestCase {
+    public static final String ROWS_PROPERTY = "tests.ip2geo.benchmark.rows";
+    private static final String PREFIX = GeoIpDataImportBenchmarkIT.class.getSimpleName().toLowerCase(Locale.ROOT);
+    private static final Duration TIMEOUT = Duration.ofHours(1);
+    private static final long SAMPLING_INTERVAL_IN_MILLIS = 200;
+
+    @BeforeClass
+    public static void start() {
+        Ip2GeoDataServer.start();
+    }
+
+    @AfterClass
+    public static void stop() {
+        Ip2GeoDataServer.stop();
+    }
+
+    @SneakyThrows
+    public void testImport_whenIndexSortEnabledOrDisabled_thenReport() {
+        String rows = System.getProperty(ROWS_PROPERTY);
+        assumeTrue("set " + ROWS_PROPERTY + " to run the benchmark", rows != null && rows.isEmpty() == false);
+        // Reset deny list to allow private network access during test
+        updateClusterSetting(Map.of(Ip2GeoSettings.DATASOURCE_ENDPOINT_DENYLIST.getKey(), Collections.emptyList()));
+
+        Path dir = createTempDir();
+        Path zipFile = dir.resolve("data.zip");
+        GeoIpDataGenerator.writeZip(zipFile, Integer.parseInt(rows));
+        String zipPath = "/" + PREFIX + "/data.zip";
+        String zipUrl = Ip2GeoDataServer.putGeneratedFile(zipPath, zipFile);
+        try {
+            for (boolean indexSort : List.of(false, true)) {
+                Map<String, Object> result = runImport(dir, zipUrl, indexSort);
+                result.put("rows", Integer.parseInt(rows));
+                logger.info("{}", toJson(result));
+            }
+        } finally {
+            Ip2GeoDataServer.removeGeneratedFile(zipPath);
+            updateClusterSetting(Collections.singletonMap(Ip2GeoSettings.INDEX_SORT_ENABLED.getKey(), null));
+        }
+    }
+
+    private Map<String, Object> runImport(final Path dir, final String zipUrl, final boolean indexSort) throws Exception {
+        updateClusterSetting(Map.of(Ip2GeoSettings.INDEX_SORT_ENABLED.getKey(), indexSort));
+        String datasourceName = PREFIX + GeospatialTestHelper.randomLowerCaseString();
+        String manifestPath = "/" + datasourceName + "/manifest.json";
+        Path manifestFile = dir.resolve(datasourceName + ".json");
+        GeoIpDataGenerator.writeManifest(manifestFile, zipUrl);
+        String endpoint = Ip2GeoDataServer.putGeneratedFile(manifestPath, manifestFile);
+
+        AtomicLong peakStoreSize = new AtomicLong();
+        AtomicBoolean isDone = new AtomicBoolean(false);
+        Thread sampler = new Thread(() -> {
+            while (isDone.get() == false) {
+                try {
+                    peakStoreSize.accumulateAndGet(getStoreSizeInBytes(datasourceName), Math::max);
+                    Thread.sleep(SAMPLING_INTERVAL_IN_MILLIS);
+                } catch (InterruptedException e) {
+                    return;
+                } catch (Exception e) {
+                    // The data index might not exist yet
+                }
+            }
+        });
+        try {
+            sampler.start();
+            createDatasource(datasourceName, Map.of(PutDatasourceRequest.ENDPOINT_FIELD.getPreferredName(), endpoint));
+            waitForDatasourceToBeAvailable(datasourceName, TIMEOUT);
+        } finally {
+            isDone.set(true);
+            sampler.join();
+        }
+
+        try {
+            Map<String, Object> datasource = ((List<Map<String, Object>>) getDatasource(datasourceName).get("datasources")).get(0);
+            Map<String, Object> updateStats = (Map<String, Object>) datasource.get("update_stats");
+            return new HashMap<>(
+                Map.of(
+                    "benchmark",
+                    "ip2geo_import",
+                    "index_sort",
+                    indexSort,
+                    "update_time_in_millis",
+                    updateStats.get("last_processing_time_in_millis"),
+                    "peak_store_size_in_bytes",
+                    peakStoreSize.get()
+                )
+            );
+        } finally {
+            deleteDatasource(datasourceName, 3);
+            Ip2GeoDataServer.removeGeneratedFile(manifestPath);
+        }
+    }
+
+    private long getStoreSizeInBytes(final String datasourceName) throws Exception {
+        Request request = new Request(
+            "GET",
+            String.format(Locale.ROOT, "/_cat/indices/%s.%s.*", Datasource.IP2GEO_DATA_INDEX_NAME_PREFIX, datasourceName)
+        );
+        request.addParameter("h", "store.size");
+        request.addParameter("bytes", "b");
+        request.addParameter("expand_wildcards", "all");
+        request.addParameter("format", "json");
+        request.setOptions(RequestOptions.DEFAULT.toBuilder().setWarningsHandler(WarningsHandler.PERMISSIVE));
+        Response response = client().performRequest(request);
+        List<Object> indices = createParser(XContentType.JSON.xContent(), EntityUtils.toString(response.getEntity())).list();
+        long total = 0;
+        for (Object index : indices) {
+            Object storeSize = ((Map<String, Object>) index).get("store.size");
+            if (storeSize != null) {
+                total += Long.parseLong(storeSize.toString());
+            }
+        }
+        return total;
+    }
+
+    private String toJson(final Map<String, Object> result) throws Exception {
+        XContentBuilder builder = XContentFactory.jsonBuilder().map(result);
+        return builder.toString();
+    }
+}
@@ -0,0 +1,214 @@
+/*
+ * Copyright OpenSearch Contributors
+ * SPDX-License-Identifier: Apache-2.0
+ */
+
+package org.opensearch.geospatial.ip2geo.benchmark;
+
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.Paths;
+import java.time.Duration;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.Collections;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Locale;
+import java.util.Map;
+import java.util.Optional;
+import java.util.stream.Collectors;
+
+import org.apache.hc.core5.http.io.entity.EntityUtils;
+import org.junit.AfterClass;
+import org.junit.BeforeClass;
+import org.opensearch.client.Request;
+import org.opensearch.client.Response;
+import org.opensearch.common.xcontent.XContentFactory;
+import org.opensearch.common.xcontent.XContentType;
+import org.opensearch.geospatial.GeospatialRestTestCase;
+import org.opensearch.geospatial.GeospatialTestHelper;
+import org.opensearch.geospatial.ip2geo.GeoIpDataGenerator;
+import org.opensearch.geospatial.ip2geo.Ip2GeoDataServer;
+import org.opensearch.geospatial.ip2geo.action.PutDatasourceRequest;
+import org.opensearch.geospatial.ip2geo.common.Ip2GeoSettings;
+import org.opensearch.geospatial.ip2geo.processor.Ip2GeoProcessor;
+
+import lombok.SneakyThrows;
+
+/**
+ * End to end performance test of ip2geo against generated GeoIP data served by {@link Ip2GeoDataServer}
+ *
+ * It measures the time to create a datasource and then, for each cache size, the throughput and the latency of
+ * bulk requests going through an ip2geo processor. Results are written as JSON to the file given by
+ * -Dtests.ip2geo.perf.output, and are logged as well.
+ *
+ * The test is skipped unless -Dtests.ip2geo.perf.rows is set. Use the ip2geoPerfTest gradle task to run it.
+ */
+public class Ip2GeoPerformanceIT extends GeospatialRestTestCase {
+    public static final String ROWS_PROPERTY = "tests.ip2geo.perf.rows";
+    public static final String CACHE_SIZES_PROPERTY = "tests.ip2geo.perf.cache_sizes";
+    public static final String DOCS_PROPERTY = "tests.ip2geo.perf.docs";
+    public static final String DISTINCT_IPS_PROPERTY = "tests.ip2geo.perf.distinct_ips";
+    public static final String BULK_SIZE_PROPERTY = "tests.ip2geo.perf.bulk_size";
+    public static final String OUTPUT_PROPERTY = "tests.ip2geo.perf.output";
+    private static final String PREFIX = Ip2GeoPerformanceIT.class.getSimpleName().toLowerCase(Locale.ROOT);
+    private static final String IP_FIELD = "ip";
+    private static final String TARGET_FIELD = "geo";
+    private static final Duration TIMEOUT = Duration.ofHours(1);
+
+    @BeforeClass
+    public static void start() {
+        Ip2GeoDataServer.start();
+    }
+
+    @AfterClass
+    public static void stop() {
+        Ip2GeoDataServer.stop();
+    }
+
+    @SneakyThrows
+    public void testIp2Geo_whenGeneratedData_thenReportPerformance() {
+        String rowsValue = System.getProperty(ROWS_PROPERTY);
+        assumeTrue("set " + ROWS_PROPERTY + " to run the performance test", rowsValue != null && rowsValue.isEmpty() == false);
+        int rows = Integer.parseInt(rowsValue);
+        int docs = Integer.parseInt(System.getProperty(DOCS_PROPERTY, "100000"));
+        int distinctIps = Integer.parseInt(System.getProperty(DISTINCT_IPS_PROPERTY, "10000"));
+        int bulkSize = Integer.parseInt(System.getProperty(BULK_SIZE_PROPERTY, "500"));
+        List<Long> cacheSizes = Arrays.stream(System.getProperty(CACHE_SIZES_PROPERTY, "0,1000,100000").split(","))
+            .map(String::trim)
+            .map(Long::parseLong)
+            .collect(Collectors.toList());
+        // Reset deny list to allow private network access during test
+        updateClusterSetting(Map.of(Ip2GeoSettings.DATASOURCE_ENDPOINT_DENYLIST.getKey(), Collections.emptyList()));
+
+        Path dir = createTempDir();
+        Path zipFile = dir.resolve("data.zip");
+        Path manifestFile = dir.resolve("manifest.json");
+        String zipPath = "/" + PREFIX + "/data.zip";
+        String manifestPath = "/" + PREFIX + "/manifest.json";
+        GeoIpDataGenerator.writeZip(zipFile, rows);
+        GeoIpDataGenerator.writeManifest(manifestFile, Ip2GeoDataServer.putGeneratedFile(zipPath, zipFile));
+        String endpoint = Ip2GeoDataServer.putGeneratedFile(manifestPath, manifestFile);
+
+        String datasourceName = PREFIX + GeospatialTestHelper.randomLowerCaseString();
+        String pipelineName = PREFIX + GeospatialTestHelper.randomLowerCaseString();
+        String indexName = PREFIX + GeospatialTestHelper.randomLowerCaseString();
+        Map<String, Object> report = new HashMap<>();
+        report.put("rows", rows);
+        report.put("docs", docs);
+        report.put("distinct_ips", distinctIps);
+        report.put("bulk_size", bulkSize);
+        boolean isDatasourceCreated = false;
+        boolean isPipelineCreated = false;
+        try {
+            long start = System.nanoTime();
+            createDatasource(datasourceName, Map.of(PutDatasourceRequest.ENDPOINT_FIELD.getPreferredName(), endpoint));
+            isDatasourceCreated = true;
+            waitForDatasourceToBeAvailable(datasourceName, TIMEOUT);
+            report.put("datasource_available_in_millis", (System.nanoTime() - start) / 1_000_000);
+            report.put("update_time_in_millis", getLastProcessingTimeInMillis(datasourceName));
+
+            createPipeline(pipelineName, Optional.empty(), List.of(buildIp2GeoProcessorConfig(datasourceName)));
+            isPipelineCreated = true;
+
+            List<String> ips = new ArrayList<>(distinctIps);
+            for (int i = 0; i < distinctIps; i++) {
+                ips.add(GeoIpDataGenerator.ipOfRow(randomIntBetween(0, rows - 1)));
+            }
+            List<Map<String, Object>> pipelineResults = new ArrayList<>();
+            for (long cacheSize : cacheSizes) {
+                pipelineResults.add(runPipeline(pipelineName, indexName, cacheSize, ips, docs, bulkSize));
+            }
+            report.put("pipeline", pipelineResults);
+        } finally {
+            if (isPipelineCreated) {
+                deletePipeline(pipelineName);
+            }
+            if (isDatasourceCreated) {
+                deleteDatasource(datasourceName, 3);
+            }
+            Ip2GeoDataServer.removeGeneratedFile(zipPath);
+            Ip2GeoDataServer.removeGeneratedFile(manifestPath);
+            updateClusterSetting(Collections.singletonMap(Ip2GeoSettings.CACHE_SIZE.getKey(), null));
+        }
+
+        String json = XContentFactory.jsonBuilder().map(report).toString();
+        logger.info("ip2geo performance: {}", json);
+        String output = System.getProperty(OUTPUT_PROPERTY);
+        if (output != null && output.isEmpty() == false) {
+            Path outputFile = Paths.get(output);
+            Files.createDirectories(outputFile.toAbsolutePath().getParent());
+            Files.writeString(outputFile, json, StandardCharsets.UTF_8);
+        }
+    }
+
+    private Map<String, Object> runPipeline(
+        final String pipelineName,
+        final String indexName,
+        final long cacheSize,
+        final List<String> ips,
+        final int docs,
+        final int bulkSize
+    ) throws Exception {
+        // Setting cache size to zero first empties the cache so that every run starts cold
+        updateClusterSetting(Map.of(Ip2GeoSettings.CACHE_SIZE.getKey(), 0));
+        updateClusterSetting(Map.of(Ip2GeoSettings.CACHE_SIZE.getKey(), cacheSize));
+
+        List<Long> latencies = new ArrayList<>();
+        long start = System.nanoTime();
+        for (int sent = 0; sent < docs; sent += bulkSize) {
+            int size = Math.min(bulkSize, docs - sent);
+            StringBuilder body = new StringBuilder();
+            for (int i = 0; i < size; i++) {
+                body.append("{\"index\":{}}\n");
+                body.append("{\"").append(IP_FIELD).append("\":\"").append(ips.get(randomInt(ips.size() - 1))).append("\"}\n");
+            }
+            Request request = new Request("POST", "/" + indexName + "/_bulk");
+            request.addParameter("pipeline", pipelineName);
+            request.setJsonEntity(body.toString());
+            long bulkStart = System.nanoTime();
+            Response response = client().performRequest(request);
+            latencies.add(System.nanoTime() - bulkStart);
+            Map<String, Object> result = createParser(XContentType.JSON.xContent(), EntityUtils.toString(response.getEntity())).map();
+            assertFalse("bulk request should not have failures", (Boolean) result.get("errors"));
+        }
+        long elapsed = System.nanoTime() - start;
+        deleteIndex(indexName);
+
+        Collections.sort(latencies);
+        Map<String, Object> result = new HashMap<>();
+        result.put("cache_size", cacheSize);
+        result.put("docs_per_second", docs * 1_000_000_000.0 / elapsed);
+        result.put("bulk_latency_p50_in_millis", percentile(latencies, 50) / 1_000_000.0);
+        result.put("bulk_latency_p90_in_millis", percentile(latencies, 90) / 1_000_000.0);
+        result.put("bulk_latency_p99_in_millis", percentile(latencies, 99) / 1_000_000.0);
+        result.put("bulk_latency_max_in_millis", latencies.get(latencies.size() - 1) / 1_000_000.0);
+        return result;
+    }
+
+    private Map<String, Object> buildIp2GeoProcessorConfig(final String datasourceName) {
+        return buildProcessorConfig(
+            Ip2GeoProcessor.TYPE,
+            Map.of(
+                Ip2GeoProcessor.CONFIG_FIELD,
+                IP_FIELD,
+                Ip2GeoProcessor.CONFIG_DATASOURCE,
+                datasourceName,
+                Ip2GeoProcessor.CONFIG_TARGET_FIELD,
+                TARGET_FIELD
+            )
+        );
+    }
+
+    private Object getLastProcessingTimeInMillis(final String datasourceName) throws Exception {
+        Map<String, Object> datasource = ((List<Map<String, Object>>) getDatasource(datasourceName).get("datasources")).get(0);
+        return ((Map<String, Object>) datasource.get("update_stats")).get("last_processing_time_in_millis");
+    }
+
+    private static long percentile(final List<Long> sorted, final int percentile) {
+        int index = (int) Math.ceil(percentile / 100.0 * sorted.size()) - 1;
+        return sorted.get(Math.max(0, Math.min(index, sorted.size() - 1)));
+    }
+}
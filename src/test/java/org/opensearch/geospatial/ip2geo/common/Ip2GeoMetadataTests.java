@@ -0,0 +1,133 @@
+/*
+ * Copyright OpenSearch Contributors
+ * SPDX-License-Identifier: Apache-2.0
+ */
+
+package org.opensearch.geospatial.ip2geo.common;
+
+import java.time.Instant;
+import java.util.Arrays;
+import java.util.Collections;
+import java.util.List;
+import java.util.Map;
+
+import org.opensearch.common.io.stream.BytesStreamOutput;
+import org.opensearch.common.xcontent.XContentFactory;
+import org.opensearch.core.common.io.stream.BytesStreamInput;
+import org.opensearch.core.xcontent.ToXContent;
+import org.opensearch.core.xcontent.XContentBuilder;
+import org.opensearch.geospatial.GeospatialTestHelper;
+import org.opensearch.geospatial.ip2geo.Ip2GeoTestCase;
+import org.opensearch.geospatial.ip2geo.common.Ip2GeoMetadata.DatasourceMetadata;
+import org.opensearch.geospatial.ip2geo.jobscheduler.Datasource;
+
+import lombok.SneakyThrows;
+
+public class Ip2GeoMetadataTests extends Ip2GeoTestCase {
+    @SneakyThrows
+    public void testStreamInOut_whenValidInput_thenSucceed() {
+        Datasource datasource = randomDatasource();
+        DatasourceMetadata noExpiration = new DatasourceMetadata(
+            GeospatialTestHelper.randomLowerCaseString(),
+            null,
+            DatasourceState.CREATING,
+            Instant.MAX
+        );
+        Ip2GeoMetadata ip2GeoMetadata = new Ip2GeoMetadata(
+            Map.of(datasource.getName(), new DatasourceMetadata(datasource), noExpiration.getName(), noExpiration)
+        );
+
+        // Run
+        BytesStreamOutput output = new BytesStreamOutput();
+        ip2GeoMetadata.writeTo(output);
+        BytesStreamInput input = new BytesStreamInput(output.bytes().toBytesRef().bytes);
+        Ip2GeoMetadata copied = new Ip2GeoMetadata(input);
+
+        // Verify
+        assertEquals(ip2GeoMetadata, copied);
+    }
+
+    @SneakyThrows
+    public void testParser_whenValidInput_thenSucceed() {
+        Datasource datasource = randomDatasource();
+        Ip2GeoMetadata ip2GeoMetadata = new Ip2GeoMetadata(Map.of(datasource.getName(), new DatasourceMetadata(datasource)));
+        XContentBuilder builder = XContentFactory.jsonBuilder().startObject();
+        ip2GeoMetadata.toXContent(builder, ToXContent.EMPTY_PARAMS);
+        builder.endObject();
+
+        // Run
+        Ip2GeoMetadata parsed = Ip2GeoMetadata.fromXContent(createParser(builder));
+
+        // Verify
+        assertEquals(ip2GeoMetadata, parsed);
+    }
+
+    @SneakyThrows
+    public void testToXContent_whenNoExpiration_thenSaturate() {
+        DatasourceMetadata datasourceMetadata = new DatasourceMetadata(
+            GeospatialTestHelper.randomLowerCaseString(),
+            null,
+            DatasourceState.CREATING,
+            Instant.MAX
+        );
+        XContentBuilder builder = XContentFactory.jsonBuilder().startObject();
+        new Ip2GeoMetadata(Map.of(datasourceMetadata.getName(), datasourceMetadata)).toXContent(builder, ToXContent.EMPTY_PARAMS);
+        builder.endObject();
+
+        // Run
+        DatasourceMetadata parsed = Ip2GeoMetadata.fromXContent(createParser(builder)).get(datasourceMetadata.getName());
+
+        // Verify
+        assertNull(parsed.getIndexName());
+        assertFalse(parsed.isExpired(Instant.now()));
+    }
+
+    public void testApply_whenPutAndRemove_thenUpdated() {
+        Datasource toKeep = randomDatasource();
+        Datasource toRemove = randomDatasource();
+        Datasource toAdd = randomDatasource();
+        Ip2GeoMetadata ip2GeoMetadata = new Ip2GeoMetadata(
+            Map.of(toKeep.getName(), new DatasourceMetadata(toKeep), toRemove.getName(), new DatasourceMetadata(toRemove))
+        );
+
+        // Run
+        Ip2GeoMetadata updated = ip2GeoMetadata.apply(List.of(new DatasourceMetadata(toAdd)), List.of(toRemove.getName()));
+
+        // Verify
+        assertEquals(2, updated.getDatasources().size());
+        assertEquals(new DatasourceMetadata(toKeep), updated.get(toKeep.getName()));
+        assertEquals(new DatasourceMetadata(toAdd), updated.get(toAdd.getName()));
+        assertNull(updated.get(toRemove.getName()));
+        // Verify the original metadata is not modified
+        assertNotNull(ip2GeoMetadata.get(toRemove.getName()));
+    }
+
+    public void testApply_whenNoChange_thenSameInstance() {
+        Datasource datasource = randomDatasource();
+        Ip2GeoMetadata ip2GeoMetadata = new Ip2GeoMetadata(Map.of(datasource.getName(), new DatasourceMetadata(datasource)));
+
+        // Run
+        Ip2GeoMetadata updated = ip2GeoMetadata.apply(
+            Arrays.asList(new DatasourceMetadata(datasource)),
+            Collections.singletonList(GeospatialTestHelper.randomLowerCaseString())
+        );
+
+        // Verify
+        assertSame(ip2GeoMetadata, updated);
+    }
+
+    public void testIsExpired_whenExpirationPassed_thenTrue() {
+        DatasourceMetadata datasourceMetadata = new DatasourceMetadata(
+            GeospatialTestHelper.randomLowerCaseString(),
+            GeospatialTestHelper.randomLowerCaseString(),
+            DatasourceState.AVAILABLE,
+            Instant.now().minusSeconds(60)
+        );
+
+        // Run
+        boolean isExpired = datasourceMetadata.isExpired(Instant.now());
+
+        // Verify
+        assertTrue(isExpired);
+    }
+}
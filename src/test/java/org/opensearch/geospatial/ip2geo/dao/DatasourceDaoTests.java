@@ -15,16 +15,22 @@ import java.time.Instant;
 import java.time.temporal.ChronoUnit;
 import java.util.Arrays;
 import java.util.List;
+import java.util.concurrent.atomic.AtomicBoolean;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.stream.Collectors;
 
 import org.apache.lucene.search.TotalHits;
 import org.junit.Before;
 import org.mockito.ArgumentCaptor;
+import org.opensearch.OpenSearchException;
 import org.opensearch.ResourceAlreadyExistsException;
 import org.opensearch.ResourceNotFoundException;
 import org.opensearch.action.DocWriteRequest;
 import org.opensearch.action.StepListener;
 import org.opensearch.action.admin.indices.create.CreateIndexRequest;
+import org.opensearch.action.bulk.BulkItemResponse;
 import org.opensearch.action.bulk.BulkRequest;
+import org.opensearch.action.bulk.BulkResponse;
 import org.opensearch.action.delete.DeleteRequest;
 import org.opensearch.action.delete.DeleteResponse;
 import org.opensearch.action.get.GetRequest;
@@ -33,9 +39,13 @@ import org.opensearch.action.get.MultiGetItemResponse;
 import org.opensearch.action.get.MultiGetRequest;
 import org.opensearch.action.get.MultiGetResponse;
 import org.opensearch.action.index.IndexRequest;
+import org.opensearch.action.index.IndexResponse;
+import org.opensearch.action.search.ClearScrollRequest;
 import org.opensearch.action.search.SearchRequest;
 import org.opensearch.action.search.SearchResponse;
+import org.opensearch.action.search.SearchScrollRequest;
 import org.opensearch.action.support.WriteRequest;
+import org.opensearch.action.support.clustermanager.AcknowledgedResponse;
 import org.opensearch.cluster.routing.Preference;
 import org.opensearch.common.Randomness;
 import org.opensearch.common.xcontent.json.JsonXContent;
@@ -44,6 +54,8 @@ import org.opensearch.core.common.bytes.BytesReference;
 import org.opensearch.core.rest.RestStatus;
 import org.opensearch.geospatial.GeospatialTestHelper;
 import org.opensearch.geospatial.ip2geo.Ip2GeoTestCase;
+import org.opensearch.geospatial.ip2geo.action.UpdateDatasourceMetadataRequest;
+import org.opensearch.geospatial.ip2geo.common.Ip2GeoMetadata;
 import org.opensearch.geospatial.ip2geo.jobscheduler.Datasource;
 import org.opensearch.geospatial.ip2geo.jobscheduler.DatasourceExtension;
 import org.opensearch.index.IndexNotFoundException;
@@ -135,7 +147,13 @@ public class DatasourceDaoTests extends Ip2GeoTestCase {
         Instant previousTime = Instant.now().minusMillis(1);
         datasource.setLastUpdateTime(previousTime);
 
+        AtomicBoolean isPublished = new AtomicBoolean(false);
         verifyingClient.setExecuteVerifier((actionResponse, actionRequest) -> {
+            if (actionRequest instanceof UpdateDatasourceMetadataRequest) {
+                verifyMetadataRequest((UpdateDatasourceMetadataRequest) actionRequest, List.of(datasource), List.of());
+                isPublished.set(true);
+                return new AcknowledgedResponse(true);
+            }
             assertTrue(actionRequest instanceof IndexRequest);
             IndexRequest request = (IndexRequest) actionRequest;
             assertEquals(datasource.getName(), request.id());
@@ -147,6 +165,19 @@ public class DatasourceDaoTests extends Ip2GeoTestCase {
 
         datasourceDao.updateDatasource(datasource);
         assertTrue(previousTime.isBefore(datasource.getLastUpdateTime()));
+        assertTrue(isPublished.get());
+    }
+
+    public void testUpdateDatasource_whenPublishNotAcknowledged_thenException() {
+        Datasource datasource = randomDatasource();
+        verifyingClient.setExecuteVerifier((actionResponse, actionRequest) -> {
+            if (actionRequest instanceof UpdateDatasourceMetadataRequest) {
+                return new AcknowledgedResponse(false);
+            }
+            return null;
+        });
+
+        expectThrows(OpenSearchException.class, () -> datasourceDao.updateDatasource(datasource));
     }
 
     @SneakyThrows
@@ -156,6 +187,10 @@ public class DatasourceDaoTests extends Ip2GeoTestCase {
         datasource.setLastUpdateTime(previousTime);
 
         verifyingClient.setExecuteVerifier((actionResponse, actionRequest) -> {
+            if (actionRequest instanceof UpdateDatasourceMetadataRequest) {
+                verifyMetadataRequest((UpdateDatasourceMetadataRequest) actionRequest, List.of(datasource), List.of());
+                return new AcknowledgedResponse(true);
+            }
             assertTrue(actionRequest instanceof IndexRequest);
             IndexRequest indexRequest = (IndexRequest) actionRequest;
             assertEquals(DatasourceExtension.JOB_INDEX_NAME, indexRequest.index());
@@ -165,8 +200,10 @@ public class DatasourceDaoTests extends Ip2GeoTestCase {
             return null;
         });
 
-        datasourceDao.putDatasource(datasource, mock(ActionListener.class));
+        ActionListener<IndexResponse> listener = mock(ActionListener.class);
+        datasourceDao.putDatasource(datasource, listener);
         assertTrue(previousTime.isBefore(datasource.getLastUpdateTime()));
+        verify(listener).onResponse(null);
     }
 
     public void testGetDatasource_whenException_thenNull() throws Exception {
@@ -218,6 +255,10 @@ public class DatasourceDaoTests extends Ip2GeoTestCase {
     public void testDeleteDatasource_whenValidInput_thenSucceed() {
         Datasource datasource = randomDatasource();
         verifyingClient.setExecuteVerifier((actionResponse, actionRequest) -> {
+            if (actionRequest instanceof UpdateDatasourceMetadataRequest) {
+                verifyMetadataRequest((UpdateDatasourceMetadataRequest) actionRequest, List.of(), List.of(datasource.getName()));
+                return new AcknowledgedResponse(true);
+            }
             // Verify
             assertTrue(actionRequest instanceof DeleteRequest);
             DeleteRequest request = (DeleteRequest) actionRequest;
@@ -338,10 +379,110 @@ public class DatasourceDaoTests extends Ip2GeoTestCase {
         assertEquals(datasources, datasourceDao.getAllDatasources());
     }
 
+    public void testReconcileMetadata_whenMultiplePages_thenPublishAllAndRemoveMissing() {
+        List<Datasource> datasources = Arrays.asList(randomDatasource(), randomDatasource(), randomDatasource());
+        Datasource removedDatasource = randomDatasource();
+        String removedName = removedDatasource.getName();
+        Ip2GeoMetadata ip2GeoMetadata = Ip2GeoMetadata.EMPTY.apply(
+            List.of(new Ip2GeoMetadata.DatasourceMetadata(datasources.get(0)), new Ip2GeoMetadata.DatasourceMetadata(removedDatasource)),
+            List.of()
+        );
+        when(metadata.custom(Ip2GeoMetadata.TYPE)).thenReturn(ip2GeoMetadata);
+        String scrollId = GeospatialTestHelper.randomLowerCaseString();
+        AtomicInteger scrollCount = new AtomicInteger();
+        AtomicBoolean isScrollCleared = new AtomicBoolean(false);
+
+        verifyingClient.setExecuteVerifier((actionResponse, actionRequest) -> {
+            SearchResponse response = mock(SearchResponse.class);
+            when(response.getScrollId()).thenReturn(scrollId);
+            if (actionRequest instanceof SearchRequest) {
+                // Verify
+                SearchRequest request = (SearchRequest) actionRequest;
+                assertEquals(DatasourceExtension.JOB_INDEX_NAME, request.indices()[0]);
+                assertNotNull(request.scroll());
+                assertEquals(1000, request.source().size());
+                when(response.getHits()).thenReturn(getMockedSearchHits(datasources.subList(0, 2)));
+                return response;
+            }
+            if (actionRequest instanceof SearchScrollRequest) {
+                // Verify
+                assertEquals(scrollId, ((SearchScrollRequest) actionRequest).scrollId());
+                List<Datasource> page = scrollCount.getAndIncrement() == 0 ? datasources.subList(2, 3) : List.of();
+                when(response.getHits()).thenReturn(getMockedSearchHits(page));
+                return response;
+            }
+            if (actionRequest instanceof ClearScrollRequest) {
+                // Verify
+                assertEquals(List.of(scrollId), ((ClearScrollRequest) actionRequest).getScrollIds());
+                isScrollCleared.set(true);
+                return null;
+            }
+            // Verify
+            assertTrue(actionRequest instanceof UpdateDatasourceMetadataRequest);
+            verifyMetadataRequest((UpdateDatasourceMetadataRequest) actionRequest, datasources, List.of(removedName));
+            return new AcknowledgedResponse(true);
+        });
+        ActionListener<AcknowledgedResponse> listener = mock(ActionListener.class);
+
+        // Run
+        datasourceDao.reconcileMetadata(listener);
+
+        // Verify
+        assertEquals(2, scrollCount.get());
+        assertTrue(isScrollCleared.get());
+        ArgumentCaptor<AcknowledgedResponse> captor = ArgumentCaptor.forClass(AcknowledgedResponse.class);
+        verify(listener).onResponse(captor.capture());
+        assertTrue(captor.getValue().isAcknowledged());
+    }
+
+    public void testReconcileMetadata_whenMetadataIsUpToDate_thenDoNotPublish() {
+        Datasource datasource = randomDatasource();
+        when(metadata.custom(Ip2GeoMetadata.TYPE)).thenReturn(
+            Ip2GeoMetadata.EMPTY.apply(List.of(new Ip2GeoMetadata.DatasourceMetadata(datasource)), List.of())
+        );
+        verifyingClient.setExecuteVerifier((actionResponse, actionRequest) -> {
+            fail("metadata should not be published");
+            return null;
+        });
+
+        // Run
+        datasourceDao.reconcileMetadata(datasource);
+    }
+
+    public void testReconcileMetadata_whenMetadataIsStale_thenPublish() {
+        Datasource datasource = randomDatasource();
+        when(metadata.custom(Ip2GeoMetadata.TYPE)).thenReturn(Ip2GeoMetadata.EMPTY);
+        AtomicBoolean isPublished = new AtomicBoolean(false);
+        verifyingClient.setExecuteVerifier((actionResponse, actionRequest) -> {
+            // Verify
+            assertTrue(actionRequest instanceof UpdateDatasourceMetadataRequest);
+            verifyMetadataRequest((UpdateDatasourceMetadataRequest) actionRequest, List.of(datasource), List.of());
+            isPublished.set(true);
+            return new AcknowledgedResponse(true);
+        });
+
+        // Run
+        datasourceDao.reconcileMetadata(datasource);
+
+        // Verify
+        assertTrue(isPublished.get());
+    }
+
     public void testUpdateDatasource_whenValidInput_thenUpdate() {
         List<Datasource> datasources = Arrays.asList(randomDatasource(), randomDatasource());
 
+        BulkItemResponse failedItem = mock(BulkItemResponse.class);
+        when(failedItem.isFailed()).thenReturn(true);
+        BulkItemResponse succeededItem = mock(BulkItemResponse.class);
+        when(succeededItem.isFailed()).thenReturn(false);
+        BulkResponse bulkResponse = new BulkResponse(new BulkItemResponse[] { failedItem, succeededItem }, 1);
+
         verifyingClient.setExecuteVerifier((actionResponse, actionRequest) -> {
+            if (actionRequest instanceof UpdateDatasourceMetadataRequest) {
+                // Only successfully written datasources are published
+                verifyMetadataRequest((UpdateDatasourceMetadataRequest) actionRequest, List.of(datasources.get(1)), List.of());
+                return new AcknowledgedResponse(true);
+            }
             // Verify
             assertTrue(actionRequest instanceof BulkRequest);
             BulkRequest bulkRequest = (BulkRequest) actionRequest;
@@ -353,10 +494,24 @@ public class DatasourceDaoTests extends Ip2GeoTestCase {
                 assertEquals(DocWriteRequest.OpType.INDEX, request.opType());
                 assertTrue(request.source().utf8ToString().contains(datasources.get(i).getEndpoint()));
             }
-            return null;
+            return bulkResponse;
         });
 
-        datasourceDao.updateDatasource(datasources, mock(ActionListener.class));
+        ActionListener<BulkResponse> listener = mock(ActionListener.class);
+        datasourceDao.updateDatasource(datasources, listener);
+        verify(listener).onResponse(bulkResponse);
+    }
+
+    private void verifyMetadataRequest(
+        final UpdateDatasourceMetadataRequest request,
+        final List<Datasource> expectedDatasources,
+        final List<String> expectedRemovedNames
+    ) {
+        assertEquals(
+            expectedDatasources.stream().map(Ip2GeoMetadata.DatasourceMetadata::new).collect(Collectors.toList()),
+            request.getDatasources()
+        );
+        assertEquals(expectedRemovedNames, request.getRemovedNames());
     }
 
     private SearchHits getMockedSearchHits(List<Datasource> datasources) {
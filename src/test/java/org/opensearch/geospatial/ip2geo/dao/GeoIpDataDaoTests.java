@@ -19,7 +19,9 @@ import java.net.URLConnection;
 import java.nio.ByteBuffer;
 import java.nio.charset.StandardCharsets;
 import java.time.Instant;
+import java.util.Arrays;
 import java.util.Iterator;
+import java.util.List;
 import java.util.Locale;
 import java.util.Map;
 
@@ -28,25 +30,36 @@ import org.apache.commons.csv.CSVParser;
 import org.apache.commons.csv.CSVRecord;
 import org.apache.lucene.search.TotalHits;
 import org.junit.Before;
+import org.mockito.ArgumentCaptor;
 import org.opensearch.OpenSearchException;
 import org.opensearch.action.admin.indices.create.CreateIndexRequest;
 import org.opensearch.action.admin.indices.delete.DeleteIndexRequest;
 import org.opensearch.action.admin.indices.forcemerge.ForceMergeRequest;
 import org.opensearch.action.admin.indices.refresh.RefreshRequest;
 import org.opensearch.action.admin.indices.settings.put.UpdateSettingsRequest;
+import org.opensearch.action.admin.indices.stats.CommonStats;
+import org.opensearch.action.admin.indices.stats.IndicesStatsRequest;
+import org.opensearch.action.admin.indices.stats.IndicesStatsResponse;
 import org.opensearch.action.bulk.BulkRequest;
 import org.opensearch.action.bulk.BulkResponse;
+import org.opensearch.action.search.MultiSearchRequest;
+import org.opensearch.action.search.MultiSearchResponse;
 import org.opensearch.action.search.SearchRequest;
 import org.opensearch.action.search.SearchResponse;
 import org.opensearch.action.support.clustermanager.AcknowledgedResponse;
 import org.opensearch.cluster.routing.Preference;
 import org.opensearch.common.SuppressForbidden;
+import org.opensearch.common.settings.Settings;
+import org.opensearch.core.action.ActionListener;
 import org.opensearch.core.common.bytes.BytesReference;
 import org.opensearch.geospatial.GeospatialTestHelper;
 import org.opensearch.geospatial.ip2geo.Ip2GeoTestCase;
 import org.opensearch.geospatial.ip2geo.common.DatasourceManifest;
+import org.opensearch.geospatial.ip2geo.common.Ip2GeoSettings;
 import org.opensearch.geospatial.shared.Constants;
+import org.opensearch.index.engine.SegmentsStats;
 import org.opensearch.index.query.QueryBuilders;
+import org.opensearch.index.store.StoreStats;
 import org.opensearch.search.SearchHit;
 import org.opensearch.search.SearchHits;
 
@@ -84,9 +97,13 @@ public class GeoIpDataDaoTests extends Ip2GeoTestCase {
             assertEquals(0, (int) request.settings().getAsInt("index.number_of_replicas", 1));
             assertEquals(-1, (int) request.settings().getAsInt("index.refresh_interval", 0));
             assertEquals(true, request.settings().getAsBoolean("index.hidden", false));
+            assertEquals("_cidr_start", request.settings().get("index.sort.field"));
+            assertEquals("asc", request.settings().get("index.sort.order"));
+            assertNotNull(request.settings().get("index.translog.flush_threshold_size"));
 
             assertEquals(
-                "{\"dynamic\": false,\"properties\": {\"_cidr\": {\"type\": \"ip_range\",\"doc_values\": false}}}",
+                "{\"dynamic\": false,\"properties\": {\"_cidr\": {\"type\": \"ip_range\",\"doc_values\": false},"
+                    + "\"_cidr_start\": {\"type\": \"ip\",\"index\": false,\"doc_values\": true}}}",
                 request.mappings()
             );
             return null;
@@ -94,16 +111,47 @@ public class GeoIpDataDaoTests extends Ip2GeoTestCase {
         verifyingGeoIpDataDao.createIndexIfNotExists(index);
     }
 
+    public void testCreateIndexIfNotExists_whenIndexSortDisabled_thenNoSortSetting() {
+        String index = GeospatialTestHelper.randomLowerCaseString();
+        when(metadata.hasIndex(index)).thenReturn(false);
+        clusterSettings.applySettings(Settings.builder().put(Ip2GeoSettings.INDEX_SORT_ENABLED.getKey(), false).build());
+        verifyingClient.setExecuteVerifier((actionResponse, actionRequest) -> {
+            assertTrue(actionRequest instanceof CreateIndexRequest);
+            CreateIndexRequest request = (CreateIndexRequest) actionRequest;
+            assertNull(request.settings().get("index.sort.field"));
+            assertNull(request.settings().get("index.translog.flush_threshold_size"));
+            return null;
+        });
+
+        // Run
+        verifyingGeoIpDataDao.createIndexIfNotExists(index);
+    }
+
     @SneakyThrows
     public void testCreateDocument_whenBlankValue_thenDoNotAdd() {
         String[] names = { "ip", "country", "location", "city" };
         String[] values = { "1.0.0.0/25", "USA", " ", "Seattle" };
         assertEquals(
-            "{\"_cidr\":\"1.0.0.0/25\",\"_data\":{\"country\":\"USA\",\"city\":\"Seattle\"}}",
+            "{\"_cidr\":\"1.0.0.0/25\",\"_cidr_start\":\"1.0.0.0\",\"_data\":{\"country\":\"USA\",\"city\":\"Seattle\"}}",
             noOpsGeoIpDataDao.createDocument(names, values).toString()
         );
     }
 
+    @SneakyThrows
+    public void testCreateDocument_whenHostBitsSet_thenAddLowestAddressAsRangeStart() {
+        String[] names = { "ip", "country" };
+
+        // Run and verify
+        assertEquals(
+            "{\"_cidr\":\"1.0.0.1/25\",\"_cidr_start\":\"1.0.0.0\",\"_data\":{\"country\":\"USA\"}}",
+            noOpsGeoIpDataDao.createDocument(names, new String[] { "1.0.0.1/25", "USA" }).toString()
+        );
+        assertEquals(
+            "{\"_cidr\":\"fd12:2345:6789:1::1/64\",\"_cidr_start\":\"fd12:2345:6789:1::\",\"_data\":{\"country\":\"India\"}}",
+            noOpsGeoIpDataDao.createDocument(names, new String[] { "fd12:2345:6789:1::1/64", "India" }).toString()
+        );
+    }
+
     @SneakyThrows
     public void testCreateDocument_whenFieldsAndValuesLengthDoesNotMatch_thenThrowException() {
         String[] names = { "ip", "country", "location", "city" };
@@ -211,13 +259,18 @@ public class GeoIpDataDaoTests extends Ip2GeoTestCase {
                 assertEquals(index, request.indices()[0]);
                 assertEquals(1, request.maxNumSegments());
                 return null;
+            } else if (actionRequest instanceof IndicesStatsRequest) {
+                IndicesStatsRequest request = (IndicesStatsRequest) actionRequest;
+                assertEquals(index, request.indices()[0]);
+                assertTrue(request.segments());
+                return mockSegmentStatsResponse(2);
             } else if (actionRequest instanceof UpdateSettingsRequest) {
                 UpdateSettingsRequest request = (UpdateSettingsRequest) actionRequest;
                 assertEquals(1, request.indices().length);
                 assertEquals(index, request.indices()[0]);
                 assertEquals(true, request.settings().getAsBoolean("index.blocks.write", false));
-                assertNull(request.settings().get("index.num_of_replica"));
-                assertEquals("0-all", request.settings().get("index.auto_expand_replicas"));
+                assertNull(request.settings().get("index.number_of_replicas"));
+                assertNull(request.settings().get("index.auto_expand_replicas"));
                 return null;
             } else {
                 throw new RuntimeException("invalid request is called");
@@ -232,6 +285,100 @@ public class GeoIpDataDaoTests extends Ip2GeoTestCase {
         }
     }
 
+    public void testExpandReplicasToAllNodes_whenValidInput_thenSucceed() {
+        String index = GeospatialTestHelper.randomLowerCaseString();
+        verifyingClient.setExecuteVerifier((actionResponse, actionRequest) -> {
+            assertTrue(actionRequest instanceof UpdateSettingsRequest);
+            UpdateSettingsRequest request = (UpdateSettingsRequest) actionRequest;
+            assertEquals(index, request.indices()[0]);
+            assertEquals("0-all", request.settings().get("index.auto_expand_replicas"));
+            return new AcknowledgedResponse(true);
+        });
+
+        // Run
+        verifyingGeoIpDataDao.expandReplicasToAllNodes(index);
+    }
+
+    public void testUpdateNumberOfReplicas_whenNotAcknowledged_thenException() {
+        String index = GeospatialTestHelper.randomLowerCaseString();
+        int numberOfReplicas = randomIntBetween(1, 10);
+        verifyingClient.setExecuteVerifier((actionResponse, actionRequest) -> {
+            assertTrue(actionRequest instanceof UpdateSettingsRequest);
+            UpdateSettingsRequest request = (UpdateSettingsRequest) actionRequest;
+            assertEquals(index, request.indices()[0]);
+            assertEquals(numberOfReplicas, (int) request.settings().getAsInt("index.number_of_replicas", -1));
+            assertNull(request.settings().get("index.auto_expand_replicas"));
+            return new AcknowledgedResponse(false);
+        });
+
+        // Run
+        Exception e = expectThrows(OpenSearchException.class, () -> verifyingGeoIpDataDao.updateNumberOfReplicas(index, numberOfReplicas));
+
+        // Verify
+        assertTrue(e.getMessage().contains("failed to update settings"));
+    }
+
+    public void testGetPrimaryStoreSizeInBytes_whenValidInput_thenReturnSize() {
+        String index = GeospatialTestHelper.randomLowerCaseString();
+        long size = randomNonNegativeLong();
+        verifyingClient.setExecuteVerifier((actionResponse, actionRequest) -> {
+            assertTrue(actionRequest instanceof IndicesStatsRequest);
+            IndicesStatsRequest request = (IndicesStatsRequest) actionRequest;
+            assertEquals(index, request.indices()[0]);
+            assertTrue(request.store());
+            StoreStats storeStats = mock(StoreStats.class);
+            when(storeStats.getSizeInBytes()).thenReturn(size);
+            CommonStats commonStats = mock(CommonStats.class);
+            when(commonStats.getStore()).thenReturn(storeStats);
+            IndicesStatsResponse response = mock(IndicesStatsResponse.class);
+            when(response.getPrimaries()).thenReturn(commonStats);
+            return response;
+        });
+
+        // Run
+        long result = verifyingGeoIpDataDao.getPrimaryStoreSizeInBytes(index);
+
+        // Verify
+        assertEquals(size, result);
+    }
+
+    @SneakyThrows
+    public void testPutGeoIpData_whenSingleSegment_thenSkipForceMerge() {
+        String index = GeospatialTestHelper.randomLowerCaseString();
+        verifyingClient.setExecuteVerifier((actionResponse, actionRequest) -> {
+            if (actionRequest instanceof BulkRequest) {
+                BulkResponse response = mock(BulkResponse.class);
+                when(response.hasFailures()).thenReturn(false);
+                return response;
+            } else if (actionRequest instanceof RefreshRequest) {
+                return null;
+            } else if (actionRequest instanceof IndicesStatsRequest) {
+                return mockSegmentStatsResponse(1);
+            } else if (actionRequest instanceof UpdateSettingsRequest) {
+                return null;
+            } else {
+                throw new RuntimeException("invalid request is called");
+            }
+        });
+        try (CSVParser csvParser = CSVParser.parse(sampleIp2GeoFile(), StandardCharsets.UTF_8, CSVFormat.RFC4180)) {
+            Iterator<CSVRecord> iterator = csvParser.iterator();
+            String[] fields = iterator.next().values();
+
+            // Run
+            verifyingGeoIpDataDao.putGeoIpData(index, fields, iterator, mock(Runnable.class));
+        }
+    }
+
+    private IndicesStatsResponse mockSegmentStatsResponse(final long segmentCount) {
+        SegmentsStats segmentsStats = mock(SegmentsStats.class);
+        when(segmentsStats.getCount()).thenReturn(segmentCount);
+        CommonStats commonStats = mock(CommonStats.class);
+        when(commonStats.getSegments()).thenReturn(segmentsStats);
+        IndicesStatsResponse response = mock(IndicesStatsResponse.class);
+        when(response.getPrimaries()).thenReturn(commonStats);
+        return response;
+    }
+
     public void testGetGeoIpData_whenDataExist_thenReturnTheData() {
         String indexName = GeospatialTestHelper.randomLowerCaseString();
         String ip = randomIpAddress();
@@ -289,4 +436,71 @@ public class GeoIpDataDaoTests extends Ip2GeoTestCase {
         // Verify
         assertTrue(geoData.isEmpty());
     }
+
+    public void testGetGeoIpData_whenMultipleIps_thenReturnDataInSingleMultiSearch() {
+        String indexName = GeospatialTestHelper.randomLowerCaseString();
+        List<String> ips = Arrays.asList("1.1.1.1", "2.2.2.2");
+        verifyingClient.setExecuteVerifier((actionResponse, actionRequest) -> {
+            assert actionRequest instanceof MultiSearchRequest;
+            MultiSearchRequest request = (MultiSearchRequest) actionRequest;
+            assertEquals(ips.size(), request.requests().size());
+            for (int i = 0; i < ips.size(); i++) {
+                SearchRequest searchRequest = request.requests().get(i);
+                assertEquals(indexName, searchRequest.indices()[0]);
+                assertEquals(Preference.LOCAL.type(), searchRequest.preference());
+                assertEquals(1, searchRequest.source().size());
+                assertEquals(QueryBuilders.termQuery(IP_RANGE_FIELD_NAME, ips.get(i)), searchRequest.source().query());
+            }
+
+            String data = String.format(
+                Locale.ROOT,
+                "{\"%s\":\"1.0.0.1/16\",\"%s\":{\"city\":\"seattle\"}}",
+                IP_RANGE_FIELD_NAME,
+                DATA_FIELD_NAME
+            );
+            SearchHit searchHit = new SearchHit(1);
+            searchHit.sourceRef(BytesReference.fromByteBuffer(ByteBuffer.wrap(data.getBytes(StandardCharsets.UTF_8))));
+            SearchResponse found = mock(SearchResponse.class);
+            SearchHit[] searchHitArray = { searchHit };
+            when(found.getHits()).thenReturn(new SearchHits(searchHitArray, new TotalHits(1l, TotalHits.Relation.EQUAL_TO), 1));
+            SearchResponse notFound = mock(SearchResponse.class);
+            when(notFound.getHits()).thenReturn(new SearchHits(new SearchHit[] {}, new TotalHits(0l, TotalHits.Relation.EQUAL_TO), 0));
+
+            MultiSearchResponse response = mock(MultiSearchResponse.class);
+            when(response.getResponses()).thenReturn(
+                new MultiSearchResponse.Item[] { new MultiSearchResponse.Item(found, null), new MultiSearchResponse.Item(notFound, null) }
+            );
+            return response;
+        });
+        ActionListener<Map<String, Map<String, Object>>> listener = mock(ActionListener.class);
+
+        // Run
+        verifyingGeoIpDataDao.getGeoIpData(indexName, ips, listener);
+
+        // Verify
+        ArgumentCaptor<Map<String, Map<String, Object>>> captor = ArgumentCaptor.forClass(Map.class);
+        verify(listener).onResponse(captor.capture());
+        assertEquals("seattle", captor.getValue().get("1.1.1.1").get("city"));
+        assertTrue(captor.getValue().get("2.2.2.2").isEmpty());
+    }
+
+    public void testGetGeoIpData_whenMultiSearchItemFailed_thenException() {
+        String indexName = GeospatialTestHelper.randomLowerCaseString();
+        List<String> ips = Arrays.asList(randomIpAddress());
+        Exception failure = new OpenSearchException("failed");
+        verifyingClient.setExecuteVerifier((actionResponse, actionRequest) -> {
+            assert actionRequest instanceof MultiSearchRequest;
+            MultiSearchResponse response = mock(MultiSearchResponse.class);
+            when(response.getResponses()).thenReturn(new MultiSearchResponse.Item[] { new MultiSearchResponse.Item(null, failure) });
+            return response;
+        });
+        ActionListener<Map<String, Map<String, Object>>> listener = mock(ActionListener.class);
+
+        // Run
+        verifyingGeoIpDataDao.getGeoIpData(indexName, ips, listener);
+
+        // Verify
+        verify(listener).onFailure(failure);
+        verify(listener, never()).onResponse(any());
+    }
 }
@@ -6,30 +6,31 @@
 package org.opensearch.geospatial.ip2geo.dao;
 
 import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.ArgumentMatchers.eq;
+import static org.mockito.Mockito.doAnswer;
 import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.never;
 import static org.mockito.Mockito.times;
 import static org.mockito.Mockito.verify;
 import static org.mockito.Mockito.when;
 
-import java.io.IOException;
 import java.time.Instant;
 import java.util.ArrayList;
 import java.util.Arrays;
 import java.util.Collections;
 import java.util.List;
 import java.util.Map;
+import java.util.function.Function;
+import java.util.stream.Collectors;
 
 import org.junit.Before;
 import org.opensearch.common.network.NetworkAddress;
-import org.opensearch.common.xcontent.XContentFactory;
-import org.opensearch.core.common.bytes.BytesReference;
-import org.opensearch.core.index.shard.ShardId;
+import org.opensearch.core.action.ActionListener;
 import org.opensearch.geospatial.GeospatialTestHelper;
 import org.opensearch.geospatial.ip2geo.Ip2GeoTestCase;
 import org.opensearch.geospatial.ip2geo.common.DatasourceState;
+import org.opensearch.geospatial.ip2geo.common.Ip2GeoMetadata;
 import org.opensearch.geospatial.ip2geo.jobscheduler.Datasource;
-import org.opensearch.index.IndexNotFoundException;
-import org.opensearch.index.engine.Engine;
 
 import lombok.SneakyThrows;
 
@@ -38,94 +39,88 @@ public class Ip2GeoCachedDaoTests extends Ip2GeoTestCase {
 
     @Before
     public void init() {
-        ip2GeoCachedDao = new Ip2GeoCachedDao(clusterService, datasourceDao, geoIpDataDao);
+        ip2GeoCachedDao = new Ip2GeoCachedDao(clusterService, geoIpDataDao);
     }
 
-    public void testGetIndexName_whenCalled_thenReturnIndexName() throws IOException {
+    private void publish(final Datasource... datasources) {
+        Ip2GeoMetadata ip2GeoMetadata = new Ip2GeoMetadata(
+            Arrays.stream(datasources)
+                .map(Ip2GeoMetadata.DatasourceMetadata::new)
+                .collect(Collectors.toMap(Ip2GeoMetadata.DatasourceMetadata::getName, Function.identity()))
+        );
+        when(metadata.custom(Ip2GeoMetadata.TYPE)).thenReturn(ip2GeoMetadata);
+    }
+
+    public void testGetIndexName_whenCalled_thenReturnIndexName() {
         Datasource datasource = randomDatasource();
-        when(datasourceDao.getAllDatasources()).thenReturn(Arrays.asList(datasource));
+        publish(datasource);
 
         // Run
         String indexName = ip2GeoCachedDao.getIndexName(datasource.getName());
 
         // Verify
         assertEquals(datasource.currentIndexName(), indexName);
-        // Verify datasource refresh is not triggered
-        verify(datasourceDao, times(0)).getDatasource(any());
     }
 
-    public void testGetIndexName_whenIndexNotFound_thenReturnNull() throws IOException {
-        when(datasourceDao.getAllDatasources()).thenThrow(new IndexNotFoundException("not found"));
-
+    public void testGetIndexName_whenMetadataNotPublished_thenReturnNull() {
         // Run
         String indexName = ip2GeoCachedDao.getIndexName(GeospatialTestHelper.randomLowerCaseString());
 
         // Verify
         assertNull(indexName);
-        // Verify datasource refresh is triggered
-        verify(datasourceDao, times(1)).getDatasource(any());
     }
 
-    public void testGetIndexName_whenIndexNotFoundAndFoundAfterRefresh_thenReturnNull() throws IOException {
+    public void testGetIndexName_whenPublishedLater_thenReturnIndexName() {
         Datasource datasource = randomDatasource();
-        when(datasourceDao.getAllDatasources()).thenThrow(new IndexNotFoundException("not found"));
-        when(datasourceDao.getDatasource(any())).thenReturn(datasource);
+        assertNull(ip2GeoCachedDao.getIndexName(datasource.getName()));
 
         // Run
-        String indexName = ip2GeoCachedDao.getIndexName(GeospatialTestHelper.randomLowerCaseString());
+        publish(datasource);
 
-        // Verify
-        assertEquals(datasource.currentIndexName(), indexName);
-        // Verify datasource refresh is triggered
-        verify(datasourceDao, times(1)).getDatasource(any());
+        // Verify the latest cluster state is used without any refresh
+        assertEquals(datasource.currentIndexName(), ip2GeoCachedDao.getIndexName(datasource.getName()));
     }
 
-    public void testIsExpired_whenExpired_thenReturnTrue() throws IOException {
+    public void testIsExpired_whenExpired_thenReturnTrue() {
         Datasource datasource = randomDatasource();
         datasource.getUpdateStats().setLastSucceededAt(Instant.MIN);
         datasource.getUpdateStats().setLastSkippedAt(null);
-        when(datasourceDao.getAllDatasources()).thenReturn(Arrays.asList(datasource));
+        publish(datasource);
 
         // Run
         boolean isExpired = ip2GeoCachedDao.isExpired(datasource.getName());
 
         // Verify
         assertTrue(isExpired);
-        // Verify datasource refresh is triggered
-        verify(datasourceDao, times(1)).getDatasource(any());
     }
 
-    public void testIsExpired_whenNotExpired_thenReturnFalse() throws IOException {
+    public void testIsExpired_whenNotExpired_thenReturnFalse() {
         Datasource datasource = randomDatasource();
         datasource.getUpdateStats().setLastSucceededAt(Instant.now());
         datasource.getUpdateStats().setLastSkippedAt(null);
-        when(datasourceDao.getAllDatasources()).thenReturn(Arrays.asList(datasource));
+        publish(datasource);
 
         // Run
         boolean isExpired = ip2GeoCachedDao.isExpired(datasource.getName());
 
         // Verify
         assertFalse(isExpired);
-        // Verify datasource refresh is not triggered
-        verify(datasourceDao, times(0)).getDatasource(any());
     }
 
-    public void testHas_whenHasDatasource_thenReturnTrue() throws IOException {
+    public void testHas_whenHasDatasource_thenReturnTrue() {
         Datasource datasource = randomDatasource();
-        when(datasourceDao.getAllDatasources()).thenReturn(Arrays.asList(datasource));
+        publish(datasource);
 
         // Run
         boolean hasDatasource = ip2GeoCachedDao.has(datasource.getName());
 
         // Verify
         assertTrue(hasDatasource);
-        // Verify datasource refresh is not triggered
-        verify(datasourceDao, times(0)).getDatasource(any());
     }
 
-    public void testHas_whenNoDatasource_thenReturnFalse() throws IOException {
+    public void testHas_whenNoDatasource_thenReturnFalse() {
         Datasource datasource = randomDatasource();
-        when(datasourceDao.getAllDatasources()).thenReturn(Arrays.asList(datasource));
+        publish(datasource);
 
         String datasourceName = GeospatialTestHelper.randomLowerCaseString();
         // Run
@@ -133,25 +128,33 @@ public class Ip2GeoCachedDaoTests extends Ip2GeoTestCase {
 
         // Verify
         assertFalse(hasDatasource);
-        // Verify datasource refresh is triggered
-        verify(datasourceDao, times(1)).getDatasource(any());
     }
 
-    public void testGetState_whenCalled_thenReturnState() throws IOException {
+    public void testHas_whenRemoved_thenReturnFalse() {
+        Datasource datasource = randomDatasource();
+        publish(datasource);
+        assertTrue(ip2GeoCachedDao.has(datasource.getName()));
+
+        // Run
+        publish();
+
+        // Verify
+        assertFalse(ip2GeoCachedDao.has(datasource.getName()));
+    }
+
+    public void testGetState_whenCalled_thenReturnState() {
         Datasource datasource = randomDatasource();
         datasource.setState(DatasourceState.AVAILABLE);
-        when(datasourceDao.getAllDatasources()).thenReturn(Arrays.asList(datasource));
+        publish(datasource);
 
         // Run
         DatasourceState state = ip2GeoCachedDao.getState(datasource.getName());
 
         // Verify
         assertEquals(datasource.getState(), state);
-        // Verify datasource refresh is not triggered
-        verify(datasourceDao, times(0)).getDatasource(any());
     }
 
-    public void testGetGeoData_whenCalled_thenReturnGeoData() throws IOException {
+    public void testGetGeoData_whenCalled_thenReturnGeoData() {
         Datasource datasource = randomDatasource();
         String ip = NetworkAddress.format(randomIp(false));
         Map<String, Object> expectedGeoData = Map.of("city", "Seattle");
@@ -162,162 +165,79 @@ public class Ip2GeoCachedDaoTests extends Ip2GeoTestCase {
 
         // Verify
         assertEquals(expectedGeoData, geoData);
-        // Verify datasource refresh is not triggered
-        verify(datasourceDao, times(0)).getDatasource(any());
     }
 
-    public void testGetGeoData_whenFailed_thenException() throws IOException {
+    public void testGetGeoData_whenFailed_thenException() {
         Datasource datasource = randomDatasource();
+        publish(datasource);
         String ip = NetworkAddress.format(randomIp(false));
         when(geoIpDataDao.getGeoIpData(datasource.currentIndexName(), ip)).thenThrow(new RuntimeException("error"));
 
         // Run
         assertThrows(RuntimeException.class, () -> ip2GeoCachedDao.getGeoData(datasource.currentIndexName(), ip, datasource.getName()));
-
-        // Verify datasource refresh is triggered
-        verify(datasourceDao, times(1)).getDatasource(any());
-    }
-
-    @SneakyThrows
-    public void testPostIndex_whenFailed_thenResetMetadataToForcePullDataFromIndex() {
-        Datasource datasource = randomDatasource();
-
-        // At the beginning we don't have the new datasource in the system index and the cache metadata
-        when(datasourceDao.getAllDatasources()).thenReturn(Arrays.asList());
-        // Verify we don't have the new datasource
-        assertFalse(ip2GeoCachedDao.has(datasource.getName()));
-
-        // Mock the new datasource is added to the system index
-        when(datasourceDao.getAllDatasources()).thenReturn(Arrays.asList(datasource));
-        when(datasourceDao.getDatasource(datasource.getName())).thenReturn(datasource);
-
-        ShardId shardId = mock(ShardId.class);
-        Engine.Index index = mock(Engine.Index.class);
-        BytesReference bytesReference = BytesReference.bytes(datasource.toXContent(XContentFactory.jsonBuilder(), null));
-        when(index.source()).thenReturn(bytesReference);
-        Engine.IndexResult result = mock(Engine.IndexResult.class);
-        when(result.getResultType()).thenReturn(Engine.Result.Type.FAILURE);
-
-        // Run
-        ip2GeoCachedDao.postIndex(shardId, index, result);
-
-        // Verify
-        assertTrue(ip2GeoCachedDao.has(datasource.getName()));
-        assertEquals(datasource.currentIndexName(), ip2GeoCachedDao.getIndexName(datasource.getName()));
-        assertEquals(datasource.getState(), ip2GeoCachedDao.getState(datasource.getName()));
     }
 
-    @SneakyThrows
-    public void testPostIndex_whenException_thenResetMetadataToForcePullDataFromIndex() {
+    public void testGetGeoData_whenIndexReplaced_thenRetryWithCurrentIndex() {
         Datasource datasource = randomDatasource();
-
-        // At the beginning we don't have the new datasource in the system index and the cache metadata
-        when(datasourceDao.getAllDatasources()).thenReturn(Arrays.asList());
-        // Verify we don't have the new datasource
-        assertFalse(ip2GeoCachedDao.has(datasource.getName()));
-
-        // Mock the new datasource is added to the system index
-        when(datasourceDao.getAllDatasources()).thenReturn(Arrays.asList(datasource));
-        when(datasourceDao.getDatasource(datasource.getName())).thenReturn(datasource);
-
-        ShardId shardId = mock(ShardId.class);
-        Engine.Index index = mock(Engine.Index.class);
-        BytesReference bytesReference = BytesReference.bytes(datasource.toXContent(XContentFactory.jsonBuilder(), null));
-        when(index.source()).thenReturn(bytesReference);
+        publish(datasource);
+        String oldIndexName = GeospatialTestHelper.randomLowerCaseString();
+        String ip = NetworkAddress.format(randomIp(false));
+        Map<String, Object> expectedGeoData = Map.of("city", "Seattle");
+        when(geoIpDataDao.getGeoIpData(oldIndexName, ip)).thenThrow(new RuntimeException("error"));
+        when(geoIpDataDao.getGeoIpData(datasource.currentIndexName(), ip)).thenReturn(expectedGeoData);
 
         // Run
-        ip2GeoCachedDao.postIndex(shardId, index, new Exception());
+        Map<String, Object> geoData = ip2GeoCachedDao.getGeoData(oldIndexName, ip, datasource.getName());
 
         // Verify
-        assertTrue(ip2GeoCachedDao.has(datasource.getName()));
-        assertEquals(datasource.currentIndexName(), ip2GeoCachedDao.getIndexName(datasource.getName()));
-        assertEquals(datasource.getState(), ip2GeoCachedDao.getState(datasource.getName()));
+        assertEquals(expectedGeoData, geoData);
+        verify(geoIpDataDao, times(1)).getGeoIpData(datasource.currentIndexName(), ip);
     }
 
-    @SneakyThrows
-    public void testPostIndex_whenSucceed_thenUpdate() {
-        when(datasourceDao.getAllDatasources()).thenReturn(Arrays.asList());
+    public void testGetGeoData_whenMultipleIps_thenLookupOnlyMissedIps() {
         Datasource datasource = randomDatasource();
-        when(datasourceDao.getDatasource(datasource.getName())).thenReturn(datasource);
-
-        ShardId shardId = mock(ShardId.class);
-        Engine.Index index = mock(Engine.Index.class);
-        BytesReference bytesReference = BytesReference.bytes(datasource.toXContent(XContentFactory.jsonBuilder(), null));
-        when(index.source()).thenReturn(bytesReference);
-        Engine.IndexResult result = mock(Engine.IndexResult.class);
-        when(result.getResultType()).thenReturn(Engine.Result.Type.SUCCESS);
+        publish(datasource);
+        String cachedIp = "1.1.1.1";
+        String missedIp = "2.2.2.2";
+        Map<String, Object> cachedGeoData = Map.of("city", "Seattle");
+        Map<String, Object> missedGeoData = Map.of("city", "Busan");
+        when(geoIpDataDao.getGeoIpData(datasource.currentIndexName(), cachedIp)).thenReturn(cachedGeoData);
+        ip2GeoCachedDao.getGeoData(datasource.currentIndexName(), cachedIp, datasource.getName());
+        doAnswer(invocation -> {
+            ActionListener<Map<String, Map<String, Object>>> listener = invocation.getArgument(2);
+            listener.onResponse(Map.of(missedIp, missedGeoData));
+            return null;
+        }).when(geoIpDataDao).getGeoIpData(eq(datasource.currentIndexName()), eq(List.of(missedIp)), any(ActionListener.class));
+        ActionListener<Map<String, Map<String, Object>>> listener = mock(ActionListener.class);
 
         // Run
-        ip2GeoCachedDao.postIndex(shardId, index, result);
+        ip2GeoCachedDao.getGeoData(datasource.currentIndexName(), List.of(cachedIp, missedIp), datasource.getName(), listener);
 
         // Verify
-        assertTrue(ip2GeoCachedDao.has(datasource.getName()));
-        assertFalse(ip2GeoCachedDao.isExpired(datasource.getName()));
-        assertEquals(datasource.currentIndexName(), ip2GeoCachedDao.getIndexName(datasource.getName()));
-        assertEquals(datasource.getState(), ip2GeoCachedDao.getState(datasource.getName()));
-    }
+        verify(listener).onResponse(Map.of(cachedIp, cachedGeoData, missedIp, missedGeoData));
+        verify(geoIpDataDao, times(1)).getGeoIpData(eq(datasource.currentIndexName()), eq(List.of(missedIp)), any(ActionListener.class));
 
-    public void testPostDelete_whenFailed_thenResetMetadataToForcePullDataFromIndex() {
-        Datasource datasource = randomDatasource();
-
-        // At the beginning we don't have the new datasource in the system index and the cache metadata
-        when(datasourceDao.getAllDatasources()).thenReturn(Arrays.asList());
-        // Verify we don't have the new datasource
-        assertFalse(ip2GeoCachedDao.has(datasource.getName()));
-
-        // Mock the new datasource is added to the system index
-        when(datasourceDao.getAllDatasources()).thenReturn(Arrays.asList(datasource));
-
-        ShardId shardId = mock(ShardId.class);
-        Engine.Delete index = mock(Engine.Delete.class);
-        Engine.DeleteResult result = mock(Engine.DeleteResult.class);
-        when(result.getResultType()).thenReturn(Engine.Result.Type.FAILURE);
-
-        // Run
-        ip2GeoCachedDao.postDelete(shardId, index, result);
-
-        // Verify
-        assertTrue(ip2GeoCachedDao.has(datasource.getName()));
+        // Verify the missed ip is cached
+        assertEquals(missedGeoData, ip2GeoCachedDao.getGeoData(datasource.currentIndexName(), missedIp, datasource.getName()));
+        verify(geoIpDataDao, never()).getGeoIpData(datasource.currentIndexName(), missedIp);
     }
 
-    public void testPostDelete_whenException_thenResetMetadataToForcePullDataFromIndex() {
+    public void testGetGeoData_whenBatchFailed_thenException() {
         Datasource datasource = randomDatasource();
-
-        // At the beginning we don't have the new datasource in the system index and the cache metadata
-        when(datasourceDao.getAllDatasources()).thenReturn(Arrays.asList());
-        // Verify we don't have the new datasource
-        assertFalse(ip2GeoCachedDao.has(datasource.getName()));
-
-        // Mock the new datasource is added to the system index
-        when(datasourceDao.getAllDatasources()).thenReturn(Arrays.asList(datasource));
-
-        ShardId shardId = mock(ShardId.class);
-        Engine.Delete index = mock(Engine.Delete.class);
-        Engine.DeleteResult result = mock(Engine.DeleteResult.class);
-        when(result.getResultType()).thenReturn(Engine.Result.Type.FAILURE);
+        publish(datasource);
+        Exception failure = new RuntimeException("error");
+        doAnswer(invocation -> {
+            ActionListener<Map<String, Map<String, Object>>> listener = invocation.getArgument(2);
+            listener.onFailure(failure);
+            return null;
+        }).when(geoIpDataDao).getGeoIpData(eq(datasource.currentIndexName()), any(List.class), any(ActionListener.class));
+        ActionListener<Map<String, Map<String, Object>>> listener = mock(ActionListener.class);
 
         // Run
-        ip2GeoCachedDao.postDelete(shardId, index, result);
+        ip2GeoCachedDao.getGeoData(datasource.currentIndexName(), List.of(randomIpAddress()), datasource.getName(), listener);
 
         // Verify
-        assertTrue(ip2GeoCachedDao.has(datasource.getName()));
-    }
-
-    public void testPostDelete_whenSucceed_thenUpdate() {
-        Datasource datasource = randomDatasource();
-        when(datasourceDao.getAllDatasources()).thenReturn(Arrays.asList(datasource));
-
-        ShardId shardId = mock(ShardId.class);
-        Engine.Delete index = mock(Engine.Delete.class);
-        when(index.id()).thenReturn(datasource.getName());
-        Engine.DeleteResult result = mock(Engine.DeleteResult.class);
-        when(result.getResultType()).thenReturn(Engine.Result.Type.SUCCESS);
-
-        // Run
-        ip2GeoCachedDao.postDelete(shardId, index, result);
-
-        // Verify
-        assertFalse(ip2GeoCachedDao.has(datasource.getName()));
+        verify(listener).onFailure(failure);
     }
 
     @SneakyThrows
@@ -118,6 +118,7 @@ public class DatasourceRunnerTests extends Ip2GeoTestCase {
         DatasourceRunner.getJobRunnerInstance().updateDatasource(datasource, mock(Runnable.class));
 
         // Verify
+        verify(datasourceDao, never()).reconcileMetadata(any(Datasource.class));
         verify(datasourceUpdateService, never()).deleteUnusedIndices(any());
     }
 
@@ -149,6 +150,7 @@ public class DatasourceRunnerTests extends Ip2GeoTestCase {
         DatasourceRunner.getJobRunnerInstance().updateDatasource(datasource, renewLock);
 
         // Verify
+        verify(datasourceDao).reconcileMetadata(datasource);
         verify(datasourceUpdateService, times(2)).deleteUnusedIndices(datasource);
         verify(datasourceUpdateService).updateOrCreateGeoIpData(datasource, renewLock);
         verify(datasourceUpdateService).updateDatasource(datasource, datasource.getUserSchedule(), DatasourceTask.ALL);
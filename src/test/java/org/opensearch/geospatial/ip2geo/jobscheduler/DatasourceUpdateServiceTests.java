@@ -6,9 +6,11 @@
 package org.opensearch.geospatial.ip2geo.jobscheduler;
 
 import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.ArgumentMatchers.anyInt;
 import static org.mockito.ArgumentMatchers.anyString;
 import static org.mockito.ArgumentMatchers.eq;
 import static org.mockito.ArgumentMatchers.isA;
+import static org.mockito.Mockito.inOrder;
 import static org.mockito.Mockito.mock;
 import static org.mockito.Mockito.never;
 import static org.mockito.Mockito.times;
@@ -20,19 +22,26 @@ import java.nio.charset.StandardCharsets;
 import java.time.Instant;
 import java.time.temporal.ChronoUnit;
 import java.util.Arrays;
+import java.util.HashMap;
 import java.util.Iterator;
 import java.util.List;
+import java.util.Map;
 
 import org.apache.commons.csv.CSVFormat;
 import org.apache.commons.csv.CSVParser;
 import org.junit.Before;
+import org.mockito.InOrder;
 import org.opensearch.OpenSearchException;
+import org.opensearch.cluster.node.DiscoveryNode;
+import org.opensearch.cluster.node.DiscoveryNodes;
 import org.opensearch.cluster.routing.ShardRouting;
 import org.opensearch.common.SuppressForbidden;
+import org.opensearch.common.settings.Settings;
 import org.opensearch.geospatial.GeospatialTestHelper;
 import org.opensearch.geospatial.ip2geo.Ip2GeoTestCase;
 import org.opensearch.geospatial.ip2geo.common.DatasourceManifest;
 import org.opensearch.geospatial.ip2geo.common.DatasourceState;
+import org.opensearch.geospatial.ip2geo.common.Ip2GeoSettings;
 import org.opensearch.jobscheduler.spi.schedule.IntervalSchedule;
 
 import lombok.SneakyThrows;
@@ -196,6 +205,92 @@ public class DatasourceUpdateServiceTests extends Ip2GeoTestCase {
         assertEquals(InterruptedException.class, e.getCause().getClass());
     }
 
+    public void testRolloutReplicas_whenNoWaveSize_thenExpandAtOnce() {
+        String indexName = GeospatialTestHelper.randomLowerCaseString();
+        ShardRouting shardRouting = mock(ShardRouting.class);
+        when(shardRouting.started()).thenReturn(true);
+        when(routingTable.allShards(indexName)).thenReturn(Arrays.asList(shardRouting));
+
+        // Run
+        datasourceUpdateService.rolloutReplicas(indexName, 10);
+
+        // Verify
+        verify(geoIpDataDao).expandReplicasToAllNodes(indexName);
+        verify(geoIpDataDao, never()).updateNumberOfReplicas(anyString(), anyInt());
+    }
+
+    public void testRolloutReplicas_whenWaveSize_thenExpandInWaves() {
+        String indexName = GeospatialTestHelper.randomLowerCaseString();
+        ShardRouting shardRouting = mock(ShardRouting.class);
+        when(shardRouting.started()).thenReturn(true);
+        when(routingTable.allShards(indexName)).thenReturn(Arrays.asList(shardRouting));
+        mockDataNodes(5);
+        clusterSettings.applySettings(Settings.builder().put(Ip2GeoSettings.REPLICA_ROLLOUT_WAVE_SIZE.getKey(), 3).build());
+
+        // Run
+        datasourceUpdateService.rolloutReplicas(indexName, 10000);
+
+        // Verify
+        InOrder inOrder = inOrder(geoIpDataDao);
+        inOrder.verify(geoIpDataDao).updateNumberOfReplicas(indexName, 3);
+        inOrder.verify(geoIpDataDao).updateNumberOfReplicas(indexName, 4);
+        inOrder.verify(geoIpDataDao).expandReplicasToAllNodes(indexName);
+        verify(geoIpDataDao, never()).getPrimaryStoreSizeInBytes(anyString());
+    }
+
+    public void testRolloutReplicas_whenWaveNotStarted_thenThrowException() {
+        String indexName = GeospatialTestHelper.randomLowerCaseString();
+        ShardRouting shardRouting = mock(ShardRouting.class);
+        when(shardRouting.started()).thenReturn(false);
+        when(routingTable.allShards(indexName)).thenReturn(Arrays.asList(shardRouting));
+        mockDataNodes(3);
+        clusterSettings.applySettings(Settings.builder().put(Ip2GeoSettings.REPLICA_ROLLOUT_WAVE_SIZE.getKey(), 1).build());
+
+        // Run
+        Exception e = expectThrows(OpenSearchException.class, () -> datasourceUpdateService.rolloutReplicas(indexName, 10));
+
+        // Verify
+        assertTrue(e.getMessage().contains("did not complete"));
+        verify(geoIpDataDao).updateNumberOfReplicas(indexName, 1);
+        verify(geoIpDataDao, never()).expandReplicasToAllNodes(anyString());
+    }
+
+    public void testGetReplicasPerWave_whenMaxBytesPerWave_thenCapWaveSize() {
+        String indexName = GeospatialTestHelper.randomLowerCaseString();
+        when(geoIpDataDao.getPrimaryStoreSizeInBytes(indexName)).thenReturn(100L);
+        clusterSettings.applySettings(
+            Settings.builder().put(Ip2GeoSettings.REPLICA_ROLLOUT_MAX_BYTES_PER_WAVE.getKey(), "250b").build()
+        );
+
+        // Run and verify
+        assertEquals(2, datasourceUpdateService.getReplicasPerWave(indexName, 5));
+        assertEquals(1, datasourceUpdateService.getReplicasPerWave(indexName, 1));
+
+        when(geoIpDataDao.getPrimaryStoreSizeInBytes(indexName)).thenReturn(1000L);
+        assertEquals(1, datasourceUpdateService.getReplicasPerWave(indexName, 5));
+    }
+
+    public void testGetReplicasPerWave_whenNoMaxBytesPerWave_thenWaveSize() {
+        String indexName = GeospatialTestHelper.randomLowerCaseString();
+
+        // Run
+        int replicasPerWave = datasourceUpdateService.getReplicasPerWave(indexName, 5);
+
+        // Verify
+        assertEquals(5, replicasPerWave);
+        verify(geoIpDataDao, never()).getPrimaryStoreSizeInBytes(anyString());
+    }
+
+    private void mockDataNodes(final int numberOfDataNodes) {
+        Map<String, DiscoveryNode> dataNodes = new HashMap<>();
+        for (int i = 0; i < numberOfDataNodes; i++) {
+            dataNodes.put(GeospatialTestHelper.randomLowerCaseString(), mock(DiscoveryNode.class));
+        }
+        DiscoveryNodes discoveryNodes = mock(DiscoveryNodes.class);
+        when(discoveryNodes.getDataNodes()).thenReturn(dataNodes);
+        when(clusterState.nodes()).thenReturn(discoveryNodes);
+    }
+
     @SneakyThrows
     public void testGetHeaderFields_whenValidInput_thenReturnCorrectValue() {
         File manifestFile = new File(this.getClass().getClassLoader().getResource("ip2geo/manifest.json").getFile());
@@ -9,6 +9,7 @@ import static org.mockito.ArgumentMatchers.any;
 import static org.mockito.ArgumentMatchers.eq;
 import static org.mockito.Mockito.mock;
 import static org.mockito.Mockito.never;
+import static org.mockito.Mockito.times;
 import static org.mockito.Mockito.verify;
 import static org.mockito.Mockito.when;
 
@@ -18,6 +19,7 @@ import java.util.List;
 
 import org.junit.Before;
 import org.mockito.ArgumentCaptor;
+import org.opensearch.action.support.clustermanager.AcknowledgedResponse;
 import org.opensearch.cluster.ClusterChangedEvent;
 import org.opensearch.cluster.ClusterState;
 import org.opensearch.cluster.RestoreInProgress;
@@ -25,6 +27,7 @@ import org.opensearch.common.settings.Settings;
 import org.opensearch.core.action.ActionListener;
 import org.opensearch.geospatial.GeospatialTestHelper;
 import org.opensearch.geospatial.ip2geo.Ip2GeoTestCase;
+import org.opensearch.geospatial.ip2geo.common.Ip2GeoMetadata;
 import org.opensearch.geospatial.ip2geo.jobscheduler.Datasource;
 import org.opensearch.geospatial.ip2geo.jobscheduler.DatasourceExtension;
 import org.opensearch.geospatial.ip2geo.jobscheduler.DatasourceTask;
@@ -92,6 +95,7 @@ public class Ip2GeoListenerTests extends Ip2GeoTestCase {
         );
         RestoreInProgress restoreInProgress = new RestoreInProgress.Builder().add(entry).build();
         ClusterState clusterState = mock(ClusterState.class);
+        when(clusterState.metadata()).thenReturn(metadata);
         when(clusterState.custom(RestoreInProgress.TYPE, RestoreInProgress.EMPTY)).thenReturn(restoreInProgress);
         ClusterChangedEvent event = mock(ClusterChangedEvent.class);
         when(event.localNodeClusterManager()).thenReturn(true);
@@ -116,6 +120,7 @@ public class Ip2GeoListenerTests extends Ip2GeoTestCase {
         );
         RestoreInProgress restoreInProgress = new RestoreInProgress.Builder().add(entry).build();
         ClusterState clusterState = mock(ClusterState.class);
+        when(clusterState.metadata()).thenReturn(metadata);
         when(clusterState.custom(RestoreInProgress.TYPE, RestoreInProgress.EMPTY)).thenReturn(restoreInProgress);
         ClusterChangedEvent event = mock(ClusterChangedEvent.class);
         when(event.localNodeClusterManager()).thenReturn(true);
@@ -140,6 +145,7 @@ public class Ip2GeoListenerTests extends Ip2GeoTestCase {
         );
         RestoreInProgress restoreInProgress = new RestoreInProgress.Builder().add(entry).build();
         ClusterState clusterState = mock(ClusterState.class);
+        when(clusterState.metadata()).thenReturn(metadata);
         when(clusterState.custom(RestoreInProgress.TYPE, RestoreInProgress.EMPTY)).thenReturn(restoreInProgress);
         ClusterChangedEvent event = mock(ClusterChangedEvent.class);
         when(event.localNodeClusterManager()).thenReturn(true);
@@ -183,6 +189,7 @@ public class Ip2GeoListenerTests extends Ip2GeoTestCase {
         );
         RestoreInProgress restoreInProgress = new RestoreInProgress.Builder().add(entry).build();
         ClusterState clusterState = mock(ClusterState.class);
+        when(clusterState.metadata()).thenReturn(metadata);
         when(clusterState.custom(RestoreInProgress.TYPE, RestoreInProgress.EMPTY)).thenReturn(restoreInProgress);
         ClusterChangedEvent event = mock(ClusterChangedEvent.class);
         when(event.localNodeClusterManager()).thenReturn(true);
@@ -196,4 +203,91 @@ public class Ip2GeoListenerTests extends Ip2GeoTestCase {
         verify(geoIpDataDao).deleteIp2GeoDataIndex(Arrays.asList(datasource.currentIndexName()));
     }
 
+    public void testClusterChanged_whenElectedClusterManager_thenReconcileMetadataOnce() {
+        when(metadata.hasIndex(DatasourceExtension.JOB_INDEX_NAME)).thenReturn(true);
+        when(metadata.custom(Ip2GeoMetadata.TYPE)).thenReturn(Ip2GeoMetadata.EMPTY);
+        when(clusterState.custom(RestoreInProgress.TYPE, RestoreInProgress.EMPTY)).thenReturn(RestoreInProgress.EMPTY);
+        ClusterChangedEvent event = mock(ClusterChangedEvent.class);
+        when(event.localNodeClusterManager()).thenReturn(true);
+        when(event.state()).thenReturn(clusterState);
+
+        // Run
+        ip2GeoListener.clusterChanged(event);
+
+        // Verify
+        ArgumentCaptor<ActionListener<AcknowledgedResponse>> captor = ArgumentCaptor.forClass(ActionListener.class);
+        verify(datasourceDao).reconcileMetadata(captor.capture());
+
+        // Run
+        captor.getValue().onResponse(new AcknowledgedResponse(true));
+        ip2GeoListener.clusterChanged(event);
+
+        // Verify
+        verify(datasourceDao, times(1)).reconcileMetadata(any(ActionListener.class));
+    }
+
+    public void testClusterChanged_whenReelectedClusterManager_thenReconcileMetadataAgain() {
+        when(metadata.hasIndex(DatasourceExtension.JOB_INDEX_NAME)).thenReturn(true);
+        when(metadata.custom(Ip2GeoMetadata.TYPE)).thenReturn(Ip2GeoMetadata.EMPTY);
+        when(clusterState.custom(RestoreInProgress.TYPE, RestoreInProgress.EMPTY)).thenReturn(RestoreInProgress.EMPTY);
+        ClusterChangedEvent clusterManagerEvent = mock(ClusterChangedEvent.class);
+        when(clusterManagerEvent.localNodeClusterManager()).thenReturn(true);
+        when(clusterManagerEvent.state()).thenReturn(clusterState);
+        ClusterChangedEvent nonClusterManagerEvent = mock(ClusterChangedEvent.class);
+        when(nonClusterManagerEvent.localNodeClusterManager()).thenReturn(false);
+        ip2GeoListener.clusterChanged(clusterManagerEvent);
+        ArgumentCaptor<ActionListener<AcknowledgedResponse>> captor = ArgumentCaptor.forClass(ActionListener.class);
+        verify(datasourceDao).reconcileMetadata(captor.capture());
+        captor.getValue().onResponse(new AcknowledgedResponse(true));
+
+        // Run
+        ip2GeoListener.clusterChanged(nonClusterManagerEvent);
+        ip2GeoListener.clusterChanged(clusterManagerEvent);
+
+        // Verify
+        verify(datasourceDao, times(2)).reconcileMetadata(any(ActionListener.class));
+    }
+
+    public void testClusterChanged_whenMetadataMissing_thenReconcileMetadataAgain() {
+        when(metadata.hasIndex(DatasourceExtension.JOB_INDEX_NAME)).thenReturn(true);
+        when(clusterState.custom(RestoreInProgress.TYPE, RestoreInProgress.EMPTY)).thenReturn(RestoreInProgress.EMPTY);
+        ClusterChangedEvent event = mock(ClusterChangedEvent.class);
+        when(event.localNodeClusterManager()).thenReturn(true);
+        when(event.state()).thenReturn(clusterState);
+        ip2GeoListener.clusterChanged(event);
+        ArgumentCaptor<ActionListener<AcknowledgedResponse>> captor = ArgumentCaptor.forClass(ActionListener.class);
+        verify(datasourceDao).reconcileMetadata(captor.capture());
+        captor.getValue().onResponse(new AcknowledgedResponse(true));
+
+        // Run
+        ip2GeoListener.clusterChanged(event);
+
+        // Verify
+        verify(datasourceDao, times(2)).reconcileMetadata(any(ActionListener.class));
+    }
+
+    public void testClusterChanged_whenReconcileFails_thenRetry() {
+        when(metadata.hasIndex(DatasourceExtension.JOB_INDEX_NAME)).thenReturn(true);
+        when(metadata.custom(Ip2GeoMetadata.TYPE)).thenReturn(Ip2GeoMetadata.EMPTY);
+        when(clusterState.custom(RestoreInProgress.TYPE, RestoreInProgress.EMPTY)).thenReturn(RestoreInProgress.EMPTY);
+        ClusterChangedEvent event = mock(ClusterChangedEvent.class);
+        when(event.localNodeClusterManager()).thenReturn(true);
+        when(event.state()).thenReturn(clusterState);
+        ip2GeoListener.clusterChanged(event);
+        ArgumentCaptor<ActionListener<AcknowledgedResponse>> captor = ArgumentCaptor.forClass(ActionListener.class);
+        verify(datasourceDao).reconcileMetadata(captor.capture());
+
+        // Run
+        ip2GeoListener.clusterChanged(event);
+
+        // Verify
+        verify(datasourceDao, times(1)).reconcileMetadata(any(ActionListener.class));
+
+        // Run
+        captor.getValue().onFailure(new RuntimeException());
+        ip2GeoListener.clusterChanged(event);
+
+        // Verify
+        verify(datasourceDao, times(2)).reconcileMetadata(any(ActionListener.class));
+    }
 }
@@ -0,0 +1,240 @@
+/*
+ * Copyright OpenSearch Contributors
+ * SPDX-License-Identifier: Apache-2.0
+ */
+
+package org.opensearch.geospatial.ip2geo.processor;
+
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.ArgumentMatchers.anyString;
+import static org.mockito.ArgumentMatchers.eq;
+import static org.mockito.Mockito.doAnswer;
+import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.never;
+import static org.mockito.Mockito.times;
+import static org.mockito.Mockito.verify;
+import static org.mockito.Mockito.when;
+
+import java.util.Arrays;
+import java.util.Collection;
+import java.util.Collections;
+import java.util.HashMap;
+import java.util.Map;
+import java.util.Set;
+
+import org.apache.lucene.search.TotalHits;
+import org.junit.Before;
+import org.mockito.ArgumentCaptor;
+import org.opensearch.OpenSearchException;
+import org.opensearch.action.search.SearchResponse;
+import org.opensearch.common.xcontent.XContentFactory;
+import org.opensearch.core.action.ActionListener;
+import org.opensearch.core.common.bytes.BytesReference;
+import org.opensearch.geospatial.GeospatialTestHelper;
+import org.opensearch.geospatial.ip2geo.Ip2GeoTestCase;
+import org.opensearch.geospatial.ip2geo.common.DatasourceState;
+import org.opensearch.search.SearchHit;
+import org.opensearch.search.SearchHits;
+
+import lombok.SneakyThrows;
+
+public class Ip2GeoResponseProcessorTests extends Ip2GeoTestCase {
+    private static final String DEFAULT_TARGET_FIELD = "ip2geo";
+    private Ip2GeoResponseProcessor.Factory factory;
+
+    @Before
+    public void init() {
+        factory = new Ip2GeoResponseProcessor.Factory();
+        factory.initialize(ip2GeoCachedDao);
+    }
+
+    public void testCreate_whenInvalidDatasourceName_thenException() {
+        Map<String, Object> config = new HashMap<>();
+        config.put(Ip2GeoResponseProcessor.CONFIG_FIELD, "ip");
+        config.put(Ip2GeoResponseProcessor.CONFIG_DATASOURCE, "_" + GeospatialTestHelper.randomLowerCaseString());
+
+        // Run
+        OpenSearchException exception = expectThrows(OpenSearchException.class, () -> createProcessor(config));
+
+        // Verify
+        assertTrue(exception.getDetailedMessage().contains("datasource"));
+    }
+
+    @SneakyThrows
+    public void testProcessResponseAsync_whenDuplicatedIps_thenLookupDistinctIpsOnce() {
+        String datasourceName = GeospatialTestHelper.randomLowerCaseString();
+        String indexName = GeospatialTestHelper.randomLowerCaseString();
+        mockAvailableDatasource(datasourceName, indexName, false);
+        Map<String, Map<String, Object>> geoData = Map.of(
+            "1.1.1.1",
+            Map.of("city", "Seattle", "country", "USA"),
+            "2.2.2.2",
+            Map.of("city", "Busan", "country", "Korea")
+        );
+        mockGeoData(indexName, datasourceName, geoData);
+        SearchResponse response = createResponse(
+            Map.of("ip", "1.1.1.1"),
+            Map.of("ip", "2.2.2.2"),
+            Map.of("ip", "1.1.1.1"),
+            Map.of("ip", Arrays.asList("2.2.2.2", "1.1.1.1"))
+        );
+        Ip2GeoResponseProcessor processor = createProcessor(datasourceName, Collections.emptyMap());
+
+        // Run
+        SearchResponse result = processResponse(processor, response);
+
+        // Verify
+        ArgumentCaptor<Collection<String>> captor = ArgumentCaptor.forClass(Collection.class);
+        verify(ip2GeoCachedDao, times(1)).getGeoData(eq(indexName), captor.capture(), eq(datasourceName), any(ActionListener.class));
+        assertEquals(Set.of("1.1.1.1", "2.2.2.2"), Set.copyOf(captor.getValue()));
+
+        SearchHit[] hits = result.getHits().getHits();
+        assertEquals(geoData.get("1.1.1.1"), hits[0].getSourceAsMap().get(DEFAULT_TARGET_FIELD));
+        assertEquals(geoData.get("2.2.2.2"), hits[1].getSourceAsMap().get(DEFAULT_TARGET_FIELD));
+        assertEquals(geoData.get("1.1.1.1"), hits[2].getSourceAsMap().get(DEFAULT_TARGET_FIELD));
+        assertEquals(
+            Arrays.asList(geoData.get("2.2.2.2"), geoData.get("1.1.1.1")),
+            hits[3].getSourceAsMap().get(DEFAULT_TARGET_FIELD)
+        );
+    }
+
+    @SneakyThrows
+    public void testProcessResponseAsync_whenPropertiesAndInvalidIp_thenFilterPropertiesAndSkipInvalidIp() {
+        String datasourceName = GeospatialTestHelper.randomLowerCaseString();
+        String indexName = GeospatialTestHelper.randomLowerCaseString();
+        mockAvailableDatasource(datasourceName, indexName, false);
+        mockGeoData(indexName, datasourceName, Map.of("1.1.1.1", Map.of("city", "Seattle", "country", "USA")));
+        SearchResponse response = createResponse(Map.of("ip", "1.1.1.1"), Map.of("ip", "not an ip"));
+        Ip2GeoResponseProcessor processor = createProcessor(
+            datasourceName,
+            Map.of(Ip2GeoResponseProcessor.CONFIG_PROPERTIES, Arrays.asList("country"))
+        );
+
+        // Run
+        SearchResponse result = processResponse(processor, response);
+
+        // Verify
+        SearchHit[] hits = result.getHits().getHits();
+        assertEquals(Map.of("country", "USA"), hits[0].getSourceAsMap().get(DEFAULT_TARGET_FIELD));
+        assertFalse(hits[1].getSourceAsMap().containsKey(DEFAULT_TARGET_FIELD));
+    }
+
+    @SneakyThrows
+    public void testProcessResponseAsync_whenExpired_thenDataExpiredError() {
+        String datasourceName = GeospatialTestHelper.randomLowerCaseString();
+        String indexName = GeospatialTestHelper.randomLowerCaseString();
+        mockAvailableDatasource(datasourceName, indexName, true);
+        SearchResponse response = createResponse(Map.of("ip", "1.1.1.1"));
+        Ip2GeoResponseProcessor processor = createProcessor(datasourceName, Collections.emptyMap());
+
+        // Run
+        SearchResponse result = processResponse(processor, response);
+
+        // Verify
+        verify(ip2GeoCachedDao, never()).getGeoData(anyString(), any(Collection.class), anyString(), any(ActionListener.class));
+        assertEquals(
+            Map.of("error", "ip2geo_data_expired"),
+            result.getHits().getHits()[0].getSourceAsMap().get(DEFAULT_TARGET_FIELD)
+        );
+    }
+
+    @SneakyThrows
+    public void testProcessResponseAsync_whenNoIpAndIgnoreMissing_thenReturnResponseAsIs() {
+        String datasourceName = GeospatialTestHelper.randomLowerCaseString();
+        SearchResponse response = createResponse(Map.of("name", GeospatialTestHelper.randomLowerCaseString()));
+        Ip2GeoResponseProcessor processor = createProcessor(datasourceName, Map.of(Ip2GeoResponseProcessor.CONFIG_IGNORE_MISSING, true));
+
+        // Run
+        SearchResponse result = processResponse(processor, response);
+
+        // Verify
+        assertEquals(response, result);
+        verify(ip2GeoCachedDao, never()).getGeoData(anyString(), any(Collection.class), anyString(), any(ActionListener.class));
+    }
+
+    @SneakyThrows
+    public void testProcessResponseAsync_whenNoIp_thenException() {
+        String datasourceName = GeospatialTestHelper.randomLowerCaseString();
+        SearchResponse response = createResponse(Map.of("name", GeospatialTestHelper.randomLowerCaseString()));
+        Ip2GeoResponseProcessor processor = createProcessor(datasourceName, Collections.emptyMap());
+        ActionListener<SearchResponse> listener = mock(ActionListener.class);
+
+        // Run
+        processor.processResponseAsync(null, response, null, listener);
+
+        // Verify
+        verify(listener).onFailure(any(IllegalArgumentException.class));
+    }
+
+    @SneakyThrows
+    public void testProcessResponseAsync_whenNoDatasource_thenException() {
+        String datasourceName = GeospatialTestHelper.randomLowerCaseString();
+        when(ip2GeoCachedDao.has(datasourceName)).thenReturn(false);
+        SearchResponse response = createResponse(Map.of("ip", "1.1.1.1"));
+        Ip2GeoResponseProcessor processor = createProcessor(datasourceName, Collections.emptyMap());
+        ActionListener<SearchResponse> listener = mock(ActionListener.class);
+
+        // Run
+        processor.processResponseAsync(null, response, null, listener);
+
+        // Verify
+        ArgumentCaptor<Exception> captor = ArgumentCaptor.forClass(Exception.class);
+        verify(listener).onFailure(captor.capture());
+        assertTrue(captor.getValue() instanceof IllegalStateException);
+        assertTrue(captor.getValue().getMessage().contains("not exist"));
+    }
+
+    private void mockAvailableDatasource(final String datasourceName, final String indexName, final boolean isExpired) {
+        when(ip2GeoCachedDao.getIndexName(datasourceName)).thenReturn(indexName);
+        when(ip2GeoCachedDao.has(datasourceName)).thenReturn(true);
+        when(ip2GeoCachedDao.getState(datasourceName)).thenReturn(DatasourceState.AVAILABLE);
+        when(ip2GeoCachedDao.isExpired(datasourceName)).thenReturn(isExpired);
+    }
+
+    private void mockGeoData(final String indexName, final String datasourceName, final Map<String, Map<String, Object>> geoData) {
+        doAnswer(invocation -> {
+            ActionListener<Map<String, Map<String, Object>>> listener = invocation.getArgument(3);
+            listener.onResponse(geoData);
+            return null;
+        }).when(ip2GeoCachedDao).getGeoData(eq(indexName), any(Collection.class), eq(datasourceName), any(ActionListener.class));
+    }
+
+    private SearchResponse processResponse(final Ip2GeoResponseProcessor processor, final SearchResponse response) {
+        ActionListener<SearchResponse> listener = mock(ActionListener.class);
+        processor.processResponseAsync(null, response, null, listener);
+        ArgumentCaptor<SearchResponse> captor = ArgumentCaptor.forClass(SearchResponse.class);
+        verify(listener).onResponse(captor.capture());
+        return captor.getValue();
+    }
+
+    @SneakyThrows
+    private SearchResponse createResponse(final Map<String, Object>... sources) {
+        SearchHit[] hits = new SearchHit[sources.length];
+        for (int i = 0; i < sources.length; i++) {
+            hits[i] = new SearchHit(i, String.valueOf(i), Collections.emptyMap(), Collections.emptyMap());
+            hits[i].sourceRef(BytesReference.bytes(XContentFactory.jsonBuilder().map(sources[i])));
+        }
+        SearchResponse response = mock(SearchResponse.class);
+        when(response.getHits()).thenReturn(new SearchHits(hits, new TotalHits(hits.length, TotalHits.Relation.EQUAL_TO), 1.0f));
+        return response;
+    }
+
+    private Ip2GeoResponseProcessor createProcessor(final String datasourceName, final Map<String, Object> config) {
+        Map<String, Object> baseConfig = new HashMap<>();
+        baseConfig.put(Ip2GeoResponseProcessor.CONFIG_FIELD, "ip");
+        baseConfig.put(Ip2GeoResponseProcessor.CONFIG_DATASOURCE, datasourceName);
+        baseConfig.putAll(config);
+        return createProcessor(baseConfig);
+    }
+
+    private Ip2GeoResponseProcessor createProcessor(final Map<String, Object> config) {
+        return factory.create(
+            Collections.emptyMap(),
+            GeospatialTestHelper.randomLowerCaseString(),
+            GeospatialTestHelper.randomLowerCaseString(),
+            false,
+            config,
+            null
+        );
+    }
+}
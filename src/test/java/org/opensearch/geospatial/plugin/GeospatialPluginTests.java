@@ -32,7 +32,9 @@ import org.opensearch.core.common.io.stream.NamedWriteableRegistry;
 import org.opensearch.core.xcontent.NamedXContentRegistry;
 import org.opensearch.env.Environment;
 import org.opensearch.env.NodeEnvironment;
+import org.opensearch.geospatial.action.upload.geojson.UploadExecutor;
 import org.opensearch.geospatial.action.upload.geojson.UploadGeoJSONAction;
+import org.opensearch.geospatial.index.mapper.xyshape.XYShapeTessellationExecutor;
 import org.opensearch.geospatial.ip2geo.action.RestDeleteDatasourceHandler;
 import org.opensearch.geospatial.ip2geo.action.RestGetDatasourceHandler;
 import org.opensearch.geospatial.ip2geo.action.RestPutDatasourceHandler;
@@ -46,9 +48,14 @@ import org.opensearch.geospatial.ip2geo.dao.GeoIpDataDao;
 import org.opensearch.geospatial.ip2geo.dao.Ip2GeoCachedDao;
 import org.opensearch.geospatial.ip2geo.jobscheduler.DatasourceUpdateService;
 import org.opensearch.geospatial.ip2geo.listener.Ip2GeoListener;
+import org.opensearch.geospatial.ip2geo.processor.Ip2GeoResponseProcessor;
 import org.opensearch.geospatial.processor.FeatureProcessor;
+import org.opensearch.geospatial.processor.GeometrySimplifyProcessor;
+import org.opensearch.geospatial.processor.SpatialRoutingProcessor;
 import org.opensearch.geospatial.rest.action.upload.geojson.RestUploadGeoJSONAction;
+import org.opensearch.geospatial.search.fetch.CompactGeometryFetchSubPhase;
 import org.opensearch.geospatial.settings.GeospatialSettings;
+import org.opensearch.geospatial.settings.GeospatialSettingsAccessor;
 import org.opensearch.geospatial.stats.upload.RestUploadStatsAction;
 import org.opensearch.geospatial.stats.upload.UploadStats;
 import org.opensearch.indices.SystemIndexDescriptor;
@@ -59,6 +66,8 @@ import org.opensearch.plugins.IngestPlugin;
 import org.opensearch.repositories.RepositoriesService;
 import org.opensearch.rest.RestHandler;
 import org.opensearch.script.ScriptService;
+import org.opensearch.search.fetch.FetchSubPhase;
+import org.opensearch.search.pipeline.SearchResponseProcessor;
 import org.opensearch.test.OpenSearchTestCase;
 import org.opensearch.threadpool.ThreadPool;
 import org.opensearch.transport.client.Client;
@@ -68,10 +77,7 @@ public class GeospatialPluginTests extends OpenSearchTestCase {
     private final ClusterSettings clusterSettings = new ClusterSettings(Settings.EMPTY, new HashSet() {
         {
             addAll(Ip2GeoSettings.settings());
-            add(GeospatialSettings.MAX_COORDINATES_PER_GEOMETRY);
-            add(GeospatialSettings.MAX_HOLES_PER_POLYGON);
-            add(GeospatialSettings.MAX_MULTI_GEOMETRIES);
-            add(GeospatialSettings.MAX_GEOMETRY_COLLECTION_NESTED_DEPTH);
+            addAll(GeospatialSettings.settings());
         }
     });
     private final URLDenyListChecker urlDenyListChecker = new URLDenyListChecker(clusterSettings);
@@ -93,7 +99,10 @@ public class GeospatialPluginTests extends OpenSearchTestCase {
         Ip2GeoExecutor.class,
         GeoIpDataDao.class,
         Ip2GeoLockService.class,
-        Ip2GeoCachedDao.class
+        Ip2GeoCachedDao.class,
+        GeospatialSettingsAccessor.class,
+        UploadExecutor.class,
+        XYShapeTessellationExecutor.class
     );
 
     @Mock
@@ -153,7 +162,7 @@ public class GeospatialPluginTests extends OpenSearchTestCase {
     }
 
     public void testExecutorBuilders() {
-        assertEquals(1, plugin.getExecutorBuilders(Settings.EMPTY).size());
+        assertEquals(3, plugin.getExecutorBuilders(Settings.EMPTY).size());
     }
 
     public void testCreateComponents() {
@@ -190,6 +199,20 @@ public class GeospatialPluginTests extends OpenSearchTestCase {
         Map<String, Processor.Factory> processors = plugin.getProcessors(getProcessorParameter());
         assertTrue(processors.containsKey(FeatureProcessor.TYPE));
         assertTrue(processors.get(FeatureProcessor.TYPE) instanceof FeatureProcessor.Factory);
+        assertTrue(processors.get(SpatialRoutingProcessor.TYPE) instanceof SpatialRoutingProcessor.Factory);
+        assertTrue(processors.get(GeometrySimplifyProcessor.TYPE) instanceof GeometrySimplifyProcessor.Factory);
+    }
+
+    public void testIp2GeoResponseProcessorIsAdded() {
+        Map<String, org.opensearch.search.pipeline.Processor.Factory<SearchResponseProcessor>> processors;
+        processors = plugin.getResponseProcessors(null);
+        assertTrue(processors.get(Ip2GeoResponseProcessor.TYPE) instanceof Ip2GeoResponseProcessor.Factory);
+    }
+
+    public void testCompactGeometryFetchSubPhaseIsAdded() {
+        List<FetchSubPhase> fetchSubPhases = plugin.getFetchSubPhases(null);
+        assertEquals(1, fetchSubPhases.size());
+        assertTrue(fetchSubPhases.get(0) instanceof CompactGeometryFetchSubPhase);
     }
 
     public void testTotalRestHandlers() {
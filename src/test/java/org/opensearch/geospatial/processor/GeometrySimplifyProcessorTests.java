@@ -0,0 +1,90 @@
+/*
+ * Copyright OpenSearch Contributors
+ * SPDX-License-Identifier: Apache-2.0
+ */
+
+package org.opensearch.geospatial.processor;
+
+import static org.opensearch.ingest.RandomDocumentPicks.randomIngestDocument;
+
+import java.util.Collections;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+
+import org.opensearch.OpenSearchParseException;
+import org.opensearch.geospatial.simplify.GeometrySimplifier;
+import org.opensearch.ingest.IngestDocument;
+import org.opensearch.test.OpenSearchTestCase;
+
+public class GeometrySimplifyProcessorTests extends OpenSearchTestCase {
+
+    private static final String FIELD = "location";
+    private static final String TARGET_FIELD = "simplified_location";
+
+    private Map<String, Object> buildLine() {
+        return Map.of("type", "LineString", "coordinates", List.of(List.of(0.0, 0.0), List.of(5.0, 0.1), List.of(10.0, 0.0)));
+    }
+
+    private Map<String, Object> buildSimplifiedLine() {
+        return Map.of("type", "LineString", "coordinates", List.of(List.of(0.0, 0.0), List.of(10.0, 0.0)));
+    }
+
+    public void testCreate_whenTargetField_thenSimplifiedGeometryIsSetToTargetField() {
+        Map<String, Object> config = new HashMap<>();
+        config.put(GeometrySimplifyProcessor.FIELD_KEY, FIELD);
+        config.put(GeometrySimplifyProcessor.TARGET_FIELD_KEY, TARGET_FIELD);
+        config.put(GeometrySimplifyProcessor.TOLERANCE_KEY, "1");
+
+        // Run
+        GeometrySimplifyProcessor processor = new GeometrySimplifyProcessor.Factory().create(Collections.emptyMap(), "tag", null, config);
+
+        // Verify
+        assertEquals(GeometrySimplifyProcessor.TYPE, processor.getType());
+        IngestDocument ingestDocument = randomIngestDocument(random(), new HashMap<>(Map.of(FIELD, buildLine())));
+        processor.execute(ingestDocument);
+        assertEquals(buildLine(), ingestDocument.getFieldValue(FIELD, Map.class));
+        assertEquals(buildSimplifiedLine(), ingestDocument.getFieldValue(TARGET_FIELD, Map.class));
+    }
+
+    public void testCreate_whenInvalidTolerance_thenException() {
+        for (Object tolerance : List.of(0, -1.5, "invalid")) {
+            Map<String, Object> config = new HashMap<>(
+                Map.of(GeometrySimplifyProcessor.FIELD_KEY, FIELD, GeometrySimplifyProcessor.TOLERANCE_KEY, tolerance)
+            );
+            expectThrows(
+                OpenSearchParseException.class,
+                () -> new GeometrySimplifyProcessor.Factory().create(Collections.emptyMap(), "tag", null, config)
+            );
+        }
+        Map<String, Object> missingTolerance = new HashMap<>(Map.of(GeometrySimplifyProcessor.FIELD_KEY, FIELD));
+        expectThrows(
+            OpenSearchParseException.class,
+            () -> new GeometrySimplifyProcessor.Factory().create(Collections.emptyMap(), "tag", null, missingTolerance)
+        );
+    }
+
+    public void testExecute_whenGeometry_thenGeometryIsReplaced() {
+        GeometrySimplifyProcessor processor = new GeometrySimplifyProcessor("tag", null, FIELD, FIELD, new GeometrySimplifier(1), false);
+        IngestDocument ingestDocument = randomIngestDocument(random(), new HashMap<>(Map.of(FIELD, buildLine())));
+
+        // Run
+        processor.execute(ingestDocument);
+
+        // Verify
+        assertEquals(buildSimplifiedLine(), ingestDocument.getFieldValue(FIELD, Map.class));
+    }
+
+    public void testExecute_whenFieldIsMissingOrInvalid_thenIgnoreOrException() {
+        GeometrySimplifier simplifier = new GeometrySimplifier(1);
+        IngestDocument ingestDocument = randomIngestDocument(random(), new HashMap<>(Map.of("name", "value")));
+
+        new GeometrySimplifyProcessor("tag", null, FIELD, FIELD, simplifier, true).execute(ingestDocument);
+        assertFalse(ingestDocument.hasField(FIELD));
+
+        GeometrySimplifyProcessor processor = new GeometrySimplifyProcessor("tag", null, FIELD, FIELD, simplifier, false);
+        expectThrows(IllegalArgumentException.class, () -> processor.execute(ingestDocument));
+        IngestDocument invalidDocument = randomIngestDocument(random(), new HashMap<>(Map.of(FIELD, "LINESTRING (0 0, 1 1)")));
+        expectThrows(IllegalArgumentException.class, () -> processor.execute(invalidDocument));
+    }
+}
@@ -0,0 +1,96 @@
+/*
+ * Copyright OpenSearch Contributors
+ * SPDX-License-Identifier: Apache-2.0
+ */
+
+package org.opensearch.geospatial.processor;
+
+import static org.opensearch.ingest.RandomDocumentPicks.randomIngestDocument;
+
+import java.util.Collections;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+
+import org.opensearch.OpenSearchParseException;
+import org.opensearch.geospatial.routing.SpatialRouting;
+import org.opensearch.geospatial.routing.SpatialRoutingScheme;
+import org.opensearch.ingest.IngestDocument;
+import org.opensearch.test.OpenSearchTestCase;
+
+public class SpatialRoutingProcessorTests extends OpenSearchTestCase {
+
+    private static final String FIELD = "location";
+    private static final String ROUTING = IngestDocument.Metadata.ROUTING.getFieldName();
+
+    private Map<String, Object> buildPoint() {
+        return Map.of("type", "Point", "coordinates", List.of(randomDoubleBetween(-180, 180, true), randomDoubleBetween(-90, 90, true)));
+    }
+
+    public void testCreate_whenDefaultConfig_thenH3WithDefaultResolution() {
+        Map<String, Object> config = new HashMap<>();
+        config.put(SpatialRoutingProcessor.FIELD_KEY, FIELD);
+
+        // Run
+        SpatialRoutingProcessor processor = new SpatialRoutingProcessor.Factory().create(Collections.emptyMap(), "tag", null, config);
+
+        // Verify
+        assertEquals(SpatialRoutingProcessor.TYPE, processor.getType());
+        Map<String, Object> geometry = buildPoint();
+        IngestDocument ingestDocument = randomIngestDocument(random(), new HashMap<>(Map.of(FIELD, geometry)));
+        processor.execute(ingestDocument);
+        SpatialRouting expected = new SpatialRouting(SpatialRoutingScheme.H3, SpatialRoutingScheme.H3.getDefaultResolution());
+        assertEquals(expected.routingOf(geometry), ingestDocument.getFieldValue(ROUTING, String.class));
+    }
+
+    public void testCreate_whenInvalidConfig_thenException() {
+        Map<String, Object> invalidScheme = new HashMap<>(
+            Map.of(SpatialRoutingProcessor.FIELD_KEY, FIELD, SpatialRoutingProcessor.SCHEME_KEY, "s2")
+        );
+        expectThrows(
+            OpenSearchParseException.class,
+            () -> new SpatialRoutingProcessor.Factory().create(Collections.emptyMap(), "tag", null, invalidScheme)
+        );
+        Map<String, Object> invalidResolution = new HashMap<>(
+            Map.of(
+                SpatialRoutingProcessor.FIELD_KEY,
+                FIELD,
+                SpatialRoutingProcessor.SCHEME_KEY,
+                "hilbert",
+                SpatialRoutingProcessor.RESOLUTION_KEY,
+                32
+            )
+        );
+        expectThrows(
+            OpenSearchParseException.class,
+            () -> new SpatialRoutingProcessor.Factory().create(Collections.emptyMap(), "tag", null, invalidResolution)
+        );
+    }
+
+    public void testExecute_whenHilbert_thenRoutingIsSet() {
+        SpatialRouting routing = new SpatialRouting(SpatialRoutingScheme.HILBERT, randomIntBetween(1, 31));
+        SpatialRoutingProcessor processor = new SpatialRoutingProcessor("tag", null, FIELD, routing, false);
+        Map<String, Object> geometry = buildPoint();
+        IngestDocument ingestDocument = randomIngestDocument(random(), new HashMap<>(Map.of(FIELD, geometry)));
+
+        // Run
+        processor.execute(ingestDocument);
+
+        // Verify
+        assertEquals(routing.routingOf(geometry), ingestDocument.getFieldValue(ROUTING, String.class));
+    }
+
+    public void testExecute_whenFieldIsMissing_thenIgnoreOrException() {
+        SpatialRouting routing = new SpatialRouting(SpatialRoutingScheme.H3, 3);
+        IngestDocument ingestDocument = randomIngestDocument(random(), new HashMap<>(Map.of("name", "value")));
+        Object routingBefore = ingestDocument.getSourceAndMetadata().get(ROUTING);
+
+        new SpatialRoutingProcessor("tag", null, FIELD, routing, true).execute(ingestDocument);
+        assertEquals(routingBefore, ingestDocument.getSourceAndMetadata().get(ROUTING));
+
+        SpatialRoutingProcessor processor = new SpatialRoutingProcessor("tag", null, FIELD, routing, false);
+        expectThrows(IllegalArgumentException.class, () -> processor.execute(ingestDocument));
+        IngestDocument invalidDocument = randomIngestDocument(random(), new HashMap<>(Map.of(FIELD, "POINT (1 2)")));
+        expectThrows(IllegalArgumentException.class, () -> processor.execute(invalidDocument));
+    }
+}
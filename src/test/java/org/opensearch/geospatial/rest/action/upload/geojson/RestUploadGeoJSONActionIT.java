@@ -11,18 +11,25 @@
 
 package org.opensearch.geospatial.rest.action.upload.geojson;
 
+import static org.opensearch.geospatial.GeospatialObjectBuilder.buildProperties;
+import static org.opensearch.geospatial.GeospatialObjectBuilder.randomGeoJSONFeature;
 import static org.opensearch.geospatial.GeospatialTestHelper.randomLowerCaseString;
 import static org.opensearch.geospatial.action.upload.geojson.UploadGeoJSONRequestContent.*;
+import static org.opensearch.geospatial.shared.URLBuilder.URL_DELIMITER;
+import static org.opensearch.geospatial.shared.URLBuilder.getPluginURLPrefix;
 
 import java.io.IOException;
+import java.util.Collections;
 import java.util.HashMap;
 import java.util.Map;
 
+import org.opensearch.client.Request;
 import org.opensearch.client.Response;
 import org.opensearch.client.ResponseException;
 import org.opensearch.common.settings.Settings;
 import org.opensearch.core.rest.RestStatus;
 import org.opensearch.geospatial.GeospatialRestTestCase;
+import org.opensearch.geospatial.action.upload.geojson.UploadFormat;
 
 public class RestUploadGeoJSONActionIT extends GeospatialRestTestCase {
 
@@ -38,6 +45,15 @@ public class RestUploadGeoJSONActionIT extends GeospatialRestTestCase {
         assertEquals("failed to index documents", NUMBER_OF_FEATURES_TO_ADD, getIndexDocumentCount(index));
     }
 
+    public void testGeoJSONUploadMoreThanTenThousandFeatures() throws Exception {
+
+        final String index = randomLowerCaseString();
+        final int numberOfFeatures = 10_001;
+        Response response = uploadGeoJSONFeatures(numberOfFeatures, index, null);
+        assertEquals(RestStatus.OK, RestStatus.fromCode(response.getStatusLine().getStatusCode()));
+        assertEquals("failed to index documents", numberOfFeatures, getIndexDocumentCount(index));
+    }
+
     public void testGeoJSONUploadFailIndexExists() throws IOException {
 
         String index = randomLowerCaseString();
@@ -75,4 +91,55 @@ public class RestUploadGeoJSONActionIT extends GeospatialRestTestCase {
         int expectedDocCountAfterUpload = indexDocumentCount + NUMBER_OF_FEATURES_TO_ADD;
         assertEquals("failed to index documents", expectedDocCountAfterUpload, getIndexDocumentCount(index));
     }
+
+    public void testGeoJSONUploadWithoutWaitForCompletion() throws Exception {
+
+        String index = randomLowerCaseString();
+        String path = String.join(
+            URL_DELIMITER,
+            getPluginURLPrefix(),
+            RestUploadGeoJSONAction.ACTION_OBJECT,
+            RestUploadGeoJSONAction.ACTION_UPLOAD
+        );
+        Request request = new Request("POST", path);
+        request.addParameter(RestUploadGeoJSONAction.PARAM_WAIT_FOR_COMPLETION, "false");
+        request.setJsonEntity(buildUploadGeoJSONRequestContent(NUMBER_OF_FEATURES_TO_ADD, index, null).toString());
+        Response response = client().performRequest(request);
+        assertEquals(RestStatus.OK, RestStatus.fromCode(response.getStatusLine().getStatusCode()));
+        String taskId = (String) entityAsMap(response).get("task");
+        assertNotNull(taskId);
+
+        // wait for the upload task and verify its stored result
+        Request getTaskRequest = new Request("GET", "/_tasks/" + taskId);
+        getTaskRequest.addParameter("wait_for_completion", "true");
+        Map<String, Object> task = entityAsMap(client().performRequest(getTaskRequest));
+        assertEquals(true, task.get("completed"));
+        Map<String, Object> result = (Map<String, Object>) task.get("response");
+        assertEquals(NUMBER_OF_FEATURES_TO_ADD, result.get("total"));
+        assertEquals("failed to index documents", NUMBER_OF_FEATURES_TO_ADD, getIndexDocumentCount(index));
+    }
+
+    public void testGeoJSONSeqUpload() throws Exception {
+
+        String index = randomLowerCaseString();
+        String path = String.join(
+            URL_DELIMITER,
+            getPluginURLPrefix(),
+            RestUploadGeoJSONAction.ACTION_OBJECT,
+            RestUploadGeoJSONAction.ACTION_UPLOAD
+        );
+        Request request = new Request("PUT", path);
+        request.addParameter(RestUploadGeoJSONAction.PARAM_FORMAT, UploadFormat.GEOJSON_SEQ.getName());
+        request.addParameter(FIELD_INDEX.getPreferredName(), index);
+        request.addParameter(FIELD_GEOSPATIAL_TYPE.getPreferredName(), "geo_shape");
+        StringBuilder lines = new StringBuilder();
+        for (int i = 0; i < NUMBER_OF_FEATURES_TO_ADD; i++) {
+            lines.append(randomGeoJSONFeature(buildProperties(Collections.emptyMap()))).append('\n');
+        }
+        request.setJsonEntity(lines.toString());
+        Response response = client().performRequest(request);
+        assertEquals(RestStatus.OK, RestStatus.fromCode(response.getStatusLine().getStatusCode()));
+        assertIndexExists(index);
+        assertEquals("failed to index documents", NUMBER_OF_FEATURES_TO_ADD, getIndexDocumentCount(index));
+    }
 }
@@ -0,0 +1,125 @@
+/*
+ * Copyright OpenSearch Contributors
+ * SPDX-License-Identifier: Apache-2.0
+ */
+
+package org.opensearch.geospatial.routing;
+
+import java.io.IOException;
+import java.util.List;
+import java.util.Map;
+
+import org.opensearch.common.io.stream.BytesStreamOutput;
+import org.opensearch.geospatial.h3.H3;
+import org.opensearch.test.OpenSearchTestCase;
+
+public class SpatialRoutingTests extends OpenSearchTestCase {
+
+    private Map<String, Object> point(double longitude, double latitude) {
+        return Map.of("type", "Point", "coordinates", List.of(longitude, latitude));
+    }
+
+    private List<List<Double>> square(double minX, double minY, double size) {
+        return List.of(
+            List.of(minX, minY),
+            List.of(minX + size, minY),
+            List.of(minX + size, minY + size),
+            List.of(minX, minY + size),
+            List.of(minX, minY)
+        );
+    }
+
+    public void testCentroid_whenPolygonWithHole_thenAreaWeightedCentroid() {
+        Map<String, Object> polygon = Map.of("type", "Polygon", "coordinates", List.of(square(0, 0, 10), square(0, 0, 5)));
+
+        // Run
+        double[] centroid = GeoJSONCentroid.of(polygon);
+
+        // Verify
+        assertEquals(35.0 / 6, centroid[0], 1e-9);
+        assertEquals(35.0 / 6, centroid[1], 1e-9);
+    }
+
+    public void testCentroid_whenGeometryCollection_thenOnlyHighestDimensionContributes() {
+        Map<String, Object> collection = Map.of(
+            "type",
+            "GeometryCollection",
+            "geometries",
+            List.of(point(100, 50), Map.of("type", "LineString", "coordinates", List.of(List.of(0, 0), List.of(2, 0))))
+        );
+
+        // Run
+        double[] centroid = GeoJSONCentroid.of(collection);
+
+        // Verify
+        assertEquals(1.0, centroid[0], 1e-9);
+        assertEquals(0.0, centroid[1], 1e-9);
+    }
+
+    public void testCentroid_whenEmptyOrInvalidGeometry_thenNullOrException() {
+        assertNull(GeoJSONCentroid.of(Map.of("type", "MultiPoint", "coordinates", List.of())));
+        expectThrows(IllegalArgumentException.class, () -> GeoJSONCentroid.of(Map.of("type", "Circle", "coordinates", List.of(0, 0))));
+        expectThrows(IllegalArgumentException.class, () -> GeoJSONCentroid.of(Map.of("type", "Point", "coordinates", List.of("a", 0))));
+    }
+
+    public void testRoutingOf_whenH3_thenAddressOfCellOfCentroid() {
+        int resolution = randomIntBetween(0, 15);
+        SpatialRouting routing = new SpatialRouting(SpatialRoutingScheme.H3, resolution);
+
+        // Run
+        String routingKey = routing.routingOf(point(20.5, 10.25));
+
+        // Verify
+        assertEquals(H3.geoToH3Address(10.25, 20.5, resolution), routingKey);
+    }
+
+    public void testRoutingOf_whenNearbyGeometries_thenSameRouting() {
+        SpatialRouting routing = new SpatialRouting(randomFrom(SpatialRoutingScheme.values()), 2);
+        Map<String, Object> polygon = Map.of("type", "Polygon", "coordinates", List.of(square(10.1, 10.1, 0.2)));
+
+        assertEquals(routing.routingOf(point(10.2, 10.2)), routing.routingOf(polygon));
+        assertNotEquals(routing.routingOf(point(10.2, 10.2)), routing.routingOf(point(-120, -45)));
+    }
+
+    public void testRoutingOf_whenHilbertCorners_thenRoutingWithinCurve() {
+        int resolution = randomIntBetween(1, 31);
+        SpatialRouting routing = new SpatialRouting(SpatialRoutingScheme.HILBERT, resolution);
+        long cells = 1L << (2 * resolution);
+
+        assertEquals("0", routing.routingOf(point(-180, -90)));
+        long corner = Long.parseLong(routing.routingOf(point(180, 90)));
+        assertTrue(corner > 0 && corner < cells);
+        // longitude beyond antimeridian is wrapped
+        assertEquals(routing.routingOf(point(-170, 0)), routing.routingOf(point(190, 0)));
+    }
+
+    public void testHilbertIndex_whenAdjacentIndices_thenAdjacentCells() {
+        long side = 1L << randomIntBetween(1, 5);
+        long[][] cells = new long[(int) (side * side)][];
+        for (long x = 0; x < side; x++) {
+            for (long y = 0; y < side; y++) {
+                int index = (int) SpatialRoutingScheme.hilbertIndex(x, y, side);
+                assertNull(cells[index]);
+                cells[index] = new long[] { x, y };
+            }
+        }
+        for (int i = 1; i < cells.length; i++) {
+            assertEquals(1, Math.abs(cells[i][0] - cells[i - 1][0]) + Math.abs(cells[i][1] - cells[i - 1][1]));
+        }
+    }
+
+    public void testConstructor_whenInvalidResolution_thenException() {
+        expectThrows(IllegalArgumentException.class, () -> new SpatialRouting(SpatialRoutingScheme.H3, 16));
+        expectThrows(IllegalArgumentException.class, () -> new SpatialRouting(SpatialRoutingScheme.HILBERT, 0));
+        expectThrows(IllegalArgumentException.class, () -> SpatialRoutingScheme.fromName("geohash"));
+        assertEquals(SpatialRoutingScheme.HILBERT, SpatialRoutingScheme.fromName("hilbert"));
+    }
+
+    public void testStreams() throws IOException {
+        SpatialRouting routing = new SpatialRouting(SpatialRoutingScheme.HILBERT, randomIntBetween(1, 31));
+        BytesStreamOutput output = new BytesStreamOutput();
+        routing.writeTo(output);
+
+        assertEquals(routing, new SpatialRouting(output.bytes().streamInput()));
+    }
+}
@@ -0,0 +1,202 @@
+/*
+ * Copyright OpenSearch Contributors
+ * SPDX-License-Identifier: Apache-2.0
+ */
+
+package org.opensearch.geospatial.search.aggregations.bucket.xygrid;
+
+import static org.opensearch.geospatial.GeospatialTestHelper.randomLowerCaseString;
+
+import java.io.IOException;
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+
+import org.apache.lucene.document.Document;
+import org.apache.lucene.document.SortedNumericDocValuesField;
+import org.apache.lucene.document.XYDocValuesField;
+import org.apache.lucene.geo.XYEncodingUtils;
+import org.apache.lucene.geo.XYRectangle;
+import org.apache.lucene.index.DirectoryReader;
+import org.apache.lucene.index.IndexReader;
+import org.apache.lucene.index.IndexableField;
+import org.apache.lucene.search.IndexSearcher;
+import org.apache.lucene.search.MatchAllDocsQuery;
+import org.apache.lucene.store.Directory;
+import org.apache.lucene.tests.index.RandomIndexWriter;
+import org.opensearch.common.CheckedConsumer;
+import org.opensearch.geo.search.aggregations.bucket.geogrid.BaseGeoGridBucket;
+import org.opensearch.geospatial.index.mapper.xypoint.XYPointFieldMapper;
+import org.opensearch.geospatial.index.query.xypoint.XYPointQueryProcessor;
+import org.opensearch.geospatial.plugin.GeospatialPlugin;
+import org.opensearch.index.mapper.GeoPointFieldMapper;
+import org.opensearch.index.mapper.MappedFieldType;
+import org.opensearch.index.mapper.NumberFieldMapper;
+import org.opensearch.plugins.SearchPlugin;
+import org.opensearch.search.aggregations.AggregatorTestCase;
+import org.opensearch.search.aggregations.metrics.InternalMax;
+import org.opensearch.search.aggregations.metrics.MaxAggregationBuilder;
+
+public class XYGridAggregatorTests extends AggregatorTestCase {
+
+    private static final String FIELD_NAME = "location";
+    private static final String VALUE_FIELD_NAME = "value";
+
+    public void testSquare_whenPoints_thenDocumentCountOfEveryCell() throws IOException {
+        double cellSize = randomDoubleBetween(1, 100, true);
+        Map<String, Integer> expectedCounts = new HashMap<>();
+        List<List<IndexableField>> documents = new ArrayList<>();
+        int documentCount = randomIntBetween(1, 50);
+        for (int i = 0; i < documentCount; i++) {
+            float x = (float) randomDoubleBetween(-1000, 1000, true);
+            float y = (float) randomDoubleBetween(-1000, 1000, true);
+            documents.add(Collections.singletonList(new XYDocValuesField(FIELD_NAME, x, y)));
+            // same as the field, which indexes points as encoded floats
+            XYDocValuesField encoded = new XYDocValuesField(FIELD_NAME, x, y);
+            String key = XYGridTiling.toKeyString(XYGridTiling.SQUARE.encode(decodeX(encoded), decodeY(encoded), cellSize));
+            expectedCounts.merge(key, 1, Integer::sum);
+        }
+        XYGridAggregationBuilder builder = new XYGridAggregationBuilder(randomLowerCaseString()).field(FIELD_NAME).cellSize(cellSize);
+
+        // Run
+        XYGrid grid = search(writer -> writer.addDocuments(documents), builder);
+
+        // Verify
+        assertEquals(expectedCounts, docCountsByKey(grid));
+    }
+
+    public void testHexagon_whenPointsOfDocument_thenDocumentCountedOncePerCell() throws IOException {
+        Document document = new Document();
+        document.add(new XYDocValuesField(FIELD_NAME, 0, 0));
+        document.add(new XYDocValuesField(FIELD_NAME, 0.5f, 0));
+        document.add(new XYDocValuesField(FIELD_NAME, 10, 10));
+        XYGridAggregationBuilder builder = new XYGridAggregationBuilder(randomLowerCaseString()).field(FIELD_NAME)
+            .cellSize(1)
+            .tiling(XYGridTiling.HEXAGON);
+
+        // Run
+        XYGrid grid = search(writer -> writer.addDocument(document), builder);
+
+        // Verify
+        Map<String, Integer> counts = docCountsByKey(grid);
+        assertEquals(2, counts.size());
+        assertEquals(Integer.valueOf(1), counts.get("0/0"));
+        assertEquals(Integer.valueOf(1), counts.get(XYGridTiling.toKeyString(XYGridTiling.HEXAGON.encode(10, 10, 1))));
+    }
+
+    public void testBounds_whenPointsOutsideBounds_thenNotBucketed() throws IOException {
+        XYGridAggregationBuilder builder = new XYGridAggregationBuilder(randomLowerCaseString()).field(FIELD_NAME)
+            .cellSize(10)
+            .bounds(new XYRectangle(0, 100, 0, 100));
+
+        // Run
+        XYGrid grid = search(writer -> {
+            writer.addDocument(Collections.singletonList(new XYDocValuesField(FIELD_NAME, 5, 5)));
+            writer.addDocument(Collections.singletonList(new XYDocValuesField(FIELD_NAME, 55, 95)));
+            writer.addDocument(Collections.singletonList(new XYDocValuesField(FIELD_NAME, -5, 5)));
+            writer.addDocument(Collections.singletonList(new XYDocValuesField(FIELD_NAME, 50, 150)));
+        }, builder);
+
+        // Verify
+        assertEquals(Map.of("0/0", 1, "5/9", 1), docCountsByKey(grid));
+    }
+
+    public void testSubAggregation_whenMax_thenMaxOfEveryCell() throws IOException {
+        XYGridAggregationBuilder builder = new XYGridAggregationBuilder(randomLowerCaseString()).field(FIELD_NAME)
+            .cellSize(10)
+            .subAggregation(new MaxAggregationBuilder(VALUE_FIELD_NAME).field(VALUE_FIELD_NAME));
+
+        // Run
+        XYGrid grid = search(writer -> {
+            writer.addDocument(List.of(new XYDocValuesField(FIELD_NAME, 1, 1), new SortedNumericDocValuesField(VALUE_FIELD_NAME, 3)));
+            writer.addDocument(List.of(new XYDocValuesField(FIELD_NAME, 2, 2), new SortedNumericDocValuesField(VALUE_FIELD_NAME, 7)));
+            writer.addDocument(List.of(new XYDocValuesField(FIELD_NAME, 15, 1), new SortedNumericDocValuesField(VALUE_FIELD_NAME, 5)));
+        }, builder);
+
+        // Verify
+        Map<String, Double> maxByKey = new HashMap<>();
+        for (BaseGeoGridBucket bucket : grid.getBuckets()) {
+            InternalMax max = bucket.getAggregations().get(VALUE_FIELD_NAME);
+            maxByKey.put(bucket.getKeyAsString(), max.getValue());
+        }
+        assertEquals(Map.of("0/0", 7.0, "1/0", 5.0), maxByKey);
+    }
+
+    public void testUnmapped_whenDocuments_thenEmpty() throws IOException {
+        XYGridAggregationBuilder builder = new XYGridAggregationBuilder(randomLowerCaseString()).field(randomLowerCaseString())
+            .cellSize(1);
+
+        // Run
+        XYGrid grid = search(writer -> writer.addDocument(Collections.singleton(new XYDocValuesField(FIELD_NAME, 1, 2))), builder);
+
+        // Verify
+        assertTrue(grid.getBuckets().isEmpty());
+    }
+
+    public void testInvalidFieldType_whenGeoPoint_thenException() {
+        XYGridAggregationBuilder builder = new XYGridAggregationBuilder(randomLowerCaseString()).field(FIELD_NAME).cellSize(1);
+        expectThrows(
+            IllegalArgumentException.class,
+            () -> search(writer -> writer.addDocument(new Document()), builder, new GeoPointFieldMapper.GeoPointFieldType(FIELD_NAME))
+        );
+    }
+
+    public void testCellSize_whenNotPositive_thenException() {
+        XYGridAggregationBuilder builder = new XYGridAggregationBuilder(randomLowerCaseString());
+        expectThrows(IllegalArgumentException.class, () -> builder.cellSize(randomDoubleBetween(-100, 0, true)));
+        expectThrows(IllegalArgumentException.class, () -> builder.cellSize(Double.NaN));
+    }
+
+    @Override
+    protected List<SearchPlugin> getSearchPlugins() {
+        return Collections.singletonList(new GeospatialPlugin());
+    }
+
+    private static float decodeX(XYDocValuesField field) {
+        return XYEncodingUtils.decode((int) (field.numericValue().longValue() >>> 32));
+    }
+
+    private static float decodeY(XYDocValuesField field) {
+        return XYEncodingUtils.decode((int) field.numericValue().longValue());
+    }
+
+    private static Map<String, Integer> docCountsByKey(XYGrid grid) {
+        Map<String, Integer> counts = new HashMap<>();
+        for (BaseGeoGridBucket bucket : grid.getBuckets()) {
+            counts.put(bucket.getKeyAsString(), (int) bucket.getDocCount());
+        }
+        return counts;
+    }
+
+    private XYGrid search(CheckedConsumer<RandomIndexWriter, IOException> buildIndex, XYGridAggregationBuilder builder)
+        throws IOException {
+        MappedFieldType fieldType = new XYPointFieldMapper.XYPointFieldType(
+            FIELD_NAME,
+            true,
+            false,
+            true,
+            Collections.emptyMap(),
+            new XYPointQueryProcessor()
+        );
+        return search(buildIndex, builder, fieldType);
+    }
+
+    private XYGrid search(
+        CheckedConsumer<RandomIndexWriter, IOException> buildIndex,
+        XYGridAggregationBuilder builder,
+        MappedFieldType fieldType
+    ) throws IOException {
+        MappedFieldType valueFieldType = new NumberFieldMapper.NumberFieldType(VALUE_FIELD_NAME, NumberFieldMapper.NumberType.LONG);
+        try (Directory directory = newDirectory()) {
+            try (RandomIndexWriter writer = new RandomIndexWriter(random(), directory)) {
+                buildIndex.accept(writer);
+            }
+            try (IndexReader reader = DirectoryReader.open(directory)) {
+                IndexSearcher searcher = newSearcher(reader, true, true);
+                return searchAndReduce(searcher, new MatchAllDocsQuery(), builder, fieldType, valueFieldType);
+            }
+        }
+    }
+}
@@ -0,0 +1,74 @@
+/*
+ * Copyright OpenSearch Contributors
+ * SPDX-License-Identifier: Apache-2.0
+ */
+
+package org.opensearch.geospatial.search.aggregations.bucket.xygrid;
+
+import org.opensearch.test.OpenSearchTestCase;
+
+public class XYGridTilingTests extends OpenSearchTestCase {
+
+    public void testSquare_whenPoint_thenCellOfFlooredCoordinates() {
+        // Run
+        long cell = XYGridTiling.SQUARE.encode(25.5, -0.1, 10);
+
+        // Verify
+        assertEquals(2, XYGridTiling.column(cell));
+        assertEquals(-1, XYGridTiling.row(cell));
+        assertEquals("2/-1", XYGridTiling.toKeyString(cell));
+    }
+
+    public void testSquare_whenPointsOfSameCell_thenSameId() {
+        double cellSize = randomDoubleBetween(0.1, 100, true);
+        int column = randomIntBetween(-1000, 1000);
+        int row = randomIntBetween(-1000, 1000);
+
+        // Run
+        long lowerLeft = XYGridTiling.SQUARE.encode(column * cellSize + cellSize * 0.01, row * cellSize + cellSize * 0.01, cellSize);
+        long upperRight = XYGridTiling.SQUARE.encode(column * cellSize + cellSize * 0.99, row * cellSize + cellSize * 0.99, cellSize);
+
+        // Verify
+        assertEquals(XYGridTiling.encodeCell(column, row), lowerLeft);
+        assertEquals(lowerLeft, upperRight);
+    }
+
+    public void testHexagon_whenCenterOfHexagon_thenCellOfHexagon() {
+        double cellSize = randomDoubleBetween(0.1, 100, true);
+        int q = randomIntBetween(-1000, 1000);
+        int r = randomIntBetween(-1000, 1000);
+        // center of a pointy-top hexagon of axial coordinates
+        double x = cellSize * Math.sqrt(3) * (q + r / 2.0);
+        double y = cellSize * 1.5 * r;
+
+        // Run
+        long center = XYGridTiling.HEXAGON.encode(x, y, cellSize);
+        long nearCenter = XYGridTiling.HEXAGON.encode(x + cellSize * 0.8, y, cellSize);
+
+        // Verify
+        assertEquals(XYGridTiling.encodeCell(q, r), center);
+        assertEquals(center, nearCenter);
+    }
+
+    public void testHexagon_whenPointBeyondEdge_thenNeighbor() {
+        // right edge of the hexagon at the origin is at sqrt(3) / 2 of circumradius
+        double edge = Math.sqrt(3) / 2;
+
+        // Run
+        long inside = XYGridTiling.HEXAGON.encode(edge * 0.99, 0, 1);
+        long outside = XYGridTiling.HEXAGON.encode(edge * 1.01, 0, 1);
+        long above = XYGridTiling.HEXAGON.encode(0.1, 1.01, 1);
+
+        // Verify
+        assertEquals(XYGridTiling.encodeCell(0, 0), inside);
+        assertEquals(XYGridTiling.encodeCell(1, 0), outside);
+        assertEquals(XYGridTiling.encodeCell(0, 1), above);
+    }
+
+    public void testFromString_whenName_thenTiling() {
+        assertEquals(XYGridTiling.SQUARE, XYGridTiling.fromString("square"));
+        assertEquals(XYGridTiling.HEXAGON, XYGridTiling.fromString("HEXAGON"));
+        assertEquals("hexagon", XYGridTiling.HEXAGON.toString());
+        expectThrows(IllegalArgumentException.class, () -> XYGridTiling.fromString("triangle"));
+    }
+}
@@ -0,0 +1,183 @@
+/*
+ * Copyright OpenSearch Contributors
+ * SPDX-License-Identifier: Apache-2.0
+ */
+
+package org.opensearch.geospatial.search.aggregations.metrics;
+
+import static org.opensearch.geospatial.GeospatialTestHelper.randomLowerCaseString;
+
+import java.io.IOException;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.Collections;
+import java.util.List;
+
+import org.apache.lucene.document.Document;
+import org.apache.lucene.document.XYDocValuesField;
+import org.apache.lucene.document.XYShape;
+import org.apache.lucene.geo.XYPolygon;
+import org.apache.lucene.index.DirectoryReader;
+import org.apache.lucene.index.IndexReader;
+import org.apache.lucene.index.IndexableField;
+import org.apache.lucene.search.IndexSearcher;
+import org.apache.lucene.search.MatchAllDocsQuery;
+import org.apache.lucene.store.Directory;
+import org.apache.lucene.tests.index.RandomIndexWriter;
+import org.opensearch.common.CheckedConsumer;
+import org.opensearch.geospatial.index.mapper.xypoint.XYPointFieldMapper;
+import org.opensearch.geospatial.index.mapper.xyshape.XYShapeDocValuesField;
+import org.opensearch.geospatial.index.mapper.xyshape.XYShapeFieldMapper;
+import org.opensearch.geospatial.index.query.xypoint.XYPointQueryProcessor;
+import org.opensearch.geospatial.index.query.xyshape.XYShapeQueryProcessor;
+import org.opensearch.geospatial.plugin.GeospatialPlugin;
+import org.opensearch.index.mapper.GeoPointFieldMapper;
+import org.opensearch.index.mapper.MappedFieldType;
+import org.opensearch.plugins.SearchPlugin;
+import org.opensearch.search.aggregations.AggregatorTestCase;
+
+public class XYBoundsAggregatorTests extends AggregatorTestCase {
+
+    private static final String FIELD_NAME = "location";
+
+    public void testXYPoint_whenPoints_thenBoundsOfEveryPoint() throws IOException {
+        float minX = Float.POSITIVE_INFINITY;
+        float maxX = Float.NEGATIVE_INFINITY;
+        float minY = Float.POSITIVE_INFINITY;
+        float maxY = Float.NEGATIVE_INFINITY;
+        List<List<IndexableField>> documents = new ArrayList<>();
+        int documentCount = randomIntBetween(1, 50);
+        for (int i = 0; i < documentCount; i++) {
+            List<IndexableField> document = new ArrayList<>();
+            int pointCount = randomIntBetween(1, 3);
+            for (int j = 0; j < pointCount; j++) {
+                float x = (float) randomDoubleBetween(-1000, 1000, true);
+                float y = (float) randomDoubleBetween(-1000, 1000, true);
+                minX = Math.min(minX, x);
+                maxX = Math.max(maxX, x);
+                minY = Math.min(minY, y);
+                maxY = Math.max(maxY, y);
+                document.add(new XYDocValuesField(FIELD_NAME, x, y));
+            }
+            documents.add(document);
+        }
+
+        // Run
+        InternalXYBounds bounds = search(writer -> writer.addDocuments(documents), xyPointFieldType());
+
+        // Verify
+        assertFalse(bounds.isEmpty());
+        assertEquals(minX, bounds.getMinX(), 0);
+        assertEquals(maxX, bounds.getMaxX(), 0);
+        assertEquals(minY, bounds.getMinY(), 0);
+        assertEquals(maxY, bounds.getMaxY(), 0);
+    }
+
+    public void testXYShape_whenPolygons_thenBoundsOfEveryPolygon() throws IOException {
+        XYPolygon square = new XYPolygon(new float[] { 0, 10, 10, 0, 0 }, new float[] { 0, 0, 10, 10, 0 });
+        XYPolygon triangle = new XYPolygon(new float[] { -5, 3, 1, -5 }, new float[] { 2, 2, 40, 2 });
+
+        // Run
+        InternalXYBounds bounds = search(writer -> {
+            writer.addDocument(shapeDocument(square));
+            writer.addDocument(shapeDocument(triangle));
+        }, xyShapeFieldType());
+
+        // Verify
+        assertEquals(-5, bounds.getMinX(), 0);
+        assertEquals(10, bounds.getMaxX(), 0);
+        assertEquals(0, bounds.getMinY(), 0);
+        assertEquals(40, bounds.getMaxY(), 0);
+    }
+
+    public void testUnmapped_whenDocuments_thenEmpty() throws IOException {
+        XYBoundsAggregationBuilder builder = new XYBoundsAggregationBuilder(randomLowerCaseString()).field(randomLowerCaseString());
+
+        // Run
+        InternalXYBounds bounds = search(
+            writer -> writer.addDocument(Collections.singleton(new XYDocValuesField(FIELD_NAME, 1, 2))),
+            builder,
+            xyPointFieldType()
+        );
+
+        // Verify
+        assertTrue(bounds.isEmpty());
+    }
+
+    public void testInvalidFieldType_whenGeoPoint_thenException() {
+        expectThrows(
+            IllegalArgumentException.class,
+            () -> search(writer -> writer.addDocument(new Document()), new GeoPointFieldMapper.GeoPointFieldType(FIELD_NAME))
+        );
+    }
+
+    public void testReduce_whenBounds_thenUnionOfBounds() {
+        InternalXYBounds first = new InternalXYBounds(FIELD_NAME, 0, 10, -3, 4, null);
+        InternalXYBounds second = new InternalXYBounds(FIELD_NAME, -2, 5, 1, 8, null);
+        InternalXYBounds empty = InternalXYBounds.empty(FIELD_NAME, null);
+
+        // Run
+        InternalXYBounds reduced = (InternalXYBounds) first.reduce(Arrays.asList(first, second, empty), null);
+
+        // Verify
+        assertEquals(new InternalXYBounds(FIELD_NAME, -2, 10, -3, 8, null), reduced);
+        assertEquals(8.0, reduced.getProperty(List.of("top")));
+        assertEquals(-2.0, reduced.getProperty(List.of("left")));
+    }
+
+    @Override
+    protected List<SearchPlugin> getSearchPlugins() {
+        return Collections.singletonList(new GeospatialPlugin());
+    }
+
+    static MappedFieldType xyPointFieldType() {
+        return new XYPointFieldMapper.XYPointFieldType(
+            FIELD_NAME,
+            true,
+            false,
+            true,
+            Collections.emptyMap(),
+            new XYPointQueryProcessor()
+        );
+    }
+
+    static MappedFieldType xyShapeFieldType() {
+        return new XYShapeFieldMapper.XYShapeFieldType(
+            FIELD_NAME,
+            true,
+            false,
+            true,
+            Collections.emptyMap(),
+            new XYShapeQueryProcessor()
+        );
+    }
+
+    static Document shapeDocument(XYPolygon polygon) {
+        Document document = new Document();
+        XYShapeDocValuesField docValuesField = new XYShapeDocValuesField(FIELD_NAME);
+        docValuesField.add(Arrays.asList(XYShape.createIndexableFields(FIELD_NAME, polygon)));
+        document.add(docValuesField);
+        return document;
+    }
+
+    private InternalXYBounds search(CheckedConsumer<RandomIndexWriter, IOException> buildIndex, MappedFieldType fieldType)
+        throws IOException {
+        return search(buildIndex, new XYBoundsAggregationBuilder(randomLowerCaseString()).field(FIELD_NAME), fieldType);
+    }
+
+    private InternalXYBounds search(
+        CheckedConsumer<RandomIndexWriter, IOException> buildIndex,
+        XYBoundsAggregationBuilder builder,
+        MappedFieldType fieldType
+    ) throws IOException {
+        try (Directory directory = newDirectory()) {
+            try (RandomIndexWriter writer = new RandomIndexWriter(random(), directory)) {
+                buildIndex.accept(writer);
+            }
+            try (IndexReader reader = DirectoryReader.open(directory)) {
+                IndexSearcher searcher = newSearcher(reader, true, true);
+                return searchAndReduce(searcher, new MatchAllDocsQuery(), builder, fieldType);
+            }
+        }
+    }
+}
@@ -0,0 +1,145 @@
+/*
+ * Copyright OpenSearch Contributors
+ * SPDX-License-Identifier: Apache-2.0
+ */
+
+package org.opensearch.geospatial.search.aggregations.metrics;
+
+import static org.opensearch.geospatial.GeospatialTestHelper.randomLowerCaseString;
+import static org.opensearch.geospatial.search.aggregations.metrics.XYBoundsAggregatorTests.shapeDocument;
+import static org.opensearch.geospatial.search.aggregations.metrics.XYBoundsAggregatorTests.xyPointFieldType;
+import static org.opensearch.geospatial.search.aggregations.metrics.XYBoundsAggregatorTests.xyShapeFieldType;
+
+import java.io.IOException;
+import java.util.Arrays;
+import java.util.Collections;
+import java.util.List;
+
+import org.apache.lucene.document.Document;
+import org.apache.lucene.document.XYDocValuesField;
+import org.apache.lucene.document.XYShape;
+import org.apache.lucene.geo.XYLine;
+import org.apache.lucene.geo.XYPolygon;
+import org.apache.lucene.index.DirectoryReader;
+import org.apache.lucene.index.IndexReader;
+import org.apache.lucene.search.IndexSearcher;
+import org.apache.lucene.search.MatchAllDocsQuery;
+import org.apache.lucene.store.Directory;
+import org.apache.lucene.tests.index.RandomIndexWriter;
+import org.opensearch.common.CheckedConsumer;
+import org.opensearch.geospatial.index.mapper.xyshape.XYShapeDocValuesField;
+import org.opensearch.geospatial.plugin.GeospatialPlugin;
+import org.opensearch.index.mapper.MappedFieldType;
+import org.opensearch.plugins.SearchPlugin;
+import org.opensearch.search.aggregations.AggregatorTestCase;
+
+public class XYCentroidAggregatorTests extends AggregatorTestCase {
+
+    private static final String FIELD_NAME = "location";
+    private static final double DELTA = 1e-5;
+
+    public void testXYPoint_whenPoints_thenMeanOfEveryPoint() throws IOException {
+        int pointCount = randomIntBetween(1, 100);
+        float[] xs = new float[pointCount];
+        float[] ys = new float[pointCount];
+        double sumOfX = 0;
+        double sumOfY = 0;
+        for (int i = 0; i < pointCount; i++) {
+            xs[i] = (float) randomDoubleBetween(-1000, 1000, true);
+            ys[i] = (float) randomDoubleBetween(-1000, 1000, true);
+            sumOfX += xs[i];
+            sumOfY += ys[i];
+        }
+
+        // Run
+        InternalXYCentroid centroid = search(writer -> {
+            for (int i = 0; i < pointCount; i++) {
+                writer.addDocument(Collections.singleton(new XYDocValuesField(FIELD_NAME, xs[i], ys[i])));
+            }
+        }, xyPointFieldType());
+
+        // Verify
+        assertEquals(pointCount, centroid.getCount());
+        assertEquals(sumOfX / pointCount, centroid.getX(), DELTA);
+        assertEquals(sumOfY / pointCount, centroid.getY(), DELTA);
+    }
+
+    public void testXYShape_whenPolygonsAndLine_thenCentroidOfPolygonsWeightedByArea() throws IOException {
+        XYPolygon large = new XYPolygon(new float[] { 0, 10, 10, 0, 0 }, new float[] { 0, 0, 10, 10, 0 });
+        XYPolygon small = new XYPolygon(new float[] { 20, 22, 22, 20, 20 }, new float[] { 0, 0, 2, 2, 0 });
+        XYLine line = new XYLine(new float[] { 100, 200 }, new float[] { 100, 200 });
+
+        // Run
+        InternalXYCentroid centroid = search(writer -> {
+            writer.addDocument(shapeDocument(large));
+            writer.addDocument(shapeDocument(small));
+            Document lineDocument = new Document();
+            XYShapeDocValuesField docValuesField = new XYShapeDocValuesField(FIELD_NAME);
+            docValuesField.add(Arrays.asList(XYShape.createIndexableFields(FIELD_NAME, line)));
+            lineDocument.add(docValuesField);
+            writer.addDocument(lineDocument);
+        }, xyShapeFieldType());
+
+        // Verify
+        assertEquals(3, centroid.getCount());
+        assertEquals((5 * 100 + 21 * 4) / 104.0, centroid.getX(), DELTA);
+        assertEquals((5 * 100 + 1 * 4) / 104.0, centroid.getY(), DELTA);
+    }
+
+    public void testUnmapped_whenDocuments_thenEmpty() throws IOException {
+        XYCentroidAggregationBuilder builder = new XYCentroidAggregationBuilder(randomLowerCaseString()).field(randomLowerCaseString());
+
+        // Run
+        InternalXYCentroid centroid = search(
+            writer -> writer.addDocument(Collections.singleton(new XYDocValuesField(FIELD_NAME, 1, 2))),
+            builder,
+            xyPointFieldType()
+        );
+
+        // Verify
+        assertEquals(0, centroid.getCount());
+        assertTrue(Double.isNaN(centroid.getX()));
+    }
+
+    public void testReduce_whenDifferentDimensions_thenWeightedCentroidOfHighestDimension() {
+        InternalXYCentroid points = new InternalXYCentroid(FIELD_NAME, 100, 100, 3, 0, 3, null);
+        InternalXYCentroid polygon = new InternalXYCentroid(FIELD_NAME, 0, 0, 1, 2, 1, null);
+        InternalXYCentroid otherPolygon = new InternalXYCentroid(FIELD_NAME, 4, 8, 3, 2, 2, null);
+        InternalXYCentroid empty = InternalXYCentroid.empty(FIELD_NAME, null);
+
+        // Run
+        InternalXYCentroid reduced = (InternalXYCentroid) points.reduce(List.of(points, polygon, otherPolygon, empty), null);
+
+        // Verify
+        assertEquals(6, reduced.getCount());
+        assertEquals(3, reduced.getX(), DELTA);
+        assertEquals(6, reduced.getY(), DELTA);
+        assertEquals(6L, reduced.getProperty(List.of("count")));
+    }
+
+    @Override
+    protected List<SearchPlugin> getSearchPlugins() {
+        return Collections.singletonList(new GeospatialPlugin());
+    }
+
+    private InternalXYCentroid search(CheckedConsumer<RandomIndexWriter, IOException> buildIndex, MappedFieldType fieldType)
+        throws IOException {
+        return search(buildIndex, new XYCentroidAggregationBuilder(randomLowerCaseString()).field(FIELD_NAME), fieldType);
+    }
+
+    private InternalXYCentroid search(
+        CheckedConsumer<RandomIndexWriter, IOException> buildIndex,
+        XYCentroidAggregationBuilder builder,
+        MappedFieldType fieldType
+    ) throws IOException {
+        try (Directory directory = newDirectory()) {
+            try (RandomIndexWriter writer = new RandomIndexWriter(random(), directory)) {
+                buildIndex.accept(writer);
+            }
+            try (IndexReader reader = DirectoryReader.open(directory)) {
+                IndexSearcher searcher = newSearcher(reader, true, true);
+                return searchAndReduce(searcher, new MatchAllDocsQuery(), builder, fieldType);
+            }
+        }
+    }
+}
@@ -0,0 +1,96 @@
+/*
+ * Copyright OpenSearch Contributors
+ * SPDX-License-Identifier: Apache-2.0
+ */
+
+package org.opensearch.geospatial.search.fetch;
+
+import java.io.IOException;
+import java.util.ArrayList;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+
+import org.opensearch.common.xcontent.XContentType;
+import org.opensearch.core.common.bytes.BytesArray;
+import org.opensearch.core.common.bytes.BytesReference;
+import org.opensearch.core.common.bytes.CompositeBytesReference;
+import org.opensearch.core.xcontent.MediaTypeRegistry;
+import org.opensearch.core.xcontent.XContentBuilder;
+import org.opensearch.geospatial.encoding.CompactGeometryEncoding;
+import org.opensearch.search.SearchHit;
+import org.opensearch.test.OpenSearchTestCase;
+
+public class CompactGeometryFetchSubPhaseTests extends OpenSearchTestCase {
+
+    private static final Map<String, Object> POINT = Map.of("type", "Point", "coordinates", List.of(1.5, 2.5));
+    private static final Map<String, Object> LINE = Map.of(
+        "type",
+        "LineString",
+        "coordinates",
+        List.of(List.of(0.0, 0.0), List.of(1.0, 1.0))
+    );
+
+    public void testExpand_whenCompactGeometries_thenGeoJSONGeometries() {
+        Map<String, Object> source = new HashMap<>();
+        source.put("location", CompactGeometryEncoding.encode(POINT));
+        source.put("name", CompactGeometryEncoding.PREFIX + "not a geometry field");
+        Map<String, Object> parcel = new HashMap<>();
+        parcel.put("shape", new ArrayList<>(List.of(CompactGeometryEncoding.encode(LINE), "POINT (1 2)")));
+        source.put("parcels", List.of(parcel));
+
+        // Run
+        boolean expanded = CompactGeometryFetchSubPhase.expand(
+            source,
+            List.of(new String[] { "location" }, new String[] { "parcels", "shape" })
+        );
+
+        // Verify
+        assertTrue(expanded);
+        assertEquals(POINT, source.get("location"));
+        assertEquals(List.of(LINE, "POINT (1 2)"), parcel.get("shape"));
+        assertEquals(CompactGeometryEncoding.PREFIX + "not a geometry field", source.get("name"));
+    }
+
+    public void testExpand_whenGeoJSONGeometriesOrMissingFields_thenNothingIsExpanded() {
+        Map<String, Object> source = new HashMap<>(Map.of("location", POINT, "name", "value"));
+
+        // Run
+        boolean expanded = CompactGeometryFetchSubPhase.expand(
+            source,
+            List.of(new String[] { "location" }, new String[] { "missing", "shape" }, new String[] { "name", "shape" })
+        );
+
+        // Verify
+        assertFalse(expanded);
+        assertEquals(POINT, source.get("location"));
+    }
+
+    public void testContainsPrefix_whenSourceBytes_thenScannedWithoutDecoding() {
+        String encoded = CompactGeometryEncoding.encode(POINT);
+        BytesReference compact = new BytesArray("{\"name\":\"wk\",\"location\":\"" + encoded + "\"}");
+        // prefix split across pages of a composite reference
+        BytesReference split = CompositeBytesReference.of(new BytesArray("{\"location\":\"wk"), new BytesArray("b:AAAA\"}"));
+
+        // Verify
+        assertTrue(CompactGeometryFetchSubPhase.containsPrefix(compact));
+        assertTrue(CompactGeometryFetchSubPhase.containsPrefix(split));
+        assertFalse(CompactGeometryFetchSubPhase.containsPrefix(new BytesArray("{\"location\":\"POINT (1 2)\",\"name\":\"wkb\"}")));
+        assertFalse(CompactGeometryFetchSubPhase.containsPrefix(new BytesArray("wk")));
+        assertFalse(CompactGeometryFetchSubPhase.containsPrefix(BytesArray.EMPTY));
+    }
+
+    public void testExpand_whenHitSourceIsNotJSON_thenContentTypeIsKept() throws IOException {
+        XContentType xContentType = randomFrom(XContentType.SMILE, XContentType.CBOR);
+        Map<String, Object> source = Map.of("name", "point", "location", CompactGeometryEncoding.encode(POINT));
+        SearchHit hit = new SearchHit(randomInt());
+        hit.sourceRef(BytesReference.bytes(XContentBuilder.builder(xContentType.xContent()).map(source)));
+
+        // Run
+        CompactGeometryFetchSubPhase.expand(hit, List.<String[]>of(new String[] { "location" }));
+
+        // Verify
+        assertEquals(xContentType, MediaTypeRegistry.xContentType(hit.getSourceRef()));
+        assertEquals(Map.of("name", "point", "location", POINT), hit.getSourceAsMap());
+    }
+}
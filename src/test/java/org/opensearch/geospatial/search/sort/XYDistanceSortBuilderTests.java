@@ -0,0 +1,249 @@
+/*
+ * Copyright OpenSearch Contributors
+ * SPDX-License-Identifier: Apache-2.0
+ */
+
+package org.opensearch.geospatial.search.sort;
+
+import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.when;
+
+import java.io.IOException;
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.List;
+
+import org.apache.lucene.document.Document;
+import org.apache.lucene.document.StoredField;
+import org.apache.lucene.document.XYDocValuesField;
+import org.apache.lucene.index.DirectoryReader;
+import org.apache.lucene.index.IndexReader;
+import org.apache.lucene.search.FieldDoc;
+import org.apache.lucene.search.IndexSearcher;
+import org.apache.lucene.search.MatchAllDocsQuery;
+import org.apache.lucene.search.ScoreDoc;
+import org.apache.lucene.search.Sort;
+import org.apache.lucene.search.TopDocs;
+import org.apache.lucene.search.TopFieldDocs;
+import org.apache.lucene.store.Directory;
+import org.apache.lucene.tests.index.RandomIndexWriter;
+import org.opensearch.common.io.stream.BytesStreamOutput;
+import org.opensearch.common.lucene.Lucene;
+import org.opensearch.common.lucene.search.TopDocsAndMaxScore;
+import org.opensearch.common.xcontent.json.JsonXContent;
+import org.opensearch.core.common.io.stream.NamedWriteableRegistry;
+import org.opensearch.core.common.io.stream.StreamInput;
+import org.opensearch.core.xcontent.ToXContent;
+import org.opensearch.core.xcontent.XContentBuilder;
+import org.opensearch.core.xcontent.XContentParser;
+import org.opensearch.geospatial.index.mapper.xypoint.XYPointFieldMapper;
+import org.opensearch.geospatial.index.query.xypoint.XYPointQueryProcessor;
+import org.opensearch.index.mapper.GeoPointFieldMapper;
+import org.opensearch.index.mapper.MappedFieldType;
+import org.opensearch.index.query.QueryShardContext;
+import org.opensearch.search.sort.SortFieldAndFormat;
+import org.opensearch.search.sort.SortMode;
+import org.opensearch.search.sort.SortOrder;
+import org.opensearch.test.OpenSearchTestCase;
+
+public class XYDistanceSortBuilderTests extends OpenSearchTestCase {
+
+    private static final String FIELD_NAME = "location";
+    private static final String ID_FIELD_NAME = "id";
+
+    public void testBuild_whenAscendingMin_thenNearestFirst() throws IOException {
+        XYDistanceSortBuilder sortBuilder = new XYDistanceSortBuilder(FIELD_NAME, 0, 0);
+
+        // Run
+        List<String> ids = sortedIds(sortBuilder, mockContext(xyPointFieldType(true)));
+
+        // Verify
+        assertEquals(List.of("near", "middle", "far", "missing"), ids);
+    }
+
+    public void testBuild_whenDescendingMax_thenFarthestPointFirst() throws IOException {
+        XYDistanceSortBuilder sortBuilder = new XYDistanceSortBuilder(FIELD_NAME, 0, 0).sortMode(SortMode.MAX);
+        sortBuilder.order(SortOrder.DESC);
+
+        // Run
+        List<String> ids = sortedIds(sortBuilder, mockContext(xyPointFieldType(true)));
+
+        // Verify, farthest point of "middle" is farther than the only point of "far"
+        assertEquals(List.of("middle", "far", "near", "missing"), ids);
+    }
+
+    public void testBuild_whenUnmappedIgnored_thenEveryDocumentMissing() throws IOException {
+        XYDistanceSortBuilder sortBuilder = new XYDistanceSortBuilder(FIELD_NAME, 0, 0).ignoreUnmapped(true);
+
+        // Run
+        SortFieldAndFormat sortFieldAndFormat = sortBuilder.build(mockContext(null));
+
+        // Verify
+        assertNotNull(sortFieldAndFormat.field);
+    }
+
+    public void testBuild_whenInvalidField_thenException() {
+        XYDistanceSortBuilder sortBuilder = new XYDistanceSortBuilder(FIELD_NAME, 0, 0);
+        expectThrows(IllegalArgumentException.class, () -> sortBuilder.build(mockContext(null)));
+        expectThrows(
+            IllegalArgumentException.class,
+            () -> sortBuilder.build(mockContext(new GeoPointFieldMapper.GeoPointFieldType(FIELD_NAME)))
+        );
+        expectThrows(IllegalArgumentException.class, () -> sortBuilder.build(mockContext(xyPointFieldType(false))));
+    }
+
+    public void testSortMode_whenSum_thenException() {
+        XYDistanceSortBuilder sortBuilder = new XYDistanceSortBuilder(FIELD_NAME, 0, 0);
+        expectThrows(IllegalArgumentException.class, () -> sortBuilder.sortMode(SortMode.SUM));
+    }
+
+    public void testFromXContent_whenToXContent_thenSameBuilder() throws IOException {
+        XYDistanceSortBuilder sortBuilder = new XYDistanceSortBuilder(
+            FIELD_NAME,
+            randomDoubleBetween(-1000, 1000, true),
+            randomDoubleBetween(-1000, 1000, true)
+        ).sortMode(randomFrom(SortMode.MIN, SortMode.MAX, SortMode.AVG, SortMode.MEDIAN)).ignoreUnmapped(randomBoolean());
+        sortBuilder.order(randomFrom(SortOrder.values()));
+        XContentBuilder builder = sortBuilder.toXContent(JsonXContent.contentBuilder(), ToXContent.EMPTY_PARAMS);
+
+        // Run
+        XYDistanceSortBuilder parsed;
+        try (XContentParser parser = createParser(builder)) {
+            assertEquals(XContentParser.Token.START_OBJECT, parser.nextToken());
+            assertEquals(XContentParser.Token.FIELD_NAME, parser.nextToken());
+            assertEquals(XContentParser.Token.START_OBJECT, parser.nextToken());
+            parsed = XYDistanceSortBuilder.fromXContent(parser, XYDistanceSortBuilder.NAME);
+        }
+
+        // Verify
+        assertEquals(sortBuilder, parsed);
+    }
+
+    public void testFromXContent_whenOriginAsArray_thenOrigin() throws IOException {
+        String json = "{\"location\": [10.5, -3], \"order\": \"desc\"}";
+
+        // Run
+        XYDistanceSortBuilder parsed;
+        try (XContentParser parser = createParser(JsonXContent.jsonXContent, json)) {
+            parser.nextToken();
+            parsed = XYDistanceSortBuilder.fromXContent(parser, XYDistanceSortBuilder.NAME);
+        }
+
+        // Verify
+        assertEquals(FIELD_NAME, parsed.fieldName());
+        assertEquals(10.5, parsed.x(), 0);
+        assertEquals(-3, parsed.y(), 0);
+        assertEquals(SortOrder.DESC, parsed.order());
+        assertEquals(SortMode.MIN, parsed.sortMode());
+    }
+
+    public void testStreams_whenWriteAndRead_thenSameBuilder() throws IOException {
+        XYDistanceSortBuilder sortBuilder = new XYDistanceSortBuilder(FIELD_NAME, 1, 2).sortMode(SortMode.AVG).ignoreUnmapped(true);
+        sortBuilder.order(SortOrder.DESC);
+
+        // Run
+        XYDistanceSortBuilder copy = copyWriteable(
+            sortBuilder,
+            new NamedWriteableRegistry(Collections.emptyList()),
+            XYDistanceSortBuilder::new
+        );
+
+        // Verify
+        assertEquals(sortBuilder, copy);
+        assertEquals(sortBuilder.hashCode(), copy.hashCode());
+    }
+
+    public void testBuild_whenAscendingMin_thenSameSortValuesAsLuceneDistanceSort() throws IOException {
+        XYDistanceSortBuilder sortBuilder = new XYDistanceSortBuilder(FIELD_NAME, 2, 3);
+        SortFieldAndFormat sortFieldAndFormat = sortBuilder.build(mockContext(xyPointFieldType(true)));
+        try (Directory directory = newDirectory()) {
+            indexDocuments(directory);
+            try (IndexReader reader = DirectoryReader.open(directory)) {
+                IndexSearcher searcher = newSearcher(reader);
+
+                // Run
+                TopFieldDocs topDocs = searcher.search(new MatchAllDocsQuery(), 10, new Sort(sortFieldAndFormat.field));
+                TopFieldDocs expected = searcher.search(
+                    new MatchAllDocsQuery(),
+                    10,
+                    new Sort(XYDocValuesField.newDistanceSort(FIELD_NAME, 2, 3))
+                );
+
+                // Verify
+                assertEquals(expected.scoreDocs.length, topDocs.scoreDocs.length);
+                for (int i = 0; i < expected.scoreDocs.length; i++) {
+                    assertEquals(expected.scoreDocs[i].doc, topDocs.scoreDocs[i].doc);
+                    assertArrayEquals(((FieldDoc) expected.scoreDocs[i]).fields, ((FieldDoc) topDocs.scoreDocs[i]).fields);
+                }
+                assertEquals(Double.POSITIVE_INFINITY, ((FieldDoc) topDocs.scoreDocs[3]).fields[0]);
+            }
+        }
+    }
+
+    private List<String> sortedIds(XYDistanceSortBuilder sortBuilder, QueryShardContext context) throws IOException {
+        SortFieldAndFormat sortFieldAndFormat = sortBuilder.build(context);
+        try (Directory directory = newDirectory()) {
+            indexDocuments(directory);
+            try (IndexReader reader = DirectoryReader.open(directory)) {
+                IndexSearcher searcher = newSearcher(reader);
+                TopFieldDocs topDocs = searcher.search(new MatchAllDocsQuery(), 10, new Sort(sortFieldAndFormat.field));
+                assertSerializable(topDocs);
+                List<String> ids = new ArrayList<>();
+                for (ScoreDoc scoreDoc : topDocs.scoreDocs) {
+                    assertTrue(scoreDoc instanceof FieldDoc);
+                    ids.add(searcher.storedFields().document(scoreDoc.doc).get(ID_FIELD_NAME));
+                }
+                return ids;
+            }
+        }
+    }
+
+    private void indexDocuments(Directory directory) throws IOException {
+        try (RandomIndexWriter writer = new RandomIndexWriter(random(), directory)) {
+            writer.addDocument(document("near", 1, 1));
+            writer.addDocument(document("middle", 5, 0, 0, 100));
+            writer.addDocument(document("far", 50, 50));
+            writer.addDocument(document("missing"));
+        }
+    }
+
+    // top docs of a shard are sent to the coordinating node, which may be another node
+    private static void assertSerializable(TopFieldDocs topDocs) throws IOException {
+        try (BytesStreamOutput output = new BytesStreamOutput()) {
+            Lucene.writeTopDocs(output, new TopDocsAndMaxScore(topDocs, Float.NaN));
+            try (StreamInput input = output.bytes().streamInput()) {
+                TopDocs copy = Lucene.readTopDocs(input).topDocs;
+                assertEquals(topDocs.scoreDocs.length, copy.scoreDocs.length);
+                for (int i = 0; i < topDocs.scoreDocs.length; i++) {
+                    assertArrayEquals(((FieldDoc) topDocs.scoreDocs[i]).fields, ((FieldDoc) copy.scoreDocs[i]).fields);
+                }
+            }
+        }
+    }
+
+    private static Document document(String id, float... coordinates) {
+        Document document = new Document();
+        document.add(new StoredField(ID_FIELD_NAME, id));
+        for (int i = 0; i < coordinates.length; i += 2) {
+            document.add(new XYDocValuesField(FIELD_NAME, coordinates[i], coordinates[i + 1]));
+        }
+        return document;
+    }
+
+    private static QueryShardContext mockContext(MappedFieldType fieldType) {
+        QueryShardContext context = mock(QueryShardContext.class);
+        when(context.fieldMapper(FIELD_NAME)).thenReturn(fieldType);
+        return context;
+    }
+
+    private static XYPointFieldMapper.XYPointFieldType xyPointFieldType(boolean hasDocValues) {
+        return new XYPointFieldMapper.XYPointFieldType(
+            FIELD_NAME,
+            true,
+            false,
+            hasDocValues,
+            Collections.emptyMap(),
+            new XYPointQueryProcessor()
+        );
+    }
+}
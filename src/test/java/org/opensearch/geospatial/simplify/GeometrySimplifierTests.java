@@ -0,0 +1,136 @@
+/*
+ * Copyright OpenSearch Contributors
+ * SPDX-License-Identifier: Apache-2.0
+ */
+
+package org.opensearch.geospatial.simplify;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Map;
+
+import org.opensearch.geometry.Circle;
+import org.opensearch.geometry.Geometry;
+import org.opensearch.geometry.Line;
+import org.opensearch.geometry.LinearRing;
+import org.opensearch.geometry.Polygon;
+import org.opensearch.geometry.Rectangle;
+import org.opensearch.test.OpenSearchTestCase;
+
+public class GeometrySimplifierTests extends OpenSearchTestCase {
+
+    private static final double SIZE = 100;
+    private static final double JITTER = 0.01;
+
+    // square ring of given size whose edges have vertices at every unit, moved by jitter alternately
+    static List<List<Double>> jaggedSquare(double minX, double minY, double size) {
+        List<List<Double>> ring = new ArrayList<>();
+        double[][] corners = { { minX, minY }, { minX + size, minY }, { minX + size, minY + size }, { minX, minY + size } };
+        for (int edge = 0; edge < corners.length; edge++) {
+            double[] from = corners[edge];
+            double[] to = corners[(edge + 1) % corners.length];
+            for (int i = 0; i < size; i++) {
+                double fraction = i / size;
+                double jitter = i % 2 == 0 ? 0 : JITTER;
+                ring.add(List.of(from[0] + (to[0] - from[0]) * fraction + jitter, from[1] + (to[1] - from[1]) * fraction + jitter));
+            }
+        }
+        ring.add(ring.get(0));
+        return ring;
+    }
+
+    private static LinearRing toLinearRing(List<List<Double>> ring) {
+        double[] x = ring.stream().mapToDouble(position -> position.get(0)).toArray();
+        double[] y = ring.stream().mapToDouble(position -> position.get(1)).toArray();
+        return new LinearRing(x, y);
+    }
+
+    public void testSimplify_whenGeoJSONPolygonWithHole_thenVerticesAreReducedAndHoleIsKept() {
+        GeometrySimplifier simplifier = new GeometrySimplifier(JITTER * 10);
+        List<List<Double>> shell = jaggedSquare(0, 0, SIZE);
+        List<List<Double>> hole = jaggedSquare(SIZE / 4, SIZE / 4, SIZE / 2);
+        Map<String, Object> polygon = Map.of("type", "Polygon", "coordinates", List.of(shell, hole));
+
+        // Run
+        SimplifiedGeometry<Map<String, Object>> simplified = simplifier.simplify(polygon);
+
+        // Verify
+        assertEquals(shell.size() + hole.size(), simplified.getVertexCount());
+        assertEquals(10, simplified.getSimplifiedVertexCount());
+        assertEquals("Polygon", simplified.getGeometry().get("type"));
+        List<?> rings = (List<?>) simplified.getGeometry().get("coordinates");
+        assertEquals(2, rings.size());
+        assertEquals(5, ((List<?>) rings.get(0)).size());
+        assertEquals(5, ((List<?>) rings.get(1)).size());
+    }
+
+    public void testSimplify_whenGeoJSONLineWithAltitude_thenAltitudeIsKept() {
+        GeometrySimplifier simplifier = new GeometrySimplifier(1);
+        Map<String, Object> line = Map.of(
+            "type",
+            "LineString",
+            "coordinates",
+            List.of(List.of(0.0, 0.0, 5.0), List.of(5.0, 0.1, 6.0), List.of(10.0, 0.0, 7.0))
+        );
+
+        // Run
+        SimplifiedGeometry<Map<String, Object>> simplified = simplifier.simplify(line);
+
+        // Verify
+        assertEquals(3, simplified.getVertexCount());
+        assertEquals(2, simplified.getSimplifiedVertexCount());
+        assertEquals(List.of(List.of(0.0, 0.0, 5.0), List.of(10.0, 0.0, 7.0)), simplified.getGeometry().get("coordinates"));
+    }
+
+    public void testSimplify_whenGeoJSONGeometryCannotBeSimplified_thenSameGeometry() {
+        GeometrySimplifier simplifier = new GeometrySimplifier(1);
+        Map<String, Object> envelope = Map.of("type", "envelope", "coordinates", List.of(List.of(0.0, 1.0), List.of(1.0, 0.0)));
+        Map<String, Object> collection = Map.of("type", "GeometryCollection", "geometries", List.of(envelope));
+
+        assertSame(envelope, simplifier.simplify(envelope).getGeometry());
+        assertSame(collection, simplifier.simplify(collection).getGeometry());
+        assertEquals(0, simplifier.simplify(collection).getVertexCount());
+        expectThrows(IllegalArgumentException.class, () -> simplifier.simplify(Map.of("type", "Point", "coordinates", "invalid")));
+    }
+
+    public void testSimplify_whenXYShapePolygon_thenVerticesAreReduced() {
+        GeometrySimplifier simplifier = new GeometrySimplifier(JITTER * 10);
+        LinearRing shell = toLinearRing(jaggedSquare(0, 0, SIZE));
+
+        // Run
+        SimplifiedGeometry<Geometry> simplified = simplifier.simplify(new Polygon(shell));
+
+        // Verify
+        assertEquals(shell.length(), simplified.getVertexCount());
+        assertEquals(5, simplified.getSimplifiedVertexCount());
+        assertTrue(simplified.getGeometry() instanceof Polygon);
+        assertEquals(5, ((Polygon) simplified.getGeometry()).getPolygon().length());
+    }
+
+    public void testSimplify_whenXYShapeLine_thenEndsAreKept() {
+        GeometrySimplifier simplifier = new GeometrySimplifier(1);
+        Line line = new Line(new double[] { 0, 5, 10 }, new double[] { 0, 0.1, 0 });
+
+        // Run
+        SimplifiedGeometry<Geometry> simplified = simplifier.simplify(line);
+
+        // Verify
+        assertEquals(new Line(new double[] { 0, 10 }, new double[] { 0, 0 }), simplified.getGeometry());
+    }
+
+    public void testSimplify_whenXYShapeCannotBeSimplified_thenSameGeometry() {
+        GeometrySimplifier simplifier = new GeometrySimplifier(1);
+        Circle circle = new Circle(1, 2, 3);
+        Rectangle rectangle = new Rectangle(0, 10, 10, 0);
+
+        assertSame(circle, simplifier.simplify(circle).getGeometry());
+        assertSame(rectangle, simplifier.simplify(rectangle).getGeometry());
+    }
+
+    public void testConstructor_whenInvalidTolerance_thenException() {
+        expectThrows(IllegalArgumentException.class, () -> new GeometrySimplifier(0));
+        expectThrows(IllegalArgumentException.class, () -> new GeometrySimplifier(-1));
+        expectThrows(IllegalArgumentException.class, () -> new GeometrySimplifier(Double.NaN));
+        expectThrows(IllegalArgumentException.class, () -> new GeometrySimplifier(Double.POSITIVE_INFINITY));
+    }
+}
@@ -0,0 +1,93 @@
+/*
+ * Copyright OpenSearch Contributors
+ * SPDX-License-Identifier: Apache-2.0
+ */
+
+package org.opensearch.geospatial.stats.upload;
+
+import java.io.IOException;
+import java.util.stream.LongStream;
+
+import org.opensearch.common.io.stream.BytesStreamOutput;
+import org.opensearch.core.common.io.stream.StreamInput;
+import org.opensearch.test.OpenSearchTestCase;
+
+public class DurationHistogramTests extends OpenSearchTestCase {
+
+    public void testBucketIndex_whenValue_thenValueIsWithinBucket() {
+        for (int i = 0; i < 1000; i++) {
+            long value = randomBoolean() ? randomLongBetween(0, 10_000) : randomNonNegativeLong();
+
+            // Run
+            int index = DurationHistogram.bucketIndex(value);
+
+            // Verify
+            assertTrue(index < DurationHistogram.NUMBER_OF_BUCKETS);
+            assertTrue(DurationHistogram.lowestValue(index) <= value);
+            assertTrue(DurationHistogram.highestValue(index) >= value);
+        }
+        assertEquals(DurationHistogram.NUMBER_OF_BUCKETS - 1, DurationHistogram.bucketIndex(Long.MAX_VALUE));
+    }
+
+    public void testGetPercentile_whenDurationsAreRecorded_thenReturnPercentileWithinError() {
+        DurationHistogram histogram = new DurationHistogram();
+        LongStream.rangeClosed(1, 1000).forEach(histogram::record);
+
+        // Run
+        long p50 = histogram.getPercentile(50);
+        long p99 = histogram.getPercentile(99);
+
+        // Verify
+        assertEquals(1000, histogram.getCount());
+        assertTrue(p50 >= 500 && p50 <= 500 * 1.125);
+        assertTrue(p99 >= 990 && p99 <= 990 * 1.125);
+        assertEquals(1, histogram.getPercentile(0));
+    }
+
+    public void testGetPercentile_whenSmallDurations_thenReturnExactValue() {
+        DurationHistogram histogram = new DurationHistogram();
+        histogram.record(1);
+        histogram.record(2);
+        histogram.record(-3);
+
+        assertEquals(0, histogram.getPercentile(10));
+        assertEquals(2, histogram.getPercentile(100));
+        assertEquals(0, new DurationHistogram().getPercentile(99));
+        expectThrows(IllegalArgumentException.class, () -> histogram.getPercentile(101));
+    }
+
+    public void testAdd_whenOtherHistogram_thenMergeCounts() {
+        DurationHistogram histogram = new DurationHistogram();
+        histogram.record(10);
+        DurationHistogram other = new DurationHistogram();
+        other.record(20_000);
+        other.record(20_000);
+
+        // Run
+        histogram.add(other);
+
+        // Verify
+        assertEquals(3, histogram.getCount());
+        assertEquals(10, histogram.getPercentile(33));
+        assertEquals(DurationHistogram.highestValue(DurationHistogram.bucketIndex(20_000)), histogram.getPercentile(50));
+    }
+
+    public void testStreams() throws IOException {
+        DurationHistogram histogram = new DurationHistogram();
+        int durationCount = randomIntBetween(1, 100);
+        for (int i = 0; i < durationCount; i++) {
+            histogram.record(randomNonNegativeLong());
+        }
+        BytesStreamOutput output = new BytesStreamOutput();
+        histogram.writeTo(output);
+        StreamInput in = StreamInput.wrap(output.bytes().toBytesRef().bytes);
+
+        // Run
+        DurationHistogram serializedHistogram = DurationHistogram.fromStreamInput(in);
+
+        // Verify
+        assertEquals(histogram.getCount(), serializedHistogram.getCount());
+        assertEquals(histogram.getPercentile(50), serializedHistogram.getPercentile(50));
+        assertEquals(histogram.getPercentile(95), serializedHistogram.getPercentile(95));
+    }
+}
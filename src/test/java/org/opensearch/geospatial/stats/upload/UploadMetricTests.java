@@ -11,12 +11,14 @@ import static org.opensearch.geospatial.GeospatialTestHelper.randomLowerCaseStri
 
 import java.io.IOException;
 
+import org.opensearch.Version;
 import org.opensearch.common.io.stream.BytesStreamOutput;
 import org.opensearch.common.xcontent.XContentType;
 import org.opensearch.core.common.Strings;
 import org.opensearch.core.common.io.stream.StreamInput;
 import org.opensearch.geospatial.GeospatialTestHelper;
 import org.opensearch.test.OpenSearchTestCase;
+import org.opensearch.test.VersionUtils;
 
 public class UploadMetricTests extends OpenSearchTestCase {
 
@@ -79,6 +81,25 @@ public class UploadMetricTests extends OpenSearchTestCase {
         assertTrue(metricAsString.contains(buildFieldNameValuePair(UploadMetric.FIELDS.SUCCESS, actualMetric.getSuccessCount())));
     }
 
+    public void testToXContent_whenGeometriesAreSimplified_thenVertexCountsArePresent() {
+        UploadMetric metric = new UploadMetric.UploadMetricBuilder(randomLowerCaseString(), GEOJSON).uploadCount(1)
+            .vertexCount(100)
+            .simplifiedVertexCount(10)
+            .build();
+
+        // Run
+        String metricAsString = Strings.toString(XContentType.JSON, metric);
+
+        // Verify
+        assertTrue(metricAsString.contains(buildFieldNameValuePair(UploadMetric.FIELDS.VERTICES, 100)));
+        assertTrue(metricAsString.contains(buildFieldNameValuePair(UploadMetric.FIELDS.SIMPLIFIED_VERTICES, 10)));
+        String notSimplified = Strings.toString(
+            XContentType.JSON,
+            new UploadMetric.UploadMetricBuilder(randomLowerCaseString(), GEOJSON).uploadCount(1).build()
+        );
+        assertFalse(notSimplified.contains(UploadMetric.FIELDS.VERTICES.toString()));
+    }
+
     public void testStreams() throws IOException {
         UploadMetric actualMetric = GeospatialTestHelper.generateRandomUploadMetric();
         BytesStreamOutput output = new BytesStreamOutput();
@@ -119,4 +140,31 @@ public class UploadMetricTests extends OpenSearchTestCase {
         );
     }
 
+
+    public void testStreams_whenPreviousVersion_thenSkipFieldsOfCurrentVersion() throws IOException {
+        UploadMetric actualMetric = new UploadMetric.UploadMetricBuilder(randomLowerCaseString(), GEOJSON).uploadCount(2)
+            .successCount(2)
+            .index(randomLowerCaseString())
+            .fieldType("xy_shape")
+            .vertexCount(100)
+            .simplifiedVertexCount(10)
+            .build();
+        Version previousVersion = VersionUtils.getPreviousVersion(UploadStats.COUNTERS_VERSION);
+        BytesStreamOutput output = new BytesStreamOutput();
+        output.setVersion(previousVersion);
+
+        // Run
+        actualMetric.writeTo(output);
+        StreamInput in = StreamInput.wrap(output.bytes().toBytesRef().bytes);
+        in.setVersion(previousVersion);
+        UploadMetric serializedMetric = UploadMetric.UploadMetricBuilder.fromStreamInput(in);
+
+        // Verify
+        assertEquals(actualMetric.getMetricID(), serializedMetric.getMetricID());
+        assertEquals(actualMetric.getUploadCount(), serializedMetric.getUploadCount());
+        assertNull(serializedMetric.getIndex());
+        assertNull(serializedMetric.getFieldType());
+        assertEquals(0, serializedMetric.getVertexCount());
+        assertEquals(0, serializedMetric.getSimplifiedVertexCount());
+    }
 }
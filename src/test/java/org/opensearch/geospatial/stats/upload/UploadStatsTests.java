@@ -9,10 +9,12 @@ import static org.opensearch.geospatial.GeospatialTestHelper.GEOJSON;
 import static org.opensearch.geospatial.GeospatialTestHelper.buildFieldNameValuePair;
 
 import java.io.IOException;
-import java.util.HashSet;
+import java.util.ArrayList;
+import java.util.List;
 import java.util.Set;
 import java.util.stream.IntStream;
 
+import org.opensearch.Version;
 import org.opensearch.common.io.stream.BytesStreamOutput;
 import org.opensearch.common.xcontent.XContentFactory;
 import org.opensearch.core.common.io.stream.StreamInput;
@@ -20,6 +22,7 @@ import org.opensearch.core.xcontent.ToXContent;
 import org.opensearch.core.xcontent.XContentBuilder;
 import org.opensearch.geospatial.GeospatialTestHelper;
 import org.opensearch.test.OpenSearchTestCase;
+import org.opensearch.test.VersionUtils;
 
 public class UploadStatsTests extends OpenSearchTestCase {
 
@@ -36,7 +39,7 @@ public class UploadStatsTests extends OpenSearchTestCase {
         UploadStats stats = new UploadStats();
         assertEquals(NO_API_CALLED, stats.getTotalAPICount());
         int metricCount = randomIntBetween(MIN_API_CALLED, MAX_API_CALLED);
-        Set<UploadMetric> expectedMetrics = new HashSet<>();
+        List<UploadMetric> expectedMetrics = new ArrayList<>();
         IntStream.rangeClosed(MIN_API_CALLED, metricCount).forEach(unUsed -> {
             UploadMetric randomMetric = GeospatialTestHelper.generateRandomUploadMetric();
             expectedMetrics.add(randomMetric);
@@ -45,6 +48,8 @@ public class UploadStatsTests extends OpenSearchTestCase {
         });
         assertArrayEquals(expectedMetrics.toArray(), stats.getMetrics().toArray());
         assertEquals(metricCount, stats.getTotalAPICount());
+        assertEquals(metricCount, stats.getTotal().getUploads());
+        assertEquals(expectedMetrics.stream().mapToLong(UploadMetric::getUploadCount).sum(), stats.getTotal().getUploadCount());
     }
 
     public void testAddMetricFailsForNullValue() {
@@ -61,21 +66,46 @@ public class UploadStatsTests extends OpenSearchTestCase {
         assertThrows("metric without upload cannot be added", IllegalArgumentException.class, () -> stats.addMetric(emptyBuilder.build()));
     }
 
-    public void testAddMetricFailsForDuplicateMetrics() {
+    public void testAddMetric_whenMoreThanMaxRecentMetrics_thenKeepMostRecentMetricsOnly() {
         UploadStats stats = new UploadStats();
-        UploadMetric randomMetric = GeospatialTestHelper.generateRandomUploadMetric();
-        stats.addMetric(randomMetric);
-        assertThrows("duplicate metrics are not allowed", IllegalArgumentException.class, () -> stats.addMetric(randomMetric));
+        int metricCount = UploadStats.MAX_RECENT_METRICS + randomIntBetween(MIN_API_CALLED, MAX_API_CALLED);
+        List<UploadMetric> addedMetrics = new ArrayList<>();
+        IntStream.range(0, metricCount).forEach(unUsed -> {
+            UploadMetric randomMetric = GeospatialTestHelper.generateRandomUploadMetric();
+            addedMetrics.add(randomMetric);
+            stats.addMetric(randomMetric);
+        });
+
+        assertEquals(addedMetrics.subList(metricCount - UploadStats.MAX_RECENT_METRICS, metricCount), stats.getMetrics());
+        assertEquals(metricCount, stats.getTotal().getUploads());
+        assertEquals(metricCount, stats.getTotal().getDurations().getCount());
+    }
+
+    public void testAddMetric_whenMoreThanMaxBreakdownKeys_thenAggregateRestAsOther() {
+        UploadStats stats = new UploadStats();
+        int indexCount = UploadStats.MAX_BREAKDOWN_KEYS + randomIntBetween(MIN_API_CALLED, MAX_API_CALLED);
+        IntStream.range(0, indexCount)
+            .forEach(
+                index -> stats.addMetric(
+                    new UploadMetric.UploadMetricBuilder(GeospatialTestHelper.randomLowerCaseString(), GEOJSON).uploadCount(1)
+                        .successCount(1)
+                        .index("index-" + index)
+                        .fieldType("geo_shape")
+                        .build()
+                )
+            );
+
+        assertEquals(UploadStats.MAX_BREAKDOWN_KEYS + 1, stats.getIndices().size());
+        assertEquals(indexCount - UploadStats.MAX_BREAKDOWN_KEYS, stats.getIndices().get(UploadStats.OTHER_KEY).getUploads());
+        assertEquals(Set.of("geo_shape"), stats.getFieldTypes().keySet());
+        assertEquals(indexCount, stats.getFieldTypes().get("geo_shape").getSuccessCount());
     }
 
     public void testStreams() throws IOException {
         UploadStats stats = new UploadStats();
         int metricCount = randomIntBetween(MIN_API_CALLED, MAX_API_CALLED);
-        Set<UploadMetric> expectedMetrics = new HashSet<>();
         IntStream.rangeClosed(MIN_API_CALLED, metricCount).forEach(unUsed -> {
-            UploadMetric randomMetric = GeospatialTestHelper.generateRandomUploadMetric();
-            expectedMetrics.add(randomMetric);
-            stats.addMetric(randomMetric);
+            stats.addMetric(GeospatialTestHelper.generateRandomUploadMetric());
             stats.incrementAPICount();
         });
         BytesStreamOutput output = new BytesStreamOutput();
@@ -84,7 +114,42 @@ public class UploadStatsTests extends OpenSearchTestCase {
         UploadStats serializedStats = UploadStats.fromStreamInput(in);
         assertNotNull("serialized stats cannot be null", serializedStats);
         assertEquals("api count is ", stats.getTotalAPICount(), serializedStats.getTotalAPICount());
-        assertEquals("failed to serialize metrics", stats.getMetrics().size(), serializedStats.getMetrics().size());
+        assertEquals("failed to serialize metrics", stats.getMetrics(), serializedStats.getMetrics());
+        assertEquals(stats.getTotal().getUploadCount(), serializedStats.getTotal().getUploadCount());
+        assertEquals(stats.getTotal().getDuration(), serializedStats.getTotal().getDuration());
+        assertEquals(stats.getTotal().getDurations().getPercentile(99), serializedStats.getTotal().getDurations().getPercentile(99));
+        assertEquals(stats.getIndices().keySet(), serializedStats.getIndices().keySet());
+        assertEquals(stats.getFieldTypes().keySet(), serializedStats.getFieldTypes().keySet());
+    }
+
+    public void testStreams_whenPreviousVersion_thenMetricsOnly() throws IOException {
+        UploadStats stats = new UploadStats();
+        int metricCount = randomIntBetween(MIN_API_CALLED, MAX_API_CALLED);
+        IntStream.rangeClosed(MIN_API_CALLED, metricCount).forEach(unUsed -> {
+            stats.addMetric(GeospatialTestHelper.generateRandomUploadMetric());
+            stats.incrementAPICount();
+        });
+        Version previousVersion = VersionUtils.getPreviousVersion(UploadStats.COUNTERS_VERSION);
+        BytesStreamOutput output = new BytesStreamOutput();
+        output.setVersion(previousVersion);
+
+        // Run
+        stats.writeTo(output);
+        StreamInput in = StreamInput.wrap(output.bytes().toBytesRef().bytes);
+        in.setVersion(previousVersion);
+        UploadStats serializedStats = UploadStats.fromStreamInput(in);
+
+        // Verify
+        assertEquals(stats.getTotalAPICount(), serializedStats.getTotalAPICount());
+        assertEquals(Set.copyOf(stats.getMetrics()), Set.copyOf(serializedStats.getMetrics()));
+        assertEquals(stats.getTotal().getUploadCount(), serializedStats.getTotal().getUploadCount());
+        assertEquals(stats.getTotal().getDuration(), serializedStats.getTotal().getDuration());
+        assertTrue(serializedStats.getIndices().isEmpty());
+        assertTrue(serializedStats.getFieldTypes().isEmpty());
+        serializedStats.getMetrics().forEach(metric -> {
+            assertNull(metric.getIndex());
+            assertNull(metric.getFieldType());
+        });
     }
 
     public void testToXContent() throws IOException {
@@ -99,6 +164,11 @@ public class UploadStatsTests extends OpenSearchTestCase {
             assertTrue(statsAsString.contains(buildFieldNameValuePair(UploadMetric.FIELDS.DURATION, uploadMetric.getDuration())));
             assertTrue(statsAsString.contains(buildFieldNameValuePair(UploadMetric.FIELDS.FAILED, uploadMetric.getFailedCount())));
             assertTrue(statsAsString.contains(buildFieldNameValuePair(UploadMetric.FIELDS.SUCCESS, uploadMetric.getSuccessCount())));
+            assertTrue(statsAsString.contains(buildFieldNameValuePair(UploadMetric.FIELDS.INDEX, uploadMetric.getIndex())));
         });
+        assertTrue(statsAsString.contains(buildFieldNameValuePair(UploadStats.FIELDS.UPLOADS, stats.getTotal().getUploads())));
+        assertTrue(statsAsString.contains("\"" + UploadStats.FIELDS.DURATION_PERCENTILES + "\":{\"p50\":"));
+        assertTrue(statsAsString.contains("\"" + UploadStats.FIELDS.INDICES + "\":{"));
+        assertTrue(statsAsString.contains("\"" + UploadStats.FIELDS.FIELD_TYPES + "\":{"));
     }
 }